@@ -52,7 +52,7 @@ public class DoubleNumericAnalyzer extends NumericAnalyzer {
 
     @Override
     public long parseAndConvert(final Reader input) throws IOException {
-      return NumericUtils.doubleToSortableLong(this.parse(input));
+      return NumericUtils.doubleToSortableLong(XSDPrimitiveTypeParser.parseDouble(input));
     }
 
     @Override
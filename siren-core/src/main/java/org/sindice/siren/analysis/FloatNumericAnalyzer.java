@@ -52,7 +52,7 @@ public class FloatNumericAnalyzer extends NumericAnalyzer {
 
     @Override
     public long parseAndConvert(final Reader input) throws IOException {
-      return NumericUtils.floatToSortableInt(this.parse(input));
+      return NumericUtils.floatToSortableInt(XSDPrimitiveTypeParser.parseFloat(input));
     }
 
     @Override
@@ -52,7 +52,7 @@ public class IntNumericAnalyzer extends NumericAnalyzer {
 
     @Override
     public long parseAndConvert(final Reader input) throws IOException {
-      return this.parse(input);
+      return XSDPrimitiveTypeParser.parseInt(input);
     }
 
     @Override
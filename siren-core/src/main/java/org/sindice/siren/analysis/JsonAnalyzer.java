@@ -20,21 +20,30 @@
 
 package org.sindice.siren.analysis;
 
+import java.io.IOException;
 import java.io.Reader;
 import java.util.Map.Entry;
 
 import org.apache.lucene.analysis.Analyzer;
 import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.Tokenizer;
 import org.apache.lucene.analysis.util.CharArrayMap;
 import org.apache.lucene.util.Version;
 import org.sindice.siren.analysis.filter.DatatypeAnalyzerFilter;
 import org.sindice.siren.analysis.filter.PositionAttributeFilter;
 import org.sindice.siren.analysis.filter.SirenPayloadFilter;
 import org.sindice.siren.util.JSONDatatype;
+import org.sindice.siren.util.ReusableUTF8Reader;
 import org.sindice.siren.util.XSDDatatype;
 
 /**
  * The JsonAnalyzer is especially designed to process JSON data.
+ * <p>
+ * The tokenizer is chosen for each {@link Reader}: a
+ * {@link ReusableUTF8Reader} is scanned as UTF-8 bytes with a
+ * {@link JsonBytesTokenizer}, and any other {@link Reader} with a
+ * {@link JsonTokenizer}. Both tokenizers generate the same tokens, and each
+ * has its own reusable token stream.
  */
 public class JsonAnalyzer extends Analyzer {
 
@@ -45,6 +54,9 @@ public class JsonAnalyzer extends Analyzer {
 
   private final CharArrayMap<Analyzer> regAnalyzers;
 
+  private int                          cacheSize = DatatypeAnalyzerFilter.DEFAULT_CACHE_SIZE;
+  private int                          cacheMaxLength = DatatypeAnalyzerFilter.DEFAULT_CACHE_MAX_LENGTH;
+
   /**
    * Create a {@link JsonAnalyzer} with the specified {@link Analyzer}s for
    * field names and values.
@@ -93,17 +105,101 @@ public class JsonAnalyzer extends Analyzer {
     regAnalyzers.clear();
   }
 
+  /**
+   * Set the size of the per-thread cache of the values analysed by the
+   * datatype {@link Analyzer}s. It applies to the token streams created
+   * afterwards.
+   *
+   * @see DatatypeAnalyzerFilter#setCacheSize(int, int)
+   */
+  public void setDatatypeCacheSize(final int size, final int maxLength) {
+    cacheSize = size;
+    cacheMaxLength = maxLength;
+  }
+
   @Override
   protected TokenStreamComponents createComponents(final String fieldName, final Reader reader) {
-    final JsonTokenizer source = new JsonTokenizer(reader);
+    return new JsonTokenStreamComponents(reader);
+  }
+
+  private TokenStreamComponents createComponents(final Reader reader) {
+    final Tokenizer source = reader instanceof ReusableUTF8Reader
+                             ? new JsonBytesTokenizer(reader)
+                             : new JsonTokenizer(reader);
 
     final DatatypeAnalyzerFilter tt = new DatatypeAnalyzerFilter(matchVersion, source, fieldAnalyzer, valueAnalyzer);
     for (final Entry<Object, Analyzer> e : regAnalyzers.entrySet()) {
       tt.register((char[]) e.getKey(), e.getValue());
     }
+    tt.setCacheSize(cacheSize, cacheMaxLength);
     TokenStream sink = new PositionAttributeFilter(tt);
     sink = new SirenPayloadFilter(sink);
     return new TokenStreamComponents(source, sink);
   }
 
+  /**
+   * The reusable components of a field, which switch to the token stream of
+   * the tokenizer of each new {@link Reader}. The token stream of a tokenizer
+   * is created the first time a {@link Reader} of its type is given.
+   */
+  private class JsonTokenStreamComponents extends TokenStreamComponents {
+
+    /** The token stream over a {@link JsonBytesTokenizer} */
+    private TokenStreamComponents bytes;
+
+    /** The token stream over a {@link JsonTokenizer} */
+    private TokenStreamComponents chars;
+
+    /** The token stream of the current reader */
+    private TokenStreamComponents current;
+
+    JsonTokenStreamComponents(final Reader reader) {
+      this(JsonAnalyzer.this.createComponents(reader));
+    }
+
+    private JsonTokenStreamComponents(final TokenStreamComponents first) {
+      super(first.getTokenizer(), first.getTokenStream());
+      if (first.getTokenizer() instanceof JsonBytesTokenizer) {
+        bytes = first;
+      }
+      else {
+        chars = first;
+      }
+      current = first;
+    }
+
+    @Override
+    protected void setReader(final Reader reader) throws IOException {
+      if (reader instanceof ReusableUTF8Reader) {
+        if (bytes == null) {
+          bytes = JsonAnalyzer.this.createComponents(reader);
+        }
+        else {
+          bytes.getTokenizer().setReader(reader);
+        }
+        current = bytes;
+      }
+      else {
+        if (chars == null) {
+          chars = JsonAnalyzer.this.createComponents(reader);
+        }
+        else {
+          chars.getTokenizer().setReader(reader);
+        }
+        current = chars;
+      }
+    }
+
+    @Override
+    public TokenStream getTokenStream() {
+      return current.getTokenStream();
+    }
+
+    @Override
+    public Tokenizer getTokenizer() {
+      return current.getTokenizer();
+    }
+
+  }
+
 }
@@ -0,0 +1,995 @@
+/**
+ * Copyright 2014 National University of Ireland, Galway.
+ *
+ * This file is part of the SIREn project. Project and contact information:
+ *
+ *  https://github.com/rdelbru/SIREn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.sindice.siren.analysis;
+
+import static org.sindice.siren.analysis.JsonTokenizer.FALSE;
+import static org.sindice.siren.analysis.JsonTokenizer.LITERAL;
+import static org.sindice.siren.analysis.JsonTokenizer.NULL;
+import static org.sindice.siren.analysis.JsonTokenizer.NUMBER;
+import static org.sindice.siren.analysis.JsonTokenizer.TRUE;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.analysis.tokenattributes.OffsetAttribute;
+import org.apache.lucene.analysis.tokenattributes.PositionIncrementAttribute;
+import org.apache.lucene.analysis.tokenattributes.TypeAttribute;
+import org.apache.lucene.util.ArrayUtil;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.CharsRef;
+import org.apache.lucene.util.IntsRef;
+import org.apache.lucene.util.UnicodeUtil;
+import org.sindice.siren.analysis.attributes.DatatypeAttribute;
+import org.sindice.siren.analysis.attributes.JsonNodeAttributeImpl;
+import org.sindice.siren.analysis.attributes.NodeAttribute;
+import org.sindice.siren.util.ArrayUtils;
+import org.sindice.siren.util.JSONDatatype;
+import org.sindice.siren.util.ReusableUTF8Reader;
+import org.sindice.siren.util.XSDDatatype;
+
+/**
+ * A tokenizer for data following the JSON syntax, which scans the UTF-8 bytes
+ * of the data instead of decoding them into characters.
+ * <p>
+ * The tokenizer generates the same tokens as {@link JsonTokenizer}, i.e., the
+ * same terms, offsets, types, datatypes and node paths. The offsets are
+ * expressed in characters of the decoded data.
+ * <p>
+ * The bytes are scanned directly when the input is a
+ * {@link ReusableUTF8Reader}, e.g.:
+ * <pre>
+ *   final ReusableUTF8Reader reader = new ReusableUTF8Reader();
+ *   final JsonBytesTokenizer tokenizer = new JsonBytesTokenizer(reader);
+ *   reader.reset(bytes);
+ *   tokenizer.setReader(reader);
+ *   tokenizer.reset();
+ * </pre>
+ * Any other {@link Reader} is read entirely and encoded into UTF-8 first,
+ * which is slower than using {@link JsonTokenizer}.
+ * <p>
+ * The scanner is a port of the lexical rules of {@link JsonTokenizerImpl}. The
+ * lexical states and the nesting of the objects and arrays are kept in a
+ * primitive int stack. An input which matches none of the rules throws an
+ * {@link IllegalStateException}.
+ */
+public class JsonBytesTokenizer extends Tokenizer {
+
+  /** Lexical states */
+  private static final int   YYINITIAL              = 0;
+  private static final int   S_OBJECT               = 1;
+  private static final int   S_ARRAY                = 2;
+  private static final int   S_STRING               = 3;
+  private static final int   S_DATATYPE_LABEL       = 4;
+  private static final int   S_DATATYPE_STRING_VALUE = 5;
+
+  /** Returned by the scanner when the input is exhausted */
+  private static final int   EOF                    = -1;
+  /** Returned by the scanner when a rule does not produce a token */
+  private static final int   NO_TOKEN               = -2;
+
+  private static final char[] XSD_STRING   = XSDDatatype.XSD_STRING.toCharArray();
+  private static final char[] JSON_FIELD   = JSONDatatype.JSON_FIELD.toCharArray();
+  private static final char[] XSD_DOUBLE   = XSDDatatype.XSD_DOUBLE.toCharArray();
+  private static final char[] XSD_LONG     = XSDDatatype.XSD_LONG.toCharArray();
+  private static final char[] XSD_BOOLEAN  = XSDDatatype.XSD_BOOLEAN.toCharArray();
+
+  private static final byte[] NULL_BYTES   = { 'n', 'u', 'l', 'l' };
+  private static final byte[] TRUE_BYTES   = { 't', 'r', 'u', 'e' };
+  private static final byte[] FALSE_BYTES  = { 'f', 'a', 'l', 's', 'e' };
+
+  private static final byte[] DATATYPE_LABEL_BYTES =
+    ('"' + JsonTokenizer.DATATYPE_LABEL + '"').getBytes();
+  private static final byte[] DATATYPE_VALUE_BYTES =
+    ('"' + JsonTokenizer.DATATYPE_VALUES + '"').getBytes();
+
+  private static final int   DATATYPE_OBJ_OFF       = 0;
+  private static final int   DATATYPE_OBJ_ON        = 1;
+  private static final int   DATATYPE_OBJ_JUNK      = 2;
+  private static final int   DATATYPE_OBJ_ERROR     = 3;
+  private static final int   DATATYPE_OBJ_LABEL     = 4;
+  private static final int   DATATYPE_OBJ_VALUE     = 8;
+  private static final int   DATATYPE_OBJ_OK        = 13;
+
+  private static final String[] TOKEN_TYPES = JsonTokenizer.getTokenTypes();
+
+  // the tokenizer generates 6 attributes:
+  // term, offset, positionIncrement, type, datatype, node
+  private CharTermAttribute          termAtt;
+  private OffsetAttribute            offsetAtt;
+  private PositionIncrementAttribute posIncrAtt;
+  private TypeAttribute              typeAtt;
+  private DatatypeAttribute          dtypeAtt;
+  private NodeAttribute              nodeAtt;
+
+  /** The bytes of the input */
+  private byte[]                     bytes = BytesRef.EMPTY_BYTES;
+  private int                        offset;
+  private int                        end;
+
+  /** The position of the next byte to scan */
+  private int                        pos;
+
+  /**
+   * The number of bytes scanned so far minus the number of characters they
+   * encode, used to compute the character offsets
+   */
+  private int                        charDelta;
+
+  /** Buffers used to read an input which is not a {@link ReusableUTF8Reader} */
+  private char[]                     readerChars = new char[0];
+  private final BytesRef             readerBytes = new BytesRef();
+
+  /** The current lexical state */
+  private int                        state = YYINITIAL;
+
+  /** Stack of lexical states */
+  private int[]                      states = new int[16];
+  private int                        depth;
+
+  /** Buffer containing literal or number value */
+  private final CharsRef             text = new CharsRef(64);
+
+  /** Buffer containing the datatype label */
+  private final CharsRef             dtLabel = new CharsRef(64);
+
+  private char[]                     datatype;
+
+  /** The datatype of the last scanned number */
+  private char[]                     numberDatatype;
+
+  /** The start offset of the token returned by the scanner */
+  private int                        tokenStart;
+
+  /** The path to a node */
+  private final IntsRef              nodePath = new IntsRef(1024);
+
+  /**
+   * Indicates if a leaf node, i.e., a literal, a number, null, or a boolean,
+   * was encountered, in which case it needs to be closed, either in the COMMA
+   * state, or in the closing curly bracket.
+   */
+  private boolean                    openLeafNode = false;
+
+  /**
+   * Indicates how many nested objects there are.
+   * A nested object implies a blank node.
+   */
+  private int                        nestedObjects = 0;
+
+  private int                        datatypeObject = DATATYPE_OBJ_OFF;
+
+  public JsonBytesTokenizer(final Reader input) {
+    super(input);
+    this.initAttributes();
+  }
+
+  private void initAttributes() {
+    termAtt = this.addAttribute(CharTermAttribute.class);
+    offsetAtt = this.addAttribute(OffsetAttribute.class);
+    posIncrAtt = this.addAttribute(PositionIncrementAttribute.class);
+    typeAtt = this.addAttribute(TypeAttribute.class);
+    dtypeAtt = this.addAttribute(DatatypeAttribute.class);
+    if (!this.hasAttribute(NodeAttribute.class)) {
+      this.addAttributeImpl(new JsonNodeAttributeImpl());
+    }
+    nodeAtt = this.addAttribute(NodeAttribute.class);
+  }
+
+  @Override
+  public final boolean incrementToken() throws IOException {
+    this.clearAttributes();
+    posIncrAtt.setPositionIncrement(1);
+
+    final int tokenType = this.nextToken();
+    switch (tokenType) {
+      case FALSE:
+        termAtt.append("false");
+        break;
+
+      case TRUE:
+        termAtt.append("true");
+        break;
+
+      case NULL:
+        termAtt.append("null");
+        break;
+
+      case NUMBER:
+      case LITERAL:
+        termAtt.copyBuffer(text.chars, 0, text.length);
+        break;
+
+      default:
+        return false;
+    }
+    offsetAtt.setOffset(this.correctOffset(tokenStart),
+      this.correctOffset(tokenStart + termAtt.length()));
+    typeAtt.setType(TOKEN_TYPES[tokenType]);
+    dtypeAtt.setDatatypeURI(datatype);
+    nodeAtt.copyNode(nodePath);
+    return true;
+  }
+
+  @Override
+  public void reset() throws IOException {
+    super.reset();
+    if (input instanceof ReusableUTF8Reader) {
+      final ReusableUTF8Reader reader = (ReusableUTF8Reader) input;
+      bytes = reader.bytes();
+      offset = reader.offset();
+      end = offset + reader.length();
+    }
+    else {
+      if (input.markSupported()) {
+        input.reset();
+      }
+      int length = 0;
+      int read;
+      do {
+        if (length == readerChars.length) {
+          readerChars = ArrayUtil.grow(readerChars, length + 1);
+        }
+        read = input.read(readerChars, length, readerChars.length - length);
+        length += read == -1 ? 0 : read;
+      } while (read != -1);
+      UnicodeUtil.UTF16toUTF8(readerChars, 0, length, readerBytes);
+      bytes = readerBytes.bytes;
+      offset = 0;
+      end = readerBytes.length;
+    }
+    pos = offset;
+    charDelta = 0;
+    state = YYINITIAL;
+    depth = 0;
+  }
+
+  /**
+   * Returns the character offset of the byte at the given position. All the
+   * bytes before the position must have been scanned.
+   */
+  private int charOffset(final int bytePos) {
+    return bytePos - offset - charDelta;
+  }
+
+  /**
+   * Scan the input until the next token, and returns its type or {@link #EOF}.
+   */
+  private int nextToken() {
+    for (;;) {
+      if (pos == end) {
+        // Check that the states are empty
+        if (depth != 0) {
+          throw new IllegalStateException(this.errorMessage("Check that all arrays/objects/strings are closed"));
+        }
+        return EOF;
+      }
+
+      final int tokenType;
+      switch (state) {
+        case YYINITIAL:
+          if (bytes[pos] == '{') {
+            pos++;
+            this.resetScanner();
+            this.push(S_OBJECT);
+            state = S_OBJECT;
+          }
+          else { // ignore
+            final int n = this.sequenceLength(pos);
+            charDelta += n - (n == 4 ? 2 : 1);
+            pos += n;
+          }
+          tokenType = NO_TOKEN;
+          break;
+
+        case S_OBJECT:
+          tokenType = this.scanObject();
+          break;
+
+        case S_ARRAY:
+          tokenType = this.scanArray();
+          break;
+
+        default:
+          tokenType = this.scanString();
+      }
+      if (tokenType != NO_TOKEN) {
+        return tokenType;
+      }
+    }
+  }
+
+  private int scanObject() {
+    final int start = pos;
+    switch (bytes[pos]) {
+      case '}':
+        pos++;
+        this.closeCurlyBracket(start);
+        return NO_TOKEN;
+
+      case ':':
+        return this.scanFieldValue();
+
+      case ',':
+        pos++;
+        if (openLeafNode) {
+          openLeafNode = false;
+          this.decrNodeObjectPath();
+        }
+        return NO_TOKEN;
+
+      case '"':
+        if (this.matchesDatatypeField(DATATYPE_LABEL_BYTES)) {
+          datatypeObject |= DATATYPE_OBJ_ON;
+          if ((datatypeObject & DATATYPE_OBJ_LABEL) == DATATYPE_OBJ_LABEL) {
+            throw new IllegalStateException(this.errorMessage("Wrong Datatype schema. The field _datatype_ appears several times."));
+          }
+          datatypeObject |= DATATYPE_OBJ_LABEL;
+          if ((datatypeObject & DATATYPE_OBJ_ERROR) == DATATYPE_OBJ_ERROR) {
+            throw new IllegalStateException(this.errorMessage("Wrong Datatype schema. Got unexpected elements in the datatype object."));
+          }
+          dtLabel.length = 0;
+          state = S_DATATYPE_LABEL;
+        }
+        else if (this.matchesDatatypeField(DATATYPE_VALUE_BYTES)) {
+          datatypeObject |= DATATYPE_OBJ_ON;
+          if ((datatypeObject & DATATYPE_OBJ_VALUE) == DATATYPE_OBJ_VALUE) {
+            throw new IllegalStateException(this.errorMessage("Wrong Datatype schema. The field _value_ appears several times."));
+          }
+          datatypeObject |= DATATYPE_OBJ_VALUE;
+          if ((datatypeObject & DATATYPE_OBJ_ERROR) == DATATYPE_OBJ_ERROR) {
+            throw new IllegalStateException(this.errorMessage("Wrong Datatype schema. Got unexpected elements in the datatype object."));
+          }
+          text.length = 0;
+          state = S_DATATYPE_STRING_VALUE;
+        }
+        else {
+          pos++;
+          datatypeObject |= DATATYPE_OBJ_JUNK;
+          if ((datatypeObject & DATATYPE_OBJ_ERROR) == DATATYPE_OBJ_ERROR) {
+            throw new IllegalStateException(this.errorMessage("Wrong Datatype schema. Got unexpected text: \""));
+          }
+          datatype = JSON_FIELD;
+          this.addToLastNode(1);
+          text.length = 0;
+          state = S_STRING;
+        }
+        return NO_TOKEN;
+
+      default:
+        if (isWhitespace(bytes[pos])) {
+          pos++;
+          return NO_TOKEN;
+        }
+        throw new IllegalStateException(this.errorMessage("Found bad character while in OBJECT state"));
+    }
+  }
+
+  /**
+   * Scan the colon and the value following a field name.
+   */
+  private int scanFieldValue() {
+    final int colon = pos;
+    int p = pos + 1;
+    while (p < end && isWhitespace(bytes[p])) {
+      p++;
+    }
+    if (p < end) {
+      switch (bytes[p]) {
+        case 'n':
+          if (this.matches(p, NULL_BYTES)) {
+            pos = p + NULL_BYTES.length;
+            return this.openLeaf(colon, XSD_STRING, NULL);
+          }
+          break;
+
+        case 't':
+          if (this.matches(p, TRUE_BYTES)) {
+            pos = p + TRUE_BYTES.length;
+            return this.openLeaf(colon, XSD_BOOLEAN, TRUE);
+          }
+          break;
+
+        case 'f':
+          if (this.matches(p, FALSE_BYTES)) {
+            pos = p + FALSE_BYTES.length;
+            return this.openLeaf(colon, XSD_BOOLEAN, FALSE);
+          }
+          break;
+
+        case '[':
+          pos = p + 1;
+          this.checkMissingField(colon);
+          this.incrNodeObjectPath();
+          state = S_ARRAY;
+          this.push(S_ARRAY);
+          return NO_TOKEN;
+
+        case '{':
+          pos = p + 1;
+          this.checkMissingField(colon);
+          this.initDatatypeObject();
+          // Two incrementations, because the object introduce a "blank" node
+          nestedObjects++;
+          this.incrNodeObjectPath();
+          this.setLastNode(0);
+          this.incrNodeObjectPath();
+          this.push(S_OBJECT);
+          state = S_OBJECT;
+          return NO_TOKEN;
+
+        case '"':
+          pos = p + 1;
+          this.openLeaf(colon, XSD_STRING, NO_TOKEN);
+          text.length = 0;
+          state = S_STRING;
+          return NO_TOKEN;
+
+        default:
+          final int numberEnd = this.scanNumber(p);
+          if (numberEnd != -1) {
+            pos = numberEnd;
+            this.copyNumber(p, numberEnd);
+            return this.openLeaf(colon, numberDatatype, NUMBER);
+          }
+      }
+    }
+    throw new IllegalStateException(this.errorMessage("Found bad character while in OBJECT state"));
+  }
+
+  /**
+   * Open the leaf node of the value of a field, and returns the given token
+   * type.
+   */
+  private int openLeaf(final int colon, final char[] datatype, final int tokenType) {
+    this.checkMissingField(colon);
+    openLeafNode = true;
+    this.incrNodeObjectPath();
+    this.datatype = datatype;
+    this.setLastNode(0);
+    tokenStart = this.charOffset(colon);
+    return tokenType;
+  }
+
+  private int scanArray() {
+    final int start = pos;
+    switch (bytes[pos]) {
+      case ']':
+        pos++;
+        this.decrNodeObjectPath();
+        if (this.pop() != S_ARRAY) {
+          throw new IllegalStateException(this.errorMessage("Expected ']', got " + this.charOffset(start)));
+        }
+        state = this.peek();
+        return NO_TOKEN;
+
+      case '{':
+        pos++;
+        this.initDatatypeObject();
+        this.addToLastNode(1);
+        this.incrNodeObjectPath();
+        this.push(S_OBJECT);
+        state = S_OBJECT;
+        return NO_TOKEN;
+
+      case '[':
+        pos++;
+        this.addToLastNode(1);
+        this.incrNodeObjectPath();
+        this.push(S_ARRAY);
+        state = S_ARRAY;
+        return NO_TOKEN;
+
+      case 'n':
+        if (this.matches(pos, NULL_BYTES)) {
+          pos += NULL_BYTES.length;
+          return this.addLeaf(start, XSD_STRING, NULL);
+        }
+        break;
+
+      case 't':
+        if (this.matches(pos, TRUE_BYTES)) {
+          pos += TRUE_BYTES.length;
+          return this.addLeaf(start, XSD_BOOLEAN, TRUE);
+        }
+        break;
+
+      case 'f':
+        if (this.matches(pos, FALSE_BYTES)) {
+          pos += FALSE_BYTES.length;
+          return this.addLeaf(start, XSD_BOOLEAN, FALSE);
+        }
+        break;
+
+      case ',':
+        pos++;
+        return NO_TOKEN;
+
+      case '"':
+        pos++;
+        datatype = XSD_STRING;
+        this.addToLastNode(1);
+        text.length = 0;
+        state = S_STRING;
+        return NO_TOKEN;
+
+      default:
+        if (isWhitespace(bytes[pos])) {
+          pos++;
+          return NO_TOKEN;
+        }
+        final int numberEnd = this.scanNumber(pos);
+        if (numberEnd != -1) {
+          pos = numberEnd;
+          this.copyNumber(start, numberEnd);
+          return this.addLeaf(start, numberDatatype, NUMBER);
+        }
+    }
+    throw new IllegalStateException(this.errorMessage("Found bad character while in ARRAY state"));
+  }
+
+  /**
+   * Add a value to the current array, and returns the given token type.
+   */
+  private int addLeaf(final int start, final char[] datatype, final int tokenType) {
+    this.datatype = datatype;
+    this.addToLastNode(1);
+    tokenStart = this.charOffset(start);
+    return tokenType;
+  }
+
+  /**
+   * Scan the content of a string, i.e., a field name, a value, or the label or
+   * value of a datatype object.
+   */
+  private int scanString() {
+    final CharsRef buffer = state == S_DATATYPE_LABEL ? dtLabel : text;
+    final int start = pos;
+
+    switch (bytes[pos]) {
+      case '"':
+        pos++;
+        return this.closeString(start);
+
+      case '\\':
+        if (pos + 1 < end) {
+          final byte next = bytes[pos + 1];
+          if (next == '"') {
+            this.append(buffer, '"');
+            pos += 2;
+            return NO_TOKEN;
+          }
+          if (next == 'u' && pos + 6 <= end) {
+            final int c = this.parseHex(pos + 2);
+            if (c != -1) {
+              this.append(buffer, (char) c);
+              pos += 6;
+              return NO_TOKEN;
+            }
+          }
+          if (next != '\n') {
+            // the backslash and the escaped character are kept
+            this.append(buffer, '\\');
+            pos++;
+            this.decode(buffer, pos, pos + this.sequenceLength(pos));
+            return NO_TOKEN;
+          }
+        }
+        throw new IllegalStateException(this.errorMessage("Could not match input"));
+
+      default:
+        int p = pos + 1;
+        while (p < end && bytes[p] != '"' && bytes[p] != '\\') {
+          p++;
+        }
+        // in a datatype object, a single white space is ignored
+        if (state != S_STRING &&
+            ((p - pos == 1 && isWhitespace(bytes[pos])) ||
+             (p - pos == 2 && bytes[pos] == '\r' && bytes[pos + 1] == '\n'))) {
+          pos = p;
+          return NO_TOKEN;
+        }
+        this.decode(buffer, pos, p);
+        return NO_TOKEN;
+    }
+  }
+
+  private int closeString(final int quote) {
+    switch (state) {
+      case S_STRING:
+        state = this.peek();
+        tokenStart = this.charOffset(quote) + 1;
+        return LITERAL;
+
+      case S_DATATYPE_LABEL:
+        state = S_OBJECT;
+        datatype = Arrays.copyOf(dtLabel.chars, dtLabel.length);
+        break;
+
+      default:
+        state = S_OBJECT;
+    }
+    // the datatype label and value are here already
+    if (datatypeObject == DATATYPE_OBJ_OK) {
+      tokenStart = this.charOffset(quote) + 1;
+      return this.closeDatatypeObject(quote);
+    }
+    return NO_TOKEN;
+  }
+
+  /**
+   * Returns true if the bytes at the given position are equal to the given
+   * bytes.
+   */
+  private boolean matches(final int p, final byte[] expected) {
+    if (p + expected.length > end) {
+      return false;
+    }
+    for (int i = 0; i < expected.length; i++) {
+      if (bytes[p + i] != expected[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns true if the field name at the current position is equal to the
+   * given quoted name, and is followed by a colon and the opening quote of a
+   * string, in which case the position is moved after the quote.
+   */
+  private boolean matchesDatatypeField(final byte[] quotedName) {
+    if (!this.matches(pos, quotedName)) {
+      return false;
+    }
+    int p = pos + quotedName.length;
+    while (p < end && isWhitespace(bytes[p])) {
+      p++;
+    }
+    if (p == end || bytes[p] != ':') {
+      return false;
+    }
+    p++;
+    while (p < end && isWhitespace(bytes[p])) {
+      p++;
+    }
+    if (p == end || bytes[p] != '"') {
+      return false;
+    }
+    pos = p + 1;
+    return true;
+  }
+
+  /**
+   * Scan the longest number starting at the given position, and returns the
+   * position following it or -1 if there is no number. The number datatype is
+   * set to {@link #XSD_DOUBLE} if the number has a fraction, to
+   * {@link #XSD_LONG} otherwise.
+   * <p>
+   * As in {@link JsonTokenizerImpl}, the exponent marker and sign accept the
+   * character '|'.
+   */
+  private int scanNumber(int p) {
+    if (p < end && bytes[p] == '-') {
+      p++;
+    }
+    if (p == end || !isDigit(bytes[p])) {
+      return -1;
+    }
+    while (p < end && isDigit(bytes[p])) {
+      p++;
+    }
+    numberDatatype = XSD_LONG;
+    if (p + 1 < end && bytes[p] == '.' && isDigit(bytes[p + 1])) {
+      p += 2;
+      while (p < end && isDigit(bytes[p])) {
+        p++;
+      }
+      numberDatatype = XSD_DOUBLE;
+    }
+    if (p < end && (bytes[p] == 'e' || bytes[p] == 'E' || bytes[p] == '|')) {
+      int q = p + 1;
+      if (q < end && (bytes[q] == '+' || bytes[q] == '-' || bytes[q] == '|')) {
+        q++;
+      }
+      if (q < end && isDigit(bytes[q])) {
+        while (q < end && isDigit(bytes[q])) {
+          q++;
+        }
+        p = q;
+      }
+    }
+    return p;
+  }
+
+  /**
+   * Copy the ASCII characters of a number into the text buffer.
+   */
+  private void copyNumber(final int from, final int to) {
+    text.grow(to - from);
+    for (int i = from; i < to; i++) {
+      text.chars[i - from] = (char) bytes[i];
+    }
+    text.length = to - from;
+  }
+
+  /**
+   * Returns the value of the 4 hexadecimal digits at the given position, or -1
+   */
+  private int parseHex(final int p) {
+    int value = 0;
+    for (int i = p; i < p + 4; i++) {
+      final int b = bytes[i];
+      final int digit;
+      if (b >= '0' && b <= '9') {
+        digit = b - '0';
+      }
+      else if (b >= 'a' && b <= 'f') {
+        digit = b - 'a' + 10;
+      }
+      else if (b >= 'A' && b <= 'F') {
+        digit = b - 'A' + 10;
+      }
+      else {
+        return -1;
+      }
+      value = (value << 4) | digit;
+    }
+    return value;
+  }
+
+  private void append(final CharsRef buffer, final char c) {
+    buffer.grow(buffer.length + 1);
+    buffer.chars[buffer.length++] = c;
+  }
+
+  /**
+   * Decode the UTF-8 bytes between the given positions into the buffer, and
+   * move the position after them.
+   */
+  private void decode(final CharsRef buffer, final int from, final int to) {
+    // a character is encoded with at least as many bytes as UTF-16 units
+    buffer.grow(buffer.length + to - from);
+    final char[] chars = buffer.chars;
+    int upto = buffer.length;
+    int p = from;
+    while (p < to) {
+      final int b = bytes[p] & 0xff;
+      if (b < 0x80) {
+        chars[upto++] = (char) b;
+        p++;
+        continue;
+      }
+      final int n = b < 0xe0 ? 2 : (b < 0xf0 ? 3 : 4);
+      if (p + n > to) { // truncated sequence
+        chars[upto++] = '\uFFFD';
+        p = to;
+        break;
+      }
+      final int cp;
+      switch (n) {
+        case 2:
+          cp = ((b & 0x1f) << 6) | (bytes[p + 1] & 0x3f);
+          break;
+        case 3:
+          cp = ((b & 0x0f) << 12) | ((bytes[p + 1] & 0x3f) << 6) |
+               (bytes[p + 2] & 0x3f);
+          break;
+        default:
+          cp = ((b & 0x07) << 18) | ((bytes[p + 1] & 0x3f) << 12) |
+               ((bytes[p + 2] & 0x3f) << 6) | (bytes[p + 3] & 0x3f);
+      }
+      p += n;
+      if (cp < Character.MIN_SUPPLEMENTARY_CODE_POINT) {
+        chars[upto++] = (char) cp;
+      }
+      else {
+        chars[upto++] = (char) ((cp >> 10) + (Character.MIN_HIGH_SURROGATE - (Character.MIN_SUPPLEMENTARY_CODE_POINT >>> 10)));
+        chars[upto++] = (char) ((cp & 0x3ff) + Character.MIN_LOW_SURROGATE);
+      }
+    }
+    charDelta += (to - from) - (upto - buffer.length);
+    buffer.length = upto;
+    pos = to;
+  }
+
+  /**
+   * Returns the number of bytes of the UTF-8 sequence starting at the given
+   * position, bounded by the end of the input.
+   */
+  private int sequenceLength(final int p) {
+    final int b = bytes[p] & 0xff;
+    if (b < 0x80) {
+      return 1;
+    }
+    return Math.min(b < 0xe0 ? 2 : (b < 0xf0 ? 3 : 4), end - p);
+  }
+
+  private static boolean isWhitespace(final byte b) {
+    return b == ' ' || b == '\t' || b == '\f' || b == '\r' || b == '\n';
+  }
+
+  private static boolean isDigit(final byte b) {
+    return b >= '0' && b <= '9';
+  }
+
+  private void push(final int s) {
+    if (depth == states.length) {
+      states = ArrayUtil.grow(states, depth + 1);
+    }
+    states[depth++] = s;
+  }
+
+  private int pop() {
+    if (depth == 0) {
+      throw new IllegalStateException(this.errorMessage("Unbalanced JSON document"));
+    }
+    return states[--depth];
+  }
+
+  private int peek() {
+    if (depth == 0) {
+      throw new IllegalStateException(this.errorMessage("Unbalanced JSON document"));
+    }
+    return states[depth - 1];
+  }
+
+  /**
+   * Initialise inner variables
+   */
+  private void resetScanner() {
+    depth = 0;
+    nodePath.ints[0] = -1;
+    nodePath.offset = 0;
+    nodePath.length = 1;
+    openLeafNode = false;
+    datatype = null;
+    nestedObjects = 0;
+    datatypeObject = DATATYPE_OBJ_OFF;
+  }
+
+  /**
+   * Add an object to the current node path
+   */
+  private void incrNodeObjectPath() {
+    ArrayUtils.growAndCopy(nodePath, nodePath.length + 1);
+    nodePath.length++;
+    // Initialise node
+    this.setLastNode(-1);
+  }
+
+  private void initDatatypeObject() {
+    // Initialise the datatype data, this is possibly a Datatype object
+    datatype = null;
+    datatypeObject = DATATYPE_OBJ_OFF;
+    text.length = 0;
+  }
+
+  /**
+   * Decrement the tree level of 1.
+   */
+  private void decrNodeObjectPath() {
+    nodePath.length--;
+  }
+
+  /** Update the path of the current values of the current object node */
+  private void setLastNode(final int val) {
+    nodePath.ints[nodePath.length - 1] = val;
+  }
+
+  /** Update the path of the current values of the current object node */
+  private void addToLastNode(final int val) {
+    nodePath.ints[nodePath.length - 1] += val;
+  }
+
+  /**
+   * Helper method to print an error while scanning a JSON document with the
+   * offset information.
+   */
+  private String errorMessage(final String msg) {
+    return "Error parsing JSON document at [offset=" + this.charOffset(pos) + "]: " + msg;
+  }
+
+  /**
+   * Throws an {@link IllegalStateException} if the scanned value has no field
+   */
+  private void checkMissingField(final int colon) {
+    if (datatype != JSON_FIELD) {
+      throw new IllegalStateException(this.errorMessage("Missing a field name, got " +
+        new BytesRef(bytes, colon, pos - colon).utf8ToString()));
+    }
+  }
+
+  /**
+   * Process the closing curly bracket of an object. A datatype object is
+   * already closed before, in the state {@link #S_DATATYPE_LABEL} or
+   * {@link #S_DATATYPE_STRING_VALUE}.
+   */
+  private void closeCurlyBracket(final int start) {
+    if ((datatypeObject & DATATYPE_OBJ_ON) == DATATYPE_OBJ_ON && datatypeObject != DATATYPE_OBJ_OK) {
+      if ((datatypeObject & DATATYPE_OBJ_LABEL) == DATATYPE_OBJ_LABEL) {
+        throw new IllegalStateException(this.errorMessage("Uncomplete datatype object, missing _value_ field."));
+      } else {
+        throw new IllegalStateException(this.errorMessage("Uncomplete datatype object, missing _datatype_ field."));
+      }
+    } else if ((datatypeObject & DATATYPE_OBJ_ON) == DATATYPE_OBJ_OFF) {
+      this.closeObject(start);
+    } else if (datatypeObject == DATATYPE_OBJ_OK && this.peek() == S_OBJECT) {
+      // Decrement the node created in the state
+      // S_DATATYPE_LABEL or S_DATATYPE_STRING_VALUE.
+      // This only happens when in state S_OBJECT, since it explicitly
+      // adds a blank node (i.e., nestedObjects variable).
+      // In the state S_ARRAY, the blank node is implicit.
+      this.decrNodeObjectPath();
+    }
+    // when the states stack is empty, I am the root of the JSON tree
+    state = depth == 0 ? YYINITIAL : this.peek();
+    // Switch off the datatype object
+    datatypeObject = DATATYPE_OBJ_OFF;
+  }
+
+  /**
+   * Close the JSON object:
+   * - decrement the tree level of 1;
+   * - decrement the tree level of 1 one more time if the last value was a leaf;
+   * - decrement the tree level of 1 one more time if the object was nested into another one; and
+   * - remove S_OBJECT from the stack of states.
+   */
+  private void closeObject(final int start) {
+    this.decrNodeObjectPath();
+    if (openLeafNode) { // unclosed entry to a leaf node
+      this.decrNodeObjectPath();
+      openLeafNode = false;
+    }
+    // this curly bracket closes a nested object
+    // this requires an additional call to decrNodeObjectPath()
+    // since nested objects have implicitly a blank node.
+    if (nestedObjects > 0) {
+      nestedObjects--;
+      this.decrNodeObjectPath();
+    }
+    if (this.pop() != S_OBJECT) {
+      throw new IllegalStateException(this.errorMessage("Expected '}', got " + this.charOffset(start)));
+    }
+  }
+
+  /**
+   * Closes the JSON object and further checks if the node path should be updated.
+   * It returns a {@link JsonTokenizer#LITERAL}, which is the value associated to
+   * the field "_value_" with the datatype equal to the value associated to the
+   * field "_datatype_".
+   */
+  private int closeDatatypeObject(final int start) {
+    this.closeObject(start);
+    // when the states stack is empty, I am the root of the JSON tree
+    if (depth == 0) {
+      throw new IllegalStateException(this.errorMessage("A datatype object at the" +
+        " root of the JSON document is not possible."));
+    }
+    if (this.peek() == S_OBJECT) {
+      this.incrNodeObjectPath();
+      this.setLastNode(0);
+    }
+    return LITERAL;
+  }
+
+}
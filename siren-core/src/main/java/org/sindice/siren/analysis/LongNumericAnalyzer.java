@@ -52,7 +52,7 @@ public class LongNumericAnalyzer extends NumericAnalyzer {
 
     @Override
     public long parseAndConvert(final Reader input) throws IOException {
-      return this.parse(input);
+      return XSDPrimitiveTypeParser.parseLong(input);
     }
 
     @Override
@@ -20,7 +20,6 @@
 package org.sindice.siren.analysis.attributes;
 
 import java.io.Serializable;
-import java.util.Arrays;
 
 import org.apache.lucene.util.AttributeImpl;
 import org.apache.lucene.util.IntsRef;
@@ -49,7 +48,6 @@ implements NodeAttribute, Cloneable, Serializable {
   public void clear() {
     node.length = 0;
     node.offset = 0;
-    Arrays.fill(node.ints, 0);
   }
 
   @Override
@@ -79,9 +77,10 @@ implements NodeAttribute, Cloneable, Serializable {
 
   @Override
   public void copyNode(final IntsRef nodePath) {
-    ArrayUtils.growAndCopy(node, nodePath.length);
-    System.arraycopy(nodePath.ints, nodePath.offset, node.ints, node.offset, nodePath.length);
-    node.offset = nodePath.offset;
+    // the content of the node is overwritten, no need to copy it when growing
+    node.ints = ArrayUtils.grow(node.ints, nodePath.length);
+    System.arraycopy(nodePath.ints, nodePath.offset, node.ints, 0, nodePath.length);
+    node.offset = 0;
     node.length = nodePath.length;
   }
 
@@ -75,8 +75,10 @@ implements NodeNumericTermAttribute {
 
   public void init(final NumericType numericType, final long value,
                    final int valueSize) {
-    this.numericType = numericType;
-    numericTypeCharArray = numericType.toString().toCharArray();
+    if (this.numericType != numericType) { // avoid to convert the type for each value
+      this.numericType = numericType;
+      numericTypeCharArray = numericType.toString().toCharArray();
+    }
     this.value = value;
     this.valueSize = valueSize;
     this.shift = 0;
@@ -21,15 +21,18 @@
 package org.sindice.siren.analysis.filter;
 
 import java.io.IOException;
+import java.util.Arrays;
 
 import org.apache.lucene.analysis.Analyzer;
 import org.apache.lucene.analysis.TokenFilter;
 import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.core.KeywordAnalyzer;
 import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
 import org.apache.lucene.analysis.tokenattributes.OffsetAttribute;
 import org.apache.lucene.analysis.tokenattributes.PositionIncrementAttribute;
 import org.apache.lucene.analysis.tokenattributes.TypeAttribute;
 import org.apache.lucene.analysis.util.CharArrayMap;
+import org.apache.lucene.util.ArrayUtil;
 import org.apache.lucene.util.IntsRef;
 import org.apache.lucene.util.Version;
 import org.sindice.siren.analysis.JsonTokenizer;
@@ -47,12 +50,31 @@ import org.slf4j.LoggerFactory;
  * <p>
  * This filter provides a {@link #register(char[], Analyzer)} method which allows
  * to register an {@link Analyzer} to a specific datatype.
+ * <p>
+ * A token whose datatype is associated with a {@link KeywordAnalyzer} is
+ * emitted unchanged without being analysed. The tokens produced by the other
+ * analyzers for the values of at most {@link #DEFAULT_CACHE_MAX_LENGTH}
+ * characters are kept in a cache of {@link #DEFAULT_CACHE_SIZE} values, so that
+ * values repeated across documents, e.g., field names, are analysed only once.
+ * The cache belongs to the filter, i.e., to the thread reusing it, and can be
+ * resized with {@link #setCacheSize(int, int)}.
+ * <p>
+ * The cache is two-way set associative: a value can be stored in one of two
+ * entries selected by its hash, and replaces the least recently used of them.
+ * The entries are overwritten in place, so that caching the values does not
+ * allocate memory once the cache is full.
  */
 public class DatatypeAnalyzerFilter extends TokenFilter {
 
   private final static Logger logger =
     LoggerFactory.getLogger(DatatypeAnalyzerFilter.class);
 
+  /** The default maximum number of values in the cache */
+  public static final int DEFAULT_CACHE_SIZE = 1024;
+
+  /** The default maximum number of characters of a cached value */
+  public static final int DEFAULT_CACHE_MAX_LENGTH = 64;
+
   private final CharArrayMap<Analyzer> dtsAnalyzer;
 
   private CharTermAttribute termAtt;
@@ -72,6 +94,33 @@ public class DatatypeAnalyzerFilter extends TokenFilter {
 
   private ReusableCharArrayReader reusableCharArray;
 
+  /** Reusable buffer to backup the node path of the token */
+  private final IntsRef nodePath = new IntsRef();
+
+  private int cacheMaxLength = DEFAULT_CACHE_MAX_LENGTH;
+
+  /**
+   * The cached values, by pairs of entries selected by the hash of the value,
+   * or null if the cache is disabled
+   */
+  private CachedTokens[] cache = new CachedTokens[DEFAULT_CACHE_SIZE];
+
+  /** Counter recording the last use of the cached values */
+  private long cacheClock;
+
+  /** The cached tokens being emitted, or null if reading the inner stream */
+  private CachedTokens cachedTokens;
+  private int cachedToken;
+
+  /**
+   * The entry recording the tokens of the inner stream, or null if they are
+   * not cached
+   */
+  private CachedTokens recording;
+
+  private long cacheHitCount;
+  private long cacheMissCount;
+
   public DatatypeAnalyzerFilter(final Version version,
                                 final TokenStream input) {
     super(input);
@@ -130,6 +179,92 @@ public class DatatypeAnalyzerFilter extends TokenFilter {
     }
   }
 
+  /**
+   * Set the number of values in the cache of analysed values, and the maximum
+   * number of characters of a cached value. The number of values is rounded up
+   * to a power of two, and a size of 0 disables the cache. The cached values
+   * are discarded.
+   */
+  public void setCacheSize(final int size, final int maxLength) {
+    if (size < 0) {
+      throw new IllegalArgumentException("size must be >= 0, got " + size);
+    }
+    if (maxLength < 0) {
+      throw new IllegalArgumentException("maxLength must be >= 0, got " + maxLength);
+    }
+    cache = size == 0 ? null
+                      : new CachedTokens[Math.max(2, Integer.highestOneBit(size - 1) << 1)];
+    cacheMaxLength = maxLength;
+    cachedTokens = null;
+    recording = null;
+  }
+
+  /**
+   * Returns the number of tokens whose analysed value was found in the cache.
+   */
+  long getCacheHitCount() {
+    return cacheHitCount;
+  }
+
+  /**
+   * Returns the number of tokens whose value was analysed and cached.
+   */
+  long getCacheMissCount() {
+    return cacheMissCount;
+  }
+
+  /**
+   * Returns the number of values in the cache.
+   */
+  int getCacheSize() {
+    int size = 0;
+    if (cache != null) {
+      for (final CachedTokens entry : cache) {
+        if (entry != null && entry.complete) {
+          size++;
+        }
+      }
+    }
+    return size;
+  }
+
+  /**
+   * Returns the cached tokens of the value analysed by the given analyzer, or
+   * null if the value is not cached. In the latter case, the least recently
+   * used entry of the pair selected by the value is prepared to record its
+   * tokens.
+   */
+  private CachedTokens lookup(final Analyzer analyzer, final char[] chars,
+                              final int length) {
+    int hash = 0;
+    for (int i = 0; i < length; i++) {
+      hash = 31 * hash + chars[i];
+    }
+    hash ^= (hash >>> 16);
+    final int first = (hash << 1) & (cache.length - 1);
+
+    CachedTokens victim = null;
+    for (int i = first; i <= first + 1; i++) {
+      final CachedTokens entry = cache[i];
+      if (entry == null) {
+        cache[i] = victim = new CachedTokens();
+        break;
+      }
+      if (entry.matches(analyzer, hash, chars, length)) {
+        entry.lastUse = ++cacheClock;
+        return entry;
+      }
+      if (victim == null || entry.lastUse < victim.lastUse) {
+        victim = entry;
+      }
+    }
+
+    victim.start(analyzer, hash, chars, length);
+    victim.lastUse = ++cacheClock;
+    recording = victim;
+    return null;
+  }
+
   @Override
   public final boolean incrementToken()
   throws IOException {
@@ -158,40 +293,131 @@ public class DatatypeAnalyzerFilter extends TokenFilter {
         }
 
         final Analyzer analyzer = dtsAnalyzer.get(dt);
-        if (reusableCharArray == null) {
-          reusableCharArray = new ReusableCharArrayReader(termAtt.buffer(), 0, termAtt.length());
-        } else {
-          reusableCharArray.reset(termAtt.buffer(), 0, termAtt.length());
+        final int len = termAtt.length();
+
+        // a keyword analyzer emits the token unchanged
+        if (analyzer instanceof KeywordAnalyzer) {
+          this.copyAttributes(termAtt.buffer(), 0, len, 0, len, 1, TypeAttribute.DEFAULT_TYPE);
+          return true;
+        }
+
+        if (cache != null && len <= cacheMaxLength) {
+          cachedTokens = this.lookup(analyzer, termAtt.buffer(), len);
+          if (cachedTokens != null) {
+            cacheHitCount++;
+            cachedToken = 0;
+          }
+          else {
+            cacheMissCount++;
+          }
+        }
+
+        if (cachedTokens == null) {
+          this.initTokenStream(analyzer, len);
+        }
+      }
+
+      if (cachedTokens != null) {
+        // Consume the cached tokens of the value
+        isConsumingToken = cachedToken < cachedTokens.size;
+        if (!isConsumingToken) {
+          cachedTokens = null;
+        }
+      }
+      else {
+        // Consume the token with the registered analyzer
+        isConsumingToken = currentStream.incrementToken();
+        if (!isConsumingToken && recording != null) {
+          recording.complete = true;
+          recording = null;
         }
-        currentStream = analyzer.tokenStream("", reusableCharArray);
-        currentStream.reset(); // reset to prepare the stream for consumption
-        this.initTokenAttributes();
       }
-      // Consume the token with the registered analyzer
-      isConsumingToken = currentStream.incrementToken();
     } while(!isConsumingToken);
-    this.copyInnerStreamAttributes();
+
+    if (cachedTokens != null) {
+      this.copyCachedAttributes(cachedTokens, cachedToken++);
+    }
+    else {
+      if (recording != null) {
+        recording.add(tokenTermAtt.buffer(), tokenTermAtt.length(),
+          tokenOffsetAtt.startOffset(), tokenOffsetAtt.endOffset(),
+          tokenPosIncrAtt.getPositionIncrement(), tokenTypeAtt.type());
+      }
+      this.copyInnerStreamAttributes();
+    }
     return true;
   }
 
   /**
-   * Copy the inner's stream attributes values to the main stream's ones. This filter
+   * Prepare the stream of the given analyzer to tokenize the incoming token.
+   */
+  private void initTokenStream(final Analyzer analyzer, final int len)
+  throws IOException {
+    if (reusableCharArray == null) {
+      reusableCharArray = new ReusableCharArrayReader(termAtt.buffer(), 0, len);
+    } else {
+      reusableCharArray.reset(termAtt.buffer(), 0, len);
+    }
+    currentStream = analyzer.tokenStream("", reusableCharArray);
+    currentStream.reset(); // reset to prepare the stream for consumption
+    this.initTokenAttributes();
+  }
+
+  @Override
+  public void reset() throws IOException {
+    super.reset();
+    isConsumingToken = false;
+    cachedTokens = null;
+    recording = null;
+  }
+
+  /**
+   * Copy the inner's stream attributes values to the main stream's ones.
+   */
+  private void copyInnerStreamAttributes() {
+    this.copyAttributes(tokenTermAtt.buffer(), 0, tokenTermAtt.length(),
+      tokenOffsetAtt.startOffset(), tokenOffsetAtt.endOffset(),
+      tokenPosIncrAtt.getPositionIncrement(), tokenTypeAtt.type());
+  }
+
+  /**
+   * Copy the attributes values of the i-th cached token to the main stream's
+   * ones.
+   */
+  private void copyCachedAttributes(final CachedTokens tokens, final int i) {
+    final int start = i == 0 ? 0 : tokens.termEnds[i - 1];
+    this.copyAttributes(tokens.terms, start, tokens.termEnds[i] - start,
+      tokens.startOffsets[i], tokens.endOffsets[i], tokens.posIncrs[i],
+      tokens.types[i]);
+  }
+
+  /**
+   * Copy the given attributes values to the main stream's ones. This filter
    * uses an inner stream, therefore it needs to be cleared so that other filters
    * have clean attributes data. Because of that, the attributes datatypeURI and
-   * node have to saved in order to be restored after.
+   * node have to saved in order to be restored after. The node is saved in a
+   * reusable buffer.
+   * <p>
+   * The term may be read from the buffer of the main stream's term attribute,
+   * which is not overwritten by clearing the attributes.
    */
-  private void copyInnerStreamAttributes() {
+  private void copyAttributes(final char[] term, final int termOffset,
+                              final int termLength, final int startOffset,
+                              final int endOffset, final int posIncr,
+                              final String type) {
     // backup datatype and node path
-    final IntsRef nodePath = IntsRef.deepCopyOf(nodeAtt.node());
+    final IntsRef node = nodeAtt.node();
+    nodePath.ints = ArrayUtil.grow(nodePath.ints, node.length);
+    System.arraycopy(node.ints, node.offset, nodePath.ints, 0, node.length);
+    nodePath.length = node.length;
     final char[] dt = dtypeAtt.datatypeURI();
     // clear attributes
     input.clearAttributes();
     // copy inner attributes
-    final int len = tokenTermAtt.length();
-    termAtt.copyBuffer(tokenTermAtt.buffer(), 0, len);
-    offsetAtt.setOffset(tokenOffsetAtt.startOffset(), tokenOffsetAtt.endOffset());
-    posIncrAtt.setPositionIncrement(tokenPosIncrAtt.getPositionIncrement());
-    typeAtt.setType(tokenTypeAtt.type());
+    termAtt.copyBuffer(term, termOffset, termLength);
+    offsetAtt.setOffset(startOffset, endOffset);
+    posIncrAtt.setPositionIncrement(posIncr);
+    typeAtt.setType(type);
     // TupleTokenizer handles the setting of tuple/cell values and the datatype URI
 
     // restore datatype and node
@@ -211,4 +437,79 @@ public class DatatypeAnalyzerFilter extends TokenFilter {
     }
   }
 
+  /**
+   * An entry of the cache: a value, the analyzer of the value and the tokens
+   * produced by the analysis. The terms are concatenated in a single buffer.
+   * The buffers are reused when the entry is overwritten by another value.
+   */
+  private static final class CachedTokens {
+
+    private Analyzer analyzer;
+    private char[] chars = new char[0];
+    private int length;
+    private int hash;
+
+    /** False while the tokens are being recorded */
+    private boolean complete;
+    private long lastUse;
+
+    private int size;
+    private char[] terms = new char[0];
+    private int[] termEnds = new int[0];
+    private int[] startOffsets = new int[0];
+    private int[] endOffsets = new int[0];
+    private int[] posIncrs = new int[0];
+    private String[] types = new String[0];
+
+    boolean matches(final Analyzer analyzer, final int hash, final char[] chars,
+                    final int length) {
+      if (!complete || this.analyzer != analyzer || this.hash != hash ||
+          this.length != length) {
+        return false;
+      }
+      for (int i = 0; i < length; i++) {
+        if (this.chars[i] != chars[i]) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    /**
+     * Overwrite the entry with the given value, whose tokens are then recorded
+     * with {@link #add(char[], int, int, int, int, String)}.
+     */
+    void start(final Analyzer analyzer, final int hash, final char[] chars,
+               final int length) {
+      this.analyzer = analyzer;
+      this.hash = hash;
+      this.chars = ArrayUtil.grow(this.chars, length);
+      System.arraycopy(chars, 0, this.chars, 0, length);
+      this.length = length;
+      this.complete = false;
+      this.size = 0;
+    }
+
+    void add(final char[] term, final int termLength, final int startOffset,
+             final int endOffset, final int posIncr, final String type) {
+      final int start = size == 0 ? 0 : termEnds[size - 1];
+      terms = ArrayUtil.grow(terms, start + termLength);
+      System.arraycopy(term, 0, terms, start, termLength);
+      termEnds = ArrayUtil.grow(termEnds, size + 1);
+      startOffsets = ArrayUtil.grow(startOffsets, size + 1);
+      endOffsets = ArrayUtil.grow(endOffsets, size + 1);
+      posIncrs = ArrayUtil.grow(posIncrs, size + 1);
+      if (types.length <= size) {
+        types = Arrays.copyOf(types, ArrayUtil.oversize(size + 1, 8));
+      }
+      termEnds[size] = start + termLength;
+      startOffsets[size] = startOffset;
+      endOffsets[size] = endOffset;
+      posIncrs[size] = posIncr;
+      types[size] = type;
+      size++;
+    }
+
+  }
+
 }
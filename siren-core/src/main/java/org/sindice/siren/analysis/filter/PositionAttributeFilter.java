@@ -25,6 +25,8 @@ import java.io.IOException;
 import org.apache.lucene.analysis.TokenFilter;
 import org.apache.lucene.analysis.TokenStream;
 import org.apache.lucene.analysis.tokenattributes.PositionIncrementAttribute;
+import org.apache.lucene.util.ArrayUtil;
+import org.apache.lucene.util.IntsRef;
 import org.sindice.siren.analysis.attributes.NodeAttribute;
 import org.sindice.siren.analysis.attributes.PositionAttribute;
 
@@ -38,7 +40,8 @@ public class PositionAttributeFilter extends TokenFilter {
   private final PositionAttribute posAtt;
   private final PositionIncrementAttribute posIncrAtt;
 
-  private long lastNodeHash = Long.MAX_VALUE;
+  /** The node of the last token, or an empty node before the first token */
+  private final IntsRef lastNode = new IntsRef();
   private int lastPosition = 0;
 
   public PositionAttributeFilter(final TokenStream input) {
@@ -52,8 +55,7 @@ public class PositionAttributeFilter extends TokenFilter {
   public void reset() throws IOException {
     super.reset();
     lastPosition = 0;
-    lastNodeHash = Long.MAX_VALUE;
-
+    lastNode.length = 0;
   }
 
   @Override
@@ -62,10 +64,13 @@ public class PositionAttributeFilter extends TokenFilter {
       return false;
     }
 
-    final int nodeHash = nodeAtt.node().hashCode();
-    if (lastNodeHash != nodeHash) { // new node
+    final IntsRef node = nodeAtt.node();
+    if (!node.intsEquals(lastNode)) { // new node
       lastPosition = 0;
-      lastNodeHash = nodeHash;
+      // keep a copy of the node in a reusable buffer
+      lastNode.ints = ArrayUtil.grow(lastNode.ints, node.length);
+      System.arraycopy(node.ints, node.offset, lastNode.ints, 0, node.length);
+      lastNode.length = node.length;
     }
 
     lastPosition += posIncrAtt.getPositionIncrement();
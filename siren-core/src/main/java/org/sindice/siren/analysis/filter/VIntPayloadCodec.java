@@ -68,7 +68,7 @@ public class VIntPayloadCodec extends PayloadCodec {
     this.setData(data.bytes, data.offset, data.length);
 
     // decode position and node
-    final int limit = bytes.length - bytes.offset;
+    final int limit = bytes.offset + bytes.length;
     while (bytes.offset < limit) {
       ib.put(CodecUtils.byteArrayToVInt(bytes));
     }
@@ -82,6 +82,27 @@ public class VIntPayloadCodec extends PayloadCodec {
     this.setNode(ib.array(), ib.position(), ib.limit() - ib.position());
   }
 
+  /**
+   * Decode the position only, without decoding the node, e.g., to check if
+   * the node changed by comparing the encoded nodes. {@link #getPosition()}
+   * returns the decoded position.
+   *
+   * @return The offset of the encoded node in the byte array of
+   * <code>data</code>.
+   */
+  public int decodePosition(final BytesRef data) {
+    final byte[] b = data.bytes;
+    int offset = data.offset;
+    byte v = b[offset++];
+    int p = v & 0x7F;
+    for (int shift = 7; (v & 0x80) != 0; shift += 7) {
+      v = b[offset++];
+      p |= (v & 0x7F) << shift;
+    }
+    pos = p;
+    return offset;
+  }
+
   @Override
   public BytesRef encode(final IntsRef node, final int pos) {
     // max case : 1 int = 5 bytes
@@ -95,7 +116,7 @@ public class VIntPayloadCodec extends PayloadCodec {
     // encode node
     this.setNode(node.ints, node.offset, node.length);
 
-    final int limit = ints.length - ints.offset;
+    final int limit = ints.offset + ints.length;
     for (int i = ints.offset; i < limit; i++) {
       CodecUtils.vIntToByteArray(ints.ints[i], bb);
     }
@@ -88,4 +88,23 @@ public abstract class ConstrainedNodesEnum extends DocsNodesAndPositionsEnum {
     return docsEnum.nodeFreqInDoc();
   }
 
+  /**
+   * The constraints can only filter nodes, the block max statistics of the
+   * wrapped enum are therefore still valid upper bounds.
+   */
+  @Override
+  public int lastDocInBlock() {
+    return docsEnum.lastDocInBlock();
+  }
+
+  @Override
+  public int maxNodeFreqInBlock() {
+    return docsEnum.maxNodeFreqInBlock();
+  }
+
+  @Override
+  public int maxTermFreqInNodeInBlock() {
+    return docsEnum.maxTermFreqInNodeInBlock();
+  }
+
 }
@@ -55,4 +55,36 @@ public abstract class DocsNodesAndPositionsEnum implements DocsAndNodesIterator,
    **/
   public abstract int nodeFreqInDoc() throws IOException;
 
+  /**
+   * Expert: Returns the last document identifier of the current block of
+   * postings. The block max statistics {@link #maxNodeFreqInBlock()} and
+   * {@link #maxTermFreqInNodeInBlock()} are upper bounds for all the documents
+   * between {@link #doc()} and this document identifier.
+   * <p>
+   * The default implementation returns {@link #doc()}.
+   */
+  public int lastDocInBlock() {
+    return this.doc();
+  }
+
+  /**
+   * Expert: Returns the maximum node frequency of the documents of the current
+   * block of postings, or {@link Integer#MAX_VALUE} if unknown.
+   * <p>
+   * The default implementation returns {@link Integer#MAX_VALUE}.
+   */
+  public int maxNodeFreqInBlock() {
+    return Integer.MAX_VALUE;
+  }
+
+  /**
+   * Expert: Returns the maximum term frequency in a node of the current block
+   * of postings, or {@link Integer#MAX_VALUE} if unknown.
+   * <p>
+   * The default implementation returns {@link Integer#MAX_VALUE}.
+   */
+  public int maxTermFreqInNodeInBlock() {
+    return Integer.MAX_VALUE;
+  }
+
 }
@@ -65,29 +65,13 @@ extends DocsNodesAndPositionsEnum {
   public boolean nextDocument() throws IOException {
     while(true) {
       if (current == null) {
-        if (upto == numSubs-1) {
+        if (!this.nextEnum()) {
           this.doc = NO_MORE_DOC;
           return false;
         }
-        else {
-          upto++;
-          final int reader = subs[upto].slice.readerIndex;
-          current = ((SirenDocsEnum) subs[upto].docsAndPositionsEnum).getDocsNodesAndPositionsEnum();
-          currentBase = mergeState.docBase[reader];
-          currentMap = mergeState.docMaps[reader];
-        }
       }
 
-      if (current.nextDocument()) {
-        int doc = current.doc();
-        if (currentMap != null) {
-          // compact deletions
-          doc = currentMap.get(doc);
-          if (doc == -1) {
-            continue;
-          }
-        }
-        this.doc = currentBase + doc;
+      if (this.nextDocumentInEnum()) {
         return true;
       }
       else {
@@ -96,6 +80,62 @@ extends DocsNodesAndPositionsEnum {
     }
   }
 
+  /**
+   * Move to the next sub-enum. Return false if there are no more sub-enums.
+   */
+  public boolean nextEnum() {
+    if (upto == numSubs-1) {
+      current = null;
+      return false;
+    }
+    upto++;
+    final int reader = subs[upto].slice.readerIndex;
+    current = ((SirenDocsEnum) subs[upto].docsAndPositionsEnum).getDocsNodesAndPositionsEnum();
+    currentBase = mergeState.docBase[reader];
+    currentMap = mergeState.docMaps[reader];
+    return true;
+  }
+
+  /**
+   * Move to the next document of the current sub-enum, mapping around
+   * deletes. Return false if the current sub-enum is exhausted.
+   */
+  public boolean nextDocumentInEnum() throws IOException {
+    while (current.nextDocument()) {
+      int doc = current.doc();
+      if (currentMap != null) {
+        // compact deletions
+        doc = currentMap.get(doc);
+        if (doc == -1) {
+          continue;
+        }
+      }
+      this.doc = currentBase + doc;
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * Return the current sub-enum.
+   */
+  public DocsNodesAndPositionsEnum getCurrentEnum() {
+    return current;
+  }
+
+  /**
+   * Return the document identifier in the merged segment of the given
+   * document identifier of the current sub-enum, or -1 if the document is
+   * deleted.
+   */
+  public int mapDocument(final int doc) {
+    if (currentMap != null) {
+      final int mapped = currentMap.get(doc);
+      return mapped == -1 ? -1 : currentBase + mapped;
+    }
+    return currentBase + doc;
+  }
+
   @Override
   public boolean nextNode() throws IOException {
     return current.nextNode();
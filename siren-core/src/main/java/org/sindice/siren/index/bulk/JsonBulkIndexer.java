@@ -0,0 +1,754 @@
+/**
+ * Copyright 2014 National University of Ireland, Galway.
+ *
+ * This file is part of the SIREn project. Project and contact information:
+ *
+ *  https://github.com/rdelbru/SIREn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.sindice.siren.index.bulk;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.codecs.PostingsFormat;
+import org.apache.lucene.codecs.lucene40.Lucene40Codec;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.FieldType;
+import org.apache.lucene.index.FieldInfo.IndexOptions;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.IndexWriterConfig.OpenMode;
+import org.apache.lucene.store.AlreadyClosedException;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.ArrayUtil;
+import org.apache.lucene.util.ThreadInterruptedException;
+import org.apache.lucene.util.Version;
+import org.sindice.siren.analysis.AnyURIAnalyzer;
+import org.sindice.siren.analysis.DoubleNumericAnalyzer;
+import org.sindice.siren.analysis.JsonAnalyzer;
+import org.sindice.siren.analysis.JsonBytesTokenizer;
+import org.sindice.siren.analysis.LongNumericAnalyzer;
+import org.sindice.siren.index.codecs.siren10.Siren10AForPostingsFormat;
+import org.sindice.siren.util.ReusableUTF8Reader;
+import org.sindice.siren.util.XSDDatatype;
+
+/**
+ * Index files of newline-delimited JSON documents, one document per line, with
+ * several threads sharing one {@link IndexWriter}.
+ * <p>
+ * The calling thread reads the input, memory-mapping the regular files, and
+ * splits it into batches of lines, which are put in a bounded queue. It blocks
+ * when the queue is full, so that the input is read no faster than it is
+ * indexed. The indexing threads take the batches from the queue and add one
+ * document per line to the {@link IndexWriter}. The JSON document is indexed
+ * in a single field, with the SIREn postings format. The lines are given to the
+ * {@link Analyzer} through a {@link ReusableUTF8Reader}, so that a
+ * {@link JsonAnalyzer} scans their bytes with a {@link JsonBytesTokenizer}.
+ * <p>
+ * Empty lines are ignored. A line which is not a valid JSON document is
+ * skipped and counted in {@link #getFailedDocCount()}. Any other error stops
+ * the indexing and the changes since the last commit are rolled back.
+ * <p>
+ * The changes are committed every {@link #setCommitInterval(long)} documents,
+ * and at the end of each call to {@link #index(List)}. The documents per
+ * second are reported to the {@link #setInfoStream(PrintStream) info stream}.
+ * For example:
+ * <pre>
+ *   final JsonBulkIndexer indexer = new JsonBulkIndexer(Version.LUCENE_40,
+ *     directory, analyzer);
+ *   indexer.setOpenMode(OpenMode.CREATE);
+ *   indexer.setRAMBufferSizeMB(512);
+ *   indexer.index(files);
+ * </pre>
+ * An instance must not be used by several threads at the same time.
+ */
+public class JsonBulkIndexer {
+
+  public static final String  DEFAULT_FIELD              = "content";
+
+  /** Default number of lines in a batch */
+  public static final int     DEFAULT_BATCH_SIZE         = 256;
+
+  /** Default number of batches that can be queued per indexing thread */
+  public static final int     DEFAULT_QUEUED_BATCHES     = 4;
+
+  /** Default interval in milliseconds between two progress reports */
+  public static final long    DEFAULT_REPORT_INTERVAL    = 10000;
+
+  /** Default size of the mapped or read chunks of the input */
+  static final int            DEFAULT_CHUNK_SIZE         = 1 << 30;
+
+  /** Size of the chunks read from an {@link InputStream} */
+  private static final int    STREAM_CHUNK_SIZE          = 1 << 20;
+
+  /** Marks the end of the input for an indexing thread */
+  private static final Batch  END                        = new Batch(null, 0);
+
+  private final Version       matchVersion;
+  private final Directory     directory;
+  private final Analyzer      analyzer;
+
+  private String              field                      = DEFAULT_FIELD;
+  private PostingsFormat      postingsFormat             = new Siren10AForPostingsFormat();
+  private OpenMode            openMode                   = OpenMode.CREATE_OR_APPEND;
+
+  private int                 threadCount                = Runtime.getRuntime().availableProcessors();
+  private int                 batchSize                  = DEFAULT_BATCH_SIZE;
+  private int                 queuedBatches              = DEFAULT_QUEUED_BATCHES;
+  private int                 chunkSize                  = DEFAULT_CHUNK_SIZE;
+
+  private double              ramBufferSizeMB            = IndexWriterConfig.DEFAULT_RAM_BUFFER_SIZE_MB;
+  private int                 ramPerThreadHardLimitMB    = IndexWriterConfig.DEFAULT_RAM_PER_THREAD_HARD_LIMIT_MB;
+  private int                 maxBufferedDocs            = IndexWriterConfig.DEFAULT_MAX_BUFFERED_DOCS;
+  private long                commitInterval             = 0;
+
+  private PrintStream         infoStream                 = null;
+  private long                reportInterval             = DEFAULT_REPORT_INTERVAL;
+
+  /** State of the current call to {@link #index(List)} */
+  private IndexWriter         writer;
+  private BlockingQueue<Batch> queue;
+  private List<Thread>        threads;
+  private final AtomicReference<Throwable> failure       = new AtomicReference<Throwable>();
+  private final AtomicLong    docCount                   = new AtomicLong();
+  private final AtomicLong    failedDocCount             = new AtomicLong();
+  private final AtomicLong    byteCount                  = new AtomicLong();
+  private long                startTime;
+  private long                endTime;
+  private long                nextCommit;
+  private long                nextReport;
+
+  /**
+   * Create a {@link JsonBulkIndexer} writing in the given {@link Directory}.
+   *
+   * @param analyzer The {@link Analyzer} of the JSON documents, usually a
+   * {@link JsonAnalyzer}
+   */
+  public JsonBulkIndexer(final Version matchVersion, final Directory directory,
+                         final Analyzer analyzer) {
+    this.matchVersion = matchVersion;
+    this.directory = directory;
+    this.analyzer = analyzer;
+  }
+
+  /**
+   * Set the name of the field indexing the JSON documents. Default to
+   * {@link #DEFAULT_FIELD}.
+   */
+  public void setField(final String field) {
+    this.field = field;
+  }
+
+  /**
+   * Set the postings format of the field indexing the JSON documents. Default
+   * to {@link Siren10AForPostingsFormat}.
+   */
+  public void setPostingsFormat(final PostingsFormat postingsFormat) {
+    this.postingsFormat = postingsFormat;
+  }
+
+  /**
+   * @see IndexWriterConfig#setOpenMode(OpenMode)
+   */
+  public void setOpenMode(final OpenMode openMode) {
+    this.openMode = openMode;
+  }
+
+  /**
+   * Set the number of indexing threads. Default to the number of available
+   * processors.
+   */
+  public void setThreadCount(final int threadCount) {
+    if (threadCount < 1) {
+      throw new IllegalArgumentException("threadCount must be at least 1, got " + threadCount);
+    }
+    this.threadCount = threadCount;
+  }
+
+  /**
+   * Set the number of lines in a batch, and the number of batches that can be
+   * queued per indexing thread. Defaults to {@link #DEFAULT_BATCH_SIZE} and
+   * {@link #DEFAULT_QUEUED_BATCHES}.
+   */
+  public void setBatchSize(final int batchSize, final int queuedBatches) {
+    if (batchSize < 1 || queuedBatches < 1) {
+      throw new IllegalArgumentException("batchSize and queuedBatches must be " +
+        "at least 1, got " + batchSize + " and " + queuedBatches);
+    }
+    this.batchSize = batchSize;
+    this.queuedBatches = queuedBatches;
+  }
+
+  /**
+   * Set the maximum size of the chunks of input which are mapped, or read from
+   * an {@link InputStream}. A line of a file cannot be larger than a chunk.
+   * Used by tests.
+   */
+  void setChunkSize(final int chunkSize) {
+    this.chunkSize = chunkSize;
+  }
+
+  /**
+   * @see IndexWriterConfig#setRAMBufferSizeMB(double)
+   */
+  public void setRAMBufferSizeMB(final double ramBufferSizeMB) {
+    this.ramBufferSizeMB = ramBufferSizeMB;
+  }
+
+  /**
+   * @see IndexWriterConfig#setRAMPerThreadHardLimitMB(int)
+   */
+  public void setRAMPerThreadHardLimitMB(final int ramPerThreadHardLimitMB) {
+    this.ramPerThreadHardLimitMB = ramPerThreadHardLimitMB;
+  }
+
+  /**
+   * @see IndexWriterConfig#setMaxBufferedDocs(int)
+   */
+  public void setMaxBufferedDocs(final int maxBufferedDocs) {
+    this.maxBufferedDocs = maxBufferedDocs;
+  }
+
+  /**
+   * Commit the changes every <code>commitInterval</code> indexed documents. If
+   * 0, the default, the changes are committed only once all the input is
+   * indexed.
+   */
+  public void setCommitInterval(final long commitInterval) {
+    if (commitInterval < 0) {
+      throw new IllegalArgumentException("commitInterval must be positive, got " + commitInterval);
+    }
+    this.commitInterval = commitInterval;
+  }
+
+  /**
+   * Report the progress of the indexing to the given {@link PrintStream} every
+   * <code>reportInterval</code> milliseconds. The progress is not reported if
+   * the stream is null, the default.
+   */
+  public void setInfoStream(final PrintStream infoStream, final long reportInterval) {
+    this.infoStream = infoStream;
+    this.reportInterval = reportInterval;
+  }
+
+  /**
+   * Returns the number of documents indexed by the last call to
+   * {@link #index(List)}, so far.
+   */
+  public long getDocCount() {
+    return docCount.get();
+  }
+
+  /**
+   * Returns the number of invalid JSON documents skipped by the last call to
+   * {@link #index(List)}, so far.
+   */
+  public long getFailedDocCount() {
+    return failedDocCount.get();
+  }
+
+  /**
+   * Returns the number of bytes of input indexed by the last call to
+   * {@link #index(List)}, so far.
+   */
+  public long getByteCount() {
+    return byteCount.get();
+  }
+
+  /**
+   * Returns the time in milliseconds spent by the last call to
+   * {@link #index(List)}, so far.
+   */
+  public long getElapsedMillis() {
+    return (endTime == 0 ? System.currentTimeMillis() : endTime) - startTime;
+  }
+
+  /**
+   * Returns the number of documents indexed per second by the last call to
+   * {@link #index(List)}.
+   */
+  public double getDocsPerSecond() {
+    return docCount.get() * 1000.0 / Math.max(1, this.getElapsedMillis());
+  }
+
+  /**
+   * Index the given files of newline-delimited JSON documents, and commit. The
+   * regular files are memory-mapped.
+   */
+  public void index(final List<File> files) throws IOException {
+    this.start();
+    try {
+      for (final File file : files) {
+        if (file.isFile()) {
+          this.produceMapped(file);
+        }
+        else {
+          final InputStream in = new FileInputStream(file);
+          try {
+            this.produce(in);
+          }
+          finally {
+            in.close();
+          }
+        }
+      }
+    }
+    catch (final Throwable t) {
+      failure.compareAndSet(null, t);
+    }
+    this.finish();
+  }
+
+  /**
+   * Index the newline-delimited JSON documents of the given stream, and commit.
+   * The stream is not closed.
+   */
+  public void index(final InputStream in) throws IOException {
+    this.start();
+    try {
+      this.produce(in);
+    }
+    catch (final Throwable t) {
+      failure.compareAndSet(null, t);
+    }
+    this.finish();
+  }
+
+  private IndexWriterConfig newIndexWriterConfig() {
+    final IndexWriterConfig config = new IndexWriterConfig(matchVersion, analyzer);
+    config.setOpenMode(openMode);
+    config.setMaxThreadStates(threadCount);
+    config.setRAMBufferSizeMB(ramBufferSizeMB);
+    config.setRAMPerThreadHardLimitMB(ramPerThreadHardLimitMB);
+    config.setMaxBufferedDocs(maxBufferedDocs);
+    config.setCodec(new Lucene40Codec() {
+
+      @Override
+      public PostingsFormat getPostingsFormatForField(final String name) {
+        return field.equals(name) ? postingsFormat : super.getPostingsFormatForField(name);
+      }
+
+    });
+    return config;
+  }
+
+  /**
+   * Open the {@link IndexWriter} and start the indexing threads.
+   */
+  private void start() throws IOException {
+    failure.set(null);
+    docCount.set(0);
+    failedDocCount.set(0);
+    byteCount.set(0);
+    startTime = System.currentTimeMillis();
+    endTime = 0;
+    nextCommit = commitInterval;
+    nextReport = startTime + reportInterval;
+
+    writer = new IndexWriter(directory, this.newIndexWriterConfig());
+    queue = new ArrayBlockingQueue<Batch>(threadCount * queuedBatches);
+    threads = new ArrayList<Thread>(threadCount);
+    for (int i = 0; i < threadCount; i++) {
+      final Thread thread = new Thread(new Indexer(), "JsonBulkIndexer-" + i);
+      thread.start();
+      threads.add(thread);
+    }
+  }
+
+  /**
+   * Stop the indexing threads, and close the {@link IndexWriter}. The changes
+   * are committed if no error occurred, and rolled back otherwise.
+   */
+  private void finish() throws IOException {
+    try {
+      for (int i = 0; i < threads.size(); i++) {
+        this.put(END);
+      }
+      for (final Thread thread : threads) {
+        thread.join();
+      }
+    }
+    catch (final InterruptedException e) {
+      failure.compareAndSet(null, new ThreadInterruptedException(e));
+      this.interruptThreads();
+    }
+    catch (final RuntimeException e) {
+      failure.compareAndSet(null, e);
+      this.interruptThreads();
+    }
+    finally {
+      endTime = System.currentTimeMillis();
+      threads = null;
+      queue = null;
+      try {
+        if (failure.get() == null) {
+          writer.close();
+          this.report();
+        }
+        else {
+          writer.rollback();
+        }
+      }
+      finally {
+        writer = null;
+      }
+    }
+
+    final Throwable t = failure.get();
+    if (t != null) {
+      if (t instanceof IOException) {
+        throw (IOException) t;
+      }
+      if (t instanceof RuntimeException) {
+        throw (RuntimeException) t;
+      }
+      if (t instanceof Error) {
+        throw (Error) t;
+      }
+      throw new RuntimeException(t);
+    }
+  }
+
+  /**
+   * Stop the indexing threads which could not be given the end of the input.
+   */
+  private void interruptThreads() {
+    for (final Thread thread : threads) {
+      thread.interrupt();
+    }
+  }
+
+  /**
+   * Read the lines of a file by mapping chunks of at most
+   * {@link #setChunkSize(int)} bytes. A chunk ends after the last line feed
+   * within the maximum size.
+   */
+  private void produceMapped(final File file) throws IOException {
+    final FileInputStream in = new FileInputStream(file);
+    try {
+      final FileChannel channel = in.getChannel();
+      final long size = channel.size();
+      long position = 0;
+      while (position < size) {
+        final int length = (int) Math.min(size - position, chunkSize);
+        final boolean last = position + length == size;
+        final ByteBuffer buffer = channel.map(MapMode.READ_ONLY, position, length);
+        final int end = this.split(buffer, length, last);
+        if (end == 0) {
+          throw new IOException("Line larger than " + chunkSize + " bytes at " +
+            "offset " + position + " of " + file);
+        }
+        position += end;
+      }
+    }
+    finally {
+      in.close();
+    }
+  }
+
+  /**
+   * Read the lines of a stream in chunks of {@link #STREAM_CHUNK_SIZE} bytes.
+   * A chunk is grown if it cannot hold a line.
+   */
+  private void produce(final InputStream in) throws IOException {
+    byte[] chunk = new byte[Math.min(chunkSize, STREAM_CHUNK_SIZE)];
+    int length = 0;
+    int read;
+    while ((read = in.read(chunk, length, chunk.length - length)) != -1) {
+      length += read;
+      if (length == chunk.length) {
+        final int end = this.split(ByteBuffer.wrap(chunk), length, false);
+        // a new array, the batches keep a reference to the previous one
+        final byte[] next = new byte[end == 0 ? ArrayUtil.oversize(length + 1, 1) : chunk.length];
+        System.arraycopy(chunk, end, next, 0, length - end);
+        length -= end;
+        chunk = next;
+      }
+    }
+    if (length > 0) {
+      this.split(ByteBuffer.wrap(chunk), length, true);
+    }
+  }
+
+  /**
+   * Split the first <code>length</code> bytes of the buffer into lines, and
+   * queue them. If it is not the last part of the input, the bytes after the
+   * last line feed are ignored.
+   *
+   * @return the number of bytes split into lines
+   */
+  private int split(final ByteBuffer buffer, final int length, final boolean last)
+  throws IOException {
+    Batch batch = new Batch(buffer, batchSize);
+    int start = 0;
+    for (int i = 0; i < length; i++) {
+      if (buffer.get(i) == '\n') {
+        final int end = i > start && buffer.get(i - 1) == '\r' ? i - 1 : i;
+        if (end > start) {
+          batch.add(start, end);
+          if (batch.size == batchSize) {
+            this.put(batch);
+            batch = new Batch(buffer, batchSize);
+          }
+        }
+        start = i + 1;
+      }
+    }
+    if (last && start < length) {
+      final int end = buffer.get(length - 1) == '\r' ? length - 1 : length;
+      if (end > start) {
+        batch.add(start, end);
+      }
+      start = length;
+    }
+    if (batch.size > 0) {
+      this.put(batch);
+    }
+    return start;
+  }
+
+  /**
+   * Queue a batch, waiting for space to become available. Commit and report
+   * the progress when needed.
+   */
+  private void put(final Batch batch) throws IOException {
+    try {
+      while (!queue.offer(batch, 100, TimeUnit.MILLISECONDS)) {
+        this.checkFailure(batch);
+      }
+    }
+    catch (final InterruptedException e) {
+      throw new ThreadInterruptedException(e);
+    }
+    if (batch == END) {
+      return;
+    }
+    this.checkFailure(batch);
+
+    if (commitInterval > 0 && docCount.get() >= nextCommit) {
+      writer.commit();
+      nextCommit = docCount.get() + commitInterval;
+    }
+    if (infoStream != null && System.currentTimeMillis() >= nextReport) {
+      this.report();
+      nextReport = System.currentTimeMillis() + reportInterval;
+    }
+  }
+
+  /**
+   * Stop reading the input if an indexing thread failed. The end of the input
+   * is still queued in order to stop the indexing threads.
+   */
+  private void checkFailure(final Batch batch) throws IOException {
+    if (batch != END && failure.get() != null) {
+      throw new IOException("Indexing failed", failure.get());
+    }
+  }
+
+  private void report() {
+    if (infoStream != null) {
+      final double seconds = Math.max(1, this.getElapsedMillis()) / 1000.0;
+      infoStream.println(String.format(Locale.ROOT,
+        "%d docs (%d failed), %.1f docs/sec, %.1f MB/sec",
+        docCount.get(), failedDocCount.get(), docCount.get() / seconds,
+        byteCount.get() / seconds / (1024 * 1024)));
+    }
+  }
+
+  /**
+   * A batch of lines of an input buffer.
+   */
+  private static final class Batch {
+
+    final ByteBuffer buffer;
+    final int[] starts;
+    final int[] ends;
+    int size = 0;
+
+    Batch(final ByteBuffer buffer, final int capacity) {
+      this.buffer = buffer;
+      starts = new int[capacity];
+      ends = new int[capacity];
+    }
+
+    void add(final int start, final int end) {
+      starts[size] = start;
+      ends[size] = end;
+      size++;
+    }
+
+  }
+
+  /**
+   * An indexing thread. It reuses its {@link Document} and
+   * {@link ReusableUTF8Reader}. After a failure, it takes the remaining
+   * batches without indexing them.
+   */
+  private final class Indexer implements Runnable {
+
+    private final ReusableUTF8Reader reader = new ReusableUTF8Reader();
+    private final Document doc = new Document();
+    private final Field jsonField;
+    private byte[] bytes = new byte[0];
+
+    Indexer() {
+      final FieldType type = new FieldType();
+      type.setIndexed(true);
+      type.setTokenized(true);
+      type.setIndexOptions(IndexOptions.DOCS_AND_FREQS_AND_POSITIONS);
+      type.freeze();
+      jsonField = new Field(field, reader, type);
+      doc.add(jsonField);
+    }
+
+    public void run() {
+      Batch batch;
+      try {
+        while ((batch = queue.take()) != END) {
+          if (failure.get() == null) {
+            try {
+              this.index(batch);
+            }
+            catch (final Throwable t) {
+              failure.compareAndSet(null, t);
+            }
+          }
+        }
+      }
+      catch (final InterruptedException e) {
+        failure.compareAndSet(null, new ThreadInterruptedException(e));
+      }
+    }
+
+    private void index(final Batch batch) throws IOException {
+      final ByteBuffer buffer = batch.buffer.duplicate();
+      final boolean hasArray = buffer.hasArray();
+      long indexed = 0, failed = 0, length = 0;
+      for (int i = 0; i < batch.size; i++) {
+        final int start = batch.starts[i];
+        final int len = batch.ends[i] - start;
+        if (hasArray) {
+          reader.reset(buffer.array(), buffer.arrayOffset() + start, len);
+        }
+        else {
+          bytes = ArrayUtil.grow(bytes, len);
+          buffer.position(start);
+          buffer.get(bytes, 0, len);
+          reader.reset(bytes, 0, len);
+        }
+        jsonField.setReaderValue(reader);
+        try {
+          writer.addDocument(doc);
+          indexed++;
+          length += len;
+        }
+        catch (final AlreadyClosedException e) {
+          throw e;
+        }
+        catch (final IllegalStateException e) {
+          // an invalid JSON document, it is deleted by the writer
+          failed++;
+          if (infoStream != null) {
+            infoStream.println("Skipped invalid document: " + e.getMessage());
+          }
+        }
+      }
+      docCount.addAndGet(indexed);
+      failedDocCount.addAndGet(failed);
+      byteCount.addAndGet(length);
+    }
+
+  }
+
+  /**
+   * Rebuild an index from files of newline-delimited JSON documents, with a
+   * {@link JsonAnalyzer} using an {@link AnyURIAnalyzer} for the field names,
+   * a {@link StandardAnalyzer} for the values, and numeric analyzers for the
+   * numbers. Run with:
+   * <pre>
+   * java -cp ... org.sindice.siren.index.bulk.JsonBulkIndexer [-threads N]
+   *   [-ram MB] [-commit DOCS] INDEX_DIR FILE...
+   * </pre>
+   */
+  public static void main(final String[] args) throws IOException {
+    final Version version = Version.LUCENE_40;
+    final JsonAnalyzer analyzer = new JsonAnalyzer(version,
+      new AnyURIAnalyzer(version), new StandardAnalyzer(version));
+    analyzer.registerDatatype(XSDDatatype.XSD_LONG.toCharArray(), new LongNumericAnalyzer(8));
+    analyzer.registerDatatype(XSDDatatype.XSD_DOUBLE.toCharArray(), new DoubleNumericAnalyzer(8));
+
+    int i = 0;
+    int threadCount = Runtime.getRuntime().availableProcessors();
+    double ramBufferSizeMB = 256;
+    long commitInterval = 0;
+    for (; i < args.length - 1 && args[i].startsWith("-"); i += 2) {
+      if (args[i].equals("-threads")) {
+        threadCount = Integer.parseInt(args[i + 1]);
+      }
+      else if (args[i].equals("-ram")) {
+        ramBufferSizeMB = Double.parseDouble(args[i + 1]);
+      }
+      else if (args[i].equals("-commit")) {
+        commitInterval = Long.parseLong(args[i + 1]);
+      }
+      else {
+        throw new IllegalArgumentException("Unknown option: " + args[i]);
+      }
+    }
+    if (args.length - i < 2) {
+      System.err.println("Usage: JsonBulkIndexer [-threads N] [-ram MB] " +
+        "[-commit DOCS] INDEX_DIR FILE...");
+      System.exit(1);
+    }
+
+    final Directory dir = FSDirectory.open(new File(args[i]));
+    final List<File> files = new ArrayList<File>();
+    for (final String path : Arrays.asList(args).subList(i + 1, args.length)) {
+      files.add(new File(path));
+    }
+    try {
+      final JsonBulkIndexer indexer = new JsonBulkIndexer(version, dir, analyzer);
+      indexer.setOpenMode(OpenMode.CREATE);
+      indexer.setThreadCount(threadCount);
+      indexer.setRAMBufferSizeMB(ramBufferSizeMB);
+      indexer.setCommitInterval(commitInterval);
+      indexer.setInfoStream(System.out, DEFAULT_REPORT_INTERVAL);
+      indexer.index(files);
+    }
+    finally {
+      dir.close();
+    }
+  }
+
+}
@@ -113,7 +113,7 @@ public class AForBlockCompressor extends BlockCompressor {
    * 0, we avoid such problem as 0 does not have consequence in the compression
    * instructions.
    */
-  private void prepareInputBuffer(final IntsRef input) {
+  protected void prepareInputBuffer(final IntsRef input) {
     final int[] ints = input.ints;
     final int length = input.length;
     // the number of windows
@@ -237,7 +237,7 @@ public class AForBlockCompressor extends BlockCompressor {
    *
    * @see http://graphics.stanford.edu/~seander/bithacks.html#IntegerLogLookup
    */
-  private static int logNextHigherPowerOf2(final long v) {
+  protected static int logNextHigherPowerOf2(final long v) {
     long t, tt;
 
     tt = v >> 16;
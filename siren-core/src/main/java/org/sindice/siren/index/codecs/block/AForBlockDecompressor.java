@@ -34,6 +34,9 @@ public class AForBlockDecompressor extends BlockDecompressor {
 
   protected final FrameDecompressor[] decompressors = AForFrameDecompressor.decompressors;
 
+  protected final AForFrameDeltaDecompressor.FrameDecompressor[] deltaDecompressors =
+    AForFrameDeltaDecompressor.decompressors;
+
   @Override
   public void decompress(final BytesRef input, final IntsRef output) {
     assert output.ints.length % 32 == 0;
@@ -49,6 +52,27 @@ public class AForBlockDecompressor extends BlockDecompressor {
     output.offset = 0;
   }
 
+  /**
+   * Decode the delta values within the frame decompressors, without a second
+   * pass over the output.
+   */
+  @Override
+  public void decompressDelta(final BytesRef input, final IntsRef output,
+                              final int base) {
+    assert output.ints.length % 32 == 0;
+    final byte[] compressedArray = input.bytes;
+
+    int acc = base;
+    while (input.offset < input.length) {
+      acc = this.deltaDecompressors[compressedArray[input.offset]].decompress(input, output, acc);
+    }
+
+    // flip buffer
+    input.offset = 0;
+    output.length = output.offset;
+    output.offset = 0;
+  }
+
   @Override
   public int getWindowSize() {
     return AForBlockCompressor.MAX_FRAME_SIZE;
@@ -23,13 +23,14 @@ package org.sindice.siren.index.codecs.block;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.Writer;
 
 /**
  * This class is used to generate {@link AForFrameDecompressor}.
  */
 public class AForFrameDecompressorGenerator {
 
-  private FileWriter writer;
+  protected Writer writer;
   public static final int[] frameSizes = new int[99];
   private final int[] MASK = { 0x00000000, 0x00000001, 0x00000003, 0x00000007, 0x0000000f, 0x0000001f, 0x0000003f,
                                0x0000007f, 0x000000ff, 0x000001ff, 0x000003ff, 0x000007ff, 0x00000fff, 0x00001fff,
@@ -406,7 +407,7 @@ public class AForFrameDecompressorGenerator {
     }
   }
 
-  private static final String FILE_HEADER =
+  protected static final String FILE_HEADER =
   "/**\n" +
   " * Copyright 2014 National University of Ireland, Galway.\n" +
   " *\n" +
@@ -0,0 +1,168 @@
+/**
+ * Copyright 2014 National University of Ireland, Galway.
+ *
+ * This file is part of the SIREn project. Project and contact information:
+ *
+ *  https://github.com/rdelbru/SIREn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.sindice.siren.index.codecs.block;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * This class is used to generate {@link AForFrameDeltaDecompressor}.
+ * <p>
+ * The frame decompressors are generated by {@link AForFrameDecompressorGenerator}
+ * and rewritten so that each decoded value is added, with an increment of one,
+ * to a running sum which is written to the output instead of the value.
+ */
+public class AForFrameDeltaDecompressorGenerator extends AForFrameDecompressorGenerator {
+
+  private static final String METHOD_SIGNATURE =
+    "    public final void decompress(final BytesRef input, final IntsRef output) {";
+
+  private static final String DELTA_METHOD_SIGNATURE =
+    "    public final int decompress(final BytesRef input, final IntsRef output, int acc) {";
+
+  private static final Pattern VALUE =
+    Pattern.compile("^(\\s+unCompressedData\\[outOffset(?: \\+ \\d+)?\\]) = (.*);$");
+
+  private static final Pattern OFFSET =
+    Pattern.compile("^(\\s+)(?:input|output)\\.offset \\+= \\d+;$");
+
+  public AForFrameDeltaDecompressorGenerator() throws IOException {
+    super();
+  }
+
+  @Override
+  public void generate(final File file) throws IOException {
+    writer = new FileWriter(file);
+    writer.append(FILE_HEADER.replace("AForFrameDecompressorGenerator.java",
+      "AForFrameDeltaDecompressorGenerator.java"));
+    writer.append('\n');
+    this.generateClass();
+    writer.close();
+  }
+
+  @Override
+  protected void generateClass() throws IOException {
+    writer.append("/**\n");
+    writer.append(" * This class contains a lookup table of functors for decompressing frames\n");
+    writer.append(" * of delta values. The prefix sum of the values, each one incremented by\n");
+    writer.append(" * one, is computed during the decompression of the frame.\n");
+    writer.append(" */\n");
+    writer.append("public class AForFrameDeltaDecompressor {\n\n");
+    this.generateTable();
+    this.generateAbstractInnerClass();
+    for (int i = 0; i < 99; i++) {
+      this.generateInnerClass(i);
+    }
+    writer.append("}\n");
+  }
+
+  @Override
+  protected void generateAbstractInnerClass() throws IOException {
+    writer.append("  static abstract class FrameDecompressor {\n");
+    writer.append("    /**\n");
+    writer.append("     * Decompress the frame and return the last value of the running sum.\n");
+    writer.append("     */\n");
+    writer.append("    public abstract int decompress(final BytesRef input, final IntsRef output, int acc);\n");
+    writer.append("  }\n\n");
+  }
+
+  @Override
+  protected void generateInnerClass(final int numFramebits) throws IOException {
+    final Writer fileWriter = writer;
+    final StringWriter buffer = new StringWriter();
+    writer = buffer;
+    try {
+      super.generateInnerClass(numFramebits);
+    }
+    finally {
+      writer = fileWriter;
+    }
+    writer.append(toDelta(buffer.toString(), METHOD_SIGNATURE, DELTA_METHOD_SIGNATURE));
+  }
+
+  /**
+   * Rewrite the code of a frame decompressor so that it computes the running
+   * sum of the decoded values and returns it.
+   *
+   * @param innerClass
+   *          The code of the frame decompressor.
+   * @param signature
+   *          The signature of its decompress method.
+   * @param deltaSignature
+   *          The signature of the delta decompress method, which declares the
+   *          <code>acc</code> parameter.
+   */
+  static String toDelta(final String innerClass, final String signature,
+                        final String deltaSignature) {
+    final StringBuilder out = new StringBuilder(innerClass.length() * 2);
+    final String[] lines = innerClass.split("\n", -1);
+    String returnIndent = null;
+    for (int i = 0; i < lines.length; i++) {
+      final String line = lines[i];
+      final Matcher value = VALUE.matcher(line);
+      final Matcher offset = OFFSET.matcher(line);
+      // the running sum is returned after the update of the buffer offsets
+      if (returnIndent != null && !offset.matches()) {
+        out.append(returnIndent).append("return acc;\n");
+        returnIndent = null;
+      }
+      if (line.equals(signature)) {
+        out.append(deltaSignature);
+      }
+      else if (value.matches()) {
+        out.append(value.group(1));
+        if (value.group(2).equals("0")) {
+          out.append(" = ++acc;");
+        }
+        else {
+          out.append(" = acc += (" + value.group(2) + ") + 1;");
+        }
+      }
+      else {
+        if (offset.matches()) {
+          returnIndent = offset.group(1);
+        }
+        out.append(line);
+      }
+      // the last element of the split is the empty string after the last line
+      if (i < lines.length - 1) {
+        out.append('\n');
+      }
+    }
+    return out.toString();
+  }
+
+  /**
+   * @param args
+   * @throws IOException
+   */
+  public static void main(final String[] args) throws IOException {
+    final File file = new File("./src/main/java/org/sindice/siren/index/codecs/block", "AForFrameDeltaDecompressor.java");
+    final AForFrameDeltaDecompressorGenerator generator = new AForFrameDeltaDecompressorGenerator();
+    generator.generate(file);
+  }
+
+}
@@ -0,0 +1,3753 @@
+/**
+ * Copyright 2014 National University of Ireland, Galway.
+ *
+ * This file is part of the SIREn project. Project and contact information:
+ *
+ *  https://github.com/rdelbru/SIREn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */ 
+/* This program is generated, do not modify. See AForFrameWordDecompressorGenerator.java */
+package org.sindice.siren.index.codecs.block;
+
+import java.nio.ByteBuffer;
+
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.IntsRef;
+
+/**
+ * This class contains a lookup table of functors for decompressing frames
+ * by words of 64 bits.
+ */
+public class AForFrameWordDecompressor {
+
+  public static final FrameDecompressor[] decompressors = new FrameDecompressor[] {
+    new FrameDecompressor0(),
+    new FrameDecompressor1(),
+    new FrameDecompressor2(),
+    new FrameDecompressor3(),
+    new FrameDecompressor4(),
+    new FrameDecompressor5(),
+    new FrameDecompressor6(),
+    new FrameDecompressor7(),
+    new FrameDecompressor8(),
+    new FrameDecompressor9(),
+    new FrameDecompressor10(),
+    new FrameDecompressor11(),
+    new FrameDecompressor12(),
+    new FrameDecompressor13(),
+    new FrameDecompressor14(),
+    new FrameDecompressor15(),
+    new FrameDecompressor16(),
+    new FrameDecompressor17(),
+    new FrameDecompressor18(),
+    new FrameDecompressor19(),
+    new FrameDecompressor20(),
+    new FrameDecompressor21(),
+    new FrameDecompressor22(),
+    new FrameDecompressor23(),
+    new FrameDecompressor24(),
+    new FrameDecompressor25(),
+    new FrameDecompressor26(),
+    new FrameDecompressor27(),
+    new FrameDecompressor28(),
+    new FrameDecompressor29(),
+    new FrameDecompressor30(),
+    new FrameDecompressor31(),
+    new FrameDecompressor32(),
+    new FrameDecompressor33(),
+    new FrameDecompressor34(),
+    new FrameDecompressor35(),
+    new FrameDecompressor36(),
+    new FrameDecompressor37(),
+    new FrameDecompressor38(),
+    new FrameDecompressor39(),
+    new FrameDecompressor40(),
+    new FrameDecompressor41(),
+    new FrameDecompressor42(),
+    new FrameDecompressor43(),
+    new FrameDecompressor44(),
+    new FrameDecompressor45(),
+    new FrameDecompressor46(),
+    new FrameDecompressor47(),
+    new FrameDecompressor48(),
+    new FrameDecompressor49(),
+    new FrameDecompressor50(),
+    new FrameDecompressor51(),
+    new FrameDecompressor52(),
+    new FrameDecompressor53(),
+    new FrameDecompressor54(),
+    new FrameDecompressor55(),
+    new FrameDecompressor56(),
+    new FrameDecompressor57(),
+    new FrameDecompressor58(),
+    new FrameDecompressor59(),
+    new FrameDecompressor60(),
+    new FrameDecompressor61(),
+    new FrameDecompressor62(),
+    new FrameDecompressor63(),
+    new FrameDecompressor64(),
+    new FrameDecompressor65(),
+    new FrameDecompressor66(),
+    new FrameDecompressor67(),
+    new FrameDecompressor68(),
+    new FrameDecompressor69(),
+    new FrameDecompressor70(),
+    new FrameDecompressor71(),
+    new FrameDecompressor72(),
+    new FrameDecompressor73(),
+    new FrameDecompressor74(),
+    new FrameDecompressor75(),
+    new FrameDecompressor76(),
+    new FrameDecompressor77(),
+    new FrameDecompressor78(),
+    new FrameDecompressor79(),
+    new FrameDecompressor80(),
+    new FrameDecompressor81(),
+    new FrameDecompressor82(),
+    new FrameDecompressor83(),
+    new FrameDecompressor84(),
+    new FrameDecompressor85(),
+    new FrameDecompressor86(),
+    new FrameDecompressor87(),
+    new FrameDecompressor88(),
+    new FrameDecompressor89(),
+    new FrameDecompressor90(),
+    new FrameDecompressor91(),
+    new FrameDecompressor92(),
+    new FrameDecompressor93(),
+    new FrameDecompressor94(),
+    new FrameDecompressor95(),
+    new FrameDecompressor96(),
+    new FrameDecompressor97(),
+    new FrameDecompressor98(),
+  };
+
+  static abstract class FrameDecompressor {
+    /**
+     * Decompress the frame. The buffer must wrap the byte array of the input.
+     */
+    public abstract void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output);
+  }
+
+  static final class FrameDecompressor0 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final int outOffset = output.offset;
+      unCompressedData[outOffset] = 0;
+      unCompressedData[outOffset + 1] = 0;
+      unCompressedData[outOffset + 2] = 0;
+      unCompressedData[outOffset + 3] = 0;
+      unCompressedData[outOffset + 4] = 0;
+      unCompressedData[outOffset + 5] = 0;
+      unCompressedData[outOffset + 6] = 0;
+      unCompressedData[outOffset + 7] = 0;
+      unCompressedData[outOffset + 8] = 0;
+      unCompressedData[outOffset + 9] = 0;
+      unCompressedData[outOffset + 10] = 0;
+      unCompressedData[outOffset + 11] = 0;
+      unCompressedData[outOffset + 12] = 0;
+      unCompressedData[outOffset + 13] = 0;
+      unCompressedData[outOffset + 14] = 0;
+      unCompressedData[outOffset + 15] = 0;
+      unCompressedData[outOffset + 16] = 0;
+      unCompressedData[outOffset + 17] = 0;
+      unCompressedData[outOffset + 18] = 0;
+      unCompressedData[outOffset + 19] = 0;
+      unCompressedData[outOffset + 20] = 0;
+      unCompressedData[outOffset + 21] = 0;
+      unCompressedData[outOffset + 22] = 0;
+      unCompressedData[outOffset + 23] = 0;
+      unCompressedData[outOffset + 24] = 0;
+      unCompressedData[outOffset + 25] = 0;
+      unCompressedData[outOffset + 26] = 0;
+      unCompressedData[outOffset + 27] = 0;
+      unCompressedData[outOffset + 28] = 0;
+      unCompressedData[outOffset + 29] = 0;
+      unCompressedData[outOffset + 30] = 0;
+      unCompressedData[outOffset + 31] = 0;
+      output.offset += 32;
+      input.offset += 1;
+  }
+  }
+
+  static final class FrameDecompressor1 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final byte[] compressedArray = input.bytes;
+      final int inOffset = input.offset + 1;
+      final int outOffset = output.offset;
+      final int i0 = ((compressedArray[inOffset + 0] & 0xFF) << 24) | ((compressedArray[inOffset + 1] & 0xFF) << 16) | ((compressedArray[inOffset + 2] & 0xFF) << 8) | ((compressedArray[inOffset + 3] & 0xFF));
+
+      unCompressedData[outOffset + 0] = (i0 >>> 31);
+      unCompressedData[outOffset + 1] = (i0 >>> 30) & 1;
+      unCompressedData[outOffset + 2] = (i0 >>> 29) & 1;
+      unCompressedData[outOffset + 3] = (i0 >>> 28) & 1;
+      unCompressedData[outOffset + 4] = (i0 >>> 27) & 1;
+      unCompressedData[outOffset + 5] = (i0 >>> 26) & 1;
+      unCompressedData[outOffset + 6] = (i0 >>> 25) & 1;
+      unCompressedData[outOffset + 7] = (i0 >>> 24) & 1;
+      unCompressedData[outOffset + 8] = (i0 >>> 23) & 1;
+      unCompressedData[outOffset + 9] = (i0 >>> 22) & 1;
+      unCompressedData[outOffset + 10] = (i0 >>> 21) & 1;
+      unCompressedData[outOffset + 11] = (i0 >>> 20) & 1;
+      unCompressedData[outOffset + 12] = (i0 >>> 19) & 1;
+      unCompressedData[outOffset + 13] = (i0 >>> 18) & 1;
+      unCompressedData[outOffset + 14] = (i0 >>> 17) & 1;
+      unCompressedData[outOffset + 15] = (i0 >>> 16) & 1;
+      unCompressedData[outOffset + 16] = (i0 >>> 15) & 1;
+      unCompressedData[outOffset + 17] = (i0 >>> 14) & 1;
+      unCompressedData[outOffset + 18] = (i0 >>> 13) & 1;
+      unCompressedData[outOffset + 19] = (i0 >>> 12) & 1;
+      unCompressedData[outOffset + 20] = (i0 >>> 11) & 1;
+      unCompressedData[outOffset + 21] = (i0 >>> 10) & 1;
+      unCompressedData[outOffset + 22] = (i0 >>> 9) & 1;
+      unCompressedData[outOffset + 23] = (i0 >>> 8) & 1;
+      unCompressedData[outOffset + 24] = (i0 >>> 7) & 1;
+      unCompressedData[outOffset + 25] = (i0 >>> 6) & 1;
+      unCompressedData[outOffset + 26] = (i0 >>> 5) & 1;
+      unCompressedData[outOffset + 27] = (i0 >>> 4) & 1;
+      unCompressedData[outOffset + 28] = (i0 >>> 3) & 1;
+      unCompressedData[outOffset + 29] = (i0 >>> 2) & 1;
+      unCompressedData[outOffset + 30] = (i0 >>> 1) & 1;
+      unCompressedData[outOffset + 31] = i0 & 1;
+      input.offset += 5;
+      output.offset += 32;
+    }
+  }
+
+  static final class FrameDecompressor2 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final byte[] compressedArray = input.bytes;
+      final int inOffset = input.offset + 1;
+      final int outOffset = output.offset;
+      final int i0 = ((compressedArray[inOffset + 0] & 0xFF) << 24) | ((compressedArray[inOffset + 1] & 0xFF) << 16) | ((compressedArray[inOffset + 2] & 0xFF) << 8) | ((compressedArray[inOffset + 3] & 0xFF));
+      final int i1 = ((compressedArray[inOffset + 4] & 0xFF) << 24) | ((compressedArray[inOffset + 5] & 0xFF) << 16) | ((compressedArray[inOffset + 6] & 0xFF) << 8) | ((compressedArray[inOffset + 7] & 0xFF));
+
+      unCompressedData[outOffset + 0] = (i0 >>> 30);
+      unCompressedData[outOffset + 1] = (i0 >>> 28) & 3;
+      unCompressedData[outOffset + 2] = (i0 >>> 26) & 3;
+      unCompressedData[outOffset + 3] = (i0 >>> 24) & 3;
+      unCompressedData[outOffset + 4] = (i0 >>> 22) & 3;
+      unCompressedData[outOffset + 5] = (i0 >>> 20) & 3;
+      unCompressedData[outOffset + 6] = (i0 >>> 18) & 3;
+      unCompressedData[outOffset + 7] = (i0 >>> 16) & 3;
+      unCompressedData[outOffset + 8] = (i0 >>> 14) & 3;
+      unCompressedData[outOffset + 9] = (i0 >>> 12) & 3;
+      unCompressedData[outOffset + 10] = (i0 >>> 10) & 3;
+      unCompressedData[outOffset + 11] = (i0 >>> 8) & 3;
+      unCompressedData[outOffset + 12] = (i0 >>> 6) & 3;
+      unCompressedData[outOffset + 13] = (i0 >>> 4) & 3;
+      unCompressedData[outOffset + 14] = (i0 >>> 2) & 3;
+      unCompressedData[outOffset + 15] = i0 & 3;
+      unCompressedData[outOffset + 16] = (i1 >>> 30);
+      unCompressedData[outOffset + 17] = (i1 >>> 28) & 3;
+      unCompressedData[outOffset + 18] = (i1 >>> 26) & 3;
+      unCompressedData[outOffset + 19] = (i1 >>> 24) & 3;
+      unCompressedData[outOffset + 20] = (i1 >>> 22) & 3;
+      unCompressedData[outOffset + 21] = (i1 >>> 20) & 3;
+      unCompressedData[outOffset + 22] = (i1 >>> 18) & 3;
+      unCompressedData[outOffset + 23] = (i1 >>> 16) & 3;
+      unCompressedData[outOffset + 24] = (i1 >>> 14) & 3;
+      unCompressedData[outOffset + 25] = (i1 >>> 12) & 3;
+      unCompressedData[outOffset + 26] = (i1 >>> 10) & 3;
+      unCompressedData[outOffset + 27] = (i1 >>> 8) & 3;
+      unCompressedData[outOffset + 28] = (i1 >>> 6) & 3;
+      unCompressedData[outOffset + 29] = (i1 >>> 4) & 3;
+      unCompressedData[outOffset + 30] = (i1 >>> 2) & 3;
+      unCompressedData[outOffset + 31] = i1 & 3;
+      input.offset += 9;
+      output.offset += 32;
+    }
+  }
+
+  static final class FrameDecompressor3 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final byte[] compressedArray = input.bytes;
+      final int inOffset = input.offset + 1;
+      final int outOffset = output.offset;
+      final int i0 = ((compressedArray[inOffset + 0] & 0xFF) << 24) | ((compressedArray[inOffset + 1] & 0xFF) << 16) | ((compressedArray[inOffset + 2] & 0xFF) << 8) | ((compressedArray[inOffset + 3] & 0xFF));
+      final int i1 = ((compressedArray[inOffset + 4] & 0xFF) << 24) | ((compressedArray[inOffset + 5] & 0xFF) << 16) | ((compressedArray[inOffset + 6] & 0xFF) << 8) | ((compressedArray[inOffset + 7] & 0xFF));
+      final int i2 = ((compressedArray[inOffset + 8] & 0xFF) << 24) | ((compressedArray[inOffset + 9] & 0xFF) << 16) | ((compressedArray[inOffset + 10] & 0xFF) << 8) | ((compressedArray[inOffset + 11] & 0xFF));
+
+      unCompressedData[outOffset + 0] = (i0 >>> 29);
+      unCompressedData[outOffset + 1] = (i0 >>> 26) & 7;
+      unCompressedData[outOffset + 2] = (i0 >>> 23) & 7;
+      unCompressedData[outOffset + 3] = (i0 >>> 20) & 7;
+      unCompressedData[outOffset + 4] = (i0 >>> 17) & 7;
+      unCompressedData[outOffset + 5] = (i0 >>> 14) & 7;
+      unCompressedData[outOffset + 6] = (i0 >>> 11) & 7;
+      unCompressedData[outOffset + 7] = (i0 >>> 8) & 7;
+      unCompressedData[outOffset + 8] = (i0 >>> 5) & 7;
+      unCompressedData[outOffset + 9] = (i0 >>> 2) & 7;
+      unCompressedData[outOffset + 10] = ((i0 << 1) | (i1 >>> 31)) & 7;
+      unCompressedData[outOffset + 11] = (i1 >>> 28) & 7;
+      unCompressedData[outOffset + 12] = (i1 >>> 25) & 7;
+      unCompressedData[outOffset + 13] = (i1 >>> 22) & 7;
+      unCompressedData[outOffset + 14] = (i1 >>> 19) & 7;
+      unCompressedData[outOffset + 15] = (i1 >>> 16) & 7;
+      unCompressedData[outOffset + 16] = (i1 >>> 13) & 7;
+      unCompressedData[outOffset + 17] = (i1 >>> 10) & 7;
+      unCompressedData[outOffset + 18] = (i1 >>> 7) & 7;
+      unCompressedData[outOffset + 19] = (i1 >>> 4) & 7;
+      unCompressedData[outOffset + 20] = (i1 >>> 1) & 7;
+      unCompressedData[outOffset + 21] = ((i1 << 2) | (i2 >>> 30)) & 7;
+      unCompressedData[outOffset + 22] = (i2 >>> 27) & 7;
+      unCompressedData[outOffset + 23] = (i2 >>> 24) & 7;
+      unCompressedData[outOffset + 24] = (i2 >>> 21) & 7;
+      unCompressedData[outOffset + 25] = (i2 >>> 18) & 7;
+      unCompressedData[outOffset + 26] = (i2 >>> 15) & 7;
+      unCompressedData[outOffset + 27] = (i2 >>> 12) & 7;
+      unCompressedData[outOffset + 28] = (i2 >>> 9) & 7;
+      unCompressedData[outOffset + 29] = (i2 >>> 6) & 7;
+      unCompressedData[outOffset + 30] = (i2 >>> 3) & 7;
+      unCompressedData[outOffset + 31] = i2 & 7;
+      input.offset += 13;
+      output.offset += 32;
+    }
+  }
+
+  static final class FrameDecompressor4 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final byte[] compressedArray = input.bytes;
+      final int inOffset = input.offset + 1;
+      final int outOffset = output.offset;
+      final int i0 = ((compressedArray[inOffset + 0] & 0xFF) << 24) | ((compressedArray[inOffset + 1] & 0xFF) << 16) | ((compressedArray[inOffset + 2] & 0xFF) << 8) | ((compressedArray[inOffset + 3] & 0xFF));
+      final int i1 = ((compressedArray[inOffset + 4] & 0xFF) << 24) | ((compressedArray[inOffset + 5] & 0xFF) << 16) | ((compressedArray[inOffset + 6] & 0xFF) << 8) | ((compressedArray[inOffset + 7] & 0xFF));
+      final int i2 = ((compressedArray[inOffset + 8] & 0xFF) << 24) | ((compressedArray[inOffset + 9] & 0xFF) << 16) | ((compressedArray[inOffset + 10] & 0xFF) << 8) | ((compressedArray[inOffset + 11] & 0xFF));
+      final int i3 = ((compressedArray[inOffset + 12] & 0xFF) << 24) | ((compressedArray[inOffset + 13] & 0xFF) << 16) | ((compressedArray[inOffset + 14] & 0xFF) << 8) | ((compressedArray[inOffset + 15] & 0xFF));
+
+      unCompressedData[outOffset + 0] = (i0 >>> 28);
+      unCompressedData[outOffset + 1] = (i0 >>> 24) & 15;
+      unCompressedData[outOffset + 2] = (i0 >>> 20) & 15;
+      unCompressedData[outOffset + 3] = (i0 >>> 16) & 15;
+      unCompressedData[outOffset + 4] = (i0 >>> 12) & 15;
+      unCompressedData[outOffset + 5] = (i0 >>> 8) & 15;
+      unCompressedData[outOffset + 6] = (i0 >>> 4) & 15;
+      unCompressedData[outOffset + 7] = i0 & 15;
+      unCompressedData[outOffset + 8] = (i1 >>> 28);
+      unCompressedData[outOffset + 9] = (i1 >>> 24) & 15;
+      unCompressedData[outOffset + 10] = (i1 >>> 20) & 15;
+      unCompressedData[outOffset + 11] = (i1 >>> 16) & 15;
+      unCompressedData[outOffset + 12] = (i1 >>> 12) & 15;
+      unCompressedData[outOffset + 13] = (i1 >>> 8) & 15;
+      unCompressedData[outOffset + 14] = (i1 >>> 4) & 15;
+      unCompressedData[outOffset + 15] = i1 & 15;
+      unCompressedData[outOffset + 16] = (i2 >>> 28);
+      unCompressedData[outOffset + 17] = (i2 >>> 24) & 15;
+      unCompressedData[outOffset + 18] = (i2 >>> 20) & 15;
+      unCompressedData[outOffset + 19] = (i2 >>> 16) & 15;
+      unCompressedData[outOffset + 20] = (i2 >>> 12) & 15;
+      unCompressedData[outOffset + 21] = (i2 >>> 8) & 15;
+      unCompressedData[outOffset + 22] = (i2 >>> 4) & 15;
+      unCompressedData[outOffset + 23] = i2 & 15;
+      unCompressedData[outOffset + 24] = (i3 >>> 28);
+      unCompressedData[outOffset + 25] = (i3 >>> 24) & 15;
+      unCompressedData[outOffset + 26] = (i3 >>> 20) & 15;
+      unCompressedData[outOffset + 27] = (i3 >>> 16) & 15;
+      unCompressedData[outOffset + 28] = (i3 >>> 12) & 15;
+      unCompressedData[outOffset + 29] = (i3 >>> 8) & 15;
+      unCompressedData[outOffset + 30] = (i3 >>> 4) & 15;
+      unCompressedData[outOffset + 31] = i3 & 15;
+      input.offset += 17;
+      output.offset += 32;
+    }
+  }
+
+  static final class FrameDecompressor5 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final byte[] compressedArray = input.bytes;
+      final int inOffset = input.offset + 1;
+      final int outOffset = output.offset;
+      final int i0 = ((compressedArray[inOffset + 0] & 0xFF) << 24) | ((compressedArray[inOffset + 1] & 0xFF) << 16) | ((compressedArray[inOffset + 2] & 0xFF) << 8) | ((compressedArray[inOffset + 3] & 0xFF));
+      final int i1 = ((compressedArray[inOffset + 4] & 0xFF) << 24) | ((compressedArray[inOffset + 5] & 0xFF) << 16) | ((compressedArray[inOffset + 6] & 0xFF) << 8) | ((compressedArray[inOffset + 7] & 0xFF));
+      final int i2 = ((compressedArray[inOffset + 8] & 0xFF) << 24) | ((compressedArray[inOffset + 9] & 0xFF) << 16) | ((compressedArray[inOffset + 10] & 0xFF) << 8) | ((compressedArray[inOffset + 11] & 0xFF));
+      final int i3 = ((compressedArray[inOffset + 12] & 0xFF) << 24) | ((compressedArray[inOffset + 13] & 0xFF) << 16) | ((compressedArray[inOffset + 14] & 0xFF) << 8) | ((compressedArray[inOffset + 15] & 0xFF));
+      final int i4 = ((compressedArray[inOffset + 16] & 0xFF) << 24) | ((compressedArray[inOffset + 17] & 0xFF) << 16) | ((compressedArray[inOffset + 18] & 0xFF) << 8) | ((compressedArray[inOffset + 19] & 0xFF));
+
+      unCompressedData[outOffset + 0] = (i0 >>> 27);
+      unCompressedData[outOffset + 1] = (i0 >>> 22) & 31;
+      unCompressedData[outOffset + 2] = (i0 >>> 17) & 31;
+      unCompressedData[outOffset + 3] = (i0 >>> 12) & 31;
+      unCompressedData[outOffset + 4] = (i0 >>> 7) & 31;
+      unCompressedData[outOffset + 5] = (i0 >>> 2) & 31;
+      unCompressedData[outOffset + 6] = ((i0 << 3) | (i1 >>> 29)) & 31;
+      unCompressedData[outOffset + 7] = (i1 >>> 24) & 31;
+      unCompressedData[outOffset + 8] = (i1 >>> 19) & 31;
+      unCompressedData[outOffset + 9] = (i1 >>> 14) & 31;
+      unCompressedData[outOffset + 10] = (i1 >>> 9) & 31;
+      unCompressedData[outOffset + 11] = (i1 >>> 4) & 31;
+      unCompressedData[outOffset + 12] = ((i1 << 1) | (i2 >>> 31)) & 31;
+      unCompressedData[outOffset + 13] = (i2 >>> 26) & 31;
+      unCompressedData[outOffset + 14] = (i2 >>> 21) & 31;
+      unCompressedData[outOffset + 15] = (i2 >>> 16) & 31;
+      unCompressedData[outOffset + 16] = (i2 >>> 11) & 31;
+      unCompressedData[outOffset + 17] = (i2 >>> 6) & 31;
+      unCompressedData[outOffset + 18] = (i2 >>> 1) & 31;
+      unCompressedData[outOffset + 19] = ((i2 << 4) | (i3 >>> 28)) & 31;
+      unCompressedData[outOffset + 20] = (i3 >>> 23) & 31;
+      unCompressedData[outOffset + 21] = (i3 >>> 18) & 31;
+      unCompressedData[outOffset + 22] = (i3 >>> 13) & 31;
+      unCompressedData[outOffset + 23] = (i3 >>> 8) & 31;
+      unCompressedData[outOffset + 24] = (i3 >>> 3) & 31;
+      unCompressedData[outOffset + 25] = ((i3 << 2) | (i4 >>> 30)) & 31;
+      unCompressedData[outOffset + 26] = (i4 >>> 25) & 31;
+      unCompressedData[outOffset + 27] = (i4 >>> 20) & 31;
+      unCompressedData[outOffset + 28] = (i4 >>> 15) & 31;
+      unCompressedData[outOffset + 29] = (i4 >>> 10) & 31;
+      unCompressedData[outOffset + 30] = (i4 >>> 5) & 31;
+      unCompressedData[outOffset + 31] = i4 & 31;
+      input.offset += 21;
+      output.offset += 32;
+    }
+  }
+
+  static final class FrameDecompressor6 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final byte[] compressedArray = input.bytes;
+      final int inOffset = input.offset + 1;
+      final int outOffset = output.offset;
+      final int i0 = ((compressedArray[inOffset + 0] & 0xFF) << 24) | ((compressedArray[inOffset + 1] & 0xFF) << 16) | ((compressedArray[inOffset + 2] & 0xFF) << 8) | ((compressedArray[inOffset + 3] & 0xFF));
+      final int i1 = ((compressedArray[inOffset + 4] & 0xFF) << 24) | ((compressedArray[inOffset + 5] & 0xFF) << 16) | ((compressedArray[inOffset + 6] & 0xFF) << 8) | ((compressedArray[inOffset + 7] & 0xFF));
+      final int i2 = ((compressedArray[inOffset + 8] & 0xFF) << 24) | ((compressedArray[inOffset + 9] & 0xFF) << 16) | ((compressedArray[inOffset + 10] & 0xFF) << 8) | ((compressedArray[inOffset + 11] & 0xFF));
+      final int i3 = ((compressedArray[inOffset + 12] & 0xFF) << 24) | ((compressedArray[inOffset + 13] & 0xFF) << 16) | ((compressedArray[inOffset + 14] & 0xFF) << 8) | ((compressedArray[inOffset + 15] & 0xFF));
+      final int i4 = ((compressedArray[inOffset + 16] & 0xFF) << 24) | ((compressedArray[inOffset + 17] & 0xFF) << 16) | ((compressedArray[inOffset + 18] & 0xFF) << 8) | ((compressedArray[inOffset + 19] & 0xFF));
+      final int i5 = ((compressedArray[inOffset + 20] & 0xFF) << 24) | ((compressedArray[inOffset + 21] & 0xFF) << 16) | ((compressedArray[inOffset + 22] & 0xFF) << 8) | ((compressedArray[inOffset + 23] & 0xFF));
+
+      unCompressedData[outOffset + 0] = (i0 >>> 26);
+      unCompressedData[outOffset + 1] = (i0 >>> 20) & 63;
+      unCompressedData[outOffset + 2] = (i0 >>> 14) & 63;
+      unCompressedData[outOffset + 3] = (i0 >>> 8) & 63;
+      unCompressedData[outOffset + 4] = (i0 >>> 2) & 63;
+      unCompressedData[outOffset + 5] = ((i0 << 4) | (i1 >>> 28)) & 63;
+      unCompressedData[outOffset + 6] = (i1 >>> 22) & 63;
+      unCompressedData[outOffset + 7] = (i1 >>> 16) & 63;
+      unCompressedData[outOffset + 8] = (i1 >>> 10) & 63;
+      unCompressedData[outOffset + 9] = (i1 >>> 4) & 63;
+      unCompressedData[outOffset + 10] = ((i1 << 2) | (i2 >>> 30)) & 63;
+      unCompressedData[outOffset + 11] = (i2 >>> 24) & 63;
+      unCompressedData[outOffset + 12] = (i2 >>> 18) & 63;
+      unCompressedData[outOffset + 13] = (i2 >>> 12) & 63;
+      unCompressedData[outOffset + 14] = (i2 >>> 6) & 63;
+      unCompressedData[outOffset + 15] = i2 & 63;
+      unCompressedData[outOffset + 16] = (i3 >>> 26);
+      unCompressedData[outOffset + 17] = (i3 >>> 20) & 63;
+      unCompressedData[outOffset + 18] = (i3 >>> 14) & 63;
+      unCompressedData[outOffset + 19] = (i3 >>> 8) & 63;
+      unCompressedData[outOffset + 20] = (i3 >>> 2) & 63;
+      unCompressedData[outOffset + 21] = ((i3 << 4) | (i4 >>> 28)) & 63;
+      unCompressedData[outOffset + 22] = (i4 >>> 22) & 63;
+      unCompressedData[outOffset + 23] = (i4 >>> 16) & 63;
+      unCompressedData[outOffset + 24] = (i4 >>> 10) & 63;
+      unCompressedData[outOffset + 25] = (i4 >>> 4) & 63;
+      unCompressedData[outOffset + 26] = ((i4 << 2) | (i5 >>> 30)) & 63;
+      unCompressedData[outOffset + 27] = (i5 >>> 24) & 63;
+      unCompressedData[outOffset + 28] = (i5 >>> 18) & 63;
+      unCompressedData[outOffset + 29] = (i5 >>> 12) & 63;
+      unCompressedData[outOffset + 30] = (i5 >>> 6) & 63;
+      unCompressedData[outOffset + 31] = i5 & 63;
+      input.offset += 25;
+      output.offset += 32;
+    }
+  }
+
+  static final class FrameDecompressor7 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final byte[] compressedArray = input.bytes;
+      final int inOffset = input.offset + 1;
+      final int outOffset = output.offset;
+      final int i0 = ((compressedArray[inOffset + 0] & 0xFF) << 24) | ((compressedArray[inOffset + 1] & 0xFF) << 16) | ((compressedArray[inOffset + 2] & 0xFF) << 8) | ((compressedArray[inOffset + 3] & 0xFF));
+      final int i1 = ((compressedArray[inOffset + 4] & 0xFF) << 24) | ((compressedArray[inOffset + 5] & 0xFF) << 16) | ((compressedArray[inOffset + 6] & 0xFF) << 8) | ((compressedArray[inOffset + 7] & 0xFF));
+      final int i2 = ((compressedArray[inOffset + 8] & 0xFF) << 24) | ((compressedArray[inOffset + 9] & 0xFF) << 16) | ((compressedArray[inOffset + 10] & 0xFF) << 8) | ((compressedArray[inOffset + 11] & 0xFF));
+      final int i3 = ((compressedArray[inOffset + 12] & 0xFF) << 24) | ((compressedArray[inOffset + 13] & 0xFF) << 16) | ((compressedArray[inOffset + 14] & 0xFF) << 8) | ((compressedArray[inOffset + 15] & 0xFF));
+      final int i4 = ((compressedArray[inOffset + 16] & 0xFF) << 24) | ((compressedArray[inOffset + 17] & 0xFF) << 16) | ((compressedArray[inOffset + 18] & 0xFF) << 8) | ((compressedArray[inOffset + 19] & 0xFF));
+      final int i5 = ((compressedArray[inOffset + 20] & 0xFF) << 24) | ((compressedArray[inOffset + 21] & 0xFF) << 16) | ((compressedArray[inOffset + 22] & 0xFF) << 8) | ((compressedArray[inOffset + 23] & 0xFF));
+      final int i6 = ((compressedArray[inOffset + 24] & 0xFF) << 24) | ((compressedArray[inOffset + 25] & 0xFF) << 16) | ((compressedArray[inOffset + 26] & 0xFF) << 8) | ((compressedArray[inOffset + 27] & 0xFF));
+
+      unCompressedData[outOffset + 0] = (i0 >>> 25);
+      unCompressedData[outOffset + 1] = (i0 >>> 18) & 127;
+      unCompressedData[outOffset + 2] = (i0 >>> 11) & 127;
+      unCompressedData[outOffset + 3] = (i0 >>> 4) & 127;
+      unCompressedData[outOffset + 4] = ((i0 << 3) | (i1 >>> 29)) & 127;
+      unCompressedData[outOffset + 5] = (i1 >>> 22) & 127;
+      unCompressedData[outOffset + 6] = (i1 >>> 15) & 127;
+      unCompressedData[outOffset + 7] = (i1 >>> 8) & 127;
+      unCompressedData[outOffset + 8] = (i1 >>> 1) & 127;
+      unCompressedData[outOffset + 9] = ((i1 << 6) | (i2 >>> 26)) & 127;
+      unCompressedData[outOffset + 10] = (i2 >>> 19) & 127;
+      unCompressedData[outOffset + 11] = (i2 >>> 12) & 127;
+      unCompressedData[outOffset + 12] = (i2 >>> 5) & 127;
+      unCompressedData[outOffset + 13] = ((i2 << 2) | (i3 >>> 30)) & 127;
+      unCompressedData[outOffset + 14] = (i3 >>> 23) & 127;
+      unCompressedData[outOffset + 15] = (i3 >>> 16) & 127;
+      unCompressedData[outOffset + 16] = (i3 >>> 9) & 127;
+      unCompressedData[outOffset + 17] = (i3 >>> 2) & 127;
+      unCompressedData[outOffset + 18] = ((i3 << 5) | (i4 >>> 27)) & 127;
+      unCompressedData[outOffset + 19] = (i4 >>> 20) & 127;
+      unCompressedData[outOffset + 20] = (i4 >>> 13) & 127;
+      unCompressedData[outOffset + 21] = (i4 >>> 6) & 127;
+      unCompressedData[outOffset + 22] = ((i4 << 1) | (i5 >>> 31)) & 127;
+      unCompressedData[outOffset + 23] = (i5 >>> 24) & 127;
+      unCompressedData[outOffset + 24] = (i5 >>> 17) & 127;
+      unCompressedData[outOffset + 25] = (i5 >>> 10) & 127;
+      unCompressedData[outOffset + 26] = (i5 >>> 3) & 127;
+      unCompressedData[outOffset + 27] = ((i5 << 4) | (i6 >>> 28)) & 127;
+      unCompressedData[outOffset + 28] = (i6 >>> 21) & 127;
+      unCompressedData[outOffset + 29] = (i6 >>> 14) & 127;
+      unCompressedData[outOffset + 30] = (i6 >>> 7) & 127;
+      unCompressedData[outOffset + 31] = i6 & 127;
+      input.offset += 29;
+      output.offset += 32;
+    }
+  }
+
+  static final class FrameDecompressor8 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final byte[] compressedArray = input.bytes;
+      final int inOffset = input.offset + 1;
+      final int outOffset = output.offset;
+      final int i0 = ((compressedArray[inOffset + 0] & 0xFF) << 24) | ((compressedArray[inOffset + 1] & 0xFF) << 16) | ((compressedArray[inOffset + 2] & 0xFF) << 8) | ((compressedArray[inOffset + 3] & 0xFF));
+      final int i1 = ((compressedArray[inOffset + 4] & 0xFF) << 24) | ((compressedArray[inOffset + 5] & 0xFF) << 16) | ((compressedArray[inOffset + 6] & 0xFF) << 8) | ((compressedArray[inOffset + 7] & 0xFF));
+      final int i2 = ((compressedArray[inOffset + 8] & 0xFF) << 24) | ((compressedArray[inOffset + 9] & 0xFF) << 16) | ((compressedArray[inOffset + 10] & 0xFF) << 8) | ((compressedArray[inOffset + 11] & 0xFF));
+      final int i3 = ((compressedArray[inOffset + 12] & 0xFF) << 24) | ((compressedArray[inOffset + 13] & 0xFF) << 16) | ((compressedArray[inOffset + 14] & 0xFF) << 8) | ((compressedArray[inOffset + 15] & 0xFF));
+      final int i4 = ((compressedArray[inOffset + 16] & 0xFF) << 24) | ((compressedArray[inOffset + 17] & 0xFF) << 16) | ((compressedArray[inOffset + 18] & 0xFF) << 8) | ((compressedArray[inOffset + 19] & 0xFF));
+      final int i5 = ((compressedArray[inOffset + 20] & 0xFF) << 24) | ((compressedArray[inOffset + 21] & 0xFF) << 16) | ((compressedArray[inOffset + 22] & 0xFF) << 8) | ((compressedArray[inOffset + 23] & 0xFF));
+      final int i6 = ((compressedArray[inOffset + 24] & 0xFF) << 24) | ((compressedArray[inOffset + 25] & 0xFF) << 16) | ((compressedArray[inOffset + 26] & 0xFF) << 8) | ((compressedArray[inOffset + 27] & 0xFF));
+      final int i7 = ((compressedArray[inOffset + 28] & 0xFF) << 24) | ((compressedArray[inOffset + 29] & 0xFF) << 16) | ((compressedArray[inOffset + 30] & 0xFF) << 8) | ((compressedArray[inOffset + 31] & 0xFF));
+
+      unCompressedData[outOffset + 0] = (i0 >>> 24);
+      unCompressedData[outOffset + 1] = (i0 >>> 16) & 255;
+      unCompressedData[outOffset + 2] = (i0 >>> 8) & 255;
+      unCompressedData[outOffset + 3] = i0 & 255;
+      unCompressedData[outOffset + 4] = (i1 >>> 24);
+      unCompressedData[outOffset + 5] = (i1 >>> 16) & 255;
+      unCompressedData[outOffset + 6] = (i1 >>> 8) & 255;
+      unCompressedData[outOffset + 7] = i1 & 255;
+      unCompressedData[outOffset + 8] = (i2 >>> 24);
+      unCompressedData[outOffset + 9] = (i2 >>> 16) & 255;
+      unCompressedData[outOffset + 10] = (i2 >>> 8) & 255;
+      unCompressedData[outOffset + 11] = i2 & 255;
+      unCompressedData[outOffset + 12] = (i3 >>> 24);
+      unCompressedData[outOffset + 13] = (i3 >>> 16) & 255;
+      unCompressedData[outOffset + 14] = (i3 >>> 8) & 255;
+      unCompressedData[outOffset + 15] = i3 & 255;
+      unCompressedData[outOffset + 16] = (i4 >>> 24);
+      unCompressedData[outOffset + 17] = (i4 >>> 16) & 255;
+      unCompressedData[outOffset + 18] = (i4 >>> 8) & 255;
+      unCompressedData[outOffset + 19] = i4 & 255;
+      unCompressedData[outOffset + 20] = (i5 >>> 24);
+      unCompressedData[outOffset + 21] = (i5 >>> 16) & 255;
+      unCompressedData[outOffset + 22] = (i5 >>> 8) & 255;
+      unCompressedData[outOffset + 23] = i5 & 255;
+      unCompressedData[outOffset + 24] = (i6 >>> 24);
+      unCompressedData[outOffset + 25] = (i6 >>> 16) & 255;
+      unCompressedData[outOffset + 26] = (i6 >>> 8) & 255;
+      unCompressedData[outOffset + 27] = i6 & 255;
+      unCompressedData[outOffset + 28] = (i7 >>> 24);
+      unCompressedData[outOffset + 29] = (i7 >>> 16) & 255;
+      unCompressedData[outOffset + 30] = (i7 >>> 8) & 255;
+      unCompressedData[outOffset + 31] = i7 & 255;
+      input.offset += 33;
+      output.offset += 32;
+    }
+  }
+
+  static final class FrameDecompressor9 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final byte[] compressedArray = input.bytes;
+      final int inOffset = input.offset + 1;
+      final int outOffset = output.offset;
+      final long w0 = buffer.getLong(inOffset + 0);
+      final long w1 = buffer.getLong(inOffset + 8);
+      final long w2 = buffer.getLong(inOffset + 16);
+      final long w3 = buffer.getLong(inOffset + 24);
+      final long w4 = ((compressedArray[inOffset + 32] & 0xFFL) << 56) | ((compressedArray[inOffset + 33] & 0xFFL) << 48) | ((compressedArray[inOffset + 34] & 0xFFL) << 40) | ((compressedArray[inOffset + 35] & 0xFFL) << 32);
+
+      unCompressedData[outOffset + 0] = (int) (w0 >>> 55);
+      unCompressedData[outOffset + 1] = ((int) (w0 >>> 46)) & 511;
+      unCompressedData[outOffset + 2] = ((int) (w0 >>> 37)) & 511;
+      unCompressedData[outOffset + 3] = ((int) (w0 >>> 28)) & 511;
+      unCompressedData[outOffset + 4] = ((int) (w0 >>> 19)) & 511;
+      unCompressedData[outOffset + 5] = ((int) (w0 >>> 10)) & 511;
+      unCompressedData[outOffset + 6] = ((int) (w0 >>> 1)) & 511;
+      unCompressedData[outOffset + 7] = ((int) ((w0 << 8) | (w1 >>> 56))) & 511;
+      unCompressedData[outOffset + 8] = ((int) (w1 >>> 47)) & 511;
+      unCompressedData[outOffset + 9] = ((int) (w1 >>> 38)) & 511;
+      unCompressedData[outOffset + 10] = ((int) (w1 >>> 29)) & 511;
+      unCompressedData[outOffset + 11] = ((int) (w1 >>> 20)) & 511;
+      unCompressedData[outOffset + 12] = ((int) (w1 >>> 11)) & 511;
+      unCompressedData[outOffset + 13] = ((int) (w1 >>> 2)) & 511;
+      unCompressedData[outOffset + 14] = ((int) ((w1 << 7) | (w2 >>> 57))) & 511;
+      unCompressedData[outOffset + 15] = ((int) (w2 >>> 48)) & 511;
+      unCompressedData[outOffset + 16] = ((int) (w2 >>> 39)) & 511;
+      unCompressedData[outOffset + 17] = ((int) (w2 >>> 30)) & 511;
+      unCompressedData[outOffset + 18] = ((int) (w2 >>> 21)) & 511;
+      unCompressedData[outOffset + 19] = ((int) (w2 >>> 12)) & 511;
+      unCompressedData[outOffset + 20] = ((int) (w2 >>> 3)) & 511;
+      unCompressedData[outOffset + 21] = ((int) ((w2 << 6) | (w3 >>> 58))) & 511;
+      unCompressedData[outOffset + 22] = ((int) (w3 >>> 49)) & 511;
+      unCompressedData[outOffset + 23] = ((int) (w3 >>> 40)) & 511;
+      unCompressedData[outOffset + 24] = ((int) (w3 >>> 31)) & 511;
+      unCompressedData[outOffset + 25] = ((int) (w3 >>> 22)) & 511;
+      unCompressedData[outOffset + 26] = ((int) (w3 >>> 13)) & 511;
+      unCompressedData[outOffset + 27] = ((int) (w3 >>> 4)) & 511;
+      unCompressedData[outOffset + 28] = ((int) ((w3 << 5) | (w4 >>> 59))) & 511;
+      unCompressedData[outOffset + 29] = ((int) (w4 >>> 50)) & 511;
+      unCompressedData[outOffset + 30] = ((int) (w4 >>> 41)) & 511;
+      unCompressedData[outOffset + 31] = ((int) (w4 >>> 32)) & 511;
+      input.offset += 37;
+      output.offset += 32;
+    }
+  }
+
+  static final class FrameDecompressor10 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final byte[] compressedArray = input.bytes;
+      final int inOffset = input.offset + 1;
+      final int outOffset = output.offset;
+      final long w0 = buffer.getLong(inOffset + 0);
+      final long w1 = buffer.getLong(inOffset + 8);
+      final long w2 = buffer.getLong(inOffset + 16);
+      final long w3 = buffer.getLong(inOffset + 24);
+      final long w4 = buffer.getLong(inOffset + 32);
+
+      unCompressedData[outOffset + 0] = (int) (w0 >>> 54);
+      unCompressedData[outOffset + 1] = ((int) (w0 >>> 44)) & 1023;
+      unCompressedData[outOffset + 2] = ((int) (w0 >>> 34)) & 1023;
+      unCompressedData[outOffset + 3] = ((int) (w0 >>> 24)) & 1023;
+      unCompressedData[outOffset + 4] = ((int) (w0 >>> 14)) & 1023;
+      unCompressedData[outOffset + 5] = ((int) (w0 >>> 4)) & 1023;
+      unCompressedData[outOffset + 6] = ((int) ((w0 << 6) | (w1 >>> 58))) & 1023;
+      unCompressedData[outOffset + 7] = ((int) (w1 >>> 48)) & 1023;
+      unCompressedData[outOffset + 8] = ((int) (w1 >>> 38)) & 1023;
+      unCompressedData[outOffset + 9] = ((int) (w1 >>> 28)) & 1023;
+      unCompressedData[outOffset + 10] = ((int) (w1 >>> 18)) & 1023;
+      unCompressedData[outOffset + 11] = ((int) (w1 >>> 8)) & 1023;
+      unCompressedData[outOffset + 12] = ((int) ((w1 << 2) | (w2 >>> 62))) & 1023;
+      unCompressedData[outOffset + 13] = ((int) (w2 >>> 52)) & 1023;
+      unCompressedData[outOffset + 14] = ((int) (w2 >>> 42)) & 1023;
+      unCompressedData[outOffset + 15] = ((int) (w2 >>> 32)) & 1023;
+      unCompressedData[outOffset + 16] = ((int) (w2 >>> 22)) & 1023;
+      unCompressedData[outOffset + 17] = ((int) (w2 >>> 12)) & 1023;
+      unCompressedData[outOffset + 18] = ((int) (w2 >>> 2)) & 1023;
+      unCompressedData[outOffset + 19] = ((int) ((w2 << 8) | (w3 >>> 56))) & 1023;
+      unCompressedData[outOffset + 20] = ((int) (w3 >>> 46)) & 1023;
+      unCompressedData[outOffset + 21] = ((int) (w3 >>> 36)) & 1023;
+      unCompressedData[outOffset + 22] = ((int) (w3 >>> 26)) & 1023;
+      unCompressedData[outOffset + 23] = ((int) (w3 >>> 16)) & 1023;
+      unCompressedData[outOffset + 24] = ((int) (w3 >>> 6)) & 1023;
+      unCompressedData[outOffset + 25] = ((int) ((w3 << 4) | (w4 >>> 60))) & 1023;
+      unCompressedData[outOffset + 26] = ((int) (w4 >>> 50)) & 1023;
+      unCompressedData[outOffset + 27] = ((int) (w4 >>> 40)) & 1023;
+      unCompressedData[outOffset + 28] = ((int) (w4 >>> 30)) & 1023;
+      unCompressedData[outOffset + 29] = ((int) (w4 >>> 20)) & 1023;
+      unCompressedData[outOffset + 30] = ((int) (w4 >>> 10)) & 1023;
+      unCompressedData[outOffset + 31] = ((int) (w4 >>> 0)) & 1023;
+      input.offset += 41;
+      output.offset += 32;
+    }
+  }
+
+  static final class FrameDecompressor11 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final byte[] compressedArray = input.bytes;
+      final int inOffset = input.offset + 1;
+      final int outOffset = output.offset;
+      final long w0 = buffer.getLong(inOffset + 0);
+      final long w1 = buffer.getLong(inOffset + 8);
+      final long w2 = buffer.getLong(inOffset + 16);
+      final long w3 = buffer.getLong(inOffset + 24);
+      final long w4 = buffer.getLong(inOffset + 32);
+      final long w5 = ((compressedArray[inOffset + 40] & 0xFFL) << 56) | ((compressedArray[inOffset + 41] & 0xFFL) << 48) | ((compressedArray[inOffset + 42] & 0xFFL) << 40) | ((compressedArray[inOffset + 43] & 0xFFL) << 32);
+
+      unCompressedData[outOffset + 0] = (int) (w0 >>> 53);
+      unCompressedData[outOffset + 1] = ((int) (w0 >>> 42)) & 2047;
+      unCompressedData[outOffset + 2] = ((int) (w0 >>> 31)) & 2047;
+      unCompressedData[outOffset + 3] = ((int) (w0 >>> 20)) & 2047;
+      unCompressedData[outOffset + 4] = ((int) (w0 >>> 9)) & 2047;
+      unCompressedData[outOffset + 5] = ((int) ((w0 << 2) | (w1 >>> 62))) & 2047;
+      unCompressedData[outOffset + 6] = ((int) (w1 >>> 51)) & 2047;
+      unCompressedData[outOffset + 7] = ((int) (w1 >>> 40)) & 2047;
+      unCompressedData[outOffset + 8] = ((int) (w1 >>> 29)) & 2047;
+      unCompressedData[outOffset + 9] = ((int) (w1 >>> 18)) & 2047;
+      unCompressedData[outOffset + 10] = ((int) (w1 >>> 7)) & 2047;
+      unCompressedData[outOffset + 11] = ((int) ((w1 << 4) | (w2 >>> 60))) & 2047;
+      unCompressedData[outOffset + 12] = ((int) (w2 >>> 49)) & 2047;
+      unCompressedData[outOffset + 13] = ((int) (w2 >>> 38)) & 2047;
+      unCompressedData[outOffset + 14] = ((int) (w2 >>> 27)) & 2047;
+      unCompressedData[outOffset + 15] = ((int) (w2 >>> 16)) & 2047;
+      unCompressedData[outOffset + 16] = ((int) (w2 >>> 5)) & 2047;
+      unCompressedData[outOffset + 17] = ((int) ((w2 << 6) | (w3 >>> 58))) & 2047;
+      unCompressedData[outOffset + 18] = ((int) (w3 >>> 47)) & 2047;
+      unCompressedData[outOffset + 19] = ((int) (w3 >>> 36)) & 2047;
+      unCompressedData[outOffset + 20] = ((int) (w3 >>> 25)) & 2047;
+      unCompressedData[outOffset + 21] = ((int) (w3 >>> 14)) & 2047;
+      unCompressedData[outOffset + 22] = ((int) (w3 >>> 3)) & 2047;
+      unCompressedData[outOffset + 23] = ((int) ((w3 << 8) | (w4 >>> 56))) & 2047;
+      unCompressedData[outOffset + 24] = ((int) (w4 >>> 45)) & 2047;
+      unCompressedData[outOffset + 25] = ((int) (w4 >>> 34)) & 2047;
+      unCompressedData[outOffset + 26] = ((int) (w4 >>> 23)) & 2047;
+      unCompressedData[outOffset + 27] = ((int) (w4 >>> 12)) & 2047;
+      unCompressedData[outOffset + 28] = ((int) (w4 >>> 1)) & 2047;
+      unCompressedData[outOffset + 29] = ((int) ((w4 << 10) | (w5 >>> 54))) & 2047;
+      unCompressedData[outOffset + 30] = ((int) (w5 >>> 43)) & 2047;
+      unCompressedData[outOffset + 31] = ((int) (w5 >>> 32)) & 2047;
+      input.offset += 45;
+      output.offset += 32;
+    }
+  }
+
+  static final class FrameDecompressor12 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final byte[] compressedArray = input.bytes;
+      final int inOffset = input.offset + 1;
+      final int outOffset = output.offset;
+      final long w0 = buffer.getLong(inOffset + 0);
+      final long w1 = buffer.getLong(inOffset + 8);
+      final long w2 = buffer.getLong(inOffset + 16);
+      final long w3 = buffer.getLong(inOffset + 24);
+      final long w4 = buffer.getLong(inOffset + 32);
+      final long w5 = buffer.getLong(inOffset + 40);
+
+      unCompressedData[outOffset + 0] = (int) (w0 >>> 52);
+      unCompressedData[outOffset + 1] = ((int) (w0 >>> 40)) & 4095;
+      unCompressedData[outOffset + 2] = ((int) (w0 >>> 28)) & 4095;
+      unCompressedData[outOffset + 3] = ((int) (w0 >>> 16)) & 4095;
+      unCompressedData[outOffset + 4] = ((int) (w0 >>> 4)) & 4095;
+      unCompressedData[outOffset + 5] = ((int) ((w0 << 8) | (w1 >>> 56))) & 4095;
+      unCompressedData[outOffset + 6] = ((int) (w1 >>> 44)) & 4095;
+      unCompressedData[outOffset + 7] = ((int) (w1 >>> 32)) & 4095;
+      unCompressedData[outOffset + 8] = ((int) (w1 >>> 20)) & 4095;
+      unCompressedData[outOffset + 9] = ((int) (w1 >>> 8)) & 4095;
+      unCompressedData[outOffset + 10] = ((int) ((w1 << 4) | (w2 >>> 60))) & 4095;
+      unCompressedData[outOffset + 11] = ((int) (w2 >>> 48)) & 4095;
+      unCompressedData[outOffset + 12] = ((int) (w2 >>> 36)) & 4095;
+      unCompressedData[outOffset + 13] = ((int) (w2 >>> 24)) & 4095;
+      unCompressedData[outOffset + 14] = ((int) (w2 >>> 12)) & 4095;
+      unCompressedData[outOffset + 15] = ((int) (w2 >>> 0)) & 4095;
+      unCompressedData[outOffset + 16] = (int) (w3 >>> 52);
+      unCompressedData[outOffset + 17] = ((int) (w3 >>> 40)) & 4095;
+      unCompressedData[outOffset + 18] = ((int) (w3 >>> 28)) & 4095;
+      unCompressedData[outOffset + 19] = ((int) (w3 >>> 16)) & 4095;
+      unCompressedData[outOffset + 20] = ((int) (w3 >>> 4)) & 4095;
+      unCompressedData[outOffset + 21] = ((int) ((w3 << 8) | (w4 >>> 56))) & 4095;
+      unCompressedData[outOffset + 22] = ((int) (w4 >>> 44)) & 4095;
+      unCompressedData[outOffset + 23] = ((int) (w4 >>> 32)) & 4095;
+      unCompressedData[outOffset + 24] = ((int) (w4 >>> 20)) & 4095;
+      unCompressedData[outOffset + 25] = ((int) (w4 >>> 8)) & 4095;
+      unCompressedData[outOffset + 26] = ((int) ((w4 << 4) | (w5 >>> 60))) & 4095;
+      unCompressedData[outOffset + 27] = ((int) (w5 >>> 48)) & 4095;
+      unCompressedData[outOffset + 28] = ((int) (w5 >>> 36)) & 4095;
+      unCompressedData[outOffset + 29] = ((int) (w5 >>> 24)) & 4095;
+      unCompressedData[outOffset + 30] = ((int) (w5 >>> 12)) & 4095;
+      unCompressedData[outOffset + 31] = ((int) (w5 >>> 0)) & 4095;
+      input.offset += 49;
+      output.offset += 32;
+    }
+  }
+
+  static final class FrameDecompressor13 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final byte[] compressedArray = input.bytes;
+      final int inOffset = input.offset + 1;
+      final int outOffset = output.offset;
+      final long w0 = buffer.getLong(inOffset + 0);
+      final long w1 = buffer.getLong(inOffset + 8);
+      final long w2 = buffer.getLong(inOffset + 16);
+      final long w3 = buffer.getLong(inOffset + 24);
+      final long w4 = buffer.getLong(inOffset + 32);
+      final long w5 = buffer.getLong(inOffset + 40);
+      final long w6 = ((compressedArray[inOffset + 48] & 0xFFL) << 56) | ((compressedArray[inOffset + 49] & 0xFFL) << 48) | ((compressedArray[inOffset + 50] & 0xFFL) << 40) | ((compressedArray[inOffset + 51] & 0xFFL) << 32);
+
+      unCompressedData[outOffset + 0] = (int) (w0 >>> 51);
+      unCompressedData[outOffset + 1] = ((int) (w0 >>> 38)) & 8191;
+      unCompressedData[outOffset + 2] = ((int) (w0 >>> 25)) & 8191;
+      unCompressedData[outOffset + 3] = ((int) (w0 >>> 12)) & 8191;
+      unCompressedData[outOffset + 4] = ((int) ((w0 << 1) | (w1 >>> 63))) & 8191;
+      unCompressedData[outOffset + 5] = ((int) (w1 >>> 50)) & 8191;
+      unCompressedData[outOffset + 6] = ((int) (w1 >>> 37)) & 8191;
+      unCompressedData[outOffset + 7] = ((int) (w1 >>> 24)) & 8191;
+      unCompressedData[outOffset + 8] = ((int) (w1 >>> 11)) & 8191;
+      unCompressedData[outOffset + 9] = ((int) ((w1 << 2) | (w2 >>> 62))) & 8191;
+      unCompressedData[outOffset + 10] = ((int) (w2 >>> 49)) & 8191;
+      unCompressedData[outOffset + 11] = ((int) (w2 >>> 36)) & 8191;
+      unCompressedData[outOffset + 12] = ((int) (w2 >>> 23)) & 8191;
+      unCompressedData[outOffset + 13] = ((int) (w2 >>> 10)) & 8191;
+      unCompressedData[outOffset + 14] = ((int) ((w2 << 3) | (w3 >>> 61))) & 8191;
+      unCompressedData[outOffset + 15] = ((int) (w3 >>> 48)) & 8191;
+      unCompressedData[outOffset + 16] = ((int) (w3 >>> 35)) & 8191;
+      unCompressedData[outOffset + 17] = ((int) (w3 >>> 22)) & 8191;
+      unCompressedData[outOffset + 18] = ((int) (w3 >>> 9)) & 8191;
+      unCompressedData[outOffset + 19] = ((int) ((w3 << 4) | (w4 >>> 60))) & 8191;
+      unCompressedData[outOffset + 20] = ((int) (w4 >>> 47)) & 8191;
+      unCompressedData[outOffset + 21] = ((int) (w4 >>> 34)) & 8191;
+      unCompressedData[outOffset + 22] = ((int) (w4 >>> 21)) & 8191;
+      unCompressedData[outOffset + 23] = ((int) (w4 >>> 8)) & 8191;
+      unCompressedData[outOffset + 24] = ((int) ((w4 << 5) | (w5 >>> 59))) & 8191;
+      unCompressedData[outOffset + 25] = ((int) (w5 >>> 46)) & 8191;
+      unCompressedData[outOffset + 26] = ((int) (w5 >>> 33)) & 8191;
+      unCompressedData[outOffset + 27] = ((int) (w5 >>> 20)) & 8191;
+      unCompressedData[outOffset + 28] = ((int) (w5 >>> 7)) & 8191;
+      unCompressedData[outOffset + 29] = ((int) ((w5 << 6) | (w6 >>> 58))) & 8191;
+      unCompressedData[outOffset + 30] = ((int) (w6 >>> 45)) & 8191;
+      unCompressedData[outOffset + 31] = ((int) (w6 >>> 32)) & 8191;
+      input.offset += 53;
+      output.offset += 32;
+    }
+  }
+
+  static final class FrameDecompressor14 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final byte[] compressedArray = input.bytes;
+      final int inOffset = input.offset + 1;
+      final int outOffset = output.offset;
+      final long w0 = buffer.getLong(inOffset + 0);
+      final long w1 = buffer.getLong(inOffset + 8);
+      final long w2 = buffer.getLong(inOffset + 16);
+      final long w3 = buffer.getLong(inOffset + 24);
+      final long w4 = buffer.getLong(inOffset + 32);
+      final long w5 = buffer.getLong(inOffset + 40);
+      final long w6 = buffer.getLong(inOffset + 48);
+
+      unCompressedData[outOffset + 0] = (int) (w0 >>> 50);
+      unCompressedData[outOffset + 1] = ((int) (w0 >>> 36)) & 16383;
+      unCompressedData[outOffset + 2] = ((int) (w0 >>> 22)) & 16383;
+      unCompressedData[outOffset + 3] = ((int) (w0 >>> 8)) & 16383;
+      unCompressedData[outOffset + 4] = ((int) ((w0 << 6) | (w1 >>> 58))) & 16383;
+      unCompressedData[outOffset + 5] = ((int) (w1 >>> 44)) & 16383;
+      unCompressedData[outOffset + 6] = ((int) (w1 >>> 30)) & 16383;
+      unCompressedData[outOffset + 7] = ((int) (w1 >>> 16)) & 16383;
+      unCompressedData[outOffset + 8] = ((int) (w1 >>> 2)) & 16383;
+      unCompressedData[outOffset + 9] = ((int) ((w1 << 12) | (w2 >>> 52))) & 16383;
+      unCompressedData[outOffset + 10] = ((int) (w2 >>> 38)) & 16383;
+      unCompressedData[outOffset + 11] = ((int) (w2 >>> 24)) & 16383;
+      unCompressedData[outOffset + 12] = ((int) (w2 >>> 10)) & 16383;
+      unCompressedData[outOffset + 13] = ((int) ((w2 << 4) | (w3 >>> 60))) & 16383;
+      unCompressedData[outOffset + 14] = ((int) (w3 >>> 46)) & 16383;
+      unCompressedData[outOffset + 15] = ((int) (w3 >>> 32)) & 16383;
+      unCompressedData[outOffset + 16] = ((int) (w3 >>> 18)) & 16383;
+      unCompressedData[outOffset + 17] = ((int) (w3 >>> 4)) & 16383;
+      unCompressedData[outOffset + 18] = ((int) ((w3 << 10) | (w4 >>> 54))) & 16383;
+      unCompressedData[outOffset + 19] = ((int) (w4 >>> 40)) & 16383;
+      unCompressedData[outOffset + 20] = ((int) (w4 >>> 26)) & 16383;
+      unCompressedData[outOffset + 21] = ((int) (w4 >>> 12)) & 16383;
+      unCompressedData[outOffset + 22] = ((int) ((w4 << 2) | (w5 >>> 62))) & 16383;
+      unCompressedData[outOffset + 23] = ((int) (w5 >>> 48)) & 16383;
+      unCompressedData[outOffset + 24] = ((int) (w5 >>> 34)) & 16383;
+      unCompressedData[outOffset + 25] = ((int) (w5 >>> 20)) & 16383;
+      unCompressedData[outOffset + 26] = ((int) (w5 >>> 6)) & 16383;
+      unCompressedData[outOffset + 27] = ((int) ((w5 << 8) | (w6 >>> 56))) & 16383;
+      unCompressedData[outOffset + 28] = ((int) (w6 >>> 42)) & 16383;
+      unCompressedData[outOffset + 29] = ((int) (w6 >>> 28)) & 16383;
+      unCompressedData[outOffset + 30] = ((int) (w6 >>> 14)) & 16383;
+      unCompressedData[outOffset + 31] = ((int) (w6 >>> 0)) & 16383;
+      input.offset += 57;
+      output.offset += 32;
+    }
+  }
+
+  static final class FrameDecompressor15 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final byte[] compressedArray = input.bytes;
+      final int inOffset = input.offset + 1;
+      final int outOffset = output.offset;
+      final long w0 = buffer.getLong(inOffset + 0);
+      final long w1 = buffer.getLong(inOffset + 8);
+      final long w2 = buffer.getLong(inOffset + 16);
+      final long w3 = buffer.getLong(inOffset + 24);
+      final long w4 = buffer.getLong(inOffset + 32);
+      final long w5 = buffer.getLong(inOffset + 40);
+      final long w6 = buffer.getLong(inOffset + 48);
+      final long w7 = ((compressedArray[inOffset + 56] & 0xFFL) << 56) | ((compressedArray[inOffset + 57] & 0xFFL) << 48) | ((compressedArray[inOffset + 58] & 0xFFL) << 40) | ((compressedArray[inOffset + 59] & 0xFFL) << 32);
+
+      unCompressedData[outOffset + 0] = (int) (w0 >>> 49);
+      unCompressedData[outOffset + 1] = ((int) (w0 >>> 34)) & 32767;
+      unCompressedData[outOffset + 2] = ((int) (w0 >>> 19)) & 32767;
+      unCompressedData[outOffset + 3] = ((int) (w0 >>> 4)) & 32767;
+      unCompressedData[outOffset + 4] = ((int) ((w0 << 11) | (w1 >>> 53))) & 32767;
+      unCompressedData[outOffset + 5] = ((int) (w1 >>> 38)) & 32767;
+      unCompressedData[outOffset + 6] = ((int) (w1 >>> 23)) & 32767;
+      unCompressedData[outOffset + 7] = ((int) (w1 >>> 8)) & 32767;
+      unCompressedData[outOffset + 8] = ((int) ((w1 << 7) | (w2 >>> 57))) & 32767;
+      unCompressedData[outOffset + 9] = ((int) (w2 >>> 42)) & 32767;
+      unCompressedData[outOffset + 10] = ((int) (w2 >>> 27)) & 32767;
+      unCompressedData[outOffset + 11] = ((int) (w2 >>> 12)) & 32767;
+      unCompressedData[outOffset + 12] = ((int) ((w2 << 3) | (w3 >>> 61))) & 32767;
+      unCompressedData[outOffset + 13] = ((int) (w3 >>> 46)) & 32767;
+      unCompressedData[outOffset + 14] = ((int) (w3 >>> 31)) & 32767;
+      unCompressedData[outOffset + 15] = ((int) (w3 >>> 16)) & 32767;
+      unCompressedData[outOffset + 16] = ((int) (w3 >>> 1)) & 32767;
+      unCompressedData[outOffset + 17] = ((int) ((w3 << 14) | (w4 >>> 50))) & 32767;
+      unCompressedData[outOffset + 18] = ((int) (w4 >>> 35)) & 32767;
+      unCompressedData[outOffset + 19] = ((int) (w4 >>> 20)) & 32767;
+      unCompressedData[outOffset + 20] = ((int) (w4 >>> 5)) & 32767;
+      unCompressedData[outOffset + 21] = ((int) ((w4 << 10) | (w5 >>> 54))) & 32767;
+      unCompressedData[outOffset + 22] = ((int) (w5 >>> 39)) & 32767;
+      unCompressedData[outOffset + 23] = ((int) (w5 >>> 24)) & 32767;
+      unCompressedData[outOffset + 24] = ((int) (w5 >>> 9)) & 32767;
+      unCompressedData[outOffset + 25] = ((int) ((w5 << 6) | (w6 >>> 58))) & 32767;
+      unCompressedData[outOffset + 26] = ((int) (w6 >>> 43)) & 32767;
+      unCompressedData[outOffset + 27] = ((int) (w6 >>> 28)) & 32767;
+      unCompressedData[outOffset + 28] = ((int) (w6 >>> 13)) & 32767;
+      unCompressedData[outOffset + 29] = ((int) ((w6 << 2) | (w7 >>> 62))) & 32767;
+      unCompressedData[outOffset + 30] = ((int) (w7 >>> 47)) & 32767;
+      unCompressedData[outOffset + 31] = ((int) (w7 >>> 32)) & 32767;
+      input.offset += 61;
+      output.offset += 32;
+    }
+  }
+
+  static final class FrameDecompressor16 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final byte[] compressedArray = input.bytes;
+      final int inOffset = input.offset + 1;
+      final int outOffset = output.offset;
+      final long w0 = buffer.getLong(inOffset + 0);
+      final long w1 = buffer.getLong(inOffset + 8);
+      final long w2 = buffer.getLong(inOffset + 16);
+      final long w3 = buffer.getLong(inOffset + 24);
+      final long w4 = buffer.getLong(inOffset + 32);
+      final long w5 = buffer.getLong(inOffset + 40);
+      final long w6 = buffer.getLong(inOffset + 48);
+      final long w7 = buffer.getLong(inOffset + 56);
+
+      unCompressedData[outOffset + 0] = (int) (w0 >>> 48);
+      unCompressedData[outOffset + 1] = ((int) (w0 >>> 32)) & 65535;
+      unCompressedData[outOffset + 2] = ((int) (w0 >>> 16)) & 65535;
+      unCompressedData[outOffset + 3] = ((int) (w0 >>> 0)) & 65535;
+      unCompressedData[outOffset + 4] = (int) (w1 >>> 48);
+      unCompressedData[outOffset + 5] = ((int) (w1 >>> 32)) & 65535;
+      unCompressedData[outOffset + 6] = ((int) (w1 >>> 16)) & 65535;
+      unCompressedData[outOffset + 7] = ((int) (w1 >>> 0)) & 65535;
+      unCompressedData[outOffset + 8] = (int) (w2 >>> 48);
+      unCompressedData[outOffset + 9] = ((int) (w2 >>> 32)) & 65535;
+      unCompressedData[outOffset + 10] = ((int) (w2 >>> 16)) & 65535;
+      unCompressedData[outOffset + 11] = ((int) (w2 >>> 0)) & 65535;
+      unCompressedData[outOffset + 12] = (int) (w3 >>> 48);
+      unCompressedData[outOffset + 13] = ((int) (w3 >>> 32)) & 65535;
+      unCompressedData[outOffset + 14] = ((int) (w3 >>> 16)) & 65535;
+      unCompressedData[outOffset + 15] = ((int) (w3 >>> 0)) & 65535;
+      unCompressedData[outOffset + 16] = (int) (w4 >>> 48);
+      unCompressedData[outOffset + 17] = ((int) (w4 >>> 32)) & 65535;
+      unCompressedData[outOffset + 18] = ((int) (w4 >>> 16)) & 65535;
+      unCompressedData[outOffset + 19] = ((int) (w4 >>> 0)) & 65535;
+      unCompressedData[outOffset + 20] = (int) (w5 >>> 48);
+      unCompressedData[outOffset + 21] = ((int) (w5 >>> 32)) & 65535;
+      unCompressedData[outOffset + 22] = ((int) (w5 >>> 16)) & 65535;
+      unCompressedData[outOffset + 23] = ((int) (w5 >>> 0)) & 65535;
+      unCompressedData[outOffset + 24] = (int) (w6 >>> 48);
+      unCompressedData[outOffset + 25] = ((int) (w6 >>> 32)) & 65535;
+      unCompressedData[outOffset + 26] = ((int) (w6 >>> 16)) & 65535;
+      unCompressedData[outOffset + 27] = ((int) (w6 >>> 0)) & 65535;
+      unCompressedData[outOffset + 28] = (int) (w7 >>> 48);
+      unCompressedData[outOffset + 29] = ((int) (w7 >>> 32)) & 65535;
+      unCompressedData[outOffset + 30] = ((int) (w7 >>> 16)) & 65535;
+      unCompressedData[outOffset + 31] = ((int) (w7 >>> 0)) & 65535;
+      input.offset += 65;
+      output.offset += 32;
+    }
+  }
+
+  static final class FrameDecompressor17 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final byte[] compressedArray = input.bytes;
+      final int inOffset = input.offset + 1;
+      final int outOffset = output.offset;
+      final long w0 = buffer.getLong(inOffset + 0);
+      final long w1 = buffer.getLong(inOffset + 8);
+      final long w2 = buffer.getLong(inOffset + 16);
+      final long w3 = buffer.getLong(inOffset + 24);
+      final long w4 = buffer.getLong(inOffset + 32);
+      final long w5 = buffer.getLong(inOffset + 40);
+      final long w6 = buffer.getLong(inOffset + 48);
+      final long w7 = buffer.getLong(inOffset + 56);
+      final long w8 = ((compressedArray[inOffset + 64] & 0xFFL) << 56) | ((compressedArray[inOffset + 65] & 0xFFL) << 48) | ((compressedArray[inOffset + 66] & 0xFFL) << 40) | ((compressedArray[inOffset + 67] & 0xFFL) << 32);
+
+      unCompressedData[outOffset + 0] = (int) (w0 >>> 47);
+      unCompressedData[outOffset + 1] = ((int) (w0 >>> 30)) & 131071;
+      unCompressedData[outOffset + 2] = ((int) (w0 >>> 13)) & 131071;
+      unCompressedData[outOffset + 3] = ((int) ((w0 << 4) | (w1 >>> 60))) & 131071;
+      unCompressedData[outOffset + 4] = ((int) (w1 >>> 43)) & 131071;
+      unCompressedData[outOffset + 5] = ((int) (w1 >>> 26)) & 131071;
+      unCompressedData[outOffset + 6] = ((int) (w1 >>> 9)) & 131071;
+      unCompressedData[outOffset + 7] = ((int) ((w1 << 8) | (w2 >>> 56))) & 131071;
+      unCompressedData[outOffset + 8] = ((int) (w2 >>> 39)) & 131071;
+      unCompressedData[outOffset + 9] = ((int) (w2 >>> 22)) & 131071;
+      unCompressedData[outOffset + 10] = ((int) (w2 >>> 5)) & 131071;
+      unCompressedData[outOffset + 11] = ((int) ((w2 << 12) | (w3 >>> 52))) & 131071;
+      unCompressedData[outOffset + 12] = ((int) (w3 >>> 35)) & 131071;
+      unCompressedData[outOffset + 13] = ((int) (w3 >>> 18)) & 131071;
+      unCompressedData[outOffset + 14] = ((int) (w3 >>> 1)) & 131071;
+      unCompressedData[outOffset + 15] = ((int) ((w3 << 16) | (w4 >>> 48))) & 131071;
+      unCompressedData[outOffset + 16] = ((int) (w4 >>> 31)) & 131071;
+      unCompressedData[outOffset + 17] = ((int) (w4 >>> 14)) & 131071;
+      unCompressedData[outOffset + 18] = ((int) ((w4 << 3) | (w5 >>> 61))) & 131071;
+      unCompressedData[outOffset + 19] = ((int) (w5 >>> 44)) & 131071;
+      unCompressedData[outOffset + 20] = ((int) (w5 >>> 27)) & 131071;
+      unCompressedData[outOffset + 21] = ((int) (w5 >>> 10)) & 131071;
+      unCompressedData[outOffset + 22] = ((int) ((w5 << 7) | (w6 >>> 57))) & 131071;
+      unCompressedData[outOffset + 23] = ((int) (w6 >>> 40)) & 131071;
+      unCompressedData[outOffset + 24] = ((int) (w6 >>> 23)) & 131071;
+      unCompressedData[outOffset + 25] = ((int) (w6 >>> 6)) & 131071;
+      unCompressedData[outOffset + 26] = ((int) ((w6 << 11) | (w7 >>> 53))) & 131071;
+      unCompressedData[outOffset + 27] = ((int) (w7 >>> 36)) & 131071;
+      unCompressedData[outOffset + 28] = ((int) (w7 >>> 19)) & 131071;
+      unCompressedData[outOffset + 29] = ((int) (w7 >>> 2)) & 131071;
+      unCompressedData[outOffset + 30] = ((int) ((w7 << 15) | (w8 >>> 49))) & 131071;
+      unCompressedData[outOffset + 31] = ((int) (w8 >>> 32)) & 131071;
+      input.offset += 69;
+      output.offset += 32;
+    }
+  }
+
+  static final class FrameDecompressor18 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final byte[] compressedArray = input.bytes;
+      final int inOffset = input.offset + 1;
+      final int outOffset = output.offset;
+      final long w0 = buffer.getLong(inOffset + 0);
+      final long w1 = buffer.getLong(inOffset + 8);
+      final long w2 = buffer.getLong(inOffset + 16);
+      final long w3 = buffer.getLong(inOffset + 24);
+      final long w4 = buffer.getLong(inOffset + 32);
+      final long w5 = buffer.getLong(inOffset + 40);
+      final long w6 = buffer.getLong(inOffset + 48);
+      final long w7 = buffer.getLong(inOffset + 56);
+      final long w8 = buffer.getLong(inOffset + 64);
+
+      unCompressedData[outOffset + 0] = (int) (w0 >>> 46);
+      unCompressedData[outOffset + 1] = ((int) (w0 >>> 28)) & 262143;
+      unCompressedData[outOffset + 2] = ((int) (w0 >>> 10)) & 262143;
+      unCompressedData[outOffset + 3] = ((int) ((w0 << 8) | (w1 >>> 56))) & 262143;
+      unCompressedData[outOffset + 4] = ((int) (w1 >>> 38)) & 262143;
+      unCompressedData[outOffset + 5] = ((int) (w1 >>> 20)) & 262143;
+      unCompressedData[outOffset + 6] = ((int) (w1 >>> 2)) & 262143;
+      unCompressedData[outOffset + 7] = ((int) ((w1 << 16) | (w2 >>> 48))) & 262143;
+      unCompressedData[outOffset + 8] = ((int) (w2 >>> 30)) & 262143;
+      unCompressedData[outOffset + 9] = ((int) (w2 >>> 12)) & 262143;
+      unCompressedData[outOffset + 10] = ((int) ((w2 << 6) | (w3 >>> 58))) & 262143;
+      unCompressedData[outOffset + 11] = ((int) (w3 >>> 40)) & 262143;
+      unCompressedData[outOffset + 12] = ((int) (w3 >>> 22)) & 262143;
+      unCompressedData[outOffset + 13] = ((int) (w3 >>> 4)) & 262143;
+      unCompressedData[outOffset + 14] = ((int) ((w3 << 14) | (w4 >>> 50))) & 262143;
+      unCompressedData[outOffset + 15] = ((int) (w4 >>> 32)) & 262143;
+      unCompressedData[outOffset + 16] = ((int) (w4 >>> 14)) & 262143;
+      unCompressedData[outOffset + 17] = ((int) ((w4 << 4) | (w5 >>> 60))) & 262143;
+      unCompressedData[outOffset + 18] = ((int) (w5 >>> 42)) & 262143;
+      unCompressedData[outOffset + 19] = ((int) (w5 >>> 24)) & 262143;
+      unCompressedData[outOffset + 20] = ((int) (w5 >>> 6)) & 262143;
+      unCompressedData[outOffset + 21] = ((int) ((w5 << 12) | (w6 >>> 52))) & 262143;
+      unCompressedData[outOffset + 22] = ((int) (w6 >>> 34)) & 262143;
+      unCompressedData[outOffset + 23] = ((int) (w6 >>> 16)) & 262143;
+      unCompressedData[outOffset + 24] = ((int) ((w6 << 2) | (w7 >>> 62))) & 262143;
+      unCompressedData[outOffset + 25] = ((int) (w7 >>> 44)) & 262143;
+      unCompressedData[outOffset + 26] = ((int) (w7 >>> 26)) & 262143;
+      unCompressedData[outOffset + 27] = ((int) (w7 >>> 8)) & 262143;
+      unCompressedData[outOffset + 28] = ((int) ((w7 << 10) | (w8 >>> 54))) & 262143;
+      unCompressedData[outOffset + 29] = ((int) (w8 >>> 36)) & 262143;
+      unCompressedData[outOffset + 30] = ((int) (w8 >>> 18)) & 262143;
+      unCompressedData[outOffset + 31] = ((int) (w8 >>> 0)) & 262143;
+      input.offset += 73;
+      output.offset += 32;
+    }
+  }
+
+  static final class FrameDecompressor19 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final byte[] compressedArray = input.bytes;
+      final int inOffset = input.offset + 1;
+      final int outOffset = output.offset;
+      final long w0 = buffer.getLong(inOffset + 0);
+      final long w1 = buffer.getLong(inOffset + 8);
+      final long w2 = buffer.getLong(inOffset + 16);
+      final long w3 = buffer.getLong(inOffset + 24);
+      final long w4 = buffer.getLong(inOffset + 32);
+      final long w5 = buffer.getLong(inOffset + 40);
+      final long w6 = buffer.getLong(inOffset + 48);
+      final long w7 = buffer.getLong(inOffset + 56);
+      final long w8 = buffer.getLong(inOffset + 64);
+      final long w9 = ((compressedArray[inOffset + 72] & 0xFFL) << 56) | ((compressedArray[inOffset + 73] & 0xFFL) << 48) | ((compressedArray[inOffset + 74] & 0xFFL) << 40) | ((compressedArray[inOffset + 75] & 0xFFL) << 32);
+
+      unCompressedData[outOffset + 0] = (int) (w0 >>> 45);
+      unCompressedData[outOffset + 1] = ((int) (w0 >>> 26)) & 524287;
+      unCompressedData[outOffset + 2] = ((int) (w0 >>> 7)) & 524287;
+      unCompressedData[outOffset + 3] = ((int) ((w0 << 12) | (w1 >>> 52))) & 524287;
+      unCompressedData[outOffset + 4] = ((int) (w1 >>> 33)) & 524287;
+      unCompressedData[outOffset + 5] = ((int) (w1 >>> 14)) & 524287;
+      unCompressedData[outOffset + 6] = ((int) ((w1 << 5) | (w2 >>> 59))) & 524287;
+      unCompressedData[outOffset + 7] = ((int) (w2 >>> 40)) & 524287;
+      unCompressedData[outOffset + 8] = ((int) (w2 >>> 21)) & 524287;
+      unCompressedData[outOffset + 9] = ((int) (w2 >>> 2)) & 524287;
+      unCompressedData[outOffset + 10] = ((int) ((w2 << 17) | (w3 >>> 47))) & 524287;
+      unCompressedData[outOffset + 11] = ((int) (w3 >>> 28)) & 524287;
+      unCompressedData[outOffset + 12] = ((int) (w3 >>> 9)) & 524287;
+      unCompressedData[outOffset + 13] = ((int) ((w3 << 10) | (w4 >>> 54))) & 524287;
+      unCompressedData[outOffset + 14] = ((int) (w4 >>> 35)) & 524287;
+      unCompressedData[outOffset + 15] = ((int) (w4 >>> 16)) & 524287;
+      unCompressedData[outOffset + 16] = ((int) ((w4 << 3) | (w5 >>> 61))) & 524287;
+      unCompressedData[outOffset + 17] = ((int) (w5 >>> 42)) & 524287;
+      unCompressedData[outOffset + 18] = ((int) (w5 >>> 23)) & 524287;
+      unCompressedData[outOffset + 19] = ((int) (w5 >>> 4)) & 524287;
+      unCompressedData[outOffset + 20] = ((int) ((w5 << 15) | (w6 >>> 49))) & 524287;
+      unCompressedData[outOffset + 21] = ((int) (w6 >>> 30)) & 524287;
+      unCompressedData[outOffset + 22] = ((int) (w6 >>> 11)) & 524287;
+      unCompressedData[outOffset + 23] = ((int) ((w6 << 8) | (w7 >>> 56))) & 524287;
+      unCompressedData[outOffset + 24] = ((int) (w7 >>> 37)) & 524287;
+      unCompressedData[outOffset + 25] = ((int) (w7 >>> 18)) & 524287;
+      unCompressedData[outOffset + 26] = ((int) ((w7 << 1) | (w8 >>> 63))) & 524287;
+      unCompressedData[outOffset + 27] = ((int) (w8 >>> 44)) & 524287;
+      unCompressedData[outOffset + 28] = ((int) (w8 >>> 25)) & 524287;
+      unCompressedData[outOffset + 29] = ((int) (w8 >>> 6)) & 524287;
+      unCompressedData[outOffset + 30] = ((int) ((w8 << 13) | (w9 >>> 51))) & 524287;
+      unCompressedData[outOffset + 31] = ((int) (w9 >>> 32)) & 524287;
+      input.offset += 77;
+      output.offset += 32;
+    }
+  }
+
+  static final class FrameDecompressor20 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final byte[] compressedArray = input.bytes;
+      final int inOffset = input.offset + 1;
+      final int outOffset = output.offset;
+      final long w0 = buffer.getLong(inOffset + 0);
+      final long w1 = buffer.getLong(inOffset + 8);
+      final long w2 = buffer.getLong(inOffset + 16);
+      final long w3 = buffer.getLong(inOffset + 24);
+      final long w4 = buffer.getLong(inOffset + 32);
+      final long w5 = buffer.getLong(inOffset + 40);
+      final long w6 = buffer.getLong(inOffset + 48);
+      final long w7 = buffer.getLong(inOffset + 56);
+      final long w8 = buffer.getLong(inOffset + 64);
+      final long w9 = buffer.getLong(inOffset + 72);
+
+      unCompressedData[outOffset + 0] = (int) (w0 >>> 44);
+      unCompressedData[outOffset + 1] = ((int) (w0 >>> 24)) & 1048575;
+      unCompressedData[outOffset + 2] = ((int) (w0 >>> 4)) & 1048575;
+      unCompressedData[outOffset + 3] = ((int) ((w0 << 16) | (w1 >>> 48))) & 1048575;
+      unCompressedData[outOffset + 4] = ((int) (w1 >>> 28)) & 1048575;
+      unCompressedData[outOffset + 5] = ((int) (w1 >>> 8)) & 1048575;
+      unCompressedData[outOffset + 6] = ((int) ((w1 << 12) | (w2 >>> 52))) & 1048575;
+      unCompressedData[outOffset + 7] = ((int) (w2 >>> 32)) & 1048575;
+      unCompressedData[outOffset + 8] = ((int) (w2 >>> 12)) & 1048575;
+      unCompressedData[outOffset + 9] = ((int) ((w2 << 8) | (w3 >>> 56))) & 1048575;
+      unCompressedData[outOffset + 10] = ((int) (w3 >>> 36)) & 1048575;
+      unCompressedData[outOffset + 11] = ((int) (w3 >>> 16)) & 1048575;
+      unCompressedData[outOffset + 12] = ((int) ((w3 << 4) | (w4 >>> 60))) & 1048575;
+      unCompressedData[outOffset + 13] = ((int) (w4 >>> 40)) & 1048575;
+      unCompressedData[outOffset + 14] = ((int) (w4 >>> 20)) & 1048575;
+      unCompressedData[outOffset + 15] = ((int) (w4 >>> 0)) & 1048575;
+      unCompressedData[outOffset + 16] = (int) (w5 >>> 44);
+      unCompressedData[outOffset + 17] = ((int) (w5 >>> 24)) & 1048575;
+      unCompressedData[outOffset + 18] = ((int) (w5 >>> 4)) & 1048575;
+      unCompressedData[outOffset + 19] = ((int) ((w5 << 16) | (w6 >>> 48))) & 1048575;
+      unCompressedData[outOffset + 20] = ((int) (w6 >>> 28)) & 1048575;
+      unCompressedData[outOffset + 21] = ((int) (w6 >>> 8)) & 1048575;
+      unCompressedData[outOffset + 22] = ((int) ((w6 << 12) | (w7 >>> 52))) & 1048575;
+      unCompressedData[outOffset + 23] = ((int) (w7 >>> 32)) & 1048575;
+      unCompressedData[outOffset + 24] = ((int) (w7 >>> 12)) & 1048575;
+      unCompressedData[outOffset + 25] = ((int) ((w7 << 8) | (w8 >>> 56))) & 1048575;
+      unCompressedData[outOffset + 26] = ((int) (w8 >>> 36)) & 1048575;
+      unCompressedData[outOffset + 27] = ((int) (w8 >>> 16)) & 1048575;
+      unCompressedData[outOffset + 28] = ((int) ((w8 << 4) | (w9 >>> 60))) & 1048575;
+      unCompressedData[outOffset + 29] = ((int) (w9 >>> 40)) & 1048575;
+      unCompressedData[outOffset + 30] = ((int) (w9 >>> 20)) & 1048575;
+      unCompressedData[outOffset + 31] = ((int) (w9 >>> 0)) & 1048575;
+      input.offset += 81;
+      output.offset += 32;
+    }
+  }
+
+  static final class FrameDecompressor21 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final byte[] compressedArray = input.bytes;
+      final int inOffset = input.offset + 1;
+      final int outOffset = output.offset;
+      final long w0 = buffer.getLong(inOffset + 0);
+      final long w1 = buffer.getLong(inOffset + 8);
+      final long w2 = buffer.getLong(inOffset + 16);
+      final long w3 = buffer.getLong(inOffset + 24);
+      final long w4 = buffer.getLong(inOffset + 32);
+      final long w5 = buffer.getLong(inOffset + 40);
+      final long w6 = buffer.getLong(inOffset + 48);
+      final long w7 = buffer.getLong(inOffset + 56);
+      final long w8 = buffer.getLong(inOffset + 64);
+      final long w9 = buffer.getLong(inOffset + 72);
+      final long w10 = ((compressedArray[inOffset + 80] & 0xFFL) << 56) | ((compressedArray[inOffset + 81] & 0xFFL) << 48) | ((compressedArray[inOffset + 82] & 0xFFL) << 40) | ((compressedArray[inOffset + 83] & 0xFFL) << 32);
+
+      unCompressedData[outOffset + 0] = (int) (w0 >>> 43);
+      unCompressedData[outOffset + 1] = ((int) (w0 >>> 22)) & 2097151;
+      unCompressedData[outOffset + 2] = ((int) (w0 >>> 1)) & 2097151;
+      unCompressedData[outOffset + 3] = ((int) ((w0 << 20) | (w1 >>> 44))) & 2097151;
+      unCompressedData[outOffset + 4] = ((int) (w1 >>> 23)) & 2097151;
+      unCompressedData[outOffset + 5] = ((int) (w1 >>> 2)) & 2097151;
+      unCompressedData[outOffset + 6] = ((int) ((w1 << 19) | (w2 >>> 45))) & 2097151;
+      unCompressedData[outOffset + 7] = ((int) (w2 >>> 24)) & 2097151;
+      unCompressedData[outOffset + 8] = ((int) (w2 >>> 3)) & 2097151;
+      unCompressedData[outOffset + 9] = ((int) ((w2 << 18) | (w3 >>> 46))) & 2097151;
+      unCompressedData[outOffset + 10] = ((int) (w3 >>> 25)) & 2097151;
+      unCompressedData[outOffset + 11] = ((int) (w3 >>> 4)) & 2097151;
+      unCompressedData[outOffset + 12] = ((int) ((w3 << 17) | (w4 >>> 47))) & 2097151;
+      unCompressedData[outOffset + 13] = ((int) (w4 >>> 26)) & 2097151;
+      unCompressedData[outOffset + 14] = ((int) (w4 >>> 5)) & 2097151;
+      unCompressedData[outOffset + 15] = ((int) ((w4 << 16) | (w5 >>> 48))) & 2097151;
+      unCompressedData[outOffset + 16] = ((int) (w5 >>> 27)) & 2097151;
+      unCompressedData[outOffset + 17] = ((int) (w5 >>> 6)) & 2097151;
+      unCompressedData[outOffset + 18] = ((int) ((w5 << 15) | (w6 >>> 49))) & 2097151;
+      unCompressedData[outOffset + 19] = ((int) (w6 >>> 28)) & 2097151;
+      unCompressedData[outOffset + 20] = ((int) (w6 >>> 7)) & 2097151;
+      unCompressedData[outOffset + 21] = ((int) ((w6 << 14) | (w7 >>> 50))) & 2097151;
+      unCompressedData[outOffset + 22] = ((int) (w7 >>> 29)) & 2097151;
+      unCompressedData[outOffset + 23] = ((int) (w7 >>> 8)) & 2097151;
+      unCompressedData[outOffset + 24] = ((int) ((w7 << 13) | (w8 >>> 51))) & 2097151;
+      unCompressedData[outOffset + 25] = ((int) (w8 >>> 30)) & 2097151;
+      unCompressedData[outOffset + 26] = ((int) (w8 >>> 9)) & 2097151;
+      unCompressedData[outOffset + 27] = ((int) ((w8 << 12) | (w9 >>> 52))) & 2097151;
+      unCompressedData[outOffset + 28] = ((int) (w9 >>> 31)) & 2097151;
+      unCompressedData[outOffset + 29] = ((int) (w9 >>> 10)) & 2097151;
+      unCompressedData[outOffset + 30] = ((int) ((w9 << 11) | (w10 >>> 53))) & 2097151;
+      unCompressedData[outOffset + 31] = ((int) (w10 >>> 32)) & 2097151;
+      input.offset += 85;
+      output.offset += 32;
+    }
+  }
+
+  static final class FrameDecompressor22 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final byte[] compressedArray = input.bytes;
+      final int inOffset = input.offset + 1;
+      final int outOffset = output.offset;
+      final long w0 = buffer.getLong(inOffset + 0);
+      final long w1 = buffer.getLong(inOffset + 8);
+      final long w2 = buffer.getLong(inOffset + 16);
+      final long w3 = buffer.getLong(inOffset + 24);
+      final long w4 = buffer.getLong(inOffset + 32);
+      final long w5 = buffer.getLong(inOffset + 40);
+      final long w6 = buffer.getLong(inOffset + 48);
+      final long w7 = buffer.getLong(inOffset + 56);
+      final long w8 = buffer.getLong(inOffset + 64);
+      final long w9 = buffer.getLong(inOffset + 72);
+      final long w10 = buffer.getLong(inOffset + 80);
+
+      unCompressedData[outOffset + 0] = (int) (w0 >>> 42);
+      unCompressedData[outOffset + 1] = ((int) (w0 >>> 20)) & 4194303;
+      unCompressedData[outOffset + 2] = ((int) ((w0 << 2) | (w1 >>> 62))) & 4194303;
+      unCompressedData[outOffset + 3] = ((int) (w1 >>> 40)) & 4194303;
+      unCompressedData[outOffset + 4] = ((int) (w1 >>> 18)) & 4194303;
+      unCompressedData[outOffset + 5] = ((int) ((w1 << 4) | (w2 >>> 60))) & 4194303;
+      unCompressedData[outOffset + 6] = ((int) (w2 >>> 38)) & 4194303;
+      unCompressedData[outOffset + 7] = ((int) (w2 >>> 16)) & 4194303;
+      unCompressedData[outOffset + 8] = ((int) ((w2 << 6) | (w3 >>> 58))) & 4194303;
+      unCompressedData[outOffset + 9] = ((int) (w3 >>> 36)) & 4194303;
+      unCompressedData[outOffset + 10] = ((int) (w3 >>> 14)) & 4194303;
+      unCompressedData[outOffset + 11] = ((int) ((w3 << 8) | (w4 >>> 56))) & 4194303;
+      unCompressedData[outOffset + 12] = ((int) (w4 >>> 34)) & 4194303;
+      unCompressedData[outOffset + 13] = ((int) (w4 >>> 12)) & 4194303;
+      unCompressedData[outOffset + 14] = ((int) ((w4 << 10) | (w5 >>> 54))) & 4194303;
+      unCompressedData[outOffset + 15] = ((int) (w5 >>> 32)) & 4194303;
+      unCompressedData[outOffset + 16] = ((int) (w5 >>> 10)) & 4194303;
+      unCompressedData[outOffset + 17] = ((int) ((w5 << 12) | (w6 >>> 52))) & 4194303;
+      unCompressedData[outOffset + 18] = ((int) (w6 >>> 30)) & 4194303;
+      unCompressedData[outOffset + 19] = ((int) (w6 >>> 8)) & 4194303;
+      unCompressedData[outOffset + 20] = ((int) ((w6 << 14) | (w7 >>> 50))) & 4194303;
+      unCompressedData[outOffset + 21] = ((int) (w7 >>> 28)) & 4194303;
+      unCompressedData[outOffset + 22] = ((int) (w7 >>> 6)) & 4194303;
+      unCompressedData[outOffset + 23] = ((int) ((w7 << 16) | (w8 >>> 48))) & 4194303;
+      unCompressedData[outOffset + 24] = ((int) (w8 >>> 26)) & 4194303;
+      unCompressedData[outOffset + 25] = ((int) (w8 >>> 4)) & 4194303;
+      unCompressedData[outOffset + 26] = ((int) ((w8 << 18) | (w9 >>> 46))) & 4194303;
+      unCompressedData[outOffset + 27] = ((int) (w9 >>> 24)) & 4194303;
+      unCompressedData[outOffset + 28] = ((int) (w9 >>> 2)) & 4194303;
+      unCompressedData[outOffset + 29] = ((int) ((w9 << 20) | (w10 >>> 44))) & 4194303;
+      unCompressedData[outOffset + 30] = ((int) (w10 >>> 22)) & 4194303;
+      unCompressedData[outOffset + 31] = ((int) (w10 >>> 0)) & 4194303;
+      input.offset += 89;
+      output.offset += 32;
+    }
+  }
+
+  static final class FrameDecompressor23 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final byte[] compressedArray = input.bytes;
+      final int inOffset = input.offset + 1;
+      final int outOffset = output.offset;
+      final long w0 = buffer.getLong(inOffset + 0);
+      final long w1 = buffer.getLong(inOffset + 8);
+      final long w2 = buffer.getLong(inOffset + 16);
+      final long w3 = buffer.getLong(inOffset + 24);
+      final long w4 = buffer.getLong(inOffset + 32);
+      final long w5 = buffer.getLong(inOffset + 40);
+      final long w6 = buffer.getLong(inOffset + 48);
+      final long w7 = buffer.getLong(inOffset + 56);
+      final long w8 = buffer.getLong(inOffset + 64);
+      final long w9 = buffer.getLong(inOffset + 72);
+      final long w10 = buffer.getLong(inOffset + 80);
+      final long w11 = ((compressedArray[inOffset + 88] & 0xFFL) << 56) | ((compressedArray[inOffset + 89] & 0xFFL) << 48) | ((compressedArray[inOffset + 90] & 0xFFL) << 40) | ((compressedArray[inOffset + 91] & 0xFFL) << 32);
+
+      unCompressedData[outOffset + 0] = (int) (w0 >>> 41);
+      unCompressedData[outOffset + 1] = ((int) (w0 >>> 18)) & 8388607;
+      unCompressedData[outOffset + 2] = ((int) ((w0 << 5) | (w1 >>> 59))) & 8388607;
+      unCompressedData[outOffset + 3] = ((int) (w1 >>> 36)) & 8388607;
+      unCompressedData[outOffset + 4] = ((int) (w1 >>> 13)) & 8388607;
+      unCompressedData[outOffset + 5] = ((int) ((w1 << 10) | (w2 >>> 54))) & 8388607;
+      unCompressedData[outOffset + 6] = ((int) (w2 >>> 31)) & 8388607;
+      unCompressedData[outOffset + 7] = ((int) (w2 >>> 8)) & 8388607;
+      unCompressedData[outOffset + 8] = ((int) ((w2 << 15) | (w3 >>> 49))) & 8388607;
+      unCompressedData[outOffset + 9] = ((int) (w3 >>> 26)) & 8388607;
+      unCompressedData[outOffset + 10] = ((int) (w3 >>> 3)) & 8388607;
+      unCompressedData[outOffset + 11] = ((int) ((w3 << 20) | (w4 >>> 44))) & 8388607;
+      unCompressedData[outOffset + 12] = ((int) (w4 >>> 21)) & 8388607;
+      unCompressedData[outOffset + 13] = ((int) ((w4 << 2) | (w5 >>> 62))) & 8388607;
+      unCompressedData[outOffset + 14] = ((int) (w5 >>> 39)) & 8388607;
+      unCompressedData[outOffset + 15] = ((int) (w5 >>> 16)) & 8388607;
+      unCompressedData[outOffset + 16] = ((int) ((w5 << 7) | (w6 >>> 57))) & 8388607;
+      unCompressedData[outOffset + 17] = ((int) (w6 >>> 34)) & 8388607;
+      unCompressedData[outOffset + 18] = ((int) (w6 >>> 11)) & 8388607;
+      unCompressedData[outOffset + 19] = ((int) ((w6 << 12) | (w7 >>> 52))) & 8388607;
+      unCompressedData[outOffset + 20] = ((int) (w7 >>> 29)) & 8388607;
+      unCompressedData[outOffset + 21] = ((int) (w7 >>> 6)) & 8388607;
+      unCompressedData[outOffset + 22] = ((int) ((w7 << 17) | (w8 >>> 47))) & 8388607;
+      unCompressedData[outOffset + 23] = ((int) (w8 >>> 24)) & 8388607;
+      unCompressedData[outOffset + 24] = ((int) (w8 >>> 1)) & 8388607;
+      unCompressedData[outOffset + 25] = ((int) ((w8 << 22) | (w9 >>> 42))) & 8388607;
+      unCompressedData[outOffset + 26] = ((int) (w9 >>> 19)) & 8388607;
+      unCompressedData[outOffset + 27] = ((int) ((w9 << 4) | (w10 >>> 60))) & 8388607;
+      unCompressedData[outOffset + 28] = ((int) (w10 >>> 37)) & 8388607;
+      unCompressedData[outOffset + 29] = ((int) (w10 >>> 14)) & 8388607;
+      unCompressedData[outOffset + 30] = ((int) ((w10 << 9) | (w11 >>> 55))) & 8388607;
+      unCompressedData[outOffset + 31] = ((int) (w11 >>> 32)) & 8388607;
+      input.offset += 93;
+      output.offset += 32;
+    }
+  }
+
+  static final class FrameDecompressor24 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final byte[] compressedArray = input.bytes;
+      final int inOffset = input.offset + 1;
+      final int outOffset = output.offset;
+      final long w0 = buffer.getLong(inOffset + 0);
+      final long w1 = buffer.getLong(inOffset + 8);
+      final long w2 = buffer.getLong(inOffset + 16);
+      final long w3 = buffer.getLong(inOffset + 24);
+      final long w4 = buffer.getLong(inOffset + 32);
+      final long w5 = buffer.getLong(inOffset + 40);
+      final long w6 = buffer.getLong(inOffset + 48);
+      final long w7 = buffer.getLong(inOffset + 56);
+      final long w8 = buffer.getLong(inOffset + 64);
+      final long w9 = buffer.getLong(inOffset + 72);
+      final long w10 = buffer.getLong(inOffset + 80);
+      final long w11 = buffer.getLong(inOffset + 88);
+
+      unCompressedData[outOffset + 0] = (int) (w0 >>> 40);
+      unCompressedData[outOffset + 1] = ((int) (w0 >>> 16)) & 16777215;
+      unCompressedData[outOffset + 2] = ((int) ((w0 << 8) | (w1 >>> 56))) & 16777215;
+      unCompressedData[outOffset + 3] = ((int) (w1 >>> 32)) & 16777215;
+      unCompressedData[outOffset + 4] = ((int) (w1 >>> 8)) & 16777215;
+      unCompressedData[outOffset + 5] = ((int) ((w1 << 16) | (w2 >>> 48))) & 16777215;
+      unCompressedData[outOffset + 6] = ((int) (w2 >>> 24)) & 16777215;
+      unCompressedData[outOffset + 7] = ((int) (w2 >>> 0)) & 16777215;
+      unCompressedData[outOffset + 8] = (int) (w3 >>> 40);
+      unCompressedData[outOffset + 9] = ((int) (w3 >>> 16)) & 16777215;
+      unCompressedData[outOffset + 10] = ((int) ((w3 << 8) | (w4 >>> 56))) & 16777215;
+      unCompressedData[outOffset + 11] = ((int) (w4 >>> 32)) & 16777215;
+      unCompressedData[outOffset + 12] = ((int) (w4 >>> 8)) & 16777215;
+      unCompressedData[outOffset + 13] = ((int) ((w4 << 16) | (w5 >>> 48))) & 16777215;
+      unCompressedData[outOffset + 14] = ((int) (w5 >>> 24)) & 16777215;
+      unCompressedData[outOffset + 15] = ((int) (w5 >>> 0)) & 16777215;
+      unCompressedData[outOffset + 16] = (int) (w6 >>> 40);
+      unCompressedData[outOffset + 17] = ((int) (w6 >>> 16)) & 16777215;
+      unCompressedData[outOffset + 18] = ((int) ((w6 << 8) | (w7 >>> 56))) & 16777215;
+      unCompressedData[outOffset + 19] = ((int) (w7 >>> 32)) & 16777215;
+      unCompressedData[outOffset + 20] = ((int) (w7 >>> 8)) & 16777215;
+      unCompressedData[outOffset + 21] = ((int) ((w7 << 16) | (w8 >>> 48))) & 16777215;
+      unCompressedData[outOffset + 22] = ((int) (w8 >>> 24)) & 16777215;
+      unCompressedData[outOffset + 23] = ((int) (w8 >>> 0)) & 16777215;
+      unCompressedData[outOffset + 24] = (int) (w9 >>> 40);
+      unCompressedData[outOffset + 25] = ((int) (w9 >>> 16)) & 16777215;
+      unCompressedData[outOffset + 26] = ((int) ((w9 << 8) | (w10 >>> 56))) & 16777215;
+      unCompressedData[outOffset + 27] = ((int) (w10 >>> 32)) & 16777215;
+      unCompressedData[outOffset + 28] = ((int) (w10 >>> 8)) & 16777215;
+      unCompressedData[outOffset + 29] = ((int) ((w10 << 16) | (w11 >>> 48))) & 16777215;
+      unCompressedData[outOffset + 30] = ((int) (w11 >>> 24)) & 16777215;
+      unCompressedData[outOffset + 31] = ((int) (w11 >>> 0)) & 16777215;
+      input.offset += 97;
+      output.offset += 32;
+    }
+  }
+
+  static final class FrameDecompressor25 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final byte[] compressedArray = input.bytes;
+      final int inOffset = input.offset + 1;
+      final int outOffset = output.offset;
+      final long w0 = buffer.getLong(inOffset + 0);
+      final long w1 = buffer.getLong(inOffset + 8);
+      final long w2 = buffer.getLong(inOffset + 16);
+      final long w3 = buffer.getLong(inOffset + 24);
+      final long w4 = buffer.getLong(inOffset + 32);
+      final long w5 = buffer.getLong(inOffset + 40);
+      final long w6 = buffer.getLong(inOffset + 48);
+      final long w7 = buffer.getLong(inOffset + 56);
+      final long w8 = buffer.getLong(inOffset + 64);
+      final long w9 = buffer.getLong(inOffset + 72);
+      final long w10 = buffer.getLong(inOffset + 80);
+      final long w11 = buffer.getLong(inOffset + 88);
+      final long w12 = ((compressedArray[inOffset + 96] & 0xFFL) << 56) | ((compressedArray[inOffset + 97] & 0xFFL) << 48) | ((compressedArray[inOffset + 98] & 0xFFL) << 40) | ((compressedArray[inOffset + 99] & 0xFFL) << 32);
+
+      unCompressedData[outOffset + 0] = (int) (w0 >>> 39);
+      unCompressedData[outOffset + 1] = ((int) (w0 >>> 14)) & 33554431;
+      unCompressedData[outOffset + 2] = ((int) ((w0 << 11) | (w1 >>> 53))) & 33554431;
+      unCompressedData[outOffset + 3] = ((int) (w1 >>> 28)) & 33554431;
+      unCompressedData[outOffset + 4] = ((int) (w1 >>> 3)) & 33554431;
+      unCompressedData[outOffset + 5] = ((int) ((w1 << 22) | (w2 >>> 42))) & 33554431;
+      unCompressedData[outOffset + 6] = ((int) (w2 >>> 17)) & 33554431;
+      unCompressedData[outOffset + 7] = ((int) ((w2 << 8) | (w3 >>> 56))) & 33554431;
+      unCompressedData[outOffset + 8] = ((int) (w3 >>> 31)) & 33554431;
+      unCompressedData[outOffset + 9] = ((int) (w3 >>> 6)) & 33554431;
+      unCompressedData[outOffset + 10] = ((int) ((w3 << 19) | (w4 >>> 45))) & 33554431;
+      unCompressedData[outOffset + 11] = ((int) (w4 >>> 20)) & 33554431;
+      unCompressedData[outOffset + 12] = ((int) ((w4 << 5) | (w5 >>> 59))) & 33554431;
+      unCompressedData[outOffset + 13] = ((int) (w5 >>> 34)) & 33554431;
+      unCompressedData[outOffset + 14] = ((int) (w5 >>> 9)) & 33554431;
+      unCompressedData[outOffset + 15] = ((int) ((w5 << 16) | (w6 >>> 48))) & 33554431;
+      unCompressedData[outOffset + 16] = ((int) (w6 >>> 23)) & 33554431;
+      unCompressedData[outOffset + 17] = ((int) ((w6 << 2) | (w7 >>> 62))) & 33554431;
+      unCompressedData[outOffset + 18] = ((int) (w7 >>> 37)) & 33554431;
+      unCompressedData[outOffset + 19] = ((int) (w7 >>> 12)) & 33554431;
+      unCompressedData[outOffset + 20] = ((int) ((w7 << 13) | (w8 >>> 51))) & 33554431;
+      unCompressedData[outOffset + 21] = ((int) (w8 >>> 26)) & 33554431;
+      unCompressedData[outOffset + 22] = ((int) (w8 >>> 1)) & 33554431;
+      unCompressedData[outOffset + 23] = ((int) ((w8 << 24) | (w9 >>> 40))) & 33554431;
+      unCompressedData[outOffset + 24] = ((int) (w9 >>> 15)) & 33554431;
+      unCompressedData[outOffset + 25] = ((int) ((w9 << 10) | (w10 >>> 54))) & 33554431;
+      unCompressedData[outOffset + 26] = ((int) (w10 >>> 29)) & 33554431;
+      unCompressedData[outOffset + 27] = ((int) (w10 >>> 4)) & 33554431;
+      unCompressedData[outOffset + 28] = ((int) ((w10 << 21) | (w11 >>> 43))) & 33554431;
+      unCompressedData[outOffset + 29] = ((int) (w11 >>> 18)) & 33554431;
+      unCompressedData[outOffset + 30] = ((int) ((w11 << 7) | (w12 >>> 57))) & 33554431;
+      unCompressedData[outOffset + 31] = ((int) (w12 >>> 32)) & 33554431;
+      input.offset += 101;
+      output.offset += 32;
+    }
+  }
+
+  static final class FrameDecompressor26 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final byte[] compressedArray = input.bytes;
+      final int inOffset = input.offset + 1;
+      final int outOffset = output.offset;
+      final long w0 = buffer.getLong(inOffset + 0);
+      final long w1 = buffer.getLong(inOffset + 8);
+      final long w2 = buffer.getLong(inOffset + 16);
+      final long w3 = buffer.getLong(inOffset + 24);
+      final long w4 = buffer.getLong(inOffset + 32);
+      final long w5 = buffer.getLong(inOffset + 40);
+      final long w6 = buffer.getLong(inOffset + 48);
+      final long w7 = buffer.getLong(inOffset + 56);
+      final long w8 = buffer.getLong(inOffset + 64);
+      final long w9 = buffer.getLong(inOffset + 72);
+      final long w10 = buffer.getLong(inOffset + 80);
+      final long w11 = buffer.getLong(inOffset + 88);
+      final long w12 = buffer.getLong(inOffset + 96);
+
+      unCompressedData[outOffset + 0] = (int) (w0 >>> 38);
+      unCompressedData[outOffset + 1] = ((int) (w0 >>> 12)) & 67108863;
+      unCompressedData[outOffset + 2] = ((int) ((w0 << 14) | (w1 >>> 50))) & 67108863;
+      unCompressedData[outOffset + 3] = ((int) (w1 >>> 24)) & 67108863;
+      unCompressedData[outOffset + 4] = ((int) ((w1 << 2) | (w2 >>> 62))) & 67108863;
+      unCompressedData[outOffset + 5] = ((int) (w2 >>> 36)) & 67108863;
+      unCompressedData[outOffset + 6] = ((int) (w2 >>> 10)) & 67108863;
+      unCompressedData[outOffset + 7] = ((int) ((w2 << 16) | (w3 >>> 48))) & 67108863;
+      unCompressedData[outOffset + 8] = ((int) (w3 >>> 22)) & 67108863;
+      unCompressedData[outOffset + 9] = ((int) ((w3 << 4) | (w4 >>> 60))) & 67108863;
+      unCompressedData[outOffset + 10] = ((int) (w4 >>> 34)) & 67108863;
+      unCompressedData[outOffset + 11] = ((int) (w4 >>> 8)) & 67108863;
+      unCompressedData[outOffset + 12] = ((int) ((w4 << 18) | (w5 >>> 46))) & 67108863;
+      unCompressedData[outOffset + 13] = ((int) (w5 >>> 20)) & 67108863;
+      unCompressedData[outOffset + 14] = ((int) ((w5 << 6) | (w6 >>> 58))) & 67108863;
+      unCompressedData[outOffset + 15] = ((int) (w6 >>> 32)) & 67108863;
+      unCompressedData[outOffset + 16] = ((int) (w6 >>> 6)) & 67108863;
+      unCompressedData[outOffset + 17] = ((int) ((w6 << 20) | (w7 >>> 44))) & 67108863;
+      unCompressedData[outOffset + 18] = ((int) (w7 >>> 18)) & 67108863;
+      unCompressedData[outOffset + 19] = ((int) ((w7 << 8) | (w8 >>> 56))) & 67108863;
+      unCompressedData[outOffset + 20] = ((int) (w8 >>> 30)) & 67108863;
+      unCompressedData[outOffset + 21] = ((int) (w8 >>> 4)) & 67108863;
+      unCompressedData[outOffset + 22] = ((int) ((w8 << 22) | (w9 >>> 42))) & 67108863;
+      unCompressedData[outOffset + 23] = ((int) (w9 >>> 16)) & 67108863;
+      unCompressedData[outOffset + 24] = ((int) ((w9 << 10) | (w10 >>> 54))) & 67108863;
+      unCompressedData[outOffset + 25] = ((int) (w10 >>> 28)) & 67108863;
+      unCompressedData[outOffset + 26] = ((int) (w10 >>> 2)) & 67108863;
+      unCompressedData[outOffset + 27] = ((int) ((w10 << 24) | (w11 >>> 40))) & 67108863;
+      unCompressedData[outOffset + 28] = ((int) (w11 >>> 14)) & 67108863;
+      unCompressedData[outOffset + 29] = ((int) ((w11 << 12) | (w12 >>> 52))) & 67108863;
+      unCompressedData[outOffset + 30] = ((int) (w12 >>> 26)) & 67108863;
+      unCompressedData[outOffset + 31] = ((int) (w12 >>> 0)) & 67108863;
+      input.offset += 105;
+      output.offset += 32;
+    }
+  }
+
+  static final class FrameDecompressor27 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final byte[] compressedArray = input.bytes;
+      final int inOffset = input.offset + 1;
+      final int outOffset = output.offset;
+      final long w0 = buffer.getLong(inOffset + 0);
+      final long w1 = buffer.getLong(inOffset + 8);
+      final long w2 = buffer.getLong(inOffset + 16);
+      final long w3 = buffer.getLong(inOffset + 24);
+      final long w4 = buffer.getLong(inOffset + 32);
+      final long w5 = buffer.getLong(inOffset + 40);
+      final long w6 = buffer.getLong(inOffset + 48);
+      final long w7 = buffer.getLong(inOffset + 56);
+      final long w8 = buffer.getLong(inOffset + 64);
+      final long w9 = buffer.getLong(inOffset + 72);
+      final long w10 = buffer.getLong(inOffset + 80);
+      final long w11 = buffer.getLong(inOffset + 88);
+      final long w12 = buffer.getLong(inOffset + 96);
+      final long w13 = ((compressedArray[inOffset + 104] & 0xFFL) << 56) | ((compressedArray[inOffset + 105] & 0xFFL) << 48) | ((compressedArray[inOffset + 106] & 0xFFL) << 40) | ((compressedArray[inOffset + 107] & 0xFFL) << 32);
+
+      unCompressedData[outOffset + 0] = (int) (w0 >>> 37);
+      unCompressedData[outOffset + 1] = ((int) (w0 >>> 10)) & 134217727;
+      unCompressedData[outOffset + 2] = ((int) ((w0 << 17) | (w1 >>> 47))) & 134217727;
+      unCompressedData[outOffset + 3] = ((int) (w1 >>> 20)) & 134217727;
+      unCompressedData[outOffset + 4] = ((int) ((w1 << 7) | (w2 >>> 57))) & 134217727;
+      unCompressedData[outOffset + 5] = ((int) (w2 >>> 30)) & 134217727;
+      unCompressedData[outOffset + 6] = ((int) (w2 >>> 3)) & 134217727;
+      unCompressedData[outOffset + 7] = ((int) ((w2 << 24) | (w3 >>> 40))) & 134217727;
+      unCompressedData[outOffset + 8] = ((int) (w3 >>> 13)) & 134217727;
+      unCompressedData[outOffset + 9] = ((int) ((w3 << 14) | (w4 >>> 50))) & 134217727;
+      unCompressedData[outOffset + 10] = ((int) (w4 >>> 23)) & 134217727;
+      unCompressedData[outOffset + 11] = ((int) ((w4 << 4) | (w5 >>> 60))) & 134217727;
+      unCompressedData[outOffset + 12] = ((int) (w5 >>> 33)) & 134217727;
+      unCompressedData[outOffset + 13] = ((int) (w5 >>> 6)) & 134217727;
+      unCompressedData[outOffset + 14] = ((int) ((w5 << 21) | (w6 >>> 43))) & 134217727;
+      unCompressedData[outOffset + 15] = ((int) (w6 >>> 16)) & 134217727;
+      unCompressedData[outOffset + 16] = ((int) ((w6 << 11) | (w7 >>> 53))) & 134217727;
+      unCompressedData[outOffset + 17] = ((int) (w7 >>> 26)) & 134217727;
+      unCompressedData[outOffset + 18] = ((int) ((w7 << 1) | (w8 >>> 63))) & 134217727;
+      unCompressedData[outOffset + 19] = ((int) (w8 >>> 36)) & 134217727;
+      unCompressedData[outOffset + 20] = ((int) (w8 >>> 9)) & 134217727;
+      unCompressedData[outOffset + 21] = ((int) ((w8 << 18) | (w9 >>> 46))) & 134217727;
+      unCompressedData[outOffset + 22] = ((int) (w9 >>> 19)) & 134217727;
+      unCompressedData[outOffset + 23] = ((int) ((w9 << 8) | (w10 >>> 56))) & 134217727;
+      unCompressedData[outOffset + 24] = ((int) (w10 >>> 29)) & 134217727;
+      unCompressedData[outOffset + 25] = ((int) (w10 >>> 2)) & 134217727;
+      unCompressedData[outOffset + 26] = ((int) ((w10 << 25) | (w11 >>> 39))) & 134217727;
+      unCompressedData[outOffset + 27] = ((int) (w11 >>> 12)) & 134217727;
+      unCompressedData[outOffset + 28] = ((int) ((w11 << 15) | (w12 >>> 49))) & 134217727;
+      unCompressedData[outOffset + 29] = ((int) (w12 >>> 22)) & 134217727;
+      unCompressedData[outOffset + 30] = ((int) ((w12 << 5) | (w13 >>> 59))) & 134217727;
+      unCompressedData[outOffset + 31] = ((int) (w13 >>> 32)) & 134217727;
+      input.offset += 109;
+      output.offset += 32;
+    }
+  }
+
+  static final class FrameDecompressor28 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final byte[] compressedArray = input.bytes;
+      final int inOffset = input.offset + 1;
+      final int outOffset = output.offset;
+      final long w0 = buffer.getLong(inOffset + 0);
+      final long w1 = buffer.getLong(inOffset + 8);
+      final long w2 = buffer.getLong(inOffset + 16);
+      final long w3 = buffer.getLong(inOffset + 24);
+      final long w4 = buffer.getLong(inOffset + 32);
+      final long w5 = buffer.getLong(inOffset + 40);
+      final long w6 = buffer.getLong(inOffset + 48);
+      final long w7 = buffer.getLong(inOffset + 56);
+      final long w8 = buffer.getLong(inOffset + 64);
+      final long w9 = buffer.getLong(inOffset + 72);
+      final long w10 = buffer.getLong(inOffset + 80);
+      final long w11 = buffer.getLong(inOffset + 88);
+      final long w12 = buffer.getLong(inOffset + 96);
+      final long w13 = buffer.getLong(inOffset + 104);
+
+      unCompressedData[outOffset + 0] = (int) (w0 >>> 36);
+      unCompressedData[outOffset + 1] = ((int) (w0 >>> 8)) & 268435455;
+      unCompressedData[outOffset + 2] = ((int) ((w0 << 20) | (w1 >>> 44))) & 268435455;
+      unCompressedData[outOffset + 3] = ((int) (w1 >>> 16)) & 268435455;
+      unCompressedData[outOffset + 4] = ((int) ((w1 << 12) | (w2 >>> 52))) & 268435455;
+      unCompressedData[outOffset + 5] = ((int) (w2 >>> 24)) & 268435455;
+      unCompressedData[outOffset + 6] = ((int) ((w2 << 4) | (w3 >>> 60))) & 268435455;
+      unCompressedData[outOffset + 7] = ((int) (w3 >>> 32)) & 268435455;
+      unCompressedData[outOffset + 8] = ((int) (w3 >>> 4)) & 268435455;
+      unCompressedData[outOffset + 9] = ((int) ((w3 << 24) | (w4 >>> 40))) & 268435455;
+      unCompressedData[outOffset + 10] = ((int) (w4 >>> 12)) & 268435455;
+      unCompressedData[outOffset + 11] = ((int) ((w4 << 16) | (w5 >>> 48))) & 268435455;
+      unCompressedData[outOffset + 12] = ((int) (w5 >>> 20)) & 268435455;
+      unCompressedData[outOffset + 13] = ((int) ((w5 << 8) | (w6 >>> 56))) & 268435455;
+      unCompressedData[outOffset + 14] = ((int) (w6 >>> 28)) & 268435455;
+      unCompressedData[outOffset + 15] = ((int) (w6 >>> 0)) & 268435455;
+      unCompressedData[outOffset + 16] = (int) (w7 >>> 36);
+      unCompressedData[outOffset + 17] = ((int) (w7 >>> 8)) & 268435455;
+      unCompressedData[outOffset + 18] = ((int) ((w7 << 20) | (w8 >>> 44))) & 268435455;
+      unCompressedData[outOffset + 19] = ((int) (w8 >>> 16)) & 268435455;
+      unCompressedData[outOffset + 20] = ((int) ((w8 << 12) | (w9 >>> 52))) & 268435455;
+      unCompressedData[outOffset + 21] = ((int) (w9 >>> 24)) & 268435455;
+      unCompressedData[outOffset + 22] = ((int) ((w9 << 4) | (w10 >>> 60))) & 268435455;
+      unCompressedData[outOffset + 23] = ((int) (w10 >>> 32)) & 268435455;
+      unCompressedData[outOffset + 24] = ((int) (w10 >>> 4)) & 268435455;
+      unCompressedData[outOffset + 25] = ((int) ((w10 << 24) | (w11 >>> 40))) & 268435455;
+      unCompressedData[outOffset + 26] = ((int) (w11 >>> 12)) & 268435455;
+      unCompressedData[outOffset + 27] = ((int) ((w11 << 16) | (w12 >>> 48))) & 268435455;
+      unCompressedData[outOffset + 28] = ((int) (w12 >>> 20)) & 268435455;
+      unCompressedData[outOffset + 29] = ((int) ((w12 << 8) | (w13 >>> 56))) & 268435455;
+      unCompressedData[outOffset + 30] = ((int) (w13 >>> 28)) & 268435455;
+      unCompressedData[outOffset + 31] = ((int) (w13 >>> 0)) & 268435455;
+      input.offset += 113;
+      output.offset += 32;
+    }
+  }
+
+  static final class FrameDecompressor29 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final byte[] compressedArray = input.bytes;
+      final int inOffset = input.offset + 1;
+      final int outOffset = output.offset;
+      final long w0 = buffer.getLong(inOffset + 0);
+      final long w1 = buffer.getLong(inOffset + 8);
+      final long w2 = buffer.getLong(inOffset + 16);
+      final long w3 = buffer.getLong(inOffset + 24);
+      final long w4 = buffer.getLong(inOffset + 32);
+      final long w5 = buffer.getLong(inOffset + 40);
+      final long w6 = buffer.getLong(inOffset + 48);
+      final long w7 = buffer.getLong(inOffset + 56);
+      final long w8 = buffer.getLong(inOffset + 64);
+      final long w9 = buffer.getLong(inOffset + 72);
+      final long w10 = buffer.getLong(inOffset + 80);
+      final long w11 = buffer.getLong(inOffset + 88);
+      final long w12 = buffer.getLong(inOffset + 96);
+      final long w13 = buffer.getLong(inOffset + 104);
+      final long w14 = ((compressedArray[inOffset + 112] & 0xFFL) << 56) | ((compressedArray[inOffset + 113] & 0xFFL) << 48) | ((compressedArray[inOffset + 114] & 0xFFL) << 40) | ((compressedArray[inOffset + 115] & 0xFFL) << 32);
+
+      unCompressedData[outOffset + 0] = (int) (w0 >>> 35);
+      unCompressedData[outOffset + 1] = ((int) (w0 >>> 6)) & 536870911;
+      unCompressedData[outOffset + 2] = ((int) ((w0 << 23) | (w1 >>> 41))) & 536870911;
+      unCompressedData[outOffset + 3] = ((int) (w1 >>> 12)) & 536870911;
+      unCompressedData[outOffset + 4] = ((int) ((w1 << 17) | (w2 >>> 47))) & 536870911;
+      unCompressedData[outOffset + 5] = ((int) (w2 >>> 18)) & 536870911;
+      unCompressedData[outOffset + 6] = ((int) ((w2 << 11) | (w3 >>> 53))) & 536870911;
+      unCompressedData[outOffset + 7] = ((int) (w3 >>> 24)) & 536870911;
+      unCompressedData[outOffset + 8] = ((int) ((w3 << 5) | (w4 >>> 59))) & 536870911;
+      unCompressedData[outOffset + 9] = ((int) (w4 >>> 30)) & 536870911;
+      unCompressedData[outOffset + 10] = ((int) (w4 >>> 1)) & 536870911;
+      unCompressedData[outOffset + 11] = ((int) ((w4 << 28) | (w5 >>> 36))) & 536870911;
+      unCompressedData[outOffset + 12] = ((int) (w5 >>> 7)) & 536870911;
+      unCompressedData[outOffset + 13] = ((int) ((w5 << 22) | (w6 >>> 42))) & 536870911;
+      unCompressedData[outOffset + 14] = ((int) (w6 >>> 13)) & 536870911;
+      unCompressedData[outOffset + 15] = ((int) ((w6 << 16) | (w7 >>> 48))) & 536870911;
+      unCompressedData[outOffset + 16] = ((int) (w7 >>> 19)) & 536870911;
+      unCompressedData[outOffset + 17] = ((int) ((w7 << 10) | (w8 >>> 54))) & 536870911;
+      unCompressedData[outOffset + 18] = ((int) (w8 >>> 25)) & 536870911;
+      unCompressedData[outOffset + 19] = ((int) ((w8 << 4) | (w9 >>> 60))) & 536870911;
+      unCompressedData[outOffset + 20] = ((int) (w9 >>> 31)) & 536870911;
+      unCompressedData[outOffset + 21] = ((int) (w9 >>> 2)) & 536870911;
+      unCompressedData[outOffset + 22] = ((int) ((w9 << 27) | (w10 >>> 37))) & 536870911;
+      unCompressedData[outOffset + 23] = ((int) (w10 >>> 8)) & 536870911;
+      unCompressedData[outOffset + 24] = ((int) ((w10 << 21) | (w11 >>> 43))) & 536870911;
+      unCompressedData[outOffset + 25] = ((int) (w11 >>> 14)) & 536870911;
+      unCompressedData[outOffset + 26] = ((int) ((w11 << 15) | (w12 >>> 49))) & 536870911;
+      unCompressedData[outOffset + 27] = ((int) (w12 >>> 20)) & 536870911;
+      unCompressedData[outOffset + 28] = ((int) ((w12 << 9) | (w13 >>> 55))) & 536870911;
+      unCompressedData[outOffset + 29] = ((int) (w13 >>> 26)) & 536870911;
+      unCompressedData[outOffset + 30] = ((int) ((w13 << 3) | (w14 >>> 61))) & 536870911;
+      unCompressedData[outOffset + 31] = ((int) (w14 >>> 32)) & 536870911;
+      input.offset += 117;
+      output.offset += 32;
+    }
+  }
+
+  static final class FrameDecompressor30 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final byte[] compressedArray = input.bytes;
+      final int inOffset = input.offset + 1;
+      final int outOffset = output.offset;
+      final long w0 = buffer.getLong(inOffset + 0);
+      final long w1 = buffer.getLong(inOffset + 8);
+      final long w2 = buffer.getLong(inOffset + 16);
+      final long w3 = buffer.getLong(inOffset + 24);
+      final long w4 = buffer.getLong(inOffset + 32);
+      final long w5 = buffer.getLong(inOffset + 40);
+      final long w6 = buffer.getLong(inOffset + 48);
+      final long w7 = buffer.getLong(inOffset + 56);
+      final long w8 = buffer.getLong(inOffset + 64);
+      final long w9 = buffer.getLong(inOffset + 72);
+      final long w10 = buffer.getLong(inOffset + 80);
+      final long w11 = buffer.getLong(inOffset + 88);
+      final long w12 = buffer.getLong(inOffset + 96);
+      final long w13 = buffer.getLong(inOffset + 104);
+      final long w14 = buffer.getLong(inOffset + 112);
+
+      unCompressedData[outOffset + 0] = (int) (w0 >>> 34);
+      unCompressedData[outOffset + 1] = ((int) (w0 >>> 4)) & 1073741823;
+      unCompressedData[outOffset + 2] = ((int) ((w0 << 26) | (w1 >>> 38))) & 1073741823;
+      unCompressedData[outOffset + 3] = ((int) (w1 >>> 8)) & 1073741823;
+      unCompressedData[outOffset + 4] = ((int) ((w1 << 22) | (w2 >>> 42))) & 1073741823;
+      unCompressedData[outOffset + 5] = ((int) (w2 >>> 12)) & 1073741823;
+      unCompressedData[outOffset + 6] = ((int) ((w2 << 18) | (w3 >>> 46))) & 1073741823;
+      unCompressedData[outOffset + 7] = ((int) (w3 >>> 16)) & 1073741823;
+      unCompressedData[outOffset + 8] = ((int) ((w3 << 14) | (w4 >>> 50))) & 1073741823;
+      unCompressedData[outOffset + 9] = ((int) (w4 >>> 20)) & 1073741823;
+      unCompressedData[outOffset + 10] = ((int) ((w4 << 10) | (w5 >>> 54))) & 1073741823;
+      unCompressedData[outOffset + 11] = ((int) (w5 >>> 24)) & 1073741823;
+      unCompressedData[outOffset + 12] = ((int) ((w5 << 6) | (w6 >>> 58))) & 1073741823;
+      unCompressedData[outOffset + 13] = ((int) (w6 >>> 28)) & 1073741823;
+      unCompressedData[outOffset + 14] = ((int) ((w6 << 2) | (w7 >>> 62))) & 1073741823;
+      unCompressedData[outOffset + 15] = ((int) (w7 >>> 32)) & 1073741823;
+      unCompressedData[outOffset + 16] = ((int) (w7 >>> 2)) & 1073741823;
+      unCompressedData[outOffset + 17] = ((int) ((w7 << 28) | (w8 >>> 36))) & 1073741823;
+      unCompressedData[outOffset + 18] = ((int) (w8 >>> 6)) & 1073741823;
+      unCompressedData[outOffset + 19] = ((int) ((w8 << 24) | (w9 >>> 40))) & 1073741823;
+      unCompressedData[outOffset + 20] = ((int) (w9 >>> 10)) & 1073741823;
+      unCompressedData[outOffset + 21] = ((int) ((w9 << 20) | (w10 >>> 44))) & 1073741823;
+      unCompressedData[outOffset + 22] = ((int) (w10 >>> 14)) & 1073741823;
+      unCompressedData[outOffset + 23] = ((int) ((w10 << 16) | (w11 >>> 48))) & 1073741823;
+      unCompressedData[outOffset + 24] = ((int) (w11 >>> 18)) & 1073741823;
+      unCompressedData[outOffset + 25] = ((int) ((w11 << 12) | (w12 >>> 52))) & 1073741823;
+      unCompressedData[outOffset + 26] = ((int) (w12 >>> 22)) & 1073741823;
+      unCompressedData[outOffset + 27] = ((int) ((w12 << 8) | (w13 >>> 56))) & 1073741823;
+      unCompressedData[outOffset + 28] = ((int) (w13 >>> 26)) & 1073741823;
+      unCompressedData[outOffset + 29] = ((int) ((w13 << 4) | (w14 >>> 60))) & 1073741823;
+      unCompressedData[outOffset + 30] = ((int) (w14 >>> 30)) & 1073741823;
+      unCompressedData[outOffset + 31] = ((int) (w14 >>> 0)) & 1073741823;
+      input.offset += 121;
+      output.offset += 32;
+    }
+  }
+
+  static final class FrameDecompressor31 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final byte[] compressedArray = input.bytes;
+      final int inOffset = input.offset + 1;
+      final int outOffset = output.offset;
+      final long w0 = buffer.getLong(inOffset + 0);
+      final long w1 = buffer.getLong(inOffset + 8);
+      final long w2 = buffer.getLong(inOffset + 16);
+      final long w3 = buffer.getLong(inOffset + 24);
+      final long w4 = buffer.getLong(inOffset + 32);
+      final long w5 = buffer.getLong(inOffset + 40);
+      final long w6 = buffer.getLong(inOffset + 48);
+      final long w7 = buffer.getLong(inOffset + 56);
+      final long w8 = buffer.getLong(inOffset + 64);
+      final long w9 = buffer.getLong(inOffset + 72);
+      final long w10 = buffer.getLong(inOffset + 80);
+      final long w11 = buffer.getLong(inOffset + 88);
+      final long w12 = buffer.getLong(inOffset + 96);
+      final long w13 = buffer.getLong(inOffset + 104);
+      final long w14 = buffer.getLong(inOffset + 112);
+      final long w15 = ((compressedArray[inOffset + 120] & 0xFFL) << 56) | ((compressedArray[inOffset + 121] & 0xFFL) << 48) | ((compressedArray[inOffset + 122] & 0xFFL) << 40) | ((compressedArray[inOffset + 123] & 0xFFL) << 32);
+
+      unCompressedData[outOffset + 0] = (int) (w0 >>> 33);
+      unCompressedData[outOffset + 1] = ((int) (w0 >>> 2)) & 2147483647;
+      unCompressedData[outOffset + 2] = ((int) ((w0 << 29) | (w1 >>> 35))) & 2147483647;
+      unCompressedData[outOffset + 3] = ((int) (w1 >>> 4)) & 2147483647;
+      unCompressedData[outOffset + 4] = ((int) ((w1 << 27) | (w2 >>> 37))) & 2147483647;
+      unCompressedData[outOffset + 5] = ((int) (w2 >>> 6)) & 2147483647;
+      unCompressedData[outOffset + 6] = ((int) ((w2 << 25) | (w3 >>> 39))) & 2147483647;
+      unCompressedData[outOffset + 7] = ((int) (w3 >>> 8)) & 2147483647;
+      unCompressedData[outOffset + 8] = ((int) ((w3 << 23) | (w4 >>> 41))) & 2147483647;
+      unCompressedData[outOffset + 9] = ((int) (w4 >>> 10)) & 2147483647;
+      unCompressedData[outOffset + 10] = ((int) ((w4 << 21) | (w5 >>> 43))) & 2147483647;
+      unCompressedData[outOffset + 11] = ((int) (w5 >>> 12)) & 2147483647;
+      unCompressedData[outOffset + 12] = ((int) ((w5 << 19) | (w6 >>> 45))) & 2147483647;
+      unCompressedData[outOffset + 13] = ((int) (w6 >>> 14)) & 2147483647;
+      unCompressedData[outOffset + 14] = ((int) ((w6 << 17) | (w7 >>> 47))) & 2147483647;
+      unCompressedData[outOffset + 15] = ((int) (w7 >>> 16)) & 2147483647;
+      unCompressedData[outOffset + 16] = ((int) ((w7 << 15) | (w8 >>> 49))) & 2147483647;
+      unCompressedData[outOffset + 17] = ((int) (w8 >>> 18)) & 2147483647;
+      unCompressedData[outOffset + 18] = ((int) ((w8 << 13) | (w9 >>> 51))) & 2147483647;
+      unCompressedData[outOffset + 19] = ((int) (w9 >>> 20)) & 2147483647;
+      unCompressedData[outOffset + 20] = ((int) ((w9 << 11) | (w10 >>> 53))) & 2147483647;
+      unCompressedData[outOffset + 21] = ((int) (w10 >>> 22)) & 2147483647;
+      unCompressedData[outOffset + 22] = ((int) ((w10 << 9) | (w11 >>> 55))) & 2147483647;
+      unCompressedData[outOffset + 23] = ((int) (w11 >>> 24)) & 2147483647;
+      unCompressedData[outOffset + 24] = ((int) ((w11 << 7) | (w12 >>> 57))) & 2147483647;
+      unCompressedData[outOffset + 25] = ((int) (w12 >>> 26)) & 2147483647;
+      unCompressedData[outOffset + 26] = ((int) ((w12 << 5) | (w13 >>> 59))) & 2147483647;
+      unCompressedData[outOffset + 27] = ((int) (w13 >>> 28)) & 2147483647;
+      unCompressedData[outOffset + 28] = ((int) ((w13 << 3) | (w14 >>> 61))) & 2147483647;
+      unCompressedData[outOffset + 29] = ((int) (w14 >>> 30)) & 2147483647;
+      unCompressedData[outOffset + 30] = ((int) ((w14 << 1) | (w15 >>> 63))) & 2147483647;
+      unCompressedData[outOffset + 31] = ((int) (w15 >>> 32)) & 2147483647;
+      input.offset += 125;
+      output.offset += 32;
+    }
+  }
+
+  static final class FrameDecompressor32 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final byte[] compressedArray = input.bytes;
+      final int inOffset = input.offset + 1;
+      final int outOffset = output.offset;
+      final long w0 = buffer.getLong(inOffset + 0);
+      final long w1 = buffer.getLong(inOffset + 8);
+      final long w2 = buffer.getLong(inOffset + 16);
+      final long w3 = buffer.getLong(inOffset + 24);
+      final long w4 = buffer.getLong(inOffset + 32);
+      final long w5 = buffer.getLong(inOffset + 40);
+      final long w6 = buffer.getLong(inOffset + 48);
+      final long w7 = buffer.getLong(inOffset + 56);
+      final long w8 = buffer.getLong(inOffset + 64);
+      final long w9 = buffer.getLong(inOffset + 72);
+      final long w10 = buffer.getLong(inOffset + 80);
+      final long w11 = buffer.getLong(inOffset + 88);
+      final long w12 = buffer.getLong(inOffset + 96);
+      final long w13 = buffer.getLong(inOffset + 104);
+      final long w14 = buffer.getLong(inOffset + 112);
+      final long w15 = buffer.getLong(inOffset + 120);
+
+      unCompressedData[outOffset + 0] = (int) (w0 >>> 32);
+      unCompressedData[outOffset + 1] = ((int) (w0 >>> 0));
+      unCompressedData[outOffset + 2] = (int) (w1 >>> 32);
+      unCompressedData[outOffset + 3] = ((int) (w1 >>> 0));
+      unCompressedData[outOffset + 4] = (int) (w2 >>> 32);
+      unCompressedData[outOffset + 5] = ((int) (w2 >>> 0));
+      unCompressedData[outOffset + 6] = (int) (w3 >>> 32);
+      unCompressedData[outOffset + 7] = ((int) (w3 >>> 0));
+      unCompressedData[outOffset + 8] = (int) (w4 >>> 32);
+      unCompressedData[outOffset + 9] = ((int) (w4 >>> 0));
+      unCompressedData[outOffset + 10] = (int) (w5 >>> 32);
+      unCompressedData[outOffset + 11] = ((int) (w5 >>> 0));
+      unCompressedData[outOffset + 12] = (int) (w6 >>> 32);
+      unCompressedData[outOffset + 13] = ((int) (w6 >>> 0));
+      unCompressedData[outOffset + 14] = (int) (w7 >>> 32);
+      unCompressedData[outOffset + 15] = ((int) (w7 >>> 0));
+      unCompressedData[outOffset + 16] = (int) (w8 >>> 32);
+      unCompressedData[outOffset + 17] = ((int) (w8 >>> 0));
+      unCompressedData[outOffset + 18] = (int) (w9 >>> 32);
+      unCompressedData[outOffset + 19] = ((int) (w9 >>> 0));
+      unCompressedData[outOffset + 20] = (int) (w10 >>> 32);
+      unCompressedData[outOffset + 21] = ((int) (w10 >>> 0));
+      unCompressedData[outOffset + 22] = (int) (w11 >>> 32);
+      unCompressedData[outOffset + 23] = ((int) (w11 >>> 0));
+      unCompressedData[outOffset + 24] = (int) (w12 >>> 32);
+      unCompressedData[outOffset + 25] = ((int) (w12 >>> 0));
+      unCompressedData[outOffset + 26] = (int) (w13 >>> 32);
+      unCompressedData[outOffset + 27] = ((int) (w13 >>> 0));
+      unCompressedData[outOffset + 28] = (int) (w14 >>> 32);
+      unCompressedData[outOffset + 29] = ((int) (w14 >>> 0));
+      unCompressedData[outOffset + 30] = (int) (w15 >>> 32);
+      unCompressedData[outOffset + 31] = ((int) (w15 >>> 0));
+      input.offset += 129;
+      output.offset += 32;
+    }
+  }
+
+  static final class FrameDecompressor33 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final int outOffset = output.offset;
+      unCompressedData[outOffset] = 0;
+      unCompressedData[outOffset + 1] = 0;
+      unCompressedData[outOffset + 2] = 0;
+      unCompressedData[outOffset + 3] = 0;
+      unCompressedData[outOffset + 4] = 0;
+      unCompressedData[outOffset + 5] = 0;
+      unCompressedData[outOffset + 6] = 0;
+      unCompressedData[outOffset + 7] = 0;
+      unCompressedData[outOffset + 8] = 0;
+      unCompressedData[outOffset + 9] = 0;
+      unCompressedData[outOffset + 10] = 0;
+      unCompressedData[outOffset + 11] = 0;
+      unCompressedData[outOffset + 12] = 0;
+      unCompressedData[outOffset + 13] = 0;
+      unCompressedData[outOffset + 14] = 0;
+      unCompressedData[outOffset + 15] = 0;
+      output.offset += 16;
+      input.offset += 1;
+  }
+  }
+
+  static final class FrameDecompressor34 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final byte[] compressedArray = input.bytes;
+      final int inOffset = input.offset + 1;
+      final int outOffset = output.offset;
+      final byte i0 = compressedArray[inOffset + 0];
+      final byte i1 = compressedArray[inOffset + 1];
+
+      unCompressedData[outOffset + 0] = (i0 >>> 7) & 1;
+      unCompressedData[outOffset + 1] = (i0 >>> 6) & 1;
+      unCompressedData[outOffset + 2] = (i0 >>> 5) & 1;
+      unCompressedData[outOffset + 3] = (i0 >>> 4) & 1;
+      unCompressedData[outOffset + 4] = (i0 >>> 3) & 1;
+      unCompressedData[outOffset + 5] = (i0 >>> 2) & 1;
+      unCompressedData[outOffset + 6] = (i0 >>> 1) & 1;
+      unCompressedData[outOffset + 7] = i0 & 1;
+      unCompressedData[outOffset + 8] = (i1 >>> 7) & 1;
+      unCompressedData[outOffset + 9] = (i1 >>> 6) & 1;
+      unCompressedData[outOffset + 10] = (i1 >>> 5) & 1;
+      unCompressedData[outOffset + 11] = (i1 >>> 4) & 1;
+      unCompressedData[outOffset + 12] = (i1 >>> 3) & 1;
+      unCompressedData[outOffset + 13] = (i1 >>> 2) & 1;
+      unCompressedData[outOffset + 14] = (i1 >>> 1) & 1;
+      unCompressedData[outOffset + 15] = i1 & 1;
+      input.offset += 3;
+      output.offset += 16;
+    }
+  }
+
+  static final class FrameDecompressor35 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final byte[] compressedArray = input.bytes;
+      final int inOffset = input.offset + 1;
+      final int outOffset = output.offset;
+      final byte i0 = compressedArray[inOffset + 0];
+      final byte i1 = compressedArray[inOffset + 1];
+      final byte i2 = compressedArray[inOffset + 2];
+      final byte i3 = compressedArray[inOffset + 3];
+
+      unCompressedData[outOffset + 0] = (i0 >>> 6) & 3;
+      unCompressedData[outOffset + 1] = (i0 >>> 4) & 3;
+      unCompressedData[outOffset + 2] = (i0 >>> 2) & 3;
+      unCompressedData[outOffset + 3] = i0 & 3;
+      unCompressedData[outOffset + 4] = (i1 >>> 6) & 3;
+      unCompressedData[outOffset + 5] = (i1 >>> 4) & 3;
+      unCompressedData[outOffset + 6] = (i1 >>> 2) & 3;
+      unCompressedData[outOffset + 7] = i1 & 3;
+      unCompressedData[outOffset + 8] = (i2 >>> 6) & 3;
+      unCompressedData[outOffset + 9] = (i2 >>> 4) & 3;
+      unCompressedData[outOffset + 10] = (i2 >>> 2) & 3;
+      unCompressedData[outOffset + 11] = i2 & 3;
+      unCompressedData[outOffset + 12] = (i3 >>> 6) & 3;
+      unCompressedData[outOffset + 13] = (i3 >>> 4) & 3;
+      unCompressedData[outOffset + 14] = (i3 >>> 2) & 3;
+      unCompressedData[outOffset + 15] = i3 & 3;
+      input.offset += 5;
+      output.offset += 16;
+    }
+  }
+
+  static final class FrameDecompressor36 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final byte[] compressedArray = input.bytes;
+      final int inOffset = input.offset + 1;
+      final int outOffset = output.offset;
+      final byte i0 = compressedArray[inOffset + 0];
+      final byte i1 = compressedArray[inOffset + 1];
+      final byte i2 = compressedArray[inOffset + 2];
+      final byte i3 = compressedArray[inOffset + 3];
+      final byte i4 = compressedArray[inOffset + 4];
+      final byte i5 = compressedArray[inOffset + 5];
+
+      unCompressedData[outOffset + 0] = (i0 >>> 5) & 7;
+      unCompressedData[outOffset + 1] = (i0 >>> 2) & 7;
+      unCompressedData[outOffset + 2] = ((i0 & 3) << 1) | (i1 >>> 7) & 1;
+      unCompressedData[outOffset + 3] = (i1 >>> 4) & 7;
+      unCompressedData[outOffset + 4] = (i1 >>> 1) & 7;
+      unCompressedData[outOffset + 5] = ((i1 & 1) << 2) | (i2 >>> 6) & 3;
+      unCompressedData[outOffset + 6] = (i2 >>> 3) & 7;
+      unCompressedData[outOffset + 7] = i2 & 7;
+      unCompressedData[outOffset + 8] = (i3 >>> 5) & 7;
+      unCompressedData[outOffset + 9] = (i3 >>> 2) & 7;
+      unCompressedData[outOffset + 10] = ((i3 & 3) << 1) | (i4 >>> 7) & 1;
+      unCompressedData[outOffset + 11] = (i4 >>> 4) & 7;
+      unCompressedData[outOffset + 12] = (i4 >>> 1) & 7;
+      unCompressedData[outOffset + 13] = ((i4 & 1) << 2) | (i5 >>> 6) & 3;
+      unCompressedData[outOffset + 14] = (i5 >>> 3) & 7;
+      unCompressedData[outOffset + 15] = i5 & 7;
+      input.offset += 7;
+      output.offset += 16;
+    }
+  }
+
+  static final class FrameDecompressor37 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final byte[] compressedArray = input.bytes;
+      final int inOffset = input.offset + 1;
+      final int outOffset = output.offset;
+      final byte i0 = compressedArray[inOffset + 0];
+      final byte i1 = compressedArray[inOffset + 1];
+      final byte i2 = compressedArray[inOffset + 2];
+      final byte i3 = compressedArray[inOffset + 3];
+      final byte i4 = compressedArray[inOffset + 4];
+      final byte i5 = compressedArray[inOffset + 5];
+      final byte i6 = compressedArray[inOffset + 6];
+      final byte i7 = compressedArray[inOffset + 7];
+
+      unCompressedData[outOffset + 0] = (i0 >>> 4) & 15;
+      unCompressedData[outOffset + 1] = i0 & 15;
+      unCompressedData[outOffset + 2] = (i1 >>> 4) & 15;
+      unCompressedData[outOffset + 3] = i1 & 15;
+      unCompressedData[outOffset + 4] = (i2 >>> 4) & 15;
+      unCompressedData[outOffset + 5] = i2 & 15;
+      unCompressedData[outOffset + 6] = (i3 >>> 4) & 15;
+      unCompressedData[outOffset + 7] = i3 & 15;
+      unCompressedData[outOffset + 8] = (i4 >>> 4) & 15;
+      unCompressedData[outOffset + 9] = i4 & 15;
+      unCompressedData[outOffset + 10] = (i5 >>> 4) & 15;
+      unCompressedData[outOffset + 11] = i5 & 15;
+      unCompressedData[outOffset + 12] = (i6 >>> 4) & 15;
+      unCompressedData[outOffset + 13] = i6 & 15;
+      unCompressedData[outOffset + 14] = (i7 >>> 4) & 15;
+      unCompressedData[outOffset + 15] = i7 & 15;
+      input.offset += 9;
+      output.offset += 16;
+    }
+  }
+
+  static final class FrameDecompressor38 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final byte[] compressedArray = input.bytes;
+      final int inOffset = input.offset + 1;
+      final int outOffset = output.offset;
+      final byte i0 = compressedArray[inOffset + 0];
+      final byte i1 = compressedArray[inOffset + 1];
+      final byte i2 = compressedArray[inOffset + 2];
+      final byte i3 = compressedArray[inOffset + 3];
+      final byte i4 = compressedArray[inOffset + 4];
+      final byte i5 = compressedArray[inOffset + 5];
+      final byte i6 = compressedArray[inOffset + 6];
+      final byte i7 = compressedArray[inOffset + 7];
+      final byte i8 = compressedArray[inOffset + 8];
+      final byte i9 = compressedArray[inOffset + 9];
+
+      unCompressedData[outOffset + 0] = (i0 >>> 3) & 31;
+      unCompressedData[outOffset + 1] = ((i0 & 7) << 2) | (i1 >>> 6) & 3;
+      unCompressedData[outOffset + 2] = (i1 >>> 1) & 31;
+      unCompressedData[outOffset + 3] = ((i1 & 1) << 4) | (i2 >>> 4) & 15;
+      unCompressedData[outOffset + 4] = ((i2 & 15) << 1) | (i3 >>> 7) & 1;
+      unCompressedData[outOffset + 5] = (i3 >>> 2) & 31;
+      unCompressedData[outOffset + 6] = ((i3 & 3) << 3) | (i4 >>> 5) & 7;
+      unCompressedData[outOffset + 7] = i4 & 31;
+      unCompressedData[outOffset + 8] = (i5 >>> 3) & 31;
+      unCompressedData[outOffset + 9] = ((i5 & 7) << 2) | (i6 >>> 6) & 3;
+      unCompressedData[outOffset + 10] = (i6 >>> 1) & 31;
+      unCompressedData[outOffset + 11] = ((i6 & 1) << 4) | (i7 >>> 4) & 15;
+      unCompressedData[outOffset + 12] = ((i7 & 15) << 1) | (i8 >>> 7) & 1;
+      unCompressedData[outOffset + 13] = (i8 >>> 2) & 31;
+      unCompressedData[outOffset + 14] = ((i8 & 3) << 3) | (i9 >>> 5) & 7;
+      unCompressedData[outOffset + 15] = i9 & 31;
+      input.offset += 11;
+      output.offset += 16;
+    }
+  }
+
+  static final class FrameDecompressor39 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final byte[] compressedArray = input.bytes;
+      final int inOffset = input.offset + 1;
+      final int outOffset = output.offset;
+      final byte i0 = compressedArray[inOffset + 0];
+      final byte i1 = compressedArray[inOffset + 1];
+      final byte i2 = compressedArray[inOffset + 2];
+      final byte i3 = compressedArray[inOffset + 3];
+      final byte i4 = compressedArray[inOffset + 4];
+      final byte i5 = compressedArray[inOffset + 5];
+      final byte i6 = compressedArray[inOffset + 6];
+      final byte i7 = compressedArray[inOffset + 7];
+      final byte i8 = compressedArray[inOffset + 8];
+      final byte i9 = compressedArray[inOffset + 9];
+      final byte i10 = compressedArray[inOffset + 10];
+      final byte i11 = compressedArray[inOffset + 11];
+
+      unCompressedData[outOffset + 0] = (i0 >>> 2) & 63;
+      unCompressedData[outOffset + 1] = ((i0 & 3) << 4) | (i1 >>> 4) & 15;
+      unCompressedData[outOffset + 2] = ((i1 & 15) << 2) | (i2 >>> 6) & 3;
+      unCompressedData[outOffset + 3] = i2 & 63;
+      unCompressedData[outOffset + 4] = (i3 >>> 2) & 63;
+      unCompressedData[outOffset + 5] = ((i3 & 3) << 4) | (i4 >>> 4) & 15;
+      unCompressedData[outOffset + 6] = ((i4 & 15) << 2) | (i5 >>> 6) & 3;
+      unCompressedData[outOffset + 7] = i5 & 63;
+      unCompressedData[outOffset + 8] = (i6 >>> 2) & 63;
+      unCompressedData[outOffset + 9] = ((i6 & 3) << 4) | (i7 >>> 4) & 15;
+      unCompressedData[outOffset + 10] = ((i7 & 15) << 2) | (i8 >>> 6) & 3;
+      unCompressedData[outOffset + 11] = i8 & 63;
+      unCompressedData[outOffset + 12] = (i9 >>> 2) & 63;
+      unCompressedData[outOffset + 13] = ((i9 & 3) << 4) | (i10 >>> 4) & 15;
+      unCompressedData[outOffset + 14] = ((i10 & 15) << 2) | (i11 >>> 6) & 3;
+      unCompressedData[outOffset + 15] = i11 & 63;
+      input.offset += 13;
+      output.offset += 16;
+    }
+  }
+
+  static final class FrameDecompressor40 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final byte[] compressedArray = input.bytes;
+      final int inOffset = input.offset + 1;
+      final int outOffset = output.offset;
+      final byte i0 = compressedArray[inOffset + 0];
+      final byte i1 = compressedArray[inOffset + 1];
+      final byte i2 = compressedArray[inOffset + 2];
+      final byte i3 = compressedArray[inOffset + 3];
+      final byte i4 = compressedArray[inOffset + 4];
+      final byte i5 = compressedArray[inOffset + 5];
+      final byte i6 = compressedArray[inOffset + 6];
+      final byte i7 = compressedArray[inOffset + 7];
+      final byte i8 = compressedArray[inOffset + 8];
+      final byte i9 = compressedArray[inOffset + 9];
+      final byte i10 = compressedArray[inOffset + 10];
+      final byte i11 = compressedArray[inOffset + 11];
+      final byte i12 = compressedArray[inOffset + 12];
+      final byte i13 = compressedArray[inOffset + 13];
+
+      unCompressedData[outOffset + 0] = (i0 >>> 1) & 127;
+      unCompressedData[outOffset + 1] = ((i0 & 1) << 6) | (i1 >>> 2) & 63;
+      unCompressedData[outOffset + 2] = ((i1 & 3) << 5) | (i2 >>> 3) & 31;
+      unCompressedData[outOffset + 3] = ((i2 & 7) << 4) | (i3 >>> 4) & 15;
+      unCompressedData[outOffset + 4] = ((i3 & 15) << 3) | (i4 >>> 5) & 7;
+      unCompressedData[outOffset + 5] = ((i4 & 31) << 2) | (i5 >>> 6) & 3;
+      unCompressedData[outOffset + 6] = ((i5 & 63) << 1) | (i6 >>> 7) & 1;
+      unCompressedData[outOffset + 7] = i6 & 127;
+      unCompressedData[outOffset + 8] = (i7 >>> 1) & 127;
+      unCompressedData[outOffset + 9] = ((i7 & 1) << 6) | (i8 >>> 2) & 63;
+      unCompressedData[outOffset + 10] = ((i8 & 3) << 5) | (i9 >>> 3) & 31;
+      unCompressedData[outOffset + 11] = ((i9 & 7) << 4) | (i10 >>> 4) & 15;
+      unCompressedData[outOffset + 12] = ((i10 & 15) << 3) | (i11 >>> 5) & 7;
+      unCompressedData[outOffset + 13] = ((i11 & 31) << 2) | (i12 >>> 6) & 3;
+      unCompressedData[outOffset + 14] = ((i12 & 63) << 1) | (i13 >>> 7) & 1;
+      unCompressedData[outOffset + 15] = i13 & 127;
+      input.offset += 15;
+      output.offset += 16;
+    }
+  }
+
+  static final class FrameDecompressor41 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final byte[] compressedArray = input.bytes;
+      final int inOffset = input.offset + 1;
+      final int outOffset = output.offset;
+      unCompressedData[outOffset] = compressedArray[inOffset] & 0xFF;
+      unCompressedData[outOffset + 1] = compressedArray[inOffset + 1] & 0xFF;
+      unCompressedData[outOffset + 2] = compressedArray[inOffset + 2] & 0xFF;
+      unCompressedData[outOffset + 3] = compressedArray[inOffset + 3] & 0xFF;
+      unCompressedData[outOffset + 4] = compressedArray[inOffset + 4] & 0xFF;
+      unCompressedData[outOffset + 5] = compressedArray[inOffset + 5] & 0xFF;
+      unCompressedData[outOffset + 6] = compressedArray[inOffset + 6] & 0xFF;
+      unCompressedData[outOffset + 7] = compressedArray[inOffset + 7] & 0xFF;
+      unCompressedData[outOffset + 8] = compressedArray[inOffset + 8] & 0xFF;
+      unCompressedData[outOffset + 9] = compressedArray[inOffset + 9] & 0xFF;
+      unCompressedData[outOffset + 10] = compressedArray[inOffset + 10] & 0xFF;
+      unCompressedData[outOffset + 11] = compressedArray[inOffset + 11] & 0xFF;
+      unCompressedData[outOffset + 12] = compressedArray[inOffset + 12] & 0xFF;
+      unCompressedData[outOffset + 13] = compressedArray[inOffset + 13] & 0xFF;
+      unCompressedData[outOffset + 14] = compressedArray[inOffset + 14] & 0xFF;
+      unCompressedData[outOffset + 15] = compressedArray[inOffset + 15] & 0xFF;
+      input.offset += 17;
+      output.offset += 16;
+    }
+  }
+
+  static final class FrameDecompressor42 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final byte[] compressedArray = input.bytes;
+      final int inOffset = input.offset + 1;
+      final int outOffset = output.offset;
+      final long w0 = buffer.getLong(inOffset + 0);
+      final long w1 = buffer.getLong(inOffset + 8);
+      final long w2 = ((compressedArray[inOffset + 16] & 0xFFL) << 56) | ((compressedArray[inOffset + 17] & 0xFFL) << 48);
+
+      unCompressedData[outOffset + 0] = (int) (w0 >>> 55);
+      unCompressedData[outOffset + 1] = ((int) (w0 >>> 46)) & 511;
+      unCompressedData[outOffset + 2] = ((int) (w0 >>> 37)) & 511;
+      unCompressedData[outOffset + 3] = ((int) (w0 >>> 28)) & 511;
+      unCompressedData[outOffset + 4] = ((int) (w0 >>> 19)) & 511;
+      unCompressedData[outOffset + 5] = ((int) (w0 >>> 10)) & 511;
+      unCompressedData[outOffset + 6] = ((int) (w0 >>> 1)) & 511;
+      unCompressedData[outOffset + 7] = ((int) ((w0 << 8) | (w1 >>> 56))) & 511;
+      unCompressedData[outOffset + 8] = ((int) (w1 >>> 47)) & 511;
+      unCompressedData[outOffset + 9] = ((int) (w1 >>> 38)) & 511;
+      unCompressedData[outOffset + 10] = ((int) (w1 >>> 29)) & 511;
+      unCompressedData[outOffset + 11] = ((int) (w1 >>> 20)) & 511;
+      unCompressedData[outOffset + 12] = ((int) (w1 >>> 11)) & 511;
+      unCompressedData[outOffset + 13] = ((int) (w1 >>> 2)) & 511;
+      unCompressedData[outOffset + 14] = ((int) ((w1 << 7) | (w2 >>> 57))) & 511;
+      unCompressedData[outOffset + 15] = ((int) (w2 >>> 48)) & 511;
+      input.offset += 19;
+      output.offset += 16;
+    }
+  }
+
+  static final class FrameDecompressor43 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final byte[] compressedArray = input.bytes;
+      final int inOffset = input.offset + 1;
+      final int outOffset = output.offset;
+      final long w0 = buffer.getLong(inOffset + 0);
+      final long w1 = buffer.getLong(inOffset + 8);
+      final long w2 = ((compressedArray[inOffset + 16] & 0xFFL) << 56) | ((compressedArray[inOffset + 17] & 0xFFL) << 48) | ((compressedArray[inOffset + 18] & 0xFFL) << 40) | ((compressedArray[inOffset + 19] & 0xFFL) << 32);
+
+      unCompressedData[outOffset + 0] = (int) (w0 >>> 54);
+      unCompressedData[outOffset + 1] = ((int) (w0 >>> 44)) & 1023;
+      unCompressedData[outOffset + 2] = ((int) (w0 >>> 34)) & 1023;
+      unCompressedData[outOffset + 3] = ((int) (w0 >>> 24)) & 1023;
+      unCompressedData[outOffset + 4] = ((int) (w0 >>> 14)) & 1023;
+      unCompressedData[outOffset + 5] = ((int) (w0 >>> 4)) & 1023;
+      unCompressedData[outOffset + 6] = ((int) ((w0 << 6) | (w1 >>> 58))) & 1023;
+      unCompressedData[outOffset + 7] = ((int) (w1 >>> 48)) & 1023;
+      unCompressedData[outOffset + 8] = ((int) (w1 >>> 38)) & 1023;
+      unCompressedData[outOffset + 9] = ((int) (w1 >>> 28)) & 1023;
+      unCompressedData[outOffset + 10] = ((int) (w1 >>> 18)) & 1023;
+      unCompressedData[outOffset + 11] = ((int) (w1 >>> 8)) & 1023;
+      unCompressedData[outOffset + 12] = ((int) ((w1 << 2) | (w2 >>> 62))) & 1023;
+      unCompressedData[outOffset + 13] = ((int) (w2 >>> 52)) & 1023;
+      unCompressedData[outOffset + 14] = ((int) (w2 >>> 42)) & 1023;
+      unCompressedData[outOffset + 15] = ((int) (w2 >>> 32)) & 1023;
+      input.offset += 21;
+      output.offset += 16;
+    }
+  }
+
+  static final class FrameDecompressor44 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final byte[] compressedArray = input.bytes;
+      final int inOffset = input.offset + 1;
+      final int outOffset = output.offset;
+      final long w0 = buffer.getLong(inOffset + 0);
+      final long w1 = buffer.getLong(inOffset + 8);
+      final long w2 = ((compressedArray[inOffset + 16] & 0xFFL) << 56) | ((compressedArray[inOffset + 17] & 0xFFL) << 48) | ((compressedArray[inOffset + 18] & 0xFFL) << 40) | ((compressedArray[inOffset + 19] & 0xFFL) << 32) | ((compressedArray[inOffset + 20] & 0xFFL) << 24) | ((compressedArray[inOffset + 21] & 0xFFL) << 16);
+
+      unCompressedData[outOffset + 0] = (int) (w0 >>> 53);
+      unCompressedData[outOffset + 1] = ((int) (w0 >>> 42)) & 2047;
+      unCompressedData[outOffset + 2] = ((int) (w0 >>> 31)) & 2047;
+      unCompressedData[outOffset + 3] = ((int) (w0 >>> 20)) & 2047;
+      unCompressedData[outOffset + 4] = ((int) (w0 >>> 9)) & 2047;
+      unCompressedData[outOffset + 5] = ((int) ((w0 << 2) | (w1 >>> 62))) & 2047;
+      unCompressedData[outOffset + 6] = ((int) (w1 >>> 51)) & 2047;
+      unCompressedData[outOffset + 7] = ((int) (w1 >>> 40)) & 2047;
+      unCompressedData[outOffset + 8] = ((int) (w1 >>> 29)) & 2047;
+      unCompressedData[outOffset + 9] = ((int) (w1 >>> 18)) & 2047;
+      unCompressedData[outOffset + 10] = ((int) (w1 >>> 7)) & 2047;
+      unCompressedData[outOffset + 11] = ((int) ((w1 << 4) | (w2 >>> 60))) & 2047;
+      unCompressedData[outOffset + 12] = ((int) (w2 >>> 49)) & 2047;
+      unCompressedData[outOffset + 13] = ((int) (w2 >>> 38)) & 2047;
+      unCompressedData[outOffset + 14] = ((int) (w2 >>> 27)) & 2047;
+      unCompressedData[outOffset + 15] = ((int) (w2 >>> 16)) & 2047;
+      input.offset += 23;
+      output.offset += 16;
+    }
+  }
+
+  static final class FrameDecompressor45 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final byte[] compressedArray = input.bytes;
+      final int inOffset = input.offset + 1;
+      final int outOffset = output.offset;
+      final long w0 = buffer.getLong(inOffset + 0);
+      final long w1 = buffer.getLong(inOffset + 8);
+      final long w2 = buffer.getLong(inOffset + 16);
+
+      unCompressedData[outOffset + 0] = (int) (w0 >>> 52);
+      unCompressedData[outOffset + 1] = ((int) (w0 >>> 40)) & 4095;
+      unCompressedData[outOffset + 2] = ((int) (w0 >>> 28)) & 4095;
+      unCompressedData[outOffset + 3] = ((int) (w0 >>> 16)) & 4095;
+      unCompressedData[outOffset + 4] = ((int) (w0 >>> 4)) & 4095;
+      unCompressedData[outOffset + 5] = ((int) ((w0 << 8) | (w1 >>> 56))) & 4095;
+      unCompressedData[outOffset + 6] = ((int) (w1 >>> 44)) & 4095;
+      unCompressedData[outOffset + 7] = ((int) (w1 >>> 32)) & 4095;
+      unCompressedData[outOffset + 8] = ((int) (w1 >>> 20)) & 4095;
+      unCompressedData[outOffset + 9] = ((int) (w1 >>> 8)) & 4095;
+      unCompressedData[outOffset + 10] = ((int) ((w1 << 4) | (w2 >>> 60))) & 4095;
+      unCompressedData[outOffset + 11] = ((int) (w2 >>> 48)) & 4095;
+      unCompressedData[outOffset + 12] = ((int) (w2 >>> 36)) & 4095;
+      unCompressedData[outOffset + 13] = ((int) (w2 >>> 24)) & 4095;
+      unCompressedData[outOffset + 14] = ((int) (w2 >>> 12)) & 4095;
+      unCompressedData[outOffset + 15] = ((int) (w2 >>> 0)) & 4095;
+      input.offset += 25;
+      output.offset += 16;
+    }
+  }
+
+  static final class FrameDecompressor46 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final byte[] compressedArray = input.bytes;
+      final int inOffset = input.offset + 1;
+      final int outOffset = output.offset;
+      final long w0 = buffer.getLong(inOffset + 0);
+      final long w1 = buffer.getLong(inOffset + 8);
+      final long w2 = buffer.getLong(inOffset + 16);
+      final long w3 = ((compressedArray[inOffset + 24] & 0xFFL) << 56) | ((compressedArray[inOffset + 25] & 0xFFL) << 48);
+
+      unCompressedData[outOffset + 0] = (int) (w0 >>> 51);
+      unCompressedData[outOffset + 1] = ((int) (w0 >>> 38)) & 8191;
+      unCompressedData[outOffset + 2] = ((int) (w0 >>> 25)) & 8191;
+      unCompressedData[outOffset + 3] = ((int) (w0 >>> 12)) & 8191;
+      unCompressedData[outOffset + 4] = ((int) ((w0 << 1) | (w1 >>> 63))) & 8191;
+      unCompressedData[outOffset + 5] = ((int) (w1 >>> 50)) & 8191;
+      unCompressedData[outOffset + 6] = ((int) (w1 >>> 37)) & 8191;
+      unCompressedData[outOffset + 7] = ((int) (w1 >>> 24)) & 8191;
+      unCompressedData[outOffset + 8] = ((int) (w1 >>> 11)) & 8191;
+      unCompressedData[outOffset + 9] = ((int) ((w1 << 2) | (w2 >>> 62))) & 8191;
+      unCompressedData[outOffset + 10] = ((int) (w2 >>> 49)) & 8191;
+      unCompressedData[outOffset + 11] = ((int) (w2 >>> 36)) & 8191;
+      unCompressedData[outOffset + 12] = ((int) (w2 >>> 23)) & 8191;
+      unCompressedData[outOffset + 13] = ((int) (w2 >>> 10)) & 8191;
+      unCompressedData[outOffset + 14] = ((int) ((w2 << 3) | (w3 >>> 61))) & 8191;
+      unCompressedData[outOffset + 15] = ((int) (w3 >>> 48)) & 8191;
+      input.offset += 27;
+      output.offset += 16;
+    }
+  }
+
+  static final class FrameDecompressor47 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final byte[] compressedArray = input.bytes;
+      final int inOffset = input.offset + 1;
+      final int outOffset = output.offset;
+      final long w0 = buffer.getLong(inOffset + 0);
+      final long w1 = buffer.getLong(inOffset + 8);
+      final long w2 = buffer.getLong(inOffset + 16);
+      final long w3 = ((compressedArray[inOffset + 24] & 0xFFL) << 56) | ((compressedArray[inOffset + 25] & 0xFFL) << 48) | ((compressedArray[inOffset + 26] & 0xFFL) << 40) | ((compressedArray[inOffset + 27] & 0xFFL) << 32);
+
+      unCompressedData[outOffset + 0] = (int) (w0 >>> 50);
+      unCompressedData[outOffset + 1] = ((int) (w0 >>> 36)) & 16383;
+      unCompressedData[outOffset + 2] = ((int) (w0 >>> 22)) & 16383;
+      unCompressedData[outOffset + 3] = ((int) (w0 >>> 8)) & 16383;
+      unCompressedData[outOffset + 4] = ((int) ((w0 << 6) | (w1 >>> 58))) & 16383;
+      unCompressedData[outOffset + 5] = ((int) (w1 >>> 44)) & 16383;
+      unCompressedData[outOffset + 6] = ((int) (w1 >>> 30)) & 16383;
+      unCompressedData[outOffset + 7] = ((int) (w1 >>> 16)) & 16383;
+      unCompressedData[outOffset + 8] = ((int) (w1 >>> 2)) & 16383;
+      unCompressedData[outOffset + 9] = ((int) ((w1 << 12) | (w2 >>> 52))) & 16383;
+      unCompressedData[outOffset + 10] = ((int) (w2 >>> 38)) & 16383;
+      unCompressedData[outOffset + 11] = ((int) (w2 >>> 24)) & 16383;
+      unCompressedData[outOffset + 12] = ((int) (w2 >>> 10)) & 16383;
+      unCompressedData[outOffset + 13] = ((int) ((w2 << 4) | (w3 >>> 60))) & 16383;
+      unCompressedData[outOffset + 14] = ((int) (w3 >>> 46)) & 16383;
+      unCompressedData[outOffset + 15] = ((int) (w3 >>> 32)) & 16383;
+      input.offset += 29;
+      output.offset += 16;
+    }
+  }
+
+  static final class FrameDecompressor48 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final byte[] compressedArray = input.bytes;
+      final int inOffset = input.offset + 1;
+      final int outOffset = output.offset;
+      final long w0 = buffer.getLong(inOffset + 0);
+      final long w1 = buffer.getLong(inOffset + 8);
+      final long w2 = buffer.getLong(inOffset + 16);
+      final long w3 = ((compressedArray[inOffset + 24] & 0xFFL) << 56) | ((compressedArray[inOffset + 25] & 0xFFL) << 48) | ((compressedArray[inOffset + 26] & 0xFFL) << 40) | ((compressedArray[inOffset + 27] & 0xFFL) << 32) | ((compressedArray[inOffset + 28] & 0xFFL) << 24) | ((compressedArray[inOffset + 29] & 0xFFL) << 16);
+
+      unCompressedData[outOffset + 0] = (int) (w0 >>> 49);
+      unCompressedData[outOffset + 1] = ((int) (w0 >>> 34)) & 32767;
+      unCompressedData[outOffset + 2] = ((int) (w0 >>> 19)) & 32767;
+      unCompressedData[outOffset + 3] = ((int) (w0 >>> 4)) & 32767;
+      unCompressedData[outOffset + 4] = ((int) ((w0 << 11) | (w1 >>> 53))) & 32767;
+      unCompressedData[outOffset + 5] = ((int) (w1 >>> 38)) & 32767;
+      unCompressedData[outOffset + 6] = ((int) (w1 >>> 23)) & 32767;
+      unCompressedData[outOffset + 7] = ((int) (w1 >>> 8)) & 32767;
+      unCompressedData[outOffset + 8] = ((int) ((w1 << 7) | (w2 >>> 57))) & 32767;
+      unCompressedData[outOffset + 9] = ((int) (w2 >>> 42)) & 32767;
+      unCompressedData[outOffset + 10] = ((int) (w2 >>> 27)) & 32767;
+      unCompressedData[outOffset + 11] = ((int) (w2 >>> 12)) & 32767;
+      unCompressedData[outOffset + 12] = ((int) ((w2 << 3) | (w3 >>> 61))) & 32767;
+      unCompressedData[outOffset + 13] = ((int) (w3 >>> 46)) & 32767;
+      unCompressedData[outOffset + 14] = ((int) (w3 >>> 31)) & 32767;
+      unCompressedData[outOffset + 15] = ((int) (w3 >>> 16)) & 32767;
+      input.offset += 31;
+      output.offset += 16;
+    }
+  }
+
+  static final class FrameDecompressor49 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final byte[] compressedArray = input.bytes;
+      final int inOffset = input.offset + 1;
+      final int outOffset = output.offset;
+      final long w0 = buffer.getLong(inOffset + 0);
+      final long w1 = buffer.getLong(inOffset + 8);
+      final long w2 = buffer.getLong(inOffset + 16);
+      final long w3 = buffer.getLong(inOffset + 24);
+
+      unCompressedData[outOffset + 0] = (int) (w0 >>> 48);
+      unCompressedData[outOffset + 1] = ((int) (w0 >>> 32)) & 65535;
+      unCompressedData[outOffset + 2] = ((int) (w0 >>> 16)) & 65535;
+      unCompressedData[outOffset + 3] = ((int) (w0 >>> 0)) & 65535;
+      unCompressedData[outOffset + 4] = (int) (w1 >>> 48);
+      unCompressedData[outOffset + 5] = ((int) (w1 >>> 32)) & 65535;
+      unCompressedData[outOffset + 6] = ((int) (w1 >>> 16)) & 65535;
+      unCompressedData[outOffset + 7] = ((int) (w1 >>> 0)) & 65535;
+      unCompressedData[outOffset + 8] = (int) (w2 >>> 48);
+      unCompressedData[outOffset + 9] = ((int) (w2 >>> 32)) & 65535;
+      unCompressedData[outOffset + 10] = ((int) (w2 >>> 16)) & 65535;
+      unCompressedData[outOffset + 11] = ((int) (w2 >>> 0)) & 65535;
+      unCompressedData[outOffset + 12] = (int) (w3 >>> 48);
+      unCompressedData[outOffset + 13] = ((int) (w3 >>> 32)) & 65535;
+      unCompressedData[outOffset + 14] = ((int) (w3 >>> 16)) & 65535;
+      unCompressedData[outOffset + 15] = ((int) (w3 >>> 0)) & 65535;
+      input.offset += 33;
+      output.offset += 16;
+    }
+  }
+
+  static final class FrameDecompressor50 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final byte[] compressedArray = input.bytes;
+      final int inOffset = input.offset + 1;
+      final int outOffset = output.offset;
+      final long w0 = buffer.getLong(inOffset + 0);
+      final long w1 = buffer.getLong(inOffset + 8);
+      final long w2 = buffer.getLong(inOffset + 16);
+      final long w3 = buffer.getLong(inOffset + 24);
+      final long w4 = ((compressedArray[inOffset + 32] & 0xFFL) << 56) | ((compressedArray[inOffset + 33] & 0xFFL) << 48);
+
+      unCompressedData[outOffset + 0] = (int) (w0 >>> 47);
+      unCompressedData[outOffset + 1] = ((int) (w0 >>> 30)) & 131071;
+      unCompressedData[outOffset + 2] = ((int) (w0 >>> 13)) & 131071;
+      unCompressedData[outOffset + 3] = ((int) ((w0 << 4) | (w1 >>> 60))) & 131071;
+      unCompressedData[outOffset + 4] = ((int) (w1 >>> 43)) & 131071;
+      unCompressedData[outOffset + 5] = ((int) (w1 >>> 26)) & 131071;
+      unCompressedData[outOffset + 6] = ((int) (w1 >>> 9)) & 131071;
+      unCompressedData[outOffset + 7] = ((int) ((w1 << 8) | (w2 >>> 56))) & 131071;
+      unCompressedData[outOffset + 8] = ((int) (w2 >>> 39)) & 131071;
+      unCompressedData[outOffset + 9] = ((int) (w2 >>> 22)) & 131071;
+      unCompressedData[outOffset + 10] = ((int) (w2 >>> 5)) & 131071;
+      unCompressedData[outOffset + 11] = ((int) ((w2 << 12) | (w3 >>> 52))) & 131071;
+      unCompressedData[outOffset + 12] = ((int) (w3 >>> 35)) & 131071;
+      unCompressedData[outOffset + 13] = ((int) (w3 >>> 18)) & 131071;
+      unCompressedData[outOffset + 14] = ((int) (w3 >>> 1)) & 131071;
+      unCompressedData[outOffset + 15] = ((int) ((w3 << 16) | (w4 >>> 48))) & 131071;
+      input.offset += 35;
+      output.offset += 16;
+    }
+  }
+
+  static final class FrameDecompressor51 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final byte[] compressedArray = input.bytes;
+      final int inOffset = input.offset + 1;
+      final int outOffset = output.offset;
+      final long w0 = buffer.getLong(inOffset + 0);
+      final long w1 = buffer.getLong(inOffset + 8);
+      final long w2 = buffer.getLong(inOffset + 16);
+      final long w3 = buffer.getLong(inOffset + 24);
+      final long w4 = ((compressedArray[inOffset + 32] & 0xFFL) << 56) | ((compressedArray[inOffset + 33] & 0xFFL) << 48) | ((compressedArray[inOffset + 34] & 0xFFL) << 40) | ((compressedArray[inOffset + 35] & 0xFFL) << 32);
+
+      unCompressedData[outOffset + 0] = (int) (w0 >>> 46);
+      unCompressedData[outOffset + 1] = ((int) (w0 >>> 28)) & 262143;
+      unCompressedData[outOffset + 2] = ((int) (w0 >>> 10)) & 262143;
+      unCompressedData[outOffset + 3] = ((int) ((w0 << 8) | (w1 >>> 56))) & 262143;
+      unCompressedData[outOffset + 4] = ((int) (w1 >>> 38)) & 262143;
+      unCompressedData[outOffset + 5] = ((int) (w1 >>> 20)) & 262143;
+      unCompressedData[outOffset + 6] = ((int) (w1 >>> 2)) & 262143;
+      unCompressedData[outOffset + 7] = ((int) ((w1 << 16) | (w2 >>> 48))) & 262143;
+      unCompressedData[outOffset + 8] = ((int) (w2 >>> 30)) & 262143;
+      unCompressedData[outOffset + 9] = ((int) (w2 >>> 12)) & 262143;
+      unCompressedData[outOffset + 10] = ((int) ((w2 << 6) | (w3 >>> 58))) & 262143;
+      unCompressedData[outOffset + 11] = ((int) (w3 >>> 40)) & 262143;
+      unCompressedData[outOffset + 12] = ((int) (w3 >>> 22)) & 262143;
+      unCompressedData[outOffset + 13] = ((int) (w3 >>> 4)) & 262143;
+      unCompressedData[outOffset + 14] = ((int) ((w3 << 14) | (w4 >>> 50))) & 262143;
+      unCompressedData[outOffset + 15] = ((int) (w4 >>> 32)) & 262143;
+      input.offset += 37;
+      output.offset += 16;
+    }
+  }
+
+  static final class FrameDecompressor52 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final byte[] compressedArray = input.bytes;
+      final int inOffset = input.offset + 1;
+      final int outOffset = output.offset;
+      final long w0 = buffer.getLong(inOffset + 0);
+      final long w1 = buffer.getLong(inOffset + 8);
+      final long w2 = buffer.getLong(inOffset + 16);
+      final long w3 = buffer.getLong(inOffset + 24);
+      final long w4 = ((compressedArray[inOffset + 32] & 0xFFL) << 56) | ((compressedArray[inOffset + 33] & 0xFFL) << 48) | ((compressedArray[inOffset + 34] & 0xFFL) << 40) | ((compressedArray[inOffset + 35] & 0xFFL) << 32) | ((compressedArray[inOffset + 36] & 0xFFL) << 24) | ((compressedArray[inOffset + 37] & 0xFFL) << 16);
+
+      unCompressedData[outOffset + 0] = (int) (w0 >>> 45);
+      unCompressedData[outOffset + 1] = ((int) (w0 >>> 26)) & 524287;
+      unCompressedData[outOffset + 2] = ((int) (w0 >>> 7)) & 524287;
+      unCompressedData[outOffset + 3] = ((int) ((w0 << 12) | (w1 >>> 52))) & 524287;
+      unCompressedData[outOffset + 4] = ((int) (w1 >>> 33)) & 524287;
+      unCompressedData[outOffset + 5] = ((int) (w1 >>> 14)) & 524287;
+      unCompressedData[outOffset + 6] = ((int) ((w1 << 5) | (w2 >>> 59))) & 524287;
+      unCompressedData[outOffset + 7] = ((int) (w2 >>> 40)) & 524287;
+      unCompressedData[outOffset + 8] = ((int) (w2 >>> 21)) & 524287;
+      unCompressedData[outOffset + 9] = ((int) (w2 >>> 2)) & 524287;
+      unCompressedData[outOffset + 10] = ((int) ((w2 << 17) | (w3 >>> 47))) & 524287;
+      unCompressedData[outOffset + 11] = ((int) (w3 >>> 28)) & 524287;
+      unCompressedData[outOffset + 12] = ((int) (w3 >>> 9)) & 524287;
+      unCompressedData[outOffset + 13] = ((int) ((w3 << 10) | (w4 >>> 54))) & 524287;
+      unCompressedData[outOffset + 14] = ((int) (w4 >>> 35)) & 524287;
+      unCompressedData[outOffset + 15] = ((int) (w4 >>> 16)) & 524287;
+      input.offset += 39;
+      output.offset += 16;
+    }
+  }
+
+  static final class FrameDecompressor53 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final byte[] compressedArray = input.bytes;
+      final int inOffset = input.offset + 1;
+      final int outOffset = output.offset;
+      final long w0 = buffer.getLong(inOffset + 0);
+      final long w1 = buffer.getLong(inOffset + 8);
+      final long w2 = buffer.getLong(inOffset + 16);
+      final long w3 = buffer.getLong(inOffset + 24);
+      final long w4 = buffer.getLong(inOffset + 32);
+
+      unCompressedData[outOffset + 0] = (int) (w0 >>> 44);
+      unCompressedData[outOffset + 1] = ((int) (w0 >>> 24)) & 1048575;
+      unCompressedData[outOffset + 2] = ((int) (w0 >>> 4)) & 1048575;
+      unCompressedData[outOffset + 3] = ((int) ((w0 << 16) | (w1 >>> 48))) & 1048575;
+      unCompressedData[outOffset + 4] = ((int) (w1 >>> 28)) & 1048575;
+      unCompressedData[outOffset + 5] = ((int) (w1 >>> 8)) & 1048575;
+      unCompressedData[outOffset + 6] = ((int) ((w1 << 12) | (w2 >>> 52))) & 1048575;
+      unCompressedData[outOffset + 7] = ((int) (w2 >>> 32)) & 1048575;
+      unCompressedData[outOffset + 8] = ((int) (w2 >>> 12)) & 1048575;
+      unCompressedData[outOffset + 9] = ((int) ((w2 << 8) | (w3 >>> 56))) & 1048575;
+      unCompressedData[outOffset + 10] = ((int) (w3 >>> 36)) & 1048575;
+      unCompressedData[outOffset + 11] = ((int) (w3 >>> 16)) & 1048575;
+      unCompressedData[outOffset + 12] = ((int) ((w3 << 4) | (w4 >>> 60))) & 1048575;
+      unCompressedData[outOffset + 13] = ((int) (w4 >>> 40)) & 1048575;
+      unCompressedData[outOffset + 14] = ((int) (w4 >>> 20)) & 1048575;
+      unCompressedData[outOffset + 15] = ((int) (w4 >>> 0)) & 1048575;
+      input.offset += 41;
+      output.offset += 16;
+    }
+  }
+
+  static final class FrameDecompressor54 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final byte[] compressedArray = input.bytes;
+      final int inOffset = input.offset + 1;
+      final int outOffset = output.offset;
+      final long w0 = buffer.getLong(inOffset + 0);
+      final long w1 = buffer.getLong(inOffset + 8);
+      final long w2 = buffer.getLong(inOffset + 16);
+      final long w3 = buffer.getLong(inOffset + 24);
+      final long w4 = buffer.getLong(inOffset + 32);
+      final long w5 = ((compressedArray[inOffset + 40] & 0xFFL) << 56) | ((compressedArray[inOffset + 41] & 0xFFL) << 48);
+
+      unCompressedData[outOffset + 0] = (int) (w0 >>> 43);
+      unCompressedData[outOffset + 1] = ((int) (w0 >>> 22)) & 2097151;
+      unCompressedData[outOffset + 2] = ((int) (w0 >>> 1)) & 2097151;
+      unCompressedData[outOffset + 3] = ((int) ((w0 << 20) | (w1 >>> 44))) & 2097151;
+      unCompressedData[outOffset + 4] = ((int) (w1 >>> 23)) & 2097151;
+      unCompressedData[outOffset + 5] = ((int) (w1 >>> 2)) & 2097151;
+      unCompressedData[outOffset + 6] = ((int) ((w1 << 19) | (w2 >>> 45))) & 2097151;
+      unCompressedData[outOffset + 7] = ((int) (w2 >>> 24)) & 2097151;
+      unCompressedData[outOffset + 8] = ((int) (w2 >>> 3)) & 2097151;
+      unCompressedData[outOffset + 9] = ((int) ((w2 << 18) | (w3 >>> 46))) & 2097151;
+      unCompressedData[outOffset + 10] = ((int) (w3 >>> 25)) & 2097151;
+      unCompressedData[outOffset + 11] = ((int) (w3 >>> 4)) & 2097151;
+      unCompressedData[outOffset + 12] = ((int) ((w3 << 17) | (w4 >>> 47))) & 2097151;
+      unCompressedData[outOffset + 13] = ((int) (w4 >>> 26)) & 2097151;
+      unCompressedData[outOffset + 14] = ((int) (w4 >>> 5)) & 2097151;
+      unCompressedData[outOffset + 15] = ((int) ((w4 << 16) | (w5 >>> 48))) & 2097151;
+      input.offset += 43;
+      output.offset += 16;
+    }
+  }
+
+  static final class FrameDecompressor55 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final byte[] compressedArray = input.bytes;
+      final int inOffset = input.offset + 1;
+      final int outOffset = output.offset;
+      final long w0 = buffer.getLong(inOffset + 0);
+      final long w1 = buffer.getLong(inOffset + 8);
+      final long w2 = buffer.getLong(inOffset + 16);
+      final long w3 = buffer.getLong(inOffset + 24);
+      final long w4 = buffer.getLong(inOffset + 32);
+      final long w5 = ((compressedArray[inOffset + 40] & 0xFFL) << 56) | ((compressedArray[inOffset + 41] & 0xFFL) << 48) | ((compressedArray[inOffset + 42] & 0xFFL) << 40) | ((compressedArray[inOffset + 43] & 0xFFL) << 32);
+
+      unCompressedData[outOffset + 0] = (int) (w0 >>> 42);
+      unCompressedData[outOffset + 1] = ((int) (w0 >>> 20)) & 4194303;
+      unCompressedData[outOffset + 2] = ((int) ((w0 << 2) | (w1 >>> 62))) & 4194303;
+      unCompressedData[outOffset + 3] = ((int) (w1 >>> 40)) & 4194303;
+      unCompressedData[outOffset + 4] = ((int) (w1 >>> 18)) & 4194303;
+      unCompressedData[outOffset + 5] = ((int) ((w1 << 4) | (w2 >>> 60))) & 4194303;
+      unCompressedData[outOffset + 6] = ((int) (w2 >>> 38)) & 4194303;
+      unCompressedData[outOffset + 7] = ((int) (w2 >>> 16)) & 4194303;
+      unCompressedData[outOffset + 8] = ((int) ((w2 << 6) | (w3 >>> 58))) & 4194303;
+      unCompressedData[outOffset + 9] = ((int) (w3 >>> 36)) & 4194303;
+      unCompressedData[outOffset + 10] = ((int) (w3 >>> 14)) & 4194303;
+      unCompressedData[outOffset + 11] = ((int) ((w3 << 8) | (w4 >>> 56))) & 4194303;
+      unCompressedData[outOffset + 12] = ((int) (w4 >>> 34)) & 4194303;
+      unCompressedData[outOffset + 13] = ((int) (w4 >>> 12)) & 4194303;
+      unCompressedData[outOffset + 14] = ((int) ((w4 << 10) | (w5 >>> 54))) & 4194303;
+      unCompressedData[outOffset + 15] = ((int) (w5 >>> 32)) & 4194303;
+      input.offset += 45;
+      output.offset += 16;
+    }
+  }
+
+  static final class FrameDecompressor56 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final byte[] compressedArray = input.bytes;
+      final int inOffset = input.offset + 1;
+      final int outOffset = output.offset;
+      final long w0 = buffer.getLong(inOffset + 0);
+      final long w1 = buffer.getLong(inOffset + 8);
+      final long w2 = buffer.getLong(inOffset + 16);
+      final long w3 = buffer.getLong(inOffset + 24);
+      final long w4 = buffer.getLong(inOffset + 32);
+      final long w5 = ((compressedArray[inOffset + 40] & 0xFFL) << 56) | ((compressedArray[inOffset + 41] & 0xFFL) << 48) | ((compressedArray[inOffset + 42] & 0xFFL) << 40) | ((compressedArray[inOffset + 43] & 0xFFL) << 32) | ((compressedArray[inOffset + 44] & 0xFFL) << 24) | ((compressedArray[inOffset + 45] & 0xFFL) << 16);
+
+      unCompressedData[outOffset + 0] = (int) (w0 >>> 41);
+      unCompressedData[outOffset + 1] = ((int) (w0 >>> 18)) & 8388607;
+      unCompressedData[outOffset + 2] = ((int) ((w0 << 5) | (w1 >>> 59))) & 8388607;
+      unCompressedData[outOffset + 3] = ((int) (w1 >>> 36)) & 8388607;
+      unCompressedData[outOffset + 4] = ((int) (w1 >>> 13)) & 8388607;
+      unCompressedData[outOffset + 5] = ((int) ((w1 << 10) | (w2 >>> 54))) & 8388607;
+      unCompressedData[outOffset + 6] = ((int) (w2 >>> 31)) & 8388607;
+      unCompressedData[outOffset + 7] = ((int) (w2 >>> 8)) & 8388607;
+      unCompressedData[outOffset + 8] = ((int) ((w2 << 15) | (w3 >>> 49))) & 8388607;
+      unCompressedData[outOffset + 9] = ((int) (w3 >>> 26)) & 8388607;
+      unCompressedData[outOffset + 10] = ((int) (w3 >>> 3)) & 8388607;
+      unCompressedData[outOffset + 11] = ((int) ((w3 << 20) | (w4 >>> 44))) & 8388607;
+      unCompressedData[outOffset + 12] = ((int) (w4 >>> 21)) & 8388607;
+      unCompressedData[outOffset + 13] = ((int) ((w4 << 2) | (w5 >>> 62))) & 8388607;
+      unCompressedData[outOffset + 14] = ((int) (w5 >>> 39)) & 8388607;
+      unCompressedData[outOffset + 15] = ((int) (w5 >>> 16)) & 8388607;
+      input.offset += 47;
+      output.offset += 16;
+    }
+  }
+
+  static final class FrameDecompressor57 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final byte[] compressedArray = input.bytes;
+      final int inOffset = input.offset + 1;
+      final int outOffset = output.offset;
+      final long w0 = buffer.getLong(inOffset + 0);
+      final long w1 = buffer.getLong(inOffset + 8);
+      final long w2 = buffer.getLong(inOffset + 16);
+      final long w3 = buffer.getLong(inOffset + 24);
+      final long w4 = buffer.getLong(inOffset + 32);
+      final long w5 = buffer.getLong(inOffset + 40);
+
+      unCompressedData[outOffset + 0] = (int) (w0 >>> 40);
+      unCompressedData[outOffset + 1] = ((int) (w0 >>> 16)) & 16777215;
+      unCompressedData[outOffset + 2] = ((int) ((w0 << 8) | (w1 >>> 56))) & 16777215;
+      unCompressedData[outOffset + 3] = ((int) (w1 >>> 32)) & 16777215;
+      unCompressedData[outOffset + 4] = ((int) (w1 >>> 8)) & 16777215;
+      unCompressedData[outOffset + 5] = ((int) ((w1 << 16) | (w2 >>> 48))) & 16777215;
+      unCompressedData[outOffset + 6] = ((int) (w2 >>> 24)) & 16777215;
+      unCompressedData[outOffset + 7] = ((int) (w2 >>> 0)) & 16777215;
+      unCompressedData[outOffset + 8] = (int) (w3 >>> 40);
+      unCompressedData[outOffset + 9] = ((int) (w3 >>> 16)) & 16777215;
+      unCompressedData[outOffset + 10] = ((int) ((w3 << 8) | (w4 >>> 56))) & 16777215;
+      unCompressedData[outOffset + 11] = ((int) (w4 >>> 32)) & 16777215;
+      unCompressedData[outOffset + 12] = ((int) (w4 >>> 8)) & 16777215;
+      unCompressedData[outOffset + 13] = ((int) ((w4 << 16) | (w5 >>> 48))) & 16777215;
+      unCompressedData[outOffset + 14] = ((int) (w5 >>> 24)) & 16777215;
+      unCompressedData[outOffset + 15] = ((int) (w5 >>> 0)) & 16777215;
+      input.offset += 49;
+      output.offset += 16;
+    }
+  }
+
+  static final class FrameDecompressor58 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final byte[] compressedArray = input.bytes;
+      final int inOffset = input.offset + 1;
+      final int outOffset = output.offset;
+      final long w0 = buffer.getLong(inOffset + 0);
+      final long w1 = buffer.getLong(inOffset + 8);
+      final long w2 = buffer.getLong(inOffset + 16);
+      final long w3 = buffer.getLong(inOffset + 24);
+      final long w4 = buffer.getLong(inOffset + 32);
+      final long w5 = buffer.getLong(inOffset + 40);
+      final long w6 = ((compressedArray[inOffset + 48] & 0xFFL) << 56) | ((compressedArray[inOffset + 49] & 0xFFL) << 48);
+
+      unCompressedData[outOffset + 0] = (int) (w0 >>> 39);
+      unCompressedData[outOffset + 1] = ((int) (w0 >>> 14)) & 33554431;
+      unCompressedData[outOffset + 2] = ((int) ((w0 << 11) | (w1 >>> 53))) & 33554431;
+      unCompressedData[outOffset + 3] = ((int) (w1 >>> 28)) & 33554431;
+      unCompressedData[outOffset + 4] = ((int) (w1 >>> 3)) & 33554431;
+      unCompressedData[outOffset + 5] = ((int) ((w1 << 22) | (w2 >>> 42))) & 33554431;
+      unCompressedData[outOffset + 6] = ((int) (w2 >>> 17)) & 33554431;
+      unCompressedData[outOffset + 7] = ((int) ((w2 << 8) | (w3 >>> 56))) & 33554431;
+      unCompressedData[outOffset + 8] = ((int) (w3 >>> 31)) & 33554431;
+      unCompressedData[outOffset + 9] = ((int) (w3 >>> 6)) & 33554431;
+      unCompressedData[outOffset + 10] = ((int) ((w3 << 19) | (w4 >>> 45))) & 33554431;
+      unCompressedData[outOffset + 11] = ((int) (w4 >>> 20)) & 33554431;
+      unCompressedData[outOffset + 12] = ((int) ((w4 << 5) | (w5 >>> 59))) & 33554431;
+      unCompressedData[outOffset + 13] = ((int) (w5 >>> 34)) & 33554431;
+      unCompressedData[outOffset + 14] = ((int) (w5 >>> 9)) & 33554431;
+      unCompressedData[outOffset + 15] = ((int) ((w5 << 16) | (w6 >>> 48))) & 33554431;
+      input.offset += 51;
+      output.offset += 16;
+    }
+  }
+
+  static final class FrameDecompressor59 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final byte[] compressedArray = input.bytes;
+      final int inOffset = input.offset + 1;
+      final int outOffset = output.offset;
+      final long w0 = buffer.getLong(inOffset + 0);
+      final long w1 = buffer.getLong(inOffset + 8);
+      final long w2 = buffer.getLong(inOffset + 16);
+      final long w3 = buffer.getLong(inOffset + 24);
+      final long w4 = buffer.getLong(inOffset + 32);
+      final long w5 = buffer.getLong(inOffset + 40);
+      final long w6 = ((compressedArray[inOffset + 48] & 0xFFL) << 56) | ((compressedArray[inOffset + 49] & 0xFFL) << 48) | ((compressedArray[inOffset + 50] & 0xFFL) << 40) | ((compressedArray[inOffset + 51] & 0xFFL) << 32);
+
+      unCompressedData[outOffset + 0] = (int) (w0 >>> 38);
+      unCompressedData[outOffset + 1] = ((int) (w0 >>> 12)) & 67108863;
+      unCompressedData[outOffset + 2] = ((int) ((w0 << 14) | (w1 >>> 50))) & 67108863;
+      unCompressedData[outOffset + 3] = ((int) (w1 >>> 24)) & 67108863;
+      unCompressedData[outOffset + 4] = ((int) ((w1 << 2) | (w2 >>> 62))) & 67108863;
+      unCompressedData[outOffset + 5] = ((int) (w2 >>> 36)) & 67108863;
+      unCompressedData[outOffset + 6] = ((int) (w2 >>> 10)) & 67108863;
+      unCompressedData[outOffset + 7] = ((int) ((w2 << 16) | (w3 >>> 48))) & 67108863;
+      unCompressedData[outOffset + 8] = ((int) (w3 >>> 22)) & 67108863;
+      unCompressedData[outOffset + 9] = ((int) ((w3 << 4) | (w4 >>> 60))) & 67108863;
+      unCompressedData[outOffset + 10] = ((int) (w4 >>> 34)) & 67108863;
+      unCompressedData[outOffset + 11] = ((int) (w4 >>> 8)) & 67108863;
+      unCompressedData[outOffset + 12] = ((int) ((w4 << 18) | (w5 >>> 46))) & 67108863;
+      unCompressedData[outOffset + 13] = ((int) (w5 >>> 20)) & 67108863;
+      unCompressedData[outOffset + 14] = ((int) ((w5 << 6) | (w6 >>> 58))) & 67108863;
+      unCompressedData[outOffset + 15] = ((int) (w6 >>> 32)) & 67108863;
+      input.offset += 53;
+      output.offset += 16;
+    }
+  }
+
+  static final class FrameDecompressor60 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final byte[] compressedArray = input.bytes;
+      final int inOffset = input.offset + 1;
+      final int outOffset = output.offset;
+      final long w0 = buffer.getLong(inOffset + 0);
+      final long w1 = buffer.getLong(inOffset + 8);
+      final long w2 = buffer.getLong(inOffset + 16);
+      final long w3 = buffer.getLong(inOffset + 24);
+      final long w4 = buffer.getLong(inOffset + 32);
+      final long w5 = buffer.getLong(inOffset + 40);
+      final long w6 = ((compressedArray[inOffset + 48] & 0xFFL) << 56) | ((compressedArray[inOffset + 49] & 0xFFL) << 48) | ((compressedArray[inOffset + 50] & 0xFFL) << 40) | ((compressedArray[inOffset + 51] & 0xFFL) << 32) | ((compressedArray[inOffset + 52] & 0xFFL) << 24) | ((compressedArray[inOffset + 53] & 0xFFL) << 16);
+
+      unCompressedData[outOffset + 0] = (int) (w0 >>> 37);
+      unCompressedData[outOffset + 1] = ((int) (w0 >>> 10)) & 134217727;
+      unCompressedData[outOffset + 2] = ((int) ((w0 << 17) | (w1 >>> 47))) & 134217727;
+      unCompressedData[outOffset + 3] = ((int) (w1 >>> 20)) & 134217727;
+      unCompressedData[outOffset + 4] = ((int) ((w1 << 7) | (w2 >>> 57))) & 134217727;
+      unCompressedData[outOffset + 5] = ((int) (w2 >>> 30)) & 134217727;
+      unCompressedData[outOffset + 6] = ((int) (w2 >>> 3)) & 134217727;
+      unCompressedData[outOffset + 7] = ((int) ((w2 << 24) | (w3 >>> 40))) & 134217727;
+      unCompressedData[outOffset + 8] = ((int) (w3 >>> 13)) & 134217727;
+      unCompressedData[outOffset + 9] = ((int) ((w3 << 14) | (w4 >>> 50))) & 134217727;
+      unCompressedData[outOffset + 10] = ((int) (w4 >>> 23)) & 134217727;
+      unCompressedData[outOffset + 11] = ((int) ((w4 << 4) | (w5 >>> 60))) & 134217727;
+      unCompressedData[outOffset + 12] = ((int) (w5 >>> 33)) & 134217727;
+      unCompressedData[outOffset + 13] = ((int) (w5 >>> 6)) & 134217727;
+      unCompressedData[outOffset + 14] = ((int) ((w5 << 21) | (w6 >>> 43))) & 134217727;
+      unCompressedData[outOffset + 15] = ((int) (w6 >>> 16)) & 134217727;
+      input.offset += 55;
+      output.offset += 16;
+    }
+  }
+
+  static final class FrameDecompressor61 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final byte[] compressedArray = input.bytes;
+      final int inOffset = input.offset + 1;
+      final int outOffset = output.offset;
+      final long w0 = buffer.getLong(inOffset + 0);
+      final long w1 = buffer.getLong(inOffset + 8);
+      final long w2 = buffer.getLong(inOffset + 16);
+      final long w3 = buffer.getLong(inOffset + 24);
+      final long w4 = buffer.getLong(inOffset + 32);
+      final long w5 = buffer.getLong(inOffset + 40);
+      final long w6 = buffer.getLong(inOffset + 48);
+
+      unCompressedData[outOffset + 0] = (int) (w0 >>> 36);
+      unCompressedData[outOffset + 1] = ((int) (w0 >>> 8)) & 268435455;
+      unCompressedData[outOffset + 2] = ((int) ((w0 << 20) | (w1 >>> 44))) & 268435455;
+      unCompressedData[outOffset + 3] = ((int) (w1 >>> 16)) & 268435455;
+      unCompressedData[outOffset + 4] = ((int) ((w1 << 12) | (w2 >>> 52))) & 268435455;
+      unCompressedData[outOffset + 5] = ((int) (w2 >>> 24)) & 268435455;
+      unCompressedData[outOffset + 6] = ((int) ((w2 << 4) | (w3 >>> 60))) & 268435455;
+      unCompressedData[outOffset + 7] = ((int) (w3 >>> 32)) & 268435455;
+      unCompressedData[outOffset + 8] = ((int) (w3 >>> 4)) & 268435455;
+      unCompressedData[outOffset + 9] = ((int) ((w3 << 24) | (w4 >>> 40))) & 268435455;
+      unCompressedData[outOffset + 10] = ((int) (w4 >>> 12)) & 268435455;
+      unCompressedData[outOffset + 11] = ((int) ((w4 << 16) | (w5 >>> 48))) & 268435455;
+      unCompressedData[outOffset + 12] = ((int) (w5 >>> 20)) & 268435455;
+      unCompressedData[outOffset + 13] = ((int) ((w5 << 8) | (w6 >>> 56))) & 268435455;
+      unCompressedData[outOffset + 14] = ((int) (w6 >>> 28)) & 268435455;
+      unCompressedData[outOffset + 15] = ((int) (w6 >>> 0)) & 268435455;
+      input.offset += 57;
+      output.offset += 16;
+    }
+  }
+
+  static final class FrameDecompressor62 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final byte[] compressedArray = input.bytes;
+      final int inOffset = input.offset + 1;
+      final int outOffset = output.offset;
+      final long w0 = buffer.getLong(inOffset + 0);
+      final long w1 = buffer.getLong(inOffset + 8);
+      final long w2 = buffer.getLong(inOffset + 16);
+      final long w3 = buffer.getLong(inOffset + 24);
+      final long w4 = buffer.getLong(inOffset + 32);
+      final long w5 = buffer.getLong(inOffset + 40);
+      final long w6 = buffer.getLong(inOffset + 48);
+      final long w7 = ((compressedArray[inOffset + 56] & 0xFFL) << 56) | ((compressedArray[inOffset + 57] & 0xFFL) << 48);
+
+      unCompressedData[outOffset + 0] = (int) (w0 >>> 35);
+      unCompressedData[outOffset + 1] = ((int) (w0 >>> 6)) & 536870911;
+      unCompressedData[outOffset + 2] = ((int) ((w0 << 23) | (w1 >>> 41))) & 536870911;
+      unCompressedData[outOffset + 3] = ((int) (w1 >>> 12)) & 536870911;
+      unCompressedData[outOffset + 4] = ((int) ((w1 << 17) | (w2 >>> 47))) & 536870911;
+      unCompressedData[outOffset + 5] = ((int) (w2 >>> 18)) & 536870911;
+      unCompressedData[outOffset + 6] = ((int) ((w2 << 11) | (w3 >>> 53))) & 536870911;
+      unCompressedData[outOffset + 7] = ((int) (w3 >>> 24)) & 536870911;
+      unCompressedData[outOffset + 8] = ((int) ((w3 << 5) | (w4 >>> 59))) & 536870911;
+      unCompressedData[outOffset + 9] = ((int) (w4 >>> 30)) & 536870911;
+      unCompressedData[outOffset + 10] = ((int) (w4 >>> 1)) & 536870911;
+      unCompressedData[outOffset + 11] = ((int) ((w4 << 28) | (w5 >>> 36))) & 536870911;
+      unCompressedData[outOffset + 12] = ((int) (w5 >>> 7)) & 536870911;
+      unCompressedData[outOffset + 13] = ((int) ((w5 << 22) | (w6 >>> 42))) & 536870911;
+      unCompressedData[outOffset + 14] = ((int) (w6 >>> 13)) & 536870911;
+      unCompressedData[outOffset + 15] = ((int) ((w6 << 16) | (w7 >>> 48))) & 536870911;
+      input.offset += 59;
+      output.offset += 16;
+    }
+  }
+
+  static final class FrameDecompressor63 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final byte[] compressedArray = input.bytes;
+      final int inOffset = input.offset + 1;
+      final int outOffset = output.offset;
+      final long w0 = buffer.getLong(inOffset + 0);
+      final long w1 = buffer.getLong(inOffset + 8);
+      final long w2 = buffer.getLong(inOffset + 16);
+      final long w3 = buffer.getLong(inOffset + 24);
+      final long w4 = buffer.getLong(inOffset + 32);
+      final long w5 = buffer.getLong(inOffset + 40);
+      final long w6 = buffer.getLong(inOffset + 48);
+      final long w7 = ((compressedArray[inOffset + 56] & 0xFFL) << 56) | ((compressedArray[inOffset + 57] & 0xFFL) << 48) | ((compressedArray[inOffset + 58] & 0xFFL) << 40) | ((compressedArray[inOffset + 59] & 0xFFL) << 32);
+
+      unCompressedData[outOffset + 0] = (int) (w0 >>> 34);
+      unCompressedData[outOffset + 1] = ((int) (w0 >>> 4)) & 1073741823;
+      unCompressedData[outOffset + 2] = ((int) ((w0 << 26) | (w1 >>> 38))) & 1073741823;
+      unCompressedData[outOffset + 3] = ((int) (w1 >>> 8)) & 1073741823;
+      unCompressedData[outOffset + 4] = ((int) ((w1 << 22) | (w2 >>> 42))) & 1073741823;
+      unCompressedData[outOffset + 5] = ((int) (w2 >>> 12)) & 1073741823;
+      unCompressedData[outOffset + 6] = ((int) ((w2 << 18) | (w3 >>> 46))) & 1073741823;
+      unCompressedData[outOffset + 7] = ((int) (w3 >>> 16)) & 1073741823;
+      unCompressedData[outOffset + 8] = ((int) ((w3 << 14) | (w4 >>> 50))) & 1073741823;
+      unCompressedData[outOffset + 9] = ((int) (w4 >>> 20)) & 1073741823;
+      unCompressedData[outOffset + 10] = ((int) ((w4 << 10) | (w5 >>> 54))) & 1073741823;
+      unCompressedData[outOffset + 11] = ((int) (w5 >>> 24)) & 1073741823;
+      unCompressedData[outOffset + 12] = ((int) ((w5 << 6) | (w6 >>> 58))) & 1073741823;
+      unCompressedData[outOffset + 13] = ((int) (w6 >>> 28)) & 1073741823;
+      unCompressedData[outOffset + 14] = ((int) ((w6 << 2) | (w7 >>> 62))) & 1073741823;
+      unCompressedData[outOffset + 15] = ((int) (w7 >>> 32)) & 1073741823;
+      input.offset += 61;
+      output.offset += 16;
+    }
+  }
+
+  static final class FrameDecompressor64 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final byte[] compressedArray = input.bytes;
+      final int inOffset = input.offset + 1;
+      final int outOffset = output.offset;
+      final long w0 = buffer.getLong(inOffset + 0);
+      final long w1 = buffer.getLong(inOffset + 8);
+      final long w2 = buffer.getLong(inOffset + 16);
+      final long w3 = buffer.getLong(inOffset + 24);
+      final long w4 = buffer.getLong(inOffset + 32);
+      final long w5 = buffer.getLong(inOffset + 40);
+      final long w6 = buffer.getLong(inOffset + 48);
+      final long w7 = ((compressedArray[inOffset + 56] & 0xFFL) << 56) | ((compressedArray[inOffset + 57] & 0xFFL) << 48) | ((compressedArray[inOffset + 58] & 0xFFL) << 40) | ((compressedArray[inOffset + 59] & 0xFFL) << 32) | ((compressedArray[inOffset + 60] & 0xFFL) << 24) | ((compressedArray[inOffset + 61] & 0xFFL) << 16);
+
+      unCompressedData[outOffset + 0] = (int) (w0 >>> 33);
+      unCompressedData[outOffset + 1] = ((int) (w0 >>> 2)) & 2147483647;
+      unCompressedData[outOffset + 2] = ((int) ((w0 << 29) | (w1 >>> 35))) & 2147483647;
+      unCompressedData[outOffset + 3] = ((int) (w1 >>> 4)) & 2147483647;
+      unCompressedData[outOffset + 4] = ((int) ((w1 << 27) | (w2 >>> 37))) & 2147483647;
+      unCompressedData[outOffset + 5] = ((int) (w2 >>> 6)) & 2147483647;
+      unCompressedData[outOffset + 6] = ((int) ((w2 << 25) | (w3 >>> 39))) & 2147483647;
+      unCompressedData[outOffset + 7] = ((int) (w3 >>> 8)) & 2147483647;
+      unCompressedData[outOffset + 8] = ((int) ((w3 << 23) | (w4 >>> 41))) & 2147483647;
+      unCompressedData[outOffset + 9] = ((int) (w4 >>> 10)) & 2147483647;
+      unCompressedData[outOffset + 10] = ((int) ((w4 << 21) | (w5 >>> 43))) & 2147483647;
+      unCompressedData[outOffset + 11] = ((int) (w5 >>> 12)) & 2147483647;
+      unCompressedData[outOffset + 12] = ((int) ((w5 << 19) | (w6 >>> 45))) & 2147483647;
+      unCompressedData[outOffset + 13] = ((int) (w6 >>> 14)) & 2147483647;
+      unCompressedData[outOffset + 14] = ((int) ((w6 << 17) | (w7 >>> 47))) & 2147483647;
+      unCompressedData[outOffset + 15] = ((int) (w7 >>> 16)) & 2147483647;
+      input.offset += 63;
+      output.offset += 16;
+    }
+  }
+
+  static final class FrameDecompressor65 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final byte[] compressedArray = input.bytes;
+      final int inOffset = input.offset + 1;
+      final int outOffset = output.offset;
+      final long w0 = buffer.getLong(inOffset + 0);
+      final long w1 = buffer.getLong(inOffset + 8);
+      final long w2 = buffer.getLong(inOffset + 16);
+      final long w3 = buffer.getLong(inOffset + 24);
+      final long w4 = buffer.getLong(inOffset + 32);
+      final long w5 = buffer.getLong(inOffset + 40);
+      final long w6 = buffer.getLong(inOffset + 48);
+      final long w7 = buffer.getLong(inOffset + 56);
+
+      unCompressedData[outOffset + 0] = (int) (w0 >>> 32);
+      unCompressedData[outOffset + 1] = ((int) (w0 >>> 0));
+      unCompressedData[outOffset + 2] = (int) (w1 >>> 32);
+      unCompressedData[outOffset + 3] = ((int) (w1 >>> 0));
+      unCompressedData[outOffset + 4] = (int) (w2 >>> 32);
+      unCompressedData[outOffset + 5] = ((int) (w2 >>> 0));
+      unCompressedData[outOffset + 6] = (int) (w3 >>> 32);
+      unCompressedData[outOffset + 7] = ((int) (w3 >>> 0));
+      unCompressedData[outOffset + 8] = (int) (w4 >>> 32);
+      unCompressedData[outOffset + 9] = ((int) (w4 >>> 0));
+      unCompressedData[outOffset + 10] = (int) (w5 >>> 32);
+      unCompressedData[outOffset + 11] = ((int) (w5 >>> 0));
+      unCompressedData[outOffset + 12] = (int) (w6 >>> 32);
+      unCompressedData[outOffset + 13] = ((int) (w6 >>> 0));
+      unCompressedData[outOffset + 14] = (int) (w7 >>> 32);
+      unCompressedData[outOffset + 15] = ((int) (w7 >>> 0));
+      input.offset += 65;
+      output.offset += 16;
+    }
+  }
+
+  static final class FrameDecompressor66 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final int outOffset = output.offset;
+      unCompressedData[outOffset] = 0;
+      unCompressedData[outOffset + 1] = 0;
+      unCompressedData[outOffset + 2] = 0;
+      unCompressedData[outOffset + 3] = 0;
+      unCompressedData[outOffset + 4] = 0;
+      unCompressedData[outOffset + 5] = 0;
+      unCompressedData[outOffset + 6] = 0;
+      unCompressedData[outOffset + 7] = 0;
+      output.offset += 8;
+      input.offset += 1;
+  }
+  }
+
+  static final class FrameDecompressor67 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final byte[] compressedArray = input.bytes;
+      final int inOffset = input.offset + 1;
+      final int outOffset = output.offset;
+      final byte i0 = compressedArray[inOffset + 0];
+
+      unCompressedData[outOffset + 0] = (i0 >>> 7) & 1;
+      unCompressedData[outOffset + 1] = (i0 >>> 6) & 1;
+      unCompressedData[outOffset + 2] = (i0 >>> 5) & 1;
+      unCompressedData[outOffset + 3] = (i0 >>> 4) & 1;
+      unCompressedData[outOffset + 4] = (i0 >>> 3) & 1;
+      unCompressedData[outOffset + 5] = (i0 >>> 2) & 1;
+      unCompressedData[outOffset + 6] = (i0 >>> 1) & 1;
+      unCompressedData[outOffset + 7] = i0 & 1;
+      input.offset += 2;
+      output.offset += 8;
+    }
+  }
+
+  static final class FrameDecompressor68 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final byte[] compressedArray = input.bytes;
+      final int inOffset = input.offset + 1;
+      final int outOffset = output.offset;
+      final byte i0 = compressedArray[inOffset + 0];
+      final byte i1 = compressedArray[inOffset + 1];
+
+      unCompressedData[outOffset + 0] = (i0 >>> 6) & 3;
+      unCompressedData[outOffset + 1] = (i0 >>> 4) & 3;
+      unCompressedData[outOffset + 2] = (i0 >>> 2) & 3;
+      unCompressedData[outOffset + 3] = i0 & 3;
+      unCompressedData[outOffset + 4] = (i1 >>> 6) & 3;
+      unCompressedData[outOffset + 5] = (i1 >>> 4) & 3;
+      unCompressedData[outOffset + 6] = (i1 >>> 2) & 3;
+      unCompressedData[outOffset + 7] = i1 & 3;
+      input.offset += 3;
+      output.offset += 8;
+    }
+  }
+
+  static final class FrameDecompressor69 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final byte[] compressedArray = input.bytes;
+      final int inOffset = input.offset + 1;
+      final int outOffset = output.offset;
+      final byte i0 = compressedArray[inOffset + 0];
+      final byte i1 = compressedArray[inOffset + 1];
+      final byte i2 = compressedArray[inOffset + 2];
+
+      unCompressedData[outOffset + 0] = (i0 >>> 5) & 7;
+      unCompressedData[outOffset + 1] = (i0 >>> 2) & 7;
+      unCompressedData[outOffset + 2] = ((i0 << 1) | (i1 >>> 7 & 1)) & 7;
+      unCompressedData[outOffset + 3] = (i1 >>> 4) & 7;
+      unCompressedData[outOffset + 4] = (i1 >>> 1) & 7;
+      unCompressedData[outOffset + 5] = ((i1 << 2) | (i2 >>> 6 & 3)) & 7;
+      unCompressedData[outOffset + 6] = (i2 >>> 3) & 7;
+      unCompressedData[outOffset + 7] = i2 & 7;
+      input.offset += 4;
+      output.offset += 8;
+    }
+  }
+
+  static final class FrameDecompressor70 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final byte[] compressedArray = input.bytes;
+      final int inOffset = input.offset + 1;
+      final int outOffset = output.offset;
+      final byte i0 = compressedArray[inOffset + 0];
+      final byte i1 = compressedArray[inOffset + 1];
+      final byte i2 = compressedArray[inOffset + 2];
+      final byte i3 = compressedArray[inOffset + 3];
+
+      unCompressedData[outOffset + 0] = (i0 >>> 4) & 15;
+      unCompressedData[outOffset + 1] = i0 & 15;
+      unCompressedData[outOffset + 2] = (i1 >>> 4) & 15;
+      unCompressedData[outOffset + 3] = i1 & 15;
+      unCompressedData[outOffset + 4] = (i2 >>> 4) & 15;
+      unCompressedData[outOffset + 5] = i2 & 15;
+      unCompressedData[outOffset + 6] = (i3 >>> 4) & 15;
+      unCompressedData[outOffset + 7] = i3 & 15;
+      input.offset += 5;
+      output.offset += 8;
+    }
+  }
+
+  static final class FrameDecompressor71 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final byte[] compressedArray = input.bytes;
+      final int inOffset = input.offset + 1;
+      final int outOffset = output.offset;
+      final byte i0 = compressedArray[inOffset + 0];
+      final byte i1 = compressedArray[inOffset + 1];
+      final byte i2 = compressedArray[inOffset + 2];
+      final byte i3 = compressedArray[inOffset + 3];
+      final byte i4 = compressedArray[inOffset + 4];
+
+      unCompressedData[outOffset + 0] = (i0 >>> 3) & 31;
+      unCompressedData[outOffset + 1] = ((i0 << 2) | (i1 >>> 6 & 3)) & 31;
+      unCompressedData[outOffset + 2] = (i1 >>> 1) & 31;
+      unCompressedData[outOffset + 3] = ((i1 << 4) | (i2 >>> 4 & 15)) & 31;
+      unCompressedData[outOffset + 4] = ((i2 << 1) | (i3 >>> 7 & 1)) & 31;
+      unCompressedData[outOffset + 5] = (i3 >>> 2) & 31;
+      unCompressedData[outOffset + 6] = ((i3 << 3) | (i4 >>> 5 & 7)) & 31;
+      unCompressedData[outOffset + 7] = i4 & 31;
+      input.offset += 6;
+      output.offset += 8;
+    }
+  }
+
+  static final class FrameDecompressor72 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final byte[] compressedArray = input.bytes;
+      final int inOffset = input.offset + 1;
+      final int outOffset = output.offset;
+      final byte i0 = compressedArray[inOffset + 0];
+      final byte i1 = compressedArray[inOffset + 1];
+      final byte i2 = compressedArray[inOffset + 2];
+      final byte i3 = compressedArray[inOffset + 3];
+      final byte i4 = compressedArray[inOffset + 4];
+      final byte i5 = compressedArray[inOffset + 5];
+
+      unCompressedData[outOffset + 0] = (i0 >>> 2) & 63;
+      unCompressedData[outOffset + 1] = ((i0 << 4) | (i1 >>> 4 & 15)) & 63;
+      unCompressedData[outOffset + 2] = ((i1 << 2) | (i2 >>> 6 & 3)) & 63;
+      unCompressedData[outOffset + 3] = i2 & 63;
+      unCompressedData[outOffset + 4] = (i3 >>> 2) & 63;
+      unCompressedData[outOffset + 5] = ((i3 << 4) | (i4 >>> 4 & 15)) & 63;
+      unCompressedData[outOffset + 6] = ((i4 << 2) | (i5 >>> 6 & 3)) & 63;
+      unCompressedData[outOffset + 7] = i5 & 63;
+      input.offset += 7;
+      output.offset += 8;
+    }
+  }
+
+  static final class FrameDecompressor73 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final byte[] compressedArray = input.bytes;
+      final int inOffset = input.offset + 1;
+      final int outOffset = output.offset;
+      final byte i0 = compressedArray[inOffset + 0];
+      final byte i1 = compressedArray[inOffset + 1];
+      final byte i2 = compressedArray[inOffset + 2];
+      final byte i3 = compressedArray[inOffset + 3];
+      final byte i4 = compressedArray[inOffset + 4];
+      final byte i5 = compressedArray[inOffset + 5];
+      final byte i6 = compressedArray[inOffset + 6];
+
+      unCompressedData[outOffset + 0] = (i0 >>> 1) & 127;
+      unCompressedData[outOffset + 1] = ((i0 << 6) | (i1 >>> 2 & 63)) & 127;
+      unCompressedData[outOffset + 2] = ((i1 << 5) | (i2 >>> 3 & 31)) & 127;
+      unCompressedData[outOffset + 3] = ((i2 << 4) | (i3 >>> 4 & 15)) & 127;
+      unCompressedData[outOffset + 4] = ((i3 << 3) | (i4 >>> 5 & 7)) & 127;
+      unCompressedData[outOffset + 5] = ((i4 << 2) | (i5 >>> 6 & 3)) & 127;
+      unCompressedData[outOffset + 6] = ((i5 << 1) | (i6 >>> 7 & 1)) & 127;
+      unCompressedData[outOffset + 7] = i6 & 127;
+      input.offset += 8;
+      output.offset += 8;
+    }
+  }
+
+  static final class FrameDecompressor74 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final byte[] compressedArray = input.bytes;
+      final int inOffset = input.offset + 1;
+      final int outOffset = output.offset;
+      final byte i0 = compressedArray[inOffset + 0];
+      final byte i1 = compressedArray[inOffset + 1];
+      final byte i2 = compressedArray[inOffset + 2];
+      final byte i3 = compressedArray[inOffset + 3];
+      final byte i4 = compressedArray[inOffset + 4];
+      final byte i5 = compressedArray[inOffset + 5];
+      final byte i6 = compressedArray[inOffset + 6];
+      final byte i7 = compressedArray[inOffset + 7];
+
+      unCompressedData[outOffset + 0] = i0 & 255;
+      unCompressedData[outOffset + 1] = i1 & 255;
+      unCompressedData[outOffset + 2] = i2 & 255;
+      unCompressedData[outOffset + 3] = i3 & 255;
+      unCompressedData[outOffset + 4] = i4 & 255;
+      unCompressedData[outOffset + 5] = i5 & 255;
+      unCompressedData[outOffset + 6] = i6 & 255;
+      unCompressedData[outOffset + 7] = i7 & 255;
+      input.offset += 9;
+      output.offset += 8;
+    }
+  }
+
+  static final class FrameDecompressor75 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final byte[] compressedArray = input.bytes;
+      final int inOffset = input.offset + 1;
+      final int outOffset = output.offset;
+      final long w0 = buffer.getLong(inOffset + 0);
+      final long w1 = ((compressedArray[inOffset + 8] & 0xFFL) << 56);
+
+      unCompressedData[outOffset + 0] = (int) (w0 >>> 55);
+      unCompressedData[outOffset + 1] = ((int) (w0 >>> 46)) & 511;
+      unCompressedData[outOffset + 2] = ((int) (w0 >>> 37)) & 511;
+      unCompressedData[outOffset + 3] = ((int) (w0 >>> 28)) & 511;
+      unCompressedData[outOffset + 4] = ((int) (w0 >>> 19)) & 511;
+      unCompressedData[outOffset + 5] = ((int) (w0 >>> 10)) & 511;
+      unCompressedData[outOffset + 6] = ((int) (w0 >>> 1)) & 511;
+      unCompressedData[outOffset + 7] = ((int) ((w0 << 8) | (w1 >>> 56))) & 511;
+      input.offset += 10;
+      output.offset += 8;
+    }
+  }
+
+  static final class FrameDecompressor76 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final byte[] compressedArray = input.bytes;
+      final int inOffset = input.offset + 1;
+      final int outOffset = output.offset;
+      final long w0 = buffer.getLong(inOffset + 0);
+      final long w1 = ((compressedArray[inOffset + 8] & 0xFFL) << 56) | ((compressedArray[inOffset + 9] & 0xFFL) << 48);
+
+      unCompressedData[outOffset + 0] = (int) (w0 >>> 54);
+      unCompressedData[outOffset + 1] = ((int) (w0 >>> 44)) & 1023;
+      unCompressedData[outOffset + 2] = ((int) (w0 >>> 34)) & 1023;
+      unCompressedData[outOffset + 3] = ((int) (w0 >>> 24)) & 1023;
+      unCompressedData[outOffset + 4] = ((int) (w0 >>> 14)) & 1023;
+      unCompressedData[outOffset + 5] = ((int) (w0 >>> 4)) & 1023;
+      unCompressedData[outOffset + 6] = ((int) ((w0 << 6) | (w1 >>> 58))) & 1023;
+      unCompressedData[outOffset + 7] = ((int) (w1 >>> 48)) & 1023;
+      input.offset += 11;
+      output.offset += 8;
+    }
+  }
+
+  static final class FrameDecompressor77 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final byte[] compressedArray = input.bytes;
+      final int inOffset = input.offset + 1;
+      final int outOffset = output.offset;
+      final long w0 = buffer.getLong(inOffset + 0);
+      final long w1 = ((compressedArray[inOffset + 8] & 0xFFL) << 56) | ((compressedArray[inOffset + 9] & 0xFFL) << 48) | ((compressedArray[inOffset + 10] & 0xFFL) << 40);
+
+      unCompressedData[outOffset + 0] = (int) (w0 >>> 53);
+      unCompressedData[outOffset + 1] = ((int) (w0 >>> 42)) & 2047;
+      unCompressedData[outOffset + 2] = ((int) (w0 >>> 31)) & 2047;
+      unCompressedData[outOffset + 3] = ((int) (w0 >>> 20)) & 2047;
+      unCompressedData[outOffset + 4] = ((int) (w0 >>> 9)) & 2047;
+      unCompressedData[outOffset + 5] = ((int) ((w0 << 2) | (w1 >>> 62))) & 2047;
+      unCompressedData[outOffset + 6] = ((int) (w1 >>> 51)) & 2047;
+      unCompressedData[outOffset + 7] = ((int) (w1 >>> 40)) & 2047;
+      input.offset += 12;
+      output.offset += 8;
+    }
+  }
+
+  static final class FrameDecompressor78 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final byte[] compressedArray = input.bytes;
+      final int inOffset = input.offset + 1;
+      final int outOffset = output.offset;
+      final long w0 = buffer.getLong(inOffset + 0);
+      final long w1 = ((compressedArray[inOffset + 8] & 0xFFL) << 56) | ((compressedArray[inOffset + 9] & 0xFFL) << 48) | ((compressedArray[inOffset + 10] & 0xFFL) << 40) | ((compressedArray[inOffset + 11] & 0xFFL) << 32);
+
+      unCompressedData[outOffset + 0] = (int) (w0 >>> 52);
+      unCompressedData[outOffset + 1] = ((int) (w0 >>> 40)) & 4095;
+      unCompressedData[outOffset + 2] = ((int) (w0 >>> 28)) & 4095;
+      unCompressedData[outOffset + 3] = ((int) (w0 >>> 16)) & 4095;
+      unCompressedData[outOffset + 4] = ((int) (w0 >>> 4)) & 4095;
+      unCompressedData[outOffset + 5] = ((int) ((w0 << 8) | (w1 >>> 56))) & 4095;
+      unCompressedData[outOffset + 6] = ((int) (w1 >>> 44)) & 4095;
+      unCompressedData[outOffset + 7] = ((int) (w1 >>> 32)) & 4095;
+      input.offset += 13;
+      output.offset += 8;
+    }
+  }
+
+  static final class FrameDecompressor79 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final byte[] compressedArray = input.bytes;
+      final int inOffset = input.offset + 1;
+      final int outOffset = output.offset;
+      final long w0 = buffer.getLong(inOffset + 0);
+      final long w1 = ((compressedArray[inOffset + 8] & 0xFFL) << 56) | ((compressedArray[inOffset + 9] & 0xFFL) << 48) | ((compressedArray[inOffset + 10] & 0xFFL) << 40) | ((compressedArray[inOffset + 11] & 0xFFL) << 32) | ((compressedArray[inOffset + 12] & 0xFFL) << 24);
+
+      unCompressedData[outOffset + 0] = (int) (w0 >>> 51);
+      unCompressedData[outOffset + 1] = ((int) (w0 >>> 38)) & 8191;
+      unCompressedData[outOffset + 2] = ((int) (w0 >>> 25)) & 8191;
+      unCompressedData[outOffset + 3] = ((int) (w0 >>> 12)) & 8191;
+      unCompressedData[outOffset + 4] = ((int) ((w0 << 1) | (w1 >>> 63))) & 8191;
+      unCompressedData[outOffset + 5] = ((int) (w1 >>> 50)) & 8191;
+      unCompressedData[outOffset + 6] = ((int) (w1 >>> 37)) & 8191;
+      unCompressedData[outOffset + 7] = ((int) (w1 >>> 24)) & 8191;
+      input.offset += 14;
+      output.offset += 8;
+    }
+  }
+
+  static final class FrameDecompressor80 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final byte[] compressedArray = input.bytes;
+      final int inOffset = input.offset + 1;
+      final int outOffset = output.offset;
+      final long w0 = buffer.getLong(inOffset + 0);
+      final long w1 = ((compressedArray[inOffset + 8] & 0xFFL) << 56) | ((compressedArray[inOffset + 9] & 0xFFL) << 48) | ((compressedArray[inOffset + 10] & 0xFFL) << 40) | ((compressedArray[inOffset + 11] & 0xFFL) << 32) | ((compressedArray[inOffset + 12] & 0xFFL) << 24) | ((compressedArray[inOffset + 13] & 0xFFL) << 16);
+
+      unCompressedData[outOffset + 0] = (int) (w0 >>> 50);
+      unCompressedData[outOffset + 1] = ((int) (w0 >>> 36)) & 16383;
+      unCompressedData[outOffset + 2] = ((int) (w0 >>> 22)) & 16383;
+      unCompressedData[outOffset + 3] = ((int) (w0 >>> 8)) & 16383;
+      unCompressedData[outOffset + 4] = ((int) ((w0 << 6) | (w1 >>> 58))) & 16383;
+      unCompressedData[outOffset + 5] = ((int) (w1 >>> 44)) & 16383;
+      unCompressedData[outOffset + 6] = ((int) (w1 >>> 30)) & 16383;
+      unCompressedData[outOffset + 7] = ((int) (w1 >>> 16)) & 16383;
+      input.offset += 15;
+      output.offset += 8;
+    }
+  }
+
+  static final class FrameDecompressor81 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final byte[] compressedArray = input.bytes;
+      final int inOffset = input.offset + 1;
+      final int outOffset = output.offset;
+      final long w0 = buffer.getLong(inOffset + 0);
+      final long w1 = ((compressedArray[inOffset + 8] & 0xFFL) << 56) | ((compressedArray[inOffset + 9] & 0xFFL) << 48) | ((compressedArray[inOffset + 10] & 0xFFL) << 40) | ((compressedArray[inOffset + 11] & 0xFFL) << 32) | ((compressedArray[inOffset + 12] & 0xFFL) << 24) | ((compressedArray[inOffset + 13] & 0xFFL) << 16) | ((compressedArray[inOffset + 14] & 0xFFL) << 8);
+
+      unCompressedData[outOffset + 0] = (int) (w0 >>> 49);
+      unCompressedData[outOffset + 1] = ((int) (w0 >>> 34)) & 32767;
+      unCompressedData[outOffset + 2] = ((int) (w0 >>> 19)) & 32767;
+      unCompressedData[outOffset + 3] = ((int) (w0 >>> 4)) & 32767;
+      unCompressedData[outOffset + 4] = ((int) ((w0 << 11) | (w1 >>> 53))) & 32767;
+      unCompressedData[outOffset + 5] = ((int) (w1 >>> 38)) & 32767;
+      unCompressedData[outOffset + 6] = ((int) (w1 >>> 23)) & 32767;
+      unCompressedData[outOffset + 7] = ((int) (w1 >>> 8)) & 32767;
+      input.offset += 16;
+      output.offset += 8;
+    }
+  }
+
+  static final class FrameDecompressor82 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final byte[] compressedArray = input.bytes;
+      final int inOffset = input.offset + 1;
+      final int outOffset = output.offset;
+      final long w0 = buffer.getLong(inOffset + 0);
+      final long w1 = buffer.getLong(inOffset + 8);
+
+      unCompressedData[outOffset + 0] = (int) (w0 >>> 48);
+      unCompressedData[outOffset + 1] = ((int) (w0 >>> 32)) & 65535;
+      unCompressedData[outOffset + 2] = ((int) (w0 >>> 16)) & 65535;
+      unCompressedData[outOffset + 3] = ((int) (w0 >>> 0)) & 65535;
+      unCompressedData[outOffset + 4] = (int) (w1 >>> 48);
+      unCompressedData[outOffset + 5] = ((int) (w1 >>> 32)) & 65535;
+      unCompressedData[outOffset + 6] = ((int) (w1 >>> 16)) & 65535;
+      unCompressedData[outOffset + 7] = ((int) (w1 >>> 0)) & 65535;
+      input.offset += 17;
+      output.offset += 8;
+    }
+  }
+
+  static final class FrameDecompressor83 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final byte[] compressedArray = input.bytes;
+      final int inOffset = input.offset + 1;
+      final int outOffset = output.offset;
+      final long w0 = buffer.getLong(inOffset + 0);
+      final long w1 = buffer.getLong(inOffset + 8);
+      final long w2 = ((compressedArray[inOffset + 16] & 0xFFL) << 56);
+
+      unCompressedData[outOffset + 0] = (int) (w0 >>> 47);
+      unCompressedData[outOffset + 1] = ((int) (w0 >>> 30)) & 131071;
+      unCompressedData[outOffset + 2] = ((int) (w0 >>> 13)) & 131071;
+      unCompressedData[outOffset + 3] = ((int) ((w0 << 4) | (w1 >>> 60))) & 131071;
+      unCompressedData[outOffset + 4] = ((int) (w1 >>> 43)) & 131071;
+      unCompressedData[outOffset + 5] = ((int) (w1 >>> 26)) & 131071;
+      unCompressedData[outOffset + 6] = ((int) (w1 >>> 9)) & 131071;
+      unCompressedData[outOffset + 7] = ((int) ((w1 << 8) | (w2 >>> 56))) & 131071;
+      input.offset += 18;
+      output.offset += 8;
+    }
+  }
+
+  static final class FrameDecompressor84 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final byte[] compressedArray = input.bytes;
+      final int inOffset = input.offset + 1;
+      final int outOffset = output.offset;
+      final long w0 = buffer.getLong(inOffset + 0);
+      final long w1 = buffer.getLong(inOffset + 8);
+      final long w2 = ((compressedArray[inOffset + 16] & 0xFFL) << 56) | ((compressedArray[inOffset + 17] & 0xFFL) << 48);
+
+      unCompressedData[outOffset + 0] = (int) (w0 >>> 46);
+      unCompressedData[outOffset + 1] = ((int) (w0 >>> 28)) & 262143;
+      unCompressedData[outOffset + 2] = ((int) (w0 >>> 10)) & 262143;
+      unCompressedData[outOffset + 3] = ((int) ((w0 << 8) | (w1 >>> 56))) & 262143;
+      unCompressedData[outOffset + 4] = ((int) (w1 >>> 38)) & 262143;
+      unCompressedData[outOffset + 5] = ((int) (w1 >>> 20)) & 262143;
+      unCompressedData[outOffset + 6] = ((int) (w1 >>> 2)) & 262143;
+      unCompressedData[outOffset + 7] = ((int) ((w1 << 16) | (w2 >>> 48))) & 262143;
+      input.offset += 19;
+      output.offset += 8;
+    }
+  }
+
+  static final class FrameDecompressor85 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final byte[] compressedArray = input.bytes;
+      final int inOffset = input.offset + 1;
+      final int outOffset = output.offset;
+      final long w0 = buffer.getLong(inOffset + 0);
+      final long w1 = buffer.getLong(inOffset + 8);
+      final long w2 = ((compressedArray[inOffset + 16] & 0xFFL) << 56) | ((compressedArray[inOffset + 17] & 0xFFL) << 48) | ((compressedArray[inOffset + 18] & 0xFFL) << 40);
+
+      unCompressedData[outOffset + 0] = (int) (w0 >>> 45);
+      unCompressedData[outOffset + 1] = ((int) (w0 >>> 26)) & 524287;
+      unCompressedData[outOffset + 2] = ((int) (w0 >>> 7)) & 524287;
+      unCompressedData[outOffset + 3] = ((int) ((w0 << 12) | (w1 >>> 52))) & 524287;
+      unCompressedData[outOffset + 4] = ((int) (w1 >>> 33)) & 524287;
+      unCompressedData[outOffset + 5] = ((int) (w1 >>> 14)) & 524287;
+      unCompressedData[outOffset + 6] = ((int) ((w1 << 5) | (w2 >>> 59))) & 524287;
+      unCompressedData[outOffset + 7] = ((int) (w2 >>> 40)) & 524287;
+      input.offset += 20;
+      output.offset += 8;
+    }
+  }
+
+  static final class FrameDecompressor86 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final byte[] compressedArray = input.bytes;
+      final int inOffset = input.offset + 1;
+      final int outOffset = output.offset;
+      final long w0 = buffer.getLong(inOffset + 0);
+      final long w1 = buffer.getLong(inOffset + 8);
+      final long w2 = ((compressedArray[inOffset + 16] & 0xFFL) << 56) | ((compressedArray[inOffset + 17] & 0xFFL) << 48) | ((compressedArray[inOffset + 18] & 0xFFL) << 40) | ((compressedArray[inOffset + 19] & 0xFFL) << 32);
+
+      unCompressedData[outOffset + 0] = (int) (w0 >>> 44);
+      unCompressedData[outOffset + 1] = ((int) (w0 >>> 24)) & 1048575;
+      unCompressedData[outOffset + 2] = ((int) (w0 >>> 4)) & 1048575;
+      unCompressedData[outOffset + 3] = ((int) ((w0 << 16) | (w1 >>> 48))) & 1048575;
+      unCompressedData[outOffset + 4] = ((int) (w1 >>> 28)) & 1048575;
+      unCompressedData[outOffset + 5] = ((int) (w1 >>> 8)) & 1048575;
+      unCompressedData[outOffset + 6] = ((int) ((w1 << 12) | (w2 >>> 52))) & 1048575;
+      unCompressedData[outOffset + 7] = ((int) (w2 >>> 32)) & 1048575;
+      input.offset += 21;
+      output.offset += 8;
+    }
+  }
+
+  static final class FrameDecompressor87 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final byte[] compressedArray = input.bytes;
+      final int inOffset = input.offset + 1;
+      final int outOffset = output.offset;
+      final long w0 = buffer.getLong(inOffset + 0);
+      final long w1 = buffer.getLong(inOffset + 8);
+      final long w2 = ((compressedArray[inOffset + 16] & 0xFFL) << 56) | ((compressedArray[inOffset + 17] & 0xFFL) << 48) | ((compressedArray[inOffset + 18] & 0xFFL) << 40) | ((compressedArray[inOffset + 19] & 0xFFL) << 32) | ((compressedArray[inOffset + 20] & 0xFFL) << 24);
+
+      unCompressedData[outOffset + 0] = (int) (w0 >>> 43);
+      unCompressedData[outOffset + 1] = ((int) (w0 >>> 22)) & 2097151;
+      unCompressedData[outOffset + 2] = ((int) (w0 >>> 1)) & 2097151;
+      unCompressedData[outOffset + 3] = ((int) ((w0 << 20) | (w1 >>> 44))) & 2097151;
+      unCompressedData[outOffset + 4] = ((int) (w1 >>> 23)) & 2097151;
+      unCompressedData[outOffset + 5] = ((int) (w1 >>> 2)) & 2097151;
+      unCompressedData[outOffset + 6] = ((int) ((w1 << 19) | (w2 >>> 45))) & 2097151;
+      unCompressedData[outOffset + 7] = ((int) (w2 >>> 24)) & 2097151;
+      input.offset += 22;
+      output.offset += 8;
+    }
+  }
+
+  static final class FrameDecompressor88 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final byte[] compressedArray = input.bytes;
+      final int inOffset = input.offset + 1;
+      final int outOffset = output.offset;
+      final long w0 = buffer.getLong(inOffset + 0);
+      final long w1 = buffer.getLong(inOffset + 8);
+      final long w2 = ((compressedArray[inOffset + 16] & 0xFFL) << 56) | ((compressedArray[inOffset + 17] & 0xFFL) << 48) | ((compressedArray[inOffset + 18] & 0xFFL) << 40) | ((compressedArray[inOffset + 19] & 0xFFL) << 32) | ((compressedArray[inOffset + 20] & 0xFFL) << 24) | ((compressedArray[inOffset + 21] & 0xFFL) << 16);
+
+      unCompressedData[outOffset + 0] = (int) (w0 >>> 42);
+      unCompressedData[outOffset + 1] = ((int) (w0 >>> 20)) & 4194303;
+      unCompressedData[outOffset + 2] = ((int) ((w0 << 2) | (w1 >>> 62))) & 4194303;
+      unCompressedData[outOffset + 3] = ((int) (w1 >>> 40)) & 4194303;
+      unCompressedData[outOffset + 4] = ((int) (w1 >>> 18)) & 4194303;
+      unCompressedData[outOffset + 5] = ((int) ((w1 << 4) | (w2 >>> 60))) & 4194303;
+      unCompressedData[outOffset + 6] = ((int) (w2 >>> 38)) & 4194303;
+      unCompressedData[outOffset + 7] = ((int) (w2 >>> 16)) & 4194303;
+      input.offset += 23;
+      output.offset += 8;
+    }
+  }
+
+  static final class FrameDecompressor89 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final byte[] compressedArray = input.bytes;
+      final int inOffset = input.offset + 1;
+      final int outOffset = output.offset;
+      final long w0 = buffer.getLong(inOffset + 0);
+      final long w1 = buffer.getLong(inOffset + 8);
+      final long w2 = ((compressedArray[inOffset + 16] & 0xFFL) << 56) | ((compressedArray[inOffset + 17] & 0xFFL) << 48) | ((compressedArray[inOffset + 18] & 0xFFL) << 40) | ((compressedArray[inOffset + 19] & 0xFFL) << 32) | ((compressedArray[inOffset + 20] & 0xFFL) << 24) | ((compressedArray[inOffset + 21] & 0xFFL) << 16) | ((compressedArray[inOffset + 22] & 0xFFL) << 8);
+
+      unCompressedData[outOffset + 0] = (int) (w0 >>> 41);
+      unCompressedData[outOffset + 1] = ((int) (w0 >>> 18)) & 8388607;
+      unCompressedData[outOffset + 2] = ((int) ((w0 << 5) | (w1 >>> 59))) & 8388607;
+      unCompressedData[outOffset + 3] = ((int) (w1 >>> 36)) & 8388607;
+      unCompressedData[outOffset + 4] = ((int) (w1 >>> 13)) & 8388607;
+      unCompressedData[outOffset + 5] = ((int) ((w1 << 10) | (w2 >>> 54))) & 8388607;
+      unCompressedData[outOffset + 6] = ((int) (w2 >>> 31)) & 8388607;
+      unCompressedData[outOffset + 7] = ((int) (w2 >>> 8)) & 8388607;
+      input.offset += 24;
+      output.offset += 8;
+    }
+  }
+
+  static final class FrameDecompressor90 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final byte[] compressedArray = input.bytes;
+      final int inOffset = input.offset + 1;
+      final int outOffset = output.offset;
+      final long w0 = buffer.getLong(inOffset + 0);
+      final long w1 = buffer.getLong(inOffset + 8);
+      final long w2 = buffer.getLong(inOffset + 16);
+
+      unCompressedData[outOffset + 0] = (int) (w0 >>> 40);
+      unCompressedData[outOffset + 1] = ((int) (w0 >>> 16)) & 16777215;
+      unCompressedData[outOffset + 2] = ((int) ((w0 << 8) | (w1 >>> 56))) & 16777215;
+      unCompressedData[outOffset + 3] = ((int) (w1 >>> 32)) & 16777215;
+      unCompressedData[outOffset + 4] = ((int) (w1 >>> 8)) & 16777215;
+      unCompressedData[outOffset + 5] = ((int) ((w1 << 16) | (w2 >>> 48))) & 16777215;
+      unCompressedData[outOffset + 6] = ((int) (w2 >>> 24)) & 16777215;
+      unCompressedData[outOffset + 7] = ((int) (w2 >>> 0)) & 16777215;
+      input.offset += 25;
+      output.offset += 8;
+    }
+  }
+
+  static final class FrameDecompressor91 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final byte[] compressedArray = input.bytes;
+      final int inOffset = input.offset + 1;
+      final int outOffset = output.offset;
+      final long w0 = buffer.getLong(inOffset + 0);
+      final long w1 = buffer.getLong(inOffset + 8);
+      final long w2 = buffer.getLong(inOffset + 16);
+      final long w3 = ((compressedArray[inOffset + 24] & 0xFFL) << 56);
+
+      unCompressedData[outOffset + 0] = (int) (w0 >>> 39);
+      unCompressedData[outOffset + 1] = ((int) (w0 >>> 14)) & 33554431;
+      unCompressedData[outOffset + 2] = ((int) ((w0 << 11) | (w1 >>> 53))) & 33554431;
+      unCompressedData[outOffset + 3] = ((int) (w1 >>> 28)) & 33554431;
+      unCompressedData[outOffset + 4] = ((int) (w1 >>> 3)) & 33554431;
+      unCompressedData[outOffset + 5] = ((int) ((w1 << 22) | (w2 >>> 42))) & 33554431;
+      unCompressedData[outOffset + 6] = ((int) (w2 >>> 17)) & 33554431;
+      unCompressedData[outOffset + 7] = ((int) ((w2 << 8) | (w3 >>> 56))) & 33554431;
+      input.offset += 26;
+      output.offset += 8;
+    }
+  }
+
+  static final class FrameDecompressor92 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final byte[] compressedArray = input.bytes;
+      final int inOffset = input.offset + 1;
+      final int outOffset = output.offset;
+      final long w0 = buffer.getLong(inOffset + 0);
+      final long w1 = buffer.getLong(inOffset + 8);
+      final long w2 = buffer.getLong(inOffset + 16);
+      final long w3 = ((compressedArray[inOffset + 24] & 0xFFL) << 56) | ((compressedArray[inOffset + 25] & 0xFFL) << 48);
+
+      unCompressedData[outOffset + 0] = (int) (w0 >>> 38);
+      unCompressedData[outOffset + 1] = ((int) (w0 >>> 12)) & 67108863;
+      unCompressedData[outOffset + 2] = ((int) ((w0 << 14) | (w1 >>> 50))) & 67108863;
+      unCompressedData[outOffset + 3] = ((int) (w1 >>> 24)) & 67108863;
+      unCompressedData[outOffset + 4] = ((int) ((w1 << 2) | (w2 >>> 62))) & 67108863;
+      unCompressedData[outOffset + 5] = ((int) (w2 >>> 36)) & 67108863;
+      unCompressedData[outOffset + 6] = ((int) (w2 >>> 10)) & 67108863;
+      unCompressedData[outOffset + 7] = ((int) ((w2 << 16) | (w3 >>> 48))) & 67108863;
+      input.offset += 27;
+      output.offset += 8;
+    }
+  }
+
+  static final class FrameDecompressor93 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final byte[] compressedArray = input.bytes;
+      final int inOffset = input.offset + 1;
+      final int outOffset = output.offset;
+      final long w0 = buffer.getLong(inOffset + 0);
+      final long w1 = buffer.getLong(inOffset + 8);
+      final long w2 = buffer.getLong(inOffset + 16);
+      final long w3 = ((compressedArray[inOffset + 24] & 0xFFL) << 56) | ((compressedArray[inOffset + 25] & 0xFFL) << 48) | ((compressedArray[inOffset + 26] & 0xFFL) << 40);
+
+      unCompressedData[outOffset + 0] = (int) (w0 >>> 37);
+      unCompressedData[outOffset + 1] = ((int) (w0 >>> 10)) & 134217727;
+      unCompressedData[outOffset + 2] = ((int) ((w0 << 17) | (w1 >>> 47))) & 134217727;
+      unCompressedData[outOffset + 3] = ((int) (w1 >>> 20)) & 134217727;
+      unCompressedData[outOffset + 4] = ((int) ((w1 << 7) | (w2 >>> 57))) & 134217727;
+      unCompressedData[outOffset + 5] = ((int) (w2 >>> 30)) & 134217727;
+      unCompressedData[outOffset + 6] = ((int) (w2 >>> 3)) & 134217727;
+      unCompressedData[outOffset + 7] = ((int) ((w2 << 24) | (w3 >>> 40))) & 134217727;
+      input.offset += 28;
+      output.offset += 8;
+    }
+  }
+
+  static final class FrameDecompressor94 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final byte[] compressedArray = input.bytes;
+      final int inOffset = input.offset + 1;
+      final int outOffset = output.offset;
+      final long w0 = buffer.getLong(inOffset + 0);
+      final long w1 = buffer.getLong(inOffset + 8);
+      final long w2 = buffer.getLong(inOffset + 16);
+      final long w3 = ((compressedArray[inOffset + 24] & 0xFFL) << 56) | ((compressedArray[inOffset + 25] & 0xFFL) << 48) | ((compressedArray[inOffset + 26] & 0xFFL) << 40) | ((compressedArray[inOffset + 27] & 0xFFL) << 32);
+
+      unCompressedData[outOffset + 0] = (int) (w0 >>> 36);
+      unCompressedData[outOffset + 1] = ((int) (w0 >>> 8)) & 268435455;
+      unCompressedData[outOffset + 2] = ((int) ((w0 << 20) | (w1 >>> 44))) & 268435455;
+      unCompressedData[outOffset + 3] = ((int) (w1 >>> 16)) & 268435455;
+      unCompressedData[outOffset + 4] = ((int) ((w1 << 12) | (w2 >>> 52))) & 268435455;
+      unCompressedData[outOffset + 5] = ((int) (w2 >>> 24)) & 268435455;
+      unCompressedData[outOffset + 6] = ((int) ((w2 << 4) | (w3 >>> 60))) & 268435455;
+      unCompressedData[outOffset + 7] = ((int) (w3 >>> 32)) & 268435455;
+      input.offset += 29;
+      output.offset += 8;
+    }
+  }
+
+  static final class FrameDecompressor95 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final byte[] compressedArray = input.bytes;
+      final int inOffset = input.offset + 1;
+      final int outOffset = output.offset;
+      final long w0 = buffer.getLong(inOffset + 0);
+      final long w1 = buffer.getLong(inOffset + 8);
+      final long w2 = buffer.getLong(inOffset + 16);
+      final long w3 = ((compressedArray[inOffset + 24] & 0xFFL) << 56) | ((compressedArray[inOffset + 25] & 0xFFL) << 48) | ((compressedArray[inOffset + 26] & 0xFFL) << 40) | ((compressedArray[inOffset + 27] & 0xFFL) << 32) | ((compressedArray[inOffset + 28] & 0xFFL) << 24);
+
+      unCompressedData[outOffset + 0] = (int) (w0 >>> 35);
+      unCompressedData[outOffset + 1] = ((int) (w0 >>> 6)) & 536870911;
+      unCompressedData[outOffset + 2] = ((int) ((w0 << 23) | (w1 >>> 41))) & 536870911;
+      unCompressedData[outOffset + 3] = ((int) (w1 >>> 12)) & 536870911;
+      unCompressedData[outOffset + 4] = ((int) ((w1 << 17) | (w2 >>> 47))) & 536870911;
+      unCompressedData[outOffset + 5] = ((int) (w2 >>> 18)) & 536870911;
+      unCompressedData[outOffset + 6] = ((int) ((w2 << 11) | (w3 >>> 53))) & 536870911;
+      unCompressedData[outOffset + 7] = ((int) (w3 >>> 24)) & 536870911;
+      input.offset += 30;
+      output.offset += 8;
+    }
+  }
+
+  static final class FrameDecompressor96 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final byte[] compressedArray = input.bytes;
+      final int inOffset = input.offset + 1;
+      final int outOffset = output.offset;
+      final long w0 = buffer.getLong(inOffset + 0);
+      final long w1 = buffer.getLong(inOffset + 8);
+      final long w2 = buffer.getLong(inOffset + 16);
+      final long w3 = ((compressedArray[inOffset + 24] & 0xFFL) << 56) | ((compressedArray[inOffset + 25] & 0xFFL) << 48) | ((compressedArray[inOffset + 26] & 0xFFL) << 40) | ((compressedArray[inOffset + 27] & 0xFFL) << 32) | ((compressedArray[inOffset + 28] & 0xFFL) << 24) | ((compressedArray[inOffset + 29] & 0xFFL) << 16);
+
+      unCompressedData[outOffset + 0] = (int) (w0 >>> 34);
+      unCompressedData[outOffset + 1] = ((int) (w0 >>> 4)) & 1073741823;
+      unCompressedData[outOffset + 2] = ((int) ((w0 << 26) | (w1 >>> 38))) & 1073741823;
+      unCompressedData[outOffset + 3] = ((int) (w1 >>> 8)) & 1073741823;
+      unCompressedData[outOffset + 4] = ((int) ((w1 << 22) | (w2 >>> 42))) & 1073741823;
+      unCompressedData[outOffset + 5] = ((int) (w2 >>> 12)) & 1073741823;
+      unCompressedData[outOffset + 6] = ((int) ((w2 << 18) | (w3 >>> 46))) & 1073741823;
+      unCompressedData[outOffset + 7] = ((int) (w3 >>> 16)) & 1073741823;
+      input.offset += 31;
+      output.offset += 8;
+    }
+  }
+
+  static final class FrameDecompressor97 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final byte[] compressedArray = input.bytes;
+      final int inOffset = input.offset + 1;
+      final int outOffset = output.offset;
+      final long w0 = buffer.getLong(inOffset + 0);
+      final long w1 = buffer.getLong(inOffset + 8);
+      final long w2 = buffer.getLong(inOffset + 16);
+      final long w3 = ((compressedArray[inOffset + 24] & 0xFFL) << 56) | ((compressedArray[inOffset + 25] & 0xFFL) << 48) | ((compressedArray[inOffset + 26] & 0xFFL) << 40) | ((compressedArray[inOffset + 27] & 0xFFL) << 32) | ((compressedArray[inOffset + 28] & 0xFFL) << 24) | ((compressedArray[inOffset + 29] & 0xFFL) << 16) | ((compressedArray[inOffset + 30] & 0xFFL) << 8);
+
+      unCompressedData[outOffset + 0] = (int) (w0 >>> 33);
+      unCompressedData[outOffset + 1] = ((int) (w0 >>> 2)) & 2147483647;
+      unCompressedData[outOffset + 2] = ((int) ((w0 << 29) | (w1 >>> 35))) & 2147483647;
+      unCompressedData[outOffset + 3] = ((int) (w1 >>> 4)) & 2147483647;
+      unCompressedData[outOffset + 4] = ((int) ((w1 << 27) | (w2 >>> 37))) & 2147483647;
+      unCompressedData[outOffset + 5] = ((int) (w2 >>> 6)) & 2147483647;
+      unCompressedData[outOffset + 6] = ((int) ((w2 << 25) | (w3 >>> 39))) & 2147483647;
+      unCompressedData[outOffset + 7] = ((int) (w3 >>> 8)) & 2147483647;
+      input.offset += 32;
+      output.offset += 8;
+    }
+  }
+
+  static final class FrameDecompressor98 extends FrameDecompressor {
+    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {
+      final int[] unCompressedData = output.ints;
+      final byte[] compressedArray = input.bytes;
+      final int inOffset = input.offset + 1;
+      final int outOffset = output.offset;
+      final long w0 = buffer.getLong(inOffset + 0);
+      final long w1 = buffer.getLong(inOffset + 8);
+      final long w2 = buffer.getLong(inOffset + 16);
+      final long w3 = buffer.getLong(inOffset + 24);
+
+      unCompressedData[outOffset + 0] = (int) (w0 >>> 32);
+      unCompressedData[outOffset + 1] = ((int) (w0 >>> 0));
+      unCompressedData[outOffset + 2] = (int) (w1 >>> 32);
+      unCompressedData[outOffset + 3] = ((int) (w1 >>> 0));
+      unCompressedData[outOffset + 4] = (int) (w2 >>> 32);
+      unCompressedData[outOffset + 5] = ((int) (w2 >>> 0));
+      unCompressedData[outOffset + 6] = (int) (w3 >>> 32);
+      unCompressedData[outOffset + 7] = ((int) (w3 >>> 0));
+      input.offset += 33;
+      output.offset += 8;
+    }
+  }
+
+}
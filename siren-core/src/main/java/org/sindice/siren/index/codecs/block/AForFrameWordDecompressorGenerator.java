@@ -0,0 +1,208 @@
+/**
+ * Copyright 2014 National University of Ireland, Galway.
+ *
+ * This file is part of the SIREn project. Project and contact information:
+ *
+ *  https://github.com/rdelbru/SIREn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.sindice.siren.index.codecs.block;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+
+/**
+ * This class is used to generate {@link AForFrameWordDecompressor}.
+ * <p>
+ * The data of a frame is a sequence of <code>n * b</code> bits, where
+ * <code>n</code> is the number of integers of the frame and <code>b</code> the
+ * number of frame bits, in big-endian order. The generated frame decompressors
+ * load the data of the frame by words of 64 bits, and extract the integers
+ * from the words with shifts and masks. The frames of at most 8 bits are
+ * decoded byte per byte.
+ */
+public class AForFrameWordDecompressorGenerator extends AForFrameDecompressorGenerator {
+
+  /**
+   * The minimum number of frame bits of the frames decoded by words. The
+   * integers of narrower frames are extracted from one or two bytes, and
+   * these frames are decoded byte per byte as in {@link AForFrameDecompressor}.
+   * See <code>AForDecompressorBenchmark</code>.
+   */
+  private static final int MIN_WORD_BITS = 9;
+
+  private static final String BYTE_METHOD_SIGNATURE =
+    "    public final void decompress(final BytesRef input, final IntsRef output) {";
+
+  private static final String WORD_METHOD_SIGNATURE =
+    "    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {";
+
+  public AForFrameWordDecompressorGenerator() throws IOException {
+    super();
+  }
+
+  @Override
+  public void generate(final File file) throws IOException {
+    writer = new FileWriter(file);
+    writer.append(FILE_HEADER.replace("AForFrameDecompressorGenerator.java",
+      "AForFrameWordDecompressorGenerator.java").replace("import org.apache.lucene.util.BytesRef;",
+      "import java.nio.ByteBuffer;\n\nimport org.apache.lucene.util.BytesRef;"));
+    writer.append('\n');
+    this.generateClass();
+    writer.close();
+  }
+
+  @Override
+  protected void generateClass() throws IOException {
+    writer.append("/**\n");
+    writer.append(" * This class contains a lookup table of functors for decompressing frames\n");
+    writer.append(" * by words of 64 bits.\n");
+    writer.append(" */\n");
+    writer.append("public class AForFrameWordDecompressor {\n\n");
+    this.generateTable();
+    this.generateAbstractInnerClass();
+    for (int i = 0; i < 99; i++) {
+      this.generateInnerClass(i);
+    }
+    writer.append("}\n");
+  }
+
+  @Override
+  protected void generateAbstractInnerClass() throws IOException {
+    writer.append("  static abstract class FrameDecompressor {\n");
+    writer.append("    /**\n");
+    writer.append("     * Decompress the frame. The buffer must wrap the byte array of the input.\n");
+    writer.append("     */\n");
+    writer.append("    public abstract void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output);\n");
+    writer.append("  }\n\n");
+  }
+
+  @Override
+  protected void generateMethod(final int numFrameBits) throws IOException {
+    final int nInts = this.getFrameLength(numFrameBits);
+    final int bits = this.getBits(numFrameBits);
+
+    if (bits < MIN_WORD_BITS) {
+      this.generateByteMethod(numFrameBits);
+      return;
+    }
+
+    writer.append(WORD_METHOD_SIGNATURE + "\n");
+    this.generateMethodHeader(numFrameBits);
+    this.generateWords(frameSizes[numFrameBits]);
+    this.generateWordInstructions(nInts, bits);
+    this.generateMethodFooter(numFrameBits);
+    writer.append("    }\n");
+  }
+
+  /**
+   * Generate the method of {@link AForFrameDecompressorGenerator}, which reads
+   * the frame data byte per byte, with the signature of the word decompressors.
+   */
+  private void generateByteMethod(final int numFrameBits) throws IOException {
+    final Writer fileWriter = writer;
+    final StringWriter buffer = new StringWriter();
+    writer = buffer;
+    try {
+      super.generateMethod(numFrameBits);
+    }
+    finally {
+      writer = fileWriter;
+    }
+    writer.append(buffer.toString().replace(BYTE_METHOD_SIGNATURE, WORD_METHOD_SIGNATURE));
+  }
+
+  /**
+   * Load the frame data by words of 64 bits. The last word is built from the
+   * remaining bytes if the frame size is not a multiple of 8 bytes, so that no
+   * byte is read outside of the frame.
+   */
+  private void generateWords(final int nBytes) throws IOException {
+    final int nWords = nBytes / 8;
+    for (int i = 0; i < nWords; i++) {
+      writer.append("      final long w" + i + " = buffer.getLong(inOffset + " + (i * 8) + ");\n");
+    }
+    final int remaining = nBytes % 8;
+    if (remaining > 0) {
+      writer.append("      final long w" + nWords + " = ");
+      for (int i = 0; i < remaining; i++) {
+        if (i > 0) {
+          writer.append(" | ");
+        }
+        writer.append("((compressedArray[inOffset + " + (nWords * 8 + i) + "] & 0xFFL) << " + (56 - i * 8) + ")");
+      }
+      writer.append(";\n");
+    }
+    writer.append("\n");
+  }
+
+  private void generateWordInstructions(final int nInts, final int bits)
+  throws IOException {
+    final String mask = bits == 32 ? "" : " & " + ((1 << bits) - 1);
+    for (int i = 0; i < nInts; i++) {
+      final int start = i * bits;
+      final int word = start / 64;
+      final int offset = start % 64;
+      writer.append("      unCompressedData[outOffset + " + i + "] = ");
+      if (offset + bits <= 64) {
+        final int shift = 64 - offset - bits;
+        if (offset == 0) {
+          // the integer is in the high bits of the word
+          writer.append("(int) (w" + word + " >>> " + shift + ");\n");
+        }
+        else {
+          writer.append("((int) (w" + word + " >>> " + shift + "))" + mask + ";\n");
+        }
+      }
+      else {
+        // the integer overlaps two words
+        final int high = offset + bits - 64;
+        writer.append("((int) ((w" + word + " << " + high + ") | (w" + (word + 1) + " >>> " + (64 - high) + ")))" + mask + ";\n");
+      }
+    }
+  }
+
+  private int getFrameLength(final int numFrameBits) {
+    if (numFrameBits <= 32)
+      return 32;
+    else if (numFrameBits <= 65)
+      return 16;
+    else
+      return 8;
+  }
+
+  private int getBits(final int numFrameBits) {
+    if (numFrameBits <= 32)
+      return numFrameBits;
+    else if (numFrameBits <= 65)
+      return numFrameBits - 33;
+    else
+      return numFrameBits - 66;
+  }
+
+  /**
+   * @param args
+   * @throws IOException
+   */
+  public static void main(final String[] args) throws IOException {
+    final File file = new File("./src/main/java/org/sindice/siren/index/codecs/block", "AForFrameWordDecompressor.java");
+    final AForFrameWordDecompressorGenerator generator = new AForFrameWordDecompressorGenerator();
+    generator.generate(file);
+  }
+
+}
@@ -0,0 +1,111 @@
+/**
+ * Copyright 2014 National University of Ireland, Galway.
+ *
+ * This file is part of the SIREn project. Project and contact information:
+ *
+ *  https://github.com/rdelbru/SIREn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.sindice.siren.index.codecs.block;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+
+/**
+ * This class is used to generate {@link AForFrameWordDeltaDecompressor}.
+ * <p>
+ * The frame decompressors are generated by
+ * {@link AForFrameWordDecompressorGenerator} and rewritten as in
+ * {@link AForFrameDeltaDecompressorGenerator}, so that the running sum of the
+ * decoded values is written to the output.
+ */
+public class AForFrameWordDeltaDecompressorGenerator extends AForFrameWordDecompressorGenerator {
+
+  private static final String METHOD_SIGNATURE =
+    "    public final void decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output) {";
+
+  private static final String DELTA_METHOD_SIGNATURE =
+    "    public final int decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output, int acc) {";
+
+  public AForFrameWordDeltaDecompressorGenerator() throws IOException {
+    super();
+  }
+
+  @Override
+  public void generate(final File file) throws IOException {
+    writer = new FileWriter(file);
+    writer.append(FILE_HEADER.replace("AForFrameDecompressorGenerator.java",
+      "AForFrameWordDeltaDecompressorGenerator.java").replace("import org.apache.lucene.util.BytesRef;",
+      "import java.nio.ByteBuffer;\n\nimport org.apache.lucene.util.BytesRef;"));
+    writer.append('\n');
+    this.generateClass();
+    writer.close();
+  }
+
+  @Override
+  protected void generateClass() throws IOException {
+    writer.append("/**\n");
+    writer.append(" * This class contains a lookup table of functors for decompressing frames\n");
+    writer.append(" * of delta values by words of 64 bits. The prefix sum of the values, each\n");
+    writer.append(" * one incremented by one, is computed during the decompression of the frame.\n");
+    writer.append(" */\n");
+    writer.append("public class AForFrameWordDeltaDecompressor {\n\n");
+    this.generateTable();
+    this.generateAbstractInnerClass();
+    for (int i = 0; i < 99; i++) {
+      this.generateInnerClass(i);
+    }
+    writer.append("}\n");
+  }
+
+  @Override
+  protected void generateAbstractInnerClass() throws IOException {
+    writer.append("  static abstract class FrameDecompressor {\n");
+    writer.append("    /**\n");
+    writer.append("     * Decompress the frame and return the last value of the running sum. The\n");
+    writer.append("     * buffer must wrap the byte array of the input.\n");
+    writer.append("     */\n");
+    writer.append("    public abstract int decompress(final ByteBuffer buffer, final BytesRef input, final IntsRef output, int acc);\n");
+    writer.append("  }\n\n");
+  }
+
+  @Override
+  protected void generateInnerClass(final int numFramebits) throws IOException {
+    final Writer fileWriter = writer;
+    final StringWriter buffer = new StringWriter();
+    writer = buffer;
+    try {
+      super.generateInnerClass(numFramebits);
+    }
+    finally {
+      writer = fileWriter;
+    }
+    writer.append(AForFrameDeltaDecompressorGenerator.toDelta(buffer.toString(),
+      METHOD_SIGNATURE, DELTA_METHOD_SIGNATURE));
+  }
+
+  /**
+   * @param args
+   * @throws IOException
+   */
+  public static void main(final String[] args) throws IOException {
+    final File file = new File("./src/main/java/org/sindice/siren/index/codecs/block", "AForFrameWordDeltaDecompressor.java");
+    final AForFrameWordDeltaDecompressorGenerator generator = new AForFrameWordDeltaDecompressorGenerator();
+    generator.generate(file);
+  }
+
+}
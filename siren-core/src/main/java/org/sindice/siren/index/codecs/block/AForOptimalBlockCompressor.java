@@ -0,0 +1,179 @@
+/**
+ * Copyright 2014 National University of Ireland, Galway.
+ *
+ * This file is part of the SIREn project. Project and contact information:
+ *
+ *  https://github.com/rdelbru/SIREn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.sindice.siren.index.codecs.block;
+
+import org.apache.lucene.util.ArrayUtil;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.IntsRef;
+
+/**
+ * Implementation of {@link BlockCompressor} based on the Adaptive Frame Of
+ * Reference algorithm with an optimal partitioning of the block into frames.
+ *
+ * <p>
+ *
+ * {@link AForBlockCompressor} chooses the frames of each window of 32 integers
+ * among six fixed configurations. This compressor instead computes, by dynamic
+ * programming over the whole block, the sequence of frames of 8, 16 or 32
+ * integers, starting at any multiple of 8, which minimises the size of the
+ * compressed block. On equal size, the sequence with the fewest frames is
+ * preferred, as it is faster to decompress.
+ *
+ * <p>
+ *
+ * The output uses the same frame codes than {@link AForBlockCompressor}, and
+ * is decoded by {@link AForBlockDecompressor}.
+ */
+public class AForOptimalBlockCompressor extends AForBlockCompressor {
+
+  /** The number of frame bits of each unit of 8 integers */
+  private int[] unitBits = new int[0];
+
+  /** The minimal compressed size from each unit to the end of the block */
+  private int[] costs = new int[0];
+
+  /** The number of units of the first frame of the optimal sequence */
+  private int[] frameUnits = new int[0];
+
+  /** The frame sizes in number of units, from the largest to the smallest */
+  private static final int[] FRAME_UNITS = { 4, 2, 1 };
+
+  @Override
+  public void compress(final IntsRef input, final BytesRef output) {
+    assert input.ints.length % 32 == 0;
+    final byte[] compressedData = output.bytes;
+
+    // prepare the input buffer before starting the compression
+    this.prepareInputBuffer(input);
+
+    // number of units to encode, and number of units covered by the windows
+    final int length = input.length - input.offset;
+    final int nUnits = (length + MIN_FRAME_SIZE - 1) / MIN_FRAME_SIZE;
+    final int nWindowUnits = ((length + MAX_FRAME_SIZE - 1) / MAX_FRAME_SIZE) * (MAX_FRAME_SIZE / MIN_FRAME_SIZE);
+
+    this.computeUnitBits(input.ints, input.offset, nWindowUnits);
+    this.computeOptimalFrames(nUnits, nWindowUnits);
+
+    int unit = 0;
+    while (unit < nUnits) {
+      final int units = frameUnits[unit];
+      final int compressorCode = this.getFrameCompressorCode(unit, units);
+      compressedData[output.offset] = (byte) compressorCode;
+      this.compressors[compressorCode].compress(input, output);
+      unit += units;
+    }
+
+    // flip buffer
+    input.offset = 0;
+    output.length = output.offset;
+    output.offset = 0;
+  }
+
+  /**
+   * Compute the number of bits required by the largest integer of each unit
+   * of 8 integers.
+   */
+  private void computeUnitBits(final int[] ints, final int offset, final int nUnits) {
+    unitBits = ArrayUtil.grow(unitBits, nUnits);
+    for (int i = 0; i < nUnits; i++) {
+      long max = 0;
+      final int start = offset + i * MIN_FRAME_SIZE;
+      for (int j = start; j < start + MIN_FRAME_SIZE; j++) {
+        max = max >= (ints[j] & 0xFFFFFFFFL) ? max : (ints[j] & 0xFFFFFFFFL);
+      }
+      unitBits[i] = max == 0 ? 0 : logNextHigherPowerOf2(max) + 1;
+    }
+  }
+
+  /**
+   * Compute backward the optimal sequence of frames. A frame of n units
+   * encoded with b bits costs 1 byte for its code and n * b bytes for the
+   * data. A frame may cover the units outside the block up to the end of the
+   * last window, as they are filled with 0.
+   */
+  private void computeOptimalFrames(final int nUnits, final int nWindowUnits) {
+    costs = ArrayUtil.grow(costs, nWindowUnits + 1);
+    frameUnits = ArrayUtil.grow(frameUnits, nWindowUnits + 1);
+
+    for (int i = nUnits; i <= nWindowUnits; i++) {
+      costs[i] = 0;
+    }
+
+    for (int i = nUnits - 1; i >= 0; i--) {
+      int bestCost = Integer.MAX_VALUE;
+      int bestUnits = 1;
+      for (final int units : FRAME_UNITS) {
+        if (i + units > nWindowUnits) {
+          continue;
+        }
+        final int cost = 1 + units * this.getFrameBits(i, units) + costs[i + units];
+        // strictly inferior to prefer the largest frames
+        if (cost < bestCost) {
+          bestCost = cost;
+          bestUnits = units;
+        }
+      }
+      costs[i] = bestCost;
+      frameUnits[i] = bestUnits;
+    }
+  }
+
+  private int getFrameBits(final int unit, final int units) {
+    int bits = 0;
+    for (int i = unit; i < unit + units; i++) {
+      bits = bits >= unitBits[i] ? bits : unitBits[i];
+    }
+    return bits;
+  }
+
+  /**
+   * Return the frame compressor code of the frame. The codes from 0 to 32 are
+   * for frames of 32 integers, from 33 to 65 for frames of 16 integers, and
+   * from 66 to 98 for frames of 8 integers. The code 0, 33 and 66 are for
+   * frames of zeros.
+   */
+  private int getFrameCompressorCode(final int unit, final int units) {
+    final int bits = this.getFrameBits(unit, units);
+    switch (units) {
+      case 4:
+        return bits;
+
+      case 2:
+        return 33 + bits;
+
+      case 1:
+        return 66 + bits;
+
+      default:
+        throw new Error("AFor: Unknown frame size");
+    }
+  }
+
+  @Override
+  public int maxCompressedSize(final int arraySize) {
+    // the number of windows
+    final int numberOfWindows = (int) Math.ceil((float) arraySize / (float) this.getWindowSize());
+    // in the worst case, 4 frames of 8 integers of 4 bytes each, each one
+    // with 1 byte for the frame code
+    final int maxSize = numberOfWindows * (4 + (32 * 4));
+    return HEADER_SIZE + maxSize;
+  }
+
+}
@@ -0,0 +1,126 @@
+/**
+ * Copyright 2014 National University of Ireland, Galway.
+ *
+ * This file is part of the SIREn project. Project and contact information:
+ *
+ *  https://github.com/rdelbru/SIREn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.sindice.siren.index.codecs.block;
+
+import java.nio.ByteBuffer;
+
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.IntsRef;
+
+/**
+ * Implementation of {@link BlockDecompressor} based on the Adaptive Frame Of
+ * Reference algorithm, which decompresses the frames by words of 64 bits.
+ * <p>
+ * The compressed format is the same than the one decoded by
+ * {@link AForBlockDecompressor}.
+ * <p>
+ * The words are loaded with {@link ByteBuffer#getLong(int)}. Its speed, and
+ * therefore the speed of this decompressor against
+ * {@link AForBlockDecompressor}, depends on the JVM: measure it with
+ * <code>AForDecompressorBenchmark</code> on the target JVM before enabling it.
+ * <p>
+ * The big-endian views over the input arrays are reused across calls, this
+ * decompressor is therefore not thread-safe, and each block reader uses its
+ * own instance, see {@link #getReaderInstance()}.
+ *
+ * @see AForFrameWordDecompressor
+ * @see AForFrameWordDeltaDecompressor
+ */
+public class AForWordBlockDecompressor extends AForBlockDecompressor {
+
+  protected final AForFrameWordDecompressor.FrameDecompressor[] wordDecompressors =
+    AForFrameWordDecompressor.decompressors;
+
+  protected final AForFrameWordDeltaDecompressor.FrameDecompressor[] wordDeltaDecompressors =
+    AForFrameWordDeltaDecompressor.decompressors;
+
+  /**
+   * The number of cached views, i.e., the number of input arrays decompressed
+   * in turn by a block reader
+   */
+  private static final int MAX_BUFFERS = 4;
+
+  /** The views over the last input arrays */
+  private final ByteBuffer[] buffers = new ByteBuffer[MAX_BUFFERS];
+
+  /** The index of the next view to replace */
+  private int nextBuffer = 0;
+
+  @Override
+  public BlockDecompressor getReaderInstance() {
+    return new AForWordBlockDecompressor();
+  }
+
+  /**
+   * Return a big-endian view over the given array. The input arrays of a
+   * block reader only change when they grow, the view is therefore reused.
+   */
+  private ByteBuffer getBuffer(final byte[] bytes) {
+    for (int i = 0; i < MAX_BUFFERS; i++) {
+      final ByteBuffer buffer = buffers[i];
+      if (buffer != null && buffer.array() == bytes) {
+        return buffer;
+      }
+    }
+    final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+    buffers[nextBuffer] = buffer;
+    nextBuffer = (nextBuffer + 1) % MAX_BUFFERS;
+    return buffer;
+  }
+
+  @Override
+  public void decompress(final BytesRef input, final IntsRef output) {
+    assert output.ints.length % 32 == 0;
+    final byte[] compressedArray = input.bytes;
+    final ByteBuffer buffer = this.getBuffer(compressedArray);
+
+    while (input.offset < input.length) {
+      this.wordDecompressors[compressedArray[input.offset]].decompress(buffer, input, output);
+    }
+
+    // flip buffer
+    input.offset = 0;
+    output.length = output.offset;
+    output.offset = 0;
+  }
+
+  /**
+   * Decode the delta values within the frame decompressors, without a second
+   * pass over the output.
+   */
+  @Override
+  public void decompressDelta(final BytesRef input, final IntsRef output,
+                              final int base) {
+    assert output.ints.length % 32 == 0;
+    final byte[] compressedArray = input.bytes;
+    final ByteBuffer buffer = this.getBuffer(compressedArray);
+
+    int acc = base;
+    while (input.offset < input.length) {
+      acc = this.wordDeltaDecompressors[compressedArray[input.offset]].decompress(buffer, input, output, acc);
+    }
+
+    // flip buffer
+    input.offset = 0;
+    output.length = output.offset;
+    output.offset = 0;
+  }
+
+}
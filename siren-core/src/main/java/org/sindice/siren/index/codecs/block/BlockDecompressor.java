@@ -44,9 +44,40 @@ public abstract class BlockDecompressor {
    */
   public abstract int getWindowSize();
 
+  /**
+   * Return a decompressor for the exclusive use of a single block reader.
+   * <p>
+   * A decompressor is shared by the block readers of all the threads. This
+   * default implementation returns this decompressor, which must therefore be
+   * stateless. A decompressor which reuses buffers across calls must return a
+   * new instance.
+   */
+  public BlockDecompressor getReaderInstance() {
+    return this;
+  }
+
   /**
    * Decompress the specified byte array into a list of integers.
    */
   public abstract void decompress(BytesRef input, IntsRef output);
 
+  /**
+   * Decompress the specified byte array of delta values into a list of
+   * integers. Each integer is equal to the previous one plus its delta value
+   * plus one, the previous integer of the first one being the given base.
+   * <p>
+   * This default implementation decodes the delta values in a second pass
+   * over the output. Implementations can override it to decode the delta
+   * values during the decompression.
+   */
+  public void decompressDelta(final BytesRef input, final IntsRef output,
+                              final int base) {
+    this.decompress(input, output);
+    final int[] unCompressedData = output.ints;
+    int acc = base;
+    for (int i = output.offset; i < output.length; i++) {
+      unCompressedData[i] = acc += unCompressedData[i] + 1;
+    }
+  }
+
 }
@@ -40,20 +40,66 @@ public abstract class BlockIndexInput implements Closeable {
 
   protected final IndexInput in;
 
+  /**
+   * The read-ahead of the block readers, or null if it is disabled.
+   */
+  private BlockReadAhead readAhead = null;
+
+  private volatile boolean closed = false;
+
   protected static final Logger logger = LoggerFactory.getLogger(BlockIndexInput.class);
 
   public BlockIndexInput(final IndexInput in) throws IOException {
     this.in = in;
   }
 
+  /**
+   * Close the file and release the read-ahead. The reads of the block readers
+   * still pending in the read-ahead are ignored.
+   */
   public void close() throws IOException {
-    in.close();
+    closed = true;
+    try {
+      in.close();
+    }
+    finally {
+      this.setReadAhead(null);
+    }
+  }
+
+  /**
+   * Return true if this input has been closed.
+   */
+  boolean isClosed() {
+    return closed;
   }
 
   public Index index() throws IOException {
     return new Index();
   }
 
+  /**
+   * Enable the asynchronous read-ahead for the {@link BlockReader}s created
+   * after this call, or disable it if the given read-ahead is null.
+   * <p>
+   * This input holds a reference to the read-ahead until it is closed or
+   * another read-ahead is set. The read-ahead is not used if its executor has
+   * already been shut down.
+   *
+   * @see BlockReadAhead
+   */
+  public void setReadAhead(final BlockReadAhead readAhead) {
+    final BlockReadAhead previous = this.readAhead;
+    this.readAhead = readAhead != null && readAhead.tryIncRef() ? readAhead : null;
+    if (previous != null) {
+      previous.decRef();
+    }
+  }
+
+  public BlockReadAhead getReadAhead() {
+    return readAhead;
+  }
+
   /**
    * This class stores the file pointer of a {@link DataInput}.
    */
@@ -75,11 +121,23 @@ public abstract class BlockIndexInput implements Closeable {
       other.seek(fp);
     }
 
+    /**
+     * Start to read asynchronously the block at this file pointer with the
+     * given {@link BlockReader}, if its read-ahead is enabled.
+     */
+    public void prefetch(final BlockIndexInput.BlockReader other) {
+      other.prefetch(fp);
+    }
+
     public void set(final BlockIndexInput.Index other) {
       final Index idx = other;
       fp = idx.fp;
     }
 
+    public void set(final long fp) {
+      this.fp = fp;
+    }
+
     @Override
     public Object clone() {
       final Index other = new Index();
@@ -124,7 +182,7 @@ public abstract class BlockIndexInput implements Closeable {
     protected final IndexInput in;
 
     protected BlockReader(final IndexInput in) {
-      this.in = in;
+      this.in = readAhead == null ? in : readAhead.wrap(in, BlockIndexInput.this);
     }
 
     /**
@@ -141,12 +199,22 @@ public abstract class BlockIndexInput implements Closeable {
      * Move to the next block and decode block header
      */
     public void nextBlock() throws IOException {
+      this.moveToNextBlock();
+      this.readHeader();
+    }
+
+    /**
+     * Move to the next block without reading the block header. The input
+     * stream is positioned at the start of the block header.
+     * <p>
+     * Used by subclasses to copy a block as raw bytes, e.g., during merge.
+     */
+    protected void moveToNextBlock() throws IOException {
       if (!seekPending) {
         this.skipData();
       }
       this.maybeSeek();
       this.initBlock();
-      this.readHeader();
     }
 
     /**
@@ -172,6 +240,16 @@ public abstract class BlockIndexInput implements Closeable {
       seekPending = true;
     }
 
+    /**
+     * Start to read asynchronously the block at the given file pointer. Do
+     * nothing if the read-ahead is disabled.
+     */
+    public void prefetch(final long fp) {
+      if (in instanceof ReadAheadIndexInput) {
+        ((ReadAheadIndexInput) in).prefetch(fp);
+      }
+    }
+
     /**
      * Seek block if needed. Return true if a seek has been performed.
      */
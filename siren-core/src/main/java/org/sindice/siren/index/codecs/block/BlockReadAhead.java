@@ -0,0 +1,238 @@
+/**
+ * Copyright 2014 National University of Ireland, Galway.
+ *
+ * This file is part of the SIREn project. Project and contact information:
+ *
+ *  https://github.com/rdelbru/SIREn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.sindice.siren.index.codecs.block;
+
+import java.io.Closeable;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.lucene.store.IndexInput;
+
+/**
+ * Configuration of the asynchronous read-ahead of the blocks of a
+ * {@link BlockIndexInput}.
+ *
+ * <p>
+ *
+ * When the read-ahead is enabled on a {@link BlockIndexInput}, the input
+ * stream of each of its {@link BlockIndexInput.BlockReader} reads the file
+ * through a window of {@link #getBufferSize()} bytes. The windows are filled by
+ * the executor of the read-ahead, either on request with
+ * {@link BlockIndexInput.Index#prefetch(BlockIndexInput.BlockReader)} or
+ * when half of the current window has been consumed.
+ *
+ * <p>
+ *
+ * Each time a block reader seeks to a new block, a hit is counted if the block
+ * starts within a window already filled, and a miss otherwise.
+ *
+ * <p>
+ *
+ * The read-ahead is disabled by default. It can be enabled for the .nod and
+ * .pos files of the SIREn 1.0 postings format with the system property
+ * {@link #THREADS_PROPERTY}, which defines the number of threads of the
+ * executor.
+ *
+ * <p>
+ *
+ * A read-ahead is reference counted: each {@link BlockIndexInput} using it
+ * holds a reference until it is closed, and its creator holds a reference
+ * until {@link #close()}. The executor is shut down when the last reference is
+ * released. The default read-ahead is therefore shut down once all the inputs
+ * of the postings readers using it are closed, and a new one is created for
+ * the next postings reader.
+ */
+public class BlockReadAhead implements Closeable {
+
+  /**
+   * The system property defining the number of threads of the default
+   * read-ahead. The default read-ahead is disabled if it is not set or
+   * lower than 1.
+   */
+  public static final String THREADS_PROPERTY = "siren.readahead.threads";
+
+  /**
+   * The default size in bytes of the read-ahead windows
+   */
+  public static final int DEFAULT_BUFFER_SIZE = 16384;
+
+  private static BlockReadAhead defaultReadAhead;
+
+  private final ExecutorService executor;
+
+  private final int bufferSize;
+
+  private final AtomicLong hits = new AtomicLong();
+
+  private final AtomicLong misses = new AtomicLong();
+
+  private final AtomicInteger refCount = new AtomicInteger(1);
+
+  private final AtomicBoolean closed = new AtomicBoolean(false);
+
+  /**
+   * Create a read-ahead with a pool of the given number of daemon threads.
+   */
+  public BlockReadAhead(final int nThreads, final int bufferSize) {
+    this(Executors.newFixedThreadPool(nThreads, new ThreadFactory() {
+
+      @Override
+      public Thread newThread(final Runnable r) {
+        final Thread thread = new Thread(r, "siren-readahead");
+        thread.setDaemon(true);
+        return thread;
+      }
+
+    }), bufferSize);
+  }
+
+  /**
+   * Create a read-ahead using the given executor.
+   */
+  public BlockReadAhead(final ExecutorService executor, final int bufferSize) {
+    if (bufferSize < 1) {
+      throw new IllegalArgumentException("bufferSize must be >= 1, got " + bufferSize);
+    }
+    this.executor = executor;
+    this.bufferSize = bufferSize;
+  }
+
+  /**
+   * Return the read-ahead configured by the system property
+   * {@link #THREADS_PROPERTY}, or null if the read-ahead is disabled.
+   * <p>
+   * The caller holds a reference to the returned read-ahead, and must release
+   * it with {@link #decRef()}.
+   */
+  public static synchronized BlockReadAhead acquireDefault() {
+    if (defaultReadAhead == null || !defaultReadAhead.tryIncRef()) {
+      defaultReadAhead = null;
+      final int nThreads = Integer.getInteger(THREADS_PROPERTY, 0);
+      if (nThreads > 0) {
+        defaultReadAhead = new BlockReadAhead(nThreads, DEFAULT_BUFFER_SIZE);
+      }
+    }
+    return defaultReadAhead;
+  }
+
+  /**
+   * Increment the reference count of this read-ahead, unless its executor has
+   * already been shut down.
+   *
+   * @return true if the reference count was incremented.
+   */
+  public boolean tryIncRef() {
+    int count;
+    while ((count = refCount.get()) > 0) {
+      if (refCount.compareAndSet(count, count + 1)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Decrement the reference count of this read-ahead, and shut down the
+   * executor if it reaches zero. The pending reads are completed, or ignored
+   * if their input has been closed.
+   */
+  public void decRef() {
+    final int count = refCount.decrementAndGet();
+    if (count == 0) {
+      executor.shutdown();
+    }
+    else if (count < 0) {
+      throw new IllegalStateException("too many decRef calls: refCount is " + count);
+    }
+  }
+
+  /**
+   * Return true if the executor has been shut down.
+   */
+  public boolean isShutdown() {
+    return executor.isShutdown();
+  }
+
+  public int getBufferSize() {
+    return bufferSize;
+  }
+
+  /**
+   * Return the number of blocks that were starting within a window already
+   * filled when a block reader moved to them.
+   */
+  public long getHitCount() {
+    return hits.get();
+  }
+
+  /**
+   * Return the number of blocks that were read from the file, or for which
+   * a block reader had to wait for the filling of the window, when a block
+   * reader moved to them.
+   */
+  public long getMissCount() {
+    return misses.get();
+  }
+
+  /**
+   * Reset the hit and miss counters.
+   */
+  public void resetCounters() {
+    hits.set(0);
+    misses.set(0);
+  }
+
+  void hit() {
+    hits.incrementAndGet();
+  }
+
+  void miss() {
+    misses.incrementAndGet();
+  }
+
+  <T> Future<T> submit(final Callable<T> task) {
+    return executor.submit(task);
+  }
+
+  /**
+   * Wrap the given input stream of a block reader of the given input.
+   */
+  IndexInput wrap(final IndexInput in, final BlockIndexInput owner) {
+    return new ReadAheadIndexInput(in, this, owner);
+  }
+
+  /**
+   * Release the reference of the creator of this read-ahead. The executor is
+   * shut down once the inputs using this read-ahead are closed.
+   */
+  @Override
+  public void close() {
+    if (closed.compareAndSet(false, true)) {
+      this.decRef();
+    }
+  }
+
+}
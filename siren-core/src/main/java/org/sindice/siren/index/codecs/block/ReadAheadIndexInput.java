@@ -0,0 +1,307 @@
+/**
+ * Copyright 2014 National University of Ireland, Galway.
+ *
+ * This file is part of the SIREn project. Project and contact information:
+ *
+ *  https://github.com/rdelbru/SIREn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.sindice.siren.index.codecs.block;
+
+import java.io.IOException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.util.ThreadInterruptedException;
+
+/**
+ * An {@link IndexInput} reading a file through a window filled asynchronously
+ * by a {@link BlockReadAhead}.
+ *
+ * <p>
+ *
+ * The window is backed by two reusable buffers: the current one, from which
+ * the bytes are read, and the spare one, which is filled in the background
+ * with a clone of the input. At most one read is pending at a time, so that
+ * the clone is never accessed concurrently. The bytes outside of the current
+ * window are read directly from the file.
+ *
+ * <p>
+ *
+ * The clone and the buffers are allocated on the first read-ahead, and the
+ * buffers are not larger than the file. A background read does nothing once
+ * the {@link BlockIndexInput} owning the input has been closed.
+ */
+class ReadAheadIndexInput extends IndexInput {
+
+  /** The input for the bytes outside of the window */
+  private final IndexInput in;
+
+  /** The input used by the background reads, cloned on the first read */
+  private IndexInput prefetchIn;
+
+  private final BlockReadAhead readAhead;
+
+  private final BlockIndexInput owner;
+
+  private byte[] buffer;
+  private long bufferStart = 0;
+  private int bufferLength = 0;
+
+  private byte[] spare;
+  private Future<Boolean> pending;
+  private long pendingStart;
+  private int pendingLength;
+
+  private long pos = 0;
+
+  ReadAheadIndexInput(final IndexInput in, final BlockReadAhead readAhead,
+                     final BlockIndexInput owner) {
+    super("ReadAheadIndexInput(" + in + ")");
+    this.in = in;
+    this.readAhead = readAhead;
+    this.owner = owner;
+  }
+
+  /**
+   * Start to fill a window at the given file pointer, unless the file pointer
+   * is already within the current or the pending window, or another read is
+   * still pending.
+   */
+  void prefetch(final long fp) {
+    if (this.isInWindow(fp) || this.isPending(fp)) {
+      return;
+    }
+    if (pending != null && !pending.isDone()) {
+      return;
+    }
+    this.submit(fp);
+  }
+
+  private boolean isInWindow(final long fp) {
+    return fp >= bufferStart && fp < bufferStart + bufferLength;
+  }
+
+  private boolean isPending(final long fp) {
+    return pending != null && fp >= pendingStart && fp < pendingStart + pendingLength;
+  }
+
+  private void submit(final long start) {
+    final int length = (int) Math.min(readAhead.getBufferSize(), in.length() - start);
+    if (length <= 0 || owner.isClosed()) {
+      return;
+    }
+    this.allocate();
+    final byte[] target = spare;
+    try {
+      pending = readAhead.submit(new Callable<Boolean>() {
+
+        @Override
+        public Boolean call() throws IOException {
+          if (owner.isClosed()) {
+            return false;
+          }
+          try {
+            prefetchIn.seek(start);
+            prefetchIn.readBytes(target, 0, length);
+          }
+          catch (final IOException e) {
+            if (owner.isClosed()) {
+              // the file has been closed during the read
+              return false;
+            }
+            throw e;
+          }
+          return true;
+        }
+
+      });
+    }
+    catch (final RejectedExecutionException e) {
+      // the read-ahead has been closed, read directly from the file
+      pending = null;
+      return;
+    }
+    pendingStart = start;
+    pendingLength = length;
+  }
+
+  /**
+   * Allocate the clone and the buffers on the first read.
+   */
+  private void allocate() {
+    if (prefetchIn == null) {
+      final int size = (int) Math.min(readAhead.getBufferSize(), in.length());
+      prefetchIn = in.clone();
+      buffer = new byte[size];
+      spare = new byte[size];
+    }
+  }
+
+  /**
+   * Fill the current window at the given file pointer, in the calling thread.
+   */
+  private void fill(final long start) throws IOException {
+    final int length = (int) Math.min(readAhead.getBufferSize(), in.length() - start);
+    if (length <= 0) {
+      return;
+    }
+    this.allocate();
+    in.seek(start);
+    in.readBytes(buffer, 0, length);
+    bufferStart = start;
+    bufferLength = length;
+  }
+
+  /**
+   * Wait for the pending read and swap the buffers, unless the read has been
+   * skipped because the input is closed.
+   */
+  private void awaitPending() throws IOException {
+    final boolean filled;
+    try {
+      filled = pending.get();
+    }
+    catch (final InterruptedException e) {
+      throw new ThreadInterruptedException(e);
+    }
+    catch (final ExecutionException e) {
+      throw new IOException("Read-ahead failed", e.getCause());
+    }
+    finally {
+      // the spare buffer is no longer used by the background read
+      pending = null;
+    }
+    if (!filled) {
+      return;
+    }
+    final byte[] tmp = buffer;
+    buffer = spare;
+    spare = tmp;
+    bufferStart = pendingStart;
+    bufferLength = pendingLength;
+  }
+
+  /**
+   * Start to fill the next window once half of the current window has been
+   * consumed.
+   */
+  private void maybeReadAhead() {
+    if (pending == null && pos - bufferStart >= bufferLength >> 1) {
+      final long next = bufferStart + bufferLength;
+      if (next < in.length()) {
+        this.submit(next);
+      }
+    }
+  }
+
+  @Override
+  public void seek(final long fp) throws IOException {
+    pos = fp;
+    if (this.isPending(fp)) {
+      if (pending.isDone()) {
+        readAhead.hit();
+      }
+      else {
+        readAhead.miss();
+      }
+      this.awaitPending();
+    }
+    else if (this.isInWindow(fp)) {
+      readAhead.hit();
+    }
+    else {
+      // read the window of the block from the file, and the following window
+      // in the background
+      readAhead.miss();
+      this.fill(fp);
+      if (pending == null && this.isInWindow(fp)) {
+        this.submit(bufferStart + bufferLength);
+      }
+      return;
+    }
+    this.maybeReadAhead();
+  }
+
+  /**
+   * Move the window to the pending one if the file pointer has reached it.
+   */
+  private void maybeSwap() throws IOException {
+    if (!this.isInWindow(pos) && this.isPending(pos)) {
+      this.awaitPending();
+      this.maybeReadAhead();
+    }
+  }
+
+  @Override
+  public byte readByte() throws IOException {
+    this.maybeSwap();
+    if (this.isInWindow(pos)) {
+      return buffer[(int) (pos++ - bufferStart)];
+    }
+    this.syncFilePointer();
+    pos++;
+    return in.readByte();
+  }
+
+  @Override
+  public void readBytes(final byte[] b, int offset, int len) throws IOException {
+    this.maybeSwap();
+    if (this.isInWindow(pos)) {
+      final int n = (int) Math.min(len, bufferStart + bufferLength - pos);
+      System.arraycopy(buffer, (int) (pos - bufferStart), b, offset, n);
+      pos += n;
+      offset += n;
+      len -= n;
+    }
+    if (len > 0) {
+      this.syncFilePointer();
+      in.readBytes(b, offset, len);
+      pos += len;
+    }
+  }
+
+  private void syncFilePointer() throws IOException {
+    if (in.getFilePointer() != pos) {
+      in.seek(pos);
+    }
+  }
+
+  @Override
+  public long getFilePointer() {
+    return pos;
+  }
+
+  @Override
+  public long length() {
+    return in.length();
+  }
+
+  /**
+   * The wrapped input is a clone, it does not need to be closed.
+   */
+  @Override
+  public void close() throws IOException {}
+
+  @Override
+  public ReadAheadIndexInput clone() {
+    final ReadAheadIndexInput clone = new ReadAheadIndexInput(in.clone(), readAhead, owner);
+    clone.pos = pos;
+    return clone;
+  }
+
+}
@@ -22,6 +22,7 @@ package org.sindice.siren.index.codecs.siren10;
 
 import java.io.IOException;
 
+import org.apache.lucene.store.DataOutput;
 import org.apache.lucene.store.IndexInput;
 import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.IntsRef;
@@ -38,6 +39,28 @@ public class DocsFreqBlockIndexInput extends BlockIndexInput {
   protected BlockDecompressor docDecompressor;
   protected BlockDecompressor freqDecompressor;
 
+  /**
+   * Flag to know if the block headers contain the block max statistics, i.e.,
+   * if the file was written with a version of the postings format greater or
+   * equal than {@link Siren10PostingsWriter#VERSION_BLOCK_MAX}.
+   */
+  boolean hasBlockMaxStats = true;
+
+  /**
+   * Flag to know if the block headers flag the blocks encoded as a bitmap,
+   * i.e., if the file was written with a version of the postings format
+   * greater or equal than {@link Siren10PostingsWriter#VERSION_DENSE_BLOCK}.
+   */
+  boolean hasDocBitmap = true;
+
+  /**
+   * Flag to know if the .nod and .pos blocks are interleaved with the doc
+   * blocks in the same file.
+   *
+   * @see DocsFreqBlockIndexOutput.DocsFreqBlockWriter#setInterleavedBlockBuffers
+   */
+  boolean interleaved = false;
+
   public DocsFreqBlockIndexInput(final IndexInput in,
                                  final BlockDecompressor docDecompressor,
                                  final BlockDecompressor freqDecompressor)
@@ -67,6 +90,12 @@ public class DocsFreqBlockIndexInput extends BlockIndexInput {
    */
   public class DocsFreqBlockReader extends BlockReader {
 
+    /** The decompressors of this reader */
+    private final BlockDecompressor docDecompressor =
+      DocsFreqBlockIndexInput.this.docDecompressor.getReaderInstance();
+    private final BlockDecompressor freqDecompressor =
+      DocsFreqBlockIndexInput.this.freqDecompressor.getReaderInstance();
+
     protected int blockSize;
 
     IntsRef docBuffer = new IntsRef();
@@ -78,13 +107,27 @@ public class DocsFreqBlockIndexInput extends BlockIndexInput {
     int docCompressedBufferLength;
     int nodFreqCompressedBufferLength;
 
+    /**
+     * Flag to know if the document identifiers of the current block are
+     * encoded as a bitmap instead of compressed deltas.
+     */
+    boolean docBitmap;
+
     BytesRef docCompressedBuffer = new BytesRef();
     BytesRef nodFreqCompressedBuffer = new BytesRef();
 
     int firstDocId, lastDocId;
 
+    int maxNodeFreqInDoc, maxTermFreqInNode;
+
     long dataBlockOffset = -1;
 
+    /**
+     * The length of the node and pos blocks following the data of the current
+     * block in the interleaved layout
+     */
+    long interleavedBlocksLength = 0;
+
     NodBlockIndexInput.Index nodeBlockIndex;
     PosBlockIndexInput.Index posBlockIndex;
 
@@ -129,8 +172,16 @@ public class DocsFreqBlockIndexInput extends BlockIndexInput {
 
       // read size of each compressed data block and check buffer size
       docCompressedBufferLength = in.readVInt();
+      if (hasDocBitmap) {
+        // the lowest bit of the doc size flags a bitmap
+        docBitmap = (docCompressedBufferLength & 1) != 0;
+        docCompressedBufferLength >>>= 1;
+      }
       docCompressedBuffer = ArrayUtils.grow(docCompressedBuffer, docCompressedBufferLength);
       docsReadPending = true;
+      // set length limit based on block size, so that the block is not
+      // considered exhausted before the docs are decoded
+      docBuffer.length = blockSize;
 
       nodFreqCompressedBufferLength = in.readVInt();
       nodFreqCompressedBuffer = ArrayUtils.grow(nodFreqCompressedBuffer, nodFreqCompressedBufferLength);
@@ -140,6 +191,27 @@ public class DocsFreqBlockIndexInput extends BlockIndexInput {
       firstDocId = in.readVInt();
       lastDocId = firstDocId + in.readVInt();
 
+      // read block max statistics, and increment them by one
+      if (hasBlockMaxStats) {
+        maxNodeFreqInDoc = in.readVInt() + 1;
+        maxTermFreqInNode = in.readVInt() + 1;
+      }
+      else {
+        maxNodeFreqInDoc = maxTermFreqInNode = Integer.MAX_VALUE;
+      }
+
+      if (interleaved) {
+        // read length of the node and pos blocks following the data block
+        final long nodBlockLength = in.readVLong();
+        final long posBlockLength = in.readVLong();
+        dataBlockOffset = in.getFilePointer();
+        final long nodBlockFP = dataBlockOffset + docCompressedBufferLength + nodFreqCompressedBufferLength;
+        nodeBlockIndex.set(nodBlockFP);
+        posBlockIndex.set(nodBlockFP + nodBlockLength);
+        interleavedBlocksLength = nodBlockLength + posBlockLength;
+        return;
+      }
+
       // read node and pos skip data
       nodeBlockIndex.read(in, true);
       posBlockIndex.read(in, true);
@@ -150,8 +222,9 @@ public class DocsFreqBlockIndexInput extends BlockIndexInput {
 
     @Override
     protected void skipData() {
-      int size = docCompressedBufferLength;
+      long size = docCompressedBufferLength;
       size += nodFreqCompressedBufferLength;
+      size += interleavedBlocksLength;
 
       this.seek(dataBlockOffset + size);
       // logger.debug("Skip DocFreq data: {}", dataBlockOffset + size);
@@ -164,7 +237,14 @@ public class DocsFreqBlockIndexInput extends BlockIndexInput {
       in.readBytes(docCompressedBuffer.bytes, 0, docCompressedBufferLength);
       docCompressedBuffer.offset = 0;
       docCompressedBuffer.length = docCompressedBufferLength;
-      docDecompressor.decompress(docCompressedBuffer, docBuffer);
+      if (docBitmap) {
+        this.decodeBitmap();
+      }
+      else {
+        // the first delta value is always equal to 0: the base is set so that
+        // the first document identifier is equal to firstDocId
+        docDecompressor.decompressDelta(docCompressedBuffer, docBuffer, firstDocId - 1);
+      }
       // set length limit based on block size, as certain decompressor with
       // large window size can set it larger than the blockSize, e.g., AFor
       docBuffer.length = blockSize;
@@ -172,6 +252,33 @@ public class DocsFreqBlockIndexInput extends BlockIndexInput {
       docsReadPending = false;
     }
 
+    /**
+     * Decode the bitmap of the document identifiers, relative to the first
+     * document identifier. An empty bitmap encodes a block of contiguous
+     * document identifiers.
+     */
+    private void decodeBitmap() {
+      final int[] docs = docBuffer.ints;
+      if (docCompressedBufferLength == 0) {
+        for (int i = 0; i < blockSize; i++) {
+          docs[i] = firstDocId + i;
+        }
+      }
+      else {
+        final byte[] bytes = docCompressedBuffer.bytes;
+        int n = 0;
+        for (int i = 0; i < docCompressedBufferLength; i++) {
+          int b = bytes[i] & 0xFF;
+          while (b != 0) {
+            docs[n++] = firstDocId + (i << 3) + Integer.numberOfTrailingZeros(b);
+            b &= b - 1;
+          }
+        }
+        assert n == blockSize;
+      }
+      docBuffer.offset = 0;
+    }
+
     private void decodeNodeFreqs() throws IOException {
       // logger.debug("Decode Node Freqs block: {}", this.hashCode());
 
@@ -201,25 +308,65 @@ public class DocsFreqBlockIndexInput extends BlockIndexInput {
       return lastDocId;
     }
 
-    private int currentDocId;
+    /**
+     * Return the maximum node frequency of the documents of the current block,
+     * or {@link Integer#MAX_VALUE} if the statistic is not available.
+     */
+    public int getMaxNodeFreqInDoc() {
+      return maxNodeFreqInDoc;
+    }
+
+    /**
+     * Return the maximum term frequency in a node of the current block, or
+     * {@link Integer#MAX_VALUE} if the statistic is not available.
+     */
+    public int getMaxTermFreqInNode() {
+      return maxTermFreqInNode;
+    }
+
+    /**
+     * Return the number of documents in the current block.
+     */
+    public int getBlockSize() {
+      return blockSize;
+    }
+
+    /**
+     * Skip the remaining documents of the current block without decoding
+     * them. Return the number of documents skipped.
+     * <p>
+     * After this call, the block is considered exhausted, and the next call
+     * to {@link #nextBlock()} will move to the next block without reading the
+     * data of the current one.
+     */
+    public int skipBlock() {
+      final int remaining = docBuffer.length - docBuffer.offset;
+      docBuffer.offset = docBuffer.length;
+      return remaining;
+    }
+
+    /**
+     * Copy the compressed data of the current block, i.e., the document
+     * identifiers and the node frequencies, as raw bytes to the given output
+     * without decoding it.
+     * <p>
+     * After this call, the block is considered exhausted.
+     */
+    public void copyData(final DataOutput out) throws IOException {
+      in.seek(dataBlockOffset);
+      out.copyBytes(in, docCompressedBufferLength + nodFreqCompressedBufferLength);
+      this.skipBlock();
+    }
 
     /**
      * Decode and return the next document identifier of the current block.
      */
     public int nextDocument() throws IOException {
-      if (!docsReadPending) {
-        // decode delta and increment by one
-        currentDocId += docBuffer.ints[docBuffer.offset++] + 1;
-        return currentDocId;
+      if (docsReadPending) {
+        this.decodeDocs();
       }
-
-      // if new block, first value is always equal to 0, no delta decoding
-      this.decodeDocs();
-      // set current doc with first doc
-      currentDocId = firstDocId;
-      // increment doc buffer offset to skip first value (== 0)
-      docBuffer.offset++;
-      return currentDocId;
+      // the delta values are decoded during the decompression
+      return docBuffer.ints[docBuffer.offset++];
     }
 
     /**
@@ -248,8 +395,10 @@ public class DocsFreqBlockIndexInput extends BlockIndexInput {
 
       docCompressedBufferLength = 0;
       nodFreqCompressedBufferLength = 0;
+      docBitmap = false;
 
       dataBlockOffset = -1;
+      interleavedBlocksLength = 0;
     }
 
   }
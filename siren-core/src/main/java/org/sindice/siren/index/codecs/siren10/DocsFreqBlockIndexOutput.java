@@ -21,8 +21,10 @@
 package org.sindice.siren.index.codecs.siren10;
 
 import java.io.IOException;
+import java.util.Arrays;
 
 import org.apache.lucene.store.IndexOutput;
+import org.apache.lucene.store.RAMOutputStream;
 import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.IntsRef;
 import org.sindice.siren.index.codecs.block.BlockCompressor;
@@ -36,8 +38,16 @@ import org.sindice.siren.index.codecs.siren10.PosBlockIndexOutput.PosBlockWriter
  */
 public class DocsFreqBlockIndexOutput extends BlockIndexOutput {
 
+  /**
+   * The factor of the maximum block size up to which a block of dense
+   * document identifiers can grow.
+   */
+  static final int MAX_DENSE_BLOCK_FACTOR = 8;
+
   private final int maxBlockSize;
 
+  private final int maxDenseBlockSize;
+
   private final BlockCompressor docCompressor;
   private final BlockCompressor freqCompressor;
 
@@ -49,6 +59,7 @@ public class DocsFreqBlockIndexOutput extends BlockIndexOutput {
     this.docCompressor = docCompressor;
     this.freqCompressor = freqCompressor;
     this.maxBlockSize = maxBlockSize;
+    this.maxDenseBlockSize = maxBlockSize * MAX_DENSE_BLOCK_FACTOR;
   }
 
   @Override
@@ -70,6 +81,15 @@ public class DocsFreqBlockIndexOutput extends BlockIndexOutput {
    * This class must be associated to the {@link Index}s of the
    * {@link NodBlockWriter} and {@link PosBlockWriter} using
    * {@link #setNodeBlockIndex(Index)} and {@link #setPosBlockIndex(Index)}.
+   *
+   * <p>
+   *
+   * A block of dense document identifiers is encoded as a bitmap of the
+   * range of the block if the bitmap is not larger than the compressed
+   * deltas. Such a block is allowed to grow beyond the maximum block size
+   * while its document identifiers stay dense, up to
+   * {@link DocsFreqBlockIndexOutput#MAX_DENSE_BLOCK_FACTOR} times the maximum
+   * block size.
    */
   public class DocsFreqBlockWriter extends BlockWriter {
 
@@ -77,22 +97,35 @@ public class DocsFreqBlockIndexOutput extends BlockIndexOutput {
     IntsRef nodFreqBuffer;
 
     int firstDocId, lastDocId = 0;
+    int maxNodeFreqInDoc, maxTermFreqInNode = 0;
     NodBlockIndexOutput.Index nodeBlockIndex;
     PosBlockIndexOutput.Index posBlockIndex;
 
     BytesRef docCompressedBuffer;
     BytesRef nodFreqCompressedBuffer;
 
+    /**
+     * Flag to know if the document identifiers of the block are encoded as a
+     * bitmap instead of compressed deltas.
+     */
+    boolean docBitmap = false;
+
+    /**
+     * The buffers of the .nod and .pos blocks which are written after each
+     * doc block in the interleaved layout, or null in the default layout.
+     */
+    RAMOutputStream nodBlockBuffer, posBlockBuffer;
+
     public DocsFreqBlockWriter() {
       // ensure that the input buffers has the minimum size required
-      docBuffer = new IntsRef(this.getMinimumBufferSize(maxBlockSize, docCompressor.getWindowSize()));
-      nodFreqBuffer = new IntsRef(this.getMinimumBufferSize(maxBlockSize, freqCompressor.getWindowSize()));
+      docBuffer = new IntsRef(this.getMinimumBufferSize(maxDenseBlockSize, docCompressor.getWindowSize()));
+      nodFreqBuffer = new IntsRef(this.getMinimumBufferSize(maxDenseBlockSize, freqCompressor.getWindowSize()));
 
       // determine max size of compressed buffer to avoid overflow
-      int size = docCompressor.maxCompressedSize(maxBlockSize);
+      int size = docCompressor.maxCompressedSize(maxDenseBlockSize);
       docCompressedBuffer = new BytesRef(size);
 
-      size = freqCompressor.maxCompressedSize(maxBlockSize);
+      size = freqCompressor.maxCompressedSize(maxDenseBlockSize);
       nodFreqCompressedBuffer = new BytesRef(size);
     }
 
@@ -104,6 +137,13 @@ public class DocsFreqBlockIndexOutput extends BlockIndexOutput {
       return firstDocId;
     }
 
+    /**
+     * Return the number of documents in the current block.
+     */
+    public int getBlockSize() {
+      return docBuffer.offset;
+    }
+
     /**
      * Set the {@link Index} of the {@link NodBlockIndexOutput}. The
      * {@link Index} is used to read the current file pointer of the
@@ -122,6 +162,18 @@ public class DocsFreqBlockIndexOutput extends BlockIndexOutput {
       this.posBlockIndex = index;
     }
 
+    /**
+     * Switch to the interleaved layout: the .nod and .pos blocks associated to
+     * a doc block are flushed into the given buffers before the doc block, and
+     * are written right after it in the same file. The block header records
+     * their length instead of their pointers.
+     */
+    public void setInterleavedBlockBuffers(final RAMOutputStream nodBlockBuffer,
+                                           final RAMOutputStream posBlockBuffer) {
+      this.nodBlockBuffer = nodBlockBuffer;
+      this.posBlockBuffer = posBlockBuffer;
+    }
+
     /**
      * Add a document identifier to the buffer.
      */
@@ -152,6 +204,21 @@ public class DocsFreqBlockIndexOutput extends BlockIndexOutput {
     public void writeNodeFreq(final int nodeFreqInDoc) {
       // decrement freq by one
       nodFreqBuffer.ints[nodFreqBuffer.offset++] = nodeFreqInDoc - 1;
+      // update block max statistic
+      if (nodeFreqInDoc > maxNodeFreqInDoc) {
+        maxNodeFreqInDoc = nodeFreqInDoc;
+      }
+    }
+
+    /**
+     * Update the maximum term frequency in a node of the current block. The
+     * term frequencies are encoded in the .nod file, but their maximum is
+     * recorded in the block header of the .doc file.
+     */
+    public void updateMaxTermFreqInNode(final int termFreqInNode) {
+      if (termFreqInNode > maxTermFreqInNode) {
+        maxTermFreqInNode = termFreqInNode;
+      }
     }
 
     @Override
@@ -159,9 +226,20 @@ public class DocsFreqBlockIndexOutput extends BlockIndexOutput {
       return docBuffer.offset == 0;
     }
 
+    /**
+     * The block is full when it reaches the maximum block size, unless its
+     * document identifiers are dense, i.e., they cover a range of at most
+     * twice the number of documents. A dense block is full when it reaches
+     * {@link DocsFreqBlockIndexOutput#MAX_DENSE_BLOCK_FACTOR} times the maximum
+     * block size.
+     */
     @Override
     public boolean isFull() {
-      return docBuffer.offset >= maxBlockSize;
+      if (docBuffer.offset < maxBlockSize) {
+        return false;
+      }
+      return docBuffer.offset >= maxDenseBlockSize ||
+             lastDocId - firstDocId >= 2 * docBuffer.offset;
     }
 
     @Override
@@ -172,28 +250,83 @@ public class DocsFreqBlockIndexOutput extends BlockIndexOutput {
 
       docCompressor.compress(docBuffer, docCompressedBuffer);
       freqCompressor.compress(nodFreqBuffer, nodFreqCompressedBuffer);
+
+      // switch to a bitmap if it is not larger than the compressed deltas
+      final int range = lastDocId - firstDocId + 1;
+      docBitmap = (range + 7) >>> 3 <= docCompressedBuffer.length;
+      if (docBitmap) {
+        this.encodeBitmap(range);
+      }
+    }
+
+    /**
+     * Encode the document identifiers of the block into the compressed doc
+     * buffer as a bitmap of the given range, relative to the first document
+     * identifier. The bit <code>i</code> is stored in the byte
+     * <code>i / 8</code> at the position <code>i % 8</code>, starting from the
+     * lowest bit. The bitmap of a block of contiguous document identifiers is
+     * left out, i.e., its size is 0.
+     */
+    private void encodeBitmap(final int range) {
+      if (range == docBuffer.length) {
+        docCompressedBuffer.length = 0;
+        return;
+      }
+
+      final byte[] bytes = docCompressedBuffer.bytes;
+      final int length = (range + 7) >>> 3;
+      Arrays.fill(bytes, 0, length, (byte) 0);
+      int relativeDocId = -1;
+      for (int i = 0; i < docBuffer.length; i++) {
+        relativeDocId += docBuffer.ints[i] + 1;
+        bytes[relativeDocId >>> 3] |= 1 << (relativeDocId & 7);
+      }
+      docCompressedBuffer.length = length;
     }
 
     @Override
     protected void writeHeader() throws IOException {
+      this.writeHeader(docBuffer.length, docCompressedBuffer.length, docBitmap,
+        nodFreqCompressedBuffer.length);
+    }
+
+    private void writeHeader(final int blockSize,
+                             final int docCompressedLength,
+                             final boolean docBitmap,
+                             final int nodFreqCompressedLength)
+    throws IOException {
       // logger.debug("Write DocFreq header - writer-id={}", this.hashCode());
       // logger.debug("DocFreq header start at fp={}", out.getFilePointer());
 
       // write block size (same for all of them)
-      out.writeVInt(docBuffer.length);
-      // logger.debug("blockSize: {}", docBuffer.length);
+      out.writeVInt(blockSize);
+      // logger.debug("blockSize: {}", blockSize);
 
-      // write size of each compressed data block
-      out.writeVInt(docCompressedBuffer.length);
-      // logger.debug("docCompressedBuffer.length: {}", docCompressedBuffer.length);
-      out.writeVInt(nodFreqCompressedBuffer.length);
-      // logger.debug("nodFreqCompressedBuffer.length: {}", nodFreqCompressedBuffer.length);
+      // write size of each compressed data block, the lowest bit of the doc
+      // size flags a bitmap
+      out.writeVInt(docCompressedLength << 1 | (docBitmap ? 1 : 0));
+      // logger.debug("docCompressedLength: {}, docBitmap: {}", docCompressedLength, docBitmap);
+      out.writeVInt(nodFreqCompressedLength);
+      // logger.debug("nodFreqCompressedLength: {}", nodFreqCompressedLength);
 
       // write first and last doc id
       out.writeVInt(firstDocId);
       out.writeVInt(lastDocId - firstDocId);
       // logger.debug("firstDocId: {}, lastDocId: {}", firstDocId, lastDocId);
 
+      // write block max statistics, decremented by one
+      out.writeVInt(maxNodeFreqInDoc - 1);
+      out.writeVInt(maxTermFreqInNode - 1);
+      // logger.debug("maxNodeFreqInDoc: {}, maxTermFreqInNode: {}", maxNodeFreqInDoc, maxTermFreqInNode);
+
+      if (nodBlockBuffer != null) {
+        // write length of the interleaved node and pos blocks
+        out.writeVLong(nodBlockBuffer.getFilePointer());
+        out.writeVLong(posBlockBuffer.getFilePointer());
+        // logger.debug("nodBlockLength: {}, posBlockLength: {}", nodBlockBuffer.getFilePointer(), posBlockBuffer.getFilePointer());
+        return;
+      }
+
       // write node and pos skip data
       // logger.debug("Write node and pos skip data");
       nodeBlockIndex.mark();
@@ -202,16 +335,51 @@ public class DocsFreqBlockIndexOutput extends BlockIndexOutput {
       posBlockIndex.write(out, true);
     }
 
+    /**
+     * Copy the current block of the given reader as raw bytes, without
+     * decoding and encoding the data. The document identifiers of the block
+     * are shifted by the given value.
+     * <p>
+     * The writer must be empty. The pointers to the .nod and .pos blocks are
+     * set to the current file pointers of the associated
+     * {@link NodBlockWriter} and {@link PosBlockWriter}, which must copy their
+     * own blocks right after this call.
+     */
+    public void copyBlock(final DocsFreqBlockIndexInput.DocsFreqBlockReader reader,
+                          final int docShift)
+    throws IOException {
+      assert this.isEmpty();
+      assert nodBlockBuffer == null;
+      firstDocId = reader.getFirstDocId() + docShift;
+      lastDocId = reader.getLastDocId() + docShift;
+      maxNodeFreqInDoc = reader.getMaxNodeFreqInDoc();
+      maxTermFreqInNode = reader.getMaxTermFreqInNode();
+      this.writeHeader(reader.getBlockSize(), reader.docCompressedBufferLength,
+        reader.docBitmap, reader.nodFreqCompressedBufferLength);
+      reader.copyData(out);
+      this.initBlock();
+    }
+
     @Override
     protected void writeData() throws IOException {
       out.writeBytes(docCompressedBuffer.bytes, docCompressedBuffer.length);
       out.writeBytes(nodFreqCompressedBuffer.bytes, nodFreqCompressedBuffer.length);
+
+      if (nodBlockBuffer != null) {
+        // append the interleaved node and pos blocks
+        nodBlockBuffer.writeTo(out);
+        nodBlockBuffer.reset();
+        posBlockBuffer.writeTo(out);
+        posBlockBuffer.reset();
+      }
     }
 
     @Override
     protected void initBlock() {
       docBuffer.offset = 0;
       nodFreqBuffer.offset = 0;
+      maxNodeFreqInDoc = maxTermFreqInNode = 0;
+      docBitmap = false;
     }
 
   }
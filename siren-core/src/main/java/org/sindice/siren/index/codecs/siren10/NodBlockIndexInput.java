@@ -22,6 +22,7 @@ package org.sindice.siren.index.codecs.siren10;
 
 import java.io.IOException;
 
+import org.apache.lucene.store.DataOutput;
 import org.apache.lucene.store.IndexInput;
 import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.IntsRef;
@@ -60,6 +61,10 @@ public class NodBlockIndexInput extends BlockIndexInput {
    */
   protected class NodBlockReader extends BlockReader {
 
+    /** The decompressor of this reader */
+    private final BlockDecompressor nodDecompressor =
+      NodBlockIndexInput.this.nodDecompressor.getReaderInstance();
+
     int nodLenBlockSize;
     IntsRef nodLenBuffer = new IntsRef();
     int nodBlockSize;
@@ -77,6 +82,13 @@ public class NodBlockIndexInput extends BlockIndexInput {
     boolean nodReadPending = true;
     boolean termFreqReadPending = true;
 
+    /**
+     * Flag to know if the current block is position-free, i.e., if every node
+     * has a single token at position 0. In this case, the block of term
+     * frequencies and the associated pos block have been left out.
+     */
+    boolean positionFree = false;
+
     int nodLenCompressedBufferLength;
     BytesRef nodLenCompressedBuffer = new BytesRef();
     int nodCompressedBufferLength;
@@ -111,6 +123,8 @@ public class NodBlockIndexInput extends BlockIndexInput {
       // logger.debug("Read Nod block size: {}", nodBlockSize);
 
       termFreqBlockSize = in.readVInt();
+      // a term freq block size of 0 flags a position-free block
+      positionFree = termFreqBlockSize == 0;
       // ensure that the output buffer has the minimum size required
       final int termFreqBufferLength = this.getMinimumBufferSize(termFreqBlockSize, nodDecompressor.getWindowSize());
       termFreqBuffer = ArrayUtils.grow(termFreqBuffer, termFreqBufferLength);
@@ -249,6 +263,9 @@ public class NodBlockIndexInput extends BlockIndexInput {
      * Decode and return the next term frequency of the current block.
      */
     public int nextTermFreqInNode() throws IOException {
+      if (positionFree) {
+        return 1;
+      }
       if (termFreqReadPending) {
         this.decodeTermFreqs();
       }
@@ -256,6 +273,52 @@ public class NodBlockIndexInput extends BlockIndexInput {
       return termFreqBuffer.ints[termFreqBuffer.offset++] + 1;
     }
 
+    /**
+     * Return true if the current block is position-free, i.e., if every node
+     * has a single token at position 0.
+     */
+    public boolean isPositionFree() {
+      return positionFree;
+    }
+
+    /**
+     * Return the number of nodes in the current block.
+     */
+    public int getNodeCount() {
+      return nodLenBlockSize;
+    }
+
+    /**
+     * Copy the next block, i.e., the block header and the compressed data, as
+     * raw bytes to the given output without decoding it.
+     * <p>
+     * After this call, {@link #isPositionFree()} and {@link #getNodeCount()}
+     * return the information of the copied block.
+     */
+    public void copyBlock(final DataOutput out) throws IOException {
+      this.moveToNextBlock();
+
+      // copy block sizes
+      nodLenBlockSize = in.readVInt();
+      out.writeVInt(nodLenBlockSize);
+      nodBlockSize = in.readVInt();
+      out.writeVInt(nodBlockSize);
+      termFreqBlockSize = in.readVInt();
+      out.writeVInt(termFreqBlockSize);
+      positionFree = termFreqBlockSize == 0;
+
+      // copy size of compressed data blocks
+      final int nodLenLength = in.readVInt();
+      out.writeVInt(nodLenLength);
+      final int nodLength = in.readVInt();
+      out.writeVInt(nodLength);
+      final int termFreqLength = in.readVInt();
+      out.writeVInt(termFreqLength);
+
+      // copy compressed data blocks
+      out.copyBytes(in, nodLenLength + nodLength + termFreqLength);
+    }
+
     @Override
     public boolean isExhausted() {
       return nodLenBuffer.offset >= nodLenBuffer.length;
@@ -271,6 +334,7 @@ public class NodBlockIndexInput extends BlockIndexInput {
       nodLenReadPending = true;
       nodReadPending = true;
       termFreqReadPending = true;
+      positionFree = false;
 
       nodLenCompressedBufferLength = 0;
       nodCompressedBufferLength = 0;
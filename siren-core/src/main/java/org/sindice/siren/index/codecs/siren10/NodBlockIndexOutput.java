@@ -75,6 +75,16 @@ public class NodBlockIndexOutput extends BlockIndexOutput {
 
     BytesRef termFreqCompressedBuffer;
 
+    /**
+     * Flag to know if all the nodes of the block have a term frequency of 1
+     */
+    private boolean singleTokenNodes = true;
+
+    /**
+     * Flag to know if the block of term frequencies is left out
+     */
+    private boolean positionFree = false;
+
     public NodBlockWriter() {
       // ensure that the input buffers has the minimum size required
       // maxBlockSize is just use as a minimum initial capacity for the buffers
@@ -223,6 +233,25 @@ public class NodBlockIndexOutput extends BlockIndexOutput {
       }
       // decrement freq by one
       termFreqBuffer.ints[termFreqBuffer.offset++] = termFreq - 1;
+      singleTokenNodes &= termFreq == 1;
+    }
+
+    /**
+     * Return true if all the nodes of the current block have a term frequency
+     * of 1.
+     */
+    public boolean hasSingleTokenNodes() {
+      return singleTokenNodes;
+    }
+
+    /**
+     * Flag the current block as position-free: every node has a single token
+     * at position 0. The block of term frequencies is left out, and the
+     * associated pos block must not be written.
+     */
+    public void setPositionFree() {
+      assert singleTokenNodes;
+      positionFree = true;
     }
 
     @Override
@@ -242,10 +271,12 @@ public class NodBlockIndexOutput extends BlockIndexOutput {
       // logger.debug("Write Nod header: {}", this.hashCode());
       // logger.debug("Nod header start at {}", out.getFilePointer());
 
-      // write block sizes
+      // write block sizes, a term freq block size of 0 flags a position-free
+      // block
       out.writeVInt(nodLenBuffer.length);
       out.writeVInt(nodBuffer.length);
       out.writeVInt(termFreqBuffer.length);
+      assert positionFree == (termFreqBuffer.length == 0);
       assert nodLenBuffer.length <= nodBuffer.length;
 
       // write size of compressed data blocks
@@ -263,7 +294,8 @@ public class NodBlockIndexOutput extends BlockIndexOutput {
       nodBuffer.length = nodBuffer.offset;
       nodBuffer.offset = 0;
 
-      termFreqBuffer.length = termFreqBuffer.offset;
+      // the term freqs of a position-free block are left out
+      termFreqBuffer.length = positionFree ? 0 : termFreqBuffer.offset;
       termFreqBuffer.offset = 0;
 
       // determine max size of compressed buffer to avoid overflow
@@ -279,7 +311,22 @@ public class NodBlockIndexOutput extends BlockIndexOutput {
       // compress
       nodCompressor.compress(nodLenBuffer, nodLenCompressedBuffer);
       nodCompressor.compress(nodBuffer, nodCompressedBuffer);
-      nodCompressor.compress(termFreqBuffer, termFreqCompressedBuffer);
+      if (positionFree) {
+        termFreqCompressedBuffer.offset = termFreqCompressedBuffer.length = 0;
+      }
+      else {
+        nodCompressor.compress(termFreqBuffer, termFreqCompressedBuffer);
+      }
+    }
+
+    /**
+     * Copy the next block of the given reader as raw bytes, without decoding
+     * and encoding the data. The writer must be empty.
+     */
+    public void copyBlock(final NodBlockIndexInput.NodBlockReader reader)
+    throws IOException {
+      assert this.isEmpty();
+      reader.copyBlock(out);
     }
 
     @Override
@@ -298,6 +345,8 @@ public class NodBlockIndexOutput extends BlockIndexOutput {
       nodLenBuffer.offset = nodLenBuffer.length = 0;
       nodBuffer.offset = nodBuffer.length = 0;
       termFreqBuffer.offset = termFreqBuffer.length = 0;
+      singleTokenNodes = true;
+      positionFree = false;
       this.resetCurrentNode();
     }
 
@@ -22,6 +22,7 @@ package org.sindice.siren.index.codecs.siren10;
 
 import java.io.IOException;
 
+import org.apache.lucene.store.DataOutput;
 import org.apache.lucene.store.IndexInput;
 import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.IntsRef;
@@ -60,6 +61,10 @@ public class PosBlockIndexInput extends BlockIndexInput {
    */
   protected class PosBlockReader extends BlockReader {
 
+    /** The decompressor of this reader */
+    private final BlockDecompressor posDecompressor =
+      PosBlockIndexInput.this.posDecompressor.getReaderInstance();
+
     int posBlockSize;
     IntsRef posBuffer = new IntsRef();
 
@@ -129,6 +134,27 @@ public class PosBlockIndexInput extends BlockIndexInput {
       posReadPending = false;
     }
 
+    /**
+     * Copy the next block, i.e., the block header and the compressed data, as
+     * raw bytes to the given output without decoding it. Return the number of
+     * positions in the block.
+     */
+    public int copyBlock(final DataOutput out) throws IOException {
+      this.moveToNextBlock();
+
+      // copy block size
+      final int blockSize = in.readVInt();
+      out.writeVInt(blockSize);
+
+      // copy size of compressed data block
+      final int posLength = in.readVInt();
+      out.writeVInt(posLength);
+
+      // copy compressed data block
+      out.copyBytes(in, posLength);
+      return blockSize;
+    }
+
     @Override
     public boolean isExhausted() {
       return posBuffer.offset >= posBuffer.length;
@@ -66,6 +66,11 @@ public class PosBlockIndexOutput extends BlockIndexOutput {
 
     private int currentPos = 0;
 
+    /**
+     * Flag to know if all the positions of the block are equal to 0
+     */
+    private boolean zeroPositions = true;
+
     public PosBlockWriter() {
       // ensure that the input buffers has the minimum size required
       // maxBlockSize is just use as a minimum initial capacity for the buffers
@@ -103,6 +108,17 @@ public class PosBlockIndexOutput extends BlockIndexOutput {
       out.writeBytes(posCompressedBuffer.bytes, posCompressedBuffer.length);
     }
 
+    /**
+     * Copy the next block of the given reader as raw bytes, without decoding
+     * and encoding the data. The writer must be empty. Return the number of
+     * positions in the block.
+     */
+    public int copyBlock(final PosBlockIndexInput.PosBlockReader reader)
+    throws IOException {
+      assert this.isEmpty();
+      return reader.copyBlock(out);
+    }
+
     /**
      * Add the term position to the buffer
      */
@@ -117,11 +133,28 @@ public class PosBlockIndexOutput extends BlockIndexOutput {
 
       posBuffer.ints[posBuffer.offset++] = pos - currentPos;
       currentPos = pos;
+      zeroPositions &= pos == 0;
+    }
+
+    /**
+     * Return true if all the positions of the current block are equal to 0.
+     */
+    public boolean hasZeroPositions() {
+      return zeroPositions;
+    }
+
+    /**
+     * Discard the positions of the current block, e.g., when the associated
+     * node block is position-free.
+     */
+    public void clear() {
+      this.initBlock();
     }
 
     @Override
     protected void initBlock() {
       posBuffer.offset = posBuffer.length = 0;
+      zeroPositions = true;
       this.resetCurrentPosition();
     }
 
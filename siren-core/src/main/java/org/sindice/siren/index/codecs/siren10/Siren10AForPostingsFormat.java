@@ -22,6 +22,10 @@ package org.sindice.siren.index.codecs.siren10;
 
 import org.sindice.siren.index.codecs.block.AForBlockCompressor;
 import org.sindice.siren.index.codecs.block.AForBlockDecompressor;
+import org.sindice.siren.index.codecs.block.AForOptimalBlockCompressor;
+import org.sindice.siren.index.codecs.block.AForWordBlockDecompressor;
+import org.sindice.siren.index.codecs.block.BlockCompressor;
+import org.sindice.siren.index.codecs.block.BlockDecompressor;
 
 /**
  * Implementation of the {@link Siren10PostingsFormat} based on AFOR.
@@ -30,30 +34,77 @@ public class Siren10AForPostingsFormat extends Siren10PostingsFormat {
 
   public static final String NAME = "Siren10AFor";
 
+  /**
+   * The system property to enable the decompression of the blocks by words of
+   * 64 bits with {@link AForWordBlockDecompressor}. It is disabled by default,
+   * as the word decompression has not been measured on the Java 6 JVMs
+   * targeted by this build, see <code>AForDecompressorBenchmark</code>.
+   */
+  public static final String WORD_DECOMPRESSOR_PROPERTY = "siren.afor.word";
+
+  private static final boolean WORD_DECOMPRESSOR = Boolean.getBoolean(WORD_DECOMPRESSOR_PROPERTY);
+
+  private final boolean optimalPartition;
+
   public Siren10AForPostingsFormat() {
     super(NAME);
+    this.optimalPartition = false;
   }
 
   /**
-   * Create a SIREn 1.0 posting format with VInt codec
+   * Create a SIREn 1.0 posting format with AFOR codec
    * <p>
    * The block size parameter is used only during indexing.
    */
   public Siren10AForPostingsFormat(final int blockSize) {
-    super(NAME, blockSize);
+    this(blockSize, false);
+  }
+
+  /**
+   * Create a SIREn 1.0 posting format with AFOR codec
+   * <p>
+   * The block size and the optimal partition parameters are used only during
+   * indexing. If the optimal partition is enabled, the blocks are compressed
+   * with {@link AForOptimalBlockCompressor}. Its output is decoded by the same
+   * decompressor, the segments written with or without optimal partition are
+   * therefore read by the same postings format.
+   */
+  public Siren10AForPostingsFormat(final int blockSize,
+                                   final boolean optimalPartition) {
+    this(NAME, blockSize, optimalPartition);
+  }
+
+  /**
+   * Create a SIREn 1.0 posting format with AFOR codec under the given name.
+   * Used by the subclasses which change the layout of the postings files.
+   */
+  protected Siren10AForPostingsFormat(final String name, final int blockSize,
+                                      final boolean optimalPartition) {
+    super(name, blockSize);
+    this.optimalPartition = optimalPartition;
+  }
+
+  private BlockCompressor newBlockCompressor() {
+    return optimalPartition ? new AForOptimalBlockCompressor()
+                            : new AForBlockCompressor();
+  }
+
+  private BlockDecompressor newBlockDecompressor() {
+    return WORD_DECOMPRESSOR ? new AForWordBlockDecompressor()
+                             : new AForBlockDecompressor();
   }
 
   @Override
   protected Siren10BlockStreamFactory getFactory() {
     final Siren10BlockStreamFactory factory = new Siren10BlockStreamFactory(blockSize);
-    factory.setDocsBlockCompressor(new AForBlockCompressor());
-    factory.setFreqBlockCompressor(new AForBlockCompressor());
-    factory.setNodBlockCompressor(new AForBlockCompressor());
-    factory.setPosBlockCompressor(new AForBlockCompressor());
-    factory.setDocsBlockDecompressor(new AForBlockDecompressor());
-    factory.setFreqBlockDecompressor(new AForBlockDecompressor());
-    factory.setNodBlockDecompressor(new AForBlockDecompressor());
-    factory.setPosBlockDecompressor(new AForBlockDecompressor());
+    factory.setDocsBlockCompressor(this.newBlockCompressor());
+    factory.setFreqBlockCompressor(this.newBlockCompressor());
+    factory.setNodBlockCompressor(this.newBlockCompressor());
+    factory.setPosBlockCompressor(this.newBlockCompressor());
+    factory.setDocsBlockDecompressor(this.newBlockDecompressor());
+    factory.setFreqBlockDecompressor(this.newBlockDecompressor());
+    factory.setNodBlockDecompressor(this.newBlockDecompressor());
+    factory.setPosBlockDecompressor(this.newBlockDecompressor());
     return factory;
   }
 
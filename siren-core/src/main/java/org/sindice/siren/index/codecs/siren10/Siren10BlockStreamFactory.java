@@ -24,10 +24,12 @@ import java.io.IOException;
 
 import org.apache.lucene.store.Directory;
 import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.IndexOutput;
 import org.sindice.siren.index.codecs.block.BlockCompressor;
 import org.sindice.siren.index.codecs.block.BlockDecompressor;
 import org.sindice.siren.index.codecs.block.BlockIndexInput;
 import org.sindice.siren.index.codecs.block.BlockIndexOutput;
+import org.sindice.siren.index.codecs.block.BlockReadAhead;
 
 /**
  * This class creates {@link BlockIndexOutput} and {@link BlockIndexInput}
@@ -46,6 +48,12 @@ public class Siren10BlockStreamFactory {
   private BlockCompressor posBlockCompressor;
   private BlockDecompressor posBlockDecompressor;
 
+  private BlockReadAhead readAhead = null;
+
+  private boolean defaultReadAhead = true;
+
+  private boolean interleaved = false;
+
   public Siren10BlockStreamFactory(final int blockSize) {
     this.blockSize = blockSize;
   }
@@ -82,13 +90,77 @@ public class Siren10BlockStreamFactory {
     this.posBlockDecompressor = decompressor;
   }
 
+  /**
+   * Set the read-ahead of the .nod and .pos inputs, or disable it if null. By
+   * default, it is configured by the system property
+   * {@link BlockReadAhead#THREADS_PROPERTY}.
+   * <p>
+   * The inputs hold a reference to the read-ahead until they are closed, the
+   * caller remains responsible for closing the given read-ahead.
+   */
+  public void setReadAhead(final BlockReadAhead readAhead) {
+    this.readAhead = readAhead;
+    this.defaultReadAhead = false;
+  }
+
+  /**
+   * Set the read-ahead of the given input. The default read-ahead is acquired
+   * for each input, so that it is shut down once the inputs of all the
+   * postings readers are closed.
+   */
+  private void initReadAhead(final BlockIndexInput input) {
+    if (!defaultReadAhead) {
+      input.setReadAhead(readAhead);
+      return;
+    }
+    final BlockReadAhead shared = BlockReadAhead.acquireDefault();
+    if (shared != null) {
+      try {
+        input.setReadAhead(shared);
+      }
+      finally {
+        shared.decRef();
+      }
+    }
+  }
+
+  /**
+   * Enable the interleaved layout, where the .nod and .pos blocks are written
+   * in the .doc file right after their doc block, and the skip data right
+   * after the blocks of a term.
+   */
+  public void setInterleaved(final boolean interleaved) {
+    this.interleaved = interleaved;
+  }
+
+  public boolean isInterleaved() {
+    return interleaved;
+  }
+
+  /**
+   * Return true if the blocks read by the given inputs are decoded with the
+   * same decompressors as the ones of this factory, i.e., if these blocks can
+   * be copied as raw bytes into an output created by this factory.
+   */
+  boolean isCompatible(final DocsFreqBlockIndexInput docIn,
+                       final NodBlockIndexInput nodIn,
+                       final PosBlockIndexInput posIn) {
+    return docsBlockDecompressor.getClass() == docIn.docDecompressor.getClass() &&
+           freqBlockDecompressor.getClass() == docIn.freqDecompressor.getClass() &&
+           nodBlockDecompressor.getClass() == nodIn.nodDecompressor.getClass() &&
+           posBlockDecompressor.getClass() == posIn.posDecompressor.getClass();
+  }
+
   public DocsFreqBlockIndexOutput createDocsFreqOutput(final Directory dir,
                                                        final String fileName,
                                                        final IOContext context)
   throws IOException {
-    return new DocsFreqBlockIndexOutput(
-      dir.createOutput(fileName, context),
-      blockSize,
+    return this.createDocsFreqOutput(dir.createOutput(fileName, context));
+  }
+
+  public DocsFreqBlockIndexOutput createDocsFreqOutput(final IndexOutput out)
+  throws IOException {
+    return new DocsFreqBlockIndexOutput(out, blockSize,
       docsBlockCompressor, freqBlockCompressor);
   }
 
@@ -105,38 +177,46 @@ public class Siren10BlockStreamFactory {
                                              final String fileName,
                                              final IOContext context)
   throws IOException {
-    return new NodBlockIndexOutput(
-      dir.createOutput(fileName, context),
-      blockSize,
-      nodBlockCompressor);
+    return this.createNodOutput(dir.createOutput(fileName, context));
+  }
+
+  public NodBlockIndexOutput createNodOutput(final IndexOutput out)
+  throws IOException {
+    return new NodBlockIndexOutput(out, blockSize, nodBlockCompressor);
   }
 
   public NodBlockIndexInput openNodInput(final Directory dir,
                                          final String fileName,
                                          final IOContext context)
   throws IOException {
-    return new NodBlockIndexInput(
+    final NodBlockIndexInput input = new NodBlockIndexInput(
       dir.openInput(fileName, context),
       nodBlockDecompressor);
+    this.initReadAhead(input);
+    return input;
   }
 
   public PosBlockIndexOutput createPosOutput(final Directory dir,
                                              final String fileName,
                                              final IOContext context)
   throws IOException {
-    return new PosBlockIndexOutput(
-      dir.createOutput(fileName, context),
-      blockSize,
-      posBlockCompressor);
+    return this.createPosOutput(dir.createOutput(fileName, context));
+  }
+
+  public PosBlockIndexOutput createPosOutput(final IndexOutput out)
+  throws IOException {
+    return new PosBlockIndexOutput(out, blockSize, posBlockCompressor);
   }
 
   public PosBlockIndexInput openPosInput(final Directory dir,
                                            final String fileName,
                                            final IOContext context)
   throws IOException {
-    return new PosBlockIndexInput(
+    final PosBlockIndexInput input = new PosBlockIndexInput(
       dir.openInput(fileName, context),
       posBlockDecompressor);
+    this.initReadAhead(input);
+    return input;
   }
 
 }
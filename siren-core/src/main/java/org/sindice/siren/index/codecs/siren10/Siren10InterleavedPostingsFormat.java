@@ -0,0 +1,61 @@
+/**
+ * Copyright 2014 National University of Ireland, Galway.
+ *
+ * This file is part of the SIREn project. Project and contact information:
+ *
+ *  https://github.com/rdelbru/SIREn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.sindice.siren.index.codecs.siren10;
+
+/**
+ * Implementation of the {@link Siren10PostingsFormat} based on AFOR, with
+ * the interleaved layout.
+ *
+ * <p>
+ *
+ * Each doc block is followed by its node and position blocks, and the skip
+ * data of a term follows its last block, all in the .doc file. A term whose
+ * nodes are read requires a single sequential read per block instead of one
+ * read per file.
+ *
+ * @see Siren10BlockStreamFactory#setInterleaved(boolean)
+ */
+public class Siren10InterleavedPostingsFormat extends Siren10AForPostingsFormat {
+
+  public static final String NAME = "Siren10Interleaved";
+
+  public Siren10InterleavedPostingsFormat() {
+    this(DEFAULT_POSTINGS_BLOCK_SIZE);
+  }
+
+  /**
+   * Create a SIREn 1.0 posting format with AFOR codec and the interleaved
+   * layout.
+   * <p>
+   * The block size parameter is used only during indexing.
+   */
+  public Siren10InterleavedPostingsFormat(final int blockSize) {
+    super(NAME, blockSize, false);
+  }
+
+  @Override
+  protected Siren10BlockStreamFactory getFactory() {
+    final Siren10BlockStreamFactory factory = super.getFactory();
+    factory.setInterleaved(true);
+    return factory;
+  }
+
+}
@@ -40,8 +40,10 @@ import org.apache.lucene.store.IOContext;
 import org.apache.lucene.store.IndexInput;
 import org.apache.lucene.util.ArrayUtil;
 import org.apache.lucene.util.Bits;
+import org.apache.lucene.util.FixedBitSet;
 import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.IntsRef;
+import org.apache.lucene.util.OpenBitSet;
 import org.sindice.siren.index.DocsNodesAndPositionsEnum;
 import org.sindice.siren.index.SirenDocsEnum;
 import org.sindice.siren.index.codecs.block.BlockIndexInput;
@@ -66,6 +68,14 @@ public class Siren10PostingsReader extends PostingsReaderBase {
   int blockSkipMinimum;
   int maxBlockSize;
 
+  int version;
+
+  /**
+   * Flag to know if the node and pos blocks, and the skip data, are
+   * interleaved with the doc blocks in the .doc file.
+   */
+  final boolean interleaved;
+
   protected static final Logger logger = LoggerFactory.getLogger(Siren10PostingsReader.class);
 
   public Siren10PostingsReader(final Directory dir, final SegmentInfo segmentInfo,
@@ -74,18 +84,25 @@ public class Siren10PostingsReader extends PostingsReaderBase {
   throws IOException {
     boolean success = false;
     try {
+      interleaved = factory.isInterleaved();
+
       final String docFileName = IndexFileNames.segmentFileName(segmentInfo.name,
         segmentSuffix, Siren10PostingsWriter.DOC_EXTENSION);
       docIn = factory.openDocsFreqInput(dir, docFileName, context);
+      docIn.interleaved = interleaved;
 
-      nodIn = factory.openNodInput(dir, IndexFileNames.segmentFileName(segmentInfo.name,
-        segmentSuffix, Siren10PostingsWriter.NOD_EXTENSION), context);
+      // in the interleaved layout, all the data is in the .doc file
+      nodIn = factory.openNodInput(dir, interleaved ? docFileName :
+        IndexFileNames.segmentFileName(segmentInfo.name, segmentSuffix,
+        Siren10PostingsWriter.NOD_EXTENSION), context);
 
-      skipIn = dir.openInput(IndexFileNames.segmentFileName(segmentInfo.name,
-        segmentSuffix, Siren10PostingsWriter.SKIP_EXTENSION), context);
+      skipIn = dir.openInput(interleaved ? docFileName :
+        IndexFileNames.segmentFileName(segmentInfo.name, segmentSuffix,
+        Siren10PostingsWriter.SKIP_EXTENSION), context);
 
-      posIn = factory.openPosInput(dir, IndexFileNames.segmentFileName(segmentInfo.name,
-        segmentSuffix, Siren10PostingsWriter.POS_EXTENSION), context);
+      posIn = factory.openPosInput(dir, interleaved ? docFileName :
+        IndexFileNames.segmentFileName(segmentInfo.name, segmentSuffix,
+        Siren10PostingsWriter.POS_EXTENSION), context);
 
       success = true;
     }
@@ -99,8 +116,10 @@ public class Siren10PostingsReader extends PostingsReaderBase {
   @Override
   public void init(final IndexInput termsIn) throws IOException {
     // Make sure we are talking to the matching past writer
-    CodecUtil.checkHeader(termsIn, Siren10PostingsWriter.CODEC,
-      Siren10PostingsWriter.VERSION_START, Siren10PostingsWriter.VERSION_START);
+    version = CodecUtil.checkHeader(termsIn, Siren10PostingsWriter.CODEC,
+      Siren10PostingsWriter.VERSION_START, Siren10PostingsWriter.VERSION_CURRENT);
+    docIn.hasBlockMaxStats = version >= Siren10PostingsWriter.VERSION_BLOCK_MAX;
+    docIn.hasDocBitmap = version >= Siren10PostingsWriter.VERSION_DENSE_BLOCK;
     blockSkipInterval = termsIn.readInt();
     maxSkipLevels = termsIn.readInt();
     blockSkipMinimum = termsIn.readInt();
@@ -408,6 +427,12 @@ public class Siren10PostingsReader extends PostingsReaderBase {
     private int pendingTermFreqInNodeCount;
     private int pendingPosNodCount;
 
+    /**
+     * True if the node and position readers must be moved to the blocks of the
+     * current doc block before reading nodes or positions.
+     */
+    private boolean nodAndPosBlockPending;
+
     private Bits liveDocs;
     private final DocsFreqBlockIndexInput.DocsFreqBlockReader docReader;
     private final NodBlockIndexInput.NodBlockReader nodReader;
@@ -469,6 +494,7 @@ public class Siren10PostingsReader extends PostingsReaderBase {
       docCount = 0;
 
       this.resetPendingCounters();
+      nodAndPosBlockPending = false;
 
       skipped = false;
 
@@ -497,6 +523,15 @@ public class Siren10PostingsReader extends PostingsReaderBase {
       pos = -1;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * If the accepted documents are a {@link FixedBitSet} or an
+     * {@link OpenBitSet}, e.g., a cached filter, the documents that are not
+     * accepted are not checked one by one. Instead, the enum leapfrogs to the
+     * next accepted document using the skip list and the block headers, as in
+     * {@link #skipTo(int)}.
+     */
     @Override
     public boolean nextDocument() throws IOException {
       do {
@@ -514,11 +549,7 @@ public class Siren10PostingsReader extends PostingsReaderBase {
         // If block exhausted, decode next block
         if (docReader.isExhausted()) {
           docReader.nextBlock();
-          nodIndex.seek(nodReader); // move node reader to next block
-          nodReader.nextBlock(); // doc and node blocks are synchronised
-          posIndex.seek(posReader); // move node reader to next block
-          posReader.nextBlock(); // doc and pos blocks are synchronised
-          this.resetPendingCounters(); // reset counters as we move to next block
+          this.nextNodAndPosBlock();
         }
         // decode next doc
         doc = docReader.nextDocument();
@@ -526,17 +557,95 @@ public class Siren10PostingsReader extends PostingsReaderBase {
         termFreqInNodeReadPending = false; // reset flag
         // increment node freq pending counters
         pendingNodFreqCount++;
-      } while (liveDocs != null && !liveDocs.get(doc));
+      } while (liveDocs != null && !this.isAccepted());
 
       return true;
     }
 
+    /**
+     * Check if the current document is accepted. Otherwise, if the next
+     * accepted document can be computed, move to the block containing it.
+     */
+    private boolean isAccepted() throws IOException {
+      if (liveDocs.get(doc)) {
+        return true;
+      }
+      final int target = this.nextAcceptedDoc(doc + 1);
+      if (target == -1) { // next accepted doc unknown, scan the next doc
+        return false;
+      }
+      if (target == NO_MORE_DOC) {
+        // no more accepted docs, consume the postings
+        docCount = docLimit;
+        return false;
+      }
+      this.skipBlocksTo(target);
+      return false;
+    }
+
+    /**
+     * Return the first accepted document greater or equal to the target,
+     * {@link #NO_MORE_DOC} if there is none, or -1 if the accepted documents
+     * do not support this operation.
+     */
+    private int nextAcceptedDoc(final int target) {
+      if (target >= liveDocs.length()) {
+        return NO_MORE_DOC;
+      }
+      final int next;
+      if (liveDocs instanceof FixedBitSet) {
+        next = ((FixedBitSet) liveDocs).nextSetBit(target);
+      }
+      else if (liveDocs instanceof OpenBitSet) {
+        next = ((OpenBitSet) liveDocs).nextSetBit(target);
+      }
+      else {
+        return -1;
+      }
+      return next == -1 ? NO_MORE_DOC : next;
+    }
+
+    /**
+     * Prepare the node and position readers for the blocks associated to the
+     * current doc block. Must be called after the header of a new doc block
+     * has been read.
+     * <p>
+     * The node and pos blocks start to be read in the background while the
+     * doc block is decoded. The readers are moved to them by the first call to
+     * {@link #nextNode()}, so that the blocks of the documents whose nodes are
+     * not read are never decoded.
+     */
+    private void nextNodAndPosBlock() throws IOException {
+      nodIndex.prefetch(nodReader);
+      posIndex.prefetch(posReader);
+      nodAndPosBlockPending = true;
+      this.resetPendingCounters(); // reset counters as we move to next block
+    }
+
+    /**
+     * Move the node and position readers to the blocks associated to the
+     * current doc block, if not done yet.
+     */
+    private void loadNodAndPosBlock() throws IOException {
+      if (nodAndPosBlockPending) {
+        nodAndPosBlockPending = false;
+        nodIndex.seek(nodReader); // move node reader to next block
+        nodReader.nextBlock(); // doc and node blocks are synchronised
+        // a position-free node block has no associated pos block
+        if (!nodReader.isPositionFree()) {
+          posIndex.seek(posReader); // move pos reader to next block
+          posReader.nextBlock(); // doc and pos blocks are synchronised
+        }
+      }
+    }
+
     @Override
     public boolean nextNode() throws IOException {
       termFreqInNode = 0; // lazy load of freq
       termFreqInNodeReadPending = true;
       pos = -1; // reset position
       final int nodeFreqInDoc = this.nodeFreqInDoc(); // load node freq
+      this.loadNodAndPosBlock();
 
       // scan over any nodes that were ignored during doc iteration
       while (pendingNodCount > nodeFreqInDoc) {
@@ -563,8 +672,26 @@ public class Siren10PostingsReader extends PostingsReaderBase {
 
     @Override
     public boolean skipTo(final int target) throws IOException {
+      this.skipBlocksTo(target);
+
+      // Now, linear scan for the rest:
+      do {
+        if (!this.nextDocument()) {
+          return false;
+        }
+      } while (target > doc);
+
+      return true;
+    }
+
+    /**
+     * Move to the block containing the target using the skip list and the
+     * block headers. The documents of this block that are inferior to the
+     * target must then be scanned with {@link #nextDocument()}.
+     */
+    private void skipBlocksTo(final int target) throws IOException {
       if ((target - (blockSkipInterval * maxBlockSize)) >= doc &&
-          docLimit >= (blockSkipMinimum * maxBlockSize)) {
+          blockLimit >= blockSkipMinimum) {
 
         // There are enough docs in the posting to have
         // skip data, and its not too close
@@ -573,7 +700,8 @@ public class Siren10PostingsReader extends PostingsReaderBase {
           // This DocsEnum has never done any skipping
           skipper = new Siren10SkipListReader(skipIn.clone(),
                                               docIn, maxSkipLevels,
-                                              blockSkipInterval, maxBlockSize);
+                                              blockSkipInterval, maxBlockSize,
+                                              version >= Siren10PostingsWriter.VERSION_DENSE_BLOCK);
         }
 
         if (!skipped) {
@@ -595,17 +723,170 @@ public class Siren10PostingsReader extends PostingsReaderBase {
         }
       }
 
-      // Now, linear scan for the rest:
-      // TODO: Implement linear block skipping based on first and last doc ids
-      do {
-        if (!this.nextDocument()) {
-          return false;
+      // Linear block skipping based on the last doc id of the block headers
+      this.skipBlocks(target);
+    }
+
+    /**
+     * Skip all the blocks whose last document identifier is inferior to the
+     * target. Only the headers of the doc blocks are read. The data of the
+     * skipped doc blocks is not decoded, and the associated node and position
+     * blocks are not read.
+     */
+    private void skipBlocks(final int target) throws IOException {
+      // skip the remaining docs of the current block if possible
+      if (!docReader.isExhausted()) {
+        if (docReader.getLastDocId() >= target) {
+          return;
         }
-      } while (target > doc);
+        docCount += docReader.skipBlock();
+        doc = docReader.getLastDocId();
+      }
+
+      while (docCount < docLimit) {
+        docReader.nextBlock(); // read header only
+        if (docReader.getLastDocId() >= target) {
+          // target is in this block, load the associated node and pos blocks
+          this.nextNodAndPosBlock();
+          return;
+        }
+        docCount += docReader.skipBlock();
+        doc = docReader.getLastDocId();
+      }
+    }
 
+    /**
+     * Expert: Read the header of the next doc block if the current block is
+     * exhausted. Return false if the current block is not exhausted or if
+     * there are no more blocks.
+     * <p>
+     * The block must then be consumed either as raw bytes with
+     * {@link #copyBlock}, or decoded by calling {@link #decodeBlock()} before
+     * iterating over its documents.
+     * <p>
+     * Used by {@link Siren10PostingsWriter#merge} to copy blocks without
+     * decoding them.
+     */
+    boolean nextBlockHeader() throws IOException {
+      if (docCount == docLimit || !docReader.isExhausted()) {
+        return false;
+      }
+      docReader.nextBlock();
       return true;
     }
 
+    /**
+     * Expert: Prepare the block returned by {@link #nextBlockHeader()} for
+     * decoding.
+     */
+    void decodeBlock() throws IOException {
+      this.nextNodAndPosBlock();
+    }
+
+    /**
+     * Expert: Return the number of documents in the block returned by
+     * {@link #nextBlockHeader()}.
+     */
+    int blockSize() {
+      return docReader.getBlockSize();
+    }
+
+    /**
+     * Expert: Return the first document identifier of the block returned by
+     * {@link #nextBlockHeader()}.
+     */
+    int blockFirstDoc() {
+      return docReader.getFirstDocId();
+    }
+
+    /**
+     * Expert: Return the last document identifier of the block returned by
+     * {@link #nextBlockHeader()}.
+     */
+    int blockLastDoc() {
+      return docReader.getLastDocId();
+    }
+
+    /**
+     * Expert: Copy the block returned by {@link #nextBlockHeader()}, and its
+     * associated node and position blocks, as raw bytes with the given
+     * writers. The document identifiers are shifted by the given value and
+     * recorded in the set of visited documents.
+     * <p>
+     * Return the number of positions in the block.
+     */
+    int copyBlock(final DocsFreqBlockIndexOutput.DocsFreqBlockWriter docWriter,
+                  final NodBlockIndexOutput.NodBlockWriter nodWriter,
+                  final PosBlockIndexOutput.PosBlockWriter posWriter,
+                  final int docShift, final FixedBitSet visitedDocs)
+    throws IOException {
+      final int blockSize = docReader.getBlockSize();
+      final int firstDocId = docReader.getFirstDocId();
+      final int lastDocId = docReader.getLastDocId();
+
+      // record visited docs, decode the doc ids only if the block is not dense
+      if (lastDocId - firstDocId + 1 == blockSize) {
+        visitedDocs.set(firstDocId + docShift, lastDocId + docShift + 1);
+      }
+      else {
+        for (int i = 0; i < blockSize; i++) {
+          visitedDocs.set(docReader.nextDocument() + docShift);
+        }
+      }
+
+      // copy doc block, then node and pos blocks
+      nodAndPosBlockPending = false;
+      docWriter.copyBlock(docReader, docShift);
+      nodIndex.seek(nodReader);
+      nodWriter.copyBlock(nodReader);
+      final int posCount;
+      if (nodReader.isPositionFree()) {
+        // one position per node, and no pos block to copy
+        posCount = nodReader.getNodeCount();
+      }
+      else {
+        posIndex.seek(posReader);
+        posCount = posWriter.copyBlock(posReader);
+      }
+
+      docCount += blockSize;
+      doc = lastDocId;
+      this.resetFreqNodAndPos();
+      this.resetPendingCounters();
+      return posCount;
+    }
+
+    @Override
+    public int lastDocInBlock() {
+      if (doc == -1 || doc == NO_MORE_DOC) {
+        return doc;
+      }
+      return docReader.getLastDocId();
+    }
+
+    @Override
+    public int maxNodeFreqInBlock() {
+      if (doc == -1 || doc == NO_MORE_DOC) {
+        return Integer.MAX_VALUE;
+      }
+      return docReader.getMaxNodeFreqInDoc();
+    }
+
+    @Override
+    public int maxTermFreqInNodeInBlock() {
+      if (doc == -1 || doc == NO_MORE_DOC) {
+        return Integer.MAX_VALUE;
+      }
+      return docReader.getMaxTermFreqInNode();
+    }
+
+    /**
+     * Expert: Return the {@link Siren10PostingsReader} of this enum.
+     */
+    Siren10PostingsReader getPostingsReader() {
+      return Siren10PostingsReader.this;
+    }
+
     @Override
     public int doc() {
       return doc;
@@ -622,7 +903,7 @@ public class Siren10PostingsReader extends PostingsReaderBase {
       // scan over any positions that were ignored during doc iteration
       while (pendingPosNodCount > termFreqInNode) {
         // no need to check for exhaustion as doc and pos blocks are synchronised
-        pos = posReader.nextPosition();
+        pos = this.readPosition();
         pendingPosNodCount--;
       }
 
@@ -634,7 +915,7 @@ public class Siren10PostingsReader extends PostingsReaderBase {
           posReader.resetCurrentPosition();
         }
         // no need to check for exhaustion as doc and pos blocks are synchronised
-        pos = posReader.nextPosition();
+        pos = this.readPosition();
         pendingPosNodCount--;
         assert pendingPosNodCount >= 0;
         return true;
@@ -644,6 +925,14 @@ public class Siren10PostingsReader extends PostingsReaderBase {
       return false;
     }
 
+    /**
+     * Read the next position, or synthesise it if the current node block is
+     * position-free.
+     */
+    private int readPosition() throws IOException {
+      return nodReader.isPositionFree() ? 0 : posReader.nextPosition();
+    }
+
     @Override
     public int pos() {
       return pos;
@@ -37,13 +37,16 @@ import org.apache.lucene.index.MergeState;
 import org.apache.lucene.index.SegmentWriteState;
 import org.apache.lucene.store.IndexOutput;
 import org.apache.lucene.store.RAMOutputStream;
+import org.apache.lucene.util.ArrayUtil;
 import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.FixedBitSet;
 import org.apache.lucene.util.IOUtils;
 import org.apache.lucene.util.IntsRef;
 import org.sindice.siren.analysis.filter.VIntPayloadCodec;
+import org.sindice.siren.index.DocsNodesAndPositionsEnum;
 import org.sindice.siren.index.MappingMultiDocsNodesAndPositionsEnum;
 import org.sindice.siren.index.codecs.block.BlockIndexOutput;
+import org.sindice.siren.index.codecs.siren10.Siren10PostingsReader.Siren10DocsNodesAndPositionsEnum;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -62,7 +65,13 @@ public class Siren10PostingsWriter extends PostingsWriterBase {
 
   // Increment version to change it:
   final static int                             VERSION_START               = 0;
-  final static int                             VERSION_CURRENT             = VERSION_START;
+  // Block max statistics in the .doc block headers
+  final static int                             VERSION_BLOCK_MAX           = 1;
+  // Position-free node blocks, without term freqs and pos block
+  final static int                             VERSION_POSITION_FREE       = 2;
+  // Bitmap of dense doc blocks, larger dense doc blocks and doc counts in skip data
+  final static int                             VERSION_DENSE_BLOCK         = 3;
+  final static int                             VERSION_CURRENT             = VERSION_DENSE_BLOCK;
 
   DocsFreqBlockIndexOutput                     docOut;
   DocsFreqBlockIndexOutput.DocsFreqBlockWriter docWriter;
@@ -81,6 +90,8 @@ public class Siren10PostingsWriter extends PostingsWriterBase {
 
   final Siren10SkipListWriter skipWriter;
 
+  final Siren10BlockStreamFactory factory;
+
   /**
    * Expert: The fraction of blocks stored in skip tables,
    * used to accelerate {@link DocsEnum#advance(int)}.  Larger values result in
@@ -109,12 +120,23 @@ public class Siren10PostingsWriter extends PostingsWriterBase {
 
   final int totalNumDocs;
 
+  /**
+   * Flag to know if the node and pos blocks, and the skip data, are
+   * interleaved with the doc blocks in the .doc file.
+   */
+  final boolean interleaved;
+
   IndexOptions indexOptions;
 
   FieldInfo fieldInfo;
 
   int blockCount;
 
+  /**
+   * The number of documents of the current term in the flushed blocks
+   */
+  int docCount;
+
   // Holds pending byte[] blob for the current terms block
   private final RAMOutputStream indexBytesWriter = new RAMOutputStream();
 
@@ -134,36 +156,52 @@ public class Siren10PostingsWriter extends PostingsWriterBase {
     nodIndex = null;
     posOut = null;
     posIndex = null;
+    interleaved = factory.isInterleaved();
     boolean success = false;
 
     try {
+      this.factory = factory;
       this.blockSkipInterval = blockSkipInterval;
       this.blockSkipMinimum = blockSkipInterval; /* set to the same for now */
 
       final String docFileName = IndexFileNames.segmentFileName(state.segmentInfo.name,
         state.segmentSuffix, DOC_EXTENSION);
-      docOut = factory.createDocsFreqOutput(state.directory, docFileName, state.context);
+      final IndexOutput out = state.directory.createOutput(docFileName, state.context);
+      docOut = factory.createDocsFreqOutput(out);
       docWriter = docOut.getBlockWriter();
       docIndex = docOut.index();
 
       this.maxBlockSize = docWriter.getMaxBlockSize();
 
-      final String nodFileName = IndexFileNames.segmentFileName(state.segmentInfo.name,
-        state.segmentSuffix, NOD_EXTENSION);
-      nodOut = factory.createNodOutput(state.directory, nodFileName, state.context);
+      if (interleaved) {
+        // the node and pos blocks are buffered, and written by the doc writer
+        final RAMOutputStream nodBlockBuffer = new RAMOutputStream();
+        final RAMOutputStream posBlockBuffer = new RAMOutputStream();
+        nodOut = factory.createNodOutput(nodBlockBuffer);
+        posOut = factory.createPosOutput(posBlockBuffer);
+        docWriter.setInterleavedBlockBuffers(nodBlockBuffer, posBlockBuffer);
+        // the skip data is written after the blocks of the term
+        skipOut = out;
+      }
+      else {
+        final String nodFileName = IndexFileNames.segmentFileName(state.segmentInfo.name,
+          state.segmentSuffix, NOD_EXTENSION);
+        nodOut = factory.createNodOutput(state.directory, nodFileName, state.context);
+
+        final String posFileName = IndexFileNames.segmentFileName(state.segmentInfo.name,
+          state.segmentSuffix, POS_EXTENSION);
+        posOut = factory.createPosOutput(state.directory, posFileName, state.context);
+
+        final String skipFileName = IndexFileNames.segmentFileName(state.segmentInfo.name,
+          state.segmentSuffix, SKIP_EXTENSION);
+        skipOut = state.directory.createOutput(skipFileName, state.context);
+      }
+
       nodWriter = nodOut.getBlockWriter();
       nodIndex = nodOut.index();
-
-      final String posFileName = IndexFileNames.segmentFileName(state.segmentInfo.name,
-        state.segmentSuffix, POS_EXTENSION);
-      posOut = factory.createPosOutput(state.directory, posFileName, state.context);
       posWriter = posOut.getBlockWriter();
       posIndex = posOut.index();
 
-      final String skipFileName = IndexFileNames.segmentFileName(state.segmentInfo.name,
-        state.segmentSuffix, SKIP_EXTENSION);
-      skipOut = state.directory.createOutput(skipFileName, state.context);
-
       totalNumDocs = state.segmentInfo.getDocCount();
 
       // EStimate number of blocks that will be written
@@ -177,7 +215,7 @@ public class Siren10PostingsWriter extends PostingsWriterBase {
     }
     finally {
       if (!success) {
-        IOUtils.closeWhileHandlingException(docOut, skipOut, nodOut, posOut);
+        IOUtils.closeWhileHandlingException(docOut, interleaved ? null : skipOut, nodOut, posOut);
       }
     }
   }
@@ -228,13 +266,7 @@ public class Siren10PostingsWriter extends PostingsWriterBase {
     }
 
     if (docWriter.isFull()) {
-      if ((++blockCount % blockSkipInterval) == 0) {
-        skipWriter.setSkipData(docWriter.getFirstDocId());
-        skipWriter.bufferSkip(blockCount);
-      }
-      docWriter.flush();
-      nodWriter.flush(); // flush node block to synchronise it with doc block
-      posWriter.flush(); // flush pos block to synchronise it with doc block
+      this.flushBlocks();
     }
 
     docWriter.write(docID);
@@ -242,20 +274,68 @@ public class Siren10PostingsWriter extends PostingsWriterBase {
     // reset current node for delta computation
     nodWriter.resetCurrentNode();
 
-    // reset payload hash to sentinel value
-    lastNodeHash = Long.MAX_VALUE;
+    // reset last node to sentinel value
+    lastNodeLength = -1;
   }
 
   /**
-   * Sentinel value {@link Long.MAX_VALUE} is necessary in order to avoid
-   * equality with nodes composed of '0' values.
-   * <p>
-   * Use long to avoid collision between sentinel value and payload hashcode.
+   * Flush the full doc block and its associated node and pos blocks, and
+   * buffer skip data if needed.
+   */
+  private void flushBlocks() throws IOException {
+    if ((++blockCount % blockSkipInterval) == 0) {
+      skipWriter.setSkipData(docWriter.getFirstDocId(), docCount);
+      skipWriter.bufferSkip(blockCount);
+    }
+    docCount += docWriter.getBlockSize();
+    this.flushBlockGroup();
+  }
+
+  /**
+   * Flush the doc block and its associated node and pos blocks. In the
+   * interleaved layout, the node and pos blocks are flushed first into
+   * their buffers, and are written by the doc writer after the doc block.
+   */
+  private void flushBlockGroup() throws IOException {
+    if (interleaved) {
+      this.flushNodAndPosBlocks();
+      docWriter.flush();
+    }
+    else {
+      docWriter.flush();
+      this.flushNodAndPosBlocks();
+    }
+  }
+
+  /**
+   * Flush the node and pos blocks to synchronise them with the doc block.
    * <p>
-   * Using payload hashcode seems to be the fastest way for testing node
-   * equality. See micro-benchmark {@link NodeEqualityBenchmark}.
+   * If every node of the block has a single token at position 0, the node
+   * block is flagged as position-free: its term frequencies and the pos block
+   * are left out, and they are synthesised by the reader.
+   */
+  private void flushNodAndPosBlocks() throws IOException {
+    if (!nodWriter.isEmpty() && nodWriter.hasSingleTokenNodes() &&
+        posWriter.hasZeroPositions()) {
+      nodWriter.setPositionFree();
+      posWriter.clear();
+    }
+    nodWriter.flush();
+    posWriter.flush();
+  }
+
+  /**
+   * The encoded node of the last payload of the current document. Comparing
+   * the encoded nodes avoids to decode the node of each position, and, in
+   * contrast to a hash of the node, cannot confuse two different nodes.
    */
-  private long lastNodeHash = Long.MAX_VALUE;
+  private byte[] lastNodeBytes = new byte[16];
+
+  /**
+   * The length of {@link #lastNodeBytes}, or the sentinel value -1 at the
+   * beginning of a document.
+   */
+  private int lastNodeLength = -1;
 
   private final VIntPayloadCodec sirenPayload = new VIntPayloadCodec();
 
@@ -270,28 +350,47 @@ public class Siren10PostingsWriter extends PostingsWriterBase {
     // we always receive node ids in the payload
     assert payload != null;
 
-    // decode payload
-    sirenPayload.decode(payload);
-    final IntsRef node = sirenPayload.getNode();
+    // decode the position only, the node is decoded only if it changed
+    final int nodeOffset = sirenPayload.decodePosition(payload);
+    final int nodeLength = payload.offset + payload.length - nodeOffset;
 
-    // check if we received the same node
-    // TODO: we pay the cost of decoding the node before testing the equality
-    // we could instead directly compute the node hash based on the byte array
-    final int nodeHash = node.hashCode();
-    if (lastNodeHash != nodeHash) { // if different node
+    // check if we received the same node by comparing the encoded nodes
+    if (!this.isLastNode(payload.bytes, nodeOffset, nodeLength)) { // if different node
       // add term freq for previous node if not first payload.
-      if (lastNodeHash != Long.MAX_VALUE) {
+      if (lastNodeLength != -1) {
         this.addTermFreqInNode();
       }
       // add new node
-      this.addNode(node);
+      sirenPayload.decode(payload);
+      this.addNode(sirenPayload.getNode());
+      // keep the encoded node
+      if (lastNodeBytes.length < nodeLength) {
+        lastNodeBytes = ArrayUtil.grow(lastNodeBytes, nodeLength);
+      }
+      System.arraycopy(payload.bytes, nodeOffset, lastNodeBytes, 0, nodeLength);
+      lastNodeLength = nodeLength;
     }
-    lastNodeHash = nodeHash;
 
     // add position
     this.addPosition(sirenPayload.getPosition());
   }
 
+  /**
+   * Check if the given encoded node is equal to the encoded node of the last
+   * payload.
+   */
+  private boolean isLastNode(final byte[] bytes, final int offset, final int length) {
+    if (length != lastNodeLength) {
+      return false;
+    }
+    for (int i = 0; i < length; i++) {
+      if (bytes[offset + i] != lastNodeBytes[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   private void addNode(final IntsRef node) {
     nodWriter.write(node);
     nodeFreqInDoc++;
@@ -311,6 +410,7 @@ public class Siren10PostingsWriter extends PostingsWriterBase {
 
   private void addTermFreqInNode() {
     nodWriter.writeTermFreq(termFreqInNode);
+    docWriter.updateMaxTermFreqInNode(termFreqInNode);
     termFreqInNode = 0;
   }
 
@@ -345,25 +445,15 @@ public class Siren10PostingsWriter extends PostingsWriterBase {
 
     // if block flush pending, write last skip data
     if (!docWriter.isEmpty() && (++blockCount % blockSkipInterval) == 0) {
-      skipWriter.setSkipData(docWriter.getFirstDocId());
+      skipWriter.setSkipData(docWriter.getFirstDocId(), docCount);
       skipWriter.bufferSkip(blockCount);
     }
 
-    // flush doc block
-    docWriter.flush();
+    // flush doc block, and node and pos blocks
+    this.flushBlockGroup();
     final BlockIndexOutput.Index docIndexCopy = docOut.index();
     docIndexCopy.copyFrom(docIndex, false);
 
-    // flush node block
-    nodWriter.flush();
-    final BlockIndexOutput.Index nodIndexCopy = nodOut.index();
-    nodIndexCopy.copyFrom(nodIndex, false);
-
-    // flush pos block
-    posWriter.flush();
-    final BlockIndexOutput.Index posIndexCopy = posOut.index();
-    posIndexCopy.copyFrom(posIndex, false);
-
     // Write skip data to the output file
     final long skipFP;
     if (blockCount >= blockSkipMinimum) {
@@ -376,8 +466,9 @@ public class Siren10PostingsWriter extends PostingsWriterBase {
 
     pendingTerms.add(new PendingTerm(docIndexCopy, skipFP, blockCount));
 
-    // reset block counter
+    // reset block and doc counters
     blockCount = 0;
+    docCount = 0;
   }
 
   @Override
@@ -428,7 +519,8 @@ public class Siren10PostingsWriter extends PostingsWriterBase {
 
   @Override
   public void close() throws IOException {
-    IOUtils.close(docOut, skipOut, nodOut, posOut);
+    // in the interleaved layout, the skip data is written in the doc file
+    IOUtils.close(docOut, interleaved ? null : skipOut, nodOut, posOut);
   }
 
   private final MappingMultiDocsNodesAndPositionsEnum postingsEnum = new MappingMultiDocsNodesAndPositionsEnum();
@@ -440,9 +532,11 @@ public class Siren10PostingsWriter extends PostingsWriterBase {
    * Bypass the {@link Siren10PostingsWriter} methods and work directly with
    * the BlockWriters for maximum efficiency.
    * <p>
-   * TODO - Optimisation: If document blocks match the block size, and no
-   * document deleted, then it would be possible to copy block directly as byte
-   * array, avoiding decoding and encoding.
+   * Optimisation: If the doc writer is at a block boundary, and if the next
+   * block of a sub-segment is full and contains no deleted document, then the
+   * doc block and its associated node and pos blocks are copied directly as
+   * byte arrays, avoiding decoding and encoding. Only the block header and the
+   * skip data are rewritten.
    **/
   @Override
   public TermStats merge(final MergeState mergeState, final DocsEnum postings,
@@ -454,35 +548,108 @@ public class Siren10PostingsWriter extends PostingsWriterBase {
     postingsEnum.setMergeState(mergeState);
     postingsEnum.reset((MappingMultiDocsAndPositionsEnum) postings);
 
-    while (postingsEnum.nextDocument()) {
-      final int doc = postingsEnum.doc();
-      visitedDocs.set(doc);
+    while (postingsEnum.nextEnum()) {
+      final Siren10DocsNodesAndPositionsEnum blockEnum = this.getBlockEnum(postingsEnum.getCurrentEnum());
+
+      while (true) {
+        // copy raw blocks while the doc writer is at a block boundary
+        if (blockEnum != null) {
+          if (docWriter.isFull()) {
+            this.flushBlocks();
+          }
+          while (docWriter.isEmpty() && blockEnum.nextBlockHeader()) {
+            final int docShift = this.getDocShift(blockEnum);
+            if (docShift == Integer.MIN_VALUE) {
+              blockEnum.decodeBlock();
+              break;
+            }
+            if ((++blockCount % blockSkipInterval) == 0) {
+              skipWriter.setSkipData(blockEnum.blockFirstDoc() + docShift, docCount);
+              skipWriter.bufferSkip(blockCount);
+            }
+            totTF += blockEnum.copyBlock(docWriter, nodWriter, posWriter, docShift, visitedDocs);
+            df += blockEnum.blockSize();
+            docCount += blockEnum.blockSize();
+          }
+        }
+
+        if (!postingsEnum.nextDocumentInEnum()) {
+          break;
+        }
+
+        final int doc = postingsEnum.doc();
+        visitedDocs.set(doc);
 
-      this.startDoc(doc, -1);
+        this.startDoc(doc, -1);
 
-      final int nodeFreq = postingsEnum.nodeFreqInDoc();
-      docWriter.writeNodeFreq(nodeFreq);
+        final int nodeFreq = postingsEnum.nodeFreqInDoc();
+        docWriter.writeNodeFreq(nodeFreq);
 
-      while (postingsEnum.nextNode()) {
-        final IntsRef node = postingsEnum.node();
-        nodWriter.write(node);
+        while (postingsEnum.nextNode()) {
+          final IntsRef node = postingsEnum.node();
+          nodWriter.write(node);
 
-        final int termFreqInNode = postingsEnum.termFreqInNode();
-        nodWriter.writeTermFreq(termFreqInNode);
+          final int termFreqInNode = postingsEnum.termFreqInNode();
+          nodWriter.writeTermFreq(termFreqInNode);
+          docWriter.updateMaxTermFreqInNode(termFreqInNode);
 
-        // reset current position for delta computation
-        posWriter.resetCurrentPosition();
+          // reset current position for delta computation
+          posWriter.resetCurrentPosition();
 
-        while (postingsEnum.nextPosition()) {
-          final int position = postingsEnum.pos();
-          posWriter.write(position);
-          totTF++;
+          while (postingsEnum.nextPosition()) {
+            final int position = postingsEnum.pos();
+            posWriter.write(position);
+            totTF++;
+          }
         }
+        df++;
       }
-      df++;
     }
 
     return new TermStats(df, totTF);
   }
 
+  /**
+   * Return the given enum as a {@link Siren10DocsNodesAndPositionsEnum} if its
+   * blocks can be copied as raw bytes, i.e., if they have been encoded with
+   * the same version, compressors and block size, in the default layout.
+   * Return null otherwise.
+   */
+  private Siren10DocsNodesAndPositionsEnum getBlockEnum(final DocsNodesAndPositionsEnum e) {
+    if (!(e instanceof Siren10DocsNodesAndPositionsEnum)) {
+      return null;
+    }
+    final Siren10DocsNodesAndPositionsEnum blockEnum = (Siren10DocsNodesAndPositionsEnum) e;
+    final Siren10PostingsReader reader = blockEnum.getPostingsReader();
+    if (interleaved || reader.interleaved ||
+        reader.version != VERSION_CURRENT ||
+        reader.maxBlockSize != maxBlockSize ||
+        !factory.isCompatible(reader.docIn, reader.nodIn, reader.posIn)) {
+      return null;
+    }
+    return blockEnum;
+  }
+
+  /**
+   * Return the constant shift to apply to the document identifiers of the
+   * current block of the given enum, or {@link Integer#MIN_VALUE} if the block
+   * cannot be copied as raw bytes, i.e., if the block is smaller than the
+   * maximum block size, or if the
+   * document identifiers of the block are not remapped by a constant shift.
+   */
+  private int getDocShift(final Siren10DocsNodesAndPositionsEnum blockEnum) {
+    if (blockEnum.blockSize() < maxBlockSize) {
+      return Integer.MIN_VALUE;
+    }
+    final int firstDocId = blockEnum.blockFirstDoc();
+    final int lastDocId = blockEnum.blockLastDoc();
+    final int first = postingsEnum.mapDocument(firstDocId);
+    final int last = postingsEnum.mapDocument(lastDocId);
+    // no document deleted within the range of the block
+    if (first == -1 || last == -1 || last - first != lastDocId - firstDocId) {
+      return Integer.MIN_VALUE;
+    }
+    return first - firstDocId;
+  }
+
 }
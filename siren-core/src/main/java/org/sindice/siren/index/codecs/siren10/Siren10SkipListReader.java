@@ -21,6 +21,7 @@
 package org.sindice.siren.index.codecs.siren10;
 
 import java.io.IOException;
+import java.util.Arrays;
 
 import org.apache.lucene.codecs.MultiLevelSkipListReader;
 import org.apache.lucene.index.FieldInfo.IndexOptions;
@@ -36,7 +37,10 @@ import org.sindice.siren.index.codecs.block.BlockIndexInput;
  * The {@link MultiLevelSkipListReader} implementation is based on document
  * count, but it is used here with block count instead of document count.
  * In order to make it compatible with block, this class is converting
- * document count into block count and vice versa.
+ * document count into block count and vice versa. Since
+ * {@link Siren10PostingsWriter#VERSION_DENSE_BLOCK}, the number of documents
+ * preceding a block is read from the skip data, as the blocks do not have a
+ * constant size anymore.
  *
  * @see Siren10SkipListWriter
  */
@@ -46,16 +50,25 @@ public class Siren10SkipListReader extends MultiLevelSkipListReader {
 
   private final BlockIndexInput.Index lastDocIndex;
 
+  private final int docCount[];
+
+  private int lastDocCount;
+
   private final int blockSize;
 
+  private final boolean hasDocCount;
+
   Siren10SkipListReader(final IndexInput skipStream,
                         final BlockIndexInput docIn,
                         final int maxSkipLevels,
                         final int blockSkipInterval,
-                        final int blockSize)
+                        final int blockSize,
+                        final boolean hasDocCount)
   throws IOException {
     super(skipStream, maxSkipLevels, blockSkipInterval);
     this.blockSize = blockSize;
+    this.hasDocCount = hasDocCount;
+    docCount = new int[maxSkipLevels];
     docIndex = new BlockIndexInput.Index[maxSkipLevels];
     for (int i = 0; i < maxSkipLevels; i++) {
       docIndex[i] = docIn.index();
@@ -74,6 +87,9 @@ public class Siren10SkipListReader extends MultiLevelSkipListReader {
             final int blockCount) {
     super.init(skipPointer, blockCount);
 
+    Arrays.fill(docCount, 0);
+    lastDocCount = 0;
+
     for (int i = 0; i < maxNumberOfSkipLevels; i++) {
       docIndex[i].set(docBaseIndex);
     }
@@ -89,9 +105,11 @@ public class Siren10SkipListReader extends MultiLevelSkipListReader {
     super.setLastSkipData(level);
 
     lastDocIndex.set(docIndex[level]);
+    lastDocCount = docCount[level];
 
     if (level > 0) {
       docIndex[level-1].set(docIndex[level]);
+      docCount[level-1] = docCount[level];
     }
   }
 
@@ -102,12 +120,19 @@ public class Siren10SkipListReader extends MultiLevelSkipListReader {
   @Override
   protected int readSkipData(final int level, final IndexInput skipStream) throws IOException {
     final int delta = skipStream.readVInt();
+    if (hasDocCount) {
+      docCount[level] += skipStream.readVInt();
+    }
     docIndex[level].read(skipStream, false);
     return delta;
   }
 
   @Override
   public int skipTo(final int target) throws IOException {
+    if (hasDocCount) {
+      super.skipTo(target);
+      return lastDocCount;
+    }
     // multiply by blockSize to get the doc counts.
     return super.skipTo(target) * blockSize;
   }
@@ -34,7 +34,10 @@ import org.sindice.siren.index.codecs.block.BlockIndexOutput;
  * <p>
  *
  * Compared to the original Lucene format, this skip list is only storing the
- * document identifiers and the file pointer of the block within the .doc file.
+ * document identifiers, the number of documents preceding the block and the
+ * file pointer of the block within the .doc file. The number of documents is
+ * stored since the blocks of dense document identifiers can be larger than
+ * the maximum block size.
  *
  * <p>
  *
@@ -47,16 +50,21 @@ public class Siren10SkipListWriter extends MultiLevelSkipListWriter {
 
   private final int[] lastSkipDoc;
 
+  private final int[] lastSkipDocCount;
+
   private final BlockIndexOutput.Index[] docIndex;
 
   private int curDoc;
 
+  private int curDocCount;
+
   Siren10SkipListWriter(final int blockSkipInterval, final int maxSkipLevels,
                         final int blockCount, final BlockIndexOutput docOutput)
   throws IOException {
     super(blockSkipInterval, maxSkipLevels, blockCount);
 
     lastSkipDoc = new int[numberOfSkipLevels];
+    lastSkipDocCount = new int[numberOfSkipLevels];
 
     docIndex = new BlockIndexOutput.Index[numberOfSkipLevels];
 
@@ -74,10 +82,13 @@ public class Siren10SkipListWriter extends MultiLevelSkipListWriter {
   /**
    * Sets the values for the current skip data.
    * <p>
-   * Called at every index interval (every block by default)
+   * Called at every index interval (every block by default), with the first
+   * document identifier of the block and the number of documents of the
+   * term preceding the block.
    */
-  void setSkipData(final int doc) {
+  void setSkipData(final int doc, final int docCount) {
     this.curDoc = doc;
+    this.curDocCount = docCount;
   }
 
   /**
@@ -88,6 +99,7 @@ public class Siren10SkipListWriter extends MultiLevelSkipListWriter {
     super.resetSkip();
 
     Arrays.fill(lastSkipDoc, 0);
+    Arrays.fill(lastSkipDocCount, 0);
     for(int i = 0; i < numberOfSkipLevels; i++) {
       docIndex[i].copyFrom(topDocIndex, true);
     }
@@ -96,10 +108,12 @@ public class Siren10SkipListWriter extends MultiLevelSkipListWriter {
   @Override
   protected void writeSkipData(final int level, final IndexOutput skipBuffer) throws IOException {
     skipBuffer.writeVInt(curDoc - lastSkipDoc[level]);
+    skipBuffer.writeVInt(curDocCount - lastSkipDocCount[level]);
 
     docIndex[level].mark();
     docIndex[level].write(skipBuffer, false);
 
     lastSkipDoc[level] = curDoc;
+    lastSkipDocCount[level] = curDocCount;
   }
 }
@@ -77,7 +77,8 @@
  * identifiers.
  * <p>
  * <b>CompressedDocLength</b> records the size (in bytes) of the compressed byte
- * array CompressedDoc.
+ * array CompressedDoc, shifted by one bit. The lowest bit flags a bitmap
+ * block.
  * <p>
  * <b>CompressedNodeFreqLength</b> records the size (in bytes) of the compressed
  * byte array CompressedNodeFreq.
@@ -95,7 +96,14 @@
  * <b>CompressedDoc</b> is the compressed list of document identifiers. This list is
  * compressed using the AFOR algorithm. The document identifiers are encoded
  * as delta. The first document of this list is always 0 as it is encoded as
- * delta with FirstDocId.
+ * delta with FirstDocId. If the document identifiers are dense, they are
+ * instead encoded as a bitmap of the range [FirstDocId, LastDocId] when the
+ * bitmap is not larger than the compressed deltas. The bit <i>i</i> is stored
+ * in the byte <i>i / 8</i>, starting from the lowest bit. The bitmap of a block
+ * of contiguous document identifiers is left out. A block of dense document
+ * identifiers can grow beyond the maximum block size, up to
+ * {@link org.sindice.siren.index.codecs.siren10.DocsFreqBlockIndexOutput#MAX_DENSE_BLOCK_FACTOR}
+ * times the maximum block size.
  * <p>
  * <b>CompressedNodeFreq</b> is the compressed list of node frequencies. This list is
  * compressed using the AFOR algorithm. There is one node frequency per document
@@ -136,7 +144,10 @@
  * integers composing the node labels.
  * <p>
  * <b>TermFreqBlockSize</b> records the size of the term frequency block, i.e.,
- * the number of term frequencies.
+ * the number of term frequencies. A size of 0 flags a position-free block:
+ * every node of the block has a term frequency of 1 and a single term position
+ * equal to 0. The term frequencies and the associated .pos block are then left
+ * out, and are synthesised by the reader.
  * <p>
  * <b>CompressedNodeLengthSize</b> records the size (in bytes) of the compressed
  * byte array CompressedNodeLength.
@@ -175,7 +186,8 @@
  * node labels contained in the .nod block. A block has a variable size
  * which is determined by the number of term positions associated with the
  * nodes. Synchronising blocks across files simplifies encoding and decoding
- * instructions and improves the performance.
+ * instructions and improves the performance. No block is written for a
+ * position-free .nod block.
  *
  * <p>
  *
@@ -207,7 +219,9 @@
  * the number of blocks between each skip data. The default skip interval is
  * defined by
  * {@link org.sindice.siren.index.codecs.siren10.Siren10PostingsFormat#DEFAULT_POSTINGS_BLOCK_SIZE}.
- * Each skip entry points to the beginning of one block.
+ * Each skip entry points to the beginning of one block, and records the number
+ * of documents preceding the block since the blocks do not have a constant
+ * size.
  *
  * <p>
  *
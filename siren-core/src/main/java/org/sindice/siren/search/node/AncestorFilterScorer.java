@@ -84,6 +84,21 @@ class AncestorFilterScorer extends NodeScorer {
     return scorer.doc();
   }
 
+  @Override
+  public long cost() {
+    return scorer.cost();
+  }
+
+  @Override
+  public void setScoresNeeded(final boolean scoresNeeded) {
+    scorer.setScoresNeeded(scoresNeeded);
+  }
+
+  @Override
+  public void setBudget(final NodeQueryBudget budget) {
+    scorer.setBudget(budget);
+  }
+
   @Override
   public IntsRef node() {
     final IntsRef node = scorer.node();
@@ -20,14 +20,18 @@
 package org.sindice.siren.search.node;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 
 import org.apache.lucene.index.AtomicReaderContext;
 import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.Term;
 import org.apache.lucene.search.ComplexExplanation;
+import org.apache.lucene.search.DocIdSet;
 import org.apache.lucene.search.DocIdSetIterator;
 import org.apache.lucene.search.Explanation;
+import org.apache.lucene.search.Filter;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.Scorer;
@@ -38,17 +42,44 @@ import org.apache.lucene.util.ToStringUtils;
 /**
  * Class that act as a bridge between the SIREn query API and the Lucene query
  * API.
+ *
+ * <p>
+ *
+ * Lucene queries and filters that the documents must match can be added with
+ * {@link #addRequired(Query)} and {@link #addFilter(Filter)}. In contrast to
+ * a {@link org.apache.lucene.search.BooleanQuery} combining this query with
+ * other queries, the node information of a document is decoded only once the
+ * required queries and the filters agree on the document.
  */
 public class LuceneProxyNodeQuery extends Query {
 
   private final NodeQuery nodeQuery;
 
+  private int topK = 0;
+
+  private boolean scoresNeeded = true;
+
+  private NodeScoreAggregation scoreAggregation = NodeScoreAggregation.SUM;
+
+  private NodeQueryBudget budget = null;
+
+  private List<Query> requiredQueries = new ArrayList<Query>();
+
+  private List<Filter> filters = new ArrayList<Filter>();
+
   protected class LuceneProxyNodeWeight extends Weight {
 
     private final Weight weight;
 
+    private final List<Weight> requiredWeights;
+
     public LuceneProxyNodeWeight(final Weight weight) {
+      this(weight, new ArrayList<Weight>());
+    }
+
+    public LuceneProxyNodeWeight(final Weight weight, final List<Weight> requiredWeights) {
       this.weight = weight;
+      this.requiredWeights = requiredWeights;
     }
 
     @Override
@@ -59,8 +90,17 @@ public class LuceneProxyNodeQuery extends Query {
       if (dScorer != null) {
         if (dScorer.advance(doc) != DocIdSetIterator.NO_MORE_DOCS && dScorer.docID() == doc) {
           final Explanation exp = dScorer.getWeight().explain(context, doc);
-          exp.setValue(dScorer.score());
-          return exp;
+          if (requiredWeights.isEmpty()) {
+            exp.setValue(dScorer.score());
+            return exp;
+          }
+          final ComplexExplanation sumExpl = new ComplexExplanation(true,
+            dScorer.score(), "sum of:");
+          sumExpl.addDetail(exp);
+          for (final Weight w : requiredWeights) {
+            sumExpl.addDetail(w.explain(context, doc));
+          }
+          return sumExpl;
         }
       }
       return new ComplexExplanation(false, 0.0f, "no matching term");
@@ -74,12 +114,19 @@ public class LuceneProxyNodeQuery extends Query {
     @Override
     public float getValueForNormalization()
     throws IOException {
-      return weight.getValueForNormalization();
+      float sum = weight.getValueForNormalization();
+      for (final Weight w : requiredWeights) {
+        sum += w.getValueForNormalization();
+      }
+      return sum;
     }
 
     @Override
     public void normalize(final float norm, final float topLevelBoost) {
       weight.normalize(norm, topLevelBoost);
+      for (final Weight w : requiredWeights) {
+        w.normalize(norm, topLevelBoost);
+      }
     }
 
     @Override
@@ -90,8 +137,33 @@ public class LuceneProxyNodeQuery extends Query {
     throws IOException {
       final NodeScorer nodeScorer = (NodeScorer) weight.scorer(context,
         scoreDocsInOrder, topScorer, acceptDocs);
-      return nodeScorer == null ? null // no match
-                                : new LuceneProxyNodeScorer(nodeScorer);
+      if (nodeScorer == null) { // no match
+        return null;
+      }
+      if (!scoresNeeded) {
+        nodeScorer.setScoresNeeded(false);
+      }
+
+      final Scorer[] requiredScorers = new Scorer[requiredWeights.size()];
+      for (int i = 0; i < requiredScorers.length; i++) {
+        requiredScorers[i] = requiredWeights.get(i).scorer(context, true, false, acceptDocs);
+        if (requiredScorers[i] == null) { // no match
+          return null;
+        }
+      }
+      final DocIdSetIterator[] filterIterators = new DocIdSetIterator[filters.size()];
+      for (int i = 0; i < filterIterators.length; i++) {
+        final DocIdSet docIdSet = filters.get(i).getDocIdSet(context, acceptDocs);
+        if (docIdSet == null || (filterIterators[i] = docIdSet.iterator()) == null) {
+          return null; // no match
+        }
+      }
+      final LuceneProxyNodeScorer scorer = new LuceneProxyNodeScorer(nodeScorer,
+        topK, requiredScorers, filterIterators, scoresNeeded, scoreAggregation);
+      if (budget != null) {
+        scorer.setBudget(budget);
+      }
+      return scorer;
     }
 
   }
@@ -100,10 +172,48 @@ public class LuceneProxyNodeQuery extends Query {
     this.nodeQuery = nq;
   }
 
+  /**
+   * Adds a Lucene query that the documents must match. The score of the
+   * query is added to the score of the document.
+   * <p>
+   * The node information of a document is checked only if the document
+   * matches all the required queries and filters. This is cheaper than a
+   * {@link org.apache.lucene.search.BooleanQuery} when the required queries
+   * do not match most of the documents of the node query.
+   * <p>
+   * The block max pruning, see {@link #setTopK(int)}, is disabled if there
+   * are required queries.
+   */
+  public void addRequired(final Query query) {
+    requiredQueries.add(query);
+  }
+
+  /**
+   * Adds a filter that the documents must match.
+   * <p>
+   * The node information of a document is checked only if the document
+   * matches all the required queries and filters.
+   */
+  public void addFilter(final Filter filter) {
+    filters.add(filter);
+  }
+
+  public List<Query> getRequiredQueries() {
+    return requiredQueries;
+  }
+
+  public List<Filter> getFilters() {
+    return filters;
+  }
+
   @Override
   public Weight createWeight(final IndexSearcher searcher)
   throws IOException {
-    return new LuceneProxyNodeWeight(nodeQuery.createWeight(searcher));
+    final List<Weight> requiredWeights = new ArrayList<Weight>(requiredQueries.size());
+    for (final Query query : requiredQueries) {
+      requiredWeights.add(query.createWeight(searcher));
+    }
+    return new LuceneProxyNodeWeight(nodeQuery.createWeight(searcher), requiredWeights);
   }
 
   @Override
@@ -111,17 +221,34 @@ public class LuceneProxyNodeQuery extends Query {
   throws IOException {
     final Query rewroteQuery = nodeQuery.rewrite(reader);
 
-    if (nodeQuery == rewroteQuery) {
+    boolean rewrote = nodeQuery != rewroteQuery;
+    final List<Query> rewroteRequiredQueries = new ArrayList<Query>(requiredQueries.size());
+    for (final Query query : requiredQueries) {
+      final Query rewroteRequiredQuery = query.rewrite(reader);
+      rewrote |= query != rewroteRequiredQuery;
+      rewroteRequiredQueries.add(rewroteRequiredQuery);
+    }
+
+    if (!rewrote) {
       return this;
     }
     final LuceneProxyNodeQuery q = new LuceneProxyNodeQuery((NodeQuery) rewroteQuery);
     q.setBoost(nodeQuery.getBoost());
+    q.setTopK(topK);
+    q.setScoresNeeded(scoresNeeded);
+    q.setScoreAggregation(scoreAggregation);
+    q.setBudget(budget);
+    q.requiredQueries = rewroteRequiredQueries;
+    q.filters = new ArrayList<Filter>(filters);
     return q;
   }
 
   @Override
   public void extractTerms(final Set<Term> terms) {
     nodeQuery.extractTerms(terms);
+    for (final Query query : requiredQueries) {
+      query.extractTerms(terms);
+    }
   }
 
   @Override
@@ -136,6 +263,12 @@ public class LuceneProxyNodeQuery extends Query {
     if (withParen) {
       buffer.append(')').append(ToStringUtils.boost(this.getBoost()));
     }
+    for (final Query query : requiredQueries) {
+      buffer.append(" +").append(query.toString(field));
+    }
+    for (final Filter filter : filters) {
+      buffer.append(" +filter(").append(filter).append(')');
+    }
     return buffer.toString();
   }
 
@@ -145,12 +278,21 @@ public class LuceneProxyNodeQuery extends Query {
     if (!(o instanceof LuceneProxyNodeQuery)) return false;
     final LuceneProxyNodeQuery other = (LuceneProxyNodeQuery) o;
     return (this.getBoost() == other.getBoost()) &&
-           this.nodeQuery.equals(other.nodeQuery);
+           this.nodeQuery.equals(other.nodeQuery) &&
+           this.requiredQueries.equals(other.requiredQueries) &&
+           this.filters.equals(other.filters) &&
+           this.topK == other.topK &&
+           this.scoresNeeded == other.scoresNeeded &&
+           this.scoreAggregation.equals(other.scoreAggregation) &&
+           this.budget == other.budget;
   }
 
   @Override
   public int hashCode() {
-    return Float.floatToIntBits(this.getBoost()) ^ nodeQuery.hashCode();
+    return Float.floatToIntBits(this.getBoost()) ^ nodeQuery.hashCode()
+      ^ requiredQueries.hashCode() ^ filters.hashCode() ^ (31 * topK)
+      ^ (scoresNeeded ? 1231 : 1237) ^ scoreAggregation.hashCode()
+      ^ (budget == null ? 0 : budget.hashCode());
   }
 
   public NodeQuery getNodeQuery() {
@@ -162,4 +304,99 @@ public class LuceneProxyNodeQuery extends Query {
     nodeQuery.setBoost(b);
   }
 
+  /**
+   * Expert: Enables the block max pruning for a top-k search. When the query
+   * is executed as a top scorer, the blocks of documents whose block max score
+   * is inferior to the k-th best score of the segment are skipped.
+   * <p>
+   * This must only be used with a collector that retains the k documents with
+   * the highest scores, e.g., a {@link org.apache.lucene.search.TopScoreDocCollector}
+   * of size k. The skipped documents are not collected, the total number of
+   * hits is therefore a lower bound.
+   * <p>
+   * The block max scores assume that the score of a term in a node only
+   * depends on its frequency in the node and on the norm of the document, and
+   * that it increases with the frequency, as with the similarities of Lucene.
+   * The pruning must not be used with a similarity that reads other
+   * per-document values, as it would drop documents from the top-k results.
+   *
+   * @param topK
+   *          The number of top documents to retrieve, or 0 to disable the
+   *          pruning.
+   */
+  public void setTopK(final int topK) {
+    if (topK < 0) {
+      throw new IllegalArgumentException("topK must be positive: " + topK);
+    }
+    this.topK = topK;
+  }
+
+  public int getTopK() {
+    return topK;
+  }
+
+  /**
+   * Expert: Indicates if the scores of the documents will be used, e.g., not
+   * for a filter query, a facet-only request or a request sorted by field.
+   * <p>
+   * If not, a document is matched as soon as its first matching node is found,
+   * the scorers do not compute the scores of the nodes and do not load the
+   * term frequencies, and the scorer returns a constant score and frequency
+   * of 1 for all the documents. The block max pruning, see
+   * {@link #setTopK(int)}, is then disabled.
+   * <p>
+   * The default is true.
+   */
+  public void setScoresNeeded(final boolean scoresNeeded) {
+    this.scoresNeeded = scoresNeeded;
+  }
+
+  public boolean getScoresNeeded() {
+    return scoresNeeded;
+  }
+
+  /**
+   * Sets how the scores of the matching nodes of a document are aggregated
+   * into the score of the document. The scores of the required queries are
+   * added to the aggregated score.
+   * <p>
+   * The default is {@link NodeScoreAggregation#SUM}. The other aggregations
+   * stop iterating over the nodes of a document as soon as its score is fixed.
+   */
+  public void setScoreAggregation(final NodeScoreAggregation scoreAggregation) {
+    if (scoreAggregation == null) {
+      throw new NullPointerException("scoreAggregation may not be null");
+    }
+    this.scoreAggregation = scoreAggregation;
+  }
+
+  public NodeScoreAggregation getScoreAggregation() {
+    return scoreAggregation;
+  }
+
+  /**
+   * Expert: Sets a budget bounding the work of the scorers of the query, i.e.,
+   * a maximum number of visited documents, nodes and positions and/or a
+   * deadline. The budget is checked inside the node and position loops.
+   * <p>
+   * Once the budget is exhausted, the search ends cleanly and the documents
+   * collected so far are returned. {@link NodeQueryBudget#isExhausted()} then
+   * indicates that the results are partial. The score of the last collected
+   * document may be partial if the budget ran out while scoring it.
+   * <p>
+   * The budget is consumed by the search: a new budget must be set for each
+   * search. The default is null, i.e., the work is not bounded.
+   * <p>
+   * A query with a budget is only equal to a query with the same budget
+   * instance, so that the partial results of a budgeted search are never
+   * cached under the key of the unbounded query.
+   */
+  public void setBudget(final NodeQueryBudget budget) {
+    this.budget = budget;
+  }
+
+  public NodeQueryBudget getBudget() {
+    return budget;
+  }
+
 }
@@ -22,24 +22,144 @@ package org.sindice.siren.search.node;
 
 import java.io.IOException;
 import java.util.Collection;
+import java.util.List;
 
 import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.DocIdSetIterator;
 import org.apache.lucene.search.Scorer;
 
 /**
  * The {@link Scorer} class that defines the interface for iterating
  * over an ordered list of documents matching a {@link NodeQuery}.
+ *
+ * <p>
+ *
+ * The documents are iterated in two phases. The candidate documents of the
+ * {@link NodeScorer}, i.e., {@link NodeScorer#nextCandidateDocument()} and
+ * {@link NodeScorer#skipToCandidate(int)}, are first intersected with the
+ * required Lucene scorers and the filters, which do not require the decoding
+ * of the node information. Then, the node information of a document on which
+ * they all agree is checked with {@link NodeScorer#nextNode()}.
  */
 class LuceneProxyNodeScorer extends Scorer {
 
+  private static final Scorer[] NO_SCORERS = new Scorer[0];
+
+  private static final DocIdSetIterator[] NO_FILTERS = new DocIdSetIterator[0];
+
   private int              lastDoc = -1;
   private float            score;
   private int              freq;
+
+  /**
+   * The maximum node score of the documents up to {@link #maxNodeScoreLastDoc},
+   * used by the {@link NodeScoreAggregation#MAX} aggregation.
+   */
+  private float            maxNodeScore;
+  private int              maxNodeScoreLastDoc = -1;
+
   private final NodeScorer scorer;
 
+  /**
+   * The number of top documents for the block max pruning, or 0 if disabled.
+   */
+  private final int        topK;
+
+  /**
+   * The scorers of the required Lucene queries, whose scores are added to the
+   * score of the document.
+   */
+  private final Scorer[] requiredScorers;
+
+  /**
+   * The required scorers and the iterators of the filters, checked before the
+   * node information.
+   */
+  private final DocIdSetIterator[] approximations;
+
+  /**
+   * Flag to know if a required scorer or a filter is exhausted.
+   */
+  private boolean exhausted = false;
+
+  /**
+   * Flag to know if the scores of the documents are used.
+   */
+  private final boolean scoresNeeded;
+
+  /**
+   * The aggregation of the scores of the matching nodes of a document.
+   */
+  private final NodeScoreAggregation scoreAggregation;
+
+  /**
+   * The budget of the search, or null if the work is not bounded.
+   */
+  private NodeQueryBudget budget = null;
+
   public LuceneProxyNodeScorer(final NodeScorer scorer) {
+    this(scorer, 0);
+  }
+
+  public LuceneProxyNodeScorer(final NodeScorer scorer, final int topK) {
+    this(scorer, topK, NO_SCORERS, NO_FILTERS, true, NodeScoreAggregation.SUM);
+  }
+
+  /**
+   * Creates a {@link LuceneProxyNodeScorer} which skips, in
+   * {@link #score(Collector)}, the blocks of documents that cannot enter the
+   * top-k documents.
+   *
+   * @param topK
+   *          The number of top documents retrieved by the collector, or 0 to
+   *          disable the block max pruning. The pruning is disabled if there
+   *          are required scorers or if the scores are not needed.
+   * @param requiredScorers
+   *          The scorers that the documents must match.
+   * @param filters
+   *          The iterators of the filters that the documents must match.
+   * @param scoresNeeded
+   *          If false, the scores of the nodes are not computed, and the
+   *          documents get a constant score of 1. The node scorer must have
+   *          been informed with {@link NodeScorer#setScoresNeeded(boolean)}.
+   * @param scoreAggregation
+   *          How the scores of the matching nodes of a document are
+   *          aggregated.
+   */
+  public LuceneProxyNodeScorer(final NodeScorer scorer, final int topK,
+                               final Scorer[] requiredScorers,
+                               final DocIdSetIterator[] filters,
+                               final boolean scoresNeeded,
+                               final NodeScoreAggregation scoreAggregation) {
     super(scorer.getWeight());
     this.scorer = scorer;
+    this.scoresNeeded = scoresNeeded;
+    this.scoreAggregation = scoreAggregation;
+    this.topK = requiredScorers.length == 0 && scoresNeeded ? topK : 0;
+    this.requiredScorers = requiredScorers;
+    this.approximations = new DocIdSetIterator[requiredScorers.length + filters.length];
+    System.arraycopy(requiredScorers, 0, approximations, 0, requiredScorers.length);
+    System.arraycopy(filters, 0, approximations, requiredScorers.length, filters.length);
+  }
+
+  /**
+   * Sets the budget bounding the work of the node scorer, see
+   * {@link NodeScorer#setBudget(NodeQueryBudget)}. Once the budget is
+   * exhausted, the scorer is exhausted: the document on which the node
+   * scorer ran out of budget is not matched.
+   * <p>
+   * Must be called before the scorer is advanced.
+   */
+  void setBudget(final NodeQueryBudget budget) {
+    this.budget = budget;
+    scorer.setBudget(budget);
+  }
+
+  /**
+   * Returns true if the node scorer ran out of budget.
+   */
+  private boolean isOutOfBudget() {
+    return budget != null && budget.isExhausted();
   }
 
   /**
@@ -50,12 +170,67 @@ class LuceneProxyNodeScorer extends Scorer {
    */
   @Override
   public void score(final Collector collector) throws IOException {
+    if (topK == 0 && approximations.length == 0 && budget == null &&
+        scoreAggregation == NodeScoreAggregation.SUM &&
+        scorer instanceof NodeBooleanScorer) {
+      final List<NodeScorer> clauses = ((NodeBooleanScorer) scorer).getBulkScoreClauses();
+      if (clauses != null) {
+        new NodeBucketScorer(this.getWeight(), clauses, scoresNeeded).score(collector);
+        exhausted = true;
+        return;
+      }
+    }
     collector.setScorer(this);
+    if (topK > 0) {
+      this.scoreTopK(collector);
+      return;
+    }
     while (this.nextDoc() != NO_MORE_DOCS) {
       collector.collect(this.docID());
     }
   }
 
+  /**
+   * Scores and collects the matching documents that can enter the top-k
+   * documents.
+   * <p>
+   * The k-th best score collected so far is used as threshold. A block of
+   * candidate documents is skipped, without loading its node information, if
+   * its block max score is inferior to the threshold. The documents of a
+   * skipped block are not passed to the collector: the collector must retain
+   * at most the k documents with the highest scores, and the total number of
+   * hits it reports is a lower bound.
+   */
+  private void scoreTopK(final Collector collector) throws IOException {
+    final TopScoreQueue topScores = new TopScoreQueue(topK);
+
+    boolean more = scorer.nextCandidateDocument();
+    while (more) {
+      if (topScores.isFull() && scorer.maxScoreInBlock() < topScores.min()) {
+        // no document of the block can enter the top-k, skip the block
+        final int lastDoc = scorer.lastDocInBlock();
+        more = lastDoc < NO_MORE_DOCS - 1 && scorer.skipToCandidate(lastDoc + 1);
+        continue;
+      }
+      if (!this.agree()) {
+        // the node scorer moved to another candidate, check its block again
+        more = !exhausted;
+        continue;
+      }
+      if (scorer.nextNode()) { // check if there is at least 1 node that matches the query
+        // score the document before collecting it, the budget may run out
+        // while iterating over its remaining nodes
+        final float score = this.score();
+        if (this.isOutOfBudget()) {
+          break;
+        }
+        collector.collect(this.docID());
+        topScores.insert(score);
+      }
+      more = scorer.nextCandidateDocument();
+    }
+  }
+
   /**
    * Expert: Collects matching documents in a range. Hook for optimization. Note
    * that {@link #nextDoc()} must be called once before this method is
@@ -83,30 +258,79 @@ class LuceneProxyNodeScorer extends Scorer {
 
   @Override
   public int docID() {
-    return scorer.doc();
+    return exhausted ? NO_MORE_DOCS : scorer.doc();
   }
 
   @Override
   public int advance(final int target)
   throws IOException {
-    if (scorer.skipToCandidate(target)) {
-      do {
-        if (scorer.nextNode()) {
-          return this.docID();
-        }
-      } while (scorer.nextCandidateDocument());
+    if (!scorer.skipToCandidate(target)) {
+      return this.exhaust();
     }
-    return NO_MORE_DOCS;
+    return this.doNext();
   }
 
   @Override
   public int nextDoc()
   throws IOException {
-    while (scorer.nextCandidateDocument()) {
-      if (scorer.nextNode()) { // check if there is at least 1 node that matches the query
-        return this.docID();
+    if (!scorer.nextCandidateDocument()) {
+      return this.exhaust();
+    }
+    return this.doNext();
+  }
+
+  /**
+   * Move to the first matching document, starting from the current candidate
+   * document of the node scorer.
+   */
+  private int doNext() throws IOException {
+    while (true) {
+      if (this.agree()) {
+        if (scorer.nextNode()) { // check if there is at least 1 node that matches the query
+          if (budget != null) {
+            // score the document now, the budget may run out while iterating
+            // over its remaining nodes
+            this.computeScoreAndFreq();
+            if (this.isOutOfBudget()) { // the match or the score may be incomplete
+              return this.exhaust();
+            }
+          }
+          return this.docID();
+        }
+        if (!scorer.nextCandidateDocument()) {
+          return this.exhaust();
+        }
+      }
+      else if (exhausted) {
+        return NO_MORE_DOCS;
       }
     }
+  }
+
+  /**
+   * Check if the required scorers and the filters agree on the current
+   * candidate document of the node scorer. Otherwise, move the node scorer to
+   * the candidate document following the first disagreement, and return false.
+   */
+  private boolean agree() throws IOException {
+    final int doc = scorer.doc();
+    for (final DocIdSetIterator approximation : approximations) {
+      int other = approximation.docID();
+      if (other < doc) {
+        other = approximation.advance(doc);
+      }
+      if (other > doc) {
+        if (other == NO_MORE_DOCS || !scorer.skipToCandidate(other)) {
+          this.exhaust();
+        }
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private int exhaust() {
+    exhausted = true;
     return NO_MORE_DOCS;
   }
 
@@ -146,14 +370,111 @@ class LuceneProxyNodeScorer extends Scorer {
 
     if (doc != lastDoc) {
       lastDoc = doc;
+
+      if (!scoresNeeded) {
+        // the document has been confirmed by its first matching node
+        score = 1;
+        freq = 1;
+        return;
+      }
+
       score = 0;
       freq = 0;
 
-      do { // nextNode() was already called in nextDoc() or in advance()
-        score += scorer.scoreInNode();
+      if (scoreAggregation == NodeScoreAggregation.SUM) {
+        do { // nextNode() was already called in nextDoc() or in advance()
+          score += scorer.scoreInNode();
+          freq += scorer.freqInNode();
+        } while (scorer.nextNode());
+      }
+      else {
+        // nextNode() was already called in nextDoc() or in advance()
+        score = scoreAggregation.first(scorer.scoreInNode());
         freq += scorer.freqInNode();
-      } while (scorer.nextNode());
+        int nodes = 1;
+        final float maxNodeScore = this.maxNodeScore(doc);
+        // stop iterating over the nodes once the score is fixed
+        while (!scoreAggregation.isFixed(score, nodes, maxNodeScore) && scorer.nextNode()) {
+          score = scoreAggregation.aggregate(score, scorer.scoreInNode());
+          freq += scorer.freqInNode();
+          nodes++;
+        }
+      }
+
+      for (final Scorer requiredScorer : requiredScorers) {
+        score += requiredScorer.score();
+      }
     }
   }
 
+  /**
+   * Returns the maximum node score of the block of the current document. The
+   * bound is only computed for the {@link NodeScoreAggregation#MAX}
+   * aggregation, and once per block.
+   */
+  private float maxNodeScore(final int doc) throws IOException {
+    if (scoreAggregation != NodeScoreAggregation.MAX) {
+      return Float.POSITIVE_INFINITY;
+    }
+    if (doc > maxNodeScoreLastDoc) {
+      maxNodeScore = scorer.maxNodeScoreInBlock();
+      maxNodeScoreLastDoc = scorer.lastDocInBlock();
+    }
+    return maxNodeScore;
+  }
+
+  /**
+   * A bounded min-heap of scores, keeping the k highest scores inserted.
+   */
+  private static class TopScoreQueue {
+
+    private final float[] heap;
+    private int size = 0;
+
+    TopScoreQueue(final int k) {
+      heap = new float[k + 1]; // 1-based heap
+    }
+
+    boolean isFull() {
+      return size == heap.length - 1;
+    }
+
+    /**
+     * Returns the lowest of the k highest scores.
+     */
+    float min() {
+      return heap[1];
+    }
+
+    void insert(final float score) {
+      if (!this.isFull()) {
+        // up heap
+        int i = ++size;
+        while (i > 1 && heap[i >>> 1] > score) {
+          heap[i] = heap[i >>> 1];
+          i >>>= 1;
+        }
+        heap[i] = score;
+      }
+      else if (score > heap[1]) {
+        // replace the top and down heap
+        int i = 1;
+        int j = 2;
+        while (j <= size) {
+          if (j < size && heap[j + 1] < heap[j]) {
+            j++;
+          }
+          if (heap[j] >= score) {
+            break;
+          }
+          heap[i] = heap[j];
+          i = j;
+          j = i << 1;
+        }
+        heap[i] = score;
+      }
+    }
+
+  }
+
 }
@@ -45,13 +45,14 @@ import org.sindice.siren.search.node.NodeBooleanClause.Occur;
  * FilteredTermsEnum} that iterates through the terms to be
  * matched.
  *
- * <p><b>NOTE</b>: since {@link #CONSTANT_SCORE_FILTER_REWRITE} is deactivated
- * in SIREn, the {@link #setRewriteMethod} will always be either
+ * <p><b>NOTE</b>: if {@link #setRewriteMethod} is either
  * {@link #CONSTANT_SCORE_BOOLEAN_QUERY_REWRITE} or {@link
- * #SCORING_BOOLEAN_QUERY_REWRITE}. Therefore, you may encounter a
+ * #SCORING_BOOLEAN_QUERY_REWRITE}, you may encounter a
  * {@link NodeBooleanQuery.TooManyClauses} exception during
  * searching, which happens when the number of terms to be
  * searched exceeds {@link NodeBooleanQuery#getMaxClauseCount()}.
+ * Setting {@link #setRewriteMethod} to {@link #CONSTANT_SCORE_FILTER_REWRITE}
+ * prevents this.
  *
  * <p>The recommended rewrite method is {@link
  * #CONSTANT_SCORE_AUTO_REWRITE_DEFAULT}: it doesn't spend CPU
@@ -95,12 +96,11 @@ public abstract class MultiNodeTermQuery extends NodePrimitiveQuery {
   }
 
   /**
-   * Rewrite method currently deactivated in SIREn.
-   *
-   * <p> A rewrite method that first creates a private Filter,
-   * by visiting each term in sequence and marking all docs
-   * for that term.  Matching documents are assigned a
-   * constant score equal to the query's boost.
+   * A rewrite method that first creates a private set of
+   * documents and nodes, by visiting each term in sequence
+   * and merging all the docs and nodes for that term.
+   * Matching nodes are assigned a constant score equal to
+   * the query's boost.
    *
    * <p> This method is faster than the BooleanQuery
    * rewrite methods when the number of matched terms or
@@ -114,16 +114,7 @@ public abstract class MultiNodeTermQuery extends NodePrimitiveQuery {
 
     @Override
     public Query rewrite(final IndexReader reader, final MultiNodeTermQuery query) {
-
-      // TODO: Reactivate filter-based approach when a correct implementation of
-      // SirenMultiTermQueryWrapperFilter is found.
-
-//      Query result = new ConstantScoreQuery(new SirenMultiTermQueryWrapperFilter<MultiTermQuery>(query));
-//      result.setBoost(query.getBoost());
-//      return result;
-
-      throw new UnsupportedOperationException("Filter-based rewrite method " +
-      		"is currently deactivated");
+      return new MultiNodeTermQueryConstantScoreWrapper<MultiNodeTermQuery>(query);
     }
 
   };
@@ -256,9 +247,6 @@ public abstract class MultiNodeTermQuery extends NodePrimitiveQuery {
    * #CONSTANT_SCORE_BOOLEAN_QUERY_REWRITE} is used.
    * Otherwise, {@link #CONSTANT_SCORE_FILTER_REWRITE} is
    * used.
-   *
-   * <p> The {@link #CONSTANT_SCORE_FILTER_REWRITE} method is currently
-   * deactivated in SIREn.
    */
   static class NodeConstantScoreAutoRewrite extends org.sindice.siren.search.node.NodeConstantScoreAutoRewrite {}
 
@@ -0,0 +1,216 @@
+/**
+ * Copyright 2014 National University of Ireland, Galway.
+ *
+ * This file is part of the SIREn project. Project and contact information:
+ *
+ *  https://github.com/rdelbru/SIREn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.sindice.siren.search.node;
+
+import java.io.IOException;
+
+import org.apache.lucene.index.AtomicReaderContext;
+import org.apache.lucene.index.DocsAndPositionsEnum;
+import org.apache.lucene.index.Terms;
+import org.apache.lucene.index.TermsEnum;
+import org.apache.lucene.search.ComplexExplanation;
+import org.apache.lucene.search.Explanation;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.Scorer;
+import org.apache.lucene.search.Weight;
+import org.apache.lucene.util.Bits;
+import org.apache.lucene.util.ToStringUtils;
+
+/**
+ * A query that wraps a {@link MultiNodeTermQuery} and returns a constant score
+ * equal to the query boost for every node matching one of its terms.
+ *
+ * <p>
+ *
+ * For each segment, the matching terms are visited once, and the documents and
+ * nodes of their postings are merged into a {@link NodeDocIdSet}, over which
+ * the matching nodes are iterated. In contrast to the boolean query rewrite
+ * methods, the number of terms is not limited by
+ * {@link NodeBooleanQuery#getMaxClauseCount()}.
+ *
+ * @see MultiNodeTermQuery#CONSTANT_SCORE_FILTER_REWRITE
+ */
+class MultiNodeTermQueryConstantScoreWrapper<Q extends MultiNodeTermQuery>
+extends NodePrimitiveQuery {
+
+  protected final Q query;
+
+  MultiNodeTermQueryConstantScoreWrapper(final Q query) {
+    this.query = query;
+    this.setBoost(query.getBoost());
+    this.levelConstraint = query.levelConstraint;
+    this.lowerBound = query.lowerBound;
+    this.upperBound = query.upperBound;
+    this.ancestor = query.ancestor;
+    this.datatype = query.datatype;
+  }
+
+  @Override
+  protected void setAncestorPointer(final NodeQuery ancestor) {
+    super.setAncestorPointer(ancestor);
+    // keep encapsulated query synchronised
+    query.setAncestorPointer(ancestor);
+  }
+
+  @Override
+  public void setNodeConstraint(final int lowerBound, final int upperBound) {
+    super.setNodeConstraint(lowerBound, upperBound);
+    // keep encapsulated query synchronised
+    query.setNodeConstraint(lowerBound, upperBound);
+  }
+
+  @Override
+  public void setLevelConstraint(final int levelConstraint) {
+    super.setLevelConstraint(levelConstraint);
+    // keep encapsulated query synchronised
+    query.setLevelConstraint(levelConstraint);
+  }
+
+  /**
+   * Merge the documents and nodes of the terms matching the query in the given
+   * segment, or return null if there are no matching terms.
+   */
+  NodeDocIdSet getNodeDocIdSet(final AtomicReaderContext context,
+                               final Bits acceptDocs)
+  throws IOException {
+    final Terms terms = context.reader().terms(query.field);
+    if (terms == null) { // field does not exist
+      return null;
+    }
+
+    final TermsEnum termsEnum = query.getTermsEnum(terms);
+    assert termsEnum != null;
+    if (termsEnum.next() == null) { // no matching terms
+      return null;
+    }
+
+    final NodeDocIdSet.Builder builder = new NodeDocIdSet.Builder(context.reader().maxDoc());
+    DocsAndPositionsEnum docsEnum = null;
+    do {
+      docsEnum = termsEnum.docsAndPositions(acceptDocs, docsEnum);
+      // apply the node constraints of the query
+      builder.add(query.getDocsNodesAndPositionsEnum(docsEnum));
+    } while (termsEnum.next() != null);
+
+    return builder.build();
+  }
+
+  protected class ConstantWeight extends Weight {
+
+    private float queryNorm;
+    private float queryWeight;
+
+    @Override
+    public Query getQuery() {
+      return MultiNodeTermQueryConstantScoreWrapper.this;
+    }
+
+    @Override
+    public float getValueForNormalization() throws IOException {
+      queryWeight = MultiNodeTermQueryConstantScoreWrapper.this.getBoost();
+      return queryWeight * queryWeight;
+    }
+
+    @Override
+    public void normalize(final float norm, final float topLevelBoost) {
+      this.queryNorm = norm * topLevelBoost;
+      queryWeight *= this.queryNorm;
+    }
+
+    @Override
+    public Scorer scorer(final AtomicReaderContext context, final boolean scoreDocsInOrder,
+                         final boolean topScorer, final Bits acceptDocs)
+    throws IOException {
+      final NodeDocIdSet set = MultiNodeTermQueryConstantScoreWrapper.this.getNodeDocIdSet(context, acceptDocs);
+      if (set == null || set.size() == 0) {
+        return null;
+      }
+      return new NodeDocIdSetScorer(this, set, queryWeight);
+    }
+
+    @Override
+    public Explanation explain(final AtomicReaderContext context, final int doc)
+    throws IOException {
+      final NodeScorer cs = (NodeScorer) this.scorer(context, true, false,
+        context.reader().getLiveDocs());
+      final boolean exists = (cs != null &&
+                              cs.skipToCandidate(doc) &&
+                              cs.doc() == doc &&
+                              cs.nextNode());
+
+      final ComplexExplanation result = new ComplexExplanation();
+      if (exists) {
+        result.setDescription(MultiNodeTermQueryConstantScoreWrapper.this.toString() + ", product of:");
+        result.setValue(queryWeight);
+        result.setMatch(Boolean.TRUE);
+        result.addDetail(new Explanation(MultiNodeTermQueryConstantScoreWrapper.this.getBoost(), "boost"));
+        result.addDetail(new Explanation(queryNorm, "queryNorm"));
+      } else {
+        result.setDescription(MultiNodeTermQueryConstantScoreWrapper.this.toString() + " doesn't match id " + doc);
+        result.setValue(0);
+        result.setMatch(Boolean.FALSE);
+      }
+      return result;
+    }
+
+  }
+
+  @Override
+  public Weight createWeight(final IndexSearcher searcher) throws IOException {
+    return new ConstantWeight();
+  }
+
+  @Override
+  public String toString(final String field) {
+    return new StringBuilder("NodeConstantScore(")
+      .append(query.toString(field))
+      .append(')')
+      .append(ToStringUtils.boost(this.getBoost()))
+      .toString();
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) return true;
+    if (!super.equals(o))
+      return false;
+    if (o instanceof MultiNodeTermQueryConstantScoreWrapper) {
+      final MultiNodeTermQueryConstantScoreWrapper<?> other = (MultiNodeTermQueryConstantScoreWrapper<?>) o;
+      return this.query.equals(other.query) &&
+        this.levelConstraint == other.levelConstraint &&
+        this.lowerBound == other.lowerBound &&
+        this.upperBound == other.upperBound;
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    final int prime = 31;
+    int result = super.hashCode();
+    result = prime * result + query.hashCode();
+    result = prime * result + lowerBound;
+    result = prime * result + upperBound;
+    result = prime * result + levelConstraint;
+    return result;
+  }
+
+}
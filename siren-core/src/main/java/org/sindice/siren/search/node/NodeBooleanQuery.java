@@ -75,6 +75,30 @@ public class NodeBooleanQuery extends NodeQuery {
     NodeBooleanQuery.maxClauseCount = maxClauseCount;
   }
 
+  private static int minBulkScoreClauseCount = 32;
+
+  /**
+   * Return the minimum number of optional clauses of a query without required
+   * and prohibited clauses from which the matching documents are scored by
+   * windows of documents, 32 by default.
+   *
+   * @see #setMinBulkScoreClauseCount(int)
+   * @see NodeBucketScorer
+   */
+  public static int getMinBulkScoreClauseCount() {
+    return minBulkScoreClauseCount;
+  }
+
+  /**
+   * Set the minimum number of optional clauses from which the matching
+   * documents are scored by windows of documents. Default value is 32.
+   */
+  public static void setMinBulkScoreClauseCount(final int minBulkScoreClauseCount) {
+    if (minBulkScoreClauseCount < 2)
+      throw new IllegalArgumentException("minBulkScoreClauseCount must be >= 2");
+    NodeBooleanQuery.minBulkScoreClauseCount = minBulkScoreClauseCount;
+  }
+
   protected ArrayList<NodeBooleanClause> clauses = new ArrayList<NodeBooleanClause>();
 
   /** Constructs an empty boolean query. */
@@ -222,6 +222,73 @@ class NodeBooleanScorer extends NodeScorer {
     return countingSumScorer.skipToCandidate(target);
   }
 
+  @Override
+  public int lastDocInBlock() throws IOException {
+    return countingSumScorer.lastDocInBlock();
+  }
+
+  /**
+   * The coordination factors are all equal to 1, the block max score of the
+   * counting sum scorer is therefore not weighted.
+   */
+  @Override
+  public float maxScoreInBlock() throws IOException {
+    return countingSumScorer.maxScoreInBlock();
+  }
+
+  @Override
+  public long cost() {
+    return countingSumScorer.cost();
+  }
+
+  /**
+   * Forward the flag to the required, optional and prohibited scorers. The
+   * counting scorers only compute the scores on demand.
+   */
+  @Override
+  public void setScoresNeeded(final boolean scoresNeeded) {
+    for (final NodeScorer scorer : requiredScorers) {
+      scorer.setScoresNeeded(scoresNeeded);
+    }
+    for (final NodeScorer scorer : optionalScorers) {
+      scorer.setScoresNeeded(scoresNeeded);
+    }
+    for (final NodeScorer scorer : prohibitedScorers) {
+      scorer.setScoresNeeded(false);
+    }
+  }
+
+  @Override
+  public void setBudget(final NodeQueryBudget budget) {
+    for (final NodeScorer scorer : requiredScorers) {
+      scorer.setBudget(budget);
+    }
+    for (final NodeScorer scorer : optionalScorers) {
+      scorer.setBudget(budget);
+    }
+    for (final NodeScorer scorer : prohibitedScorers) {
+      scorer.setBudget(budget);
+    }
+  }
+
+  /**
+   * Return the optional scorers if the documents can be scored by a
+   * {@link NodeBucketScorer}, i.e., if there are only optional scorers and at
+   * least {@link NodeBooleanQuery#getMinBulkScoreClauseCount()} of them, and
+   * if this scorer has not been moved yet. Return null otherwise.
+   * <p>
+   * The coordination factors are all equal to 1, the score of a node is
+   * therefore the sum of the scores of the optional scorers matching it.
+   */
+  List<NodeScorer> getBulkScoreClauses() {
+    if (requiredScorers.isEmpty() && prohibitedScorers.isEmpty() &&
+        optionalScorers.size() >= NodeBooleanQuery.getMinBulkScoreClauseCount() &&
+        this.doc() == -1) {
+      return optionalScorers;
+    }
+    return null;
+  }
+
   @Override
   public Collection<ChildScorer> getChildren() {
     final ArrayList<ChildScorer> children = new ArrayList<ChildScorer>();
@@ -308,6 +375,21 @@ class NodeBooleanScorer extends NodeScorer {
       return scorer.skipToCandidate(target);
     }
 
+    @Override
+    public int lastDocInBlock() throws IOException {
+      return scorer.lastDocInBlock();
+    }
+
+    @Override
+    public float maxScoreInBlock() throws IOException {
+      return scorer.maxScoreInBlock();
+    }
+
+    @Override
+    public long cost() {
+      return scorer.cost();
+    }
+
     @Override
     public String toString() {
       return "SingleMatchScorer(" + weight + "," + this.doc() + "," +
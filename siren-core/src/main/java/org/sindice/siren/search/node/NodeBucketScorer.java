@@ -0,0 +1,218 @@
+/**
+ * Copyright 2014 National University of Ireland, Galway.
+ *
+ * This file is part of the SIREn project. Project and contact information:
+ *
+ *  https://github.com/rdelbru/SIREn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.sindice.siren.search.node;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.Scorer;
+import org.apache.lucene.search.Weight;
+import org.sindice.siren.index.DocsAndNodesIterator;
+
+/**
+ * Scores and collects the documents matching a large disjunction of
+ * {@link NodeScorer}s by windows of documents, without maintaining a heap of
+ * the scorers.
+ *
+ * <p>
+ *
+ * For each window of {@link #WINDOW_SIZE} documents, the candidate documents
+ * of each scorer within the window are checked and scored one scorer after
+ * the other, and their scores and number of matching nodes are accumulated
+ * into buckets. The documents of the window having at least one matching
+ * node are then collected in order.
+ *
+ * <p>
+ *
+ * The nodes of the scorers are not merged: the score of a document is the sum
+ * of the scores of each node of each scorer, which is equal to the sum over
+ * the nodes of the disjunction of the scores of the scorers matching the node.
+ * If the scores are not needed, a document is marked as matching at the first
+ * matching node of a scorer, and is collected with a constant score of 1.
+ *
+ * <p>
+ *
+ * Code inspired by {@link org.apache.lucene.search.BooleanScorer} and adapted
+ * for the Siren use case.
+ */
+class NodeBucketScorer {
+
+  static final int WINDOW_SIZE = 2048;
+
+  private final NodeScorer[] scorers;
+
+  private final float[] scores = new float[WINDOW_SIZE];
+
+  private final int[] freqs = new int[WINDOW_SIZE];
+
+  /** The bit set of the buckets having a match */
+  private final long[] matches = new long[WINDOW_SIZE >>> 6];
+
+  private final BucketScorer bucketScorer;
+
+  private final boolean scoresNeeded;
+
+  /**
+   * @param scorers
+   *          The scorers of the disjunction. They must be positioned on their
+   *          first candidate document, or be exhausted.
+   * @param scoresNeeded
+   *          If false, the scores of the nodes are not computed.
+   */
+  NodeBucketScorer(final Weight weight, final List<NodeScorer> scorers,
+                   final boolean scoresNeeded) {
+    this.scorers = scorers.toArray(new NodeScorer[scorers.size()]);
+    this.bucketScorer = new BucketScorer(weight);
+    this.scoresNeeded = scoresNeeded;
+  }
+
+  void score(final Collector collector) throws IOException {
+    collector.setScorer(bucketScorer);
+
+    int base = this.minDoc();
+    while (base != DocsAndNodesIterator.NO_MORE_DOC) {
+      // the first window starts at the first candidate document
+      final int end = base > DocsAndNodesIterator.NO_MORE_DOC - WINDOW_SIZE
+                      ? DocsAndNodesIterator.NO_MORE_DOC
+                      : base + WINDOW_SIZE;
+      for (final NodeScorer scorer : scorers) {
+        this.fill(scorer, base, end);
+      }
+      this.collect(collector, base);
+      base = this.minDoc();
+    }
+  }
+
+  /**
+   * Check and score the candidate documents of the scorer that are within
+   * the window.
+   */
+  private void fill(final NodeScorer scorer, final int base, final int end)
+  throws IOException {
+    int doc = scorer.doc();
+    if (!scoresNeeded) {
+      while (doc < end) {
+        if (scorer.nextNode()) {
+          final int slot = doc - base;
+          scores[slot] = 1;
+          freqs[slot] = 1;
+          matches[slot >>> 6] |= 1L << slot;
+        }
+        if (!scorer.nextCandidateDocument()) {
+          return;
+        }
+        doc = scorer.doc();
+      }
+      return;
+    }
+    while (doc < end) {
+      float score = 0;
+      int freq = 0;
+      while (scorer.nextNode()) {
+        score += scorer.scoreInNode();
+        freq++;
+      }
+      if (freq > 0) {
+        final int slot = doc - base;
+        scores[slot] += score;
+        freqs[slot] += freq;
+        matches[slot >>> 6] |= 1L << slot;
+      }
+      if (!scorer.nextCandidateDocument()) {
+        return;
+      }
+      doc = scorer.doc();
+    }
+  }
+
+  /**
+   * Collect in order the documents of the window having a match, and reset
+   * their buckets.
+   */
+  private void collect(final Collector collector, final int base)
+  throws IOException {
+    for (int i = 0; i < matches.length; i++) {
+      long bits = matches[i];
+      while (bits != 0) {
+        final int slot = (i << 6) | Long.numberOfTrailingZeros(bits);
+        bits &= bits - 1;
+        bucketScorer.doc = base + slot;
+        bucketScorer.score = scores[slot];
+        bucketScorer.freq = freqs[slot];
+        scores[slot] = 0;
+        freqs[slot] = 0;
+        collector.collect(bucketScorer.doc);
+      }
+      matches[i] = 0;
+    }
+  }
+
+  private int minDoc() {
+    int min = DocsAndNodesIterator.NO_MORE_DOC;
+    for (final NodeScorer scorer : scorers) {
+      min = Math.min(min, scorer.doc());
+    }
+    return min;
+  }
+
+  /**
+   * The scorer passed to the collector, which returns the score of the
+   * collected bucket.
+   */
+  private static final class BucketScorer extends Scorer {
+
+    int doc = -1;
+    float score;
+    int freq;
+
+    BucketScorer(final Weight weight) {
+      super(weight);
+    }
+
+    @Override
+    public float score() {
+      return score;
+    }
+
+    @Override
+    public float freq() {
+      return freq;
+    }
+
+    @Override
+    public int docID() {
+      return doc;
+    }
+
+    @Override
+    public int nextDoc() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public int advance(final int target) {
+      throw new UnsupportedOperationException();
+    }
+
+  }
+
+}
@@ -56,6 +56,25 @@ class NodeConjunctionScorer extends NodeScorer {
 
   protected int              lastDocument = -1;
 
+  /** True once the scorers have been aligned on their first common document */
+  private boolean            initialized  = false;
+
+  /** Orders the scorers by their current document */
+  private static final Comparator<NodeScorer> DOC_COMPARATOR = new Comparator<NodeScorer>() {
+    public int compare(final NodeScorer o1, final NodeScorer o2) {
+      return o1.doc() - o2.doc();
+    }
+  };
+
+  /** Orders the scorers by increasing cost, see {@link NodeScorer#cost()} */
+  static final Comparator<NodeScorer> COST_COMPARATOR = new Comparator<NodeScorer>() {
+    public int compare(final NodeScorer o1, final NodeScorer o2) {
+      final long c1 = o1.cost();
+      final long c2 = o2.cost();
+      return c1 < c2 ? -1 : (c1 == c2 ? 0 : 1);
+    }
+  };
+
   public NodeConjunctionScorer(final Weight weight, final float coord,
                                final Collection<NodeScorer> scorers)
   throws IOException {
@@ -68,10 +87,16 @@ class NodeConjunctionScorer extends NodeScorer {
     super(weight);
     this.scorers = scorers;
     this.coord = coord;
-    this.init();
   }
 
+  /**
+   * Align the scorers on their first common candidate document. This is done
+   * on the first call to {@link #nextCandidateDocument()} or
+   * {@link #skipToCandidate(int)}, so that it is bounded by the budget set
+   * after the construction of the scorer.
+   */
   private void init() throws IOException {
+    initialized = true;
     for (final NodeScorer scorer : scorers) {
       if (!scorer.nextCandidateDocument()) {
         // If even one of the sub-scorers does not have any documents, this
@@ -89,11 +114,7 @@ class NodeConjunctionScorer extends NodeScorer {
     // Note that this comparator is not consistent with equals!
     // Also we use mergeSort here to be stable (so order of Scorers that
     // match on first document keeps preserved):
-    ArrayUtil.mergeSort(scorers, new Comparator<NodeScorer>() { // sort the array
-      public int compare(final NodeScorer o1, final NodeScorer o2) {
-        return o1.doc() - o2.doc();
-      }
-    });
+    ArrayUtil.mergeSort(scorers, DOC_COMPARATOR); // sort the array
 
     // NOTE: doNext() must be called before the re-sorting of the array later on.
     // The reason is this: assume there are 5 scorers, whose first docs are 1,
@@ -123,6 +144,31 @@ class NodeConjunctionScorer extends NodeScorer {
       scorers[i] = scorers[end - i - 1];
       scorers[end - i - 1] = tmp;
     }
+
+    // The cost is a better predictor of the scorer sparseness. The above order
+    // is kept only among the scorers of equal cost.
+    this.sortByCost();
+  }
+
+  /**
+   * Move the rarest scorer to the last place, so that it leads the
+   * conjunction, and sort the others by increasing cost, so that they are
+   * skipped on from the rarest to the most common one.
+   */
+  private void sortByCost() {
+    final int end = scorers.length - 1;
+    int lead = end;
+    for (int i = end - 1; i >= 0; i--) {
+      if (scorers[i].cost() < scorers[lead].cost()) {
+        lead = i;
+      }
+    }
+    final NodeScorer leadScorer = scorers[lead];
+    System.arraycopy(scorers, lead + 1, scorers, lead, end - lead);
+    scorers[end] = leadScorer;
+
+    // stable sort to keep the order of the scorers of equal cost
+    ArrayUtil.mergeSort(scorers, 0, end, COST_COMPARATOR);
   }
 
   /**
@@ -146,6 +192,9 @@ class NodeConjunctionScorer extends NodeScorer {
 
   @Override
   public boolean skipToCandidate(final int target) throws IOException {
+    if (!initialized) {
+      this.init();
+    }
     if (lastDocument == DocsAndNodesIterator.NO_MORE_DOC) {
       return false;
     }
@@ -170,6 +219,9 @@ class NodeConjunctionScorer extends NodeScorer {
 
   @Override
   public boolean nextCandidateDocument() throws IOException {
+    if (!initialized) {
+      this.init();
+    }
     if (lastDocument == DocsAndNodesIterator.NO_MORE_DOC) {
       return false;
     }
@@ -230,6 +282,60 @@ class NodeConjunctionScorer extends NodeScorer {
     return curNodeScore * coord;
   }
 
+  /**
+   * Returns the cost of the rarest scorer.
+   */
+  @Override
+  public long cost() {
+    long cost = Long.MAX_VALUE;
+    for (final NodeScorer scorer : scorers) {
+      cost = Math.min(cost, scorer.cost());
+    }
+    return cost;
+  }
+
+  @Override
+  public void setScoresNeeded(final boolean scoresNeeded) {
+    for (final NodeScorer scorer : scorers) {
+      scorer.setScoresNeeded(scoresNeeded);
+    }
+  }
+
+  @Override
+  public void setBudget(final NodeQueryBudget budget) {
+    for (final NodeScorer scorer : scorers) {
+      scorer.setBudget(budget);
+    }
+  }
+
+  /**
+   * All the scorers are positioned on the same candidate document. The block
+   * of the conjunction ends with the first block ending among the scorers.
+   */
+  @Override
+  public int lastDocInBlock() throws IOException {
+    if (lastDocument == DocsAndNodesIterator.NO_MORE_DOC) {
+      return lastDocument;
+    }
+    int lastDoc = DocsAndNodesIterator.NO_MORE_DOC;
+    for (final NodeScorer scorer : scorers) {
+      lastDoc = Math.min(lastDoc, scorer.lastDocInBlock());
+    }
+    return lastDoc;
+  }
+
+  @Override
+  public float maxScoreInBlock() throws IOException {
+    if (lastDocument == DocsAndNodesIterator.NO_MORE_DOC) {
+      return 0;
+    }
+    float maxScore = 0;
+    for (final NodeScorer scorer : scorers) {
+      maxScore += scorer.maxScoreInBlock();
+    }
+    return maxScore * coord;
+  }
+
   @Override
   public String toString() {
     return "NodeConjunctionScorer(" + weight + "," + lastDocument + "," + lastNode + ")";
@@ -43,19 +43,18 @@ import org.sindice.siren.search.node.NodeBooleanClause.Occur;
  *
  * <p>
  *
- * Term and document cutoffs are deactivated to disable {@link
- * MultiNodeTermQuery#CONSTANT_SCORE_FILTER_REWRITE}.
- *
- * <p>
- *
  * Code taken from {@link ConstantScoreAutoRewrite} and adapted for SIREn.
  */
 class NodeConstantScoreAutoRewrite extends NodeTermCollectingRewrite<NodeBooleanQuery> {
 
-  // Term cutoff deactivated until a efficient filter-based approach is found
-  public static int DEFAULT_TERM_COUNT_CUTOFF = Integer.MAX_VALUE;
+  // Defaults derived from rough tests with a 20.0 million
+  // doc Wikipedia index.  With more than 350 terms in the
+  // query, the filter method is fastest:
+  public static int DEFAULT_TERM_COUNT_CUTOFF = 350;
 
-  // Document cutoff deactivated until a efficient filter-based approach is found
+  // Document cutoff deactivated: in contrast to a Lucene filter, the
+  // filter method keeps the nodes of each matching doc, and its cost grows
+  // with the number of visited docs as the boolean method does
   public static double DEFAULT_DOC_COUNT_PERCENT = Integer.MAX_VALUE;
 
   private int termCountCutoff = DEFAULT_TERM_COUNT_CUTOFF;
@@ -102,9 +101,12 @@ class NodeConstantScoreAutoRewrite extends NodeTermCollectingRewrite<NodeBoolean
   @Override
   public Query rewrite(final IndexReader reader, final MultiNodeTermQuery query) throws IOException {
 
-    // Disabled cutoffs
-    final int docCountCutoff = Integer.MAX_VALUE;
-    final int termCountLimit = Integer.MAX_VALUE;
+    // Get the enum and start visiting terms.  If we
+    // exhaust the enum before hitting either of the
+    // cutoffs, we use ConstantBooleanQueryRewrite; else,
+    // ConstantFilterRewrite:
+    final int docCountCutoff = (int) ((docCountPercent / 100.) * reader.maxDoc());
+    final int termCountLimit = Math.min(NodeBooleanQuery.getMaxClauseCount(), termCountCutoff);
 
     final CutOffTermCollector col = new CutOffTermCollector(docCountCutoff, termCountLimit);
     this.collectTerms(reader, query, col);
@@ -30,7 +30,6 @@ import org.apache.lucene.index.Term;
 import org.apache.lucene.search.ComplexExplanation;
 import org.apache.lucene.search.ConstantScoreQuery;
 import org.apache.lucene.search.Explanation;
-import org.apache.lucene.search.Filter;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.Scorer;
@@ -38,6 +37,7 @@ import org.apache.lucene.search.Weight;
 import org.apache.lucene.util.Bits;
 import org.apache.lucene.util.IntsRef;
 import org.apache.lucene.util.ToStringUtils;
+import org.sindice.siren.index.DocsAndNodesIterator;
 
 /**
  * A query that wraps another query or a filter and simply returns a constant
@@ -51,7 +51,7 @@ import org.apache.lucene.util.ToStringUtils;
  */
 public class NodeConstantScoreQuery extends NodePrimitiveQuery {
 
-  protected final Filter filter;
+  protected final NodeFilter filter;
   protected final NodeQuery query;
 
   /**
@@ -65,24 +65,28 @@ public class NodeConstantScoreQuery extends NodePrimitiveQuery {
     this.query = query;
   }
 
-// TODO: Activate filters when Siren will support filters.
-//  /** Wraps a Filter as a Query. The hits will get a constant score
-//   * dependent on the boost factor of this query.
-//   * If you simply want to strip off scores from a Query, no longer use
-//   * {@code new ConstantScoreQuery(new QueryWrapperFilter(query))}, instead
-//   * use {@link #ConstantScoreQuery(Query)}!
-//   */
-//  public SirenConstantScoreQuery(final SirenFilter filter) {
-//    if (filter == null)
-//      throw new NullPointerException("Filter may not be null");
-//    this.filter = filter;
-//    this.query = null;
-//  }
-//
-//  /** Returns the encapsulated filter, returns {@code null} if a query is wrapped. */
-//  public SirenFilter getFilter() {
-//    return filter;
-//  }
+  /**
+   * Wraps a {@link NodeFilter} as a query. The hits will get a constant score
+   * dependent on the boost factor of this query.
+   * <p>
+   * The level and node constraints of this query, and the ones of its
+   * ancestors, are applied on the nodes of the filter. If you simply want to
+   * strip off scores from a query, use
+   * {@link #NodeConstantScoreQuery(NodeQuery)} instead.
+   */
+  public NodeConstantScoreQuery(final NodeFilter filter) {
+    if (filter == null)
+      throw new NullPointerException("Filter may not be null");
+    this.filter = filter;
+    this.query = null;
+  }
+
+  /**
+   * Returns the encapsulated filter, returns {@code null} if a query is wrapped.
+   */
+  public NodeFilter getFilter() {
+    return filter;
+  }
 
   /**
    * Returns the encapsulated query, returns {@code null} if a filter is wrapped.
@@ -95,21 +99,21 @@ public class NodeConstantScoreQuery extends NodePrimitiveQuery {
   protected void setAncestorPointer(final NodeQuery ancestor) {
     super.setAncestorPointer(ancestor);
     // keep encapsulated query synchronised
-    query.setAncestorPointer(ancestor);
+    if (query != null) query.setAncestorPointer(ancestor);
   }
 
   @Override
   public void setNodeConstraint(final int lowerBound, final int upperBound) {
     super.setNodeConstraint(lowerBound, upperBound);
     // keep encapsulated query synchronised
-    query.setNodeConstraint(lowerBound, upperBound);
+    if (query != null) query.setNodeConstraint(lowerBound, upperBound);
   }
 
   @Override
   public void setLevelConstraint(final int levelConstraint) {
     super.setLevelConstraint(levelConstraint);
     // keep encapsulated query synchronised
-    query.setLevelConstraint(levelConstraint);
+    if (query != null) query.setLevelConstraint(levelConstraint);
   }
 
   @Override
@@ -170,22 +174,22 @@ public class NodeConstantScoreQuery extends NodePrimitiveQuery {
     public Scorer scorer(final AtomicReaderContext context, final boolean scoreDocsInOrder,
                          final boolean topScorer, final Bits acceptDocs)
     throws IOException {
-
-      // TODO: Activate filters when Siren will support filters.
-
-//      if (filter != null) {
-//        assert query == null;
-//        final DocIdSet dis = filter.getDocIdSet(reader);
-//        if (dis == null)
-//          return null;
-//        disi = dis.iterator();
-//      } else {
+      if (filter != null) {
+        assert query == null;
+        final NodeDocIdSet set = filter.getNodeDocIdSet(context, acceptDocs);
+        if (set == null || set.size() == 0) {
+          return null;
+        }
+        // the set may be shared, e.g., cached: filter the accepted documents
+        // and apply the constraints of this query while iterating
+        final DocsAndNodesIterator iterator = NodeConstantScoreQuery.this
+          .getConstrainedNodesEnum(set.withAcceptDocs(acceptDocs).iterator());
+        return new NodeDocIdSetScorer(this, iterator, set.size(), queryWeight);
+      }
 
       assert query != null && innerWeight != null;
       final NodeScorer scorer = (NodeScorer) innerWeight.scorer(context, scoreDocsInOrder, topScorer, acceptDocs);
 
-//      }
-
       if (scorer == null) {
         return null;
       }
@@ -272,6 +276,21 @@ public class NodeConstantScoreQuery extends NodePrimitiveQuery {
       return scorer.skipToCandidate(target);
     }
 
+    @Override
+    public long cost() {
+      return scorer.cost();
+    }
+
+    @Override
+    public void setScoresNeeded(final boolean scoresNeeded) {
+      scorer.setScoresNeeded(scoresNeeded);
+    }
+
+    @Override
+    public void setBudget(final NodeQueryBudget budget) {
+      scorer.setBudget(budget);
+    }
+
   }
 
   @Override
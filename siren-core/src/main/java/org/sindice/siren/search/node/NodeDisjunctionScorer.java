@@ -26,6 +26,7 @@ import java.util.List;
 
 import org.apache.lucene.search.Weight;
 import org.apache.lucene.util.IntsRef;
+import org.sindice.siren.index.DocsAndNodesIterator;
 
 /**
  * A {@link NodeScorer} for OR like queries within a node, counterpart of
@@ -58,13 +59,20 @@ class NodeDisjunctionScorer extends NodeScorer {
    * number of matching scorers, and all scorers are after the matching doc, or
    * are exhausted.
    */
-  private NodeDisjunctionScorerQueue     nodeScorerQueue = null;
+  private final NodeDisjunctionScorerQueue nodeScorerQueue;
+
+  /** True once the subscorers have been added to the queue */
+  private boolean                        initialized     = false;
 
   /** The document number of the current match. */
   private int                            currentDoc      = -1;
 
   private IntsRef                        currentNode     = new IntsRef(new int[] { -1 }, 0, 1);
 
+  /** The last document and the max score of the current block. */
+  private int                            blockLastDoc;
+  private float                          blockMaxScore;
+
   /**
    * Construct a {@link NodeDisjunctionScorer}.
    *
@@ -81,18 +89,21 @@ class NodeDisjunctionScorer extends NodeScorer {
       throw new IllegalArgumentException("There must be at least 2 subScorers");
     }
     this.scorers = scorers;
-    nodeScorerQueue  = this.initNodeScorerQueue();
+    nodeScorerQueue = new NodeDisjunctionScorerQueue(nrScorers);
   }
 
   /**
-   * Initialize the {@link NodeDisjunctionScorerQueue}.
+   * Initialize the {@link NodeDisjunctionScorerQueue}, which advances the
+   * subscorers to their first candidate document. This is done on the first
+   * call to {@link #nextCandidateDocument()} or {@link #skipToCandidate(int)},
+   * so that it is bounded by the budget set after the construction of the
+   * scorer.
    */
-  private NodeDisjunctionScorerQueue initNodeScorerQueue() throws IOException {
-    final NodeDisjunctionScorerQueue nodeQueue = new NodeDisjunctionScorerQueue(nrScorers);
+  private void initNodeScorerQueue() throws IOException {
+    initialized = true;
     for (final NodeScorer s : scorers) {
-      nodeQueue.put(s);
+      nodeScorerQueue.put(s);
     }
-    return nodeQueue;
   }
 
   @Override
@@ -118,8 +129,11 @@ class NodeDisjunctionScorer extends NodeScorer {
     boolean more = true;
 
     // The first time nextCandidateDocument is called, we must not advance the
-    // underlying scorers as they have been already advanced during the queue init
-    if (currentDoc != -1) { // if not called for the first time
+    // underlying scorers as they are advanced during the queue init
+    if (!initialized) { // if called for the first time
+      this.initNodeScorerQueue();
+    }
+    else {
       more = nodeScorerQueue.nextCandidateDocumentAndAdjustElsePop();
     }
 
@@ -148,12 +162,87 @@ class NodeDisjunctionScorer extends NodeScorer {
 
   @Override
   public boolean skipToCandidate(final int target) throws IOException {
+    if (!initialized) {
+      this.initNodeScorerQueue();
+    }
     final boolean more = nodeScorerQueue.skipToCandidateAndAdjustElsePop(target);
     currentDoc = nodeScorerQueue.doc();
     currentNode = nodeScorerQueue.node();
     return more;
   }
 
+  /**
+   * Returns the sum of the costs of the sub-scorers.
+   */
+  @Override
+  public long cost() {
+    long cost = 0;
+    for (final NodeScorer scorer : scorers) {
+      cost += scorer.cost();
+      if (cost < 0) { // overflow, the cost of a sub-scorer is unknown
+        return Long.MAX_VALUE;
+      }
+    }
+    return cost;
+  }
+
+  @Override
+  public void setScoresNeeded(final boolean scoresNeeded) {
+    for (final NodeScorer scorer : scorers) {
+      scorer.setScoresNeeded(scoresNeeded);
+    }
+  }
+
+  @Override
+  public void setBudget(final NodeQueryBudget budget) {
+    for (final NodeScorer scorer : scorers) {
+      scorer.setBudget(budget);
+    }
+  }
+
+  @Override
+  public int lastDocInBlock() throws IOException {
+    this.computeBlockMax();
+    return blockLastDoc;
+  }
+
+  @Override
+  public float maxScoreInBlock() throws IOException {
+    this.computeBlockMax();
+    return blockMaxScore;
+  }
+
+  /**
+   * Compute the last document and the max score of the current block.
+   * <p>
+   * The block of the disjunction ends with the first block ending among the
+   * scorers positioned on the current document. A scorer positioned after the
+   * current document contributes to the block max score only if its current
+   * document is within the block, in which case the block is shortened to
+   * its own block.
+   */
+  private void computeBlockMax() throws IOException {
+    blockLastDoc = currentDoc;
+    blockMaxScore = 0;
+    if (currentDoc == -1 || currentDoc == DocsAndNodesIterator.NO_MORE_DOC) {
+      return;
+    }
+
+    blockLastDoc = DocsAndNodesIterator.NO_MORE_DOC;
+    for (final NodeScorer scorer : scorers) {
+      if (scorer.doc() == currentDoc) {
+        blockLastDoc = Math.min(blockLastDoc, scorer.lastDocInBlock());
+        blockMaxScore += scorer.maxScoreInBlock();
+      }
+    }
+    for (final NodeScorer scorer : scorers) {
+      if (scorer.doc() != currentDoc && scorer.doc() <= blockLastDoc) {
+        blockLastDoc = Math.min(blockLastDoc, scorer.lastDocInBlock());
+        blockMaxScore += scorer.maxScoreInBlock();
+      }
+    }
+  }
+
   @Override
   public int doc() {
     return currentDoc;
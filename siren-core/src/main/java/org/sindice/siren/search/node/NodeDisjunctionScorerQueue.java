@@ -36,58 +36,52 @@ import org.sindice.siren.util.NodeUtils;
  * <b>NOTE:</b> After initialisation, the NodeDisjunctionScorerQueue is
  * positioned on the first candidate document.
  * <p>
- * Based on a binary heap data structure. The root (top) of the heap contains
- * the least scorer.
+ * Based on two binary heaps stored in parallel primitive arrays. The root
+ * (top) of a heap contains the least scorer.
+ * <ul>
+ * <li> The document heap orders the scorers by {@link NodeScorer#doc()} only.
+ * It is used while iterating over the candidate documents, where the nodes of
+ * the scorers are not positioned and no node comparison is needed.
+ * <li> The node heap orders by {@link NodeScorer#node()} the scorers
+ * positioned on the current document. It is filled from the document heap on
+ * the first call to {@link #nextNodeAndAdjust()} for the current document,
+ * and emptied into the document heap when moving to another candidate
+ * document. The first node component of each scorer is cached, so that most
+ * of the node comparisons are done on a single int.
+ * </ul>
  * <p>
  * {@link #put(NodeScorer)} requires log(size) time.
  * <p>
- * The ordering is based on {@link SirenScorer.doc()} and
- * {@link SirenScorer.node()}.
- * <p>
  * Code taken from {@link ScorerDocQueue} and adapted for the Siren use case.
  */
 class NodeDisjunctionScorerQueue {
 
-  private final HeapedScorerNode[] heap;
+  /** The document heap, 1-based */
+  private final NodeScorer[] docScorers;
+  private final int[] docs;
+  private int docSize;
+
+  /** The node heap, 1-based */
+  private final NodeScorer[] nodeScorers;
+  private final int[] nodePrefixes;
+  private final IntsRef[] nodes;
+  private int nodeSize;
 
-  private int size;
+  /** The current document of the scorers in the node heap */
+  private int nodeDoc = -1;
 
   private int nrMatchersInNode = -1;
 
   private float scoreInNode = 0;
 
-  private class HeapedScorerNode {
-
-    NodeScorer scorer;
-
-    int doc;
-    IntsRef node;
-
-    HeapedScorerNode(final NodeScorer s) {
-      this.scorer = s;
-      this.adjust();
-    }
-
-    void adjust() {
-      doc = scorer.doc();
-      node = scorer.node();
-    }
-
-    @Override
-    public String toString() {
-      return "[" + doc + "," + "[" + node + "]]";
-    }
-
-  }
-
-  private HeapedScorerNode topHSN; // same as heap[1], only for speed
-
   /** Create a NodeDisjunctionScorerQueue with a given capacity. */
   public NodeDisjunctionScorerQueue(final int capacity) {
-    size = 0;
     final int heapSize = capacity + 1;
-    heap = new HeapedScorerNode[heapSize];
-    topHSN = heap[1]; // initially null
+    docScorers = new NodeScorer[heapSize];
+    docs = new int[heapSize];
+    nodeScorers = new NodeScorer[heapSize];
+    nodePrefixes = new int[heapSize];
+    nodes = new IntsRef[heapSize];
   }
 
   /**
@@ -99,9 +93,7 @@ class NodeDisjunctionScorerQueue {
    */
   public final void put(final NodeScorer scorer) throws IOException {
     if (scorer.nextCandidateDocument()) { // if scorer exhausted, no need to add it
-      size++;
-      heap[size] = new HeapedScorerNode(scorer);
-      this.upHeap();
+      this.putDoc(scorer);
     }
   }
 
@@ -112,21 +104,27 @@ class NodeDisjunctionScorerQueue {
    * Should not be used when the queue is empty.
    */
   protected NodeScorer top() {
-    return topHSN.scorer;
+    return nodeSize > 0 ? nodeScorers[1] : docScorers[1];
   }
 
   /**
    * Return the current document
    */
   public int doc() {
-    return size == 0 ? DocsAndNodesIterator.NO_MORE_DOC : topHSN.doc;
+    if (nodeSize > 0) {
+      return nodeDoc;
+    }
+    return docSize == 0 ? DocsAndNodesIterator.NO_MORE_DOC : docs[1];
   }
 
   /**
    * Return the current node
    */
   public IntsRef node() {
-    return size == 0 ? DocsAndNodesIterator.NO_MORE_NOD : topHSN.node;
+    if (nodeSize > 0) {
+      return nodes[1];
+    }
+    return docSize == 0 ? DocsAndNodesIterator.NO_MORE_NOD : docScorers[1].node();
   }
 
   /**
@@ -146,40 +144,70 @@ class NodeDisjunctionScorerQueue {
    */
   protected void countAndSumMatchers() throws IOException {
     if (nrMatchersInNode < 0) { // count and sum not done
-      nrMatchersInNode = 1; // init counter at 1 to include the top
-      scoreInNode = topHSN.scorer.scoreInNode();
-      // perform recursive traversal of the heap
-      this.computeSumRecursive(1);
+      if (nodeSize > 0) {
+        nrMatchersInNode = 1; // init counter at 1 to include the top
+        scoreInNode = nodeScorers[1].scoreInNode();
+        // perform recursive traversal of the heap
+        this.computeNodeSumRecursive(1);
+      }
+      else if (docSize > 0) {
+        // the nodes are not positioned, all the scorers of the current
+        // document are on the same node
+        nrMatchersInNode = 1;
+        scoreInNode = docScorers[1].scoreInNode();
+        this.computeDocSumRecursive(1);
+      }
+      else {
+        nrMatchersInNode = 0;
+        scoreInNode = 0;
+      }
     }
   }
 
   /**
-   * Perform a traversal of the heap binary tree using recursion. Given a node,
-   * visit its children and check if their subscorer is equivalent to the least
-   * subscorer. If the subscorer is equivalent, it increments the number of
-   * matchers, sum its score with the current score, and recursively visit its
-   * two children.
+   * Perform a traversal of the node heap binary tree using recursion. Given a
+   * node, visit its children and check if their subscorer is equivalent to the
+   * least subscorer. If the subscorer is equivalent, it increments the number
+   * of matchers, sum its score with the current score, and recursively visit
+   * its two children.
    */
-  private final void computeSumRecursive(final int root) throws IOException {
+  private final void computeNodeSumRecursive(final int root) throws IOException {
     final int i1 = (root << 1); // index of first child node
-    final int i2 = (root << 1) + 1; // index of second child node
-
-    if (i1 <= size) {
-      final HeapedScorerNode child1 = heap[i1];
-      if (topHSN.doc == child1.doc && topHSN.node.intsEquals(child1.node)) {
-        nrMatchersInNode++;
-        scoreInNode += child1.scorer.scoreInNode();
-        this.computeSumRecursive(i1);
-      }
+    final int i2 = i1 + 1; // index of second child node
+
+    if (i1 <= nodeSize && nodePrefixes[i1] == nodePrefixes[1] &&
+        nodes[i1].intsEquals(nodes[1])) {
+      nrMatchersInNode++;
+      scoreInNode += nodeScorers[i1].scoreInNode();
+      this.computeNodeSumRecursive(i1);
     }
 
-    if (i2 <= size) {
-      final HeapedScorerNode child2 = heap[i2];
-      if (topHSN.doc == child2.doc && topHSN.node.intsEquals(child2.node)) {
-        nrMatchersInNode++;
-        scoreInNode += child2.scorer.scoreInNode();
-        this.computeSumRecursive(i2);
-      }
+    if (i2 <= nodeSize && nodePrefixes[i2] == nodePrefixes[1] &&
+        nodes[i2].intsEquals(nodes[1])) {
+      nrMatchersInNode++;
+      scoreInNode += nodeScorers[i2].scoreInNode();
+      this.computeNodeSumRecursive(i2);
+    }
+  }
+
+  /**
+   * Perform a traversal of the document heap binary tree using recursion, as
+   * {@link #computeNodeSumRecursive(int)} does with the node heap.
+   */
+  private final void computeDocSumRecursive(final int root) throws IOException {
+    final int i1 = (root << 1); // index of first child node
+    final int i2 = i1 + 1; // index of second child node
+
+    if (i1 <= docSize && docs[i1] == docs[1]) {
+      nrMatchersInNode++;
+      scoreInNode += docScorers[i1].scoreInNode();
+      this.computeDocSumRecursive(i1);
+    }
+
+    if (i2 <= docSize && docs[i2] == docs[1]) {
+      nrMatchersInNode++;
+      scoreInNode += docScorers[i2].scoreInNode();
+      this.computeDocSumRecursive(i2);
     }
   }
 
@@ -210,22 +238,27 @@ class NodeDisjunctionScorerQueue {
    * @return If the least scorer is exhausted, return false.
    */
   public final boolean nextCandidateDocumentAndAdjustElsePop() throws IOException {
-    if (topHSN != null) {
-      final int currentDocument = topHSN.doc;
-
-      while (size > 0 && topHSN.doc == currentDocument) {
-        this.checkAdjustElsePop(topHSN.scorer.nextCandidateDocument());
+    if (nodeSize > 0) {
+      // the scorers of the current document are in the node heap
+      for (int i = 1; i <= nodeSize; i++) {
+        if (nodeScorers[i].nextCandidateDocument()) {
+          this.putDoc(nodeScorers[i]);
+        }
       }
-
-      // reset nrMatchersInNode
-      nrMatchersInNode = -1;
-
-      // no more doc when queue empty
-      return (size > 0);
+      this.clearNodes();
     }
-    else {
-      return false;
+    else if (docSize > 0) {
+      final int currentDocument = docs[1];
+      while (docSize > 0 && docs[1] == currentDocument) {
+        this.checkAdjustElsePop(docScorers[1].nextCandidateDocument());
+      }
     }
+
+    // reset nrMatchersInNode
+    nrMatchersInNode = -1;
+
+    // no more doc when queue empty
+    return docSize > 0;
   }
 
   /**
@@ -235,21 +268,32 @@ class NodeDisjunctionScorerQueue {
    * @return If the least scorer has no more nodes, returns false.
    */
   public final boolean nextNodeAndAdjust() throws IOException {
-    /*
-     * TODO: stecam: I had a NPE in this method with topHSN. However,
-     * I cannot reproduce it. Try to find the case it does occur.
-     */
-    // count number of scorers having the same document and node
-    // counting the number of scorers and then performing the iterations of
-    // all the scorers allows to avoid a node array copy (i.e., current node cache)
-    if (size > 0 && nrMatchersInNode < 0) {
-      this.countAndSumMatchers();
+    if (nodeSize == 0) {
+      // first call for the current document, move the scorers of the current
+      // document to their first node and order them in the node heap
+      if (docSize > 0) {
+        nodeDoc = docs[1];
+        while (docSize > 0 && docs[1] == nodeDoc) {
+          final NodeScorer scorer = docScorers[1];
+          this.popDoc();
+          scorer.nextNode();
+          this.putNode(scorer);
+        }
+      }
     }
+    else {
+      // count number of scorers having the same document and node
+      // counting the number of scorers and then performing the iterations of
+      // all the scorers allows to avoid a node array copy (i.e., current node cache)
+      if (nrMatchersInNode < 0) {
+        this.countAndSumMatchers();
+      }
 
-    // Move the scorers to the next node
-    for (int i = 0; i < nrMatchersInNode; i++) {
-      topHSN.scorer.nextNode();
-      this.adjustTop();
+      // Move the scorers to the next node
+      for (int i = 0; i < nrMatchersInNode; i++) {
+        nodeScorers[1].nextNode();
+        this.adjustTopNode();
+      }
     }
 
     // reset nrMatchersInNode
@@ -269,32 +313,40 @@ class NodeDisjunctionScorerQueue {
    */
   public final boolean skipToCandidateAndAdjustElsePop(final int target)
   throws IOException {
-    if (topHSN != null) {
-      while (size > 0 && topHSN.doc < target) {
-        this.checkAdjustElsePop(topHSN.scorer.skipToCandidate(target));
+    if (nodeSize > 0) {
+      if (target <= nodeDoc) {
+        return true;
       }
-
-      // no more doc when queue empty
-      return (size > 0);
+      for (int i = 1; i <= nodeSize; i++) {
+        if (nodeScorers[i].skipToCandidate(target)) {
+          this.putDoc(nodeScorers[i]);
+        }
+      }
+      this.clearNodes();
+      nrMatchersInNode = -1;
     }
-    else {
-      return false;
+
+    while (docSize > 0 && docs[1] < target) {
+      this.checkAdjustElsePop(docScorers[1].skipToCandidate(target));
+      nrMatchersInNode = -1;
     }
+
+    // no more doc when queue empty
+    return docSize > 0;
   }
 
   /**
-   * If condition is true, then pop the top and adjust the heap.
+   * If condition is true, then adjust the top of the document heap, else pop
+   * it.
    */
   private boolean checkAdjustElsePop(final boolean cond) {
     if (cond) {
-      topHSN.adjust();
+      docs[1] = docScorers[1].doc();
+      this.downHeapDoc();
     }
-    else { // pop
-      heap[1] = heap[size]; // move last to first
-      heap[size] = null;
-      size--;
+    else {
+      this.popDoc();
     }
-    this.downHeap();
     return cond;
   }
 
@@ -302,26 +354,18 @@ class NodeDisjunctionScorerQueue {
    * Should be called when the scorer at top changes of values.
    */
   public final void adjustTop() {
-    topHSN.adjust();
-    this.downHeap();
-  }
-
-  /**
-   * Compares the given scorer with the specified heaped scorer for order.
-   * Returns a negative integer, zero, or a positive integer as this scorer is
-   * less than, equal to, or greater than the specified heaped scorer.
-   */
-  private int compareTo(final NodeScorer scorer, final NodeScorer other) {
-    // compare docs
-    final int doc = scorer.doc();
-    final int otherDoc = other.doc();
-
-    if (doc != otherDoc) {
-      return doc - otherDoc;
+    if (nodeSize > 0) {
+      this.adjustTopNode();
     }
+    else {
+      docs[1] = docScorers[1].doc();
+      this.downHeapDoc();
+    }
+  }
 
-    // compare nodes
-    return NodeUtils.compare(scorer.node(), other.node());
+  private void adjustTopNode() {
+    this.cacheNode(1, nodeScorers[1]);
+    this.downHeapNode();
   }
 
   /**
@@ -329,49 +373,138 @@ class NodeDisjunctionScorerQueue {
    * NodeDisjunctionScorerQueue.
    **/
   public final int size() {
-    return size;
+    return docSize + nodeSize;
   }
 
   /** Removes all entries from the NodeDisjunctionScorerQueue. */
   public final void clear() {
-    for (int i = 0; i <= size; i++) {
-      heap[i] = null;
+    for (int i = 0; i <= docSize; i++) {
+      docScorers[i] = null;
     }
-    size = 0;
+    docSize = 0;
+    this.clearNodes();
   }
 
-  private final void upHeap() {
-    int i = size;
-    final HeapedScorerNode node = heap[i]; // save bottom node
+  private void clearNodes() {
+    for (int i = 0; i <= nodeSize; i++) {
+      nodeScorers[i] = null;
+      nodes[i] = null;
+    }
+    nodeSize = 0;
+  }
+
+  private void putDoc(final NodeScorer scorer) {
+    int i = ++docSize;
+    final int doc = scorer.doc();
     int j = i >>> 1;
-    while ((j > 0) && (this.compareTo(node.scorer, heap[j].scorer) < 0)) {
-      heap[i] = heap[j]; // shift parents down
+    while (j > 0 && doc < docs[j]) {
+      docScorers[i] = docScorers[j]; // shift parents down
+      docs[i] = docs[j];
       i = j;
       j = j >>> 1;
     }
-    heap[i] = node; // install saved node
-    topHSN = heap[1];
+    docScorers[i] = scorer;
+    docs[i] = doc;
+  }
+
+  private void popDoc() {
+    docScorers[1] = docScorers[docSize]; // move last to first
+    docs[1] = docs[docSize];
+    docScorers[docSize] = null;
+    docSize--;
+    this.downHeapDoc();
   }
 
-  private final void downHeap() {
+  private void downHeapDoc() {
     int i = 1;
-    final HeapedScorerNode node = heap[i]; // save top node
+    final NodeScorer scorer = docScorers[i]; // save top scorer
+    final int doc = docs[i];
     int j = i << 1; // find smaller child
     int k = j + 1;
-    if ((k <= size) && (this.compareTo(heap[k].scorer, heap[j].scorer) < 0)) {
+    if (k <= docSize && docs[k] < docs[j]) {
       j = k;
     }
-    while ((j <= size) && (this.compareTo(heap[j].scorer, node.scorer) < 0)) {
-      heap[i] = heap[j]; // shift up child
+    while (j <= docSize && docs[j] < doc) {
+      docScorers[i] = docScorers[j]; // shift up child
+      docs[i] = docs[j];
       i = j;
       j = i << 1;
       k = j + 1;
-      if (k <= size && (this.compareTo(heap[k].scorer, heap[j].scorer) < 0)) {
+      if (k <= docSize && docs[k] < docs[j]) {
         j = k;
       }
     }
-    heap[i] = node; // install saved node
-    topHSN = heap[1];
+    docScorers[i] = scorer; // install saved scorer
+    docs[i] = doc;
+  }
+
+  /**
+   * Cache the node and its first component of the given scorer at the given
+   * index of the node heap.
+   */
+  private void cacheNode(final int i, final NodeScorer scorer) {
+    final IntsRef node = scorer.node();
+    nodeScorers[i] = scorer;
+    nodes[i] = node;
+    nodePrefixes[i] = node.length > 0 ? node.ints[node.offset] : Integer.MIN_VALUE;
+  }
+
+  private void putNode(final NodeScorer scorer) {
+    int i = ++nodeSize;
+    this.cacheNode(i, scorer);
+    final int prefix = nodePrefixes[i];
+    final IntsRef node = nodes[i];
+    int j = i >>> 1;
+    while (j > 0 && compareNodes(prefix, node, nodePrefixes[j], nodes[j]) < 0) {
+      this.moveNode(j, i); // shift parents down
+      i = j;
+      j = j >>> 1;
+    }
+    nodeScorers[i] = scorer;
+    nodePrefixes[i] = prefix;
+    nodes[i] = node;
+  }
+
+  private void downHeapNode() {
+    int i = 1;
+    final NodeScorer scorer = nodeScorers[i]; // save top scorer
+    final int prefix = nodePrefixes[i];
+    final IntsRef node = nodes[i];
+    int j = i << 1; // find smaller child
+    int k = j + 1;
+    if (k <= nodeSize && compareNodes(nodePrefixes[k], nodes[k], nodePrefixes[j], nodes[j]) < 0) {
+      j = k;
+    }
+    while (j <= nodeSize && compareNodes(nodePrefixes[j], nodes[j], prefix, node) < 0) {
+      this.moveNode(j, i); // shift up child
+      i = j;
+      j = i << 1;
+      k = j + 1;
+      if (k <= nodeSize && compareNodes(nodePrefixes[k], nodes[k], nodePrefixes[j], nodes[j]) < 0) {
+        j = k;
+      }
+    }
+    nodeScorers[i] = scorer; // install saved scorer
+    nodePrefixes[i] = prefix;
+    nodes[i] = node;
+  }
+
+  private void moveNode(final int from, final int to) {
+    nodeScorers[to] = nodeScorers[from];
+    nodePrefixes[to] = nodePrefixes[from];
+    nodes[to] = nodes[from];
+  }
+
+  /**
+   * Compares two nodes for order, first on their first component, then on
+   * their full path.
+   */
+  private static int compareNodes(final int prefix, final IntsRef node,
+                                  final int otherPrefix, final IntsRef otherNode) {
+    if (prefix != otherPrefix) {
+      return prefix < otherPrefix ? -1 : 1;
+    }
+    return NodeUtils.compare(node, otherNode);
   }
 
 }
@@ -0,0 +1,399 @@
+/**
+ * Copyright 2014 National University of Ireland, Galway.
+ *
+ * This file is part of the SIREn project. Project and contact information:
+ *
+ *  https://github.com/rdelbru/SIREn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.sindice.siren.search.node;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import org.apache.lucene.util.ArrayUtil;
+import org.apache.lucene.util.Bits;
+import org.apache.lucene.util.FixedBitSet;
+import org.apache.lucene.util.IntsRef;
+import org.apache.lucene.util.RamUsageEstimator;
+import org.apache.lucene.util.SorterTemplate;
+import org.sindice.siren.index.DocsAndNodesIterator;
+import org.sindice.siren.index.DocsNodesAndPositionsEnum;
+
+/**
+ * A compact and immutable set of documents and of their nodes within a
+ * segment.
+ *
+ * <p>
+ *
+ * The documents are kept in a {@link FixedBitSet} and in a sorted array. The
+ * nodes of each document are kept sorted and without duplicates in a single
+ * array of ints.
+ *
+ * <p>
+ *
+ * A {@link NodeDocIdSet} is created with a {@link Builder}, to which the
+ * document and node pairs can be added in any order.
+ *
+ * <p>
+ *
+ * A set can be shared between several searches over the same segment, e.g.,
+ * when it is cached. The deleted documents are then filtered with a view
+ * created by {@link #withAcceptDocs(Bits)}.
+ */
+public class NodeDocIdSet {
+
+  /** The documents, sorted */
+  private final int[] docs;
+  private final int numDocs;
+
+  /** The index of the first node of each document, and the number of nodes */
+  private final int[] docNodeStarts;
+
+  /** The offset of each node in {@link #nodeInts}, and the length of the array */
+  private final int[] nodeStarts;
+
+  /** The ints of the node paths */
+  private final int[] nodeInts;
+
+  private final FixedBitSet docBits;
+
+  /** The documents accepted by the iterators, or null if all are accepted */
+  private final Bits acceptDocs;
+
+  private NodeDocIdSet(final int[] docs, final int numDocs,
+                       final int[] docNodeStarts, final int[] nodeStarts,
+                       final int[] nodeInts, final FixedBitSet docBits,
+                       final Bits acceptDocs) {
+    this.docs = docs;
+    this.numDocs = numDocs;
+    this.docNodeStarts = docNodeStarts;
+    this.nodeStarts = nodeStarts;
+    this.nodeInts = nodeInts;
+    this.docBits = docBits;
+    this.acceptDocs = acceptDocs;
+  }
+
+  /**
+   * Return a view of this set whose iterators skip the documents that are not
+   * in <code>acceptDocs</code>. The arrays of the set are shared, not copied.
+   * <p>
+   * {@link #size()}, {@link #nodeCount()} and {@link #getDocs()} are not
+   * affected by the accepted documents.
+   *
+   * @param acceptDocs
+   *          The accepted documents, or null if all the documents are accepted.
+   */
+  public NodeDocIdSet withAcceptDocs(final Bits acceptDocs) {
+    if (acceptDocs == this.acceptDocs) {
+      return this;
+    }
+    return new NodeDocIdSet(docs, numDocs, docNodeStarts, nodeStarts, nodeInts,
+      docBits, acceptDocs);
+  }
+
+  /**
+   * Return the number of documents in the set.
+   */
+  public int size() {
+    return numDocs;
+  }
+
+  /**
+   * Return the number of nodes in the set.
+   */
+  public int nodeCount() {
+    return docNodeStarts[numDocs];
+  }
+
+  /**
+   * Return the documents of the set.
+   */
+  public FixedBitSet getDocs() {
+    return docBits;
+  }
+
+  /**
+   * Return a new iterator over the documents and nodes of the set.
+   */
+  public DocsNodesAndPositionsEnum iterator() {
+    return new NodeDocIdSetIterator();
+  }
+
+  /**
+   * Return the memory usage of the set in bytes.
+   */
+  public long ramBytesUsed() {
+    return RamUsageEstimator.sizeOf(docs) + RamUsageEstimator.sizeOf(docNodeStarts) +
+      RamUsageEstimator.sizeOf(nodeStarts) + RamUsageEstimator.sizeOf(nodeInts) +
+      RamUsageEstimator.sizeOf(docBits.getBits());
+  }
+
+  /**
+   * An iterator over the documents and nodes of the set. The node positions
+   * are not kept, each node has a single position.
+   */
+  private class NodeDocIdSetIterator extends DocsNodesAndPositionsEnum {
+
+    private int docIndex = -1;
+    private int doc = -1;
+
+    private int nodeIndex;
+    private int nodeLimit;
+
+    private final IntsRef current = new IntsRef(nodeInts, 0, 0);
+    private IntsRef node = UNSET_NODE;
+
+    private int pos = -1;
+
+    @Override
+    public boolean nextDocument() {
+      ++docIndex;
+      if (acceptDocs != null) {
+        while (docIndex < numDocs && !acceptDocs.get(docs[docIndex])) {
+          docIndex++;
+        }
+      }
+      if (docIndex >= numDocs) {
+        docIndex = numDocs;
+        doc = NO_MORE_DOC;
+        node = NO_MORE_NOD;
+        nodeIndex = nodeLimit = 0;
+        return false;
+      }
+      doc = docs[docIndex];
+      nodeIndex = docNodeStarts[docIndex];
+      nodeLimit = docNodeStarts[docIndex + 1];
+      node = UNSET_NODE;
+      return true;
+    }
+
+    @Override
+    public boolean nextNode() {
+      if (nodeIndex >= nodeLimit) {
+        node = NO_MORE_NOD;
+        return false;
+      }
+      current.offset = nodeStarts[nodeIndex];
+      current.length = nodeStarts[nodeIndex + 1] - current.offset;
+      nodeIndex++;
+      node = current;
+      pos = -1;
+      return true;
+    }
+
+    @Override
+    public boolean nextPosition() {
+      if (pos == -1 && node != UNSET_NODE && node != NO_MORE_NOD) {
+        pos = 0;
+        return true;
+      }
+      pos = NO_MORE_POS;
+      return false;
+    }
+
+    @Override
+    public int pos() {
+      return pos;
+    }
+
+    @Override
+    public int termFreqInNode() {
+      return 1;
+    }
+
+    @Override
+    public int nodeFreqInDoc() {
+      if (docIndex < 0 || docIndex >= numDocs) {
+        return 0;
+      }
+      return docNodeStarts[docIndex + 1] - docNodeStarts[docIndex];
+    }
+
+    @Override
+    public boolean skipTo(final int target) {
+      if (docIndex >= 0 && target <= doc) {
+        return doc != NO_MORE_DOC;
+      }
+      if (docIndex + 1 >= numDocs) {
+        return this.nextDocument();
+      }
+      final int i = Arrays.binarySearch(docs, docIndex + 1, numDocs, target);
+      docIndex = (i >= 0 ? i : -i - 1) - 1;
+      return this.nextDocument();
+    }
+
+    @Override
+    public int doc() {
+      return doc;
+    }
+
+    @Override
+    public IntsRef node() {
+      return node;
+    }
+
+  }
+
+  private static final IntsRef UNSET_NODE = new IntsRef(new int[] { -1 }, 0, 1);
+
+  /**
+   * Builder of a {@link NodeDocIdSet}.
+   */
+  public static class Builder {
+
+    private final int maxDoc;
+
+    /** The entries [doc, node length, node ints] */
+    private int[] buffer = new int[64];
+    private int bufferLength = 0;
+
+    /** The offset of each entry in the buffer */
+    private int[] entries = new int[16];
+    private int numEntries = 0;
+
+    /** Flag to know if the entries have been added in order */
+    private boolean sorted = true;
+
+    /**
+     * @param maxDoc
+     *          The number of documents in the segment.
+     */
+    public Builder(final int maxDoc) {
+      this.maxDoc = maxDoc;
+    }
+
+    /**
+     * Add a document and one of its nodes.
+     */
+    public Builder add(final int doc, final IntsRef node) {
+      if (numEntries == entries.length) {
+        entries = ArrayUtil.grow(entries, numEntries + 1);
+      }
+      buffer = ArrayUtil.grow(buffer, bufferLength + 2 + node.length);
+      final int offset = bufferLength;
+      buffer[bufferLength++] = doc;
+      buffer[bufferLength++] = node.length;
+      System.arraycopy(node.ints, node.offset, buffer, bufferLength, node.length);
+      bufferLength += node.length;
+      if (sorted && numEntries > 0 && this.compare(entries[numEntries - 1], offset) > 0) {
+        sorted = false;
+      }
+      entries[numEntries++] = offset;
+      return this;
+    }
+
+    /**
+     * Add all the documents and nodes of the iterator.
+     */
+    public Builder add(final DocsAndNodesIterator iterator) throws IOException {
+      while (iterator.nextDocument()) {
+        while (iterator.nextNode()) {
+          this.add(iterator.doc(), iterator.node());
+        }
+      }
+      return this;
+    }
+
+    /**
+     * Compare two entries, first by document, then by node as
+     * {@link org.sindice.siren.util.NodeUtils#compare(IntsRef, IntsRef)}.
+     */
+    private int compare(final int e1, final int e2) {
+      if (buffer[e1] != buffer[e2]) {
+        return buffer[e1] < buffer[e2] ? -1 : 1;
+      }
+      final int len1 = buffer[e1 + 1];
+      final int len2 = buffer[e2 + 1];
+      for (int i = e1 + 2, j = e2 + 2, k = 0; k < len1 && k < len2; i++, j++, k++) {
+        if (buffer[i] != buffer[j]) {
+          return buffer[i] < buffer[j] ? -1 : 1;
+        }
+      }
+      return len1 - len2;
+    }
+
+    public NodeDocIdSet build() {
+      if (!sorted) {
+        new SorterTemplate() {
+
+          private int pivot;
+
+          @Override
+          protected void swap(final int i, final int j) {
+            final int tmp = entries[i];
+            entries[i] = entries[j];
+            entries[j] = tmp;
+          }
+
+          @Override
+          protected int compare(final int i, final int j) {
+            return Builder.this.compare(entries[i], entries[j]);
+          }
+
+          @Override
+          protected void setPivot(final int i) {
+            pivot = entries[i];
+          }
+
+          @Override
+          protected int comparePivot(final int j) {
+            return Builder.this.compare(pivot, entries[j]);
+          }
+
+        }.quickSort(0, numEntries - 1);
+      }
+
+      final FixedBitSet docBits = new FixedBitSet(maxDoc);
+      int[] docs = new int[8];
+      int[] docNodeStarts = new int[9];
+      final int[] nodeStarts = new int[numEntries + 1];
+      final int[] nodeInts = new int[bufferLength - 2 * numEntries];
+      int numDocs = 0;
+      int numNodes = 0;
+      int nodeIntsLength = 0;
+
+      for (int i = 0; i < numEntries; i++) {
+        final int entry = entries[i];
+        if (i > 0 && this.compare(entries[i - 1], entry) == 0) {
+          continue; // duplicate
+        }
+        final int doc = buffer[entry];
+        if (numDocs == 0 || docs[numDocs - 1] != doc) {
+          if (numDocs == docs.length) {
+            docs = ArrayUtil.grow(docs, numDocs + 1);
+          }
+          if (numDocs + 1 >= docNodeStarts.length) {
+            docNodeStarts = ArrayUtil.grow(docNodeStarts, numDocs + 2);
+          }
+          docs[numDocs] = doc;
+          docNodeStarts[numDocs] = numNodes;
+          numDocs++;
+          docBits.set(doc);
+        }
+        final int length = buffer[entry + 1];
+        nodeStarts[numNodes++] = nodeIntsLength;
+        System.arraycopy(buffer, entry + 2, nodeInts, nodeIntsLength, length);
+        nodeIntsLength += length;
+      }
+      docNodeStarts[numDocs] = numNodes;
+      nodeStarts[numNodes] = nodeIntsLength;
+
+      return new NodeDocIdSet(docs, numDocs, docNodeStarts, nodeStarts,
+        nodeInts, docBits, null);
+    }
+
+  }
+
+}
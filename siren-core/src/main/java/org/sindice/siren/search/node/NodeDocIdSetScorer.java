@@ -0,0 +1,146 @@
+/**
+ * Copyright 2014 National University of Ireland, Galway.
+ *
+ * This file is part of the SIREn project. Project and contact information:
+ *
+ *  https://github.com/rdelbru/SIREn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.sindice.siren.search.node;
+
+import java.io.IOException;
+
+import org.apache.lucene.search.Weight;
+import org.apache.lucene.util.IntsRef;
+import org.sindice.siren.index.DocsAndNodesIterator;
+
+/**
+ * A {@link NodeScorer} over the documents and nodes of a {@link NodeDocIdSet},
+ * which gives a constant score to each matching node.
+ *
+ * <p>
+ *
+ * The iterator of the set can be wrapped to apply node constraints, see
+ * {@link NodeQuery#getConstrainedNodesEnum(org.sindice.siren.index.DocsNodesAndPositionsEnum)}.
+ */
+class NodeDocIdSetScorer extends NodeScorer {
+
+  private final DocsAndNodesIterator iterator;
+  private final float theScore;
+  private final long cost;
+
+  /** The budget of the search, or null if the work is not bounded */
+  private NodeQueryBudget budget = null;
+
+  /** Flag to know if the budget ran out, the scorer is then exhausted */
+  private boolean budgetExhausted = false;
+
+  NodeDocIdSetScorer(final Weight weight, final NodeDocIdSet set,
+                     final float theScore) {
+    this(weight, set.iterator(), set.size(), theScore);
+  }
+
+  /**
+   * @param iterator
+   *          The iterator over the documents and nodes of a set, possibly
+   *          constrained.
+   * @param cost
+   *          The number of documents of the set.
+   */
+  NodeDocIdSetScorer(final Weight weight, final DocsAndNodesIterator iterator,
+                     final long cost, final float theScore) {
+    super(weight);
+    this.iterator = iterator;
+    this.theScore = theScore;
+    this.cost = cost;
+  }
+
+  @Override
+  public boolean nextCandidateDocument() throws IOException {
+    if (!this.visit()) {
+      return false;
+    }
+    return iterator.nextDocument();
+  }
+
+  @Override
+  public boolean nextNode() throws IOException {
+    if (!this.visit()) {
+      return false;
+    }
+    return iterator.nextNode();
+  }
+
+  @Override
+  public boolean skipToCandidate(final int target) throws IOException {
+    if (!this.visit()) {
+      return false;
+    }
+    return iterator.skipTo(target);
+  }
+
+  @Override
+  public int doc() {
+    return budgetExhausted ? DocsAndNodesIterator.NO_MORE_DOC : iterator.doc();
+  }
+
+  @Override
+  public IntsRef node() {
+    return budgetExhausted ? DocsAndNodesIterator.NO_MORE_NOD : iterator.node();
+  }
+
+  @Override
+  public float scoreInNode() throws IOException {
+    return theScore;
+  }
+
+  @Override
+  public float freqInNode() throws IOException {
+    return 1;
+  }
+
+  /**
+   * Returns the number of documents of the set.
+   */
+  @Override
+  public long cost() {
+    return cost;
+  }
+
+  /**
+   * Each candidate document and node read records a visit. Once the budget
+   * is exhausted, the scorer behaves as if it was exhausted.
+   */
+  @Override
+  public void setBudget(final NodeQueryBudget budget) {
+    this.budget = budget;
+  }
+
+  /**
+   * Records a visit, and returns false if the budget is exhausted.
+   */
+  private boolean visit() {
+    if (budget != null && !budgetExhausted && !budget.visit()) {
+      budgetExhausted = true;
+    }
+    return !budgetExhausted;
+  }
+
+  @Override
+  public String toString() {
+    return "NodeDocIdSetScorer(" + weight + "," + this.doc() + "," +
+      this.node() + ")";
+  }
+
+}
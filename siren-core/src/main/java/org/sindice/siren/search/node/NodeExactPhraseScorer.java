@@ -22,6 +22,7 @@ package org.sindice.siren.search.node;
 
 import java.io.IOException;
 
+import org.apache.lucene.index.DocValues;
 import org.apache.lucene.search.Weight;
 import org.apache.lucene.search.similarities.Similarity;
 import org.sindice.siren.index.PositionsIterator;
@@ -34,9 +35,10 @@ class NodeExactPhraseScorer extends NodePhraseScorer {
   NodeExactPhraseScorer(final Weight weight,
                         final NodePhraseQuery.PostingsAndPosition[] postings,
                         final Similarity.SloppySimScorer sloppyScorer,
-                        final Similarity.ExactSimScorer exactScorer)
+                        final Similarity.ExactSimScorer exactScorer,
+                        final DocValues norms, final int maxDoc)
   throws IOException {
-    super(weight, postings, sloppyScorer, exactScorer);
+    super(weight, postings, sloppyScorer, exactScorer, norms, maxDoc);
   }
 
   @Override
@@ -60,12 +62,16 @@ class NodeExactPhraseScorer extends NodePhraseScorer {
     NodePhrasePosition firstPosition = phrasePositions[first];
 
     // scan forward in last
-    if (lastPosition.pos == PositionsIterator.NO_MORE_POS || !lastPosition.nextPosition()) {
+    if (lastPosition.pos == PositionsIterator.NO_MORE_POS ||
+        (budget != null && !budget.visit()) || !lastPosition.nextPosition()) {
       return false;
     }
 
     while (firstPosition.pos < lastPosition.pos) {
       do {
+        if (budget != null && !budget.visit()) {
+          return false;
+        }
         if (!firstPosition.nextPosition()) {  // scan forward in first
           return false;
         }
@@ -0,0 +1,70 @@
+/**
+ * Copyright 2014 National University of Ireland, Galway.
+ *
+ * This file is part of the SIREn project. Project and contact information:
+ *
+ *  https://github.com/rdelbru/SIREn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.sindice.siren.search.node;
+
+import java.io.IOException;
+
+import org.apache.lucene.index.AtomicReaderContext;
+import org.apache.lucene.search.Filter;
+import org.apache.lucene.util.Bits;
+
+/**
+ * Abstract base class for restricting which nodes may be returned during
+ * searching, counterpart of the Lucene's {@link Filter}.
+ *
+ * <p>
+ *
+ * A {@link NodeFilter} computes, for each segment, the set of documents and
+ * of their nodes matching the filter. It is used as a constant score clause of
+ * a {@link TwigQuery} or of a {@link NodeBooleanQuery} through a
+ * {@link NodeConstantScoreQuery}. The sets of a filter can be cached and reused
+ * across queries with a {@link NodeFilterCache}.
+ *
+ * <p>
+ *
+ * As the cached sets are shared, a filter must implement
+ * {@link #equals(Object)} and {@link #hashCode()}.
+ */
+public abstract class NodeFilter {
+
+  /**
+   * Creates a {@link NodeDocIdSet} enumerating the documents and nodes that
+   * should be permitted in search results.
+   * <p>
+   * <b>NOTE:</b> the returned set may contain documents that are not in
+   * <code>acceptDocs</code>, e.g., if it comes from a cache. The consumer must
+   * filter them with {@link NodeDocIdSet#withAcceptDocs(Bits)}.
+   *
+   * @param context
+   *          The segment for which to return the set.
+   * @param acceptDocs
+   *          Bits that represent the allowable docs to match (typically
+   *          deleted docs but possibly filtering other documents), or null if
+   *          all the documents are allowed.
+   *
+   * @return A {@link NodeDocIdSet} that provides the documents and nodes which
+   *         should be permitted or prohibited in search results, or
+   *         <code>null</code> if none match.
+   */
+  public abstract NodeDocIdSet getNodeDocIdSet(AtomicReaderContext context,
+                                               Bits acceptDocs)
+  throws IOException;
+
+}
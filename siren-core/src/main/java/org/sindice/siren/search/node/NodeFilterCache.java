@@ -0,0 +1,356 @@
+/**
+ * Copyright 2014 National University of Ireland, Galway.
+ *
+ * This file is part of the SIREn project. Project and contact information:
+ *
+ *  https://github.com/rdelbru/SIREn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.sindice.siren.search.node;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import org.apache.lucene.index.AtomicReader;
+import org.apache.lucene.index.AtomicReaderContext;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.SegmentReader;
+import org.apache.lucene.search.CachingWrapperFilter;
+import org.apache.lucene.util.Bits;
+
+/**
+ * A least recently used cache of the {@link NodeDocIdSet}s computed by
+ * {@link NodeFilter}s.
+ *
+ * <p>
+ *
+ * A set is cached per filter and per segment core, and is computed without
+ * the deleted documents, which are filtered when the set is iterated. A set
+ * can therefore be reused across queries and across reopened readers as long
+ * as its segment is unchanged. The sets of a segment core are removed once
+ * the core is closed, e.g., once its segment has been merged away. As in
+ * {@link CachingWrapperFilter}, the segment cores are weakly referenced, the
+ * sets of a reader that is never closed are reclaimed with the reader.
+ *
+ * <p>
+ *
+ * Filters are cached by wrapping them with {@link #wrap(NodeFilter)}, e.g.:
+ * <pre>
+ *   final NodeFilterCache cache = new NodeFilterCache(256);
+ *   final NodeQuery person = new NodeConstantScoreQuery(
+ *     cache.wrap(new NodeQueryWrapperFilter(typePersonQuery)));
+ * </pre>
+ *
+ * <p>
+ *
+ * The cache records the number of hits, misses and evictions, as well as an
+ * estimation of its memory usage. It is thread-safe.
+ *
+ * <p>
+ *
+ * Counterpart of the Lucene's {@link CachingWrapperFilter}, which caches the
+ * sets of a single filter.
+ */
+public class NodeFilterCache {
+
+  /** The default maximum number of cached sets */
+  public static final int DEFAULT_MAX_SIZE = 1024;
+
+  /** The set cached for the segments in which the filter does not match */
+  private static final NodeDocIdSet EMPTY = new NodeDocIdSet.Builder(0).build();
+
+  private final int maxSize;
+
+  /**
+   * The cached sets per segment core, and per filter in access order. The
+   * maps of the segment cores are never empty.
+   */
+  private final WeakHashMap<Object, LinkedHashMap<NodeFilter, CachedSet>> cache;
+
+  /** The logical clock ordering the accesses to the sets of all the cores */
+  private long clock;
+
+  private long hitCount;
+  private long missCount;
+  private long evictionCount;
+
+  /** Removes the sets of a segment core once it is closed */
+  private final SegmentReader.CoreClosedListener coreClosedListener =
+    new SegmentReader.CoreClosedListener() {
+      @Override
+      public void onClose(final SegmentReader owner) {
+        NodeFilterCache.this.purge(owner.getCoreCacheKey());
+      }
+    };
+
+  /**
+   * Removes the sets of a reader which does not share its core with other
+   * readers once it is closed
+   */
+  private final IndexReader.ReaderClosedListener readerClosedListener =
+    new IndexReader.ReaderClosedListener() {
+      @Override
+      public void onClose(final IndexReader reader) {
+        NodeFilterCache.this.purge(reader.getCoreCacheKey());
+      }
+    };
+
+  /**
+   * Creates a cache of at most {@link #DEFAULT_MAX_SIZE} sets.
+   */
+  public NodeFilterCache() {
+    this(DEFAULT_MAX_SIZE);
+  }
+
+  /**
+   * Creates a cache of at most <code>maxSize</code> sets.
+   */
+  public NodeFilterCache(final int maxSize) {
+    if (maxSize < 1) {
+      throw new IllegalArgumentException("maxSize must be >= 1, got " + maxSize);
+    }
+    this.maxSize = maxSize;
+    this.cache = new WeakHashMap<Object, LinkedHashMap<NodeFilter, CachedSet>>();
+  }
+
+  /**
+   * Returns a {@link NodeFilter} which caches the sets of
+   * <code>filter</code> in this cache.
+   */
+  public NodeFilter wrap(final NodeFilter filter) {
+    if (filter == null)
+      throw new NullPointerException("Filter may not be null");
+    return new CachingNodeFilter(filter);
+  }
+
+  /**
+   * Returns the set of <code>filter</code> for the segment of
+   * <code>context</code>, computing it on a cache miss.
+   */
+  NodeDocIdSet getNodeDocIdSet(final NodeFilter filter,
+                               final AtomicReaderContext context)
+  throws IOException {
+    final AtomicReader reader = context.reader();
+    final Object coreKey = reader.getCoreCacheKey();
+
+    synchronized (this) {
+      final Map<NodeFilter, CachedSet> sets = cache.get(coreKey);
+      final CachedSet cached = sets == null ? null : sets.get(filter);
+      if (cached != null) {
+        cached.lastAccess = ++clock;
+        hitCount++;
+        return cached.set;
+      }
+      missCount++;
+    }
+
+    // compute the set outside of the lock, the deleted documents are filtered
+    // at search time
+    NodeDocIdSet set = filter.getNodeDocIdSet(context, null);
+    if (set == null) {
+      set = EMPTY;
+    }
+
+    synchronized (this) {
+      LinkedHashMap<NodeFilter, CachedSet> sets = cache.get(coreKey);
+      if (sets == null) {
+        sets = new LinkedHashMap<NodeFilter, CachedSet>(16, 0.75f, true);
+        cache.put(coreKey, sets);
+        // the listeners of a reader or of a core are a set, a listener
+        // added again is ignored
+        if (reader instanceof SegmentReader) {
+          ((SegmentReader) reader).addCoreClosedListener(coreClosedListener);
+        }
+        else {
+          reader.addReaderClosedListener(readerClosedListener);
+        }
+      }
+      // replaces the set if computed concurrently by another thread
+      sets.put(filter, new CachedSet(set, ++clock));
+      this.evict();
+    }
+    return set;
+  }
+
+  /**
+   * Removes the sets of a closed segment core.
+   */
+  private synchronized void purge(final Object coreKey) {
+    cache.remove(coreKey);
+  }
+
+  /**
+   * Removes the least recently used sets until the size of the cache is below
+   * its maximum size. The least recently used set of the cache is the least
+   * recently used set of one of the segment cores.
+   */
+  private void evict() {
+    while (this.size() > maxSize) {
+      Map.Entry<Object, LinkedHashMap<NodeFilter, CachedSet>> lru = null;
+      long lruAccess = Long.MAX_VALUE;
+      for (final Map.Entry<Object, LinkedHashMap<NodeFilter, CachedSet>> e : cache.entrySet()) {
+        final CachedSet eldest = e.getValue().values().iterator().next();
+        if (eldest.lastAccess < lruAccess) {
+          lruAccess = eldest.lastAccess;
+          lru = e;
+        }
+      }
+      final Iterator<CachedSet> it = lru.getValue().values().iterator();
+      it.next();
+      it.remove();
+      if (lru.getValue().isEmpty()) {
+        cache.remove(lru.getKey());
+      }
+      evictionCount++;
+    }
+  }
+
+  /**
+   * Removes all the cached sets. The statistics are not reset.
+   */
+  public synchronized void clear() {
+    cache.clear();
+  }
+
+  /**
+   * Returns the maximum number of cached sets.
+   */
+  public int getMaxSize() {
+    return maxSize;
+  }
+
+  /**
+   * Returns the number of cached sets.
+   */
+  public synchronized int size() {
+    int size = 0;
+    for (final Map<NodeFilter, CachedSet> sets : cache.values()) {
+      size += sets.size();
+    }
+    return size;
+  }
+
+  /**
+   * Returns the number of lookups which found a cached set.
+   */
+  public synchronized long getHitCount() {
+    return hitCount;
+  }
+
+  /**
+   * Returns the number of lookups which had to compute the set.
+   */
+  public synchronized long getMissCount() {
+    return missCount;
+  }
+
+  /**
+   * Returns the ratio of lookups which found a cached set, or 0 if there was
+   * no lookup.
+   */
+  public synchronized double getHitRate() {
+    final long lookups = hitCount + missCount;
+    return lookups == 0 ? 0 : (double) hitCount / lookups;
+  }
+
+  /**
+   * Returns the number of sets removed to keep the size of the cache below its
+   * maximum size.
+   */
+  public synchronized long getEvictionCount() {
+    return evictionCount;
+  }
+
+  /**
+   * Returns an estimation of the memory used by the cached sets in bytes.
+   */
+  public synchronized long ramBytesUsed() {
+    long ramBytesUsed = 0;
+    for (final Map<NodeFilter, CachedSet> sets : cache.values()) {
+      for (final CachedSet cached : sets.values()) {
+        ramBytesUsed += cached.set.ramBytesUsed();
+      }
+    }
+    return ramBytesUsed;
+  }
+
+  @Override
+  public synchronized String toString() {
+    return "NodeFilterCache(size=" + this.size() + "/" + maxSize +
+      ", hits=" + hitCount + ", misses=" + missCount +
+      ", evictions=" + evictionCount + ", ramBytesUsed=" + this.ramBytesUsed() + ")";
+  }
+
+  /**
+   * A cached set and the time of its last access.
+   */
+  private static final class CachedSet {
+
+    final NodeDocIdSet set;
+    long lastAccess;
+
+    CachedSet(final NodeDocIdSet set, final long lastAccess) {
+      this.set = set;
+      this.lastAccess = lastAccess;
+    }
+
+  }
+
+  /**
+   * A {@link NodeFilter} which looks up the sets of a filter in the cache.
+   */
+  private final class CachingNodeFilter extends NodeFilter {
+
+    private final NodeFilter filter;
+
+    CachingNodeFilter(final NodeFilter filter) {
+      this.filter = filter;
+    }
+
+    @Override
+    public NodeDocIdSet getNodeDocIdSet(final AtomicReaderContext context,
+                                        final Bits acceptDocs)
+    throws IOException {
+      final NodeDocIdSet set = NodeFilterCache.this.getNodeDocIdSet(filter, context);
+      return set.size() == 0 ? null : set.withAcceptDocs(acceptDocs);
+    }
+
+    private NodeFilterCache getCache() {
+      return NodeFilterCache.this;
+    }
+
+    @Override
+    public String toString() {
+      return "CachingNodeFilter(" + filter + ")";
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      if (!(o instanceof CachingNodeFilter))
+        return false;
+      final CachingNodeFilter other = (CachingNodeFilter) o;
+      return this.getCache() == other.getCache() && filter.equals(other.filter);
+    }
+
+    @Override
+    public int hashCode() {
+      return filter.hashCode() ^ 0x1117BF25;
+    }
+
+  }
+
+}
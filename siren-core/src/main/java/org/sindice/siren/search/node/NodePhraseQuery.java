@@ -216,12 +216,13 @@ public class NodePhraseQuery extends NodePrimitiveQuery {
           		"indexed without position data; cannot run NodePhraseQuery " +
           		"(term=" + t.text() + ")");
         }
-        postings[i] = new PostingsAndPosition(postingsEnum, positions.get(i).intValue());
+        postings[i] = new PostingsAndPosition(postingsEnum, positions.get(i).intValue(), te.docFreq());
       }
 
       return new NodeExactPhraseScorer(this, postings,
         similarity.sloppySimScorer(stats, context),
-        similarity.exactSimScorer(stats, context));
+        similarity.exactSimScorer(stats, context),
+        reader.normValues(field), reader.maxDoc());
     }
 
     // TODO: Review this explanation for node match
@@ -357,10 +358,13 @@ public class NodePhraseQuery extends NodePrimitiveQuery {
 
     final DocsNodesAndPositionsEnum postings;
     final int position;
+    final int docFreq;
 
-    public PostingsAndPosition(final DocsNodesAndPositionsEnum postings, final int position) {
+    public PostingsAndPosition(final DocsNodesAndPositionsEnum postings,
+                               final int position, final int docFreq) {
       this.postings = postings;
       this.position = position;
+      this.docFreq = docFreq;
     }
 
   }
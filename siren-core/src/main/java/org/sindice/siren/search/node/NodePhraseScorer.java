@@ -22,6 +22,7 @@ package org.sindice.siren.search.node;
 
 import java.io.IOException;
 
+import org.apache.lucene.index.DocValues;
 import org.apache.lucene.search.Weight;
 import org.apache.lucene.search.similarities.Similarity;
 import org.apache.lucene.util.IntsRef;
@@ -47,6 +48,9 @@ abstract class NodePhraseScorer extends NodeScorer {
 
   final NodeConjunctionScorer conjunctionScorer;
 
+  /** The budget of the search, or null if the work is not bounded */
+  NodeQueryBudget budget = null;
+
   /**
    * Phrase frequency in current doc as computed by phraseFreq().
    */
@@ -55,7 +59,8 @@ abstract class NodePhraseScorer extends NodeScorer {
   NodePhraseScorer(final Weight weight,
                    final NodePhraseQuery.PostingsAndPosition[] postings,
                    final Similarity.SloppySimScorer sloppyScorer,
-                   final Similarity.ExactSimScorer exactScorer)
+                   final Similarity.ExactSimScorer exactScorer,
+                   final DocValues norms, final int maxDoc)
   throws IOException {
     super(weight);
     this.sloppyScorer = sloppyScorer;
@@ -74,7 +79,8 @@ abstract class NodePhraseScorer extends NodeScorer {
     // create node conjunction scorer
     final NodeScorer[] scorers = new NodeScorer[postings.length];
     for (int i = 0; i < postings.length; i++) {
-      scorers[i] = new NodeTermScorer(weight, postings[i].postings, exactScorer);
+      scorers[i] = new NodeTermScorer(weight, postings[i].postings, exactScorer,
+        norms, maxDoc, postings[i].docFreq);
     }
     conjunctionScorer = new NodeConjunctionScorer(weight, 1.0f, scorers);
   }
@@ -112,6 +118,24 @@ abstract class NodePhraseScorer extends NodeScorer {
     return false;
   }
 
+  /**
+   * Returns the cost of the conjunction of the terms.
+   */
+  @Override
+  public long cost() {
+    return conjunctionScorer.cost();
+  }
+
+  /**
+   * The budget is forwarded to the term scorers. Each position read while
+   * matching the phrase records a visit.
+   */
+  @Override
+  public void setBudget(final NodeQueryBudget budget) {
+    this.budget = budget;
+    conjunctionScorer.setBudget(budget);
+  }
+
   abstract boolean firstPhrase() throws IOException;
 
   abstract boolean nextPhrase() throws IOException;
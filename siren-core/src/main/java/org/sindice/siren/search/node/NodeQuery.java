@@ -152,8 +152,14 @@ public abstract class NodeQuery extends Query {
    */
   protected DocsNodesAndPositionsEnum getDocsNodesAndPositionsEnum(final DocsAndPositionsEnum docsEnum) {
     // Map Lucene's docs enum to a SIREn's docs, nodes and positions enum
-    final DocsNodesAndPositionsEnum sirenDocsEnum = SirenDocsEnum.map(docsEnum);
+    return this.getConstrainedNodesEnum(SirenDocsEnum.map(docsEnum));
+  }
 
+  /**
+   * Wraps a {@link DocsNodesAndPositionsEnum} into a
+   * {@link ConstrainedNodesEnum} if a set of constraints is applied.
+   */
+  protected DocsNodesAndPositionsEnum getConstrainedNodesEnum(final DocsNodesAndPositionsEnum sirenDocsEnum) {
     // Retrieve constraints starting from the direct ancestor
     final ConstraintStack stack = new ConstraintStack();
     this.retrieveConstraint(this.ancestor, stack);
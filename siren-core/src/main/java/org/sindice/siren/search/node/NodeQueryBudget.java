@@ -0,0 +1,155 @@
+/**
+ * Copyright 2014 National University of Ireland, Galway.
+ *
+ * This file is part of the SIREn project. Project and contact information:
+ *
+ *  https://github.com/rdelbru/SIREn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.sindice.siren.search.node;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A cooperative budget bounding the work of a node query, see
+ * {@link LuceneProxyNodeQuery#setBudget(NodeQueryBudget)}.
+ *
+ * <p>
+ *
+ * The budget is a maximum number of visits and/or a wall-clock deadline. A
+ * visit is a candidate document, a node or a position read by the scorers.
+ * In contrast to {@link org.apache.lucene.search.TimeLimitingCollector},
+ * which checks the time between two collected documents, the budget is
+ * checked inside the node and position loops of the scorers, and protects
+ * against documents with a very large number of nodes.
+ *
+ * <p>
+ *
+ * Once the budget is exhausted, the scorers behave as if there was no more
+ * node, position or document to read: the search ends cleanly, and the
+ * documents collected so far are the partial results of the query. The
+ * document on which the budget ran out is not collected.
+ * {@link #isExhausted()} indicates if the results are partial.
+ *
+ * <p>
+ *
+ * A budget must be created for each search. It can be shared by the
+ * segments of a search executed in parallel: the visits are counted
+ * atomically, and the budget is exhausted for all the segments once the
+ * visits of all of them exceed the maximum.
+ */
+public class NodeQueryBudget {
+
+  /** The number of visits between two checks of the clock */
+  private static final int CLOCK_INTERVAL_MASK = 0xFF;
+
+  private final long maxVisits;
+
+  private final long deadline;
+
+  private final boolean hasDeadline;
+
+  private final AtomicLong visits = new AtomicLong();
+
+  private volatile boolean exhausted = false;
+
+  /**
+   * Creates a budget of a maximum number of visits, without time limit.
+   *
+   * @param maxVisits
+   *          The maximum number of candidate documents, nodes and positions
+   *          read by the scorers.
+   */
+  public NodeQueryBudget(final long maxVisits) {
+    this(maxVisits, 0, null);
+  }
+
+  /**
+   * Creates a budget of a maximum number of visits and of a maximum time,
+   * starting now.
+   *
+   * @param maxVisits
+   *          The maximum number of candidate documents, nodes and positions
+   *          read by the scorers, or {@link Long#MAX_VALUE} for no limit.
+   * @param timeout
+   *          The maximum time of the search, or 0 for no time limit.
+   * @param unit
+   *          The unit of the timeout.
+   */
+  public NodeQueryBudget(final long maxVisits, final long timeout,
+                         final TimeUnit unit) {
+    if (maxVisits < 0) {
+      throw new IllegalArgumentException("maxVisits must be positive: " + maxVisits);
+    }
+    if (timeout < 0) {
+      throw new IllegalArgumentException("timeout must be positive: " + timeout);
+    }
+    this.maxVisits = maxVisits;
+    this.hasDeadline = timeout > 0;
+    this.deadline = hasDeadline ? System.nanoTime() + unit.toNanos(timeout) : 0;
+  }
+
+  /**
+   * Creates a budget of a maximum time, starting now, without limit on the
+   * number of visits.
+   */
+  public static NodeQueryBudget timeout(final long timeout, final TimeUnit unit) {
+    return new NodeQueryBudget(Long.MAX_VALUE, timeout, unit);
+  }
+
+  /**
+   * Records a visit, and returns false if the budget is exhausted. The clock
+   * is only checked every 256 visits.
+   */
+  public boolean visit() {
+    if (exhausted) {
+      return false;
+    }
+    final long count = visits.incrementAndGet();
+    if (count > maxVisits ||
+        (hasDeadline && (count & CLOCK_INTERVAL_MASK) == 0 &&
+         System.nanoTime() - deadline > 0)) {
+      exhausted = true;
+      return false;
+    }
+    return true;
+  }
+
+  /**
+   * Returns true if the budget ran out, i.e., if the results of the search
+   * are partial.
+   */
+  public boolean isExhausted() {
+    return exhausted;
+  }
+
+  /**
+   * Returns the number of visits recorded so far.
+   */
+  public long getVisits() {
+    return visits.get();
+  }
+
+  public long getMaxVisits() {
+    return maxVisits;
+  }
+
+  @Override
+  public String toString() {
+    return "NodeQueryBudget(visits=" + visits.get() + "/" + maxVisits +
+      (hasDeadline ? ",deadline" : "") + (exhausted ? ",exhausted" : "") + ")";
+  }
+
+}
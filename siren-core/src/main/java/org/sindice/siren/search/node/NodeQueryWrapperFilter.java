@@ -0,0 +1,106 @@
+/**
+ * Copyright 2014 National University of Ireland, Galway.
+ *
+ * This file is part of the SIREn project. Project and contact information:
+ *
+ *  https://github.com/rdelbru/SIREn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.sindice.siren.search.node;
+
+import java.io.IOException;
+
+import org.apache.lucene.index.AtomicReaderContext;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.QueryWrapperFilter;
+import org.apache.lucene.search.Weight;
+import org.apache.lucene.util.Bits;
+
+/**
+ * Constrains search results to only match the nodes that also match a
+ * {@link NodeQuery}.
+ *
+ * <p>
+ *
+ * The constraints of the wrapped query are applied when the set of a segment
+ * is computed. This filter is usually combined with a {@link NodeFilterCache},
+ * so that the wrapped query is evaluated once per segment.
+ *
+ * <p>
+ *
+ * Code taken from {@link QueryWrapperFilter} and adapted for the SIREn use
+ * case.
+ */
+public class NodeQueryWrapperFilter extends NodeFilter {
+
+  private final NodeQuery query;
+
+  /**
+   * Constructs a filter which only matches the nodes matching
+   * <code>query</code>.
+   */
+  public NodeQueryWrapperFilter(final NodeQuery query) {
+    if (query == null)
+      throw new NullPointerException("Query may not be null");
+    this.query = query;
+  }
+
+  /**
+   * Returns the inner query
+   */
+  public final NodeQuery getQuery() {
+    return query;
+  }
+
+  @Override
+  public NodeDocIdSet getNodeDocIdSet(final AtomicReaderContext context,
+                                      final Bits acceptDocs)
+  throws IOException {
+    // get a private context that is used to rewrite, createWeight and score
+    // eventually
+    final AtomicReaderContext privateContext = context.reader().getContext();
+    final Weight weight = new IndexSearcher(privateContext).createNormalizedWeight(query);
+    final NodeScorer scorer = (NodeScorer) weight.scorer(privateContext, true, false, acceptDocs);
+    if (scorer == null) {
+      return null;
+    }
+
+    final NodeDocIdSet.Builder builder = new NodeDocIdSet.Builder(context.reader().maxDoc());
+    while (scorer.nextCandidateDocument()) {
+      while (scorer.nextNode()) {
+        builder.add(scorer.doc(), scorer.node());
+      }
+    }
+    final NodeDocIdSet set = builder.build();
+    return set.size() == 0 ? null : set;
+  }
+
+  @Override
+  public String toString() {
+    return "NodeQueryWrapperFilter(" + query + ")";
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (!(o instanceof NodeQueryWrapperFilter))
+      return false;
+    return this.query.equals(((NodeQueryWrapperFilter) o).query);
+  }
+
+  @Override
+  public int hashCode() {
+    return query.hashCode() ^ 0x923F64B9;
+  }
+
+}
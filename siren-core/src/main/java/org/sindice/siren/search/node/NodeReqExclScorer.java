@@ -151,13 +151,16 @@ class NodeReqExclScorer extends NodeScorer {
 
     int comparison;
     while ((comparison = NodeUtils.compare(reqNode, exclNode)) >= 0) {
-      // if node equal, advance to next node in reqScorer
-      if (comparison == 0 && !reqScorer.nextNode()) {
-        return false;
+      // if node equal, advance to next node in reqScorer. The excluded node
+      // is kept, as the next required node may be equal, e.g., an ancestor
+      // returned once for each of its descendants by an AncestorFilterScorer.
+      if (comparison == 0) {
+        if (!reqScorer.nextNode()) {
+          return false;
+        }
       }
-
-      // if node equal or excluded node ancestor, advance to next node
-      if (!exclScorer.nextNode()) {
+      // if excluded node ancestor, advance to next node
+      else if (!exclScorer.nextNode()) {
         return true;
       }
 
@@ -190,6 +193,34 @@ class NodeReqExclScorer extends NodeScorer {
                                     // already return false
   }
 
+  @Override
+  public int lastDocInBlock() throws IOException {
+    return reqScorer.lastDocInBlock();
+  }
+
+  @Override
+  public long cost() {
+    return reqScorer.cost();
+  }
+
+  @Override
+  public void setScoresNeeded(final boolean scoresNeeded) {
+    reqScorer.setScoresNeeded(scoresNeeded);
+    // the scores of the excluded nodes are never used
+    exclScorer.setScoresNeeded(false);
+  }
+
+  @Override
+  public void setBudget(final NodeQueryBudget budget) {
+    reqScorer.setBudget(budget);
+    exclScorer.setBudget(budget);
+  }
+
+  @Override
+  public float maxScoreInBlock() throws IOException {
+    return reqScorer.maxScoreInBlock();
+  }
+
   @Override
   public boolean skipToCandidate(final int target) throws IOException {
     if (exclScorer == null) {
@@ -149,6 +149,65 @@ class NodeReqOptScorer extends NodeScorer {
            : reqScore;
   }
 
+  /**
+   * Only the documents of the required scorer are candidates.
+   */
+  @Override
+  public long cost() {
+    return reqScorer.cost();
+  }
+
+  @Override
+  public void setScoresNeeded(final boolean scoresNeeded) {
+    reqScorer.setScoresNeeded(scoresNeeded);
+    optScorer.setScoresNeeded(scoresNeeded);
+  }
+
+  @Override
+  public void setBudget(final NodeQueryBudget budget) {
+    reqScorer.setBudget(budget);
+    optScorer.setBudget(budget);
+  }
+
+  /**
+   * The optional scorer is taken into account only if its current document is
+   * within the block of the required scorer.
+   */
+  @Override
+  public int lastDocInBlock() throws IOException {
+    final int lastDoc = reqScorer.lastDocInBlock();
+    return this.toOptCandidate() && optScorer.doc() <= lastDoc
+           ? Math.min(lastDoc, optScorer.lastDocInBlock())
+           : lastDoc;
+  }
+
+  @Override
+  public float maxScoreInBlock() throws IOException {
+    final float maxScore = reqScorer.maxScoreInBlock();
+    return this.toOptCandidate() && optScorer.doc() <= reqScorer.lastDocInBlock()
+           ? maxScore + optScorer.maxScoreInBlock()
+           : maxScore;
+  }
+
+  /**
+   * Advance the optional scorer to the current document of the required
+   * scorer, as done lazily in {@link #scoreInNode()}, so that its current
+   * block covers the current document.
+   *
+   * @return false if the optional scorer is exhausted.
+   */
+  private boolean toOptCandidate() throws IOException {
+    if (optScorer == null) {
+      return false;
+    }
+    else if (optScorer.doc() < this.doc() &&
+             !optScorer.skipToCandidate(this.doc())) {
+      optScorer = null;
+      return false;
+    }
+    return true;
+  }
+
   @Override
   public String toString() {
     return "NodeReqOptScorer(" + weight + "," +
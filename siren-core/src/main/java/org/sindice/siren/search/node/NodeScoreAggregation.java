@@ -0,0 +1,212 @@
+/**
+ * Copyright 2014 National University of Ireland, Galway.
+ *
+ * This file is part of the SIREn project. Project and contact information:
+ *
+ *  https://github.com/rdelbru/SIREn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.sindice.siren.search.node;
+
+/**
+ * Defines how the scores of the matching nodes of a document are aggregated
+ * into the score of the document, see
+ * {@link LuceneProxyNodeQuery#setScoreAggregation(NodeScoreAggregation)}.
+ *
+ * <p>
+ *
+ * The matching nodes are aggregated in document order. Except for
+ * {@link #SUM}, the aggregation stops iterating over the nodes of a document
+ * as soon as its score is fixed, which bounds the cost of scoring documents
+ * with a large number of matching nodes. The frequency of the document is
+ * then the sum of the frequencies of the nodes iterated. The {@link #MAX}
+ * aggregation stops once a node reaches the maximum node score of the block
+ * of the document, see {@link NodeScorer#maxNodeScoreInBlock()}.
+ *
+ * <p>
+ *
+ * The scores of the nodes being positive, an aggregated score is never
+ * greater than the sum of the scores of all the nodes. The block max scores
+ * of the node scorers remain therefore valid upper bounds.
+ */
+public abstract class NodeScoreAggregation {
+
+  /**
+   * The score of a document is the sum of the scores of all its matching
+   * nodes. This is the default.
+   */
+  public static final NodeScoreAggregation SUM = new NodeScoreAggregation() {
+
+    @Override
+    float aggregate(final float score, final float nodeScore) {
+      return score + nodeScore;
+    }
+
+    @Override
+    boolean isFixed(final float score, final int nodes, final float maxNodeScore) {
+      return false;
+    }
+
+    @Override
+    public String toString() {
+      return "sum";
+    }
+
+  };
+
+  /**
+   * The score of a document is the maximum score of its matching nodes. The
+   * nodes after the one reaching the maximum node score of the block are not
+   * iterated.
+   */
+  public static final NodeScoreAggregation MAX = new NodeScoreAggregation() {
+
+    @Override
+    float aggregate(final float score, final float nodeScore) {
+      return Math.max(score, nodeScore);
+    }
+
+    @Override
+    boolean isFixed(final float score, final int nodes, final float maxNodeScore) {
+      return score >= maxNodeScore;
+    }
+
+    @Override
+    public String toString() {
+      return "max";
+    }
+
+  };
+
+  /**
+   * The score of a document is the sum of the scores of its first
+   * <code>k</code> matching nodes. The other nodes are not iterated.
+   */
+  public static NodeScoreAggregation firstK(final int k) {
+    if (k < 1) {
+      throw new IllegalArgumentException("k must be >= 1, got " + k);
+    }
+    return new FirstK(k);
+  }
+
+  /**
+   * The score of a document is the sum of the scores of its matching nodes,
+   * capped at <code>maxScore</code>. The nodes after the one reaching the cap
+   * are not iterated.
+   */
+  public static NodeScoreAggregation cappedSum(final float maxScore) {
+    if (!(maxScore > 0)) {
+      throw new IllegalArgumentException("maxScore must be > 0, got " + maxScore);
+    }
+    return new CappedSum(maxScore);
+  }
+
+  private static final class FirstK extends NodeScoreAggregation {
+
+    private final int k;
+
+    FirstK(final int k) {
+      this.k = k;
+    }
+
+    @Override
+    float aggregate(final float score, final float nodeScore) {
+      return score + nodeScore;
+    }
+
+    @Override
+    boolean isFixed(final float score, final int nodes, final float maxNodeScore) {
+      return nodes >= k;
+    }
+
+    @Override
+    public String toString() {
+      return "first(" + k + ")";
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      return o instanceof FirstK && ((FirstK) o).k == k;
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * k + 1;
+    }
+
+  }
+
+  private static final class CappedSum extends NodeScoreAggregation {
+
+    private final float maxScore;
+
+    CappedSum(final float maxScore) {
+      this.maxScore = maxScore;
+    }
+
+    @Override
+    float first(final float nodeScore) {
+      return Math.min(nodeScore, maxScore);
+    }
+
+    @Override
+    float aggregate(final float score, final float nodeScore) {
+      return Math.min(score + nodeScore, maxScore);
+    }
+
+    @Override
+    boolean isFixed(final float score, final int nodes, final float maxNodeScore) {
+      return score >= maxScore;
+    }
+
+    @Override
+    public String toString() {
+      return "cappedSum(" + maxScore + ")";
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      return o instanceof CappedSum &&
+        Float.floatToIntBits(((CappedSum) o).maxScore) == Float.floatToIntBits(maxScore);
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * Float.floatToIntBits(maxScore) + 2;
+    }
+
+  }
+
+  NodeScoreAggregation() {}
+
+  /**
+   * Returns the score of a document after its first node.
+   */
+  float first(final float nodeScore) {
+    return nodeScore;
+  }
+
+  /**
+   * Returns the score of a document after one more node.
+   */
+  abstract float aggregate(float score, float nodeScore);
+
+  /**
+   * Returns true if the score of a document can not change anymore, given its
+   * current score, the number of nodes aggregated and an upper bound of the
+   * score of its remaining nodes.
+   */
+  abstract boolean isFixed(float score, int nodes, float maxNodeScore);
+
+}
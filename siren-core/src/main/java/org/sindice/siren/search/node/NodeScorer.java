@@ -112,6 +112,89 @@ public abstract class NodeScorer extends Scorer {
    */
   public abstract float scoreInNode() throws IOException;
 
+  /**
+   * Expert: Returns the last document identifier of the current block, i.e.,
+   * of the window of documents starting at {@link #doc()} for which
+   * {@link #maxScoreInBlock()} is an upper bound of the document score.
+   * <p>
+   * Should not be called until {@link #nextCandidateDocument()} or
+   * {@link #skipToCandidate(int)} are called for the first time.
+   * <p>
+   * The default implementation returns {@link #doc()}.
+   */
+  public int lastDocInBlock() throws IOException {
+    return this.doc();
+  }
+
+  /**
+   * Expert: Returns an upper bound of the score of any document between
+   * {@link #doc()} and {@link #lastDocInBlock()}, where the score of a
+   * document is the sum of the {@link #scoreInNode()} of its matching nodes.
+   * <p>
+   * Used by {@link LuceneProxyNodeScorer} to skip the blocks of documents that
+   * cannot enter the top-k results.
+   * <p>
+   * The default implementation returns {@link Float#POSITIVE_INFINITY}, which
+   * disables the skipping.
+   */
+  public float maxScoreInBlock() throws IOException {
+    return Float.POSITIVE_INFINITY;
+  }
+
+  /**
+   * Expert: Returns an upper bound of the {@link #scoreInNode()} of any node
+   * of the documents between {@link #doc()} and {@link #lastDocInBlock()}.
+   * <p>
+   * Used by {@link LuceneProxyNodeScorer} to stop the
+   * {@link NodeScoreAggregation#MAX} aggregation once the best node of a
+   * document has been found.
+   * <p>
+   * The default implementation returns {@link #maxScoreInBlock()}, the score
+   * of a node being a part of the score of its document.
+   */
+  public float maxNodeScoreInBlock() throws IOException {
+    return this.maxScoreInBlock();
+  }
+
+  /**
+   * Expert: Returns an estimate of the number of candidate documents of this
+   * scorer, e.g., the document frequency of a term.
+   * <p>
+   * Used by {@link NodeConjunctionScorer} and {@link TwigConjunctionScorer} to
+   * lead with the rarest scorer.
+   * <p>
+   * The default implementation returns {@link Long#MAX_VALUE}, i.e., the cost
+   * is unknown.
+   */
+  public long cost() {
+    return Long.MAX_VALUE;
+  }
+
+  /**
+   * Expert: Indicates if the scores and the frequencies of the nodes will be
+   * used. If not, {@link #scoreInNode()} and {@link #freqInNode()} are never
+   * called, and a scorer which computes them while matching nodes, or which
+   * loads information for them, can skip it.
+   * <p>
+   * Must be called before the scorer is advanced. A scorer wrapping other
+   * scorers must forward the flag to them.
+   * <p>
+   * The default implementation does nothing.
+   */
+  public void setScoresNeeded(final boolean scoresNeeded) {}
+
+  /**
+   * Expert: Sets the budget bounding the work of the scorer. A scorer reading
+   * documents, nodes or positions records a visit for each of them, and
+   * behaves as if there was no more to read once the budget is exhausted.
+   * <p>
+   * Must be called before the scorer is advanced. A scorer wrapping other
+   * scorers must forward the budget to them.
+   * <p>
+   * The default implementation does nothing.
+   */
+  public void setBudget(final NodeQueryBudget budget) {}
+
   /**
    * Methods implemented in {@link LuceneProxyNodeScorer}
    */
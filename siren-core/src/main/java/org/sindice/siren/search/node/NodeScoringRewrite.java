@@ -111,8 +111,13 @@ abstract class NodeScoringRewrite<Q extends Query> extends NodeTermCollectingRew
         return bq;
       }
       // strip the scores off
-      final Query result = new NodeConstantScoreQuery(bq);
+      final NodeQuery result = new NodeConstantScoreQuery(bq);
       result.setBoost(query.getBoost());
+      // set level and node constraints
+      result.setLevelConstraint(query.getLevelConstraint());
+      result.setNodeConstraint(query.getNodeConstraint()[0], query.getNodeConstraint()[1]);
+      // set ancestor
+      result.setAncestorPointer(query.ancestor);
       return result;
     }
 
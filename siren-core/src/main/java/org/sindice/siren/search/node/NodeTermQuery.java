@@ -110,7 +110,9 @@ public class NodeTermQuery extends NodePrimitiveQuery {
 
       final DocsAndPositionsEnum docsEnum = termsEnum.docsAndPositions(acceptDocs, null);
       final DocsNodesAndPositionsEnum sirenDocsEnum = NodeTermQuery.this.getDocsNodesAndPositionsEnum(docsEnum);
-      return new NodeTermScorer(this, sirenDocsEnum, this.createDocScorer(context));
+      return new NodeTermScorer(this, sirenDocsEnum, this.createDocScorer(context),
+        context.reader().normValues(term.field()), context.reader().maxDoc(),
+        termsEnum.docFreq());
     }
 
     /**
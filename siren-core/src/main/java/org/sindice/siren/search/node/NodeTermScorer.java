@@ -20,12 +20,15 @@
 package org.sindice.siren.search.node;
 
 import java.io.IOException;
+import java.util.Arrays;
 
+import org.apache.lucene.index.DocValues;
 import org.apache.lucene.search.Weight;
 import org.apache.lucene.search.similarities.Similarity;
 import org.apache.lucene.util.IntsRef;
 import org.sindice.siren.index.DocsAndNodesIterator;
 import org.sindice.siren.index.DocsNodesAndPositionsEnum;
+import org.sindice.siren.index.PositionsIterator;
 
 /**
  * A {@link NodeScorer} for nodes matching a <code>Term</code>.
@@ -36,6 +39,45 @@ class NodeTermScorer extends NodePositionScorer {
 
   private final Similarity.ExactSimScorer docScorer;
 
+  /**
+   * The norms of the field of the <code>Term</code> in the segment, or null if
+   * the field has no norms.
+   */
+  private final DocValues norms;
+
+  /** The number of documents of the segment */
+  private final int maxDoc;
+
+  /**
+   * A document for each distinct norm value of the segment, see
+   * {@link NormRepresentatives}, loaded by the first call to
+   * {@link #maxScoreInBlock()}.
+   */
+  private int[] normDocs = null;
+
+  /** Flag to know if the norm representatives have been loaded */
+  private boolean normDocsLoaded = false;
+
+  /**
+   * The maximum score in a node of the small term frequencies, or
+   * <code>NaN</code> if not computed yet.
+   */
+  private final float[] maxScoreInNodeCache = new float[32];
+
+  /**
+   * The document frequency of the <code>Term</code>, or -1 if unknown.
+   */
+  private final int docFreq;
+
+  /** Flag to know if the term frequencies must be loaded */
+  private boolean scoresNeeded = true;
+
+  /** The budget of the search, or null if the work is not bounded */
+  private NodeQueryBudget budget = null;
+
+  /** Flag to know if the budget ran out, the scorer is then exhausted */
+  private boolean budgetExhausted = false;
+
   /**
    * Construct a <code>NodeTermScorer</code>.
    *
@@ -48,51 +90,74 @@ class NodeTermScorer extends NodePositionScorer {
    *          The </code>Similarity</code> implementation to be used for score
    *          computations.
    * @param norms
-   *          The field norms of the document fields for the <code>Term</code>.
+   *          The norms of the field of the <code>Term</code> in the segment,
+   *          or null if the field has no norms.
+   * @param maxDoc
+   *          The number of documents of the segment.
+   * @param docFreq
+   *          The document frequency of the <code>Term</code>, or -1 if unknown.
    * @throws IOException
    */
   protected NodeTermScorer(final Weight weight,
                            final DocsNodesAndPositionsEnum docsEnum,
-                           final Similarity.ExactSimScorer docScorer)
+                           final Similarity.ExactSimScorer docScorer,
+                           final DocValues norms, final int maxDoc,
+                           final int docFreq)
   throws IOException {
     super(weight);
     this.docScorer = docScorer;
     this.docsEnum = docsEnum;
+    this.norms = norms;
+    this.maxDoc = maxDoc;
+    this.docFreq = docFreq;
+    Arrays.fill(maxScoreInNodeCache, Float.NaN);
   }
 
   @Override
   public int doc() {
-    return docsEnum.doc();
+    return budgetExhausted ? DocsAndNodesIterator.NO_MORE_DOC : docsEnum.doc();
   }
 
   @Override
   public float freqInNode()
   throws IOException {
+    if (!scoresNeeded) {
+      return 1;
+    }
     return docsEnum.termFreqInNode();
   }
 
   @Override
   public int pos() {
-    return docsEnum.pos();
+    return budgetExhausted ? PositionsIterator.NO_MORE_POS : docsEnum.pos();
   }
 
   @Override
   public IntsRef node() {
-    return docsEnum.node();
+    return budgetExhausted ? DocsAndNodesIterator.NO_MORE_NOD : docsEnum.node();
   }
 
   @Override
   public boolean nextCandidateDocument() throws IOException {
+    if (!this.visit()) {
+      return false;
+    }
     return docsEnum.nextDocument();
   }
 
   @Override
   public boolean nextNode() throws IOException {
+    if (!this.visit()) {
+      return false;
+    }
     return docsEnum.nextNode();
   }
 
   @Override
   public boolean nextPosition() throws IOException {
+    if (!this.visit()) {
+      return false;
+    }
     return docsEnum.nextPosition();
   }
 
@@ -100,14 +165,130 @@ class NodeTermScorer extends NodePositionScorer {
   public float scoreInNode()
   throws IOException {
     assert this.doc() != DocsAndNodesIterator.NO_MORE_DOC;
+    if (!scoresNeeded) {
+      return 0;
+    }
     return docScorer.score(docsEnum.doc(), docsEnum.termFreqInNode());
   }
 
+  /**
+   * If the scores are not needed, the term frequencies are not loaded:
+   * {@link #freqInNode()} returns 1 and {@link #scoreInNode()} returns 0. The
+   * term frequencies are still loaded by {@link #nextPosition()}.
+   */
+  @Override
+  public void setScoresNeeded(final boolean scoresNeeded) {
+    this.scoresNeeded = scoresNeeded;
+  }
+
+  /**
+   * Each candidate document, node and position read records a visit. Once the budget
+   * is exhausted, the scorer behaves as if it was exhausted.
+   */
+  @Override
+  public void setBudget(final NodeQueryBudget budget) {
+    this.budget = budget;
+  }
+
+  /**
+   * Records a visit, and returns false if the budget is exhausted.
+   */
+  private boolean visit() {
+    if (budget != null && !budgetExhausted && !budget.visit()) {
+      budgetExhausted = true;
+    }
+    return !budgetExhausted;
+  }
+
+  @Override
+  public int lastDocInBlock() {
+    return docsEnum.lastDocInBlock();
+  }
+
+  /**
+   * Computes the block max score based on the maximum node frequency and the
+   * maximum term frequency in a node of the current block. This assumes that
+   * the score of a node increases with the term frequency.
+   * <p>
+   * If the field has norms, the score of the maximum term frequency is bounded
+   * by its score in the documents representing the distinct norm values of
+   * the segment, see {@link NormRepresentatives}.
+   */
+  @Override
+  public float maxScoreInBlock() throws IOException {
+    if (this.doc() == DocsAndNodesIterator.NO_MORE_DOC) {
+      return 0;
+    }
+    final int maxNodeFreq = docsEnum.maxNodeFreqInBlock();
+    final int maxTermFreq = docsEnum.maxTermFreqInNodeInBlock();
+    if (maxNodeFreq == Integer.MAX_VALUE || maxTermFreq == Integer.MAX_VALUE) {
+      return Float.POSITIVE_INFINITY;
+    }
+    // round up to account for the rounding errors of the sum of node scores
+    return Math.nextUp(maxNodeFreq * this.maxScoreInNode(maxTermFreq));
+  }
+
+  /**
+   * Computes the maximum node score based on the maximum term frequency in a
+   * node of the current block.
+   */
+  @Override
+  public float maxNodeScoreInBlock() throws IOException {
+    if (this.doc() == DocsAndNodesIterator.NO_MORE_DOC) {
+      return 0;
+    }
+    final int maxTermFreq = docsEnum.maxTermFreqInNodeInBlock();
+    if (maxTermFreq == Integer.MAX_VALUE) {
+      return Float.POSITIVE_INFINITY;
+    }
+    return this.maxScoreInNode(maxTermFreq);
+  }
+
+  /**
+   * Returns the maximum score of a node with the given term frequency in any
+   * document of the segment.
+   */
+  private float maxScoreInNode(final int termFreq) throws IOException {
+    if (norms == null) {
+      return docScorer.score(this.doc(), termFreq);
+    }
+    if (termFreq < maxScoreInNodeCache.length &&
+        !Float.isNaN(maxScoreInNodeCache[termFreq])) {
+      return maxScoreInNodeCache[termFreq];
+    }
+    if (!normDocsLoaded) {
+      normDocs = NormRepresentatives.get(norms, maxDoc);
+      normDocsLoaded = true;
+    }
+    if (normDocs == null) { // too many distinct norm values
+      return Float.POSITIVE_INFINITY;
+    }
+    float maxScore = 0;
+    for (final int doc : normDocs) {
+      maxScore = Math.max(maxScore, docScorer.score(doc, termFreq));
+    }
+    if (termFreq < maxScoreInNodeCache.length) {
+      maxScoreInNodeCache[termFreq] = maxScore;
+    }
+    return maxScore;
+  }
+
   @Override
   public boolean skipToCandidate(final int target) throws IOException {
+    if (!this.visit()) {
+      return false;
+    }
     return docsEnum.skipTo(target);
   }
 
+  /**
+   * Returns the document frequency of the <code>Term</code>.
+   */
+  @Override
+  public long cost() {
+    return docFreq == -1 ? super.cost() : docFreq;
+  }
+
   @Override
   public String toString() {
     return "NodeTermScorer(" + weight + "," + this.doc() + "," + this.node() + ")";
@@ -0,0 +1,185 @@
+/**
+ * Copyright 2014 National University of Ireland, Galway.
+ *
+ * This file is part of the SIREn project. Project and contact information:
+ *
+ *  https://github.com/rdelbru/SIREn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.sindice.siren.search.node;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.DocValues.Source;
+import org.apache.lucene.util.WeakIdentityMap;
+
+/**
+ * Selects, for each distinct norm value of a field in a segment, a document
+ * having this norm value.
+ *
+ * <p>
+ *
+ * With the similarities of Lucene, the score of a term in a document only
+ * depends on the term frequency and on the norm value of the document. The
+ * maximum score of a term frequency over the representatives is then the
+ * maximum score of this term frequency over all the documents of the segment.
+ * This does not hold for a similarity whose
+ * {@link org.apache.lucene.search.similarities.Similarity.ExactSimScorer}
+ * reads other per-document values, e.g., a document boost stored in doc
+ * values: the block max pruning of
+ * {@link LuceneProxyNodeQuery#setTopK(int)} must not be used with such a
+ * similarity, as it would drop documents from the top-k results.
+ *
+ * <p>
+ *
+ * The representatives are computed by scanning the norms of the segment once,
+ * by the first query bounding a block max score in the field, and are cached
+ * until the norms of the segment are reclaimed. The scan of byte norms stops
+ * as soon as the 256 possible values are found.
+ */
+final class NormRepresentatives {
+
+  /**
+   * The maximum number of representatives. A field with more distinct norm
+   * values, e.g., with floating point norms, has no representatives.
+   */
+  static final int MAX_REPRESENTATIVES = 256;
+
+  /** Marks a field with too many distinct norm values in the cache */
+  private static final int[] NONE = new int[0];
+
+  /** The sources are compared by identity, without a global lock */
+  private static final WeakIdentityMap<Source, int[]> cache =
+    WeakIdentityMap.newConcurrentHashMap();
+
+  private NormRepresentatives() {}
+
+  /**
+   * Returns a document for each distinct norm value of the segment, or null if
+   * there are more than {@link #MAX_REPRESENTATIVES} distinct norm values.
+   *
+   * @param norms
+   *          The norms of the field in the segment.
+   * @param maxDoc
+   *          The number of documents of the segment.
+   */
+  static int[] get(final DocValues norms, final int maxDoc)
+  throws IOException {
+    final Source source = norms.getSource();
+    int[] docs = cache.get(source);
+    if (docs == null) {
+      // concurrent queries may compute the same representatives
+      docs = compute(source, maxDoc);
+      cache.put(source, docs);
+    }
+    return docs == NONE ? null : docs;
+  }
+
+  private static int[] compute(final Source source, final int maxDoc) {
+    if (source.getType() == DocValues.Type.FIXED_INTS_8) {
+      return computeBytes(source, maxDoc);
+    }
+
+    final Map<Long, Integer> docs = new HashMap<Long, Integer>();
+    switch (source.getType()) {
+      case FIXED_INTS_16:
+      case FIXED_INTS_32:
+      case FIXED_INTS_64:
+      case VAR_INTS:
+        for (int doc = 0; doc < maxDoc; doc++) {
+          if (!addValue(docs, source.getInt(doc), doc)) {
+            return NONE;
+          }
+        }
+        break;
+
+      case FLOAT_32:
+      case FLOAT_64:
+        for (int doc = 0; doc < maxDoc; doc++) {
+          if (!addValue(docs, Double.doubleToLongBits(source.getFloat(doc)), doc)) {
+            return NONE;
+          }
+        }
+        break;
+
+      default: // byte norms
+        return NONE;
+    }
+
+    final int[] representatives = new int[docs.size()];
+    int i = 0;
+    for (final Integer doc : docs.values()) {
+      representatives[i++] = doc;
+    }
+    return representatives;
+  }
+
+  /**
+   * Computes the representatives of single byte norms, e.g., the norms of the
+   * default similarity, without boxing the norm values.
+   */
+  private static int[] computeBytes(final Source source, final int maxDoc) {
+    final int[] firstDocs = new int[256];
+    Arrays.fill(firstDocs, -1);
+    int size = 0;
+    if (source.hasArray() && source.getArray() instanceof byte[]) {
+      final byte[] values = (byte[]) source.getArray();
+      for (int doc = 0; doc < maxDoc && size < 256; doc++) {
+        final int value = values[doc] & 0xFF;
+        if (firstDocs[value] == -1) {
+          firstDocs[value] = doc;
+          size++;
+        }
+      }
+    }
+    else {
+      for (int doc = 0; doc < maxDoc && size < 256; doc++) {
+        final int value = (int) source.getInt(doc) & 0xFF;
+        if (firstDocs[value] == -1) {
+          firstDocs[value] = doc;
+          size++;
+        }
+      }
+    }
+
+    final int[] representatives = new int[size];
+    int i = 0;
+    for (final int doc : firstDocs) {
+      if (doc != -1) {
+        representatives[i++] = doc;
+      }
+    }
+    return representatives;
+  }
+
+  /**
+   * Records the first document of a norm value, and returns false if there
+   * are too many distinct norm values.
+   */
+  private static boolean addValue(final Map<Long, Integer> docs,
+                                  final long value, final int doc) {
+    if (!docs.containsKey(value)) {
+      if (docs.size() == MAX_REPRESENTATIVES) {
+        return false;
+      }
+      docs.put(value, doc);
+    }
+    return true;
+  }
+
+}
@@ -23,6 +23,7 @@ import java.io.IOException;
 import java.util.Collection;
 
 import org.apache.lucene.search.Weight;
+import org.apache.lucene.util.ArrayUtil;
 import org.apache.lucene.util.IntsRef;
 import org.sindice.siren.index.DocsAndNodesIterator;
 import org.sindice.siren.util.NodeUtils;
@@ -35,6 +36,21 @@ import org.sindice.siren.util.NodeUtils;
  *
  * The root node (ancestor node) is considered matching if its scorers and all
  * the descendant scorers match the same node.
+ *
+ * <p>
+ *
+ * The candidate documents are iterated as in {@link NodeConjunctionScorer},
+ * led by the rarest of the root and descendant scorers. Within a document, the
+ * root scorer drives the iteration over the nodes, and the descendant scorers
+ * are checked by increasing cost, so that a root node is rejected by the
+ * rarest descendant scorer first.
+ *
+ * <p>
+ *
+ * The cheapest descendant scorer does not drive the node iteration:
+ * {@link NodeScorer} can only move to the next node, not skip to a node, so
+ * the root scorer would still visit each of its nodes to reach the ancestor of
+ * the node of the descendant, with the same comparisons as above.
  **/
 class TwigConjunctionScorer extends NodeConjunctionScorer {
 
@@ -54,7 +70,9 @@ class TwigConjunctionScorer extends NodeConjunctionScorer {
   throws IOException {
     super(weight, coord, append(scorers, root));
     this.root = root;
-    this.descendants = scorers;
+    this.descendants = scorers.clone();
+    // stable sort to keep the order of the descendants of equal cost
+    ArrayUtil.mergeSort(descendants, COST_COMPARATOR);
   }
 
   private static final NodeScorer[] append(final NodeScorer[] array, final NodeScorer element) {
@@ -0,0 +1,634 @@
+/**
+ * Copyright 2014 National University of Ireland, Galway.
+ *
+ * This file is part of the SIREn project. Project and contact information:
+ *
+ *  https://github.com/rdelbru/SIREn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.sindice.siren.search.node;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.apache.lucene.search.Weight;
+import org.apache.lucene.util.IntsRef;
+import org.sindice.siren.index.DocsAndNodesIterator;
+import org.sindice.siren.search.node.NodeBooleanClause.Occur;
+import org.sindice.siren.util.NodeUtils;
+
+/**
+ * A {@link NodeScorer} that matches a twig of several levels with a holistic
+ * twig join, in the style of TwigStack.
+ *
+ * <p>
+ *
+ * The twig is a tree of {@link Twig}s, one for each {@link TwigQuery} of the
+ * twig, whose leaves are the scorers of the roots and of the clauses that are
+ * not twigs. In contrast to {@link TwigScorer}, which nests a
+ * {@link NodeBooleanScorer} and {@link AncestorFilterScorer}s for each level,
+ * the twig join:
+ * <ul>
+ * <li> iterates over the candidate documents with a single conjunction of all
+ * the leaves that are required up to the top of the twig;
+ * <li> walks the node lists of all the leaves of a candidate document in one
+ * pass. The node lists and the matching ancestors of the nested twigs are
+ * sorted in document order, so that each {@link Twig} joins the nodes of its
+ * branches by merging them on their ancestor at the twig level. Each node of a
+ * branch is read once and compared only at the level of its twig.
+ * </ul>
+ *
+ * <p>
+ *
+ * A matching node is returned once, and its score is the sum of the scores
+ * of all the nodes of its branches below it.
+ */
+class TwigJoinScorer extends NodeScorer {
+
+  private final Twig twig;
+
+  /** The conjunction of the leaves required up to the top of the twig */
+  private final NodeScorer requiredScorer;
+
+  /** The leaves that are neither required nor prohibited */
+  private final List<NodeScorer> optionalScorers = new ArrayList<NodeScorer>();
+
+  private final List<ChildScorer> children = new ArrayList<ChildScorer>();
+
+  /** Flag to know if the twig has been positioned on the current document */
+  private boolean isTwigPositioned = false;
+
+  /** The node returned until the twig is positioned on the current document */
+  private final IntsRef unpositionedNode = new IntsRef(new int[] { -1 }, 0, 1);
+
+  private IntsRef lastNode = unpositionedNode;
+
+  /**
+   * The copy of the matching node of the top twig which is returned. The
+   * callers, e.g., {@link AncestorFilterScorer}, may modify the node in place,
+   * which must not affect the node on which the twig is joining its branches.
+   */
+  private final IntsRef matchNode;
+
+  /**
+   * Creates a {@link TwigJoinScorer} for the given twig. The twig must have at
+   * least one leaf that is required up to the top.
+   *
+   * @see Twig#hasRequiredLeaf()
+   */
+  public TwigJoinScorer(final Weight weight, final Twig twig) throws IOException {
+    super(weight);
+    this.twig = twig;
+    this.matchNode = new IntsRef(twig.level);
+    final List<NodeScorer> required = new ArrayList<NodeScorer>();
+    twig.addLeaves(required, optionalScorers, children, true);
+    requiredScorer = new NodeConjunctionScorer(weight, 1.0f, required);
+  }
+
+  @Override
+  public boolean nextCandidateDocument() throws IOException {
+    isTwigPositioned = false;
+    lastNode = unpositionedNode;
+    return requiredScorer.nextCandidateDocument();
+  }
+
+  @Override
+  public boolean skipToCandidate(final int target) throws IOException {
+    isTwigPositioned = false;
+    lastNode = unpositionedNode;
+    return requiredScorer.skipToCandidate(target);
+  }
+
+  @Override
+  public boolean nextNode() throws IOException {
+    if (lastNode == DocsAndNodesIterator.NO_MORE_NOD) {
+      return false;
+    }
+    if (!isTwigPositioned) {
+      // the branches are positioned lazily, when the nodes of the candidate
+      // document are requested
+      isTwigPositioned = true;
+      twig.reset(this.doc());
+    }
+    else {
+      twig.next();
+    }
+    if (twig.exhausted) {
+      lastNode = DocsAndNodesIterator.NO_MORE_NOD;
+      return false;
+    }
+    final IntsRef node = twig.node();
+    System.arraycopy(node.ints, node.offset, matchNode.ints, 0, node.length);
+    matchNode.length = node.length;
+    lastNode = matchNode;
+    return true;
+  }
+
+  @Override
+  public int doc() {
+    return requiredScorer.doc();
+  }
+
+  @Override
+  public IntsRef node() {
+    return lastNode;
+  }
+
+  /**
+   * Returns the number of matching clauses of the top twig in the current node
+   */
+  @Override
+  public float freqInNode() throws IOException {
+    return twig.freq;
+  }
+
+  @Override
+  public float scoreInNode() throws IOException {
+    return twig.score;
+  }
+
+  /**
+   * The block ends with the first block ending among the required leaves and
+   * the optional leaves.
+   */
+  @Override
+  public int lastDocInBlock() throws IOException {
+    final int doc = this.doc();
+    if (doc == DocsAndNodesIterator.NO_MORE_DOC) {
+      return doc;
+    }
+    int lastDoc = requiredScorer.lastDocInBlock();
+    for (final NodeScorer scorer : optionalScorers) {
+      if (this.skipOptional(scorer, doc)) {
+        lastDoc = Math.min(lastDoc, scorer.lastDocInBlock());
+      }
+    }
+    return lastDoc;
+  }
+
+  /**
+   * Each node of a leaf contributes at most once to the score of the
+   * document. The block max score is therefore bounded by the sum of the block
+   * max scores of the required leaves and of the optional leaves.
+   */
+  @Override
+  public float maxScoreInBlock() throws IOException {
+    final int doc = this.doc();
+    if (doc == DocsAndNodesIterator.NO_MORE_DOC) {
+      return 0;
+    }
+    float maxScore = requiredScorer.maxScoreInBlock();
+    for (final NodeScorer scorer : optionalScorers) {
+      if (this.skipOptional(scorer, doc)) {
+        maxScore += scorer.maxScoreInBlock();
+      }
+    }
+    return maxScore;
+  }
+
+  /**
+   * Move the optional leaf to the given document if it is behind, and return
+   * false if it is exhausted.
+   */
+  private boolean skipOptional(final NodeScorer scorer, final int doc)
+  throws IOException {
+    if (scorer.doc() < doc) {
+      scorer.skipToCandidate(doc);
+    }
+    return scorer.doc() != DocsAndNodesIterator.NO_MORE_DOC;
+  }
+
+  /**
+   * Only the documents of the required leaves are candidates.
+   */
+  @Override
+  public long cost() {
+    return requiredScorer.cost();
+  }
+
+  /**
+   * If the scores are not needed, the twigs do not sum the scores of the
+   * nodes of their branches while joining them.
+   */
+  @Override
+  public void setScoresNeeded(final boolean scoresNeeded) {
+    twig.setScoresNeeded(scoresNeeded);
+  }
+
+  @Override
+  public void setBudget(final NodeQueryBudget budget) {
+    twig.setBudget(budget);
+  }
+
+  @Override
+  public Collection<ChildScorer> getChildren() {
+    return children;
+  }
+
+  @Override
+  public String toString() {
+    return "TwigJoinScorer(" + weight + "," + this.doc() + "," +
+      this.node() + ")";
+  }
+
+  /**
+   * A stream of nodes of a candidate document, sorted in document order.
+   * <p>
+   * The branch is positioned on a node which has not been consumed yet, until
+   * it is exhausted.
+   */
+  static abstract class Branch {
+
+    /** Flag to know if there is no more node in the current document */
+    boolean exhausted = true;
+
+    /**
+     * Position the branch on its first node in the given document.
+     */
+    abstract void reset(int doc) throws IOException;
+
+    /**
+     * Move to the next node, and return false if the branch is exhausted.
+     */
+    abstract boolean next() throws IOException;
+
+    /**
+     * Returns the current node
+     */
+    abstract IntsRef node();
+
+    /**
+     * Indicates if the scores of the nodes will be used, see
+     * {@link NodeScorer#setScoresNeeded(boolean)}.
+     */
+    abstract void setScoresNeeded(boolean scoresNeeded);
+
+    /**
+     * Sets the budget of the leaves, see
+     * {@link NodeScorer#setBudget(NodeQueryBudget)}.
+     */
+    abstract void setBudget(NodeQueryBudget budget);
+
+    /**
+     * Returns the score of the current node
+     */
+    abstract float score() throws IOException;
+
+    /**
+     * Add the leaves of this branch to the given lists. The leaves that are
+     * required up to the top of the twig are added to the required list. The
+     * leaves that are not prohibited are added to the optional list.
+     */
+    abstract void addLeaves(List<NodeScorer> required, List<NodeScorer> optional,
+                            List<ChildScorer> children, boolean isRequired);
+
+  }
+
+  /**
+   * A branch over the nodes of a {@link NodeScorer}.
+   */
+  static class Leaf extends Branch {
+
+    private final NodeScorer scorer;
+
+    private final String relationship;
+
+    Leaf(final NodeScorer scorer, final Occur occur) {
+      this.scorer = scorer;
+      this.relationship = occur.toString();
+    }
+
+    @Override
+    void reset(final int doc) throws IOException {
+      if (scorer.doc() < doc) {
+        scorer.skipToCandidate(doc);
+      }
+      exhausted = scorer.doc() != doc || !scorer.nextNode();
+    }
+
+    @Override
+    boolean next() throws IOException {
+      exhausted = !scorer.nextNode();
+      return !exhausted;
+    }
+
+    @Override
+    IntsRef node() {
+      return scorer.node();
+    }
+
+    @Override
+    float score() throws IOException {
+      return scorer.scoreInNode();
+    }
+
+    @Override
+    void setScoresNeeded(final boolean scoresNeeded) {
+      scorer.setScoresNeeded(scoresNeeded);
+    }
+
+    @Override
+    void setBudget(final NodeQueryBudget budget) {
+      scorer.setBudget(budget);
+    }
+
+    @Override
+    void addLeaves(final List<NodeScorer> required, final List<NodeScorer> optional,
+                   final List<ChildScorer> children, final boolean isRequired) {
+      if (isRequired) {
+        required.add(scorer);
+      }
+      else if (optional != null) {
+        optional.add(scorer);
+      }
+      children.add(new ChildScorer(scorer, relationship));
+    }
+
+  }
+
+  /**
+   * A branch over the matching nodes of a twig at a given level.
+   * <p>
+   * A node at the level of the twig is matching if it is a node of the root,
+   * an ancestor of a node of each required branch and of none of the
+   * prohibited branches. The branches are merged on their ancestor at the
+   * level of the twig: a required branch lagging behind the candidate ancestor
+   * is moved forward, and a required branch ahead of it gives the next
+   * candidate ancestor. If there is no root and no required branch, the
+   * candidate ancestor is the smallest among the optional branches.
+   */
+  static class Twig extends Branch {
+
+    private final int level;
+
+    private final Branch[] required;
+    private final Branch[] optional;
+    private final Branch[] prohibited;
+
+    /** The current matching ancestor */
+    private final IntsRef match;
+
+    /** The score of the current matching ancestor */
+    float score;
+
+    /** The number of matching branches of the current matching ancestor */
+    int freq;
+
+    /** Flag to know if the scores of the branches must be summed */
+    private boolean scoresNeeded = true;
+
+    /**
+     * Creates a twig at the given level.
+     *
+     * @param level
+     *          the level of the twig.
+     * @param root
+     *          the branch of the root, or null if the twig has an empty root.
+     */
+    Twig(final int level, final Branch root,
+         final List<Branch> required,
+         final List<Branch> prohibited,
+         final List<Branch> optional) {
+      this.level = level;
+      if (root != null) {
+        required.add(0, root);
+      }
+      this.required = required.toArray(new Branch[required.size()]);
+      this.prohibited = prohibited.toArray(new Branch[prohibited.size()]);
+      this.optional = optional.toArray(new Branch[optional.size()]);
+      this.match = new IntsRef(level);
+      this.match.length = level;
+    }
+
+    @Override
+    void reset(final int doc) throws IOException {
+      for (final Branch branch : required) {
+        branch.reset(doc);
+        if (branch.exhausted) {
+          // no need to position the other branches
+          exhausted = true;
+          return;
+        }
+      }
+      for (final Branch branch : optional) {
+        branch.reset(doc);
+      }
+      for (final Branch branch : prohibited) {
+        branch.reset(doc);
+      }
+      exhausted = !this.next();
+    }
+
+    @Override
+    boolean next() throws IOException {
+      while (this.nextCandidate()) {
+        final boolean isProhibited = this.isProhibited();
+        score = 0;
+        freq = 0;
+        // consume the nodes of the branches below the candidate ancestor
+        for (final Branch branch : required) {
+          this.collect(branch, scoresNeeded && !isProhibited);
+          freq++;
+        }
+        for (final Branch branch : optional) {
+          if (this.collect(branch, scoresNeeded && !isProhibited)) {
+            freq++;
+          }
+        }
+        if (!isProhibited && freq > 0) {
+          return true;
+        }
+      }
+      exhausted = true;
+      return false;
+    }
+
+    /**
+     * Move to the next candidate ancestor, on which all the required branches
+     * agree.
+     */
+    private boolean nextCandidate() throws IOException {
+      if (required.length == 0) {
+        return this.nextOptionalCandidate();
+      }
+
+      for (final Branch branch : required) {
+        if (branch.exhausted) {
+          return false;
+        }
+      }
+
+      this.setMatch(required[0].node());
+      boolean agree;
+      do {
+        agree = true;
+        for (final Branch branch : required) {
+          int c;
+          while ((c = NodeUtils.compareAncestor(branch.node(), match, level)) < 0) {
+            if (!branch.next()) {
+              return false;
+            }
+          }
+          if (c > 0) { // branch ahead, new candidate ancestor
+            this.setMatch(branch.node());
+            agree = false;
+          }
+        }
+      } while (!agree);
+      return true;
+    }
+
+    /**
+     * Move to the smallest ancestor among the optional branches.
+     */
+    private boolean nextOptionalCandidate() {
+      boolean found = false;
+      for (final Branch branch : optional) {
+        if (!branch.exhausted &&
+            (!found || NodeUtils.compareAncestor(branch.node(), match, level) < 0)) {
+          this.setMatch(branch.node());
+          found = true;
+        }
+      }
+      return found;
+    }
+
+    /**
+     * Copy the ancestor at the level of the twig of the given node. A node
+     * above the level of the twig is padded with -1, so that it is less than
+     * its descendants.
+     */
+    private void setMatch(final IntsRef node) {
+      final int length = Math.min(node.length, level);
+      System.arraycopy(node.ints, node.offset, match.ints, 0, length);
+      for (int i = length; i < level; i++) {
+        match.ints[i] = -1;
+      }
+    }
+
+    /**
+     * Returns true if a prohibited branch has a node below the candidate
+     * ancestor.
+     */
+    private boolean isProhibited() throws IOException {
+      for (final Branch branch : prohibited) {
+        while (!branch.exhausted) {
+          final int c = NodeUtils.compareAncestor(branch.node(), match, level);
+          if (c == 0) {
+            return true;
+          }
+          if (c > 0) {
+            break;
+          }
+          branch.next();
+        }
+      }
+      return false;
+    }
+
+    /**
+     * Move the branch after the candidate ancestor, and sum the scores of its
+     * nodes below the candidate ancestor if <code>scoring</code> is true.
+     * Returns true if the branch has a node below the candidate ancestor.
+     */
+    private boolean collect(final Branch branch, final boolean scoring)
+    throws IOException {
+      boolean matched = false;
+      while (!branch.exhausted) {
+        final int c = NodeUtils.compareAncestor(branch.node(), match, level);
+        if (c > 0) {
+          break;
+        }
+        if (c == 0) {
+          matched = true;
+          if (scoring) {
+            score += branch.score();
+          }
+        }
+        branch.next();
+      }
+      return matched;
+    }
+
+    @Override
+    IntsRef node() {
+      return match;
+    }
+
+    @Override
+    float score() {
+      return score;
+    }
+
+    @Override
+    void setScoresNeeded(final boolean scoresNeeded) {
+      this.scoresNeeded = scoresNeeded;
+      for (final Branch branch : required) {
+        branch.setScoresNeeded(scoresNeeded);
+      }
+      for (final Branch branch : optional) {
+        branch.setScoresNeeded(scoresNeeded);
+      }
+      for (final Branch branch : prohibited) {
+        branch.setScoresNeeded(false);
+      }
+    }
+
+    @Override
+    void setBudget(final NodeQueryBudget budget) {
+      for (final Branch branch : required) {
+        branch.setBudget(budget);
+      }
+      for (final Branch branch : optional) {
+        branch.setBudget(budget);
+      }
+      for (final Branch branch : prohibited) {
+        branch.setBudget(budget);
+      }
+    }
+
+    /**
+     * Returns true if the twig has a leaf that is required up to the top of
+     * the twig.
+     */
+    boolean hasRequiredLeaf() {
+      for (final Branch branch : required) {
+        if (branch instanceof Leaf ||
+            (branch instanceof Twig && ((Twig) branch).hasRequiredLeaf())) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    @Override
+    void addLeaves(final List<NodeScorer> required, final List<NodeScorer> optional,
+                   final List<ChildScorer> children, final boolean isRequired) {
+      for (final Branch branch : this.required) {
+        branch.addLeaves(required, optional, children, isRequired);
+      }
+      for (final Branch branch : this.optional) {
+        branch.addLeaves(required, optional, children, false);
+      }
+      for (final Branch branch : this.prohibited) {
+        branch.addLeaves(required, null, children, false);
+      }
+    }
+
+  }
+
+}
@@ -47,6 +47,21 @@ import org.sindice.siren.search.node.TwigQuery.EmptyRootQuery.EmptyRootWeight.Em
  *
  * <p>
  *
+ * A twig of one level is matched by a {@link TwigScorer}. A twig having twigs
+ * among its clauses is matched by a {@link TwigJoinScorer}, which joins all
+ * the levels of the twig at once.
+ *
+ * <p>
+ *
+ * Both scorers match the same nodes, but their scores differ. The
+ * {@link TwigJoinScorer} returns a matching node once, and scores it with the
+ * sum of the scores of all the nodes of its branches below it. Nested
+ * {@link TwigScorer}s align the nodes of the branches of each level one by
+ * one, so that a matching node may be returned several times, each time with
+ * the scores of the aligned nodes only.
+ *
+ * <p>
+ *
  * Code taken from {@link BooleanQuery} and adapted for the Siren use case.
  */
 public class TwigQuery extends NodeQuery {
@@ -78,6 +93,12 @@ public class TwigQuery extends NodeQuery {
 
   protected ArrayList<NodeBooleanClause> clauses = new ArrayList<NodeBooleanClause>();
 
+  /**
+   * If false, the nested twigs are matched level by level with
+   * {@link TwigScorer}s instead of a {@link TwigJoinScorer}.
+   */
+  private boolean joinNestedTwigs = true;
+
   /**
    * Constructs an empty twig query at a given level
    */
@@ -163,6 +184,23 @@ public class TwigQuery extends NodeQuery {
     this.addClause(new NodeBooleanClause(query, occur));
   }
 
+  /**
+   * Match the nested twigs of this twig and of its clauses with a
+   * {@link TwigJoinScorer}, or level by level with {@link TwigScorer}s.
+   * Used to compare both scorers in the tests.
+   */
+  void setJoinNestedTwigs(final boolean joinNestedTwigs) {
+    this.joinNestedTwigs = joinNestedTwigs;
+    if (root instanceof TwigQuery) {
+      ((TwigQuery) root).setJoinNestedTwigs(joinNestedTwigs);
+    }
+    for (final NodeBooleanClause clause : clauses) {
+      if (clause.getQuery() instanceof TwigQuery) {
+        ((TwigQuery) clause.getQuery()).setJoinNestedTwigs(joinNestedTwigs);
+      }
+    }
+  }
+
   @Override
   protected void setAncestorPointer(final NodeQuery ancestor) {
     super.setAncestorPointer(ancestor);
@@ -346,6 +384,18 @@ public class TwigQuery extends NodeQuery {
                          final boolean scoreDocsInOrder,
                          final boolean topScorer, final Bits acceptDocs)
     throws IOException {
+      if (joinNestedTwigs && this.hasNestedTwig()) {
+        final TwigJoinScorer.Twig twig = this.twig(context, acceptDocs);
+        if (twig == null) {
+          return null;
+        }
+        if (twig.hasRequiredLeaf()) {
+          return new TwigJoinScorer(this, twig);
+        }
+        // no required leaf to iterate over the candidate documents, fall back
+        // to the twig scorer
+      }
+
       final NodeScorer rootScorer = (NodeScorer) rootWeight.scorer(context, true, false, acceptDocs);
       final List<NodeScorer> required = new ArrayList<NodeScorer>();
       final List<NodeScorer> prohibited = new ArrayList<NodeScorer>();
@@ -382,6 +432,70 @@ public class TwigQuery extends NodeQuery {
       }
     }
 
+    /**
+     * Returns true if one of the clauses is a twig, i.e., if the twig has more
+     * than one level.
+     */
+    private boolean hasNestedTwig() {
+      for (final Weight w : weights) {
+        if (w instanceof TwigWeight) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    /**
+     * Creates the {@link TwigJoinScorer.Twig} of this twig for the
+     * {@link TwigJoinScorer}, or null if the twig cannot match.
+     */
+    protected TwigJoinScorer.Twig twig(final AtomicReaderContext context,
+                                       final Bits acceptDocs)
+    throws IOException {
+      final NodeScorer rootScorer = (NodeScorer) rootWeight.scorer(context, true, false, acceptDocs);
+      if (rootScorer == null) {
+        return null;
+      }
+      final List<TwigJoinScorer.Branch> required = new ArrayList<TwigJoinScorer.Branch>();
+      final List<TwigJoinScorer.Branch> prohibited = new ArrayList<TwigJoinScorer.Branch>();
+      final List<TwigJoinScorer.Branch> optional = new ArrayList<TwigJoinScorer.Branch>();
+      final Iterator<NodeBooleanClause> cIter = clauses.iterator();
+      for (final Weight w  : weights) {
+        final NodeBooleanClause c =  cIter.next();
+        final TwigJoinScorer.Branch branch;
+        if (w instanceof TwigWeight) {
+          branch = ((TwigWeight) w).twig(context, acceptDocs);
+        }
+        else {
+          final NodeScorer subScorer = (NodeScorer) w.scorer(context, true, false, acceptDocs);
+          branch = subScorer == null ? null : new TwigJoinScorer.Leaf(subScorer, c.getOccur());
+        }
+        if (branch == null) {
+          if (c.isRequired()) {
+            return null;
+          }
+        } else if (c.isRequired()) {
+          required.add(branch);
+        } else if (c.isProhibited()) {
+          prohibited.add(branch);
+        } else {
+          optional.add(branch);
+        }
+      }
+
+      if (rootScorer instanceof EmptyRootScorer) {
+        if (required.size() == 0 && optional.size() == 0) {
+          // empty root and no required and optional clauses.
+          return null;
+        }
+        return new TwigJoinScorer.Twig(levelConstraint, null, required,
+          prohibited, optional);
+      }
+      return new TwigJoinScorer.Twig(levelConstraint,
+        new TwigJoinScorer.Leaf(rootScorer, NodeBooleanClause.Occur.MUST),
+        required, prohibited, optional);
+    }
+
     @Override
     public Query getQuery() {
       return TwigQuery.this;
@@ -61,20 +61,47 @@ public class NodeUtils {
    * </ul>
    */
   public static final int compareAncestor(final IntsRef n1, final IntsRef n2) {
-    return compareAncestor(n1.ints, n1.length, n2.ints, n2.length);
+    return compareAncestor(n1.ints, n1.offset, n1.length, n2.ints, n2.offset, n2.length);
   }
 
   public static final int compareAncestor(final int[] n1, final int n1Len,
                                           final int[] n2, final int n2Len) {
-    for (int i = 0; i < n1Len && i < n2Len; i++) {
-      if (n1[i] != n2[i]) {
-        return n1[i] - n2[i];
+    return compareAncestor(n1, 0, n1Len, n2, 0, n2Len);
+  }
+
+  private static final int compareAncestor(final int[] n1, final int n1Offset, final int n1Len,
+                                           final int[] n2, final int n2Offset, final int n2Len) {
+    for (int i = n1Offset, j = n2Offset, k = 0; k < n1Len && k < n2Len; i++, j++, k++) {
+      if (n1[i] != n2[j]) {
+        return n1[i] - n2[j];
       }
     }
     // exception, if node path is equal, check node path length
     return n1Len < n2Len ? 0 : 1;
   }
 
+  /**
+   * Compares the ancestor at the given level of the first node with the
+   * ancestor at the given level of the second node for order. Returns a
+   * negative integer, zero, or a positive integer if the first ancestor is
+   * less than, equal to, or greater than the second ancestor.
+   * <p>
+   * A node that is above the given level is less than its descendants at the
+   * given level.
+   */
+  public static final int compareAncestor(final IntsRef n1, final IntsRef n2,
+                                          final int level) {
+    final int n1Len = Math.min(n1.length, level);
+    final int n2Len = Math.min(n2.length, level);
+    for (int i = n1.offset, j = n2.offset, k = 0; k < n1Len && k < n2Len; i++, j++, k++) {
+      if (n1.ints[i] != n2.ints[j]) {
+        return n1.ints[i] - n2.ints[j];
+      }
+    }
+    // exception, if ancestor path is equal, check ancestor path length
+    return n1Len - n2Len;
+  }
+
   /**
    * Increase the size of the array and copy the content of the original array
    * into the new one.
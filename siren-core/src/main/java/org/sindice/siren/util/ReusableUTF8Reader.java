@@ -0,0 +1,184 @@
+/**
+ * Copyright 2014 National University of Ireland, Galway.
+ *
+ * This file is part of the SIREn project. Project and contact information:
+ *
+ *  https://github.com/rdelbru/SIREn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.sindice.siren.util;
+
+import java.io.Reader;
+import java.nio.ByteBuffer;
+
+import org.apache.lucene.util.ArrayUtil;
+import org.apache.lucene.util.BytesRef;
+
+/**
+ * A {@link Reader} decoding UTF-8 bytes, that allows to reset the reader to a
+ * new byte array input.
+ * <p>
+ * The tokenizers aware of this reader, e.g.,
+ * {@link org.sindice.siren.analysis.JsonBytesTokenizer}, read the bytes
+ * directly with {@link #bytes()}, {@link #offset()} and {@link #length()}
+ * instead of decoding them.
+ * <p>
+ * The bytes are expected to be well-formed UTF-8. A truncated sequence at the
+ * end of the input is decoded as U+FFFD.
+ */
+public class ReusableUTF8Reader extends Reader {
+
+  /** The offset of the high surrogate of a supplementary code point */
+  private static final int HIGH_SURROGATE_OFFSET =
+    Character.MIN_HIGH_SURROGATE - (Character.MIN_SUPPLEMENTARY_CODE_POINT >>> 10);
+
+  private byte[] bytes;
+  private int offset;
+  private int length;
+
+  /** The position of the next byte to decode */
+  private int pos;
+
+  /** The low surrogate of a supplementary character not read yet, or 0 */
+  private char pendingLowSurrogate;
+
+  /** Buffer holding the content of a direct {@link ByteBuffer} */
+  private byte[] copy;
+
+  public ReusableUTF8Reader() {
+    this(BytesRef.EMPTY_BYTES, 0, 0);
+  }
+
+  public ReusableUTF8Reader(final byte[] bytes, final int offset, final int length) {
+    this.reset(bytes, offset, length);
+  }
+
+  public void reset(final byte[] bytes, final int offset, final int length) {
+    this.bytes = bytes;
+    this.offset = offset;
+    this.length = length;
+    this.pos = offset;
+    this.pendingLowSurrogate = 0;
+  }
+
+  public void reset(final BytesRef ref) {
+    this.reset(ref.bytes, ref.offset, ref.length);
+  }
+
+  /**
+   * Reset the reader to the remaining bytes of the buffer. The position of the
+   * buffer is not changed. The content of a buffer which is not backed by an
+   * accessible array is copied into a reusable array.
+   */
+  public void reset(final ByteBuffer buffer) {
+    if (buffer.hasArray()) {
+      this.reset(buffer.array(), buffer.arrayOffset() + buffer.position(),
+        buffer.remaining());
+    }
+    else {
+      copy = ArrayUtil.grow(copy == null ? BytesRef.EMPTY_BYTES : copy, buffer.remaining());
+      buffer.duplicate().get(copy, 0, buffer.remaining());
+      this.reset(copy, 0, buffer.remaining());
+    }
+  }
+
+  /**
+   * Returns the array holding the bytes of the input.
+   */
+  public byte[] bytes() {
+    return bytes;
+  }
+
+  /**
+   * Returns the offset of the input in {@link #bytes()}.
+   */
+  public int offset() {
+    return offset;
+  }
+
+  /**
+   * Returns the number of bytes of the input.
+   */
+  public int length() {
+    return length;
+  }
+
+  @Override
+  public int read(final char[] cbuf, final int off, final int len) {
+    final int end = offset + length;
+    if (len == 0) {
+      return 0;
+    }
+    if (pos >= end && pendingLowSurrogate == 0) {
+      return -1;
+    }
+
+    int upto = off;
+    final int limit = off + len;
+    if (pendingLowSurrogate != 0) {
+      cbuf[upto++] = pendingLowSurrogate;
+      pendingLowSurrogate = 0;
+    }
+    while (upto < limit && pos < end) {
+      final int b = bytes[pos] & 0xff;
+      if (b < 0x80) {
+        cbuf[upto++] = (char) b;
+        pos++;
+        continue;
+      }
+      final int n = b < 0xe0 ? 2 : (b < 0xf0 ? 3 : 4);
+      if (pos + n > end) { // truncated sequence
+        cbuf[upto++] = '\uFFFD';
+        pos = end;
+        break;
+      }
+      int cp;
+      switch (n) {
+        case 2:
+          cp = ((b & 0x1f) << 6) | (bytes[pos + 1] & 0x3f);
+          break;
+        case 3:
+          cp = ((b & 0x0f) << 12) | ((bytes[pos + 1] & 0x3f) << 6) |
+               (bytes[pos + 2] & 0x3f);
+          break;
+        default:
+          cp = ((b & 0x07) << 18) | ((bytes[pos + 1] & 0x3f) << 12) |
+               ((bytes[pos + 2] & 0x3f) << 6) | (bytes[pos + 3] & 0x3f);
+      }
+      pos += n;
+      if (cp < Character.MIN_SUPPLEMENTARY_CODE_POINT) {
+        cbuf[upto++] = (char) cp;
+      }
+      else {
+        cbuf[upto++] = (char) ((cp >> 10) + HIGH_SURROGATE_OFFSET);
+        if (upto < limit) {
+          cbuf[upto++] = (char) ((cp & 0x3ff) + Character.MIN_LOW_SURROGATE);
+        }
+        else {
+          pendingLowSurrogate = (char) ((cp & 0x3ff) + Character.MIN_LOW_SURROGATE);
+        }
+      }
+    }
+    return upto - off;
+  }
+
+  @Override
+  public void close() {}
+
+  @Override
+  public String toString() {
+    return new BytesRef(bytes, offset, length).utf8ToString();
+  }
+
+}
@@ -0,0 +1,203 @@
+/**
+ * Copyright 2014 National University of Ireland, Galway.
+ *
+ * This file is part of the SIREn project. Project and contact information:
+ *
+ *  https://github.com/rdelbru/SIREn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.sindice.siren.analysis;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.Random;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.codecs.PostingsFormat;
+import org.apache.lucene.codecs.lucene40.Lucene40Codec;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.FieldType;
+import org.apache.lucene.index.FieldInfo.IndexOptions;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.store.RAMDirectory;
+import org.apache.lucene.util.Version;
+import org.sindice.siren.index.codecs.siren10.Siren10AForPostingsFormat;
+import org.sindice.siren.util.ReusableCharArrayReader;
+import org.sindice.siren.util.XSDDatatype;
+
+/**
+ * Benchmark of the allocation rate of the indexing chain of a
+ * {@link JsonAnalyzer}.
+ * <p>
+ * The same random JSON documents are tokenized in a loop, through the
+ * {@link JsonTokenizer}, the datatype analyzers and the payload filter, and
+ * the bytes allocated by the thread per token are reported once the JVM is
+ * warmed up. In steady state, the SIREn analysis chain does not allocate per
+ * token. The residual, below one byte per token, comes from
+ * {@link Analyzer#tokenStream(String, java.io.Reader)}, which is called once
+ * per value by the datatype filter and which purges its thread-local storage
+ * every 20 calls.
+ * <p>
+ * The documents are then indexed with the SIREn postings format in a
+ * {@link RAMDirectory}. This figure includes the allocations of Lucene's own
+ * indexing buffers, of the fields and of the flushed segments, and is given
+ * for comparison. Run with:
+ * <pre>
+ * java -cp ... org.sindice.siren.analysis.JsonAnalyzerAllocationBenchmark [rounds]
+ * </pre>
+ * The benchmark requires a JVM supporting the measure of the allocated bytes
+ * per thread, e.g., HotSpot.
+ */
+public class JsonAnalyzerAllocationBenchmark {
+
+  private static final String FIELD = "content";
+
+  private static final int NUM_DOCS = 2000;
+
+  private static final int WARMUP_ROUNDS = 20;
+
+  public static void main(final String[] args) throws Exception {
+    final int rounds = args.length > 0 ? Integer.parseInt(args[0]) : 10;
+
+    final char[][] docs = new char[NUM_DOCS][];
+    final Random random = new Random(42);
+    for (int i = 0; i < NUM_DOCS; i++) {
+      docs[i] = newJson(random).toCharArray();
+    }
+
+    final Analyzer analyzer = newAnalyzer();
+    final ReusableCharArrayReader reader = new ReusableCharArrayReader(new char[0]);
+
+    for (int r = 0; r < WARMUP_ROUNDS; r++) {
+      analyze(analyzer, reader, docs);
+    }
+
+    System.out.println("round\tanalysis (bytes/token)\tindexing (bytes/token)");
+    for (int r = 0; r < rounds; r++) {
+      long start = allocatedBytes();
+      final long tokens = analyze(analyzer, reader, docs);
+      final long analysisBytes = allocatedBytes() - start;
+
+      start = allocatedBytes();
+      index(docs);
+      final long indexingBytes = allocatedBytes() - start;
+
+      System.out.println(String.format("%d\t%.3f\t%.1f", r,
+        (double) analysisBytes / tokens, (double) indexingBytes / tokens));
+    }
+  }
+
+  private static Analyzer newAnalyzer() {
+    final JsonAnalyzer analyzer = new JsonAnalyzer(Version.LUCENE_40,
+      new AnyURIAnalyzer(Version.LUCENE_40), new StandardAnalyzer(Version.LUCENE_40));
+    analyzer.registerDatatype(XSDDatatype.XSD_LONG.toCharArray(), new LongNumericAnalyzer(8));
+    analyzer.registerDatatype(XSDDatatype.XSD_DOUBLE.toCharArray(), new DoubleNumericAnalyzer(8));
+    return analyzer;
+  }
+
+  /**
+   * Tokenize the documents, and return the number of tokens.
+   */
+  private static long analyze(final Analyzer analyzer,
+                              final ReusableCharArrayReader reader,
+                              final char[][] docs)
+  throws IOException {
+    long tokens = 0;
+    for (final char[] doc : docs) {
+      reader.reset(doc);
+      final TokenStream stream = analyzer.tokenStream(FIELD, reader);
+      stream.reset();
+      while (stream.incrementToken()) {
+        tokens++;
+      }
+      stream.end();
+      stream.close();
+    }
+    return tokens;
+  }
+
+  private static void index(final char[][] docs) throws IOException {
+    final RAMDirectory dir = new RAMDirectory();
+    final IndexWriterConfig config = new IndexWriterConfig(Version.LUCENE_40, newAnalyzer());
+    final PostingsFormat format = new Siren10AForPostingsFormat();
+    config.setCodec(new Lucene40Codec() {
+
+      @Override
+      public PostingsFormat getPostingsFormatForField(final String field) {
+        return FIELD.equals(field) ? format : super.getPostingsFormatForField(field);
+      }
+
+    });
+
+    final FieldType type = new FieldType();
+    type.setIndexed(true);
+    type.setTokenized(true);
+    type.setIndexOptions(IndexOptions.DOCS_AND_FREQS_AND_POSITIONS);
+
+    final IndexWriter writer = new IndexWriter(dir, config);
+    final ReusableCharArrayReader reader = new ReusableCharArrayReader(new char[0]);
+    final Document doc = new Document();
+    final Field field = new Field(FIELD, reader, type);
+    doc.add(field);
+    for (final char[] json : docs) {
+      reader.reset(json);
+      field.setReaderValue(reader);
+      writer.addDocument(doc);
+    }
+    writer.close();
+    dir.close();
+  }
+
+  private static String newJson(final Random random) {
+    final StringBuilder builder = new StringBuilder("{ ");
+    final int nAttributes = 1 + random.nextInt(10);
+    for (int i = 0; i < nAttributes; i++) {
+      if (i > 0) {
+        builder.append(", ");
+      }
+      builder.append("\"attr").append(random.nextInt(50)).append("\" : ");
+      switch (random.nextInt(3)) {
+        case 0: // a literal
+          builder.append('"');
+          for (int j = 0; j < 1 + random.nextInt(8); j++) {
+            builder.append(" word").append(random.nextInt(1000));
+          }
+          builder.append('"');
+          break;
+
+        case 1: // a number
+          builder.append(random.nextInt(100000));
+          break;
+
+        default: // an array of objects
+          builder.append("[ { \"value\" : \"word").append(random.nextInt(1000))
+                 .append("\" }, ").append(random.nextDouble()).append(" ]");
+      }
+    }
+    return builder.append(" }").toString();
+  }
+
+  /**
+   * Returns the number of bytes allocated by the current thread.
+   */
+  private static long allocatedBytes() {
+    return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean())
+      .getThreadAllocatedBytes(Thread.currentThread().getId());
+  }
+
+}
@@ -19,11 +19,21 @@
  */
 package org.sindice.siren.analysis;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
 import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
 import org.apache.lucene.analysis.core.WhitespaceAnalyzer;
 import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
 import org.apache.lucene.analysis.tokenattributes.TypeAttribute;
+import org.apache.lucene.util.BytesRef;
 import org.junit.Test;
+import org.sindice.siren.util.ReusableUTF8Reader;
 import org.sindice.siren.util.XSDDatatype;
 
 public class TestJsonAnalyzer
@@ -76,4 +86,48 @@ extends NodeAnalyzerTestCase<JsonAnalyzer> {
                      TypeAttribute.DEFAULT_TYPE });
   }
 
+  /**
+   * Each type of {@link Reader} uses the token stream of its tokenizer,
+   * whatever the type of the first {@link Reader} of the thread.
+   */
+  @Test
+  public void testReaderTypes()
+  throws Exception {
+    final String json = "{\"foo BAR\":[null,\"FOO bar\"]}";
+    final List<String> expected = new ArrayList<String>();
+    expected.add("foo");
+    expected.add("BAR");
+    expected.add("null");
+    expected.add("foo");
+    expected.add("bar");
+
+    final ReusableUTF8Reader bytesReader = new ReusableUTF8Reader();
+    bytesReader.reset(new BytesRef(json));
+    final TokenStream bytes = _a.tokenStream("", bytesReader);
+    assertEquals(expected, this.terms(bytes));
+
+    final TokenStream chars = _a.tokenStream("", new StringReader(json));
+    assertNotSame(bytes, chars);
+    assertEquals(expected, this.terms(chars));
+
+    // the token stream of each tokenizer is reused
+    bytesReader.reset(new BytesRef(json));
+    assertSame(bytes, _a.tokenStream("", bytesReader));
+    assertEquals(expected, this.terms(bytes));
+    assertSame(chars, _a.tokenStream("", new StringReader(json)));
+    assertEquals(expected, this.terms(chars));
+  }
+
+  private List<String> terms(final TokenStream t) throws IOException {
+    final CharTermAttribute termAtt = t.getAttribute(CharTermAttribute.class);
+    final List<String> terms = new ArrayList<String>();
+    t.reset();
+    while (t.incrementToken()) {
+      terms.add(termAtt.toString());
+    }
+    t.end();
+    t.close();
+    return terms;
+  }
+
 }
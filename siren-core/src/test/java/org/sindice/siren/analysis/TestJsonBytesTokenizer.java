@@ -0,0 +1,198 @@
+/**
+ * Copyright 2014 National University of Ireland, Galway.
+ *
+ * This file is part of the SIREn project. Project and contact information:
+ *
+ *  https://github.com/rdelbru/SIREn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.sindice.siren.analysis;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.analysis.tokenattributes.OffsetAttribute;
+import org.apache.lucene.analysis.tokenattributes.PositionIncrementAttribute;
+import org.apache.lucene.analysis.tokenattributes.TypeAttribute;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util._TestUtil;
+import org.junit.Test;
+import org.sindice.siren.analysis.attributes.DatatypeAttribute;
+import org.sindice.siren.analysis.attributes.NodeAttribute;
+import org.sindice.siren.util.JsonGenerator;
+import org.sindice.siren.util.ReusableUTF8Reader;
+
+/**
+ * Checks that {@link JsonBytesTokenizer} generates the same tokens as
+ * {@link JsonTokenizer}.
+ */
+public class TestJsonBytesTokenizer extends NodeTokenizerTestCase {
+
+  private static final String[] DOCS = {
+    "",
+    "{}",
+    "{\"a\":\"abc\"}",
+    "x{\"a\": true, \"b\" :\n 12 ,\"c\":\"xy\", \"d\":\r\nfalse,\"e\":\tnull}",
+    "{\"a\":[1|5, 2e|+3, -0.5E-2, 1.5e, 12e+, \"q\", true, false, null]}",
+    "{\"a\":[1, [2, [3, {\"b\":[]}]], {}], \"c\" : { \"d\" : { } } }",
+    "{\"a\":1}{\"b\":2} [{\"c\":3}]",
+    "{\"a\":\"é😀z\",\"é\":1, \"b\":[\"中文\", 2]}",
+    "{\"a\":\"b\\\"c\\u0041\\u00e9\\n\\é\\😀\\u12\", \"d\":\"e\" \"f\":1}",
+    "{\"a\":[{\"b\":1},{\"c\":{\"d\":[{\"e\":2}]}}],\"f\":3}",
+    "{\"a\":{\"_value_\":\" \",\"_datatype_\":\"x y\"}}",
+    "{\"a\":{\"_value_\":\"\t\",\"_datatype_\":\"\n\"}, \"b\":{\"_value_\":\"\\\"\f\\\"\"}}",
+    "{\"a\":{\"_datatype_\" : \"x\\\"\\u0041\", \"_value_\":\"\r\n\\\" \\\" v \"}, \"b\":2}",
+    "{\"a\":[{\"_datatype_\":\"x\",\"_value_\":\"v\"}, 1], \"b\":{\"c\":[{\"_value_\":\"w\",\"_datatype_\":\"y\"}]}}",
+    "{\"_datatype_\": 1, \"_value_\": [\"v\"]}",
+    // errors
+    "{\"a\":\"abc",
+    "{\"a\":{\"_value_\":\"abc",
+    "{\"a\":\"ab\\",
+    "{\"a\":\"ab\\\nc\"}",
+    "{\"a\" 1}",
+    "{:1}",
+    "{\"a\":1 : 2}",
+    "{\"a\":[1:2]}",
+    "{\"a\":[nul]}",
+    "{\"a\": -}",
+    "{\"a\":1]",
+    "{\"a\":[1}",
+    "{\"a\":1}}",
+    "{\"_datatype_\":\"x\",\"_value_\":\"v\"}",
+    "{\"a\":{\"_datatype_\":\"x\"}}",
+    "{\"a\":{\"_value_\":\"v\"}}",
+    "{\"a\":{\"_datatype_\":\"x\",\"_datatype_\":\"y\"}}",
+    "{\"a\":{\"b\":1,\"_datatype_\":\"x\",\"_value_\":\"v\"}}",
+    "{\"a\":{\"_datatype_\":\"x\",\"b\":1,\"_value_\":\"v\"}}",
+    "{\"a\":{\"_datatype_\":\"x\",\"_value_\":\"v\",\"b\":1}}"
+  };
+
+  /** The characters inserted in the random documents */
+  private static final String MUTATIONS = "{}[]:,\"\\ \n1.eEu-ntf|_";
+
+  @Test
+  public void testDocuments() throws Exception {
+    final JsonTokenizer expected = new JsonTokenizer(new StringReader(""));
+    final ReusableUTF8Reader reader = new ReusableUTF8Reader();
+    final JsonBytesTokenizer actual = new JsonBytesTokenizer(reader);
+    for (final String doc : DOCS) {
+      this.assertSameTokens(expected, actual, reader, doc);
+    }
+  }
+
+  @Test
+  public void testRandomJson() throws Exception {
+    final JsonGenerator jsonGen = new JsonGenerator(random());
+    final JsonTokenizer expected = new JsonTokenizer(new StringReader(""));
+    final ReusableUTF8Reader reader = new ReusableUTF8Reader();
+    final JsonBytesTokenizer actual = new JsonBytesTokenizer(reader);
+    for (int i = 0; i < atLeast(50); i++) {
+      final String json = jsonGen.getRandomJson(atLeast(50));
+      this.assertSameTokens(expected, actual, reader, json);
+      // mutate the document
+      final StringBuilder mutated = new StringBuilder(json);
+      for (int j = 0; j < 1 + random().nextInt(3); j++) {
+        final int pos = random().nextInt(mutated.length() + 1);
+        switch (random().nextInt(3)) {
+          case 0:
+            if (pos < mutated.length()) {
+              mutated.deleteCharAt(pos);
+            }
+            break;
+          case 1:
+            mutated.insert(pos, MUTATIONS.charAt(random().nextInt(MUTATIONS.length())));
+            break;
+          default:
+            mutated.insert(pos, _TestUtil.randomUnicodeString(random(), 3));
+        }
+      }
+      this.assertSameTokens(expected, actual, reader, mutated.toString());
+    }
+  }
+
+  @Test
+  public void testReaderInput() throws Exception {
+    final JsonTokenizer expected = new JsonTokenizer(new StringReader(""));
+    final JsonBytesTokenizer actual = new JsonBytesTokenizer(new StringReader(""));
+    for (final String doc : DOCS) {
+      assertEquals(doc, this.tokens(expected, new StringReader(doc)),
+        this.tokens(actual, new StringReader(doc)));
+    }
+  }
+
+  @Test
+  public void testUTF8Reader() throws Exception {
+    final ReusableUTF8Reader reader = new ReusableUTF8Reader();
+    final char[] buffer = new char[3];
+    for (int i = 0; i < atLeast(100); i++) {
+      final String s = _TestUtil.randomRealisticUnicodeString(random());
+      reader.reset(new BytesRef(s));
+      final StringBuilder decoded = new StringBuilder();
+      int read;
+      while ((read = reader.read(buffer, 0, 1 + random().nextInt(buffer.length))) != -1) {
+        decoded.append(buffer, 0, read);
+      }
+      assertEquals(s, decoded.toString());
+    }
+  }
+
+  private void assertSameTokens(final JsonTokenizer expected,
+                                final JsonBytesTokenizer actual,
+                                final ReusableUTF8Reader reader,
+                                final String doc)
+  throws IOException {
+    final BytesRef bytes = new BytesRef(doc);
+    reader.reset(bytes);
+    assertEquals(doc, this.tokens(expected, new StringReader(doc)),
+      this.tokens(actual, reader));
+  }
+
+  /**
+   * Returns the attributes of the tokens, followed by "ERROR" if the
+   * tokenizer failed.
+   */
+  private List<String> tokens(final Tokenizer t, final Reader input)
+  throws IOException {
+    final CharTermAttribute termAtt = t.getAttribute(CharTermAttribute.class);
+    final OffsetAttribute offsetAtt = t.getAttribute(OffsetAttribute.class);
+    final PositionIncrementAttribute posIncrAtt = t.getAttribute(PositionIncrementAttribute.class);
+    final TypeAttribute typeAtt = t.getAttribute(TypeAttribute.class);
+    final DatatypeAttribute dtypeAtt = t.getAttribute(DatatypeAttribute.class);
+    final NodeAttribute nodeAtt = t.getAttribute(NodeAttribute.class);
+
+    final List<String> tokens = new ArrayList<String>();
+    t.setReader(input);
+    try {
+      t.reset();
+      while (t.incrementToken()) {
+        tokens.add(termAtt + "|" + typeAtt.type() + "|" + offsetAtt.startOffset() +
+          "-" + offsetAtt.endOffset() + "|" + posIncrAtt.getPositionIncrement() +
+          "|" + new String(dtypeAtt.datatypeURI()) + "|" + nodeAtt.node());
+      }
+    }
+    catch (final IllegalStateException e) {
+      tokens.add("ERROR");
+    }
+    catch (final Error e) { // JsonTokenizerImpl fails to match the input
+      tokens.add("ERROR");
+    }
+    return tokens;
+  }
+
+}
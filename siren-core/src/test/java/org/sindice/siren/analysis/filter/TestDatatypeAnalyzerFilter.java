@@ -0,0 +1,174 @@
+/**
+ * Copyright 2014 National University of Ireland, Galway.
+ *
+ * This file is part of the SIREn project. Project and contact information:
+ *
+ *  https://github.com/rdelbru/SIREn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.sindice.siren.analysis.filter;
+
+import static org.apache.lucene.util.LuceneTestCase.TEST_VERSION_CURRENT;
+import static org.junit.Assert.assertEquals;
+
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.core.KeywordAnalyzer;
+import org.apache.lucene.analysis.core.KeywordTokenizer;
+import org.apache.lucene.analysis.core.WhitespaceAnalyzer;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.analysis.tokenattributes.OffsetAttribute;
+import org.apache.lucene.analysis.tokenattributes.PositionIncrementAttribute;
+import org.apache.lucene.analysis.tokenattributes.TypeAttribute;
+import org.junit.Test;
+import org.sindice.siren.analysis.JsonTokenizer;
+import org.sindice.siren.analysis.attributes.DatatypeAttribute;
+import org.sindice.siren.analysis.attributes.NodeAttribute;
+import org.sindice.siren.util.XSDDatatype;
+
+public class TestDatatypeAnalyzerFilter {
+
+  private static final String DOC =
+    "{\"name\":\"The Person\",\"type\":[\"the\",\"Person\",\"person\"]," +
+    "\"knows\":{\"name\":\"The Person\",\"type\":\"Person\"}}";
+
+  private final Analyzer fieldAnalyzer = new WhitespaceAnalyzer(TEST_VERSION_CURRENT);
+  private final Analyzer valueAnalyzer = new StandardAnalyzer(TEST_VERSION_CURRENT);
+
+  private DatatypeAnalyzerFilter filter(final JsonTokenizer tokenizer,
+                                        final Analyzer valueAnalyzer) {
+    return new DatatypeAnalyzerFilter(TEST_VERSION_CURRENT, tokenizer,
+      fieldAnalyzer, valueAnalyzer);
+  }
+
+  /**
+   * Returns the term, type, position increment, offsets, datatype and node of
+   * each token of the document.
+   */
+  private List<String> tokens(final JsonTokenizer tokenizer,
+                              final DatatypeAnalyzerFilter filter,
+                              final String doc)
+  throws Exception {
+    final CharTermAttribute termAtt = filter.getAttribute(CharTermAttribute.class);
+    final TypeAttribute typeAtt = filter.getAttribute(TypeAttribute.class);
+    final PositionIncrementAttribute posIncrAtt = filter.getAttribute(PositionIncrementAttribute.class);
+    final OffsetAttribute offsetAtt = filter.getAttribute(OffsetAttribute.class);
+    final DatatypeAttribute dtypeAtt = filter.getAttribute(DatatypeAttribute.class);
+    final NodeAttribute nodeAtt = filter.getAttribute(NodeAttribute.class);
+
+    tokenizer.setReader(new StringReader(doc));
+    filter.reset();
+    final List<String> tokens = new ArrayList<String>();
+    while (filter.incrementToken()) {
+      tokens.add(termAtt + "/" + typeAtt.type() + "/" +
+        posIncrAtt.getPositionIncrement() + "/" + offsetAtt.startOffset() +
+        "-" + offsetAtt.endOffset() + "/" +
+        new String(dtypeAtt.datatypeURI()) + "/" + nodeAtt.node());
+    }
+    filter.end();
+    return tokens;
+  }
+
+  @Test
+  public void testCachedTokens()
+  throws Exception {
+    final JsonTokenizer uncachedTokenizer = new JsonTokenizer(new StringReader(""));
+    final DatatypeAnalyzerFilter uncached = this.filter(uncachedTokenizer, valueAnalyzer);
+    uncached.setCacheSize(0, 0);
+    final List<String> expected = this.tokens(uncachedTokenizer, uncached, DOC);
+    assertEquals(0, uncached.getCacheMissCount());
+    assertEquals(0, uncached.getCacheSize());
+
+    final JsonTokenizer tokenizer = new JsonTokenizer(new StringReader(""));
+    final DatatypeAnalyzerFilter filter = this.filter(tokenizer, valueAnalyzer);
+    assertEquals(expected, this.tokens(tokenizer, filter, DOC));
+    // name, The Person, type, the, Person, person, knows
+    assertEquals(7, filter.getCacheMissCount());
+    // name, The Person, type, Person
+    assertEquals(4, filter.getCacheHitCount());
+
+    // the tokens of the second document are read from the cache
+    assertEquals(expected, this.tokens(tokenizer, filter, DOC));
+    assertEquals(7, filter.getCacheMissCount());
+    assertEquals(15, filter.getCacheHitCount());
+    assertEquals(7, filter.getCacheSize());
+  }
+
+  @Test
+  public void testCacheSize()
+  throws Exception {
+    final JsonTokenizer uncachedTokenizer = new JsonTokenizer(new StringReader(""));
+    final DatatypeAnalyzerFilter uncached = this.filter(uncachedTokenizer, valueAnalyzer);
+    uncached.setCacheSize(0, 0);
+    final List<String> expected = this.tokens(uncachedTokenizer, uncached, DOC);
+
+    final JsonTokenizer tokenizer = new JsonTokenizer(new StringReader(""));
+    final DatatypeAnalyzerFilter filter = this.filter(tokenizer, valueAnalyzer);
+    // a single pair of entries
+    filter.setCacheSize(2, 64);
+    assertEquals(expected, this.tokens(tokenizer, filter, DOC));
+    assertEquals(2, filter.getCacheSize());
+
+    // the values longer than 4 characters are not cached
+    final JsonTokenizer shortTokenizer = new JsonTokenizer(new StringReader(""));
+    final DatatypeAnalyzerFilter shortFilter = this.filter(shortTokenizer, valueAnalyzer);
+    shortFilter.setCacheSize(16, 4);
+    assertEquals(expected, this.tokens(shortTokenizer, shortFilter, DOC));
+    assertEquals(expected, this.tokens(shortTokenizer, shortFilter, DOC));
+    // name, type, the
+    assertEquals(3, shortFilter.getCacheSize());
+    assertEquals(3, shortFilter.getCacheMissCount());
+
+    // resizing the cache discards the cached values
+    filter.setCacheSize(1, 64);
+    assertEquals(0, filter.getCacheSize());
+    assertEquals(expected, this.tokens(tokenizer, filter, DOC));
+    assertEquals(2, filter.getCacheSize());
+  }
+
+  @Test
+  public void testKeywordAnalyzer()
+  throws Exception {
+    final String doc = "{\"a b\":[\"The Person\",\"\"]}";
+
+    // the same analysis through an inner stream
+    final Analyzer keywordTokenizerAnalyzer = new Analyzer() {
+      @Override
+      protected TokenStreamComponents createComponents(final String fieldName,
+                                                       final Reader reader) {
+        return new TokenStreamComponents(new KeywordTokenizer(reader));
+      }
+    };
+    final JsonTokenizer expectedTokenizer = new JsonTokenizer(new StringReader(""));
+    final DatatypeAnalyzerFilter expectedFilter = this.filter(expectedTokenizer, keywordTokenizerAnalyzer);
+    expectedFilter.setCacheSize(0, 0);
+    final List<String> expected = this.tokens(expectedTokenizer, expectedFilter, doc);
+
+    final JsonTokenizer tokenizer = new JsonTokenizer(new StringReader(""));
+    final DatatypeAnalyzerFilter filter = this.filter(tokenizer, new KeywordAnalyzer());
+    final List<String> tokens = this.tokens(tokenizer, filter, doc);
+    assertEquals(expected, tokens);
+    assertEquals(4, tokens.size());
+    assertEquals("The Person/word/1/0-10/" + XSDDatatype.XSD_STRING + "/[0 0]", tokens.get(2));
+    // the values analysed by the keyword analyzer are not cached
+    assertEquals(1, filter.getCacheMissCount());
+    assertEquals(1, filter.getCacheSize());
+  }
+
+}
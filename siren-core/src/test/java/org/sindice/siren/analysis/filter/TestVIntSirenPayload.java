@@ -108,4 +108,24 @@ public class TestVIntSirenPayload extends LuceneTestCase {
     }
   }
 
+  @Test
+  public void testNodeOffset()
+  throws Exception {
+    // the node is a slice of a larger array, e.g., of the node of a tuple
+    final int[] array = new int[] { 7, 5, 12, 43, 3, 9 };
+    for (int offset = 0; offset < array.length; offset++) {
+      final IntsRef ints = new IntsRef(array, offset, array.length - offset);
+      final int pos = 3 * offset;
+      final BytesRef bytes = codec.encode(ints, pos);
+      codec.decode(bytes);
+
+      final IntsRef node = codec.getNode();
+      assertEquals(ints.length, node.length);
+      for (int i = 0; i < ints.length; i++) {
+        assertEquals(ints.ints[ints.offset + i], node.ints[node.offset + i]);
+      }
+      assertEquals(pos, codec.getPosition());
+    }
+  }
+
 }
@@ -0,0 +1,182 @@
+/**
+ * Copyright 2014 National University of Ireland, Galway.
+ *
+ * This file is part of the SIREn project. Project and contact information:
+ *
+ *  https://github.com/rdelbru/SIREn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.sindice.siren.index.bulk;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriterConfig.OpenMode;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.util._TestUtil;
+import org.junit.Test;
+import org.sindice.siren.analysis.JsonAnalyzer;
+import org.sindice.siren.analysis.LongNumericAnalyzer;
+import org.sindice.siren.search.node.LuceneProxyNodeQuery;
+import org.sindice.siren.search.node.NodeTermQuery;
+import org.sindice.siren.util.SirenTestCase;
+import org.sindice.siren.util.XSDDatatype;
+
+public class TestJsonBulkIndexer extends SirenTestCase {
+
+  /**
+   * Returns the newline-delimited JSON documents: the document i is valid if
+   * i % 7 != 0, and contains the value "v{i}". A long document, blank lines and
+   * carriage returns are inserted.
+   */
+  private String newInput(final int nDocs) {
+    final StringBuilder builder = new StringBuilder();
+    for (int i = 0; i < nDocs; i++) {
+      if (i % 7 == 0) {
+        builder.append("{ \"name\" : \"v").append(i).append("\"");
+      }
+      else {
+        builder.append("{ \"name\" : \"v").append(i).append("\", \"age\" : ").append(i);
+        if (i == nDocs / 2) {
+          builder.append(", \"long\" : \"");
+          for (int j = 0; j < 300; j++) {
+            builder.append("word ");
+          }
+          builder.append("\"");
+        }
+        builder.append(" }");
+      }
+      builder.append(random().nextBoolean() ? "\n" : "\r\n");
+      if (random().nextInt(10) == 0) {
+        builder.append(random().nextBoolean() ? "\n" : "\r\n");
+      }
+    }
+    return builder.toString();
+  }
+
+  private JsonBulkIndexer newIndexer(final Directory dir) {
+    final JsonAnalyzer analyzer = (JsonAnalyzer) newJsonAnalyzer();
+    analyzer.registerDatatype(XSDDatatype.XSD_LONG.toCharArray(),
+      new LongNumericAnalyzer(4));
+    final JsonBulkIndexer indexer = new JsonBulkIndexer(TEST_VERSION_CURRENT,
+      dir, analyzer);
+    indexer.setThreadCount(_TestUtil.nextInt(random(), 1, 4));
+    indexer.setBatchSize(_TestUtil.nextInt(random(), 1, 20),
+      _TestUtil.nextInt(random(), 1, 4));
+    indexer.setMaxBufferedDocs(_TestUtil.nextInt(random(), 10, 100));
+    indexer.setCommitInterval(random().nextInt(100));
+    // at least the size of the long document
+    indexer.setChunkSize(_TestUtil.nextInt(random(), 2048, 8192));
+    return indexer;
+  }
+
+  private void assertIndex(final Directory dir, final int nDocs) throws IOException {
+    final DirectoryReader reader = DirectoryReader.open(dir);
+    try {
+      assertEquals(nDocs - (nDocs + 6) / 7, reader.numDocs());
+      final IndexSearcher searcher = newSearcher(reader);
+      for (int i = 0; i < nDocs; i++) {
+        final Term term = new Term(DEFAULT_TEST_FIELD, "v" + i);
+        final int hits = searcher.search(new LuceneProxyNodeQuery(new NodeTermQuery(term)), 1).totalHits;
+        assertEquals("v" + i, i % 7 == 0 ? 0 : 1, hits);
+      }
+    }
+    finally {
+      reader.close();
+    }
+  }
+
+  @Test
+  public void testIndexFiles() throws IOException {
+    final File tmp = _TestUtil.getTempDir("bulk");
+    tmp.mkdirs();
+    final List<File> files = new ArrayList<File>();
+    final String input = this.newInput(500);
+    final int split = input.indexOf('\n', input.length() / 3) + 1;
+    files.add(this.write(new File(tmp, "1.json"), input.substring(0, split)));
+    files.add(this.write(new File(tmp, "2.json"), input.substring(split)));
+
+    final Directory dir = newDirectory();
+    final JsonBulkIndexer indexer = this.newIndexer(dir);
+    indexer.index(files);
+    assertEquals(500 - 72, indexer.getDocCount());
+    assertEquals(72, indexer.getFailedDocCount());
+    this.assertIndex(dir, 500);
+
+    // reindex
+    indexer.setOpenMode(OpenMode.CREATE);
+    indexer.index(files);
+    assertEquals(500 - 72, indexer.getDocCount());
+    this.assertIndex(dir, 500);
+    dir.close();
+    _TestUtil.rmDir(tmp);
+  }
+
+  @Test
+  public void testIndexStream() throws IOException {
+    final Directory dir = newDirectory();
+    final JsonBulkIndexer indexer = this.newIndexer(dir);
+    // smaller than the long document, the chunk is grown
+    indexer.setChunkSize(_TestUtil.nextInt(random(), 16, 256));
+    final String input = this.newInput(300);
+    indexer.index(new ByteArrayInputStream(input.getBytes("UTF-8")));
+    assertEquals(300 - 43, indexer.getDocCount());
+    assertEquals(43, indexer.getFailedDocCount());
+    this.assertIndex(dir, 300);
+    dir.close();
+  }
+
+  @Test
+  public void testLineLargerThanChunk() throws IOException {
+    final File tmp = _TestUtil.getTempDir("bulk");
+    tmp.mkdirs();
+    final File file = this.write(new File(tmp, "1.json"), this.newInput(100));
+    final Directory dir = newDirectory();
+    final JsonBulkIndexer indexer = this.newIndexer(dir);
+    indexer.setChunkSize(1024);
+    // nothing is committed before the failure
+    indexer.setCommitInterval(0);
+    try {
+      indexer.index(Arrays.asList(file));
+      fail("Expected an IOException");
+    }
+    catch (final IOException e) {
+      assertTrue(e.getMessage().startsWith("Line larger than 1024 bytes"));
+    }
+    assertFalse(DirectoryReader.indexExists(dir));
+    dir.close();
+    _TestUtil.rmDir(tmp);
+  }
+
+  private File write(final File file, final String content) throws IOException {
+    final OutputStream out = new FileOutputStream(file);
+    try {
+      out.write(content.getBytes("UTF-8"));
+    }
+    finally {
+      out.close();
+    }
+    return file;
+  }
+
+}
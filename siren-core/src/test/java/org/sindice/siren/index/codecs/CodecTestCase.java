@@ -82,7 +82,8 @@ public abstract class CodecTestCase extends SirenTestCase {
 
   private void doTest(final int[] values, final int blockSize,
                       final BlockCompressor compressor,
-                      final BlockDecompressor decompressor)
+                      final BlockDecompressor decompressor,
+                      final boolean delta)
   throws Exception {
     final BytesRef compressedData = new BytesRef(compressor.maxCompressedSize(blockSize));
     final IntsRef input = new IntsRef(blockSize);
@@ -102,12 +103,26 @@ public abstract class CodecTestCase extends SirenTestCase {
       // compress
       compressor.compress(input, compressedData);
 
-      // decompress
-      decompressor.decompress(compressedData, output);
+      if (!delta) {
+        // decompress
+        decompressor.decompress(compressedData, output);
 
-      // check if they are equals
-      for (int j = 0; j < input.length; j++) {
-        assertEquals(input.ints[j], output.ints[j]);
+        // check if they are equals
+        for (int j = 0; j < input.length; j++) {
+          assertEquals(input.ints[j], output.ints[j]);
+        }
+      }
+      else {
+        // decompress and decode delta values
+        final int base = random().nextInt(1 << 16) - 1;
+        decompressor.decompressDelta(compressedData, output, base);
+
+        // check if they are equals to the prefix sum
+        int acc = base;
+        for (int j = 0; j < input.length; j++) {
+          acc += input.ints[j] + 1;
+          assertEquals(acc, output.ints[j]);
+        }
       }
     }
   }
@@ -115,6 +130,26 @@ public abstract class CodecTestCase extends SirenTestCase {
   public void doTestIntegerRange(final int minBits, final int maxBits, final int[] blockSizes,
                                  final BlockCompressor compressor,
                                  final BlockDecompressor decompressor)
+  throws Exception {
+    this.doTestIntegerRange(minBits, maxBits, blockSizes, compressor, decompressor, false);
+  }
+
+  /**
+   * Same as {@link #doTestIntegerRange(int, int, BlockCompressor, BlockDecompressor)}
+   * but decode the integers as delta values with
+   * {@link BlockDecompressor#decompressDelta(BytesRef, IntsRef, int)}.
+   */
+  public void doTestDeltaIntegerRange(final int minBits, final int maxBits,
+                                      final BlockCompressor compressor,
+                                      final BlockDecompressor decompressor)
+  throws Exception {
+    this.doTestIntegerRange(minBits, maxBits, BLOCK_SIZES, compressor, decompressor, true);
+  }
+
+  private void doTestIntegerRange(final int minBits, final int maxBits, final int[] blockSizes,
+                                  final BlockCompressor compressor,
+                                  final BlockDecompressor decompressor,
+                                  final boolean delta)
   throws Exception {
     for (int i = minBits; i <= maxBits; i++) {
       // different length for each run
@@ -143,7 +178,7 @@ public abstract class CodecTestCase extends SirenTestCase {
       for (final int blockSize : blockSizes) {
 //        logger.debug("Perform Integer Range Test: length = {}, bits = {}, block size = {}",
 //          new Object[]{length, i, blockSize});
-        this.doTest(input, blockSize, compressor, decompressor);
+        this.doTest(input, blockSize, compressor, decompressor, delta);
       }
     }
   }
@@ -29,6 +29,7 @@ import org.apache.lucene.codecs.PostingsFormat;
 import org.apache.lucene.codecs.lucene40.Lucene40Codec;
 import org.apache.lucene.codecs.lucene40.Lucene40PostingsFormat;
 import org.sindice.siren.index.codecs.siren10.Siren10AForPostingsFormat;
+import org.sindice.siren.index.codecs.siren10.Siren10InterleavedPostingsFormat;
 import org.sindice.siren.index.codecs.siren10.Siren10VIntPostingsFormat;
 import org.sindice.siren.util.SirenTestCase;
 import org.slf4j.Logger;
@@ -101,7 +102,7 @@ public class RandomSirenCodec extends Lucene40Codec {
 
   private PostingsFormat newSiren10PostingsFormat() {
     final int blockSize = this.newRandomBlockSize();
-    final int i = random.nextInt(2);
+    final int i = random.nextInt(4);
     switch (i) {
 
       case 0:
@@ -110,6 +111,12 @@ public class RandomSirenCodec extends Lucene40Codec {
       case 1:
         return new Siren10AForPostingsFormat(blockSize);
 
+      case 2:
+        return new Siren10AForPostingsFormat(blockSize, true);
+
+      case 3:
+        return new Siren10InterleavedPostingsFormat(blockSize);
+
       default:
         throw new InvalidParameterException();
     }
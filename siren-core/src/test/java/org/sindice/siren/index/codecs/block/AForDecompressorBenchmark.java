@@ -0,0 +1,146 @@
+/**
+ * Copyright 2014 National University of Ireland, Galway.
+ *
+ * This file is part of the SIREn project. Project and contact information:
+ *
+ *  https://github.com/rdelbru/SIREn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.sindice.siren.index.codecs.block;
+
+import java.util.Random;
+
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.IntsRef;
+
+/**
+ * Micro-benchmark of the decompression throughput of
+ * {@link AForBlockDecompressor} and {@link AForWordBlockDecompressor} for each
+ * frame width.
+ * <p>
+ * For each frame code, a block made of frames of this code is decompressed
+ * repeatedly by the two decompressors, as values and as delta values, and the
+ * throughput in millions of integers per second is reported. Run with:
+ * <pre>
+ * java -cp ... org.sindice.siren.index.codecs.block.AForDecompressorBenchmark [rounds]
+ * </pre>
+ */
+public class AForDecompressorBenchmark {
+
+  /** The number of frames per block */
+  private static final int FRAMES = 64;
+
+  /** The number of decompressions of the block per measure */
+  private static final int ITERATIONS = 2000;
+
+  /** Prevent the JIT from discarding the decompressed values */
+  private static long sink = 0;
+
+  public static void main(final String[] args) {
+    final int rounds = args.length > 0 ? Integer.parseInt(args[0]) : 5;
+    final Random random = new Random(42);
+
+    // the instances used by a block reader
+    final BlockDecompressor afor = new AForBlockDecompressor().getReaderInstance();
+    final BlockDecompressor word = new AForWordBlockDecompressor().getReaderInstance();
+
+    // warm up every frame decompressor of both implementations
+    for (int code = 0; code < 99; code++) {
+      final BytesRef block = createBlock(code, random);
+      for (final boolean delta : new boolean[] { false, true }) {
+        measure(afor, block, getFrameLength(code), delta);
+        measure(word, block, getFrameLength(code), delta);
+      }
+    }
+
+    System.out.println("code\tframe\tbits\tAFor (Mints/s)\tWord (Mints/s)\tspeedup" +
+      "\tAFor delta (Mints/s)\tWord delta (Mints/s)\tspeedup");
+    double aforTotal = 0, wordTotal = 0, aforDeltaTotal = 0, wordDeltaTotal = 0;
+    for (int code = 0; code < 99; code++) {
+      final BytesRef block = createBlock(code, random);
+      final int frameLength = getFrameLength(code);
+      double aforBest = 0, wordBest = 0, aforDeltaBest = 0, wordDeltaBest = 0;
+      for (int r = 0; r < rounds; r++) {
+        aforBest = Math.max(aforBest, measure(afor, block, frameLength, false));
+        wordBest = Math.max(wordBest, measure(word, block, frameLength, false));
+        aforDeltaBest = Math.max(aforDeltaBest, measure(afor, block, frameLength, true));
+        wordDeltaBest = Math.max(wordDeltaBest, measure(word, block, frameLength, true));
+      }
+      System.out.println(String.format("%d\t%d\t%d\t%.1f\t%.1f\t%.2f\t%.1f\t%.1f\t%.2f",
+        code, frameLength, getBits(code), aforBest, wordBest, wordBest / aforBest,
+        aforDeltaBest, wordDeltaBest, wordDeltaBest / aforDeltaBest));
+      // the time to decompress one million integers of each frame code
+      aforTotal += 1 / aforBest;
+      wordTotal += 1 / wordBest;
+      aforDeltaTotal += 1 / aforDeltaBest;
+      wordDeltaTotal += 1 / wordDeltaBest;
+    }
+    System.out.println(String.format("overall speedup: %.2f, delta: %.2f",
+      aforTotal / wordTotal, aforDeltaTotal / wordDeltaTotal));
+    System.out.println("sink: " + sink);
+  }
+
+  /**
+   * Return the throughput in millions of integers per second.
+   */
+  private static double measure(final BlockDecompressor decompressor,
+                                final BytesRef block, final int frameLength,
+                                final boolean delta) {
+    final IntsRef output = new IntsRef(FRAMES * frameLength);
+    final long start = System.nanoTime();
+    for (int i = 0; i < ITERATIONS; i++) {
+      block.offset = 0;
+      if (delta) {
+        decompressor.decompressDelta(block, output, i);
+      }
+      else {
+        decompressor.decompress(block, output);
+      }
+      sink += output.ints[i % output.length];
+    }
+    final long elapsed = System.nanoTime() - start;
+    return (double) ITERATIONS * FRAMES * frameLength * 1000 / elapsed;
+  }
+
+  private static BytesRef createBlock(final int code, final Random random) {
+    final int frameSize = getFrameLength(code) * getBits(code) / 8;
+    final BytesRef block = new BytesRef(FRAMES * (1 + frameSize));
+    for (int i = 0; i < FRAMES; i++) {
+      block.bytes[block.length++] = (byte) code;
+      for (int j = 0; j < frameSize; j++) {
+        block.bytes[block.length++] = (byte) random.nextInt(256);
+      }
+    }
+    return block;
+  }
+
+  private static int getFrameLength(final int code) {
+    if (code <= 32)
+      return 32;
+    else if (code <= 65)
+      return 16;
+    else
+      return 8;
+  }
+
+  private static int getBits(final int code) {
+    if (code <= 32)
+      return code;
+    else if (code <= 65)
+      return code - 33;
+    else
+      return code - 66;
+  }
+
+}
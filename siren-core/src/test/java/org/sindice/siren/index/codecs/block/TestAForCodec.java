@@ -164,6 +164,11 @@ public class TestAForCodec extends CodecTestCase {
     this.doTestIntegerRange(1, 32, new AForBlockCompressor(), new AForBlockDecompressor());
   }
 
+  @Test
+  public void testDeltaIntegerRange() throws Exception {
+    this.doTestDeltaIntegerRange(1, 32, new AForBlockCompressor(), new AForBlockDecompressor());
+  }
+
   @Test
   public void testShortPostingList() throws IOException {
 
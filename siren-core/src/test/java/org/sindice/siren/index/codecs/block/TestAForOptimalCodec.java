@@ -0,0 +1,234 @@
+/**
+ * Copyright 2014 National University of Ireland, Galway.
+ *
+ * This file is part of the SIREn project. Project and contact information:
+ *
+ *  https://github.com/rdelbru/SIREn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.sindice.siren.index.codecs.block;
+
+import java.io.IOException;
+import java.util.Random;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.IntsRef;
+import org.junit.Test;
+import org.sindice.siren.index.codecs.CodecTestCase;
+import org.sindice.siren.index.codecs.RandomSirenCodec;
+import org.sindice.siren.index.codecs.siren10.Siren10AForPostingsFormat;
+
+public class TestAForOptimalCodec extends CodecTestCase {
+
+  @Test
+  public void testIntegerRange() throws Exception {
+    this.doTestIntegerRange(1, 32, new AForOptimalBlockCompressor(), new AForBlockDecompressor());
+  }
+
+  @Test
+  public void testIncompleteFrame() throws IOException {
+    final BlockCompressor compressor = new AForOptimalBlockCompressor();
+
+    final IntsRef input = new IntsRef(64);
+    final BytesRef output = new BytesRef(compressor.maxCompressedSize(64));
+
+    // fill first part with 1
+    for (int i = 0; i < 33; i++) {
+      input.ints[i] = 1;
+    }
+
+    // fill the rest with random numbers
+    for (int i = 33; i < 64; i++) {
+      input.ints[i] = (int) this.nextLong(64, Short.MAX_VALUE);
+    }
+
+    input.offset = 0;
+    input.length = 33;
+
+    // the random numbers after the end of the input array should not impact
+    // compression
+    compressor.compress(input, output);
+
+    // should be frame code 1 : 32 ints encoded with 1 bits
+    assertEquals(1, output.bytes[0]);
+    // followed by 4 bytes at 255
+    assertEquals(0xFF, output.bytes[1] & 0xFF);
+    assertEquals(0xFF, output.bytes[2] & 0xFF);
+    assertEquals(0xFF, output.bytes[3] & 0xFF);
+    assertEquals(0xFF, output.bytes[4] & 0xFF);
+    // then frame code 67 : 8 ints encoded with 1 bits, instead of the two
+    // frames of 16 ints of AFOR
+    assertEquals(67, output.bytes[5]);
+    assertEquals(128, output.bytes[6] & 0xFF);
+    assertEquals(7, output.length);
+  }
+
+  @Test
+  public void testUnalignedFrame() throws IOException {
+    final BlockCompressor compressor = new AForOptimalBlockCompressor();
+    final BlockDecompressor decompressor = new AForBlockDecompressor();
+
+    final IntsRef input = new IntsRef(64);
+    final BytesRef output = new BytesRef(compressor.maxCompressedSize(64));
+    final IntsRef result = new IntsRef(64);
+
+    // an outlier in the first 8 ints, followed by a run of 32 small ints which
+    // is not aligned on a window of 32 ints
+    input.ints[0] = 1 << 20;
+    for (int i = 8; i < 40; i++) {
+      input.ints[i] = 1;
+    }
+    input.offset = 0;
+    input.length = 40;
+
+    compressor.compress(input, output);
+
+    // frame code 87 : 8 ints encoded with 21 bits
+    assertEquals(87, output.bytes[0]);
+    // then frame code 1 : 32 ints encoded with 1 bits
+    assertEquals(1, output.bytes[22]);
+    assertEquals(27, output.length);
+
+    decompressor.decompress(output, result);
+    for (int i = 0; i < input.length; i++) {
+      assertEquals(input.ints[i], result.ints[i]);
+    }
+  }
+
+  /**
+   * The partitions of {@link AForBlockCompressor} are a subset of the ones
+   * explored by {@link AForOptimalBlockCompressor}: the optimal compressed size
+   * must never be larger.
+   */
+  @Test
+  public void testNotLargerThanAFor() throws IOException {
+    final BlockCompressor afor = new AForBlockCompressor();
+    final BlockCompressor optimal = new AForOptimalBlockCompressor();
+    final BlockDecompressor decompressor = new AForBlockDecompressor();
+
+    for (final int blockSize : BLOCK_SIZES) {
+      final IntsRef input = new IntsRef(blockSize);
+      final IntsRef result = new IntsRef(blockSize);
+      final BytesRef aforOutput = new BytesRef(afor.maxCompressedSize(blockSize));
+      final BytesRef optimalOutput = new BytesRef(optimal.maxCompressedSize(blockSize));
+
+      for (int n = 0; n < 100; n++) {
+        final int length = 1 + random().nextInt(blockSize);
+        final int maxBits = 1 + random().nextInt(31);
+        for (int i = 0; i < length; i++) {
+          // mostly small values with some outliers
+          final int bits = random().nextInt(8) == 0 ? maxBits : random().nextInt(maxBits);
+          input.ints[i] = bits == 0 ? 0 : (int) this.nextLong(0, (1L << bits) - 1);
+        }
+
+        input.offset = 0;
+        input.length = length;
+        afor.compress(input, aforOutput);
+
+        input.offset = 0;
+        input.length = length;
+        optimal.compress(input, optimalOutput);
+
+        assertTrue(optimalOutput.length <= aforOutput.length);
+
+        decompressor.decompress(optimalOutput, result);
+        for (int i = 0; i < length; i++) {
+          assertEquals(input.ints[i], result.ints[i]);
+        }
+      }
+    }
+  }
+
+  /**
+   * Index the same random JSON documents with AFOR and with the optimal
+   * partitioning, and report the size of the .doc, .nod and .pos files.
+   */
+  @Test
+  public void testPostingsSize() throws IOException {
+    final long seed = random().nextLong();
+    final long[] aforSizes = this.indexAndGetPostingsSizes(new Siren10AForPostingsFormat(128, false), seed);
+    final long[] optimalSizes = this.indexAndGetPostingsSizes(new Siren10AForPostingsFormat(128, true), seed);
+
+    for (int i = 0; i < EXTENSIONS.length; i++) {
+      logger.info("{}: AFor={} bytes, Optimal AFor={} bytes, ratio={}", new Object[] {
+        EXTENSIONS[i], aforSizes[i], optimalSizes[i], (double) optimalSizes[i] / aforSizes[i]
+      });
+      assertTrue(optimalSizes[i] <= aforSizes[i]);
+    }
+  }
+
+  private static final String[] EXTENSIONS = { "doc", "nod", "pos" };
+
+  private long[] indexAndGetPostingsSizes(final Siren10AForPostingsFormat format,
+                                          final long seed)
+  throws IOException {
+    final Directory dir = newDirectory();
+    final RandomSirenCodec codec = new RandomSirenCodec(random(), format);
+    final IndexWriterConfig config = new IndexWriterConfig(TEST_VERSION_CURRENT,
+      newJsonAnalyzer()).setCodec(codec);
+    final IndexWriter writer = new IndexWriter(dir, config);
+
+    final Random rand = new Random(seed);
+    for (int i = 0; i < 2000; i++) {
+      final Document doc = new Document();
+      doc.add(new Field(DEFAULT_TEST_FIELD, this.getRandomJson(rand), newStoredFieldType()));
+      writer.addDocument(doc);
+    }
+    writer.forceMerge(1);
+    writer.close();
+
+    final long[] sizes = new long[EXTENSIONS.length];
+    for (final String file : dir.listAll()) {
+      for (int i = 0; i < EXTENSIONS.length; i++) {
+        if (file.endsWith("." + EXTENSIONS[i])) {
+          sizes[i] += dir.fileLength(file);
+        }
+      }
+    }
+    dir.close();
+    return sizes;
+  }
+
+  /**
+   * Generate a JSON object with a skewed distribution of attributes and
+   * words, so that the postings lists have both dense and sparse regions.
+   */
+  private String getRandomJson(final Random rand) {
+    final StringBuilder builder = new StringBuilder("{ ");
+    final int nAttributes = 1 + rand.nextInt(10);
+    for (int i = 0; i < nAttributes; i++) {
+      if (i > 0) {
+        builder.append(", ");
+      }
+      builder.append("\"attr").append(this.nextSkewedInt(rand, 50)).append("\" : \"");
+      final int nWords = 1 + rand.nextInt(8);
+      for (int j = 0; j < nWords; j++) {
+        builder.append(" word").append(this.nextSkewedInt(rand, 1000));
+      }
+      builder.append("\"");
+    }
+    return builder.append(" }").toString();
+  }
+
+  private int nextSkewedInt(final Random rand, final int max) {
+    final double r = rand.nextDouble();
+    return (int) (max * r * r * r);
+  }
+
+}
@@ -0,0 +1,99 @@
+/**
+ * Copyright 2014 National University of Ireland, Galway.
+ *
+ * This file is part of the SIREn project. Project and contact information:
+ *
+ *  https://github.com/rdelbru/SIREn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.sindice.siren.index.codecs.block;
+
+import java.io.IOException;
+
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.IntsRef;
+import org.junit.Test;
+import org.sindice.siren.index.codecs.CodecTestCase;
+
+public class TestAForWordCodec extends CodecTestCase {
+
+  @Test
+  public void testIntegerRange() throws Exception {
+    this.doTestIntegerRange(1, 32, new AForBlockCompressor(), new AForWordBlockDecompressor());
+  }
+
+  @Test
+  public void testOptimalIntegerRange() throws Exception {
+    this.doTestIntegerRange(1, 32, new AForOptimalBlockCompressor(), new AForWordBlockDecompressor());
+  }
+
+  /**
+   * Each frame code must be decoded to the same integers than
+   * {@link AForBlockDecompressor}, as values and as delta values, including
+   * the frames of 8 and 16 integers which data is not a multiple of a word of
+   * 64 bits. The input array changes for each frame code, the views of the
+   * word decompressor over the previous arrays must not be used.
+   */
+  @Test
+  public void testSameAsAFor() throws IOException {
+    final BlockDecompressor afor = new AForBlockDecompressor();
+    final BlockDecompressor word = new AForWordBlockDecompressor().getReaderInstance();
+
+    for (int code = 0; code < 99; code++) {
+      final int frameSize = this.getFrameSize(code);
+      // a sequence of 4 frames with the same code and random data
+      final int nFrames = 4;
+      final BytesRef input = new BytesRef(nFrames * (1 + frameSize));
+      for (int i = 0; i < nFrames; i++) {
+        input.bytes[input.length++] = (byte) code;
+        for (int j = 0; j < frameSize; j++) {
+          input.bytes[input.length++] = (byte) random().nextInt(256);
+        }
+      }
+
+      final IntsRef aforOutput = new IntsRef(nFrames * 32);
+      final IntsRef wordOutput = new IntsRef(nFrames * 32);
+      afor.decompress(input, aforOutput);
+      word.decompress(input, wordOutput);
+
+      assertEquals(aforOutput.length, wordOutput.length);
+      for (int i = 0; i < aforOutput.length; i++) {
+        assertEquals("frame code " + code, aforOutput.ints[i], wordOutput.ints[i]);
+      }
+
+      final int base = random().nextInt(1000);
+      afor.decompressDelta(input, aforOutput, base);
+      word.decompressDelta(input, wordOutput, base);
+
+      assertEquals(aforOutput.length, wordOutput.length);
+      for (int i = 0; i < aforOutput.length; i++) {
+        assertEquals("delta frame code " + code, aforOutput.ints[i], wordOutput.ints[i]);
+      }
+    }
+  }
+
+  /**
+   * Return the number of bytes of the data of a frame.
+   */
+  private int getFrameSize(final int code) {
+    if (code <= 32) {
+      return 4 * code;
+    }
+    else if (code <= 65) {
+      return 2 * (code - 33);
+    }
+    return code - 66;
+  }
+
+}
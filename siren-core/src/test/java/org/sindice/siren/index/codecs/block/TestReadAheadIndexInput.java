@@ -0,0 +1,92 @@
+/**
+ * Copyright 2014 National University of Ireland, Galway.
+ *
+ * This file is part of the SIREn project. Project and contact information:
+ *
+ *  https://github.com/rdelbru/SIREn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.sindice.siren.index.codecs.block;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.store.IndexOutput;
+import org.apache.lucene.util.LuceneTestCase;
+import org.junit.Test;
+
+public class TestReadAheadIndexInput extends LuceneTestCase {
+
+  /**
+   * A block that is not within a window is read in the calling thread, even
+   * if the executor of the read-ahead does not make progress.
+   */
+  @Test
+  public void testMissReadSynchronously() throws Exception {
+    final Directory dir = newDirectory();
+    final IndexOutput out = dir.createOutput("test", IOContext.DEFAULT);
+    for (int i = 0; i < 4096; i++) {
+      out.writeByte((byte) i);
+    }
+    out.close();
+
+    // an executor blocked until the end of the test
+    final CountDownLatch latch = new CountDownLatch(1);
+    final ExecutorService executor = Executors.newSingleThreadExecutor();
+    executor.submit(new Runnable() {
+      @Override
+      public void run() {
+        try {
+          latch.await();
+        }
+        catch (final InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }
+    });
+    final BlockReadAhead readAhead = new BlockReadAhead(executor, 256);
+
+    final IndexInput file = dir.openInput("test", IOContext.DEFAULT);
+    final BlockIndexInput owner = new BlockIndexInput(file) {
+      @Override
+      public BlockReader getBlockReader() {
+        return null;
+      }
+    };
+    final IndexInput in = readAhead.wrap(file.clone(), owner);
+    try {
+      for (final int fp : new int[] { 1000, 3000, 10, 2048 }) {
+        in.seek(fp);
+        // the bytes of the window read in the calling thread
+        for (int i = 0; i < 128; i++) {
+          assertEquals((byte) (fp + i), in.readByte());
+        }
+      }
+      assertEquals(4, readAhead.getMissCount());
+      assertEquals(0, readAhead.getHitCount());
+    }
+    finally {
+      latch.countDown();
+      owner.close();
+      readAhead.close();
+      dir.close();
+    }
+  }
+
+}
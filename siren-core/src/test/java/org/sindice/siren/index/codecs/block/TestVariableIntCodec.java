@@ -118,4 +118,9 @@ public class TestVariableIntCodec extends CodecTestCase {
     this.doTestIntegerRange(1, 32, new VIntBlockCompressor(), new VIntBlockDecompressor());
   }
 
+  @Test
+  public void testDeltaIntegerRange() throws Exception {
+    this.doTestDeltaIntegerRange(1, 32, new VIntBlockCompressor(), new VIntBlockDecompressor());
+  }
+
 }
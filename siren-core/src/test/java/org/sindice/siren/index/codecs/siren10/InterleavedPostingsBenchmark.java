@@ -0,0 +1,204 @@
+/**
+ * Copyright 2014 National University of Ireland, Galway.
+ *
+ * This file is part of the SIREn project. Project and contact information:
+ *
+ *  https://github.com/rdelbru/SIREn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.sindice.siren.index.codecs.siren10;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Random;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.codecs.PostingsFormat;
+import org.apache.lucene.codecs.lucene40.Lucene40Codec;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.FieldType;
+import org.apache.lucene.index.AtomicReader;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.DocsEnum;
+import org.apache.lucene.index.FieldInfo.IndexOptions;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.NIOFSDirectory;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.Version;
+import org.sindice.siren.analysis.AnyURIAnalyzer;
+import org.sindice.siren.analysis.JsonAnalyzer;
+import org.sindice.siren.index.codecs.siren10.Siren10PostingsReader.Siren10DocsEnum;
+import org.sindice.siren.index.codecs.siren10.Siren10PostingsReader.Siren10DocsNodesAndPositionsEnum;
+
+/**
+ * Benchmark of the node and position reads of the default layout, i.e.,
+ * {@link Siren10AForPostingsFormat}, against the interleaved layout, i.e.,
+ * {@link Siren10InterleavedPostingsFormat}.
+ * <p>
+ * The same random JSON documents are indexed with the two layouts in the given
+ * directory. For each round, a new directory and reader are opened, and the
+ * documents, nodes and positions of a set of terms are read after skipping to
+ * random targets, as a node query does. The elapsed time per layout is
+ * reported.
+ * <p>
+ * The page cache of the operating system cannot be dropped from Java. For
+ * cold-cache measures, give as last argument a command dropping it, e.g., a
+ * script running <code>sync; echo 3 &gt; /proc/sys/vm/drop_caches</code>,
+ * which is executed before each measure. Run with:
+ * <pre>
+ * java -cp ... org.sindice.siren.index.codecs.siren10.InterleavedPostingsBenchmark dir [rounds] [drop-cache-command]
+ * </pre>
+ */
+public class InterleavedPostingsBenchmark {
+
+  private static final String FIELD = "content";
+
+  private static final int NUM_DOCS = 200000;
+
+  private static final int NUM_TERMS = 50;
+
+  public static void main(final String[] args) throws Exception {
+    final File dir = new File(args[0]);
+    final int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+    final String dropCacheCommand = args.length > 2 ? args[2] : null;
+
+    final File defaultDir = new File(dir, "default");
+    final File interleavedDir = new File(dir, "interleaved");
+    index(defaultDir, new Siren10AForPostingsFormat());
+    index(interleavedDir, new Siren10InterleavedPostingsFormat());
+
+    System.out.println("round\tdefault (ms)\tinterleaved (ms)");
+    long sink = 0;
+    for (int r = 0; r < rounds; r++) {
+      dropCache(dropCacheCommand);
+      long start = System.nanoTime();
+      sink += query(defaultDir, r);
+      final long defaultTime = System.nanoTime() - start;
+
+      dropCache(dropCacheCommand);
+      start = System.nanoTime();
+      sink += query(interleavedDir, r);
+      final long interleavedTime = System.nanoTime() - start;
+
+      System.out.println(String.format("%d\t%.1f\t%.1f", r,
+        defaultTime / 1000000.0, interleavedTime / 1000000.0));
+    }
+    System.out.println("sink: " + sink);
+  }
+
+  private static void index(final File path, final PostingsFormat format)
+  throws IOException {
+    final Directory dir = new NIOFSDirectory(path);
+    final Analyzer analyzer = new JsonAnalyzer(Version.LUCENE_40,
+      new AnyURIAnalyzer(Version.LUCENE_40), new StandardAnalyzer(Version.LUCENE_40));
+    final IndexWriterConfig config = new IndexWriterConfig(Version.LUCENE_40, analyzer);
+    config.setOpenMode(IndexWriterConfig.OpenMode.CREATE);
+    config.setCodec(new Lucene40Codec() {
+
+      @Override
+      public PostingsFormat getPostingsFormatForField(final String field) {
+        return FIELD.equals(field) ? format : super.getPostingsFormatForField(field);
+      }
+
+    });
+
+    final FieldType type = new FieldType();
+    type.setIndexed(true);
+    type.setTokenized(true);
+    type.setIndexOptions(IndexOptions.DOCS_AND_FREQS_AND_POSITIONS);
+
+    final IndexWriter writer = new IndexWriter(dir, config);
+    // same documents for the two layouts
+    final Random random = new Random(42);
+    for (int i = 0; i < NUM_DOCS; i++) {
+      final Document doc = new Document();
+      doc.add(new Field(FIELD, newJson(random), type));
+      writer.addDocument(doc);
+    }
+    writer.forceMerge(1);
+    writer.close();
+    dir.close();
+  }
+
+  private static String newJson(final Random random) {
+    final StringBuilder builder = new StringBuilder("{ ");
+    final int nAttributes = 1 + random.nextInt(10);
+    for (int i = 0; i < nAttributes; i++) {
+      if (i > 0) {
+        builder.append(", ");
+      }
+      builder.append("\"attr").append(nextSkewedInt(random, 50)).append("\" : { \"value\" : \"");
+      final int nWords = 1 + random.nextInt(8);
+      for (int j = 0; j < nWords; j++) {
+        builder.append(" word").append(nextSkewedInt(random, 1000));
+      }
+      builder.append("\" }");
+    }
+    return builder.append(" }").toString();
+  }
+
+  private static int nextSkewedInt(final Random random, final int max) {
+    final double r = random.nextDouble();
+    return (int) (max * r * r * r);
+  }
+
+  /**
+   * Read the nodes and positions of a set of terms, and return a checksum.
+   */
+  private static long query(final File path, final int round) throws IOException {
+    final Directory dir = new NIOFSDirectory(path);
+    final DirectoryReader reader = DirectoryReader.open(dir);
+    final AtomicReader aReader = reader.leaves().get(0).reader();
+    final Random random = new Random(round);
+    long sum = 0;
+
+    for (int t = 0; t < NUM_TERMS; t++) {
+      final Term term = new Term(FIELD, new BytesRef("word" + random.nextInt(1000)));
+      final DocsEnum docsEnum = aReader.termDocsEnum(term);
+      if (docsEnum == null) {
+        continue;
+      }
+      final Siren10DocsNodesAndPositionsEnum e = ((Siren10DocsEnum) docsEnum).getDocsNodesAndPositionsEnum();
+      int target = 0;
+      while (e.skipTo(target)) {
+        while (e.nextNode()) {
+          sum += e.node().ints[e.node().offset];
+          while (e.nextPosition()) {
+            sum += e.pos();
+          }
+        }
+        // skip as a conjunction with a denser term does
+        target = e.doc() + 1 + random.nextInt(64);
+      }
+    }
+
+    reader.close();
+    dir.close();
+    return sum;
+  }
+
+  private static void dropCache(final String command)
+  throws IOException, InterruptedException {
+    if (command != null) {
+      final Process process = new ProcessBuilder(command).inheritIO().start();
+      process.waitFor();
+    }
+  }
+
+}
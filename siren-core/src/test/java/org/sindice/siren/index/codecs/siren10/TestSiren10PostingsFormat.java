@@ -26,15 +26,21 @@ import static org.sindice.siren.analysis.MockSirenToken.token;
 import java.io.IOException;
 
 import org.apache.lucene.index.AtomicReader;
+import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.DocsEnum;
 import org.apache.lucene.index.SlowCompositeReaderWrapper;
 import org.apache.lucene.index.Term;
+import org.apache.lucene.index.TermsEnum;
+import org.apache.lucene.util.Bits;
 import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.FixedBitSet;
 import org.apache.lucene.util.LuceneTestCase;
+import org.apache.lucene.util.OpenBitSet;
 import org.junit.Test;
 import org.sindice.siren.analysis.MockSirenDocument;
 import org.sindice.siren.index.DocsAndNodesIterator;
 import org.sindice.siren.index.codecs.RandomSirenCodec.PostingsFormatType;
+import org.sindice.siren.index.codecs.block.BlockReadAhead;
 import org.sindice.siren.index.codecs.siren10.Siren10PostingsReader.Siren10DocsEnum;
 import org.sindice.siren.index.codecs.siren10.Siren10PostingsReader.Siren10DocsNodesAndPositionsEnum;
 import org.sindice.siren.util.BasicSirenTestCase;
@@ -110,6 +116,146 @@ public class TestSiren10PostingsFormat extends BasicSirenTestCase {
 
   }
 
+  @Test
+  public void testSkipBlock() throws IOException {
+    // reduce block size to have many blocks
+    this.setPostingsFormat(new Siren10VIntPostingsFormat(16));
+
+    final MockSirenDocument[] docs = new MockSirenDocument[256];
+    for (int i = 0; i < 256; i += 2) {
+      docs[i] = doc(token("aaa", node(1)), token("bbb", node(1,0)), token("aaa", node(2)));
+      docs[i + 1] = doc(token("aaa", node(5,3,6,3)), token("aaa", node(5,3,6,3)));
+    }
+    this.addDocuments(docs);
+
+    final AtomicReader aReader = SlowCompositeReaderWrapper.wrap(reader);
+    final DocsEnum docsEnum = aReader.termDocsEnum(new Term(DEFAULT_TEST_FIELD, new BytesRef("aaa")));
+    assertTrue(docsEnum instanceof Siren10DocsEnum);
+    final Siren10DocsNodesAndPositionsEnum e = ((Siren10DocsEnum) docsEnum).getDocsNodesAndPositionsEnum();
+
+    // skip the first blocks without decoding them
+    assertTrue(e.skipTo(40));
+    assertEquals(40, e.doc());
+    assertEquals(2, e.nodeFreqInDoc());
+    assertTrue(e.nextNode());
+    assertEquals(node(1), e.node());
+
+    // skip the rest of a partially scanned block
+    assertTrue(e.skipTo(49));
+    assertEquals(49, e.doc());
+    assertEquals(1, e.nodeFreqInDoc());
+    assertTrue(e.nextNode());
+    assertEquals(node(5,3,6,3), e.node());
+    assertEquals(2, e.termFreqInNode());
+    assertTrue(e.nextPosition());
+    assertEquals(0, e.pos());
+
+    // skip to the first doc of a block
+    assertTrue(e.skipTo(64));
+    assertEquals(64, e.doc());
+    assertTrue(e.nextNode());
+    assertEquals(node(1), e.node());
+    assertTrue(e.nextNode());
+    assertEquals(node(2), e.node());
+    assertFalse(e.nextNode());
+
+    // skip to the last doc of a block
+    assertTrue(e.skipTo(95));
+    assertEquals(95, e.doc());
+    assertTrue(e.nextNode());
+    assertEquals(node(5,3,6,3), e.node());
+    assertTrue(e.nextPosition());
+    assertEquals(0, e.pos());
+    assertTrue(e.nextPosition());
+    assertEquals(1, e.pos());
+    assertFalse(e.nextPosition());
+
+    // the next block must be correctly loaded
+    assertTrue(e.nextDocument());
+    assertEquals(96, e.doc());
+    assertTrue(e.nextNode());
+    assertEquals(node(1), e.node());
+
+    assertTrue(e.skipTo(255));
+    assertEquals(255, e.doc());
+    assertTrue(e.nextNode());
+    assertEquals(node(5,3,6,3), e.node());
+
+    assertFalse(e.skipTo(256));
+    assertEquals(DocsAndNodesIterator.NO_MORE_DOC, e.doc());
+  }
+
+  @Test
+  public void testAcceptDocsLeapfrog() throws IOException {
+    // reduce block size to have many blocks
+    this.setPostingsFormat(new Siren10VIntPostingsFormat(16));
+
+    final MockSirenDocument[] docs = new MockSirenDocument[256];
+    for (int i = 0; i < 256; i += 2) {
+      docs[i] = doc(token("aaa", node(1)), token("bbb", node(1,0)), token("aaa", node(2)));
+      docs[i + 1] = doc(token("aaa", node(5,3,6,3)), token("aaa", node(5,3,6,3)));
+    }
+    this.addDocuments(docs);
+
+    final AtomicReader aReader = SlowCompositeReaderWrapper.wrap(reader);
+    final FixedBitSet acceptDocs = new FixedBitSet(256);
+    acceptDocs.set(3);
+    acceptDocs.set(40);
+    acceptDocs.set(131);
+    acceptDocs.set(132);
+
+    DocsEnum docsEnum = this.termDocsEnum(aReader, acceptDocs, "aaa");
+    Siren10DocsNodesAndPositionsEnum e = ((Siren10DocsEnum) docsEnum).getDocsNodesAndPositionsEnum();
+
+    assertTrue(e.nextDocument());
+    assertEquals(3, e.doc());
+    assertTrue(e.nextNode());
+    assertEquals(node(5,3,6,3), e.node());
+
+    // leapfrog over the blocks without accepted documents
+    assertTrue(e.nextDocument());
+    assertEquals(40, e.doc());
+    assertTrue(e.nextNode());
+    assertEquals(node(1), e.node());
+    assertTrue(e.nextNode());
+    assertEquals(node(2), e.node());
+    assertFalse(e.nextNode());
+
+    assertTrue(e.skipTo(100));
+    assertEquals(131, e.doc());
+    assertEquals(1, e.nodeFreqInDoc());
+    assertTrue(e.nextNode());
+    assertEquals(node(5,3,6,3), e.node());
+    assertEquals(2, e.termFreqInNode());
+
+    assertTrue(e.nextDocument());
+    assertEquals(132, e.doc());
+    assertTrue(e.nextNode());
+    assertEquals(node(1), e.node());
+
+    // no more accepted documents
+    assertFalse(e.nextDocument());
+    assertEquals(DocsAndNodesIterator.NO_MORE_DOC, e.doc());
+
+    final OpenBitSet openAcceptDocs = new OpenBitSet(256);
+    openAcceptDocs.set(254);
+    docsEnum = this.termDocsEnum(aReader, openAcceptDocs, "aaa");
+    e = ((Siren10DocsEnum) docsEnum).getDocsNodesAndPositionsEnum();
+    assertTrue(e.nextDocument());
+    assertEquals(254, e.doc());
+    assertTrue(e.nextNode());
+    assertEquals(node(1), e.node());
+    assertFalse(e.nextDocument());
+  }
+
+  private DocsEnum termDocsEnum(final AtomicReader aReader, final Bits acceptDocs,
+                                final String term)
+  throws IOException {
+    final TermsEnum termsEnum = aReader.terms(DEFAULT_TEST_FIELD).iterator(null);
+    assertTrue(termsEnum.seekExact(new BytesRef(term), false));
+    return termsEnum.docs(acceptDocs, null);
+  }
+
   @Test
   public void testSimpleNextNode() throws IOException {
     this.addDocuments(
@@ -407,6 +553,65 @@ public class TestSiren10PostingsFormat extends BasicSirenTestCase {
     this.forceMerge();
   }
 
+  @Test
+  public void testMergeCopyBlocks() throws IOException {
+    // reduce block size to have many full blocks
+    this.setPostingsFormat(new Siren10VIntPostingsFormat(4));
+
+    // first segment: two full blocks
+    final MockSirenDocument[] docs1 = new MockSirenDocument[8];
+    for (int i = 0; i < 8; i++) {
+      docs1[i] = this.newMergeDocument(i);
+    }
+    this.addDocuments(docs1);
+
+    // second segment: two full blocks, with one deleted doc in the second one
+    final MockSirenDocument[] docs2 = new MockSirenDocument[8];
+    for (int i = 0; i < 8; i++) {
+      docs2[i] = this.newMergeDocument(i);
+    }
+    docs2[5] = doc(token("ccc", node(1)));
+    this.addDocuments(docs2);
+
+    writer.deleteDocuments(new Term(DEFAULT_TEST_FIELD, new BytesRef("ccc")));
+    writer.commit();
+    this.forceMerge();
+
+    assertEquals(15, reader.numDocs());
+
+    final AtomicReader aReader = SlowCompositeReaderWrapper.wrap(reader);
+    final DocsEnum docsEnum = aReader.termDocsEnum(new Term(DEFAULT_TEST_FIELD, new BytesRef("aaa")));
+    assertTrue(docsEnum instanceof Siren10DocsEnum);
+    final Siren10DocsNodesAndPositionsEnum e = ((Siren10DocsEnum) docsEnum).getDocsNodesAndPositionsEnum();
+
+    for (int i = 0; i < 15; i++) {
+      // the deleted document has been removed
+      final int n = i < 8 ? i : (i < 13 ? i - 8 : i - 7);
+      assertTrue(e.nextDocument());
+      assertEquals(i, e.doc());
+      assertEquals(2, e.nodeFreqInDoc());
+      assertTrue(e.nextNode());
+      assertEquals(node(n, 1), e.node());
+      assertEquals(1, e.termFreqInNode());
+      assertTrue(e.nextPosition());
+      assertEquals(0, e.pos());
+      assertTrue(e.nextNode());
+      assertEquals(node(n, 2), e.node());
+      assertEquals(2, e.termFreqInNode());
+      assertTrue(e.nextPosition());
+      assertEquals(0, e.pos());
+      assertTrue(e.nextPosition());
+      assertEquals(1, e.pos());
+      assertFalse(e.nextNode());
+    }
+    assertFalse(e.nextDocument());
+  }
+
+  private MockSirenDocument newMergeDocument(final int n) {
+    return doc(token("aaa", node(n, 1)), token("bbb", node(n, 1, 0)),
+               token("aaa", node(n, 2)), token("aaa", node(n, 2)));
+  }
+
   @Test
   public void testStressMerge() throws IOException {
     this.addDocuments(
@@ -449,6 +654,338 @@ public class TestSiren10PostingsFormat extends BasicSirenTestCase {
     }
   }
 
+  /**
+   * Blocks where every node has a single token at position 0 are encoded
+   * without term frequencies and pos block. The reader must synthesise them,
+   * and skip correctly between position-free and normal blocks, before and
+   * after merging.
+   */
+  @Test
+  public void testPositionFreeBlocks() throws IOException {
+    this.setPostingsFormat(new Siren10VIntPostingsFormat(4));
+
+    final MockSirenDocument[] docs = new MockSirenDocument[16];
+    for (int i = 0; i < 16; i++) {
+      docs[i] = this.newPositionFreeDocument(i);
+    }
+    this.addDocuments(docs);
+    this.checkPositionFreeBlocks(16);
+
+    // add a second segment and merge, with copy of the raw blocks
+    final MockSirenDocument[] docs2 = new MockSirenDocument[16];
+    for (int i = 0; i < 16; i++) {
+      docs2[i] = this.newPositionFreeDocument(16 + i);
+    }
+    this.addDocuments(docs2);
+    this.forceMerge();
+    this.checkPositionFreeBlocks(32);
+  }
+
+  /**
+   * The documents of the third block of each group of four blocks have
+   * two tokens in their second node.
+   */
+  private MockSirenDocument newPositionFreeDocument(final int n) {
+    if ((n / 4) % 4 == 2) {
+      return doc(token("aaa", node(n, 1)), token("aaa", node(n, 2)), token("aaa", node(n, 2)));
+    }
+    return doc(token("aaa", node(n, 1)), token("aaa", node(n, 2)));
+  }
+
+  private void checkPositionFreeBlocks(final int nDocs) throws IOException {
+    final AtomicReader aReader = SlowCompositeReaderWrapper.wrap(reader);
+
+    // iterate over all the documents, nodes and positions
+    DocsEnum docsEnum = aReader.termDocsEnum(new Term(DEFAULT_TEST_FIELD, new BytesRef("aaa")));
+    Siren10DocsNodesAndPositionsEnum e = ((Siren10DocsEnum) docsEnum).getDocsNodesAndPositionsEnum();
+    for (int i = 0; i < nDocs; i++) {
+      assertTrue(e.nextDocument());
+      assertEquals(i, e.doc());
+      assertEquals(2, e.nodeFreqInDoc());
+      assertTrue(e.nextNode());
+      assertEquals(node(i, 1), e.node());
+      assertEquals(1, e.termFreqInNode());
+      assertTrue(e.nextPosition());
+      assertEquals(0, e.pos());
+      assertFalse(e.nextPosition());
+      assertTrue(e.nextNode());
+      assertEquals(node(i, 2), e.node());
+      if ((i / 4) % 4 == 2) {
+        assertEquals(2, e.termFreqInNode());
+        assertTrue(e.nextPosition());
+        assertEquals(0, e.pos());
+        assertTrue(e.nextPosition());
+        assertEquals(1, e.pos());
+      }
+      else {
+        assertEquals(1, e.termFreqInNode());
+        assertTrue(e.nextPosition());
+        assertEquals(0, e.pos());
+      }
+      assertFalse(e.nextPosition());
+      assertFalse(e.nextNode());
+    }
+    assertFalse(e.nextDocument());
+
+    // skip to a normal block after a position-free block, then to a
+    // position-free block after a normal block, without reading the nodes
+    docsEnum = aReader.termDocsEnum(new Term(DEFAULT_TEST_FIELD, new BytesRef("aaa")));
+    e = ((Siren10DocsEnum) docsEnum).getDocsNodesAndPositionsEnum();
+    assertTrue(e.skipTo(9));
+    assertEquals(9, e.doc());
+    assertTrue(e.nextNode());
+    assertEquals(1, e.termFreqInNode());
+    assertTrue(e.nextNode());
+    assertEquals(node(9, 2), e.node());
+    assertEquals(2, e.termFreqInNode());
+    assertTrue(e.nextPosition());
+    assertTrue(e.nextPosition());
+    assertEquals(1, e.pos());
+    assertTrue(e.skipTo(13));
+    assertEquals(13, e.doc());
+    assertTrue(e.nextNode());
+    assertEquals(1, e.termFreqInNode());
+    assertTrue(e.nextNode());
+    assertEquals(node(13, 2), e.node());
+    assertEquals(1, e.termFreqInNode());
+    assertTrue(e.nextPosition());
+    assertEquals(0, e.pos());
+    assertFalse(e.nextPosition());
+  }
+
+  @Test
+  public void testDenseBlocks() throws IOException {
+    this.setPostingsFormat(new Siren10VIntPostingsFormat(4));
+
+    final MockSirenDocument[] docs = new MockSirenDocument[100];
+    for (int i = 0; i < 100; i++) {
+      docs[i] = this.newDenseDocument(i);
+    }
+    this.addDocuments(docs);
+    this.checkDenseBlocks(100);
+
+    // add a second segment and merge, with copy of the raw blocks
+    final MockSirenDocument[] docs2 = new MockSirenDocument[100];
+    for (int i = 0; i < 100; i++) {
+      docs2[i] = this.newDenseDocument(100 + i);
+    }
+    this.addDocuments(docs2);
+    this.forceMerge();
+    this.checkDenseBlocks(200);
+  }
+
+  /**
+   * The term aaa is contiguous, bbb is dense and ccc is sparse.
+   */
+  private MockSirenDocument newDenseDocument(final int n) {
+    if (n % 6 == 0) {
+      return doc(token("aaa", node(n)), token("bbb", node(n)), token("ccc", node(n)));
+    }
+    if (n % 2 == 0) {
+      return doc(token("aaa", node(n)), token("bbb", node(n)));
+    }
+    return doc(token("aaa", node(n)));
+  }
+
+  private void checkDenseBlocks(final int nDocs) throws IOException {
+    final AtomicReader aReader = SlowCompositeReaderWrapper.wrap(reader);
+    final String[] terms = { "aaa", "bbb", "ccc" };
+    final int[] steps = { 1, 2, 6 };
+
+    for (int t = 0; t < terms.length; t++) {
+      // iterate over all the documents and nodes
+      DocsEnum docsEnum = aReader.termDocsEnum(new Term(DEFAULT_TEST_FIELD, new BytesRef(terms[t])));
+      Siren10DocsNodesAndPositionsEnum e = ((Siren10DocsEnum) docsEnum).getDocsNodesAndPositionsEnum();
+      for (int i = 0; i < nDocs; i += steps[t]) {
+        assertTrue(e.nextDocument());
+        assertEquals(i, e.doc());
+        assertEquals(1, e.nodeFreqInDoc());
+        assertTrue(e.nextNode());
+        assertEquals(node(i), e.node());
+        assertFalse(e.nextNode());
+      }
+      assertFalse(e.nextDocument());
+
+      // skip with the skip list and the block headers
+      for (int target = 0; target < nDocs; target += 13) {
+        docsEnum = aReader.termDocsEnum(new Term(DEFAULT_TEST_FIELD, new BytesRef(terms[t])));
+        e = ((Siren10DocsEnum) docsEnum).getDocsNodesAndPositionsEnum();
+        for (int next = target; next < nDocs; next += 37) {
+          final int expected = (next + steps[t] - 1) / steps[t] * steps[t];
+          if (expected >= nDocs) {
+            assertFalse(e.skipTo(next));
+            break;
+          }
+          assertTrue(e.skipTo(next));
+          assertEquals(expected, e.doc());
+          assertTrue(e.nextNode());
+          assertEquals(node(expected), e.node());
+        }
+      }
+    }
+
+    // the blocks of dense document identifiers are larger than the maximum
+    // block size, but not the blocks of sparse ones
+    for (int t = 0; t < terms.length; t++) {
+      final DocsEnum docsEnum = aReader.termDocsEnum(new Term(DEFAULT_TEST_FIELD, new BytesRef(terms[t])));
+      final Siren10DocsNodesAndPositionsEnum e = ((Siren10DocsEnum) docsEnum).getDocsNodesAndPositionsEnum();
+      assertTrue(e.nextDocument());
+      final int blockSize = steps[t] <= 2 ? 4 * DocsFreqBlockIndexOutput.MAX_DENSE_BLOCK_FACTOR : 4;
+      assertEquals(blockSize, e.blockSize());
+    }
+  }
+
+  @Test
+  public void testInterleavedLayout() throws IOException {
+    this.setPostingsFormat(new Siren10InterleavedPostingsFormat(4));
+
+    final MockSirenDocument[] docs = new MockSirenDocument[100];
+    for (int i = 0; i < 100; i++) {
+      docs[i] = this.newDenseDocument(i);
+    }
+    this.addDocuments(docs);
+    this.checkDenseBlocks(100);
+
+    final MockSirenDocument[] docs2 = new MockSirenDocument[32];
+    for (int i = 0; i < 32; i++) {
+      docs2[i] = this.newPositionFreeDocument(i);
+    }
+    this.addDocuments(docs2);
+    this.forceMerge();
+
+    // the positions and the blocks following a position-free block
+    final AtomicReader aReader = SlowCompositeReaderWrapper.wrap(reader);
+    final DocsEnum docsEnum = aReader.termDocsEnum(new Term(DEFAULT_TEST_FIELD, new BytesRef("aaa")));
+    final Siren10DocsNodesAndPositionsEnum e = ((Siren10DocsEnum) docsEnum).getDocsNodesAndPositionsEnum();
+    assertTrue(e.skipTo(100 + 9));
+    assertTrue(e.nextNode());
+    assertEquals(1, e.termFreqInNode());
+    assertTrue(e.nextNode());
+    assertEquals(node(9, 2), e.node());
+    assertEquals(2, e.termFreqInNode());
+    assertTrue(e.nextPosition());
+    assertTrue(e.nextPosition());
+    assertEquals(1, e.pos());
+    assertTrue(e.skipTo(100 + 29));
+    assertTrue(e.nextNode());
+    assertEquals(node(29, 1), e.node());
+
+    // the nodes, positions and skip data are written in the .doc file
+    for (final String file : directory.listAll()) {
+      assertFalse(file.endsWith("." + Siren10PostingsWriter.NOD_EXTENSION));
+      assertFalse(file.endsWith("." + Siren10PostingsWriter.POS_EXTENSION));
+      assertFalse(file.endsWith("." + Siren10PostingsWriter.SKIP_EXTENSION));
+    }
+  }
+
+  @Test
+  public void testReadAhead() throws IOException {
+    this.setPostingsFormat(new Siren10VIntPostingsFormat(4));
+
+    final MockSirenDocument[] docs = new MockSirenDocument[512];
+    for (int i = 0; i < 512; i++) {
+      docs[i] = this.newPositionFreeDocument(i);
+    }
+    this.addDocuments(docs);
+
+    final AtomicReader aReader = SlowCompositeReaderWrapper.wrap(reader);
+    final Term term = new Term(DEFAULT_TEST_FIELD, new BytesRef("aaa"));
+    Siren10DocsNodesAndPositionsEnum e = ((Siren10DocsEnum) aReader.termDocsEnum(term)).getDocsNodesAndPositionsEnum();
+
+    // small windows to cover several of them
+    final BlockReadAhead readAhead = new BlockReadAhead(1, 64);
+    final Siren10PostingsReader postingsReader = e.getPostingsReader();
+    postingsReader.nodIn.setReadAhead(readAhead);
+    postingsReader.posIn.setReadAhead(readAhead);
+    try {
+      e = ((Siren10DocsEnum) aReader.termDocsEnum(term)).getDocsNodesAndPositionsEnum();
+      for (int i = 0; i < 512; i++) {
+        assertTrue(e.nextDocument());
+        assertEquals(i, e.doc());
+        assertTrue(e.nextNode());
+        assertEquals(node(i, 1), e.node());
+        assertEquals(1, e.termFreqInNode());
+        assertTrue(e.nextNode());
+        assertEquals(node(i, 2), e.node());
+        final int termFreq = (i / 4) % 4 == 2 ? 2 : 1;
+        assertEquals(termFreq, e.termFreqInNode());
+        for (int j = 0; j < termFreq; j++) {
+          assertTrue(e.nextPosition());
+          assertEquals(j, e.pos());
+        }
+        assertFalse(e.nextPosition());
+      }
+      assertFalse(e.nextDocument());
+      assertTrue(readAhead.getHitCount() > 0);
+
+      // skip over the windows
+      readAhead.resetCounters();
+      e = ((Siren10DocsEnum) aReader.termDocsEnum(term)).getDocsNodesAndPositionsEnum();
+      for (int target = 7; target < 512; target += 101) {
+        assertTrue(e.skipTo(target));
+        assertEquals(target, e.doc());
+        assertTrue(e.nextNode());
+        assertEquals(node(target, 1), e.node());
+      }
+      // the node blocks of the targets are prefetched when their doc block is
+      // entered, a hit or a miss depends on the progress of the executor
+      assertTrue(readAhead.getHitCount() + readAhead.getMissCount() >= 5);
+    }
+    finally {
+      postingsReader.nodIn.setReadAhead(null);
+      postingsReader.posIn.setReadAhead(null);
+      readAhead.close();
+    }
+  }
+
+  @Test
+  public void testDefaultReadAheadClosed() throws IOException {
+    final MockSirenDocument[] docs = new MockSirenDocument[64];
+    for (int i = 0; i < 64; i++) {
+      docs[i] = this.newPositionFreeDocument(i);
+    }
+    this.addDocuments(docs);
+
+    final String threads = System.getProperty(BlockReadAhead.THREADS_PROPERTY);
+    System.setProperty(BlockReadAhead.THREADS_PROPERTY, "1");
+    try {
+      // the leaves of a directory reader own their postings readers
+      final DirectoryReader reader = DirectoryReader.open(directory);
+      final AtomicReader aReader = reader.leaves().get(0).reader();
+      final Term term = new Term(DEFAULT_TEST_FIELD, new BytesRef("aaa"));
+      final Siren10DocsNodesAndPositionsEnum e = ((Siren10DocsEnum) aReader.termDocsEnum(term)).getDocsNodesAndPositionsEnum();
+      final BlockReadAhead readAhead = e.getPostingsReader().nodIn.getReadAhead();
+      assertNotNull(readAhead);
+      while (e.nextDocument()) {
+        assertTrue(e.nextNode());
+      }
+
+      // the executor is shut down with the last postings reader
+      reader.close();
+      assertTrue(readAhead.isShutdown());
+      assertNull(e.getPostingsReader().nodIn.getReadAhead());
+
+      // and a new one is created for the next postings reader
+      final BlockReadAhead next = BlockReadAhead.acquireDefault();
+      try {
+        assertNotSame(readAhead, next);
+        assertFalse(next.isShutdown());
+      }
+      finally {
+        next.decRef();
+      }
+      assertTrue(next.isShutdown());
+    }
+    finally {
+      if (threads == null) {
+        System.clearProperty(BlockReadAhead.THREADS_PROPERTY);
+      }
+      else {
+        System.setProperty(BlockReadAhead.THREADS_PROPERTY, threads);
+      }
+    }
+  }
+
   @Test
   public void testSkipDataCheckIndex() throws IOException {
     // The Lucene CheckIndex was catching a problem with how skip data level
@@ -93,4 +93,39 @@ extends AbstractTestSirenScorer {
     assertTrue(exp.getValue() != 0);
   }
 
+  @Test
+  public void testEquals() {
+    final LuceneProxyNodeQuery q1 = new LuceneProxyNodeQuery(ntq("aaa").getNodeQuery());
+    final LuceneProxyNodeQuery q2 = new LuceneProxyNodeQuery(ntq("aaa").getNodeQuery());
+    assertEquals(q1, q2);
+    assertEquals(q1.hashCode(), q2.hashCode());
+
+    // a pruned query does not return the same hits
+    q2.setTopK(10);
+    assertFalse(q1.equals(q2));
+    assertFalse(q1.hashCode() == q2.hashCode());
+    q1.setTopK(10);
+    assertEquals(q1, q2);
+    assertEquals(q1.hashCode(), q2.hashCode());
+
+    // a query without scores gives the same score to all the documents
+    q2.setScoresNeeded(false);
+    assertFalse(q1.equals(q2));
+    assertFalse(q1.hashCode() == q2.hashCode());
+    q1.setScoresNeeded(false);
+    assertEquals(q1, q2);
+    assertEquals(q1.hashCode(), q2.hashCode());
+
+    // a budgeted query may return partial hits
+    final NodeQueryBudget budget = new NodeQueryBudget(100);
+    q2.setBudget(budget);
+    assertFalse(q1.equals(q2));
+    assertFalse(q2.equals(q1));
+    q1.setBudget(new NodeQueryBudget(100));
+    assertFalse(q1.equals(q2));
+    q1.setBudget(budget);
+    assertEquals(q1, q2);
+    assertEquals(q1.hashCode(), q2.hashCode());
+  }
+
 }
@@ -22,13 +22,27 @@ package org.sindice.siren.search.node;
 import static org.sindice.siren.search.AbstractTestSirenScorer.NodeTermQueryBuilder.ntq;
 import static org.sindice.siren.search.AbstractTestSirenScorer.NodeBooleanQueryBuilder.nbq;
 import static org.sindice.siren.search.AbstractTestSirenScorer.BooleanClauseBuilder.must;
+import static org.sindice.siren.search.AbstractTestSirenScorer.BooleanClauseBuilder.not;
+import static org.sindice.siren.search.AbstractTestSirenScorer.BooleanClauseBuilder.should;
+import static org.sindice.siren.search.AbstractTestSirenScorer.TwigChildBuilder.child;
+import static org.sindice.siren.search.AbstractTestSirenScorer.TwigQueryBuilder.twq;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
 
+import org.apache.lucene.index.AtomicReaderContext;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.Collector;
 import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.QueryWrapperFilter;
 import org.apache.lucene.search.Scorer;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
 import org.junit.Test;
 import org.sindice.siren.index.codecs.RandomSirenCodec.PostingsFormatType;
+import org.sindice.siren.index.codecs.siren10.Siren10VIntPostingsFormat;
 import org.sindice.siren.search.AbstractTestSirenScorer;
 
 public class TestLuceneProxyNodeScorer extends AbstractTestSirenScorer {
@@ -127,4 +141,362 @@ public class TestLuceneProxyNodeScorer extends AbstractTestSirenScorer {
     assertTrue(scorer1.nextDoc() == DocIdSetIterator.NO_MORE_DOCS);
   }
 
+  @Test
+  public void testBlockMaxPruning()
+  throws Exception {
+    this.addPruningDocuments(false);
+    this.assertBlockMaxPruning();
+  }
+
+  @Test
+  public void testBlockMaxPruningWithNorms()
+  throws Exception {
+    this.addPruningDocuments(true);
+    assertNotNull(searcher.getIndexReader().leaves().get(0).reader().normValues(DEFAULT_TEST_FIELD));
+    // the norms bound the block max scores
+    this.assertBlockMaxPruning();
+  }
+
+  /**
+   * Adds 400 documents in small blocks, 1 out of 20 containing the term bbb
+   * in two attributes, the others containing only the attribute aaa.
+   */
+  private void addPruningDocuments(final boolean norms)
+  throws IOException {
+    // small blocks to have many blocks per term
+    this.setPostingsFormat(new Siren10VIntPostingsFormat(16));
+    for (int i = 0; i < 400; i++) {
+      final String doc = i % 20 == 0
+        ? "{ \"aaa\" : \"bbb\", \"bbb\" : \"bbb bbb\" }"
+        : "{ \"aaa\" : \"ccc\" }";
+      if (norms) {
+        this.addDocument(doc);
+      }
+      else {
+        this.addDocumentNoNorms(writer, doc);
+      }
+    }
+    this.forceMerge();
+  }
+
+  /**
+   * Checks that the top-10 documents with the pruning are the same as without
+   * it, and that the blocks of documents containing only aaa are skipped.
+   */
+  private void assertBlockMaxPruning()
+  throws IOException {
+    final LuceneProxyNodeQuery query = (LuceneProxyNodeQuery)
+      nbq(should("aaa"), should("bbb")).getLuceneProxyQuery();
+    final TopDocs expected = searcher.search(query, 10);
+
+    query.setTopK(10);
+    final TopDocs actual = searcher.search(query, 10);
+
+    assertEquals(expected.scoreDocs.length, actual.scoreDocs.length);
+    for (int i = 0; i < expected.scoreDocs.length; i++) {
+      assertEquals(expected.scoreDocs[i].doc, actual.scoreDocs[i].doc);
+      assertEquals(expected.scoreDocs[i].score, actual.scoreDocs[i].score, 0f);
+    }
+    assertEquals(400, expected.totalHits);
+    assertTrue(actual.totalHits < expected.totalHits);
+  }
+
+  @Test
+  public void testRequiredQuery()
+  throws Exception {
+    this.addDocuments(
+      "{ \"aaa\" : \"bbb\" }",
+      "{ \"aaa\" : \"ccc\" }",
+      "{ \"bbb\" : \"ccc\" }",
+      "{ \"aaa\" : [ \"ccc\", \"ddd\" ] }"
+    );
+
+    final LuceneProxyNodeQuery query = (LuceneProxyNodeQuery)
+      nbq(must("aaa")).getLuceneProxyQuery();
+    query.addRequired(new TermQuery(new Term(DEFAULT_TEST_FIELD, "ccc")));
+    final Scorer scorer = this.getScorer(query);
+
+    assertEquals(1, scorer.nextDoc());
+    assertEquals(1, scorer.docID());
+    assertEquals(1, scorer.freq(), 0);
+    assertEquals(3, scorer.nextDoc());
+    assertEquals(DocIdSetIterator.NO_MORE_DOCS, scorer.nextDoc());
+    assertEquals(DocIdSetIterator.NO_MORE_DOCS, scorer.docID());
+
+    // the score of the required query is added to the score of the document
+    final TopDocs nodeTopDocs = searcher.search(nbq(must("aaa")).getLuceneProxyQuery(), 10);
+    final TopDocs topDocs = searcher.search(query, 10);
+    assertEquals(2, topDocs.totalHits);
+    for (int i = 0; i < topDocs.scoreDocs.length; i++) {
+      float nodeScore = 0;
+      for (int j = 0; j < nodeTopDocs.scoreDocs.length; j++) {
+        if (nodeTopDocs.scoreDocs[j].doc == topDocs.scoreDocs[i].doc) {
+          nodeScore = nodeTopDocs.scoreDocs[j].score;
+        }
+      }
+      assertTrue(topDocs.scoreDocs[i].score > nodeScore);
+      assertTrue(nodeScore > 0);
+    }
+  }
+
+  @Test
+  public void testFilter()
+  throws Exception {
+    this.addDocuments(
+      "{ \"aaa\" : \"bbb\" }",
+      "{ \"aaa\" : \"ccc\" }",
+      "{ \"bbb\" : \"ccc\" }",
+      "{ \"aaa\" : [ \"ccc\", \"ddd\" ] }",
+      "{ \"aaa\" : \"ddd\" }"
+    );
+
+    final LuceneProxyNodeQuery query = (LuceneProxyNodeQuery)
+      ntq("aaa").getLuceneProxyQuery();
+    query.addFilter(new QueryWrapperFilter(new TermQuery(new Term(DEFAULT_TEST_FIELD, "ccc"))));
+
+    Scorer scorer = this.getScorer(query);
+    assertEquals(1, scorer.nextDoc());
+    assertEquals(3, scorer.nextDoc());
+    assertEquals(DocIdSetIterator.NO_MORE_DOCS, scorer.nextDoc());
+
+    scorer = this.getScorer(query);
+    assertEquals(3, scorer.advance(2));
+    assertEquals(DocIdSetIterator.NO_MORE_DOCS, scorer.advance(4));
+
+    // the filter does not change the score
+    final Scorer nodeScorer = this.getScorer(ntq("aaa").getLuceneProxyQuery());
+    scorer = this.getScorer(query);
+    assertEquals(3, nodeScorer.advance(3));
+    assertEquals(3, scorer.advance(3));
+    assertEquals(nodeScorer.score(), scorer.score(), 0f);
+
+    // a filter matching no document
+    query.addFilter(new QueryWrapperFilter(new TermQuery(new Term(DEFAULT_TEST_FIELD, "eee"))));
+    scorer = this.getScorer(query);
+    assertTrue(scorer == null || scorer.nextDoc() == DocIdSetIterator.NO_MORE_DOCS);
+  }
+
+  @Test
+  public void testBulkScore()
+  throws Exception {
+    final int nTerms = 40;
+    final Random random = new Random(42);
+    // enough documents for several windows
+    for (int i = 0; i < 3 * NodeBucketScorer.WINDOW_SIZE; i++) {
+      final StringBuilder builder = new StringBuilder("{ \"aaa\" : \"zzz");
+      for (int j = 0; j < nTerms; j++) {
+        if (random.nextInt(100) == 0) {
+          builder.append(" term").append(j);
+        }
+      }
+      builder.append("\", \"bbb\" : [ \"term").append(random.nextInt(4 * nTerms)).append("\" ] }");
+      this.addDocument(builder.toString());
+    }
+    this.forceMerge();
+
+    final String[] terms = new String[nTerms];
+    for (int j = 0; j < nTerms; j++) {
+      terms[j] = "term" + j;
+    }
+    assertTrue(nTerms >= NodeBooleanQuery.getMinBulkScoreClauseCount());
+
+    // expected matches, iterated one by one
+    final Scorer expected = this.getScorer(nbq(should(terms)).getLuceneProxyQuery());
+    final List<Integer> expectedDocs = new ArrayList<Integer>();
+    final List<Float> expectedScores = new ArrayList<Float>();
+    final List<Float> expectedFreqs = new ArrayList<Float>();
+    while (expected.nextDoc() != DocIdSetIterator.NO_MORE_DOCS) {
+      expectedDocs.add(expected.docID());
+      expectedScores.add(expected.score());
+      expectedFreqs.add(expected.freq());
+    }
+    assertTrue(expectedDocs.size() > NodeBucketScorer.WINDOW_SIZE);
+
+    // actual matches, scored by windows
+    final List<Integer> actualDocs = new ArrayList<Integer>();
+    final List<Float> actualScores = new ArrayList<Float>();
+    final List<Float> actualFreqs = new ArrayList<Float>();
+    this.getScorer(nbq(should(terms)).getLuceneProxyQuery()).score(new Collector() {
+
+      private Scorer scorer;
+
+      @Override
+      public void setScorer(final Scorer scorer) {
+        assertFalse(scorer instanceof LuceneProxyNodeScorer);
+        this.scorer = scorer;
+      }
+
+      @Override
+      public void collect(final int doc) throws IOException {
+        assertEquals(doc, scorer.docID());
+        actualDocs.add(doc);
+        actualScores.add(scorer.score());
+        actualFreqs.add(scorer.freq());
+      }
+
+      @Override
+      public void setNextReader(final AtomicReaderContext context) {}
+
+      @Override
+      public boolean acceptsDocsOutOfOrder() {
+        return false;
+      }
+
+    });
+
+    assertEquals(expectedDocs, actualDocs);
+    assertEquals(expectedFreqs, actualFreqs);
+    for (int i = 0; i < expectedScores.size(); i++) {
+      assertEquals(expectedScores.get(i), actualScores.get(i), 1e-5f);
+    }
+
+    // without scores, the same documents are collected with a constant score
+    final LuceneProxyNodeQuery query = (LuceneProxyNodeQuery)
+      nbq(should(terms)).getLuceneProxyQuery();
+    query.setScoresNeeded(false);
+    final List<Integer> scoreFreeDocs = new ArrayList<Integer>();
+    this.getScorer(query).score(new Collector() {
+
+      private Scorer scorer;
+
+      @Override
+      public void setScorer(final Scorer scorer) {
+        this.scorer = scorer;
+      }
+
+      @Override
+      public void collect(final int doc) throws IOException {
+        scoreFreeDocs.add(doc);
+        assertEquals(1, scorer.score(), 0f);
+      }
+
+      @Override
+      public void setNextReader(final AtomicReaderContext context) {}
+
+      @Override
+      public boolean acceptsDocsOutOfOrder() {
+        return false;
+      }
+
+    });
+    assertEquals(expectedDocs, scoreFreeDocs);
+  }
+
+  @Test
+  public void testScoresNotNeeded()
+  throws Exception {
+    this.addDocuments(
+      "{ \"aaa\" : \"bbb bbb\", \"ccc\" : \"ddd\" }",
+      "{ \"aaa\" : \"ccc\" }",
+      "{ \"aaa\" : { \"bbb\" : \"ddd\" } }",
+      "{ \"ccc\" : [ \"bbb\", \"ddd\" ] }",
+      "{ \"aaa\" : [ \"bbb\", \"ddd\" ] }"
+    );
+
+    final NodeQueryBuilder[] builders = new NodeQueryBuilder[] {
+      ntq("bbb"),
+      nbq(should("bbb"), should("ddd")),
+      nbq(must("bbb"), not("ccc")),
+      twq(1, must("aaa")).with(child(must("bbb"))),
+      twq(1).with(child(must("ddd"))).with(child(should("bbb")))
+    };
+    for (final NodeQueryBuilder builder : builders) {
+      final LuceneProxyNodeQuery expected = (LuceneProxyNodeQuery) builder.getLuceneProxyQuery();
+      final LuceneProxyNodeQuery actual = (LuceneProxyNodeQuery) builder.getLuceneProxyQuery();
+      actual.setScoresNeeded(false);
+      actual.setTopK(1); // ignored without scores
+      assertEquals(builder.getNodeQuery().toString(), this.matches(expected, true), this.matches(actual, false));
+    }
+
+    // the term frequencies are not loaded
+    final NodeScorer scorer = this.getScorer(ntq("bbb"));
+    scorer.setScoresNeeded(false);
+    assertTrue(scorer.nextCandidateDocument());
+    assertTrue(scorer.nextNode());
+    assertEquals(1, scorer.freqInNode(), 0f);
+    scorer.setScoresNeeded(true);
+    assertEquals(2, scorer.freqInNode(), 0f);
+  }
+
+  @Test
+  public void testScoreAggregation()
+  throws Exception {
+    this.addDocuments(
+      "{ \"aaa\" : [ \"bbb\", \"ccc bbb\", \"bbb bbb\", \"bbb\" ] }",
+      "{ \"aaa\" : \"ccc\" }"
+    );
+
+    // the scores of the nodes of the first document
+    final NodeScorer nodeScorer = this.getScorer(ntq("bbb"));
+    assertTrue(nodeScorer.nextCandidateDocument());
+    final List<Float> nodeScores = new ArrayList<Float>();
+    while (nodeScorer.nextNode()) {
+      nodeScores.add(nodeScorer.scoreInNode());
+    }
+    assertEquals(4, nodeScores.size());
+    final float n0 = nodeScores.get(0), n1 = nodeScores.get(1);
+    final float n2 = nodeScores.get(2), n3 = nodeScores.get(3);
+    assertTrue(n2 > n0);
+
+    this.assertAggregation(NodeScoreAggregation.SUM, n0 + n1 + n2 + n3, 5);
+    this.assertAggregation(NodeScoreAggregation.MAX, n2, 5);
+    // the iteration stops after k nodes
+    this.assertAggregation(NodeScoreAggregation.firstK(2), n0 + n1, 2);
+    this.assertAggregation(NodeScoreAggregation.firstK(10), n0 + n1 + n2 + n3, 5);
+    // the iteration stops once the cap is reached, at the second node
+    this.assertAggregation(NodeScoreAggregation.cappedSum(n0 + n1 / 2), n0 + n1 / 2, 2);
+  }
+
+  @Test
+  public void testMaxAggregationStops()
+  throws Exception {
+    // the documents have the same length, and therefore the same norm
+    this.addDocuments(
+      "{ \"aaa\" : [ \"bbb\", \"bbb bbb\", \"bbb\" ] }",
+      "{ \"aaa\" : [ \"ccc\", \"ccc ccc\", \"ccc\" ] }"
+    );
+
+    final NodeScorer nodeScorer = this.getScorer(ntq("bbb"));
+    assertTrue(nodeScorer.nextCandidateDocument());
+    final List<Float> nodeScores = new ArrayList<Float>();
+    while (nodeScorer.nextNode()) {
+      nodeScores.add(nodeScorer.scoreInNode());
+    }
+    assertEquals(3, nodeScores.size());
+    final float n1 = nodeScores.get(1);
+
+    // the second node reaches the maximum node score, the third node is not
+    // iterated
+    this.assertAggregation(NodeScoreAggregation.MAX, n1, 3);
+    this.assertAggregation(NodeScoreAggregation.SUM, n1 + 2 * nodeScores.get(0), 4);
+  }
+
+  private void assertAggregation(final NodeScoreAggregation aggregation,
+                                 final float expectedScore,
+                                 final float expectedFreq)
+  throws IOException {
+    final LuceneProxyNodeQuery query = (LuceneProxyNodeQuery) ntq("bbb").getLuceneProxyQuery();
+    query.setScoreAggregation(aggregation);
+    final Scorer scorer = this.getScorer(query);
+    assertEquals(0, scorer.nextDoc());
+    assertEquals(aggregation.toString(), expectedScore, scorer.score(), 1e-6f);
+    assertEquals(aggregation.toString(), expectedFreq, scorer.freq(), 0f);
+    assertEquals(DocIdSetIterator.NO_MORE_DOCS, scorer.nextDoc());
+  }
+
+  private List<Integer> matches(final LuceneProxyNodeQuery query,
+                                final boolean scoresNeeded)
+  throws IOException {
+    final List<Integer> docs = new ArrayList<Integer>();
+    final Scorer scorer = this.getScorer(query);
+    while (scorer.nextDoc() != DocIdSetIterator.NO_MORE_DOCS) {
+      docs.add(scorer.docID());
+      if (!scoresNeeded) {
+        assertEquals(1, scorer.score(), 0f);
+        assertEquals(1, scorer.freq(), 0f);
+      }
+    }
+    return docs;
+  }
+
 }
@@ -22,7 +22,9 @@ package org.sindice.siren.search.node;
 
 import static org.sindice.siren.analysis.MockSirenToken.node;
 import static org.sindice.siren.search.AbstractTestSirenScorer.BooleanClauseBuilder.must;
+import static org.sindice.siren.search.AbstractTestSirenScorer.BooleanClauseBuilder.should;
 import static org.sindice.siren.search.AbstractTestSirenScorer.NodeBooleanQueryBuilder.nbq;
+import static org.sindice.siren.search.AbstractTestSirenScorer.NodeTermQueryBuilder.ntq;
 
 import java.io.IOException;
 import java.util.ArrayList;
@@ -86,6 +88,33 @@ public class TestNodeConjunctionScorer extends AbstractTestSirenScorer {
     assertEndOfStream(scorer);
   }
 
+  @Test
+  public void testCost() throws IOException {
+    this.addDocument("\"aaa\" . \"ccc\" . ");
+    this.addDocument("\"aaa\" . \"bbb\" . ");
+    this.addDocument("\"aaa\" . \"ccc\" . ");
+    this.addDocument("\"aaa\" . \"bbb ccc\" . ");
+
+    NodeScorer scorer = this.getScorer(ntq("aaa"));
+    assertEquals(4, scorer.cost());
+
+    // the conjunction costs as much as its rarest scorer
+    scorer = this.getScorer(nbq(must("ccc"), must("bbb")));
+    assertEquals(2, scorer.cost());
+
+    // the rarest scorer leads, the conjunction does not stop on the documents
+    // of the other scorers
+    assertTrue(scorer.nextCandidateDocument());
+    assertEquals(3, scorer.doc());
+    assertTrue(scorer.nextNode());
+    assertEquals(node(1,0), scorer.node());
+    assertEndOfStream(scorer);
+
+    // the disjunction costs as much as the sum of its scorers
+    scorer = this.getScorer(nbq(should("bbb"), should("ccc")));
+    assertEquals(5, scorer.cost());
+  }
+
   @Test
   public void testNoNode() throws IOException {
     this.addDocument("\"eee\" . \"ddd\" . ");
@@ -24,6 +24,9 @@ import static org.sindice.siren.analysis.MockSirenToken.node;
 import static org.sindice.siren.search.AbstractTestSirenScorer.NodeTermQueryBuilder.ntq;
 
 import java.io.IOException;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
 
 import org.apache.lucene.index.CorruptIndexException;
 import org.junit.Test;
@@ -241,4 +244,57 @@ public class TestNodeDisjunctionScorerNodeQueue extends AbstractTestSirenScorer
     assertFalse(q.nextNodeAndAdjust());
   }
 
+  @Test
+  public void testManyScorers() throws IOException {
+    final int nTerms = 60;
+    final Random random = new Random(42);
+    // for each document, the number of terms in each node (tuple, value)
+    final Map<Integer, Map<Integer, Integer>> expected = new TreeMap<Integer, Map<Integer, Integer>>();
+
+    for (int d = 0; d < 5; d++) {
+      final Map<Integer, Integer> nodes = new TreeMap<Integer, Integer>();
+      final StringBuilder builder = new StringBuilder();
+      for (int t = 0; t < 4; t++) {
+        for (int v = 0; v < 3; v++) {
+          builder.append("\"");
+          for (int i = 0; i < nTerms; i++) {
+            if (random.nextInt(8) == 0) {
+              builder.append(" term").append(i);
+              final Integer key = t * 10 + v;
+              nodes.put(key, nodes.containsKey(key) ? nodes.get(key) + 1 : 1);
+            }
+          }
+          builder.append(" zzz\" ");
+        }
+        builder.append(". ");
+      }
+      this.addDocument(builder.toString());
+      expected.put(d, nodes);
+    }
+
+    final NodeDisjunctionScorerQueue q = new NodeDisjunctionScorerQueue(nTerms);
+    for (int i = 0; i < nTerms; i++) {
+      q.put(this.getScorer(ntq("term" + i)));
+    }
+
+    for (final Map.Entry<Integer, Map<Integer, Integer>> doc : expected.entrySet()) {
+      if (doc.getValue().isEmpty()) {
+        continue;
+      }
+      assertEquals(doc.getKey().intValue(), q.doc());
+      // the nodes are not positioned before the first call to nextNode
+      assertEquals(node(-1), q.node());
+      for (final Map.Entry<Integer, Integer> node : doc.getValue().entrySet()) {
+        assertTrue(q.nextNodeAndAdjust());
+        assertEquals(node(node.getKey() / 10, node.getKey() % 10), q.node());
+        q.countAndSumMatchers();
+        assertEquals(node.getValue().intValue(), q.nrMatchersInNode());
+      }
+      assertFalse(q.nextNodeAndAdjust());
+      q.nextCandidateDocumentAndAdjustElsePop();
+    }
+    assertEquals(DocsAndNodesIterator.NO_MORE_DOC, q.doc());
+    assertEquals(0, q.size());
+  }
+
 }
@@ -0,0 +1,122 @@
+/**
+ * Copyright 2014 National University of Ireland, Galway.
+ *
+ * This file is part of the SIREn project. Project and contact information:
+ *
+ *  https://github.com/rdelbru/SIREn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.sindice.siren.search.node;
+
+import static org.sindice.siren.analysis.MockSirenToken.node;
+
+import java.io.IOException;
+
+import org.apache.lucene.util.FixedBitSet;
+import org.apache.lucene.util.LuceneTestCase;
+import org.junit.Test;
+import org.sindice.siren.index.DocsAndNodesIterator;
+
+public class TestNodeDocIdSet extends LuceneTestCase {
+
+  @Test
+  public void testBuildUnordered() throws IOException {
+    final NodeDocIdSet set = new NodeDocIdSet.Builder(10)
+      .add(5, node(1, 0))
+      .add(2, node(0, 1))
+      .add(2, node(0, 0))
+      .add(5, node(0, 2))
+      .add(2, node(0, 1)) // duplicate
+      .build();
+
+    assertEquals(2, set.size());
+    assertEquals(4, set.nodeCount());
+    assertTrue(set.getDocs().get(2));
+    assertTrue(set.getDocs().get(5));
+    assertFalse(set.getDocs().get(3));
+
+    final DocsAndNodesIterator it = set.iterator();
+    assertTrue(it.nextDocument());
+    assertEquals(2, it.doc());
+    assertTrue(it.nextNode());
+    assertEquals(node(0, 0), it.node());
+    assertTrue(it.nextNode());
+    assertEquals(node(0, 1), it.node());
+    assertFalse(it.nextNode());
+    assertTrue(it.nextDocument());
+    assertEquals(5, it.doc());
+    assertTrue(it.nextNode());
+    assertEquals(node(0, 2), it.node());
+    assertTrue(it.nextNode());
+    assertEquals(node(1, 0), it.node());
+    assertFalse(it.nextNode());
+    assertFalse(it.nextDocument());
+    assertEquals(DocsAndNodesIterator.NO_MORE_DOC, it.doc());
+  }
+
+  @Test
+  public void testSkipTo() throws IOException {
+    final NodeDocIdSet.Builder builder = new NodeDocIdSet.Builder(100);
+    for (int i = 0; i < 100; i += 3) {
+      builder.add(i, node(i));
+    }
+    final NodeDocIdSet set = builder.build();
+
+    final DocsAndNodesIterator it = set.iterator();
+    assertTrue(it.skipTo(31));
+    assertEquals(33, it.doc());
+    assertTrue(it.nextNode());
+    assertEquals(node(33), it.node());
+    assertTrue(it.skipTo(33)); // already on target
+    assertEquals(33, it.doc());
+    assertTrue(it.skipTo(99));
+    assertEquals(99, it.doc());
+    assertFalse(it.skipTo(100));
+    assertEquals(DocsAndNodesIterator.NO_MORE_DOC, it.doc());
+  }
+
+  @Test
+  public void testAcceptDocs() throws IOException {
+    final NodeDocIdSet set = new NodeDocIdSet.Builder(10)
+      .add(1, node(0))
+      .add(4, node(0))
+      .add(7, node(0))
+      .build();
+    final FixedBitSet acceptDocs = new FixedBitSet(10);
+    acceptDocs.set(0, 10);
+    acceptDocs.clear(4);
+
+    final DocsAndNodesIterator it = set.withAcceptDocs(acceptDocs).iterator();
+    assertTrue(it.nextDocument());
+    assertEquals(1, it.doc());
+    assertTrue(it.nextDocument());
+    assertEquals(7, it.doc());
+    assertFalse(it.nextDocument());
+
+    // the view shares the set, which is not filtered
+    assertEquals(3, set.withAcceptDocs(acceptDocs).size());
+    final DocsAndNodesIterator skip = set.withAcceptDocs(acceptDocs).iterator();
+    assertTrue(skip.skipTo(2));
+    assertEquals(7, skip.doc());
+    assertSame(set, set.withAcceptDocs(null));
+  }
+
+  @Test
+  public void testEmpty() throws IOException {
+    final NodeDocIdSet set = new NodeDocIdSet.Builder(10).build();
+    assertEquals(0, set.size());
+    assertFalse(set.iterator().nextDocument());
+  }
+
+}
@@ -0,0 +1,191 @@
+/**
+ * Copyright 2014 National University of Ireland, Galway.
+ *
+ * This file is part of the SIREn project. Project and contact information:
+ *
+ *  https://github.com/rdelbru/SIREn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.sindice.siren.search.node;
+
+import static org.sindice.siren.search.AbstractTestSirenScorer.dq;
+import static org.sindice.siren.search.AbstractTestSirenScorer.NodeTermQueryBuilder.ntq;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.util.BytesRef;
+import org.junit.Test;
+import org.sindice.siren.index.codecs.RandomSirenCodec.PostingsFormatType;
+import org.sindice.siren.search.node.NodeBooleanClause.Occur;
+import org.sindice.siren.util.BasicSirenTestCase;
+
+public class TestNodeFilterCache extends BasicSirenTestCase {
+
+  @Override
+  protected void configure() throws IOException {
+    this.setAnalyzer(AnalyzerType.TUPLE);
+    this.setPostingsFormat(PostingsFormatType.RANDOM);
+  }
+
+  private void addPersonDocuments() throws IOException {
+    this.addDocument("\"type\" \"person\" . \"name\" \"alice\" . ");
+    this.addDocument("\"type\" \"company\" . \"name\" \"person\" . ");
+    this.addDocument("\"person\" \"type\" . ");
+    this.addDocument("\"type\" \"person\" . \"name\" \"bob\" . ");
+  }
+
+  /**
+   * Returns a twig matching the tuples with the term type in the first cell
+   * and the given query in the second cell.
+   */
+  private TwigQuery twig(final NodeQuery value) {
+    final NodeQuery type = ntq("type").getNodeQuery();
+    type.setNodeConstraint(0);
+    value.setNodeConstraint(1);
+    final TwigQuery twig = new TwigQuery(1);
+    twig.addChild(type, Occur.MUST);
+    twig.addChild(value, Occur.MUST);
+    return twig;
+  }
+
+  private NodeQuery cached(final NodeFilterCache cache, final String term) {
+    return new NodeConstantScoreQuery(cache.wrap(
+      new NodeQueryWrapperFilter(ntq(term).getNodeQuery())));
+  }
+
+  private int[] search(final NodeQuery query) throws IOException {
+    final ScoreDoc[] hits = searcher.search(dq(query), 100).scoreDocs;
+    final int[] docs = new int[hits.length];
+    for (int i = 0; i < hits.length; i++) {
+      docs[i] = hits[i].doc;
+    }
+    Arrays.sort(docs);
+    return docs;
+  }
+
+  @Test
+  public void testTwigClause() throws IOException {
+    this.addPersonDocuments();
+    final NodeFilterCache cache = new NodeFilterCache();
+    final int leaves = searcher.getTopReaderContext().leaves().size();
+
+    final int[] expected = this.search(this.twig(ntq("person").getNodeQuery()));
+    assertArrayEquals(new int[] { 0, 3 }, expected);
+
+    // the constraints of the twig are applied on the cached nodes
+    assertArrayEquals(expected, this.search(this.twig(this.cached(cache, "person"))));
+    assertEquals(0, cache.getHitCount());
+    assertEquals(leaves, cache.getMissCount());
+    assertEquals(leaves, cache.size());
+    assertTrue(cache.ramBytesUsed() > 0);
+
+    // a new but equal filter reuses the cached sets
+    assertArrayEquals(expected, this.search(this.twig(this.cached(cache, "person"))));
+    assertEquals(leaves, cache.getHitCount());
+    assertEquals(leaves, cache.getMissCount());
+    assertEquals(0.5, cache.getHitRate(), 0);
+  }
+
+  @Test
+  public void testBooleanClause() throws IOException {
+    this.addPersonDocuments();
+    final NodeFilterCache cache = new NodeFilterCache();
+
+    final NodeBooleanQuery expected = new NodeBooleanQuery();
+    expected.add(ntq("alice").getNodeQuery(), Occur.SHOULD);
+    expected.add(ntq("company").getNodeQuery(), Occur.SHOULD);
+
+    final NodeBooleanQuery actual = new NodeBooleanQuery();
+    actual.add(ntq("alice").getNodeQuery(), Occur.SHOULD);
+    actual.add(this.cached(cache, "company"), Occur.SHOULD);
+
+    assertArrayEquals(new int[] { 0, 1 }, this.search(expected));
+    assertArrayEquals(new int[] { 0, 1 }, this.search(actual));
+  }
+
+  @Test
+  public void testDeletedDocuments() throws IOException {
+    this.addPersonDocuments();
+    this.forceMerge();
+    final NodeFilterCache cache = new NodeFilterCache();
+
+    assertArrayEquals(new int[] { 0, 3 }, this.search(this.twig(this.cached(cache, "person"))));
+    assertEquals(1, cache.getMissCount());
+
+    // if the segment core is unchanged, the cached set must be filtered
+    writer.deleteDocuments(new Term(DEFAULT_TEST_FIELD, new BytesRef("bob")));
+    writer.commit();
+    this.refreshReaderAndSearcher();
+
+    assertArrayEquals(new int[] { 0 }, this.search(this.twig(this.cached(cache, "person"))));
+    assertEquals(2, cache.getHitCount() + cache.getMissCount());
+  }
+
+  @Test
+  public void testEviction() throws IOException {
+    this.addPersonDocuments();
+    this.forceMerge();
+    final NodeFilterCache cache = new NodeFilterCache(1);
+
+    assertArrayEquals(new int[] { 0, 3 }, this.search(this.twig(this.cached(cache, "person"))));
+    assertArrayEquals(new int[] { 1 }, this.search(this.twig(this.cached(cache, "company"))));
+    assertEquals(1, cache.size());
+    assertEquals(1, cache.getEvictionCount());
+
+    // evicted, it is computed again
+    assertArrayEquals(new int[] { 0, 3 }, this.search(this.twig(this.cached(cache, "person"))));
+    assertEquals(0, cache.getHitCount());
+    assertEquals(3, cache.getMissCount());
+
+    cache.clear();
+    assertEquals(0, cache.size());
+    assertEquals(0, cache.ramBytesUsed());
+  }
+
+  @Test
+  public void testClosedReader() throws IOException {
+    this.addPersonDocuments();
+    final NodeFilterCache cache = new NodeFilterCache();
+
+    assertArrayEquals(new int[] { 0, 3 }, this.search(this.twig(this.cached(cache, "person"))));
+    assertTrue(cache.size() > 0);
+
+    // the sets of the closed reader are removed
+    this.refreshReaderAndSearcher();
+    assertEquals(0, cache.size());
+    assertEquals(0, cache.ramBytesUsed());
+  }
+
+  @Test
+  public void testClosedSegmentCore() throws IOException {
+    this.addPersonDocuments();
+    final NodeFilterCache cache = new NodeFilterCache();
+
+    // the leaves of a directory reader are segment readers
+    final DirectoryReader reader = DirectoryReader.open(directory);
+    final IndexSearcher searcher = new IndexSearcher(reader);
+    assertEquals(1, searcher.search(dq(this.twig(this.cached(cache, "company"))), 10).totalHits);
+    assertEquals(reader.leaves().size(), cache.size());
+
+    // the sets of the closed segment core are removed
+    reader.close();
+    assertEquals(0, cache.size());
+  }
+
+}
@@ -0,0 +1,265 @@
+/**
+ * Copyright 2014 National University of Ireland, Galway.
+ *
+ * This file is part of the SIREn project. Project and contact information:
+ *
+ *  https://github.com/rdelbru/SIREn
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.sindice.siren.search.node;
+
+import static org.sindice.siren.search.AbstractTestSirenScorer.BooleanClauseBuilder.must;
+import static org.sindice.siren.search.AbstractTestSirenScorer.NodeBooleanQueryBuilder.nbq;
+import static org.sindice.siren.search.AbstractTestSirenScorer.NodePhraseQueryBuilder.npq;
+import static org.sindice.siren.search.AbstractTestSirenScorer.NodeTermQueryBuilder.ntq;
+import static org.sindice.siren.search.AbstractTestSirenScorer.TwigChildBuilder.child;
+import static org.sindice.siren.search.AbstractTestSirenScorer.TwigQueryBuilder.twq;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.Scorer;
+import org.junit.Test;
+import org.sindice.siren.index.codecs.RandomSirenCodec.PostingsFormatType;
+import org.sindice.siren.search.AbstractTestSirenScorer;
+
+public class TestNodeQueryBudget extends AbstractTestSirenScorer {
+
+  @Override
+  protected void configure() throws IOException {
+    this.setAnalyzer(AnalyzerType.JSON);
+    this.setPostingsFormat(PostingsFormatType.RANDOM);
+  }
+
+  /**
+   * Returns a document with a large number of nodes, none of them containing
+   * both terms.
+   */
+  private static String largeDocument(final int nodes) {
+    final StringBuilder builder = new StringBuilder("{ \"aaa\" : [ ");
+    for (int i = 0; i < nodes; i++) {
+      builder.append(i == 0 ? "" : ", ").append(i % 2 == 0 ? "\"bbb\"" : "\"ccc\"");
+    }
+    return builder.append(" ] }").toString();
+  }
+
+  @Test
+  public void testConjunction() throws Exception {
+    this.addDocuments(
+      "{ \"aaa\" : \"bbb ccc\" }",
+      largeDocument(2000),
+      "{ \"aaa\" : \"ccc bbb\" }"
+    );
+
+    final LuceneProxyNodeQuery query = (LuceneProxyNodeQuery)
+      nbq(must("bbb"), must("ccc")).getLuceneProxyQuery();
+    NodeQueryBudget budget = new NodeQueryBudget(Long.MAX_VALUE);
+    query.setBudget(budget);
+    assertEquals(Arrays.asList(0, 2), this.matches(query));
+    assertFalse(budget.isExhausted());
+    assertTrue(budget.getVisits() > 2000);
+
+    // the budget runs out in the nodes of the second document
+    budget = new NodeQueryBudget(100);
+    query.setBudget(budget);
+    assertEquals(Arrays.asList(0), this.matches(query));
+    assertTrue(budget.isExhausted());
+    assertEquals(101, budget.getVisits());
+  }
+
+  @Test
+  public void testFirstAlignment() throws Exception {
+    // two frequent terms that never occur in the same document
+    final String[] docs = new String[1000];
+    for (int i = 0; i < docs.length; i++) {
+      docs[i] = i % 2 == 0 ? "{ \"aaa\" : \"bbb\" }" : "{ \"aaa\" : \"ccc\" }";
+    }
+    this.addDocuments(docs);
+
+    // the budget runs out while aligning the scorers on their first common
+    // document
+    final LuceneProxyNodeQuery query = (LuceneProxyNodeQuery)
+      nbq(must("bbb"), must("ccc")).getLuceneProxyQuery();
+    final NodeQueryBudget budget = new NodeQueryBudget(100);
+    query.setBudget(budget);
+    assertEquals(Arrays.asList(), this.matches(query));
+    assertTrue(budget.isExhausted());
+    assertEquals(101, budget.getVisits());
+  }
+
+  @Test
+  public void testTwig() throws Exception {
+    this.addDocuments(
+      "{ \"zzz\" : \"bbb\" }",
+      largeDocument(2000).replace(" ] }", " ], \"zzz\" : \"ccc\" }"),
+      "{ \"zzz\" : [ \"ccc\", \"bbb\" ] }"
+    );
+
+    // the nodes of the child below the first attribute are skipped one by one
+    final LuceneProxyNodeQuery query = (LuceneProxyNodeQuery)
+      twq(1, must("zzz")).with(child(must("bbb"))).getLuceneProxyQuery();
+    NodeQueryBudget budget = new NodeQueryBudget(Long.MAX_VALUE);
+    query.setBudget(budget);
+    assertEquals(Arrays.asList(0, 2), this.matches(query));
+    assertFalse(budget.isExhausted());
+
+    budget = new NodeQueryBudget(100);
+    query.setBudget(budget);
+    assertEquals(Arrays.asList(0), this.matches(query));
+    assertTrue(budget.isExhausted());
+  }
+
+  @Test
+  public void testPhrase() throws Exception {
+    final StringBuilder text = new StringBuilder();
+    for (int i = 0; i < 1000; i++) {
+      text.append("bbb ");
+    }
+    this.addDocuments(
+      "{ \"aaa\" : \"ccc bbb\" }",
+      "{ \"aaa\" : \"" + text + "ccc\" }",
+      "{ \"aaa\" : \"ccc bbb\" }"
+    );
+
+    final LuceneProxyNodeQuery query = (LuceneProxyNodeQuery)
+      npq("ccc", "bbb").getLuceneProxyQuery();
+    NodeQueryBudget budget = new NodeQueryBudget(Long.MAX_VALUE);
+    query.setBudget(budget);
+    assertEquals(Arrays.asList(0, 2), this.matches(query));
+    assertFalse(budget.isExhausted());
+
+    // the budget runs out in the positions of the second document
+    budget = new NodeQueryBudget(100);
+    query.setBudget(budget);
+    assertEquals(Arrays.asList(0), this.matches(query));
+    assertTrue(budget.isExhausted());
+  }
+
+  @Test
+  public void testTimeout() throws Exception {
+    this.addDocuments(
+      "{ \"aaa\" : \"bbb ccc\" }",
+      largeDocument(2000),
+      "{ \"aaa\" : \"ccc bbb\" }"
+    );
+
+    final LuceneProxyNodeQuery query = (LuceneProxyNodeQuery)
+      nbq(must("bbb"), must("ccc")).getLuceneProxyQuery();
+    final NodeQueryBudget budget = NodeQueryBudget.timeout(1, TimeUnit.NANOSECONDS);
+    Thread.sleep(1);
+    query.setBudget(budget);
+    // the clock is checked every 256 visits, i.e., in the second document
+    assertEquals(Arrays.asList(0), this.matches(query));
+    assertTrue(budget.isExhausted());
+  }
+
+  @Test
+  public void testCollector() throws Exception {
+    this.addDocuments(
+      "{ \"aaa\" : \"bbb ccc\" }",
+      largeDocument(2000),
+      "{ \"aaa\" : \"ccc bbb\" }"
+    );
+
+    final LuceneProxyNodeQuery query = (LuceneProxyNodeQuery)
+      nbq(must("bbb"), must("ccc")).getLuceneProxyQuery();
+    NodeQueryBudget budget = new NodeQueryBudget(100);
+    query.setBudget(budget);
+    assertEquals(1, searcher.search(query, 10).totalHits);
+    assertTrue(budget.isExhausted());
+
+    // with the block max pruning
+    budget = new NodeQueryBudget(100);
+    query.setBudget(budget);
+    query.setTopK(10);
+    assertEquals(1, searcher.search(query, 10).totalHits);
+    assertTrue(budget.isExhausted());
+  }
+
+  @Test
+  public void testScore() throws Exception {
+    this.addDocuments(
+      "{ \"aaa\" : \"bbb\" }",
+      largeDocument(2000)
+    );
+
+    // the first node of the second document matches, the budget runs out
+    // while iterating over its remaining nodes to compute its score
+    final LuceneProxyNodeQuery query = (LuceneProxyNodeQuery)
+      ntq("bbb").getLuceneProxyQuery();
+    NodeQueryBudget budget = new NodeQueryBudget(Long.MAX_VALUE);
+    query.setBudget(budget);
+    assertEquals(Arrays.asList(0, 1), this.matches(query));
+    assertEquals(2, searcher.search(query, 10).totalHits);
+
+    budget = new NodeQueryBudget(100);
+    query.setBudget(budget);
+    assertEquals(Arrays.asList(0), this.matches(query));
+    assertTrue(budget.isExhausted());
+
+    budget = new NodeQueryBudget(100);
+    query.setBudget(budget);
+    assertEquals(1, searcher.search(query, 10).totalHits);
+    assertTrue(budget.isExhausted());
+
+    // with the block max pruning
+    budget = new NodeQueryBudget(100);
+    query.setBudget(budget);
+    query.setTopK(10);
+    assertEquals(1, searcher.search(query, 10).totalHits);
+    assertTrue(budget.isExhausted());
+  }
+
+  @Test
+  public void testSharedBudget() throws Exception {
+    // the visits of the segments searched in parallel are not lost
+    final NodeQueryBudget budget = new NodeQueryBudget(100000);
+    final AtomicLong granted = new AtomicLong();
+    final Thread[] threads = new Thread[4];
+    for (int i = 0; i < threads.length; i++) {
+      threads[i] = new Thread() {
+        @Override
+        public void run() {
+          while (budget.visit()) {
+            granted.incrementAndGet();
+          }
+        }
+      };
+      threads[i].start();
+    }
+    for (final Thread thread : threads) {
+      thread.join();
+    }
+    assertTrue(budget.isExhausted());
+    assertEquals(100000, granted.get());
+  }
+
+  private List<Integer> matches(final LuceneProxyNodeQuery query)
+  throws IOException {
+    final List<Integer> docs = new ArrayList<Integer>();
+    final Scorer scorer = this.getScorer(query);
+    if (scorer != null) {
+      while (scorer.nextDoc() != DocIdSetIterator.NO_MORE_DOCS) {
+        docs.add(scorer.docID());
+      }
+    }
+    return docs;
+  }
+
+}
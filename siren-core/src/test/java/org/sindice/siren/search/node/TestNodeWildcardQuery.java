@@ -76,18 +76,48 @@ public class TestNodeWildcardQuery extends BasicSirenTestCase {
   }
 
   /**
-   * Tests if the ConstantScore filter rewrite return an exception
+   * Tests if the ConstantScore filter rewrite returns the same nodes and
+   * scores than the ConstantScore boolean rewrite
    */
-  @Test(expected=UnsupportedOperationException.class)
+  @Test
   public void testFilterRewrite() throws IOException {
-    this.addDocument("<nowildcard> <nowildcardx>");
-
-    final MultiNodeTermQuery wq = new NodeWildcardQuery(new Term(DEFAULT_TEST_FIELD, "nowildcard"));
-    this.assertMatches(searcher, wq, 1);
+    this.addDocuments(
+      "<nowildcard> <nowildcardx> . <nowildcard> <aaa> . ",
+      "<aaa> <nowildcardy> . ",
+      "<nowildcard> <aaa> . <aaa> <nowildcard> . "
+    );
 
+    final MultiNodeTermQuery wq = new NodeWildcardQuery(new Term(DEFAULT_TEST_FIELD, "nowildcard*"));
     wq.setRewriteMethod(MultiNodeTermQuery.CONSTANT_SCORE_FILTER_REWRITE);
     wq.setBoost(0.2F);
-    searcher.rewrite(wq);
+    final Query q = searcher.rewrite(wq);
+    assertTrue(q instanceof MultiNodeTermQueryConstantScoreWrapper);
+    assertEquals(wq.getBoost(), q.getBoost(), 0);
+    this.assertMatches(searcher, wq, 3);
+
+    final MultiNodeTermQuery expected = new NodeWildcardQuery(new Term(DEFAULT_TEST_FIELD, "nowildcard*"));
+    expected.setRewriteMethod(MultiNodeTermQuery.CONSTANT_SCORE_BOOLEAN_QUERY_REWRITE);
+    expected.setBoost(0.2F);
+    this.assertSameScores(expected, wq);
+
+    // with a node constraint, only the first value of a tuple
+    wq.setLevelConstraint(2);
+    wq.setNodeConstraint(0);
+    expected.setLevelConstraint(2);
+    expected.setNodeConstraint(0);
+    this.assertMatches(searcher, wq, 2);
+    this.assertSameScores(expected, wq);
+  }
+
+  private void assertSameScores(final NodeQuery expected, final NodeQuery actual)
+  throws IOException {
+    final ScoreDoc[] expectedDocs = searcher.search(dq(expected), null, 1000).scoreDocs;
+    final ScoreDoc[] actualDocs = searcher.search(dq(actual), null, 1000).scoreDocs;
+    assertEquals(expectedDocs.length, actualDocs.length);
+    for (int i = 0; i < expectedDocs.length; i++) {
+      assertEquals(expectedDocs[i].doc, actualDocs[i].doc);
+      assertEquals(expectedDocs[i].score, actualDocs[i].score, 0f);
+    }
   }
 
   /**
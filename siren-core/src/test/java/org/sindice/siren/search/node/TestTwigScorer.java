@@ -26,16 +26,21 @@ import static org.sindice.siren.search.AbstractTestSirenScorer.BooleanClauseBuil
 import static org.sindice.siren.search.AbstractTestSirenScorer.BooleanClauseBuilder.not;
 import static org.sindice.siren.search.AbstractTestSirenScorer.BooleanClauseBuilder.should;
 import static org.sindice.siren.search.AbstractTestSirenScorer.NodeBooleanQueryBuilder.nbq;
+import static org.sindice.siren.search.AbstractTestSirenScorer.NodeTermQueryBuilder.ntq;
 import static org.sindice.siren.search.AbstractTestSirenScorer.TwigChildBuilder.child;
 import static org.sindice.siren.search.AbstractTestSirenScorer.TwigDescendantBuilder.desc;
 import static org.sindice.siren.search.AbstractTestSirenScorer.TwigQueryBuilder.twq;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.Scorer.ChildScorer;
 import org.junit.Test;
+import org.sindice.siren.analysis.MockSirenDocument;
+import org.sindice.siren.analysis.MockSirenToken;
 import org.sindice.siren.index.DocsAndNodesIterator;
 import org.sindice.siren.index.codecs.RandomSirenCodec.PostingsFormatType;
 import org.sindice.siren.search.AbstractTestSirenScorer;
@@ -681,6 +686,227 @@ public class TestTwigScorer extends AbstractTestSirenScorer {
     assertEndOfStream(scorer);
   }
 
+  @Test
+  public void testTwigJoin() throws Exception {
+    this.addDocuments(
+      doc(token("aaa", node(1)), token("bbb", node(1,0)), token("ccc", node(1,0,0)),
+          token("ccc", node(1,0,1)), token("bbb", node(1,1)), token("ccc", node(1,1,0))),
+      doc(token("aaa", node(1)), token("bbb", node(1,0)), token("ccc", node(1,1,0))),
+      doc(token("aaa", node(1)), token("aaa", node(2)), token("bbb", node(2,3)),
+          token("ccc", node(2,3,4)))
+    );
+
+    final NodeScorer scorer = this.getScorer(
+      twq(1, must("aaa")).with(twq(2, must("bbb")).with(child(must("ccc"))))
+    );
+    assertTrue(scorer instanceof TwigJoinScorer);
+
+    // the ancestor is returned once, even if several of its descendants match
+    assertTrue(scorer.nextCandidateDocument());
+    assertEquals(0, scorer.doc());
+    assertEquals(node(-1), scorer.node());
+    assertTrue(scorer.nextNode());
+    assertEquals(node(1), scorer.node());
+    assertFalse(scorer.nextNode());
+    assertEquals(DocsAndNodesIterator.NO_MORE_NOD, scorer.node());
+
+    // the descendant is not below the child
+    assertTrue(scorer.nextCandidateDocument());
+    assertEquals(1, scorer.doc());
+    assertEquals(node(-1), scorer.node());
+    assertFalse(scorer.nextNode());
+    assertEquals(DocsAndNodesIterator.NO_MORE_NOD, scorer.node());
+
+    assertTrue(scorer.nextCandidateDocument());
+    assertEquals(2, scorer.doc());
+    assertTrue(scorer.nextNode());
+    assertEquals(node(2), scorer.node());
+    assertFalse(scorer.nextNode());
+
+    assertEndOfStream(scorer);
+  }
+
+  @Test
+  public void testTwigJoinBooleanClauses() throws Exception {
+    this.addDocuments(
+      doc(token("aaa", node(1)), token("bbb", node(1,0)), token("ccc", node(1,0,0)),
+          token("ddd", node(1,1)), token("eee", node(1,1,0)),
+          token("aaa", node(2)), token("bbb", node(2,0)), token("ccc", node(2,0,0)),
+          token("ddd", node(2,1)), token("eee", node(2,2,0)),
+          token("aaa", node(3)), token("bbb", node(3,0)), token("ccc", node(3,0,0)),
+          token("fff", node(3,1)), token("ggg", node(3,1,0)))
+    );
+
+    // the prohibited twig matches below the first node
+    NodeScorer scorer = this.getScorer(
+      twq(1, must("aaa")).with(twq(2, must("bbb")).with(child(must("ccc"))))
+                         .without(twq(2, must("ddd")).with(child(must("eee"))))
+    );
+    assertTrue(scorer instanceof TwigJoinScorer);
+
+    assertTrue(scorer.nextCandidateDocument());
+    assertEquals(0, scorer.doc());
+    assertTrue(scorer.nextNode());
+    assertEquals(node(2), scorer.node());
+    assertTrue(scorer.nextNode());
+    assertEquals(node(3), scorer.node());
+    assertFalse(scorer.nextNode());
+    assertEndOfStream(scorer);
+
+    // the optional twig matches below the last node
+    scorer = this.getScorer(
+      twq(1, must("aaa")).with(twq(2, must("bbb")).with(child(must("ccc"))))
+                         .optional(twq(2, must("fff")).with(child(must("ggg"))))
+    );
+
+    assertTrue(scorer.nextCandidateDocument());
+    assertTrue(scorer.nextNode());
+    assertEquals(node(1), scorer.node());
+    assertEquals(2, scorer.freqInNode(), 0);
+    final float s0 = scorer.scoreInNode();
+    assertTrue(scorer.nextNode());
+    assertEquals(node(2), scorer.node());
+    assertTrue(scorer.nextNode());
+    assertEquals(node(3), scorer.node());
+    assertEquals(3, scorer.freqInNode(), 0);
+    final float s1 = scorer.scoreInNode();
+    assertTrue(s1 + " > " + s0, s1 > s0);
+    assertFalse(scorer.nextNode());
+    assertEndOfStream(scorer);
+
+    // empty root
+    scorer = this.getScorer(
+      twq(1).with(twq(2, must("bbb")).with(child(must("ccc"))))
+            .with(child(must("ddd")))
+    );
+    assertTrue(scorer instanceof TwigJoinScorer);
+
+    assertTrue(scorer.nextCandidateDocument());
+    assertTrue(scorer.nextNode());
+    assertEquals(node(1), scorer.node());
+    assertTrue(scorer.nextNode());
+    assertEquals(node(2), scorer.node());
+    assertFalse(scorer.nextNode());
+    assertEndOfStream(scorer);
+  }
+
+  /**
+   * The {@link TwigJoinScorer} must match the same documents and nodes than
+   * the {@link TwigScorer}s of each level of random nested twigs.
+   */
+  @Test
+  public void testRandomTwigJoin() throws Exception {
+    final MockSirenDocument[] docs = new MockSirenDocument[50];
+    for (int i = 0; i < docs.length; i++) {
+      final MockSirenToken[] tokens = new MockSirenToken[1 + random().nextInt(30)];
+      for (int j = 0; j < tokens.length; j++) {
+        final int[] path = new int[1 + random().nextInt(4)];
+        for (int k = 0; k < path.length; k++) {
+          path[k] = random().nextInt(3);
+        }
+        tokens[j] = token(randomTerm(), node(path));
+      }
+      docs[i] = doc(tokens);
+    }
+    this.addDocuments(docs);
+
+    for (int i = 0; i < 100; i++) {
+      final TwigQuery query = (TwigQuery) randomTwig(1, 2, true).getNodeQuery();
+      // the scores are not compared, see TwigQuery
+      final List<String> expected = this.twigMatches(query, false);
+      final List<String> actual = this.twigMatches(query, true);
+      assertEquals(query.toString(), expected, actual);
+    }
+  }
+
+  private static String randomTerm() {
+    return new String[] { "aaa", "bbb", "ccc", "ddd" }[random().nextInt(4)];
+  }
+
+  /**
+   * Returns a random twig at the given level, with up to the given number of
+   * levels of nested twigs below it.
+   */
+  private static TwigQueryBuilder randomTwig(final int level, final int depth,
+                                             final boolean nested) {
+    final TwigQueryBuilder twig = random().nextInt(4) == 0
+      ? twq(level) : twq(level, must(randomTerm()));
+    final int nClauses = 1 + random().nextInt(3);
+    for (int i = 0; i < nClauses; i++) {
+      // the first clause of a nested twig is a twig
+      if (depth > 0 && (nested && i == 0 || random().nextBoolean())) {
+        final TwigQueryBuilder child = randomTwig(level + 1, depth - 1, false);
+        switch (random().nextInt(3)) {
+          case 0: twig.with(child); break;
+          case 1: twig.without(child); break;
+          default: twig.optional(child); break;
+        }
+      }
+      else {
+        switch (random().nextInt(3)) {
+          case 0: twig.with(child(must(randomTerm()))); break;
+          case 1: twig.without(child(must(randomTerm()))); break;
+          default: twig.optional(child(must(randomTerm()))); break;
+        }
+      }
+    }
+    return twig;
+  }
+
+  /**
+   * Returns the matching nodes of the twig, prefixed by their document, with
+   * or without the {@link TwigJoinScorer}.
+   */
+  private List<String> twigMatches(final TwigQuery query, final boolean join)
+  throws IOException {
+    query.setJoinNestedTwigs(join);
+    final List<String> matches = new ArrayList<String>();
+    final NodeScorer scorer = (NodeScorer) this.getScorer(query);
+    if (scorer == null) {
+      return matches;
+    }
+    while (scorer.nextCandidateDocument()) {
+      String last = null;
+      while (scorer.nextNode()) {
+        // an ancestor filter returns an ancestor once for each of its
+        // matching descendants
+        final String match = scorer.doc() + ":" + scorer.node();
+        if (!match.equals(last)) {
+          matches.add(match);
+        }
+        last = match;
+      }
+    }
+    return matches;
+  }
+
+  @Test
+  public void testTwigConjunctionCost() throws Exception {
+    this.addDocuments(
+      doc(token("aaa", node(1)), token("aaa", node(2)), token("aaa", node(3)),
+          token("ccc", node(1,0)), token("bbb", node(2,0)), token("ccc", node(2,1)),
+          token("ccc", node(3,0))),
+      doc(token("aaa", node(1)))
+    );
+
+    final NodeScorer root = this.getScorer(ntq("aaa").level(1));
+    final NodeScorer bbb = this.getScorer(ntq("bbb").level(2));
+    final NodeScorer ccc = this.getScorer(ntq("ccc").level(2));
+    assertEquals(2, root.cost());
+    assertEquals(1, bbb.cost());
+
+    // the descendants are checked by increasing cost
+    final NodeScorer scorer = new TwigConjunctionScorer(root.getWeight(), 1.0f, root, ccc, bbb);
+    assertEquals(1, scorer.cost());
+    assertTrue(scorer.nextCandidateDocument());
+    assertEquals(0, scorer.doc());
+    assertTrue(scorer.nextNode());
+    assertEquals(node(2), scorer.node());
+    assertFalse(scorer.nextNode());
+    assertEquals(DocsAndNodesIterator.NO_MORE_NOD, scorer.node());
+    assertEndOfStream(scorer);
+  }
+
   @Test
   public void testNodeConstraints() throws Exception {
     this.addDocuments(
@@ -64,6 +64,15 @@ public class TestNodeUtils {
     n1 = node(1, 1);
     n2 = node(1, 1, 0);
     assertTrue(NodeUtils.compareAncestor(n1, n2) == 0);
+
+    // node paths with an offset
+    n1 = new IntsRef(new int[] { 9, 1, 1 }, 1, 2);
+    n2 = new IntsRef(new int[] { 9, 9, 1, 1, 0 }, 2, 3);
+    assertTrue(NodeUtils.compareAncestor(n1, n2) == 0);
+
+    n1 = new IntsRef(new int[] { 0, 1, 0 }, 1, 2);
+    n2 = node(1, 1, 0);
+    assertTrue(NodeUtils.compareAncestor(n1, n2) < 0);
   }
 
   @Test